@@ -0,0 +1,80 @@
+package github.lms.lemuel.board.adapter.in.event;
+
+import github.lms.lemuel.board.application.port.in.GenerateThumbnailUseCase;
+import github.lms.lemuel.board.application.port.out.PublishThumbnailRequestedPort.ThumbnailRequested;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 축소본 작업 입구 (Inbound Adapter) — 작업 풀에 넣기만 하고 돌아간다.
+ *
+ * <p>입구는 둘이다.
+ * <ul>
+ *   <li><b>업로드 신호</b> — 커밋 직후 업로드 요청 스레드에서 불린다. 여기서 디코딩하면 비동기로 뺀
+ *       의미가 없으므로 풀에 넣고 끝낸다.</li>
+ *   <li><b>재시도 점검</b> — 대기열이 넘쳐 버려졌거나 작업 도중 인스턴스가 내려가 오래 "만드는 중"에
+ *       머문 첨부를 주기적으로 다시 넣는다.</li>
+ * </ul>
+ * 두 입구가 같은 첨부를 겹쳐 넣어도 괜찮다 — 확정은 먼저 끝난 쪽 하나만 된다(유스케이스 참조).
+ *
+ * <p>{@code fallbackExecution} — 트랜잭션 밖에서 발행된 신호(수동 조립 경로)도 버리지 않는다.
+ */
+@Slf4j
+@Component
+public class ThumbnailRequestedEventListener {
+
+    private final GenerateThumbnailUseCase useCase;
+    private final TaskExecutor executor;
+
+    public ThumbnailRequestedEventListener(GenerateThumbnailUseCase useCase,
+                                           @Qualifier("boardThumbnailExecutor") TaskExecutor executor) {
+        this.useCase = useCase;
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onThumbnailRequested(ThumbnailRequested request) {
+        submit(request.attachmentId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.attachment.thumbnail.resume-interval-ms:300000}",
+            initialDelayString = "${app.board.attachment.thumbnail.resume-interval-ms:300000}")
+    public void resumeStalled() {
+        int submitted = 0;
+        for (Long attachmentId : useCase.findStalledThumbnails()) {
+            if (!submit(attachmentId)) {
+                break;   // 풀이 찼다 — 나머지는 다음 점검에서
+            }
+            submitted++;
+        }
+        if (submitted > 0) {
+            log.info("멈춘 축소본 작업 재투입: {}건", submitted);
+        }
+    }
+
+    private boolean submit(Long attachmentId) {
+        try {
+            executor.execute(() -> run(attachmentId));
+            return true;
+        } catch (TaskRejectedException e) {
+            // 업로드는 이미 성공했다 — 첨부는 원본으로 서빙되다가 재시도 점검이 다시 넣는다.
+            log.warn("축소본 대기열 포화 — 재시도 점검으로 미룬다: attachmentId={}", attachmentId);
+            return false;
+        }
+    }
+
+    private void run(Long attachmentId) {
+        try {
+            useCase.generateThumbnail(attachmentId);
+        } catch (RuntimeException e) {
+            // 풀 스레드에서 새면 아무도 못 본다. 행은 "만드는 중"으로 남아 재시도 점검이 다시 넣는다.
+            log.warn("축소본 작업 실패 — 재시도 대기: attachmentId={}", attachmentId, e);
+        }
+    }
+}
@@ -15,6 +15,8 @@ import org.springframework.stereotype.Component;
  *
  * <p>실패해도 다음 회차가 있으므로 예외를 삼키지 않고 그대로 올린다. 스프링 스케줄러가 로그를
  * 남기고 다음 주기에 다시 돈다 — 여기서 조용히 먹으면 청소가 몇 달간 멈춰 있어도 아무도 모른다.
+ *
+ * <p>{@code cleanup} 은 저널만 보므로 가볍다. {@code reconcile} 은 저장소 전체를 훑으므로 드물게 돈다.
  */
 @Slf4j
 @Component
@@ -28,10 +30,19 @@ public class OrphanAttachmentCleanupScheduler {
     @Scheduled(cron = "${app.board.attachment.cleanup-cron:0 10 4 * * *}", zone = "Asia/Seoul")
     public void cleanup() {
         var result = cleanupOrphanAttachmentUseCase.cleanupOrphans();
-        if (result.deleted() > 0) {
-            log.info("고아 첨부 청소 완료: 훑음 {}건, 삭제 {}건", result.scanned(), result.deleted());
+        if (result.deleted() > 0 || result.failed() > 0) {
+            log.info("고아 첨부 청소 완료: 훑음 {}건, 삭제 {}건, 실패 {}건",
+                    result.scanned(), result.deleted(), result.failed());
         } else {
             log.debug("고아 첨부 청소 완료: 훑음 {}건, 삭제 없음", result.scanned());
         }
     }
+
+    /** 저장소 전체 대조 — 저널 이전 파일과 저널 기록 전에 죽은 업로드를 위한 안전망. */
+    @Scheduled(cron = "${app.board.attachment.reconcile-cron:0 40 4 * * SUN}", zone = "Asia/Seoul")
+    public void reconcile() {
+        var result = cleanupOrphanAttachmentUseCase.reconcileAll();
+        log.info("첨부 저장소 전체 대조 완료: 훑음 {}건, 삭제 {}건, 실패 {}건",
+                result.scanned(), result.deleted(), result.failed());
+    }
 }
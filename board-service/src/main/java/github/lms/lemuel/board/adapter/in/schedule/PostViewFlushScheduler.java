@@ -0,0 +1,31 @@
+package github.lms.lemuel.board.adapter.in.schedule;
+
+import github.lms.lemuel.board.application.port.in.FlushPostViewUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회수 반영 주기 — 진입 어댑터.
+ *
+ * <p>끌 수 있게 두지 않는다. 이게 멈추면 조회수가 메모리에만 쌓이다 재시작 때 종료 직전 한 번에
+ * 몰려 내려가고, 비정상 종료라면 통째로 사라진다. 실패는 삼키지 않는다 — 서비스가 값을 되돌려
+ * 쌓아 두었으므로 다음 주기가 다시 시도하고, 스프링 스케줄러가 로그를 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewFlushScheduler {
+
+    private final FlushPostViewUseCase flushPostViewUseCase;
+
+    @Scheduled(fixedDelayString = "${app.board.view-count.flush-interval-ms:5000}",
+            initialDelayString = "${app.board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        int flushed = flushPostViewUseCase.flushViews();
+        if (flushed > 0) {
+            log.debug("조회수 반영: 글 {}건", flushed);
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package github.lms.lemuel.board.adapter.in.web;
 
 import github.lms.lemuel.board.adapter.in.web.dto.BoardAttachmentResponse;
+import github.lms.lemuel.board.application.port.in.AttachmentContent;
 import github.lms.lemuel.board.application.port.in.BoardAttachmentUseCase;
 import github.lms.lemuel.board.domain.BoardAttachment;
 import github.lms.lemuel.board.domain.exception.BoardInvariantViolationException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -22,7 +25,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
@@ -38,6 +41,11 @@ import java.util.List;
  *   <li><b>X-Content-Type-Options: nosniff</b> — 브라우저가 우리 판정을 무시하고 내용으로
  *       타입을 추측하는 것을 막는다. 위 둘을 지켜도 이게 없으면 추측이 이긴다.</li>
  * </ul>
+ *
+ * <p>본문은 배열이 아니라 {@link Resource} 다. 스프링 MVC 가 저장 파일 스트림을 응답으로 흘려 쓰고,
+ * {@code Range} 헤더가 오면 알아서 206 과 해당 구간만 내보낸다({@code Accept-Ranges: bytes} 포함) —
+ * 큰 첨부의 이어받기·동영상 탐색이 원본 전체를 다시 받지 않는다. 업로드도 {@code getBytes()} 로 힙에
+ * 올리지 않고 멀티파트 임시 파일의 스트림을 그대로 넘긴다.
  */
 @Tag(name = "Board Attachment", description = "게시글 첨부 업로드·다운로드")
 @RestController
@@ -68,7 +76,7 @@ public class BoardAttachmentController {
             throw new BoardInvariantViolationException("첨부할 파일이 없습니다.");
         }
         BoardAttachment attachment = boardAttachmentUseCase.upload(
-                boardKey, postId, CurrentActor.resolve(), file.getOriginalFilename(), readBytes(file));
+                boardKey, postId, CurrentActor.resolve(), file.getOriginalFilename(), multipartContent(file));
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(BoardAttachmentResponse.from(attachment, boardKey));
@@ -76,7 +84,7 @@ public class BoardAttachmentController {
 
     @Operation(summary = "첨부 다운로드", description = "볼 수 없는 글의 첨부는 404.")
     @GetMapping("/attachments/{attachmentId}/download")
-    public ResponseEntity<byte[]> download(@PathVariable String boardKey, @PathVariable Long attachmentId) {
+    public ResponseEntity<Resource> download(@PathVariable String boardKey, @PathVariable Long attachmentId) {
         var download = boardAttachmentUseCase.download(boardKey, attachmentId, CurrentActor.resolve());
         BoardAttachment attachment = download.attachment();
 
@@ -91,12 +99,12 @@ public class BoardAttachmentController {
                 .contentType(MediaType.parseMediaType(attachment.getContentType()))
                 .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
                 .header("X-Content-Type-Options", "nosniff")
-                .body(download.content());
+                .body(new AttachmentResource(download.content()));
     }
 
     @Operation(summary = "첨부 축소본", description = "목록용. 축소본이 없으면 원본으로 떨어진다.")
     @GetMapping("/attachments/{attachmentId}/thumbnail")
-    public ResponseEntity<byte[]> thumbnail(@PathVariable String boardKey, @PathVariable Long attachmentId) {
+    public ResponseEntity<Resource> thumbnail(@PathVariable String boardKey, @PathVariable Long attachmentId) {
         var download = boardAttachmentUseCase.downloadThumbnail(boardKey, attachmentId, CurrentActor.resolve());
         BoardAttachment attachment = download.attachment();
 
@@ -110,9 +118,11 @@ public class BoardAttachmentController {
                 .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
                         .filename(attachment.getOriginalName(), StandardCharsets.UTF_8).build().toString())
                 .header("X-Content-Type-Options", "nosniff")
-                // 축소본은 내용이 바뀌지 않는다(첨부는 수정되지 않고 지웠다 다시 올린다).
-                .header(HttpHeaders.CACHE_CONTROL, "public, max-age=86400")
-                .body(download.content());
+                // 축소본은 내용이 바뀌지 않는다(첨부는 수정되지 않고 지웠다 다시 올린다). 단, 아직 만드는
+                // 중이라 원본으로 떨어진 응답은 캐시하게 두면 축소본이 생겨도 하루 동안 원본을 받는다.
+                .header(HttpHeaders.CACHE_CONTROL,
+                        attachment.isThumbnailPending() ? "no-cache" : "public, max-age=86400")
+                .body(new AttachmentResource(download.content()));
     }
 
     @Operation(summary = "첨부 삭제", description = "글을 고칠 수 있는 사람만 — 첨부는 글의 일부다.")
@@ -122,11 +132,52 @@ public class BoardAttachmentController {
         return ResponseEntity.noContent().build();
     }
 
-    private static byte[] readBytes(MultipartFile file) {
-        try {
-            return file.getBytes();
-        } catch (IOException e) {
-            throw new UncheckedIOException("업로드 파일을 읽지 못했습니다.", e);
+    /** 멀티파트 파일을 그대로 감싼다 — 큰 파일은 컨테이너가 이미 임시 파일로 받아 두었다. */
+    private static AttachmentContent multipartContent(MultipartFile file) {
+        return new AttachmentContent() {
+            @Override
+            public long size() {
+                return file.getSize();
+            }
+
+            @Override
+            public InputStream openStream() throws IOException {
+                return file.getInputStream();
+            }
+        };
+    }
+
+    /**
+     * 저장 파일을 응답 본문으로. 길이를 미리 알려 주고 스트림은 열 때마다 새로 연다 —
+     * Range 응답은 구간마다 다시 열어 건너뛰므로 한 번만 읽히는 {@code InputStreamResource} 로는 안 된다.
+     * 파일명은 돌려주지 않는다: 있으면 컨버터가 확장자로 Content-Type 을 다시 추측하려 든다.
+     */
+    private static final class AttachmentResource extends AbstractResource {
+
+        private final AttachmentContent content;
+
+        private AttachmentResource(AttachmentContent content) {
+            this.content = content;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return content.size();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return content.openStream();
+        }
+
+        @Override
+        public String getDescription() {
+            return "board attachment [" + content.size() + "B]";
         }
     }
 }
@@ -50,19 +50,21 @@ public class BoardPostController {
     private final BoardAttachmentUseCase boardAttachmentUseCase;
     private final BoardCommentUseCase boardCommentUseCase;
 
-    @Operation(summary = "게시글 목록", description = "고정 글이 먼저, 그다음 최신순. 본문은 싣지 않는다.")
+    @Operation(summary = "게시글 목록", description = "고정 글이 먼저, 그다음 최신순. 본문은 싣지 않는다. "
+            + "응답의 nextCursor 를 cursor 로 넘기면 page 대신 커서로 이어 읽는다(건수는 -1).")
     @GetMapping
     public ResponseEntity<BoardPageResponse<BoardPostResponse>> list(
             @PathVariable String boardKey,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String category,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor) {
 
         BoardActor actor = CurrentActor.resolve();
         boolean canManage = canManage(boardKey, actor);
         var result = queryPostUseCase.list(boardKey, actor,
-                new QueryPostUseCase.PostListQuery(page, size, category, keyword));
+                new QueryPostUseCase.PostListQuery(page, size, category, keyword, cursor));
 
         // 대표 이미지는 페이지 전체를 한 번에 가져온다 — 글마다 부르면 한 화면에 20번의 왕복이 된다.
         List<Long> postIds = result.content().stream().map(BoardPost::getId).toList();
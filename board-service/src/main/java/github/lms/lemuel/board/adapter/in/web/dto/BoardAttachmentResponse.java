@@ -10,6 +10,9 @@ import java.time.OffsetDateTime;
  *
  * <p>{@code storagePath} 는 내보내지 않는다 — 내부 저장 구조는 클라이언트가 알 필요가 없고,
  * 알게 되는 순간 그 경로를 직접 요청해 보려는 시도가 생긴다. 다운로드는 언제나 식별자 경유다.
+ *
+ * <p>{@code thumbnailPending} 이 true 면 축소본을 아직 만드는 중이다 — 그동안 축소본 URL 은 원본을
+ * 내려 주고, 화면은 잠시 뒤 다시 불러 축소본으로 바꿀 수 있다.
  */
 public record BoardAttachmentResponse(
         Long id,
@@ -20,6 +23,7 @@ public record BoardAttachmentResponse(
         long sizeBytes,
         int sortOrder,
         String downloadUrl,
+        boolean thumbnailPending,
         OffsetDateTime createdAt) {
 
     public static BoardAttachmentResponse from(BoardAttachment attachment, String boardKey) {
@@ -32,6 +36,7 @@ public record BoardAttachmentResponse(
                 attachment.getSizeBytes(),
                 attachment.getSortOrder(),
                 "/api/boards/" + boardKey + "/attachments/" + attachment.getId() + "/download",
+                attachment.isThumbnailPending(),
                 attachment.getCreatedAt());
     }
 }
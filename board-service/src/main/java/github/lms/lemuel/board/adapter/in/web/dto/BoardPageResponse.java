@@ -5,12 +5,17 @@ import github.lms.lemuel.board.application.port.in.BoardPage;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * 목록 응답. 쪽 번호로 읽으면 지금까지와 같고, {@code nextCursor} 를 다음 요청의 {@code cursor} 로 넘기면
+ * 깊은 쪽도 같은 비용으로 이어 읽는다 — 그때 {@code page}·{@code totalElements}·{@code totalPages} 는 -1(모름)이다.
+ */
 public record BoardPageResponse<T>(
         List<T> content,
         int page,
         int size,
         long totalElements,
-        int totalPages) {
+        int totalPages,
+        String nextCursor) {
 
     public static <S, T> BoardPageResponse<T> from(BoardPage<S> page, Function<S, T> mapper) {
         return new BoardPageResponse<>(
@@ -18,6 +23,7 @@ public record BoardPageResponse<T>(
                 page.page(),
                 page.size(),
                 page.totalElements(),
-                page.totalPages());
+                page.totalPages(),
+                page.nextCursor());
     }
 }
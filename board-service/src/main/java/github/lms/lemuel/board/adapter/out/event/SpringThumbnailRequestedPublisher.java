@@ -0,0 +1,26 @@
+package github.lms.lemuel.board.adapter.out.event;
+
+import github.lms.lemuel.board.application.port.out.PublishThumbnailRequestedPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 축소본 요청 신호를 스프링 애플리케이션 이벤트로 내보내는 어댑터.
+ *
+ * <p>받는 쪽({@code ThumbnailRequestedEventListener})은 커밋 후에만 반응한다 — 롤백된 업로드의
+ * 축소본을 만드는 일은 없다.
+ */
+@Component
+public class SpringThumbnailRequestedPublisher implements PublishThumbnailRequestedPort {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SpringThumbnailRequestedPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(ThumbnailRequested request) {
+        eventPublisher.publishEvent(request);
+    }
+}
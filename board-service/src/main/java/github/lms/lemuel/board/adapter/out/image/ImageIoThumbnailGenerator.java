@@ -1,5 +1,6 @@
 package github.lms.lemuel.board.adapter.out.image;
 
+import github.lms.lemuel.board.application.port.in.AttachmentContent;
 import github.lms.lemuel.board.application.port.out.GenerateThumbnailPort;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -7,11 +8,15 @@ import org.springframework.stereotype.Component;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
 import java.util.Optional;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 /**
  * JDK ImageIO 기반 축소본 생성기.
@@ -27,6 +32,11 @@ import javax.imageio.ImageIO;
  * 둘 다 비어 있는 값을 돌려주고 <b>예외를 밖으로 내보내지 않는다</b>. 썸네일은 부가 기능이라
  * 이것 때문에 첨부 업로드가 실패하면 안 된다.
  *
+ * <p><b>전체 해상도로 펼치지 않는다.</b> 헤더에서 크기만 먼저 읽고, 긴 변이 {@code maxEdge} 의 몇 배인지로
+ * {@link ImageReadParam#setSourceSubsampling} 간격을 정해 그만큼 건너뛰며 디코딩한다. 4000x3000 사진을
+ * 400px 로 줄일 때 펼쳐지는 픽셀이 1/100 이 된다(48MB → 0.5MB 남짓). 간격은 결과의 긴 변이 {@code maxEdge}
+ * 아래로 내려가지 않게 잡고, 남은 차이는 보간 축소로 맞춘다.
+ *
  * <p>출력은 항상 PNG 다. 원본 형식을 따라가면 JPEG 재인코딩 품질·투명도 손실을 신경 써야 하는데,
  * 목록 썸네일 크기에서 그 차이는 의미가 없고 PNG 는 어디서나 읽힌다.
  */
@@ -37,28 +47,55 @@ public class ImageIoThumbnailGenerator implements GenerateThumbnailPort {
     private static final String OUTPUT_FORMAT = "png";
 
     @Override
-    public Optional<Thumbnail> generate(byte[] source, String extension, int maxEdge) {
-        if (source == null || source.length == 0 || maxEdge <= 0) {
+    public Optional<Thumbnail> generate(AttachmentContent source, String extension, int maxEdge) {
+        if (source == null || source.size() == 0 || maxEdge <= 0) {
             return Optional.empty();
         }
-        try {
-            BufferedImage original = ImageIO.read(new ByteArrayInputStream(source));
-            if (original == null) {
+        try (InputStream in = source.openStream();
+             ImageInputStream images = ImageIO.createImageInputStream(in)) {
+            ImageReader reader = images == null ? null : firstReader(images);
+            if (reader == null) {
                 // 리더가 없는 형식(WEBP 등). 실패가 아니라 "이 형식은 축소본이 없다"는 사실이다.
                 log.debug("썸네일 리더 없음 — 원본으로 서빙한다: extension={}", extension);
                 return Optional.empty();
             }
-            if (original.getWidth() <= maxEdge && original.getHeight() <= maxEdge) {
-                // 이미 충분히 작다 — 늘려 봐야 용량만 늘고 화질은 나아지지 않는다.
-                return Optional.empty();
+            try {
+                reader.setInput(images, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= maxEdge && height <= maxEdge) {
+                    // 이미 충분히 작다 — 늘려 봐야 용량만 늘고 화질은 나아지지 않는다.
+                    return Optional.empty();
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = subsamplingStep(width, height, maxEdge);
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+                return Optional.of(new Thumbnail(encode(scale(decoded, maxEdge)), OUTPUT_FORMAT));
+            } finally {
+                reader.dispose();
             }
-            return Optional.of(new Thumbnail(encode(scale(original, maxEdge)), OUTPUT_FORMAT));
         } catch (IOException | RuntimeException e) {
             log.warn("썸네일 생성 실패 — 원본으로 서빙한다: extension={}", extension, e);
             return Optional.empty();
         }
     }
 
+    private static ImageReader firstReader(ImageInputStream images) {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(images);
+        return readers.hasNext() ? readers.next() : null;
+    }
+
+    /**
+     * 디코딩 간격 — 건너뛰고 읽은 결과의 긴 변이 {@code maxEdge} 이상으로 남는 가장 큰 정수.
+     *
+     * <p>간격 {@code n} 으로 읽으면 긴 변은 {@code ceil(longest / n)} 이 된다. {@code n = longest / maxEdge}
+     * (내림)이면 그 값이 언제나 {@code maxEdge} 이상이다 — 최종 크기는 보간 축소가 정확히 맞춘다.
+     */
+    static int subsamplingStep(int width, int height, int maxEdge) {
+        return Math.max(1, Math.max(width, height) / maxEdge);
+    }
+
     private static BufferedImage scale(BufferedImage original, int maxEdge) {
         int width = original.getWidth();
         int height = original.getHeight();
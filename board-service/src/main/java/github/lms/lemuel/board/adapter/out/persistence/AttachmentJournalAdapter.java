@@ -0,0 +1,66 @@
+package github.lms.lemuel.board.adapter.out.persistence;
+
+import github.lms.lemuel.board.application.port.out.AttachmentJournalPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 첨부 파일 저널 — 엔티티 없이 JDBC 로 적는다(행은 경로와 시각뿐이고 도메인 개념이 아니다).
+ *
+ * <p>{@link #record} 는 트랜잭션 밖에서만 불린다({@code NEVER}) — 한 문장이라 자동 커밋으로 곧바로 남는다.
+ * 예전처럼 업로드 트랜잭션 안에서 새 트랜잭션을 열면 요청 하나가 커넥션 두 개를 쥐고, 동시 업로드가 풀
+ * 크기에 닿으면 모두 바깥 커넥션을 쥔 채 안쪽 커넥션을 기다리며 멈춘다. 트랜잭션 안에서 부르면 곧바로
+ * 예외가 난다 — 조용히 합류해 롤백에 끌려가는 것보다 낫다.
+ *
+ * <p>"묶임" 판정은 두 {@code NOT EXISTS} 로 나눈다. {@code storage_path = x OR thumbnail_path = x} 한
+ * 조건으로 쓰면 두 인덱스를 함께 타지 못한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttachmentJournalAdapter implements AttachmentJournalPort {
+
+    private static final String BOUND =
+            "(EXISTS (SELECT 1 FROM board.board_attachments a WHERE a.storage_path = j.storage_path)"
+                    + " OR EXISTS (SELECT 1 FROM board.board_attachments a WHERE a.thumbnail_path = j.storage_path))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.NEVER)
+    public void record(String storagePath, OffsetDateTime recordedAt) {
+        jdbcTemplate.update("INSERT INTO board.board_attachment_journal (storage_path, recorded_at) VALUES (?, ?) "
+                + "ON CONFLICT (storage_path) DO UPDATE SET recorded_at = EXCLUDED.recorded_at",
+                storagePath, recordedAt);
+    }
+
+    @Override
+    public List<String> findUnboundBefore(OffsetDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList("SELECT j.storage_path FROM board.board_attachment_journal j "
+                        + "WHERE j.recorded_at < ? AND NOT " + BOUND + " ORDER BY j.recorded_at LIMIT ?",
+                String.class, cutoff, limit);
+    }
+
+    @Override
+    @Transactional
+    public int removeBoundBefore(OffsetDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM board.board_attachment_journal j WHERE j.recorded_at < ? AND "
+                + BOUND, cutoff);
+    }
+
+    @Override
+    @Transactional
+    public void remove(Collection<String> storagePaths) {
+        if (storagePaths.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM board.board_attachment_journal WHERE storage_path = ?",
+                storagePaths.stream().map(path -> new Object[]{path}).toList());
+    }
+}
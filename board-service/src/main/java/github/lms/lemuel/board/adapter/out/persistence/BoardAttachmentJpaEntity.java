@@ -45,6 +45,10 @@ public class BoardAttachmentJpaEntity {
     @Column(name = "thumbnail_path", length = 300)
     private String thumbnailPath;
 
+    /** 축소본을 백그라운드에서 만드는 중. 끝나면 경로가 채워지거나(NULL 이면 못 만든 것) false 가 된다. */
+    @Column(name = "thumbnail_pending", nullable = false)
+    private boolean thumbnailPending;
+
     /** 서버 판정값. 요청 헤더의 Content-Type 이 아니다. */
     @Column(name = "content_type", nullable = false, length = 100)
     private String contentType;
@@ -71,6 +75,7 @@ public class BoardAttachmentJpaEntity {
         entity.storedName = attachment.getStoredName();
         entity.storagePath = attachment.getStoragePath();
         entity.thumbnailPath = attachment.getThumbnailPath();
+        entity.thumbnailPending = attachment.isThumbnailPending();
         entity.contentType = attachment.getContentType();
         entity.sizeBytes = attachment.getSizeBytes();
         entity.sortOrder = attachment.getSortOrder();
@@ -80,7 +85,7 @@ public class BoardAttachmentJpaEntity {
 
     public BoardAttachment toDomain() {
         return BoardAttachment.rehydrate(id, postId, boardId, kind, originalName, storedName,
-                storagePath, thumbnailPath, contentType, sizeBytes, sortOrder, createdAt);
+                storagePath, thumbnailPath, thumbnailPending, contentType, sizeBytes, sortOrder, createdAt);
     }
 
     public Long getId() {
@@ -5,8 +5,11 @@ import github.lms.lemuel.board.application.port.out.SaveBoardAttachmentPort;
 import github.lms.lemuel.board.domain.BoardAttachment;
 import github.lms.lemuel.board.domain.BoardAttachmentKind;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.HashSet;
 import java.util.Map;
@@ -60,12 +63,24 @@ public class BoardAttachmentPersistenceAdapter implements LoadBoardAttachmentPor
         return referenced;
     }
 
+    @Override
+    public List<Long> findThumbnailPendingIds(OffsetDateTime createdBefore, int limit) {
+        return repository.findThumbnailPendingIds(createdBefore, Limit.of(limit));
+    }
+
     @Override
     public BoardAttachment save(BoardAttachment attachment) {
         // 첨부는 수정되지 않는다 — 바꾸려면 지우고 다시 올린다. 그래서 upsert 분기가 없다.
         return repository.save(BoardAttachmentJpaEntity.from(attachment)).toDomain();
     }
 
+    @Override
+    @Transactional
+    public boolean completeThumbnail(Long id, String thumbnailPath) {
+        // 축소본 작업은 트랜잭션 밖에서 돈다 — 확정 한 문장만 여기서 묶는다.
+        return repository.completeThumbnail(id, thumbnailPath) == 1;
+    }
+
     @Override
     public void delete(Long id) {
         repository.deleteById(id);
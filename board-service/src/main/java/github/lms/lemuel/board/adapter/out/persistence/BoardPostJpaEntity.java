@@ -56,7 +56,9 @@ public class BoardPostJpaEntity {
     @Column(name = "status", nullable = false, length = 10)
     private BoardPostStatus status;
 
-    @Column(name = "view_count", nullable = false)
+    // 조회수는 BoardPostViewCountAdapter 가 "현재 값 + 증가분" 으로만 쓴다. 엔티티 UPDATE 에 실리면
+    // 글을 읽은 뒤 그 사이 더해진 조회수를 수정 저장이 옛 값으로 덮어쓴다.
+    @Column(name = "view_count", nullable = false, updatable = false)
     private long viewCount;
 
     @Column(name = "created_at", nullable = false)
@@ -71,6 +73,7 @@ public class BoardPostJpaEntity {
     public static BoardPostJpaEntity from(BoardPost post) {
         BoardPostJpaEntity entity = new BoardPostJpaEntity();
         entity.id = post.getId();
+        entity.viewCount = post.getViewCount();
         entity.apply(post);
         return entity;
     }
@@ -86,7 +89,6 @@ public class BoardPostJpaEntity {
         this.pinned = post.isPinned();
         this.secret = post.isSecret();
         this.status = post.getStatus();
-        this.viewCount = post.getViewCount();
         this.createdAt = post.getCreatedAt();
         this.updatedAt = post.getUpdatedAt();
     }
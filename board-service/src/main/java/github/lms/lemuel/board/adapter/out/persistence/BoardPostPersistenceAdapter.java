@@ -1,20 +1,16 @@
 package github.lms.lemuel.board.adapter.out.persistence;
 
 import github.lms.lemuel.board.application.port.in.BoardPage;
+import github.lms.lemuel.board.application.port.in.PostCursor;
 import github.lms.lemuel.board.application.port.out.LoadBoardPostPort;
 import github.lms.lemuel.board.application.port.out.PostSearchCriteria;
 import github.lms.lemuel.board.application.port.out.SaveBoardPostPort;
 import github.lms.lemuel.board.domain.BoardPost;
-import github.lms.lemuel.board.domain.BoardPostStatus;
-import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +19,7 @@ import java.util.Optional;
 public class BoardPostPersistenceAdapter implements LoadBoardPostPort, SaveBoardPostPort {
 
     private final SpringDataBoardPostRepository repository;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<BoardPost> findById(Long id) {
@@ -34,53 +31,38 @@ public class BoardPostPersistenceAdapter implements LoadBoardPostPort, SaveBoard
 
     @Override
     public BoardPage<BoardPost> search(PostSearchCriteria criteria, int page, int size) {
-        // 고정 글이 먼저, 그다음 최신순. id 를 마지막 키로 두어 같은 초에 쓰인 글의 순서가 흔들리지 않게 한다.
-        Sort sort = Sort.by(Sort.Order.desc("pinned"), Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
-        Page<BoardPostJpaEntity> result =
-                repository.findAll(toSpecification(criteria), PageRequest.of(page, size, sort));
+        // 고정 글이 먼저, 그다음 최신순. id 를 마지막 키로 두어 같은 초에 쓰인 글의 순서가 흔들리지 않게 한다
+        // — 커서가 (pinned, created_at, id) 셋을 다 들고 다니는 것도 같은 이유다.
+        BoardPostSearchSql sql = BoardPostSearchSql.from(criteria);
+        boolean keyset = criteria.after() != null;
 
-        List<BoardPost> content = result.getContent().stream()
+        Query query = entityManager.createNativeQuery(sql.select(!keyset), BoardPostJpaEntity.class);
+        sql.parameters().forEach(query::setParameter);
+        query.setParameter("limit", size + 1);
+        if (!keyset) {
+            query.setParameter("offset", (long) page * size);
+        }
+        @SuppressWarnings("unchecked")
+        List<BoardPostJpaEntity> rows = query.getResultList();
+
+        boolean hasNext = rows.size() > size;
+        List<BoardPost> content = rows.stream()
+                .limit(size)
                 .map(BoardPostJpaEntity::toDomain)
                 .toList();
-        return BoardPage.of(content, page, size, result.getTotalElements());
+        String nextCursor = hasNext ? PostCursor.of(content.getLast()).encode() : null;
+        if (keyset) {
+            return BoardPage.slice(content, size, nextCursor);
+        }
+        // 첫 쪽에서 다음이 없으면 센 것이 곧 전체다 — 작은 게시판은 count 왕복을 아낀다.
+        long total = page == 0 && !hasNext ? content.size() : count(sql);
+        return BoardPage.of(content, page, size, total, nextCursor);
     }
 
-    /**
-     * 조건을 <b>붙이거나 안 붙인다</b> — null 파라미터를 바인딩하지 않으므로 PostgreSQL 타입 추론
-     * 실패({@code bytea} 비교 오류)가 구조적으로 생기지 않는다.
-     */
-    private static Specification<BoardPostJpaEntity> toSpecification(PostSearchCriteria criteria) {
-        return (root, query, builder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            predicates.add(builder.equal(root.get("boardId"), criteria.boardId()));
-
-            // 삭제 글은 누구에게도 나가지 않는다. 숨김 글은 운영 역할에게만.
-            if (criteria.includeHidden()) {
-                predicates.add(builder.notEqual(root.get("status"), BoardPostStatus.DELETED));
-            } else {
-                predicates.add(builder.equal(root.get("status"), BoardPostStatus.PUBLISHED));
-            }
-
-            if (criteria.categoryCode() != null) {
-                predicates.add(builder.equal(root.get("categoryCode"), criteria.categoryCode()));
-            }
-
-            if (criteria.keyword() != null) {
-                String pattern = "%" + criteria.keyword().toLowerCase() + "%";
-                predicates.add(builder.or(
-                        builder.like(builder.lower(root.get("title")), pattern),
-                        builder.like(builder.lower(root.get("content")), pattern)));
-            }
-
-            if (!criteria.includeAllSecret()) {
-                Predicate notSecret = builder.isFalse(root.get("secret"));
-                predicates.add(criteria.viewerId() == null
-                        ? notSecret
-                        : builder.or(notSecret, builder.equal(root.get("authorId"), criteria.viewerId())));
-            }
-
-            return builder.and(predicates.toArray(new Predicate[0]));
-        };
+    private long count(BoardPostSearchSql sql) {
+        Query query = entityManager.createNativeQuery(sql.count());
+        sql.parameters().forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
     }
 
     @Override
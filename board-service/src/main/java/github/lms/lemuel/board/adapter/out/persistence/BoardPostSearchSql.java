@@ -0,0 +1,132 @@
+package github.lms.lemuel.board.adapter.out.persistence;
+
+import github.lms.lemuel.board.application.port.in.PostCursor;
+import github.lms.lemuel.board.application.port.out.PostSearchCriteria;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 네이티브 SQL — 조건을 <b>붙이거나 안 붙인다</b>.
+ *
+ * <p>Criteria 에서 옮긴 이유는 검색이다. {@code lower(col) LIKE '%q%'} 는 어떤 B-tree 도 못 타서 게시판
+ * 전체를 훑는다. PostgreSQL 전문 검색({@code @@})과 pg_trgm 인덱스는 Criteria 로 표현할 수 없다.
+ * null 파라미터를 바인딩하지 않는 원칙은 그대로다 — 조건이 없으면 문장에서 빠지고 파라미터도 없다.
+ *
+ * <p>검색어는 두 길로 나뉜다({@link #keywordMatch}).
+ * <ul>
+ *   <li><b>전문 검색</b> — 모든 토큰이 세 글자 이상의 라틴 문자·숫자일 때. {@code search_vector}(GIN)에
+ *       토큰별 접두 일치({@code tok:*})를 AND 로 건다.</li>
+ *   <li><b>부분 일치(trigram)</b> — 한글 등 그 밖의 경우. PostgreSQL 에는 한국어 형태소 사전이 없어
+ *       {@code simple} 구성은 "공지사항을" 을 한 토큰으로 두므로 "공지" 로는 찾지 못한다. 그래서 제목+본문
+ *       소문자 문자열에 {@code LIKE '%q%'} 를 걸고 pg_trgm GIN 인덱스가 후보를 거른다. 세 글자 미만은
+ *       trigram 이 생기지 않아 인덱스가 못 거르지만 {@code board_id} 조건이 범위를 게시판 하나로 묶는다.</li>
+ * </ul>
+ */
+final class BoardPostSearchSql {
+
+    private static final String TABLE = "board.board_posts p";
+    /** 정렬 키 — 커서 비교({@code (pinned, created_at, id) < (...)})와 같은 방향이어야 한다. */
+    private static final String ORDER_BY = " ORDER BY p.pinned DESC, p.created_at DESC, p.id DESC";
+    /** V5 의 trigram 인덱스 식과 글자 하나까지 같아야 인덱스를 탄다. */
+    static final String SEARCH_TEXT = "lower(p.title || ' ' || p.content)";
+
+    private final String where;
+    private final Map<String, Object> parameters;
+
+    private BoardPostSearchSql(String where, Map<String, Object> parameters) {
+        this.where = where;
+        this.parameters = parameters;
+    }
+
+    static BoardPostSearchSql from(PostSearchCriteria criteria) {
+        StringBuilder where = new StringBuilder(" WHERE p.board_id = :boardId");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("boardId", criteria.boardId());
+
+        // 삭제 글은 누구에게도 나가지 않는다. 숨김 글은 운영 역할에게만.
+        where.append(criteria.includeHidden() ? " AND p.status <> 'DELETED'" : " AND p.status = 'PUBLISHED'");
+
+        if (criteria.categoryCode() != null) {
+            where.append(" AND p.category_code = :categoryCode");
+            parameters.put("categoryCode", criteria.categoryCode());
+        }
+
+        if (criteria.keyword() != null) {
+            switch (keywordMatch(criteria.keyword())) {
+                case KeywordMatch.FullText fullText -> {
+                    where.append(" AND p.search_vector @@ to_tsquery('simple', :tsQuery)");
+                    parameters.put("tsQuery", fullText.tsQuery());
+                }
+                case KeywordMatch.Substring substring -> {
+                    where.append(" AND ").append(SEARCH_TEXT).append(" LIKE :pattern ESCAPE '\\'");
+                    parameters.put("pattern", substring.likePattern());
+                }
+            }
+        }
+
+        if (!criteria.includeAllSecret()) {
+            if (criteria.viewerId() == null) {
+                where.append(" AND p.secret = FALSE");
+            } else {
+                where.append(" AND (p.secret = FALSE OR p.author_id = :viewerId)");
+                parameters.put("viewerId", criteria.viewerId());
+            }
+        }
+
+        PostCursor after = criteria.after();
+        if (after != null) {
+            // 세 키가 모두 DESC 라 행 비교 하나로 "이 글 다음" 이 된다 — 인덱스 범위 탐색으로 바로 들어간다.
+            where.append(" AND (p.pinned, p.created_at, p.id) < (:afterPinned, :afterCreatedAt, :afterId)");
+            parameters.put("afterPinned", after.pinned());
+            parameters.put("afterCreatedAt", after.createdAt());
+            parameters.put("afterId", after.id());
+        }
+        return new BoardPostSearchSql(where.toString(), parameters);
+    }
+
+    /** 쪽 조회. 다음 쪽이 있는지 알려고 한 건 더 읽는다({@code limit} 는 호출자가 size+1 로 준다). */
+    String select(boolean withOffset) {
+        return "SELECT p.* FROM " + TABLE + where + ORDER_BY + " LIMIT :limit" + (withOffset ? " OFFSET :offset" : "");
+    }
+
+    String count() {
+        return "SELECT count(*) FROM " + TABLE + where;
+    }
+
+    Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    sealed interface KeywordMatch {
+
+        record FullText(String tsQuery) implements KeywordMatch {
+        }
+
+        record Substring(String likePattern) implements KeywordMatch {
+        }
+    }
+
+    static KeywordMatch keywordMatch(String keyword) {
+        String normalized = keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        List<String> tokens = Arrays.stream(normalized.split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+        boolean fullTextable = !tokens.isEmpty()
+                && tokens.stream().allMatch(token -> token.length() >= 3 && token.matches("[a-z0-9]+"));
+        if (fullTextable) {
+            // 토큰은 영숫자뿐이라 tsquery 문법(& | ! : 괄호)이 끼어들 틈이 없다.
+            return new KeywordMatch.FullText(tokens.stream().map(token -> token + ":*")
+                    .collect(Collectors.joining(" & ")));
+        }
+        return new KeywordMatch.Substring("%" + escapeLike(normalized) + "%");
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
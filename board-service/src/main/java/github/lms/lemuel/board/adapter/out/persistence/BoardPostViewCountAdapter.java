@@ -0,0 +1,61 @@
+package github.lms.lemuel.board.adapter.out.persistence;
+
+import github.lms.lemuel.board.application.port.out.IncrementPostViewPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회수 일괄 가산 — {@code UPDATE ... FROM (VALUES ...)} 한 문장에 여러 글을 싣는다.
+ *
+ * <p>JPA 를 거치지 않는 이유: 엔티티로 하면 글마다 SELECT + UPDATE 가 나가고, 무엇보다 <b>읽은 값을
+ * 덮어쓴다</b>. 여기서는 {@code view_count = view_count + delta} 라 다른 인스턴스의 가산과 섞여도
+ * 잃는 몫이 없다. 스키마는 JPA 의 {@code default_schema} 를 타지 않으므로 직접 적는다.
+ *
+ * <p>글 식별자 순으로 정렬해 보낸다 — 두 인스턴스가 같은 글 묶음을 동시에 갱신해도 행 잠금을 같은
+ * 순서로 잡아 교착이 생기지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardPostViewCountAdapter implements IncrementPostViewPort {
+
+    /** 문장 하나에 싣는 글 수. 바인드 변수는 행당 2개 — PostgreSQL 상한(32767)보다 한참 아래로 둔다. */
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 문장이 여럿이어도 한 트랜잭션이다 — 앞 묶음만 반영된 채 실패하면 호출자가 전체를 다시 쌓아 두므로
+    // 그 몫이 두 번 더해진다. 종료 직전 flush 처럼 바깥 트랜잭션 없이 불려도 같아야 한다.
+    @Override
+    @Transactional
+    public void incrementViews(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> rows = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<Map.Entry<Long, Long>> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            List<Object> args = new ArrayList<>(chunk.size() * 2);
+            for (Map.Entry<Long, Long> row : chunk) {
+                args.add(row.getKey());
+                args.add(row.getValue());
+            }
+            jdbcTemplate.update(sql(chunk.size()), args.toArray());
+        }
+    }
+
+    static String sql(int rows) {
+        StringBuilder sql = new StringBuilder(96 + rows * 24)
+                .append("UPDATE board.board_posts p SET view_count = p.view_count + v.delta FROM (VALUES ");
+        for (int i = 0; i < rows; i++) {
+            // 첫 행만 캐스트해도 되지만, 타입 추론을 드라이버 버전에 맡기지 않으려 모두 적는다.
+            sql.append(i == 0 ? "" : ", ").append("(CAST(? AS BIGINT), CAST(? AS BIGINT))");
+        }
+        return sql.append(") AS v(id, delta) WHERE p.id = v.id").toString();
+    }
+}
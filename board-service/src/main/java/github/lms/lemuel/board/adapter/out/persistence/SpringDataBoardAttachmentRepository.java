@@ -1,9 +1,13 @@
 package github.lms.lemuel.board.adapter.out.persistence;
 
 import github.lms.lemuel.board.domain.BoardAttachmentKind;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -23,4 +27,14 @@ public interface SpringDataBoardAttachmentRepository extends JpaRepository<Board
 
     @Query("SELECT a.thumbnailPath FROM BoardAttachmentJpaEntity a WHERE a.thumbnailPath IS NOT NULL")
     List<String> findAllThumbnailPaths();
+
+    /** "만드는 중"일 때만 확정한다 — 늦게 끝난 두 번째 작업이 먼저 끝난 결과를 덮지 못하게. */
+    @Modifying
+    @Query("UPDATE BoardAttachmentJpaEntity a SET a.thumbnailPath = :thumbnailPath, a.thumbnailPending = false "
+            + "WHERE a.id = :id AND a.thumbnailPending = true")
+    int completeThumbnail(@Param("id") Long id, @Param("thumbnailPath") String thumbnailPath);
+
+    @Query("SELECT a.id FROM BoardAttachmentJpaEntity a "
+            + "WHERE a.thumbnailPending = true AND a.createdAt < :createdBefore ORDER BY a.createdAt, a.id")
+    List<Long> findThumbnailPendingIds(@Param("createdBefore") OffsetDateTime createdBefore, Limit limit);
 }
@@ -1,5 +1,6 @@
 package github.lms.lemuel.board.adapter.out.storage;
 
+import github.lms.lemuel.board.application.port.in.AttachmentContent;
 import github.lms.lemuel.board.application.port.out.StoreAttachmentPort;
 import github.lms.lemuel.board.config.AttachmentProperties;
 import github.lms.lemuel.board.domain.exception.BoardAttachmentNotFoundException;
@@ -8,10 +9,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -26,11 +33,21 @@ import java.util.stream.Stream;
  *
  * <p>그럼에도 저장·조회 직전에 루트 밖으로 나가지 않는지 다시 확인한다. 언젠가 누군가 경로에
  * 사용자 입력을 넣게 되면 그때 이 검사가 마지막 방어선이 된다.
+ *
+ * <p>바이트는 힙을 거치지 않는다. 저장은 입력 스트림을 채널로 감싸 {@code FileChannel.transferFrom} 으로
+ * 임시 파일({@value #PARTIAL_SUFFIX})에 흘려 쓰고, 다 쓰면 최종 이름으로 원자적으로 옮긴다 — 쓰다 만
+ * 파일이 다운로드에 보이지 않는다. 프로세스가 도중에 죽어 남은 임시 파일은 어떤 행도 참조하지 않으므로
+ * 고아 청소가 유예 기간 뒤에 가져간다. 읽기는 파일 채널 스트림을 돌려주고, 그 {@code skip} 은 위치
+ * 이동이라 Range 응답이 앞부분을 읽어 버리지 않는다.
  */
 @Slf4j
 @Component
 public class LocalFileSystemAttachmentStorageAdapter implements StoreAttachmentPort {
 
+    static final String PARTIAL_SUFFIX = ".part";
+    /** 한 번의 transferFrom 이 옮기는 상한. 소켓·멀티파트 스트림은 어차피 이보다 작게 끊어 준다. */
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
     private final Path baseDir;
 
     public LocalFileSystemAttachmentStorageAdapter(AttachmentProperties properties) {
@@ -38,41 +55,72 @@ public class LocalFileSystemAttachmentStorageAdapter implements StoreAttachmentP
     }
 
     @Override
-    public StoredAttachment store(Long boardId, Long postId, String extension, byte[] content) {
+    public StoredAttachment store(Long boardId, Long postId, String extension, AttachmentContent content) {
         String storedName = UUID.randomUUID() + "." + extension;
         Path relative = Paths.get("board-" + boardId, "post-" + postId, storedName);
         Path target = resolveWithinBase(relative.toString());
+        Path partial = target.resolveSibling(storedName + PARTIAL_SUFFIX);
 
         try {
             Files.createDirectories(target.getParent());
-            Files.write(target, content);
+            long written;
+            try (InputStream in = content.openStream();
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel sink = FileChannel.open(partial, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                written = transfer(source, sink, content.size());
+            }
+            if (written != content.size()) {
+                // 정책 검사(크기 한도)는 선언된 크기로 했다 — 실제와 다르면 검사가 무의미해진다.
+                throw new IOException("선언 크기 " + content.size() + "B 와 실제 내용이 다릅니다");
+            }
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
+            deleteQuietly(partial);
             throw new UncheckedIOException("첨부 저장에 실패했습니다: " + relative, e);
         }
         return new StoredAttachment(storedName, relative.toString().replace('\\', '/'));
     }
 
+    /**
+     * 선언 크기보다 1바이트를 더 읽어 본다 — 그래야 "선언보다 긴 내용"을 끝까지 쓰지 않고 알아챈다.
+     * 스트림 기반 채널의 transferFrom 은 끝에서만 0 을 돌려준다.
+     */
+    private static long transfer(ReadableByteChannel source, FileChannel sink, long declaredSize) throws IOException {
+        long limit = declaredSize + 1;
+        long position = 0;
+        while (position < limit) {
+            long moved = sink.transferFrom(source, position, Math.min(TRANSFER_CHUNK, limit - position));
+            if (moved <= 0) {
+                break;
+            }
+            position += moved;
+        }
+        return position;
+    }
+
     @Override
-    public byte[] read(String storagePath) {
+    public AttachmentContent read(String storagePath) {
         Path target = resolveWithinBase(storagePath);
         if (!Files.isRegularFile(target)) {
             // 행은 있는데 파일이 없다 — 볼륨 유실이거나 삭제 순서가 깨진 것이다. 500 보다 404 가 정직하다.
             throw new BoardAttachmentNotFoundException("첨부 파일이 없습니다: " + storagePath);
         }
         try {
-            return Files.readAllBytes(target);
+            return new StoredFileContent(target, Files.size(target));
         } catch (IOException e) {
             throw new UncheckedIOException("첨부 읽기에 실패했습니다: " + storagePath, e);
         }
     }
 
     @Override
-    public void delete(String storagePath) {
+    public boolean delete(String storagePath) {
         try {
             Files.deleteIfExists(resolveWithinBase(storagePath));
+            return true;
         } catch (IOException e) {
             // 삭제 실패로 호출자의 트랜잭션을 깨지 않는다 — 남은 파일은 청소 대상이지 사고가 아니다.
             log.warn("첨부 파일 삭제 실패(수동 정리 필요): {}", storagePath, e);
+            return false;
         }
     }
 
@@ -92,6 +140,14 @@ public class LocalFileSystemAttachmentStorageAdapter implements StoreAttachmentP
         }
     }
 
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("첨부 임시 파일 삭제 실패(고아 청소가 가져간다): {}", path, e);
+        }
+    }
+
     private static Instant lastModified(Path path) {
         try {
             return Files.getLastModifiedTime(path).toInstant();
@@ -109,4 +165,21 @@ public class LocalFileSystemAttachmentStorageAdapter implements StoreAttachmentP
         }
         return resolved;
     }
+
+    /**
+     * 저장 파일 하나. 열 때마다 새 채널 스트림이다 — {@code Files.newInputStream} 의 {@code skip} 은
+     * 채널 위치를 옮기므로 Range 요청의 뒷부분 구간도 앞을 읽지 않고 바로 들어간다.
+     */
+    private record StoredFileContent(Path path, long size) implements AttachmentContent {
+
+        @Override
+        public InputStream openStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public String toString() {
+            return "StoredFileContent[" + size + "B]";
+        }
+    }
 }
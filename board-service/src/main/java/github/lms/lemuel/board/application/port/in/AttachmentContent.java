@@ -0,0 +1,60 @@
+package github.lms.lemuel.board.application.port.in;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * 첨부 바이트 — 배열이 아니라 <b>크기와 다시 열 수 있는 스트림</b>이다.
+ *
+ * <p>업로드·다운로드가 {@code byte[]} 를 주고받을 때는 20MB 첨부 하나가 요청마다 힙에 통째로 올라왔다
+ * (업로드는 {@code getBytes()}, 다운로드는 {@code readAllBytes()}). 이제 업로드는 멀티파트 임시 파일에서,
+ * 다운로드는 저장 파일에서 곧바로 흘려보낸다.
+ *
+ * <p>{@link #openStream()} 은 부를 때마다 <b>처음부터 새로</b> 연다 — 판정이 앞부분을 읽고 저장이
+ * 다시 처음부터 읽으며, Range 응답은 구간마다 새로 열어 건너뛴다. 연 스트림은 호출자가 닫는다.
+ *
+ * <p>{@code MultipartFile} 도 {@code Path} 도 드러나지 않는다 — 그것들은 각 어댑터가 이 모양으로 감싼다.
+ */
+public interface AttachmentContent {
+
+    long size();
+
+    InputStream openStream() throws IOException;
+
+    /** 앞 {@code maxBytes} 바이트 — 형식 판정용. 전체가 그보다 짧으면 전체다. */
+    default byte[] head(int maxBytes) {
+        try (InputStream in = openStream()) {
+            return in.readNBytes(maxBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부 내용을 읽지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 메모리의 바이트 — 축소본처럼 애초에 작게 만들어진 것과 테스트용.
+     *
+     * <p>{@code toString} 은 바이트 대신 길이만 남긴다(비밀글의 첨부일 수 있다).
+     */
+    static AttachmentContent of(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+        return new AttachmentContent() {
+            @Override
+            public long size() {
+                return bytes.length;
+            }
+
+            @Override
+            public InputStream openStream() {
+                return new ByteArrayInputStream(bytes);
+            }
+
+            @Override
+            public String toString() {
+                return "AttachmentContent[" + bytes.length + "B]";
+            }
+        };
+    }
+}
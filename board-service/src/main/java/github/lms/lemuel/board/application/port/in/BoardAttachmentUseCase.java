@@ -24,7 +24,12 @@ public interface BoardAttachmentUseCase {
      */
     Map<Long, BoardAttachment> firstImageByPost(String boardKey, List<Long> postIds, BoardActor actor);
 
-    BoardAttachment upload(String boardKey, Long postId, BoardActor actor, String originalName, byte[] content);
+    /**
+     * 업로드 — 내용은 스트림으로 흘려 저장한다. 이미지의 축소본은 커밋 뒤 백그라운드에서 만들어지므로
+     * 돌려받은 첨부는 "축소본 만드는 중"일 수 있다.
+     */
+    BoardAttachment upload(String boardKey, Long postId, BoardActor actor, String originalName,
+                           AttachmentContent content);
 
     void delete(String boardKey, Long attachmentId, BoardActor actor);
 
@@ -40,31 +45,18 @@ public interface BoardAttachmentUseCase {
     AttachmentDownload downloadThumbnail(String boardKey, Long attachmentId, BoardActor actor);
 
     /**
-     * 내려받기 1건. {@code content} 가 배열이라 record 기본 구현은 <b>참조 동일성</b>으로 비교하고
-     * {@code toString()} 은 {@code [B@1a2b3c} 를 찍는다 — 둘 다 놀라운 동작이라 재정의한다.
-     * 특히 {@code toString()} 은 첨부 바이트를 로그로 흘릴 수 있어(비밀글의 첨부일 수 있다) 길이만 남긴다.
+     * 내려받기 1건. {@code content} 는 아직 읽지 않은 저장 파일이다 — 응답을 쓰는 쪽이 스트림으로 열고,
+     * Range 요청이면 구간만 건너뛰어 읽는다.
+     *
+     * <p>{@code toString()} 은 첨부 이름과 길이만 남긴다(비밀글의 첨부일 수 있다).
      */
-    record AttachmentDownload(BoardAttachment attachment, byte[] content) {
-
-        @Override
-        public boolean equals(Object o) {
-            if (!(o instanceof AttachmentDownload other)) {
-                return false;
-            }
-            return java.util.Objects.equals(attachment, other.attachment)
-                    && java.util.Arrays.equals(content, other.content);
-        }
-
-        @Override
-        public int hashCode() {
-            return 31 * java.util.Objects.hashCode(attachment) + java.util.Arrays.hashCode(content);
-        }
+    record AttachmentDownload(BoardAttachment attachment, AttachmentContent content) {
 
         @Override
         public String toString() {
             return "AttachmentDownload[attachment="
                     + (attachment == null ? "null" : attachment.getOriginalName())
-                    + ", content=" + (content == null ? "null" : content.length + "B") + "]";
+                    + ", content=" + (content == null ? "null" : content.size() + "B") + "]";
         }
     }
 }
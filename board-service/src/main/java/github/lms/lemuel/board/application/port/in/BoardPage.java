@@ -7,13 +7,30 @@ import java.util.List;
  *
  * <p>포트가 프레임워크 타입을 들면 영속 기술을 바꿀 때 응용 계층 인터페이스가 따라 바뀐다.
  * 필요한 것은 네 개(내용·현재 쪽·전체 건수·전체 쪽)뿐이다.
+ *
+ * <p>{@code nextCursor} 는 다음 쪽을 커서로 이어 읽을 때 넘기는 값이다(없으면 마지막 쪽). 커서로 읽은
+ * 쪽({@link #slice})은 전체 건수를 세지 않는다 — 수백만 건 게시판에서 count 가 쪽 조회보다 비싸지는
+ * 것을 피하려는 것이 커서의 목적이라, 그 자리에는 -1(모름)을 싣는다.
  */
-public record BoardPage<T>(List<T> content, int page, int size, long totalElements, int totalPages) {
+public record BoardPage<T>(List<T> content, int page, int size, long totalElements, int totalPages,
+                           String nextCursor) {
+
+    /** 건수를 모르는 자리에 싣는 값. */
+    public static final int UNKNOWN = -1;
 
     public static <T> BoardPage<T> of(List<T> content, int page, int size, long totalElements) {
+        return of(content, page, size, totalElements, null);
+    }
+
+    public static <T> BoardPage<T> of(List<T> content, int page, int size, long totalElements, String nextCursor) {
         // 올림 나눗셈을 정수로 한다 — 부동소수 캐스팅은 큰 건수에서 경계가 흔들리고,
         // 이 저장소의 실시간 가드가 double 사용을 금액 오용으로 읽는다.
         int totalPages = size <= 0 ? 0 : (int) ((totalElements + size - 1) / size);
-        return new BoardPage<>(content, page, size, totalElements, totalPages);
+        return new BoardPage<>(content, page, size, totalElements, totalPages, nextCursor);
+    }
+
+    /** 커서로 이어 읽은 쪽 — 쪽 번호·전체 건수는 {@link #UNKNOWN}. */
+    public static <T> BoardPage<T> slice(List<T> content, int size, String nextCursor) {
+        return new BoardPage<>(content, UNKNOWN, size, UNKNOWN, UNKNOWN, nextCursor);
     }
 }
@@ -6,16 +6,27 @@ package github.lms.lemuel.board.application.port.in;
  * <p>고아는 정상 운영에서도 생긴다: 삭제 시 파일 삭제만 실패하거나(경고 로그만 남긴다), DB 기록
  * 실패 후 보상 삭제까지 실패하거나, 볼륨을 옮기다 어긋나거나. 하나하나는 드물지만 <b>아무도 치우지
  * 않으면 단조 증가</b>한다.
+ *
+ * <p>두 갈래다. 평소에는 저널에 적힌 파일만 본다({@link #cleanupOrphans}). 저장소 전체를 훑는
+ * 대조({@link #reconcileAll})는 저널이 놓친 것을 위한 안전망이라 드물게 돈다.
  */
 public interface CleanupOrphanAttachmentUseCase {
 
     /**
-     * 한 바퀴 돌고 결과를 돌려준다.
+     * 유예 기간이 지난 저널 기록을 정리하고, 어떤 행도 참조하지 않는 파일을 지운다.
      *
-     * @return 훑은 파일 수와 지운 파일 수
+     * @return 본 저널 기록 수, 지운 파일 수, 지우지 못해 기록을 남긴 파일 수
      */
     CleanupResult cleanupOrphans();
 
-    record CleanupResult(int scanned, int deleted) {
+    /**
+     * 저장소 전체를 DB 와 대조한다 — 비용이 저장된 파일 총량을 따른다.
+     *
+     * @return 훑은 파일 수, 지운 파일 수, 지우지 못한 파일 수
+     */
+    CleanupResult reconcileAll();
+
+    /** {@code failed} 는 지우려 했으나 저장소가 거절한 파일 수 — 다음 회차에 다시 시도한다. */
+    record CleanupResult(int scanned, int deleted, int failed) {
     }
 }
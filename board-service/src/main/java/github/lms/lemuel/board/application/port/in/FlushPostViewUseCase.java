@@ -0,0 +1,17 @@
+package github.lms.lemuel.board.application.port.in;
+
+/**
+ * 메모리에 모아 둔 조회수를 DB 로 내려보낸다.
+ *
+ * <p>상세 조회는 조회수를 바로 쓰지 않는다 — 인기 공지 하나가 같은 행을 초당 수백 번 갱신하는
+ * 핫 로우가 되고, 읽기마다 엔티티 전체를 다시 쓰게 된다. 대신 모아서 주기적으로 한 문장으로 더한다.
+ */
+public interface FlushPostViewUseCase {
+
+    /**
+     * 한 바퀴 내려보낸다.
+     *
+     * @return 조회수가 더해진 글 수
+     */
+    int flushViews();
+}
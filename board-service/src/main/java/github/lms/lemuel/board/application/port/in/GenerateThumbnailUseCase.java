@@ -0,0 +1,18 @@
+package github.lms.lemuel.board.application.port.in;
+
+import java.util.List;
+
+/**
+ * 첨부 축소본 생성 — 업로드 요청 밖에서 돈다.
+ *
+ * <p>업로드는 행을 "만드는 중"으로 남기고 끝난다. 이 유스케이스가 원본을 읽어 축소본을 저장하고
+ * 행을 확정한다. 같은 첨부로 두 번 불려도 결과는 하나다 — 먼저 확정한 쪽이 이기고, 진 쪽은 자기
+ * 축소본을 지운다.
+ */
+public interface GenerateThumbnailUseCase {
+
+    void generateThumbnail(Long attachmentId);
+
+    /** 신호를 잃어 오래 "만드는 중"에 머문 첨부 — 다시 돌릴 대상. */
+    List<Long> findStalledThumbnails();
+}
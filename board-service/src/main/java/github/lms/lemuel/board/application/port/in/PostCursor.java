@@ -0,0 +1,54 @@
+package github.lms.lemuel.board.application.port.in;
+
+import github.lms.lemuel.board.domain.BoardPost;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 목록 커서 — 직전 쪽의 마지막 글이 정렬 키({@code pinned, createdAt, id}) 위에서 어디였는지.
+ *
+ * <p>OFFSET 은 건너뛸 행을 전부 읽고 버리므로 깊은 쪽일수록 선형으로 느려진다. 커서는 "이 글 다음부터"
+ * 를 인덱스에서 바로 찾아 들어가므로 몇 번째 쪽이든 비용이 같다. 바깥에는 불투명한 문자열로만 내보낸다 —
+ * 구성을 드러내면 클라이언트가 직접 조립하기 시작하고, 그 순간 정렬 키를 바꿀 수 없게 된다.
+ */
+public record PostCursor(boolean pinned, OffsetDateTime createdAt, long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static PostCursor of(BoardPost post) {
+        return new PostCursor(post.isPinned(), post.getCreatedAt(), post.getId());
+    }
+
+    public String encode() {
+        String raw = (pinned ? "1" : "0") + "|" + createdAt.toInstant() + "|" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 비어 있으면 null(첫 쪽)
+     * @throws IllegalArgumentException 이 서비스가 만든 커서가 아니면 — 400 으로 답한다
+     */
+    public static PostCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(DECODER.decode(token.trim()), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !(parts[0].equals("0") || parts[0].equals("1"))) {
+                throw new IllegalArgumentException("잘못된 목록 커서입니다.");
+            }
+            return new PostCursor(parts[0].equals("1"),
+                    OffsetDateTime.ofInstant(Instant.parse(parts[1]), ZoneOffset.UTC),
+                    Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException 도 IllegalArgumentException 이다. 원인 메시지는 싣지 않는다.
+            throw new IllegalArgumentException("잘못된 목록 커서입니다.");
+        }
+    }
+}
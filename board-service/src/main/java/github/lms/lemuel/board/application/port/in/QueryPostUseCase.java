@@ -15,14 +15,26 @@ public interface QueryPostUseCase {
      */
     BoardPost read(String boardKey, Long postId, BoardActor actor);
 
-    record PostListQuery(int page, int size, String categoryCode, String keyword) {
+    /**
+     * @param cursor 직전 응답의 {@code nextCursor}. 있으면 {@code page} 는 무시하고 그 뒤부터 읽는다
+     */
+    record PostListQuery(int page, int size, String categoryCode, String keyword, String cursor) {
 
         private static final int MAX_SIZE = 100;
+        private static final int MAX_KEYWORD_LENGTH = 100;
 
         public PostListQuery {
             page = Math.max(page, 0);
             // 상한이 없으면 size=1000000 한 방으로 게시판 전체를 덤프할 수 있다.
             size = size <= 0 ? 20 : Math.min(size, MAX_SIZE);
+            // 검색어도 상한을 둔다 — 본문 한 편을 통째로 붙여 넣으면 부분 일치 검색이 그만큼 비싸진다.
+            if (keyword != null && keyword.length() > MAX_KEYWORD_LENGTH) {
+                keyword = keyword.substring(0, MAX_KEYWORD_LENGTH);
+            }
+        }
+
+        public PostListQuery(int page, int size, String categoryCode, String keyword) {
+            this(page, size, categoryCode, keyword, null);
         }
     }
 }
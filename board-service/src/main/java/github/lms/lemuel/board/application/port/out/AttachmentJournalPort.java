@@ -0,0 +1,35 @@
+package github.lms.lemuel.board.application.port.out;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 첨부 파일 저널 — "행이 이 파일을 참조하는지 나중에 확인해야 한다"는 기록.
+ *
+ * <p>고아 청소가 저장소 전체를 훑지 않게 하려고 둔다. 파일이 생기거나(업로드·축소본) 지워질 예정인
+ * 순간(첨부 삭제)에 경로를 적어 두면, 고아가 될 수 있는 파일은 <b>전부 저널에 있다</b>. 청소는 유예
+ * 기간이 지난 저널만 보고, 그 비용은 저장된 파일 총량이 아니라 그동안 오간 파일 수를 따른다.
+ *
+ * <p>"묶였다(bound)"는 첨부 행이 그 경로를 원본이나 축소본으로 참조한다는 뜻이다. 묶임을 따로 표시하지
+ * 않고 청소 시점에 행과 대조한다 — 업로드 트랜잭션과 저널을 한 트랜잭션으로 엮을 필요가 없다.
+ */
+public interface AttachmentJournalPort {
+
+    /**
+     * 경로를 적는다. 곧바로 커밋된다 — 업로드가 실패해도 파일은 남을 수 있으므로 기록도 남아야 한다.
+     * 이미 있으면 시각만 갱신한다.
+     *
+     * <p><b>트랜잭션 밖에서 불러야 한다.</b> 열린 트랜잭션 안에서 부르면 예외다 — 그 안에서 따로 커밋하려면
+     * 커넥션을 하나 더 잡아야 하고, 동시 요청이 풀을 다 쥐면 서로를 기다리며 멈춘다.
+     */
+    void record(String storagePath, OffsetDateTime recordedAt);
+
+    /** {@code recordedAt} 이 {@code cutoff} 이전이고 어떤 행도 참조하지 않는 경로 — 오래된 것부터. */
+    List<String> findUnboundBefore(OffsetDateTime cutoff, int limit);
+
+    /** {@code cutoff} 이전 기록 중 행이 참조하는 것(정상 업로드)을 지운다. 지운 수를 돌려준다. */
+    int removeBoundBefore(OffsetDateTime cutoff);
+
+    void remove(Collection<String> storagePaths);
+}
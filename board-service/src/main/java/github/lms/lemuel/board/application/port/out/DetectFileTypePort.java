@@ -7,9 +7,15 @@ import github.lms.lemuel.board.domain.DetectedFileType;
  *
  * <p>매직바이트 표는 <b>바깥 세상의 지식</b>이고 형식이 늘어나면 바뀐다 — 그래서 도메인이 아니라
  * 포트다. 도메인이 아는 것은 "판정 결과가 선언과 같은가"까지다.
+ *
+ * <p>판정은 <b>앞부분만</b> 본다. 호출자는 파일 전체가 아니라 앞 {@value #HEAD_BYTES} 바이트를 넘기고,
+ * 구현은 그 안에서 결정해야 한다 — 매직바이트는 수십 바이트, 텍스트 판별도 앞 8KB 면 충분하다.
  */
 public interface DetectFileTypePort {
 
+    /** 판정에 넘기는 앞부분의 상한. 이보다 짧은 파일은 전체가 넘어온다. */
+    int HEAD_BYTES = 16 * 1024;
+
     /** 인식하지 못하면 {@link DetectedFileType#unknown()}. 예외를 던지지 않는다 — 모름도 결과다. */
     DetectedFileType detect(byte[] content);
 }
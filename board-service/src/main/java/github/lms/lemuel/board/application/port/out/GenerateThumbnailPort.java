@@ -1,5 +1,7 @@
 package github.lms.lemuel.board.application.port.out;
 
+import github.lms.lemuel.board.application.port.in.AttachmentContent;
+
 import java.util.Optional;
 
 /**
@@ -8,6 +10,9 @@ import java.util.Optional;
  * <p><b>실패가 정상 경로다.</b> 반환이 {@code Optional} 인 것은 실수가 아니다 — JDK 의 ImageIO 는
  * WEBP 을 읽지 못하고, 손상된 이미지도 들어온다. 그때 업로드 전체를 실패시키면 <b>썸네일이라는
  * 부가 기능이 본 기능(첨부)을 죽이는</b> 셈이 된다. 축소본이 없으면 원본을 내려 줄 뿐이다.
+ *
+ * <p>백그라운드 작업이 부른다 — 업로드 요청 스레드에서 부르지 않는다. 원본은 스트림으로 받으므로
+ * 구현은 전체 해상도를 힙에 펼치지 않고 줄여 읽을 수 있다.
  */
 public interface GenerateThumbnailPort {
 
@@ -16,7 +21,7 @@ public interface GenerateThumbnailPort {
      *
      * @param extension 서버가 판정한 확장자(요청이 주장한 값이 아니다)
      */
-    Optional<Thumbnail> generate(byte[] source, String extension, int maxEdge);
+    Optional<Thumbnail> generate(AttachmentContent source, String extension, int maxEdge);
 
     /**
      * 축소본 1건. {@code content} 가 배열이라 record 기본 구현은 <b>참조 동일성</b>으로 비교하고
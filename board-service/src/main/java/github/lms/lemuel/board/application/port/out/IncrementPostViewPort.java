@@ -0,0 +1,17 @@
+package github.lms.lemuel.board.application.port.out;
+
+import java.util.Map;
+
+/**
+ * 모아 둔 조회수를 한 번에 더한다.
+ *
+ * <p>엔티티를 읽어 고쳐 쓰지 않고 <b>현재 값에 더하는</b> 연산이어야 한다 — 여러 인스턴스가 같은
+ * 글의 조회수를 각자 모아 내려보내므로, 덮어쓰면 먼저 쓴 인스턴스의 몫이 사라진다.
+ */
+public interface IncrementPostViewPort {
+
+    /**
+     * @param deltas 글 식별자 → 더할 조회수(양수). 없는 글은 조용히 건너뛴다(그 사이 삭제된 글)
+     */
+    void incrementViews(Map<Long, Long> deltas);
+}
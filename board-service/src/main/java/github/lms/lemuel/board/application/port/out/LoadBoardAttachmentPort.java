@@ -2,6 +2,7 @@ package github.lms.lemuel.board.application.port.out;
 
 import github.lms.lemuel.board.domain.BoardAttachment;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,4 +31,12 @@ public interface LoadBoardAttachmentPort {
      * 지우게 되므로 두 컬럼을 <b>함께</b> 모은다.
      */
     Set<String> findAllReferencedPaths();
+
+    /**
+     * {@code createdBefore} 이전에 올라왔는데 아직 축소본을 만드는 중인 첨부 — 오래된 것부터 {@code limit} 건.
+     *
+     * <p>작업 대기열이 넘쳐 버려졌거나 인스턴스가 작업 도중 내려간 경우다. 이대로 두면 원본이 계속
+     * 목록에 나간다(틀리지는 않지만 축소본을 둔 이유가 사라진다).
+     */
+    List<Long> findThumbnailPendingIds(OffsetDateTime createdBefore, int limit);
 }
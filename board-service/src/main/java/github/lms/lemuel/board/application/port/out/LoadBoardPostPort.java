@@ -9,6 +9,11 @@ public interface LoadBoardPostPort {
 
     Optional<BoardPost> findById(Long id);
 
-    /** 고정 글이 먼저, 그다음 최신순. 이 정렬은 화면 규약이라 어댑터가 바꾸지 않는다. */
+    /**
+     * 고정 글이 먼저, 그다음 최신순. 이 정렬은 화면 규약이라 어댑터가 바꾸지 않는다.
+     *
+     * <p>{@link PostSearchCriteria#after()} 가 있으면 {@code page} 를 무시하고 커서 뒤부터 읽으며 건수를
+     * 세지 않는다({@link BoardPage#slice}). 어느 쪽이든 다음 쪽이 있으면 {@code nextCursor} 를 싣는다.
+     */
     BoardPage<BoardPost> search(PostSearchCriteria criteria, int page, int size);
 }
@@ -1,5 +1,7 @@
 package github.lms.lemuel.board.application.port.out;
 
+import github.lms.lemuel.board.application.port.in.PostCursor;
+
 /**
  * 게시글 목록 조회 조건.
  *
@@ -11,6 +13,7 @@ package github.lms.lemuel.board.application.port.out;
  * @param includeHidden    숨김 글까지 볼 수 있는가(운영 역할)
  * @param includeAllSecret 남의 비밀글까지 볼 수 있는가(운영 역할)
  * @param viewerId         비밀글 소유 판정에 쓰는 주체 식별자. 미인증이면 null
+ * @param after            이 커서 다음부터 읽는다(keyset). null 이면 쪽 번호로 읽는다
  */
 public record PostSearchCriteria(
         Long boardId,
@@ -18,5 +21,6 @@ public record PostSearchCriteria(
         String keyword,
         boolean includeHidden,
         boolean includeAllSecret,
-        Long viewerId) {
+        Long viewerId,
+        PostCursor after) {
 }
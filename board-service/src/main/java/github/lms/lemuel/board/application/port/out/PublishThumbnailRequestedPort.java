@@ -0,0 +1,15 @@
+package github.lms.lemuel.board.application.port.out;
+
+/**
+ * "이 첨부의 축소본을 만들어 달라" 신호.
+ *
+ * <p>받는 쪽은 <b>커밋 후에</b> 백그라운드에서 만든다 — 롤백된 업로드의 축소본을 만들 일이 없고,
+ * 업로드 응답 시간이 이미지 크기에 끌려가지 않는다.
+ */
+public interface PublishThumbnailRequestedPort {
+
+    void publish(ThumbnailRequested request);
+
+    record ThumbnailRequested(Long attachmentId) {
+    }
+}
@@ -6,5 +6,13 @@ public interface SaveBoardAttachmentPort {
 
     BoardAttachment save(BoardAttachment attachment);
 
+    /**
+     * 축소본 작업을 끝낸다 — 경로를 채우고(못 만들었으면 {@code null}) "만드는 중"을 내린다.
+     *
+     * @return 아직 만드는 중이던 행을 바꿨으면 true. 그사이 지워졌거나 다른 작업이 먼저 끝냈으면 false —
+     *         그때 방금 저장한 축소본은 아무도 참조하지 않으므로 호출자가 지운다
+     */
+    boolean completeThumbnail(Long id, String thumbnailPath);
+
     void delete(Long id);
 }
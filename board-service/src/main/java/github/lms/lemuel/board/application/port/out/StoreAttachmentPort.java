@@ -1,5 +1,7 @@
 package github.lms.lemuel.board.application.port.out;
 
+import github.lms.lemuel.board.application.port.in.AttachmentContent;
+
 import java.time.Instant;
 import java.util.List;
 
@@ -16,13 +18,28 @@ public interface StoreAttachmentPort {
 
     /**
      * 저장하고 위치를 돌려준다. <b>파일명은 서버가 만든다</b> — 업로더가 준 이름은 쓰지 않는다.
+     *
+     * <p>내용은 스트림으로 흘려 쓴다. 다 쓰기 전에는 최종 경로에 나타나지 않는다 — 쓰다 만 파일을
+     * 다운로드가 읽는 일이 없어야 한다. 읽은 길이가 {@code content.size()} 와 다르면 실패다
+     * (정책 검사는 선언된 크기로 했다).
      */
-    StoredAttachment store(Long boardId, Long postId, String extension, byte[] content);
+    StoredAttachment store(Long boardId, Long postId, String extension, AttachmentContent content);
 
-    byte[] read(String storagePath);
+    /**
+     * 저장된 내용. 여기서는 존재와 크기만 확인하고, 바이트는 호출자가 스트림을 열 때 읽는다.
+     * 스트림은 구간 건너뛰기({@code skip})를 위치 이동으로 처리해야 한다 — Range 응답이 그 위에 선다.
+     */
+    AttachmentContent read(String storagePath);
 
-    /** 이미 없으면 성공으로 간주한다(멱등). */
-    void delete(String storagePath);
+    /**
+     * 지운다. 이미 없으면 성공으로 간주한다(멱등).
+     *
+     * <p>실패는 던지지 않고 {@code false} 로 알린다 — 첨부 삭제처럼 실패를 넘겨도 되는 호출자는 무시하고,
+     * 고아 청소처럼 "지워졌다"는 사실 위에 다음 일을 하는 호출자만 본다.
+     *
+     * @return 파일이 이제 없으면 {@code true}, 지우지 못해 남아 있으면 {@code false}
+     */
+    boolean delete(String storagePath);
 
     /**
      * 저장소에 실제로 있는 파일 전부 — 고아 청소가 DB 와 대조하려면 저장소 쪽 사실이 필요하다.
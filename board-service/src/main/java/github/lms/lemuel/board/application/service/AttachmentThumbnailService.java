@@ -0,0 +1,98 @@
+package github.lms.lemuel.board.application.service;
+
+import github.lms.lemuel.board.application.port.in.AttachmentContent;
+import github.lms.lemuel.board.application.port.in.GenerateThumbnailUseCase;
+import github.lms.lemuel.board.application.port.out.AttachmentJournalPort;
+import github.lms.lemuel.board.application.port.out.GenerateThumbnailPort;
+import github.lms.lemuel.board.application.port.out.LoadBoardAttachmentPort;
+import github.lms.lemuel.board.application.port.out.SaveBoardAttachmentPort;
+import github.lms.lemuel.board.application.port.out.StoreAttachmentPort;
+import github.lms.lemuel.board.config.ThumbnailProperties;
+import github.lms.lemuel.board.domain.BoardAttachment;
+import github.lms.lemuel.board.domain.exception.BoardAttachmentNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 첨부 축소본 생성 — 업로드가 남긴 "만드는 중" 행을 확정한다.
+ *
+ * <p>트랜잭션을 잡지 않는다. 원본 디코딩은 수백 ms 가 걸릴 수 있고, 그동안 커넥션을 쥐고 있을 이유가
+ * 없다. 확정은 조건부 UPDATE 한 문장이라 그 자체로 원자적이다.
+ *
+ * <p><b>축소본 파일을 먼저 쓰고 행을 나중에 확정한다.</b> 반대 순서면 행이 아직 없는 파일을 가리킨다.
+ * 확정에 지면(그사이 첨부가 지워졌거나 다른 작업이 먼저 끝냈다) 방금 쓴 파일을 지운다 — 지우기 전에
+ * 죽어도 저널에 적어 두었으므로 고아 청소가 유예 기간 뒤에 가져간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentThumbnailService implements GenerateThumbnailUseCase {
+
+    /** 목록 썸네일의 긴 변. 그리드 한 칸이 커야 400px 남짓이라 그 위로는 화면에서 차이가 없다. */
+    static final int THUMBNAIL_MAX_EDGE = 400;
+    /** 한 번에 다시 돌리는 상한 — 밀린 것이 많아도 점검 한 번이 대기열을 통째로 채우지 않게. */
+    private static final int RESUME_BATCH = 50;
+
+    private final LoadBoardAttachmentPort loadBoardAttachmentPort;
+    private final SaveBoardAttachmentPort saveBoardAttachmentPort;
+    private final StoreAttachmentPort storeAttachmentPort;
+    private final AttachmentJournalPort attachmentJournalPort;
+    private final GenerateThumbnailPort generateThumbnailPort;
+    private final ThumbnailProperties properties;
+    private final Clock clock;
+
+    @Override
+    public void generateThumbnail(Long attachmentId) {
+        BoardAttachment attachment = loadBoardAttachmentPort.findById(attachmentId).orElse(null);
+        if (attachment == null || !attachment.isThumbnailPending()) {
+            // 지워졌거나 이미 끝났다 — 재시도와 신호가 겹친 경우다.
+            return;
+        }
+        AttachmentContent original;
+        try {
+            original = storeAttachmentPort.read(attachment.getStoragePath());
+        } catch (BoardAttachmentNotFoundException e) {
+            // 원본이 없으면 몇 번을 다시 돌려도 같다 — "축소본 없음"으로 확정해 재시도를 끊는다.
+            log.warn("축소본 원본 파일 없음 — 축소본 없이 확정: attachmentId={}", attachmentId);
+            saveBoardAttachmentPort.completeThumbnail(attachmentId, null);
+            return;
+        }
+
+        String thumbnailPath = generateThumbnailPort
+                .generate(original, attachment.storedExtension(), THUMBNAIL_MAX_EDGE)
+                .map(thumbnail -> storeAttachmentPort.store(attachment.getBoardId(), attachment.getPostId(),
+                        thumbnail.extension(), AttachmentContent.of(thumbnail.content())).storagePath())
+                .orElse(null);
+        if (thumbnailPath != null) {
+            attachmentJournalPort.record(thumbnailPath, OffsetDateTime.now(clock));
+        }
+
+        boolean completed;
+        try {
+            completed = saveBoardAttachmentPort.completeThumbnail(attachmentId, thumbnailPath);
+        } catch (RuntimeException e) {
+            deleteQuietly(thumbnailPath);
+            throw e;
+        }
+        if (!completed) {
+            deleteQuietly(thumbnailPath);
+        }
+    }
+
+    @Override
+    public List<Long> findStalledThumbnails() {
+        OffsetDateTime createdBefore = OffsetDateTime.now(clock).minus(properties.resumeAfter());
+        return loadBoardAttachmentPort.findThumbnailPendingIds(createdBefore, RESUME_BATCH);
+    }
+
+    private void deleteQuietly(String thumbnailPath) {
+        if (thumbnailPath != null) {
+            storeAttachmentPort.delete(thumbnailPath);
+        }
+    }
+}
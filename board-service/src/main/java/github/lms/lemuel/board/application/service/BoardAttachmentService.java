@@ -1,17 +1,19 @@
 package github.lms.lemuel.board.application.service;
 
+import github.lms.lemuel.board.application.port.in.AttachmentContent;
 import github.lms.lemuel.board.application.port.in.BoardAttachmentUseCase;
+import github.lms.lemuel.board.application.port.out.AttachmentJournalPort;
 import github.lms.lemuel.board.application.port.out.DetectFileTypePort;
-import github.lms.lemuel.board.application.port.out.GenerateThumbnailPort;
 import github.lms.lemuel.board.application.port.out.LoadBoardAttachmentPort;
 import github.lms.lemuel.board.application.port.out.LoadBoardDefinitionPort;
 import github.lms.lemuel.board.application.port.out.LoadBoardPostPort;
+import github.lms.lemuel.board.application.port.out.PublishThumbnailRequestedPort;
+import github.lms.lemuel.board.application.port.out.PublishThumbnailRequestedPort.ThumbnailRequested;
 import github.lms.lemuel.board.application.port.out.SaveBoardAttachmentPort;
 import github.lms.lemuel.board.application.port.out.StoreAttachmentPort;
 import github.lms.lemuel.board.domain.AttachmentUpload;
 import github.lms.lemuel.board.domain.BoardActor;
 import github.lms.lemuel.board.domain.BoardAttachment;
-import github.lms.lemuel.board.domain.BoardAttachmentKind;
 import github.lms.lemuel.board.domain.BoardDefinition;
 import github.lms.lemuel.board.domain.BoardPost;
 import github.lms.lemuel.board.domain.exception.BoardAttachmentNotFoundException;
@@ -20,6 +22,7 @@ import github.lms.lemuel.board.domain.exception.BoardPostNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
@@ -37,6 +40,15 @@ import java.util.stream.Collectors;
  *
  * <p>DB 기록이 실패하면 <b>방금 쓴 파일을 되돌린다</b>. 파일시스템은 트랜잭션에 참여하지 않으므로
  * 롤백이 자동으로 오지 않는다 — 이 보상 삭제가 없으면 실패할 때마다 고아 파일이 생긴다.
+ *
+ * <p>업로드와 삭제는 서비스 트랜잭션을 열지 않는다. 쓰기는 행 하나(저장소 어댑터가 저마다 커밋)와 저널
+ * 기록뿐이고, 저널은 호출자 트랜잭션 밖에서 따로 커밋돼야 한다 — 바깥 트랜잭션이 커넥션을 쥔 채 저널이
+ * 커넥션을 하나 더 기다리면, 동시 업로드가 풀 크기에 닿는 순간 모두가 서로를 기다린다. 파일을 흘려 쓰는
+ * 동안에도 커넥션을 쥐지 않는다.
+ *
+ * <p>업로드 요청은 <b>바이트를 한 번 흘려 쓰는 일</b>만 한다. 형식 판정은 앞부분만 읽고, 이미지 축소본은
+ * 커밋 뒤 {@code AttachmentThumbnailService} 가 백그라운드에서 만든다 — 업로드 응답 시간이 이미지
+ * 해상도에 끌려가지 않는다.
  */
 @Slf4j
 @Service
@@ -44,16 +56,14 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BoardAttachmentService implements BoardAttachmentUseCase {
 
-    /** 목록 썸네일의 긴 변. 그리드 한 칸이 커야 400px 남짓이라 그 위로는 화면에서 차이가 없다. */
-    private static final int THUMBNAIL_MAX_EDGE = 400;
-
     private final LoadBoardDefinitionPort loadBoardDefinitionPort;
     private final LoadBoardPostPort loadBoardPostPort;
     private final LoadBoardAttachmentPort loadBoardAttachmentPort;
     private final SaveBoardAttachmentPort saveBoardAttachmentPort;
     private final StoreAttachmentPort storeAttachmentPort;
+    private final AttachmentJournalPort attachmentJournalPort;
     private final DetectFileTypePort detectFileTypePort;
-    private final GenerateThumbnailPort generateThumbnailPort;
+    private final PublishThumbnailRequestedPort publishThumbnailRequestedPort;
     private final Clock clock;
 
     @Override
@@ -77,15 +87,16 @@ public class BoardAttachmentService implements BoardAttachmentUseCase {
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BoardAttachment upload(String boardKey, Long postId, BoardActor actor,
-                                  String originalName, byte[] content) {
+                                  String originalName, AttachmentContent content) {
         BoardDefinition definition = readableBoard(boardKey, actor);
         BoardPost post = visiblePost(definition, postId, actor);
 
         // ① 서버가 바이트를 보고 실제 형식을 정한다 — 요청이 주장한 Content-Type 은 쓰지 않는다.
-        AttachmentUpload upload = new AttachmentUpload(originalName, content.length,
-                detectFileTypePort.detect(content));
+        //    판정에는 앞부분만 읽는다. 나머지는 저장이 한 번 흘려 쓸 때 처음 읽힌다.
+        AttachmentUpload upload = new AttachmentUpload(originalName, content.size(),
+                detectFileTypePort.detect(content.head(DetectFileTypePort.HEAD_BYTES)));
         int existing = loadBoardAttachmentPort.countByPostId(post.getId());
 
         // ② 권한·정책·형식을 전부 통과해야 디스크에 닿는다.
@@ -93,53 +104,46 @@ public class BoardAttachmentService implements BoardAttachmentUseCase {
 
         StoreAttachmentPort.StoredAttachment stored = storeAttachmentPort.store(
                 definition.getId(), post.getId(), upload.detectedType().extension(), content);
-        String thumbnailPath = storeThumbnail(definition, post, upload, content);
+        BoardAttachment saved;
         try {
-            return saveBoardAttachmentPort.save(BoardAttachment.of(
-                    post, upload, stored.storedName(), stored.storagePath(), thumbnailPath, existing, now()));
+            // 저널을 먼저 커밋한다 — 아래 행 기록이 실패하고 보상 삭제까지 실패해도 파일은 청소 대상으로 남는다.
+            attachmentJournalPort.record(stored.storagePath(), now());
+            saved = saveBoardAttachmentPort.save(BoardAttachment.of(
+                    post, upload, stored.storedName(), stored.storagePath(), existing, now()));
         } catch (RuntimeException e) {
-            // 파일시스템은 트랜잭션 밖이다 — 손으로 되돌린다(축소본까지).
+            // 파일시스템은 트랜잭션 밖이다 — 손으로 되돌린다. 커밋 실패도 여기로 온다.
             storeAttachmentPort.delete(stored.storagePath());
-            if (thumbnailPath != null) {
-                storeAttachmentPort.delete(thumbnailPath);
-            }
             throw e;
         }
+        if (saved.isThumbnailPending()) {
+            // 행은 이미 커밋됐다 — 실패한 업로드의 축소본은 요청되지 않는다.
+            publishThumbnailRequestedPort.publish(new ThumbnailRequested(saved.getId()));
+        }
+        return saved;
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void delete(String boardKey, Long attachmentId, BoardActor actor) {
         BoardDefinition definition = readableBoard(boardKey, actor);
         BoardAttachment attachment = attachmentOf(definition, attachmentId);
         BoardPost post = visiblePost(definition, attachment.getPostId(), actor);
 
         attachment.assertRemovable(actor, definition, post);
-        saveBoardAttachmentPort.delete(attachment.getId());
+        // 파일 삭제는 실패해도 경고만 남기므로, 지우기 전에 저널에 적어 청소가 다시 보게 한다.
+        // 행 삭제가 실패해도 그 기록은 "묶인 기록"이라 청소가 그냥 치운다.
+        attachmentJournalPort.record(attachment.getStoragePath(), now());
+        if (attachment.hasThumbnail()) {
+            attachmentJournalPort.record(attachment.getThumbnailPath(), now());
+        }
         // 행을 먼저 지운다 — 파일이 남는 것보다 참조가 남는 편이 나쁘다(404 대신 500).
+        saveBoardAttachmentPort.delete(attachment.getId());
         storeAttachmentPort.delete(attachment.getStoragePath());
         if (attachment.hasThumbnail()) {
             storeAttachmentPort.delete(attachment.getThumbnailPath());
         }
     }
 
-    /**
-     * 이미지면 축소본을 만들어 함께 저장한다. 만들지 못하면 {@code null} — 실패가 정상 경로다.
-     *
-     * <p>썸네일은 부가 기능이라 여기서 예외가 나 업로드 전체가 실패하면 안 된다. 그 판단은
-     * {@code GenerateThumbnailPort} 구현이 {@code Optional} 로 표현한다.
-     */
-    private String storeThumbnail(BoardDefinition definition, BoardPost post,
-                                  AttachmentUpload upload, byte[] content) {
-        if (upload.kind() != BoardAttachmentKind.IMAGE) {
-            return null;
-        }
-        return generateThumbnailPort.generate(content, upload.detectedType().extension(), THUMBNAIL_MAX_EDGE)
-                .map(thumbnail -> storeAttachmentPort.store(definition.getId(), post.getId(),
-                        thumbnail.extension(), thumbnail.content()).storagePath())
-                .orElse(null);
-    }
-
     @Override
     public AttachmentDownload download(String boardKey, Long attachmentId, BoardActor actor) {
         BoardDefinition definition = readableBoard(boardKey, actor);
@@ -2,6 +2,7 @@ package github.lms.lemuel.board.application.service;
 
 import github.lms.lemuel.board.application.port.in.BoardPage;
 import github.lms.lemuel.board.application.port.in.ManagePostUseCase;
+import github.lms.lemuel.board.application.port.in.PostCursor;
 import github.lms.lemuel.board.application.port.in.QueryPostUseCase;
 import github.lms.lemuel.board.application.port.out.LoadBoardDefinitionPort;
 import github.lms.lemuel.board.application.port.out.LoadBoardPostPort;
@@ -40,6 +41,7 @@ public class BoardPostService implements ManagePostUseCase, QueryPostUseCase {
     private final LoadBoardPostPort loadBoardPostPort;
     private final SaveBoardPostPort saveBoardPostPort;
     private final BoardContentSanitizer contentSanitizer;
+    private final PostViewCounter postViewCounter;
     private final Clock clock;
 
     @Override
@@ -109,12 +111,19 @@ public class BoardPostService implements ManagePostUseCase, QueryPostUseCase {
                 blankToNull(query.keyword()),
                 canManage,
                 canManage,
-                actor.userId());
+                actor.userId(),
+                PostCursor.decode(query.cursor()));
         return loadBoardPostPort.search(criteria, query.page(), query.size());
     }
 
+    /**
+     * 상세 조회 — 읽기 전용 트랜잭션이다. 조회수는 {@link PostViewCounter} 에 세기만 하고 주기적으로
+     * 모아서 더한다(글 행을 조회마다 다시 쓰면 인기 글이 핫 로우가 된다).
+     *
+     * <p>이번 조회가 세어졌으면 응답의 조회수에도 1 을 더해 돌려준다 — 아직 DB 에 반영되기 전이라도
+     * 방금 연 사람에게는 자기 조회가 보여야 한다.
+     */
     @Override
-    @Transactional
     public BoardPost read(String boardKey, Long postId, BoardActor actor) {
         BoardDefinition definition = readableBoard(boardKey, actor);
         BoardPost post = postOf(definition, postId);
@@ -122,8 +131,10 @@ public class BoardPostService implements ManagePostUseCase, QueryPostUseCase {
             // 볼 수 없다 = 없다. 403 으로 가르면 식별자를 훑어 비밀글의 존재를 알 수 있다.
             throw BoardPostNotFoundException.byId(postId);
         }
-        post.increaseView();
-        return saveBoardPostPort.save(post);
+        if (postViewCounter.record(post.getId(), actor)) {
+            post.increaseView();
+        }
+        return post;
     }
 
     /**
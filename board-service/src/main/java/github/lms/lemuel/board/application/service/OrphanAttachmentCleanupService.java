@@ -1,6 +1,7 @@
 package github.lms.lemuel.board.application.service;
 
 import github.lms.lemuel.board.application.port.in.CleanupOrphanAttachmentUseCase;
+import github.lms.lemuel.board.application.port.out.AttachmentJournalPort;
 import github.lms.lemuel.board.application.port.out.LoadBoardAttachmentPort;
 import github.lms.lemuel.board.application.port.out.StoreAttachmentPort;
 import github.lms.lemuel.board.config.AttachmentProperties;
@@ -12,6 +13,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -27,29 +31,80 @@ import java.util.Set;
  *
  * <p>다중 인스턴스 잠금(ShedLock)을 두지 않는다. 삭제가 멱등이고(이미 없으면 성공), 두 인스턴스가
  * 같은 고아를 지워도 결과가 같기 때문이다 — 잠금 테이블을 들이는 값이 이득보다 크다.
+ *
+ * <p><b>평소 청소는 저널만 본다.</b> 고아가 될 수 있는 파일은 생길 때(업로드·축소본)와 지워질 예정일 때
+ * (첨부 삭제) 저널에 적히므로, 저장소를 훑지 않고 유예가 지난 기록만 행과 대조하면 된다. 비용은
+ * 그동안 오간 파일 수를 따른다. 저장소 전체 대조는 저널 이전 파일과 "파일은 썼는데 기록 전에 죽은"
+ * 경우를 위한 안전망으로 남긴다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrphanAttachmentCleanupService implements CleanupOrphanAttachmentUseCase {
 
+    /** 저널을 한 번에 읽는 상한 — 밀린 것이 많아도 한 질의가 커지지 않게 나눠 돈다. */
+    static final int JOURNAL_BATCH = 500;
+
     private final LoadBoardAttachmentPort loadBoardAttachmentPort;
     private final StoreAttachmentPort storeAttachmentPort;
+    private final AttachmentJournalPort attachmentJournalPort;
     private final AttachmentProperties properties;
     private final Clock clock;
 
     @Override
-    @Transactional(readOnly = true)
     public CleanupResult cleanupOrphans() {
+        // 유예 경계는 전체 대조와 같다 — 기록 시각이 파일 최종 수정 시각 자리를 대신한다.
+        OffsetDateTime cutoff = OffsetDateTime.now(clock).minusHours(properties.cleanupGraceHours());
+        int scanned = attachmentJournalPort.removeBoundBefore(cutoff);
+
+        int deleted = 0;
+        // 지우지 못한 파일은 기록을 남겨 다음 회차에 다시 본다. 같은 회차의 다음 묶음에 또 잡히므로
+        // 경로로 모아 한 번만 센다.
+        Set<String> failed = new HashSet<>();
+        List<String> unbound;
+        int removed;
+        do {
+            unbound = attachmentJournalPort.findUnboundBefore(cutoff, JOURNAL_BATCH);
+            List<String> gone = new ArrayList<>(unbound.size());
+            for (String storagePath : unbound) {
+                if (failed.contains(storagePath)) {
+                    continue;
+                }
+                // 이미 없는 파일이면 삭제가 그대로 성공한다(멱등) — 지워진 첨부의 기록도 여기서 끝난다.
+                log.info("고아 첨부 삭제(저널): {}", storagePath);
+                if (storeAttachmentPort.delete(storagePath)) {
+                    gone.add(storagePath);
+                } else {
+                    failed.add(storagePath);
+                }
+            }
+            // 기록은 파일이 실제로 없어진 뒤에만 지운다. 지우지 못한 파일의 기록까지 치우면 그 파일은
+            // 저널에서 빠져 주간 전체 대조까지 남는다.
+            attachmentJournalPort.remove(gone);
+            removed = gone.size();
+            scanned += removed;
+            deleted += removed;
+            // 묶음이 꽉 찼어도 하나도 못 지웠다면 남은 것은 실패한 기록뿐이다 — 이번 회차는 여기서 멈춘다.
+        } while (unbound.size() == JOURNAL_BATCH && removed > 0);
+        if (!failed.isEmpty()) {
+            log.warn("고아 첨부 삭제 실패 {}건 — 저널에 남겨 다음 회차에 다시 시도한다", failed.size());
+        }
+        return new CleanupResult(scanned + failed.size(), deleted, failed.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CleanupResult reconcileAll() {
         List<StoreAttachmentPort.StoredFile> files = storeAttachmentPort.listAll();
         if (files.isEmpty()) {
-            return new CleanupResult(0, 0);
+            return new CleanupResult(0, 0, 0);
         }
         // 참조 목록을 먼저 읽는다. 순서가 반대면 그 사이에 올라온 파일이 "참조 없음"으로 보인다.
         Set<String> referenced = loadBoardAttachmentPort.findAllReferencedPaths();
         Instant cutoff = Instant.now(clock).minus(Duration.ofHours(properties.cleanupGraceHours()));
 
         int deleted = 0;
+        int failed = 0;
         for (StoreAttachmentPort.StoredFile file : files) {
             if (referenced.contains(file.storagePath())) {
                 continue;
@@ -60,9 +115,12 @@ public class OrphanAttachmentCleanupService implements CleanupOrphanAttachmentUs
                 continue;
             }
             log.info("고아 첨부 삭제: {} (최종 수정 {})", file.storagePath(), file.lastModified());
-            storeAttachmentPort.delete(file.storagePath());
-            deleted++;
+            if (storeAttachmentPort.delete(file.storagePath())) {
+                deleted++;
+            } else {
+                failed++;
+            }
         }
-        return new CleanupResult(files.size(), deleted);
+        return new CleanupResult(files.size(), deleted, failed);
     }
 }
@@ -0,0 +1,160 @@
+package github.lms.lemuel.board.application.service;
+
+import github.lms.lemuel.board.application.port.in.FlushPostViewUseCase;
+import github.lms.lemuel.board.application.port.out.IncrementPostViewPort;
+import github.lms.lemuel.board.config.ViewCountProperties;
+import github.lms.lemuel.board.domain.BoardActor;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 쓰기 지연(write-behind) — 상세 조회는 여기에 세기만 하고, DB 에는 주기적으로 모아서 더한다.
+ *
+ * <p>글마다 {@link LongAdder} 를 둔다. 인기 공지처럼 한 글에 조회가 몰려도 스레드마다 다른 셀을
+ * 올리므로 CAS 경합이 한 변수에 모이지 않는다.
+ *
+ * <p><b>내려보낼 때 증가분을 잃지 않는 것</b>이 이 클래스의 핵심이다.
+ * <ul>
+ *   <li>값은 {@link LongAdder#sumThenReset()} 으로 거둔다 — 셀 단위 원자 교환이라 거두는 도중에 들어온
+ *       증가는 이번 아니면 다음 바퀴에 잡힌다.</li>
+ *   <li>한 바퀴 내내 조용했던 글의 adder 만 맵에서 뗀다. 떼는 순간 그 adder 를 막 집어 든 요청이 있을
+ *       수 있으므로, 뗀 adder 는 한 바퀴 더 들고 있다가 늦게 온 증가분까지 거둔다.</li>
+ *   <li>그 한 바퀴보다 더 늦게 올린 요청은 올린 뒤 맵에 아직 자기 adder 가 있는지 본다. 떨어져 나갔으면
+ *       남은 값을 {@link LongAdder#sumThenReset()} 으로 거둬 지금 맵의 adder 로 옮긴다 — 마지막 수거와
+ *       셀 단위로 나눠 가지므로 두 번 세지도, 버려지지도 않는다.</li>
+ *   <li>DB 반영이 실패하면 거둔 값을 다시 쌓아 두고 예외를 올린다 — 다음 바퀴가 다시 시도한다.</li>
+ *   <li>정상 종료 시에는 빈 소멸 단계에서 한 번 더 내려보낸다. graceful shutdown 이 진행 중인 요청을
+ *       다 처리한 뒤이고 데이터소스가 닫히기 전이다.</li>
+ * </ul>
+ *
+ * <p>같은 로그인 사용자가 같은 글을 구간 안에 다시 열면 세지 않는다({@link ViewCountProperties#dedupWindow()}).
+ * 기억은 인스턴스마다 따로라 사용자가 다른 인스턴스로 가면 한 번 더 셀 수 있다 — 조회수는 정산 값이
+ * 아니므로 그 정도 오차는 받아들이고 공유 저장소를 들이지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewCounter implements FlushPostViewUseCase {
+
+    private final IncrementPostViewPort incrementPostViewPort;
+    private final ViewCountProperties properties;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    /** 지난 바퀴에 맵에서 뗀 adder — flush 잠금 안에서만 만진다. */
+    private final Map<Long, LongAdder> retired = new HashMap<>();
+    /** (글, 사용자) → 마지막으로 센 시각(epoch ms). */
+    private final ConcurrentHashMap<RecentView, Long> recentViews = new ConcurrentHashMap<>();
+
+    /**
+     * 조회 한 번을 센다.
+     *
+     * @return 셌으면 true, 중복 구간 안의 재조회라 건너뛰었으면 false
+     */
+    public boolean record(Long postId, BoardActor actor) {
+        if (properties.dedupEnabled() && actor.userId() != null && !firstViewInWindow(postId, actor.userId())) {
+            return false;
+        }
+        add(postId, 1);
+        return true;
+    }
+
+    private void add(Long postId, long views) {
+        while (views > 0) {
+            LongAdder adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+            adder.add(views);
+            if (pending.get(postId) == adder) {
+                return;   // 올린 뒤에도 맵에 있었다 — 떼이더라도 마지막 수거가 이 값을 잡는다
+            }
+            // flush 가 그 사이 떼어 갔다. 마지막 수거가 이미 지났을 수 있으니 남은 값을 거둬 다시 올린다.
+            views = adder.sumThenReset();
+        }
+    }
+
+    private boolean firstViewInWindow(Long postId, Long userId) {
+        RecentView key = new RecentView(postId, userId);
+        long now = clock.millis();
+        if (recentViews.size() >= properties.dedupMaxEntries() && !recentViews.containsKey(key)) {
+            return true;   // 상한에 닿았다 — 기억하지 않고 센다(클래스 주석의 설정 설명 참조)
+        }
+        long windowMillis = properties.dedupWindow().toMillis();
+        boolean[] first = {false};
+        recentViews.compute(key, (k, countedAt) -> {
+            if (countedAt != null && now - countedAt < windowMillis) {
+                return countedAt;
+            }
+            first[0] = true;
+            return now;
+        });
+        return first[0];
+    }
+
+    @Override
+    public synchronized int flushViews() {
+        Map<Long, Long> deltas = new HashMap<>();
+        retired.forEach((postId, adder) -> collect(deltas, postId, adder.sumThenReset()));
+        retired.clear();
+        pending.forEach((postId, adder) -> {
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                collect(deltas, postId, views);
+            } else if (pending.remove(postId, adder)) {
+                retired.put(postId, adder);
+            }
+        });
+        evictExpiredViews();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        try {
+            incrementPostViewPort.incrementViews(deltas);
+        } catch (RuntimeException e) {
+            deltas.forEach((postId, views) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(views));
+            throw e;
+        }
+        return deltas.size();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        try {
+            int flushed = flushViews();
+            log.info("종료 전 조회수 반영: 글 {}건", flushed);
+        } catch (RuntimeException e) {
+            // 여기서 실패하면 되돌려 쌓은 값도 프로세스와 함께 사라진다 — 얼마를 잃었는지라도 남긴다.
+            long lost = pending.values().stream().mapToLong(LongAdder::sum).sum();
+            log.error("종료 전 조회수 반영 실패 — 조회 {}건 유실", lost, e);
+        }
+    }
+
+    /** 아직 내려보내지 않은 조회수 — 테스트용. */
+    long pendingViews(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private void evictExpiredViews() {
+        if (recentViews.isEmpty()) {
+            return;
+        }
+        long expiredBefore = clock.millis() - properties.dedupWindow().toMillis();
+        recentViews.values().removeIf(countedAt -> countedAt <= expiredBefore);
+    }
+
+    private static void collect(Map<Long, Long> deltas, Long postId, long views) {
+        if (views > 0) {
+            deltas.merge(postId, views, Long::sum);
+        }
+    }
+
+    private record RecentView(Long postId, Long userId) {
+    }
+}
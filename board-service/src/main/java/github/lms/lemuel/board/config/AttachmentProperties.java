@@ -10,13 +10,16 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * @param cleanupCron        청소 주기(Asia/Seoul)
  * @param cleanupGraceHours  이 시간보다 최근에 만들어진 파일은 건드리지 않는다.
  *                           업로드는 "파일 저장 → DB 기록" 순서라 그 사이 정상 파일도 잠깐 고아처럼 보인다
+ * @param reconcileCron      저장소 전체 대조 주기(Asia/Seoul). 평소 청소는 저널만 보므로, 이건 저널이 놓친
+ *                           파일을 위한 안전망이라 드물게 돈다
  */
 @ConfigurationProperties(prefix = "app.board.attachment")
 public record AttachmentProperties(
         String baseDir,
         Boolean cleanupEnabled,
         String cleanupCron,
-        Integer cleanupGraceHours) {
+        Integer cleanupGraceHours,
+        String reconcileCron) {
 
     public AttachmentProperties {
         if (baseDir == null || baseDir.isBlank()) {
@@ -33,5 +36,9 @@ public record AttachmentProperties(
         if (cleanupGraceHours == null || cleanupGraceHours < 1) {
             cleanupGraceHours = 24;
         }
+        if (reconcileCron == null || reconcileCron.isBlank()) {
+            // 매주 일요일 새벽 4시 40분 — 저장소 전체를 훑으므로 평일 청소와 겹치지 않게 비켜 둔다.
+            reconcileCron = "0 40 4 * * SUN";
+        }
     }
 }
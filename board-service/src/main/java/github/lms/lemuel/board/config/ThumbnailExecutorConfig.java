@@ -0,0 +1,33 @@
+package github.lms.lemuel.board.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 축소본 작업 풀.
+ *
+ * <p><b>작고 따로 둔다.</b> 디코딩은 CPU 와 힙을 먹는다 — 공용 풀에 얹으면 사진이 몰린 순간 다른
+ * 비동기 작업이 밀린다. 대기열이 차면 그 작업은 버린다(AbortPolicy). 호출 스레드가 대신 돌리면
+ * (CallerRuns) 업로드 요청이 다시 디코딩을 떠안게 되므로 이 풀을 둔 이유가 사라진다. 버려진 첨부는
+ * "만드는 중"으로 남았다가 재시도 점검이 다시 넣는다.
+ */
+@Configuration
+public class ThumbnailExecutorConfig {
+
+    @Bean(name = "boardThumbnailExecutor")
+    public ThreadPoolTaskExecutor boardThumbnailExecutor(ThumbnailProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.workers());
+        executor.setMaxPoolSize(properties.workers());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("board-thumbnail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // 종료 때 대기열을 기다리지 않는다 — 남은 작업은 "만드는 중"으로 남아 다음 기동 뒤 재시도된다.
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,38 @@
+package github.lms.lemuel.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 첨부 축소본 백그라운드 생성 설정.
+ *
+ * @param workers          축소본 작업 스레드 수. 디코딩은 CPU·메모리를 먹으므로 작게 둔다
+ * @param queueCapacity    대기열 상한. 넘치면 그 작업은 버리고 행은 "만드는 중"으로 남는다 —
+ *                         업로드 요청 스레드가 대신 디코딩하면(CallerRuns) 이 설계를 둔 이유가 사라진다
+ * @param resumeAfter      이보다 오래 "만드는 중"인 첨부는 신호를 잃은 것으로 보고 다시 돌린다
+ * @param resumeIntervalMs 위 재시도 점검 주기
+ */
+@ConfigurationProperties(prefix = "app.board.attachment.thumbnail")
+public record ThumbnailProperties(
+        Integer workers,
+        Integer queueCapacity,
+        Duration resumeAfter,
+        Long resumeIntervalMs) {
+
+    public ThumbnailProperties {
+        if (workers == null || workers < 1) {
+            workers = 2;
+        }
+        if (queueCapacity == null || queueCapacity < 1) {
+            queueCapacity = 200;
+        }
+        // 0 이면 방금 올라와 대기열에 있는 작업까지 다시 집어 같은 축소본을 두 번 만든다.
+        if (resumeAfter == null || resumeAfter.compareTo(Duration.ofMinutes(1)) < 0) {
+            resumeAfter = Duration.ofMinutes(10);
+        }
+        if (resumeIntervalMs == null || resumeIntervalMs < 1) {
+            resumeIntervalMs = 300_000L;
+        }
+    }
+}
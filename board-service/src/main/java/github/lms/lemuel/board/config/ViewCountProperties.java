@@ -0,0 +1,38 @@
+package github.lms.lemuel.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 설정.
+ *
+ * @param flushIntervalMs  모아 둔 조회수를 DB 로 내려보내는 주기. 인스턴스가 비정상 종료되면
+ *                         최대 이만큼의 조회수를 잃는다(정상 종료는 종료 직전에 한 번 더 내려보낸다)
+ * @param dedupWindow      같은 로그인 사용자가 같은 글을 다시 열어도 세지 않는 구간. 0 이면 끈다.
+ *                         비로그인은 식별할 수단이 없어 매번 센다
+ * @param dedupMaxEntries  중복 판정용 기억의 상한. 넘치면 새 조회는 기억하지 않고 센다 —
+ *                         조회수를 조금 더 세는 편이 메모리를 무한히 쓰는 편보다 낫다
+ */
+@ConfigurationProperties(prefix = "app.board.view-count")
+public record ViewCountProperties(
+        Long flushIntervalMs,
+        Duration dedupWindow,
+        Integer dedupMaxEntries) {
+
+    public ViewCountProperties {
+        if (flushIntervalMs == null || flushIntervalMs < 1) {
+            flushIntervalMs = 5_000L;
+        }
+        if (dedupWindow == null || dedupWindow.isNegative()) {
+            dedupWindow = Duration.ofMinutes(30);
+        }
+        if (dedupMaxEntries == null || dedupMaxEntries < 1) {
+            dedupMaxEntries = 100_000;
+        }
+    }
+
+    public boolean dedupEnabled() {
+        return !dedupWindow.isZero();
+    }
+}
@@ -13,6 +13,9 @@ import java.time.OffsetDateTime;
  *
  * <p>{@code contentType} 도 요청 헤더가 아니라 <b>서버 판정값</b>을 저장한다. 다운로드 응답이
  * 이 값을 그대로 쓰기 때문에, 클라이언트가 준 값을 저장하면 업로더가 응답 헤더를 정하는 셈이 된다.
+ *
+ * <p>이미지 축소본은 업로드 요청 안에서 만들지 않는다. 행은 {@code thumbnailPending} 으로 태어나고
+ * 백그라운드 작업이 축소본을 만든 뒤 경로를 채운다 — 그 사이 목록은 원본으로 떨어진다({@link #displayPath()}).
  */
 public class BoardAttachment {
 
@@ -24,6 +27,7 @@ public class BoardAttachment {
     private String storedName;
     private String storagePath;
     private String thumbnailPath;
+    private boolean thumbnailPending;
     private String contentType;
     private long sizeBytes;
     private int sortOrder;
@@ -37,9 +41,12 @@ public class BoardAttachment {
      *
      * <p>정책 검사는 이미 {@code BoardPost.assertCanAttach} 에서 끝났다 — 여기서 다시 하지 않는
      * 이유는 바이트가 이미 디스크에 쓰인 뒤이기 때문이다. 거절은 저장 <b>전에</b> 끝나야 한다.
+     *
+     * <p>축소본은 아직 없다. 이미지면 "만드는 중"으로 표시해 두고, 만들지 못하는 형식인지는 생성기가
+     * 판단한다(그 판단에 원본 디코딩이 필요해 업로드 요청에서 하지 않는다).
      */
     public static BoardAttachment of(BoardPost post, AttachmentUpload upload,
-                                     String storedName, String storagePath, String thumbnailPath,
+                                     String storedName, String storagePath,
                                      int sortOrder, OffsetDateTime now) {
         if (storedName == null || storedName.isBlank() || storagePath == null || storagePath.isBlank()) {
             throw new BoardInvariantViolationException("저장 위치는 필수입니다.");
@@ -51,7 +58,7 @@ public class BoardAttachment {
         attachment.originalName = upload.originalName();
         attachment.storedName = storedName;
         attachment.storagePath = storagePath;
-        attachment.thumbnailPath = thumbnailPath;
+        attachment.thumbnailPending = upload.kind() == BoardAttachmentKind.IMAGE;
         attachment.contentType = upload.detectedType().contentType();
         attachment.sizeBytes = upload.sizeBytes();
         attachment.sortOrder = sortOrder;
@@ -63,6 +70,14 @@ public class BoardAttachment {
                                             String originalName, String storedName, String storagePath,
                                             String thumbnailPath, String contentType, long sizeBytes,
                                             int sortOrder, OffsetDateTime createdAt) {
+        return rehydrate(id, postId, boardId, kind, originalName, storedName, storagePath,
+                thumbnailPath, false, contentType, sizeBytes, sortOrder, createdAt);
+    }
+
+    public static BoardAttachment rehydrate(Long id, Long postId, Long boardId, BoardAttachmentKind kind,
+                                            String originalName, String storedName, String storagePath,
+                                            String thumbnailPath, boolean thumbnailPending, String contentType,
+                                            long sizeBytes, int sortOrder, OffsetDateTime createdAt) {
         BoardAttachment attachment = new BoardAttachment();
         attachment.id = id;
         attachment.postId = postId;
@@ -72,6 +87,7 @@ public class BoardAttachment {
         attachment.storedName = storedName;
         attachment.storagePath = storagePath;
         attachment.thumbnailPath = thumbnailPath;
+        attachment.thumbnailPending = thumbnailPending;
         attachment.contentType = contentType;
         attachment.sizeBytes = sizeBytes;
         attachment.sortOrder = sortOrder;
@@ -146,8 +162,19 @@ public class BoardAttachment {
         return thumbnailPath != null && !thumbnailPath.isBlank();
     }
 
+    /** 축소본을 만드는 중 — 아직 경로가 없고, 끝나면 경로가 채워지거나 "없음"으로 확정된다. */
+    public boolean isThumbnailPending() {
+        return thumbnailPending;
+    }
+
+    /** 저장 파일명의 확장자 — 서버가 판정한 형식이다(업로더가 준 이름에서 오지 않는다). */
+    public String storedExtension() {
+        int dot = storedName.lastIndexOf('.');
+        return dot < 0 ? "" : storedName.substring(dot + 1);
+    }
+
     /**
-     * 목록에 내려 줄 경로 — 축소본이 있으면 축소본, 없으면 원본.
+     * 목록에 내려 줄 경로 — 축소본이 있으면 축소본, 없으면(만드는 중 포함) 원본.
      *
      * <p>이 선택을 화면이 하게 두면 "썸네일이 없을 때 어떻게 하지"가 화면마다 갈린다.
      */
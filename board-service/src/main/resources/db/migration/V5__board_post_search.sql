@@ -0,0 +1,36 @@
+-- ============================================================
+-- V5 : board_posts 검색·목록 인덱스 — 전문 검색 + trigram + keyset
+--
+-- 검색이 lower(title) LIKE '%q%' OR lower(content) LIKE '%q%' 였다. 앞에 % 가 붙은 LIKE 는 어떤
+-- B-tree 도 못 타서 검색마다 게시판 전체를 훑고, 글이 늘수록 선형으로 느려진다.
+--
+--  * search_vector : 제목+본문의 tsvector(생성 컬럼, 'simple' 구성) + GIN.
+--                    영문·숫자 검색어는 토큰 접두 일치(tok:*)로 여기서 찾는다.
+--  * trigram       : lower(title || ' ' || content) 위 pg_trgm GIN. 한국어는 형태소 사전이 없어
+--                    'simple' 이 "공지사항을" 을 한 토큰으로 두므로 부분 일치가 필요하고, 그 LIKE 를
+--                    이 인덱스가 받는다. 식은 BoardPostSearchSql.SEARCH_TEXT 와 글자까지 같아야 한다.
+--  * keyset        : 목록 정렬 (pinned DESC, created_at DESC, id DESC) 전체를 인덱스에 싣는다.
+--                    커서 비교 (pinned, created_at, id) < (...) 가 인덱스 범위 탐색으로 들어간다.
+--
+-- 생성 컬럼 추가는 테이블을 다시 쓴다(ACCESS EXCLUSIVE). Flyway 트랜잭션 안이라 CONCURRENTLY 도
+-- 못 쓴다 — 글이 많은 환경에서는 트래픽이 적은 시간에 배포할 것.
+-- ============================================================
+
+-- public 에 설치한다. 앱 커넥션의 search_path 는 기본값("$user", public)이라 board 스키마에 두면
+-- 네이티브 SQL 이 연산자 클래스를 못 찾는다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+ALTER TABLE board_posts ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', title || ' ' || content)) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_board_posts_search
+    ON board_posts USING GIN (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_board_posts_search_trgm
+    ON board_posts USING GIN (lower(title || ' ' || content) public.gin_trgm_ops);
+
+-- V2 의 목록 인덱스에 id 를 더한 것으로 바꾼다 — id 가 빠지면 같은 시각에 쓰인 글 사이에서
+-- 커서 비교가 인덱스 밖(힙)에서 걸러진다.
+DROP INDEX IF EXISTS idx_board_posts_list;
+CREATE INDEX IF NOT EXISTS idx_board_posts_list_keyset
+    ON board_posts(board_id, status, pinned DESC, created_at DESC, id DESC);
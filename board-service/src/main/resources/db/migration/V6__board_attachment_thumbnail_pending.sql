@@ -0,0 +1,17 @@
+-- ============================================================
+-- V6 : board_attachments.thumbnail_pending — 축소본 백그라운드 생성
+--
+-- 축소본을 업로드 요청 스레드에서 만들고 있었다. 원본 전체 해상도를 디코딩하므로 업로드 응답
+-- 시간이 이미지 크기에 끌려갔다(4000x3000 사진 한 장이 수백 ms). 이제 업로드는 행을
+-- "만드는 중"으로 남기고, 커밋 뒤 백그라운드 작업이 축소본을 만들어 경로를 채운다.
+--
+-- 기존 행은 FALSE 다 — 축소본이 있거나, 만들 수 없는 형식이라 이미 NULL 로 확정된 것들이다.
+-- 만드는 중인 동안 thumbnail_path 는 NULL 이고 목록은 원본으로 떨어진다.
+-- ============================================================
+
+ALTER TABLE board_attachments ADD COLUMN IF NOT EXISTS thumbnail_pending BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- 신호를 잃은 작업을 다시 돌리는 점검이 "오래된 만드는 중" 만 찾는다. 거의 항상 비어 있는 집합이라
+-- 부분 인덱스로 충분하다.
+CREATE INDEX IF NOT EXISTS idx_board_attachments_thumbnail_pending
+    ON board_attachments(created_at, id) WHERE thumbnail_pending;
@@ -0,0 +1,24 @@
+-- ============================================================
+-- V7 : board_attachment_journal — 고아 청소용 파일 저널
+--
+-- 고아 청소가 첨부 디렉터리 전체를 Files.walk 로 훑고 파일마다 DB 와 대조했다. 비용이 고아 수가
+-- 아니라 저장된 파일 총량을 따라 자라고, 첨부가 쌓일수록 매일 같은 수십만 개를 다시 본다.
+--
+-- 이제 파일이 생기거나(업로드·축소본) 지워질 예정인 순간(첨부 삭제) 경로를 여기 적는다. 청소는 유예
+-- 기간이 지난 기록만 보고, 첨부 행이 참조하지 않으면 파일을 지운다. 참조하면 기록만 지운다.
+-- 전체 훑기는 드물게 도는 대조(reconcile)로 남는다 — 저널 이전 파일과, 파일 저장 직후 기록 전에
+-- 프로세스가 죽은 경우를 위한 안전망이다.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS board_attachment_journal (
+    storage_path  VARCHAR(300)  PRIMARY KEY,
+    recorded_at   TIMESTAMPTZ   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_board_attachment_journal_recorded ON board_attachment_journal(recorded_at);
+
+-- "이 경로를 참조하는 행이 있는가" 를 저널 한 건마다 묻는다. 두 컬럼 모두 인덱스가 없으면 그 질문이
+-- 첨부 테이블 전체 훑기가 되어 저널을 둔 의미가 없다.
+CREATE INDEX IF NOT EXISTS idx_board_attachments_storage_path ON board_attachments(storage_path);
+CREATE INDEX IF NOT EXISTS idx_board_attachments_thumbnail_path
+    ON board_attachments(thumbnail_path) WHERE thumbnail_path IS NOT NULL;
@@ -1,5 +1,6 @@
 package github.lms.lemuel.board.adapter.out.image;
 
+import github.lms.lemuel.board.application.port.in.AttachmentContent;
 import github.lms.lemuel.board.application.port.out.GenerateThumbnailPort.Thumbnail;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,11 +25,11 @@ class ImageIoThumbnailGeneratorTest {
 
     private final ImageIoThumbnailGenerator generator = new ImageIoThumbnailGenerator();
 
-    private static byte[] png(int width, int height) throws IOException {
+    private static AttachmentContent png(int width, int height) throws IOException {
         BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         ImageIO.write(image, "png", out);
-        return out.toByteArray();
+        return AttachmentContent.of(out.toByteArray());
     }
 
     @Test
@@ -65,15 +66,17 @@ class ImageIoThumbnailGeneratorTest {
     @Test
     @DisplayName("리더가 없는 형식·손상 바이트는 예외 대신 빈 값 — 업로드를 죽이지 않는다")
     void unreadableInputYieldsEmpty() {
-        assertThat(generator.generate("not an image".getBytes(StandardCharsets.UTF_8), "webp", 400)).isEmpty();
-        assertThat(generator.generate(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}, "jpg", 400)).isEmpty();
+        assertThat(generator.generate(
+                AttachmentContent.of("not an image".getBytes(StandardCharsets.UTF_8)), "webp", 400)).isEmpty();
+        assertThat(generator.generate(
+                AttachmentContent.of(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}), "jpg", 400)).isEmpty();
     }
 
     @Test
     @DisplayName("빈 입력·잘못된 상한은 빈 값")
     void guardsInput() {
         assertThat(generator.generate(null, "png", 400)).isEmpty();
-        assertThat(generator.generate(new byte[0], "png", 400)).isEmpty();
+        assertThat(generator.generate(AttachmentContent.of(new byte[0]), "png", 400)).isEmpty();
     }
 
     @Test
@@ -81,4 +84,28 @@ class ImageIoThumbnailGeneratorTest {
     void nonPositiveEdge() throws IOException {
         assertThat(generator.generate(png(800, 400), "png", 0)).isEmpty();
     }
+
+    @Test
+    @DisplayName("줄여 읽기 간격은 결과의 긴 변이 상한 아래로 내려가지 않는 가장 큰 정수다")
+    void subsamplingNeverUndershoots() {
+        assertThat(ImageIoThumbnailGenerator.subsamplingStep(4000, 3000, 400)).isEqualTo(10);
+        assertThat(ImageIoThumbnailGenerator.subsamplingStep(1000, 3999, 400)).isEqualTo(9);
+        // 상한의 두 배가 안 되면 건너뛰지 않는다 — 보간 축소만 한다
+        assertThat(ImageIoThumbnailGenerator.subsamplingStep(799, 200, 400)).isEqualTo(1);
+        for (int longest = 401; longest < 5000; longest += 37) {
+            int step = ImageIoThumbnailGenerator.subsamplingStep(longest, 10, 400);
+            assertThat((longest + step - 1) / step).isGreaterThanOrEqualTo(400);
+        }
+    }
+
+    @Test
+    @DisplayName("큰 이미지도 줄여 읽은 뒤 정확히 긴 변에 맞춘다")
+    void subsampledDecodeStillHitsTargetEdge() throws IOException {
+        Optional<Thumbnail> result = generator.generate(png(2410, 1203), "png", 400);
+
+        assertThat(result).isPresent();
+        BufferedImage scaled = ImageIO.read(new ByteArrayInputStream(result.get().content()));
+        assertThat(scaled.getWidth()).isEqualTo(400);
+        assertThat(scaled.getHeight()).isBetween(199, 200);
+    }
 }
@@ -0,0 +1,81 @@
+package github.lms.lemuel.board.adapter.out.persistence;
+
+import github.lms.lemuel.board.adapter.out.persistence.BoardPostSearchSql.KeywordMatch;
+import github.lms.lemuel.board.application.port.in.PostCursor;
+import github.lms.lemuel.board.application.port.out.PostSearchCriteria;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardPostSearchSqlTest {
+
+    private static final OffsetDateTime CREATED = OffsetDateTime.of(2026, 8, 15, 10, 0, 0, 123_456_000, ZoneOffset.UTC);
+
+    private static PostSearchCriteria criteria(String keyword, Long viewerId, PostCursor after) {
+        return new PostSearchCriteria(1L, null, keyword, false, false, viewerId, after);
+    }
+
+    @Test
+    @DisplayName("세 글자 이상 영숫자 토큰만 있으면 전문 검색 — 토큰별 접두 일치를 AND 로 건다")
+    void latinKeywordsUseFullText() {
+        assertThat(BoardPostSearchSql.keywordMatch("  Refund   POLICY 2026 "))
+                .isEqualTo(new KeywordMatch.FullText("refund:* & policy:* & 2026:*"));
+    }
+
+    @Test
+    @DisplayName("한글·짧은 토큰은 trigram 부분 일치 — LIKE 메타문자는 이스케이프한다")
+    void koreanOrShortKeywordsUseSubstring() {
+        assertThat(BoardPostSearchSql.keywordMatch("공지사항")).isEqualTo(new KeywordMatch.Substring("%공지사항%"));
+        assertThat(BoardPostSearchSql.keywordMatch("QA 답변")).isEqualTo(new KeywordMatch.Substring("%qa 답변%"));
+        assertThat(BoardPostSearchSql.keywordMatch("5%_할인")).isEqualTo(new KeywordMatch.Substring("%5\\%\\_할인%"));
+    }
+
+    @Test
+    @DisplayName("tsquery 문법 문자는 토큰 분리에서 떨어져 나가 질의에 끼어들지 못한다")
+    void tsQuerySyntaxIsStripped() {
+        assertThat(BoardPostSearchSql.keywordMatch("refund & !(policy):*"))
+                .isEqualTo(new KeywordMatch.FullText("refund:* & policy:*"));
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 문장에도 파라미터에도 없다 — null 을 바인딩하지 않는다")
+    void absentConditionsAreNotBound() {
+        BoardPostSearchSql sql = BoardPostSearchSql.from(criteria(null, null, null));
+
+        assertThat(sql.select(true)).contains("p.status = 'PUBLISHED'", "p.secret = FALSE", "OFFSET :offset")
+                .doesNotContain("category_code", "search_vector", "LIKE", "author_id", "(p.pinned, p.created_at, p.id)");
+        assertThat(sql.parameters()).containsOnlyKeys("boardId");
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 정렬 키 행 비교로 이어 읽고 OFFSET 은 쓰지 않는다")
+    void cursorUsesRowComparison() {
+        BoardPostSearchSql sql = BoardPostSearchSql.from(criteria("공지", 10L, new PostCursor(true, CREATED, 42L)));
+
+        assertThat(sql.select(false))
+                .contains("(p.pinned, p.created_at, p.id) < (:afterPinned, :afterCreatedAt, :afterId)",
+                        BoardPostSearchSql.SEARCH_TEXT + " LIKE :pattern",
+                        "(p.secret = FALSE OR p.author_id = :viewerId)",
+                        "ORDER BY p.pinned DESC, p.created_at DESC, p.id DESC LIMIT :limit")
+                .doesNotContain("OFFSET");
+        assertThat(sql.parameters()).containsEntry("afterPinned", true)
+                .containsEntry("afterCreatedAt", CREATED)
+                .containsEntry("afterId", 42L)
+                .containsEntry("pattern", "%공지%")
+                .containsEntry("viewerId", 10L);
+        assertThat(sql.count()).startsWith("SELECT count(*) FROM board.board_posts p WHERE").doesNotContain("ORDER BY");
+    }
+
+    @Test
+    @DisplayName("커서는 정렬 키를 잃지 않고 왕복한다")
+    void cursorRoundTrip() {
+        PostCursor cursor = new PostCursor(false, CREATED, 9_000_000_001L);
+
+        assertThat(PostCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(PostCursor.decode("  ")).isNull();
+    }
+}
@@ -0,0 +1,123 @@
+package github.lms.lemuel.board.adapter.out.storage;
+
+import github.lms.lemuel.board.application.port.in.AttachmentContent;
+import github.lms.lemuel.board.application.port.out.StoreAttachmentPort.StoredAttachment;
+import github.lms.lemuel.board.config.AttachmentProperties;
+import github.lms.lemuel.board.domain.exception.BoardAttachmentNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 저장소 — 실제 파일시스템으로 돌린다.
+ *
+ * <p>지키는 것은 세 가지다: 흘려 쓴 내용이 그대로 남는다, 선언과 다른 길이는 최종 경로에 나타나지
+ * 않는다, 읽기 스트림의 {@code skip} 이 Range 구간으로 바로 들어간다.
+ */
+class LocalFileSystemAttachmentStorageAdapterTest {
+
+    @TempDir
+    Path baseDir;
+
+    private LocalFileSystemAttachmentStorageAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new LocalFileSystemAttachmentStorageAdapter(
+                new AttachmentProperties(baseDir.toString(), true, null, 24, null));
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("청크 경계를 넘는 내용도 그대로 저장되고 같은 크기로 읽힌다")
+    void storesAndReadsStreamed() throws IOException {
+        byte[] bytes = randomBytes(3 * 1024 * 1024 + 17);
+
+        StoredAttachment stored = adapter.store(1L, 5L, "bin", AttachmentContent.of(bytes));
+        AttachmentContent read = adapter.read(stored.storagePath());
+
+        assertThat(stored.storagePath()).startsWith("board-1/post-5/").endsWith(".bin");
+        assertThat(read.size()).isEqualTo(bytes.length);
+        try (InputStream in = read.openStream()) {
+            assertThat(in.readAllBytes()).isEqualTo(bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("읽기 스트림은 건너뛴 위치부터 읽는다 — Range 응답이 앞부분을 읽지 않는다")
+    void skipLandsOnRange() throws IOException {
+        byte[] bytes = randomBytes(64 * 1024);
+        StoredAttachment stored = adapter.store(1L, 5L, "bin", AttachmentContent.of(bytes));
+
+        try (InputStream in = adapter.read(stored.storagePath()).openStream()) {
+            assertThat(in.skip(60_000)).isEqualTo(60_000);
+            assertThat(in.readNBytes(4)).containsExactly(bytes[60_000], bytes[60_001], bytes[60_002], bytes[60_003]);
+        }
+    }
+
+    @Test
+    @DisplayName("선언보다 길거나 짧은 내용은 실패하고 어떤 파일도 남기지 않는다")
+    void sizeMismatchLeavesNothing() throws IOException {
+        AttachmentContent longer = declared(4, randomBytes(5));
+        AttachmentContent shorter = declared(6, randomBytes(5));
+
+        assertThatThrownBy(() -> adapter.store(1L, 5L, "bin", longer)).isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> adapter.store(1L, 5L, "bin", shorter)).isInstanceOf(UncheckedIOException.class);
+
+        try (Stream<Path> files = Files.walk(baseDir)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("파일이 없으면 읽기 전에 404 로 끊는다")
+    void missingFile() {
+        assertThatThrownBy(() -> adapter.read("board-1/post-5/none.bin"))
+                .isInstanceOf(BoardAttachmentNotFoundException.class);
+    }
+
+    private static AttachmentContent declared(long size, byte[] actual) {
+        return new AttachmentContent() {
+            @Override
+            public long size() {
+                return size;
+            }
+
+            @Override
+            public InputStream openStream() {
+                return new java.io.ByteArrayInputStream(actual);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("삭제는 파일이 없어졌는지를 돌려준다 — 이미 없으면 성공, 지우지 못하면 실패")
+    void deleteReportsOutcome() throws IOException {
+        StoredAttachment stored = adapter.store(1L, 5L, "bin", AttachmentContent.of(randomBytes(8)));
+        Path blocked = Files.createDirectories(baseDir.resolve("board-1/post-6/blocked"));
+        Files.writeString(blocked.resolve("inside"), "x");
+
+        assertThat(adapter.delete(stored.storagePath())).isTrue();
+        assertThat(adapter.delete(stored.storagePath())).isTrue();
+        // 비지 않은 디렉터리는 지울 수 없다 — 삭제 실패를 흉내 내는 가장 이식성 있는 방법이다.
+        assertThat(adapter.delete("board-1/post-6/blocked")).isFalse();
+        assertThat(blocked).exists();
+    }
+}
@@ -1,5 +1,6 @@
 package github.lms.lemuel.board.application.port;
 
+import github.lms.lemuel.board.application.port.in.AttachmentContent;
 import github.lms.lemuel.board.application.port.in.BoardAttachmentUseCase.AttachmentDownload;
 import github.lms.lemuel.board.application.port.out.GenerateThumbnailPort.Thumbnail;
 import github.lms.lemuel.board.domain.BoardAttachment;
@@ -12,10 +13,12 @@ import java.time.OffsetDateTime;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
- * byte[] 를 품은 첨부 포트 record 2종의 값 계약.
+ * 첨부 바이트를 품은 포트 record 의 값 계약.
  *
- * <p>record 기본 구현은 배열을 <b>참조 동일성</b>으로 비교한다 — 같은 파일을 두 번 읽어 만든 두 값이
- * 서로 다른 값이 되는 셈이라 놀랍다. 첨부는 "같은 바이트면 같은 내려받기"가 맞는 의미론이다.
+ * <p>{@code Thumbnail} 은 배열을 품는다. record 기본 구현은 배열을 <b>참조 동일성</b>으로 비교하므로
+ * 같은 바이트로 만든 두 값이 서로 다른 값이 되는 셈이라 놀랍다 — "같은 바이트면 같은 축소본"이 맞다.
+ * {@code AttachmentDownload} 는 이제 배열이 아니라 아직 읽지 않은 스트림 원천을 품으므로 값 비교 대상이
+ * 아니다. 남는 계약은 {@code toString} 하나다.
  *
  * <p>{@code toString} 은 파일 바이트를 로그로 흘리지 않는다 — 게시판 첨부는 비밀글의 첨부일 수 있고
  * (권한 판정은 {@code download} 가 한다), 메가바이트 배열을 찍으면 로그가 통째로 오염된다.
@@ -40,33 +43,10 @@ class AttachmentRecordContractTest {
                 "uuid.jpg", "board-1/post-5/uuid.jpg", "board-1/post-5/thumb.jpg", "image/jpeg", 4, 0, NOW);
     }
 
-    @Test
-    @DisplayName("AttachmentDownload: 내용이 같으면 같은 값이다 — 배열 참조가 달라도")
-    void attachmentDownload_equalsByContent() {
-        BoardAttachment a = attachment();
-        AttachmentDownload one = new AttachmentDownload(a, new byte[]{1, 2, 3});
-        AttachmentDownload two = new AttachmentDownload(a, new byte[]{1, 2, 3});
-
-        assertThat(one).isEqualTo(two).hasSameHashCodeAs(two);
-    }
-
-    @Test
-    @DisplayName("AttachmentDownload: 내용이 다르면 다른 값이다")
-    void attachmentDownload_differsByContent() {
-        BoardAttachment a = attachment();
-        AttachmentDownload one = new AttachmentDownload(a, new byte[]{1, 2, 3});
-
-        assertThat(one)
-                .isNotEqualTo(new AttachmentDownload(a, new byte[]{9}))
-                .isNotEqualTo(new AttachmentDownload(null, new byte[]{1, 2, 3}))
-                .isNotEqualTo(null)
-                .isNotEqualTo(FOREIGN_TYPE);
-    }
-
     @Test
     @DisplayName("AttachmentDownload: toString 은 바이트가 아니라 길이만 노출한다")
     void attachmentDownload_toStringHidesBytes() {
-        String rendered = new AttachmentDownload(attachment(), new byte[]{1, 2, 3}).toString();
+        String rendered = new AttachmentDownload(attachment(), AttachmentContent.of(new byte[]{1, 2, 3})).toString();
 
         assertThat(rendered).contains("3B").contains("photo.jpg").doesNotContain("[B@");
         assertThat(new AttachmentDownload(attachment(), null).toString()).contains("content=null");
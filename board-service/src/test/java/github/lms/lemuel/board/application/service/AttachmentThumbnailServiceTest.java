@@ -0,0 +1,170 @@
+package github.lms.lemuel.board.application.service;
+
+import github.lms.lemuel.board.application.port.in.AttachmentContent;
+import github.lms.lemuel.board.application.port.out.AttachmentJournalPort;
+import github.lms.lemuel.board.application.port.out.GenerateThumbnailPort;
+import github.lms.lemuel.board.application.port.out.LoadBoardAttachmentPort;
+import github.lms.lemuel.board.application.port.out.SaveBoardAttachmentPort;
+import github.lms.lemuel.board.application.port.out.StoreAttachmentPort;
+import github.lms.lemuel.board.config.ThumbnailProperties;
+import github.lms.lemuel.board.domain.BoardAttachment;
+import github.lms.lemuel.board.domain.BoardAttachmentKind;
+import github.lms.lemuel.board.domain.exception.BoardAttachmentNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentThumbnailServiceTest {
+
+    private static final Instant FIXED = Instant.parse("2026-08-15T10:00:00Z");
+    private static final OffsetDateTime NOW = OffsetDateTime.ofInstant(FIXED, ZoneOffset.UTC);
+    private static final AttachmentContent ORIGINAL = AttachmentContent.of(new byte[]{1, 2, 3, 4});
+    private static final String ORIGINAL_PATH = "board-1/post-5/uuid.jpg";
+    private static final String THUMB_PATH = "board-1/post-5/thumb.png";
+
+    @Mock
+    private LoadBoardAttachmentPort loadBoardAttachmentPort;
+    @Mock
+    private SaveBoardAttachmentPort saveBoardAttachmentPort;
+    @Mock
+    private StoreAttachmentPort storeAttachmentPort;
+    @Mock
+    private AttachmentJournalPort attachmentJournalPort;
+    @Mock
+    private GenerateThumbnailPort generateThumbnailPort;
+
+    private AttachmentThumbnailService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AttachmentThumbnailService(loadBoardAttachmentPort, saveBoardAttachmentPort,
+                storeAttachmentPort, attachmentJournalPort, generateThumbnailPort,
+                new ThumbnailProperties(2, 10, Duration.ofMinutes(10), 60_000L),
+                Clock.fixed(FIXED, ZoneOffset.UTC));
+    }
+
+    private static BoardAttachment attachment(boolean pending) {
+        return BoardAttachment.rehydrate(9L, 5L, 1L, BoardAttachmentKind.IMAGE, "photo.jpg",
+                "uuid.jpg", ORIGINAL_PATH, null, pending, "image/jpeg", 4, 0, NOW);
+    }
+
+    private void givenThumbnail() {
+        when(generateThumbnailPort.generate(ORIGINAL, "jpg", AttachmentThumbnailService.THUMBNAIL_MAX_EDGE))
+                .thenReturn(Optional.of(new GenerateThumbnailPort.Thumbnail(new byte[]{9}, "png")));
+        when(storeAttachmentPort.store(eq(1L), eq(5L), eq("png"), any()))
+                .thenReturn(new StoreAttachmentPort.StoredAttachment("thumb.png", THUMB_PATH));
+    }
+
+    @Test
+    @DisplayName("원본을 읽어 축소본을 저장하고 행을 확정한다 — 확장자는 저장 파일명에서 온다")
+    void generatesAndCompletes() {
+        when(loadBoardAttachmentPort.findById(9L)).thenReturn(Optional.of(attachment(true)));
+        when(storeAttachmentPort.read(ORIGINAL_PATH)).thenReturn(ORIGINAL);
+        givenThumbnail();
+        when(saveBoardAttachmentPort.completeThumbnail(9L, THUMB_PATH)).thenReturn(true);
+
+        service.generateThumbnail(9L);
+
+        verify(saveBoardAttachmentPort).completeThumbnail(9L, THUMB_PATH);
+        verify(storeAttachmentPort, never()).delete(anyString());
+        // 확정 전에 죽어도 청소가 찾을 수 있게 축소본 파일도 저널에 적는다
+        verify(attachmentJournalPort).record(THUMB_PATH, NOW);
+    }
+
+    @Test
+    @DisplayName("못 만드는 형식이면 축소본 없이 확정한다 — 다시 돌지 않게")
+    void completesWithoutThumbnailWhenUnreadable() {
+        when(loadBoardAttachmentPort.findById(9L)).thenReturn(Optional.of(attachment(true)));
+        when(storeAttachmentPort.read(ORIGINAL_PATH)).thenReturn(ORIGINAL);
+        when(generateThumbnailPort.generate(any(), anyString(), org.mockito.ArgumentMatchers.anyInt()))
+                .thenReturn(Optional.empty());
+        when(saveBoardAttachmentPort.completeThumbnail(9L, null)).thenReturn(true);
+
+        service.generateThumbnail(9L);
+
+        verify(saveBoardAttachmentPort).completeThumbnail(9L, null);
+        verify(storeAttachmentPort, never()).store(anyLong(), anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("확정에 지면(지워졌거나 먼저 끝났다) 방금 쓴 축소본을 지운다")
+    void losingCompletionDeletesOwnThumbnail() {
+        when(loadBoardAttachmentPort.findById(9L)).thenReturn(Optional.of(attachment(true)));
+        when(storeAttachmentPort.read(ORIGINAL_PATH)).thenReturn(ORIGINAL);
+        givenThumbnail();
+        when(saveBoardAttachmentPort.completeThumbnail(9L, THUMB_PATH)).thenReturn(false);
+
+        service.generateThumbnail(9L);
+
+        verify(storeAttachmentPort).delete(THUMB_PATH);
+    }
+
+    @Test
+    @DisplayName("확정이 예외로 끝나도 축소본 파일을 남기지 않는다")
+    void failedCompletionDeletesOwnThumbnail() {
+        when(loadBoardAttachmentPort.findById(9L)).thenReturn(Optional.of(attachment(true)));
+        when(storeAttachmentPort.read(ORIGINAL_PATH)).thenReturn(ORIGINAL);
+        givenThumbnail();
+        when(saveBoardAttachmentPort.completeThumbnail(9L, THUMB_PATH)).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> service.generateThumbnail(9L)).isInstanceOf(IllegalStateException.class);
+
+        verify(storeAttachmentPort).delete(THUMB_PATH);
+    }
+
+    @Test
+    @DisplayName("이미 끝났거나 지워진 첨부는 건드리지 않는다 — 신호와 재시도가 겹친 경우")
+    void skipsSettledOrMissing() {
+        when(loadBoardAttachmentPort.findById(9L)).thenReturn(Optional.of(attachment(false)));
+        when(loadBoardAttachmentPort.findById(10L)).thenReturn(Optional.empty());
+
+        service.generateThumbnail(9L);
+        service.generateThumbnail(10L);
+
+        verifyNoInteractions(storeAttachmentPort, generateThumbnailPort, saveBoardAttachmentPort);
+    }
+
+    @Test
+    @DisplayName("원본 파일이 없으면 축소본 없이 확정해 재시도를 끊는다")
+    void missingOriginalSettlesWithoutThumbnail() {
+        when(loadBoardAttachmentPort.findById(9L)).thenReturn(Optional.of(attachment(true)));
+        when(storeAttachmentPort.read(ORIGINAL_PATH)).thenThrow(new BoardAttachmentNotFoundException("없음"));
+
+        service.generateThumbnail(9L);
+
+        verify(saveBoardAttachmentPort).completeThumbnail(9L, null);
+        verifyNoInteractions(generateThumbnailPort);
+    }
+
+    @Test
+    @DisplayName("재시도 대상은 설정한 시간보다 오래 '만드는 중'인 첨부다")
+    void stalledThreshold() {
+        when(loadBoardAttachmentPort.findThumbnailPendingIds(eq(NOW.minusMinutes(10)), org.mockito.ArgumentMatchers.anyInt()))
+                .thenReturn(List.of(3L, 4L));
+
+        assertThat(service.findStalledThumbnails()).containsExactly(3L, 4L);
+    }
+}
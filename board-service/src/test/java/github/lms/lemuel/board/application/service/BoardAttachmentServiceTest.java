@@ -1,10 +1,13 @@
 package github.lms.lemuel.board.application.service;
 
+import github.lms.lemuel.board.application.port.in.AttachmentContent;
+import github.lms.lemuel.board.application.port.out.AttachmentJournalPort;
 import github.lms.lemuel.board.application.port.out.DetectFileTypePort;
-import github.lms.lemuel.board.application.port.out.GenerateThumbnailPort;
 import github.lms.lemuel.board.application.port.out.LoadBoardAttachmentPort;
 import github.lms.lemuel.board.application.port.out.LoadBoardDefinitionPort;
 import github.lms.lemuel.board.application.port.out.LoadBoardPostPort;
+import github.lms.lemuel.board.application.port.out.PublishThumbnailRequestedPort;
+import github.lms.lemuel.board.application.port.out.PublishThumbnailRequestedPort.ThumbnailRequested;
 import github.lms.lemuel.board.application.port.out.SaveBoardAttachmentPort;
 import github.lms.lemuel.board.application.port.out.StoreAttachmentPort;
 import github.lms.lemuel.board.domain.BoardAccessPolicy;
@@ -41,7 +44,6 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -60,6 +62,7 @@ class BoardAttachmentServiceTest {
     private static final BoardAuthor AUTHOR_NAME = new BoardAuthor(10L, "au***");
     private static final DetectedFileType JPEG = DetectedFileType.of("jpg", "image/jpeg", true, "jpeg");
     private static final byte[] CONTENT = new byte[]{1, 2, 3, 4};
+    private static final AttachmentContent SOURCE = AttachmentContent.of(CONTENT);
 
     @Mock
     private LoadBoardDefinitionPort loadBoardDefinitionPort;
@@ -72,17 +75,19 @@ class BoardAttachmentServiceTest {
     @Mock
     private StoreAttachmentPort storeAttachmentPort;
     @Mock
+    private AttachmentJournalPort attachmentJournalPort;
+    @Mock
     private DetectFileTypePort detectFileTypePort;
     @Mock
-    private GenerateThumbnailPort generateThumbnailPort;
+    private PublishThumbnailRequestedPort publishThumbnailRequestedPort;
 
     private BoardAttachmentService service;
 
     @BeforeEach
     void setUp() {
         service = new BoardAttachmentService(loadBoardDefinitionPort, loadBoardPostPort,
-                loadBoardAttachmentPort, saveBoardAttachmentPort, storeAttachmentPort,
-                detectFileTypePort, generateThumbnailPort, Clock.fixed(FIXED, ZoneOffset.UTC));
+                loadBoardAttachmentPort, saveBoardAttachmentPort, storeAttachmentPort, attachmentJournalPort,
+                detectFileTypePort, publishThumbnailRequestedPort, Clock.fixed(FIXED, ZoneOffset.UTC));
     }
 
     private static BoardDefinition definition(int maxCount) {
@@ -114,16 +119,18 @@ class BoardAttachmentServiceTest {
         when(loadBoardPostPort.findById(5L)).thenReturn(Optional.of(post()));
         when(loadBoardAttachmentPort.countByPostId(5L)).thenReturn(0);
         when(detectFileTypePort.detect(CONTENT)).thenReturn(JPEG);
-        when(storeAttachmentPort.store(1L, 5L, "jpg", CONTENT))
+        when(storeAttachmentPort.store(1L, 5L, "jpg", SOURCE))
                 .thenReturn(new StoreAttachmentPort.StoredAttachment("uuid.jpg", "board-1/post-5/uuid.jpg"));
         when(saveBoardAttachmentPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
-        BoardAttachment saved = service.upload("gallery", 5L, AUTHOR, "photo.jpg", CONTENT);
+        BoardAttachment saved = service.upload("gallery", 5L, AUTHOR, "photo.jpg", SOURCE);
 
         assertThat(saved.getKind()).isEqualTo(BoardAttachmentKind.IMAGE);
         assertThat(saved.getContentType()).isEqualTo("image/jpeg");
         assertThat(saved.getOriginalName()).isEqualTo("photo.jpg");
         assertThat(saved.getCreatedAt()).isEqualTo(NOW);
+        // 행이 롤백돼도 청소가 찾을 수 있게 파일 경로를 저널에 적는다
+        verify(attachmentJournalPort).record("board-1/post-5/uuid.jpg", NOW);
     }
 
     @Test
@@ -136,7 +143,7 @@ class BoardAttachmentServiceTest {
         when(detectFileTypePort.detect(CONTENT))
                 .thenReturn(DetectedFileType.of("pdf", "application/pdf", false));
 
-        assertThatThrownBy(() -> service.upload("gallery", 5L, AUTHOR, "photo.jpg", CONTENT))
+        assertThatThrownBy(() -> service.upload("gallery", 5L, AUTHOR, "photo.jpg", SOURCE))
                 .isInstanceOf(BoardInvariantViolationException.class);
 
         verify(storeAttachmentPort, never()).store(anyLong(), anyLong(), anyString(), any());
@@ -151,7 +158,7 @@ class BoardAttachmentServiceTest {
         when(loadBoardAttachmentPort.countByPostId(5L)).thenReturn(2);
         when(detectFileTypePort.detect(CONTENT)).thenReturn(JPEG);
 
-        assertThatThrownBy(() -> service.upload("gallery", 5L, AUTHOR, "photo.jpg", CONTENT))
+        assertThatThrownBy(() -> service.upload("gallery", 5L, AUTHOR, "photo.jpg", SOURCE))
                 .isInstanceOf(BoardInvariantViolationException.class)
                 .hasMessageContaining("최대 2개");
 
@@ -166,7 +173,7 @@ class BoardAttachmentServiceTest {
         when(loadBoardAttachmentPort.countByPostId(5L)).thenReturn(0);
         when(detectFileTypePort.detect(CONTENT)).thenReturn(JPEG);
 
-        assertThatThrownBy(() -> service.upload("gallery", 5L, STRANGER, "photo.jpg", CONTENT))
+        assertThatThrownBy(() -> service.upload("gallery", 5L, STRANGER, "photo.jpg", SOURCE))
                 .isInstanceOf(BoardAccessDeniedException.class);
     }
 
@@ -181,7 +188,7 @@ class BoardAttachmentServiceTest {
                 .thenReturn(new StoreAttachmentPort.StoredAttachment("uuid.jpg", "board-1/post-5/uuid.jpg"));
         when(saveBoardAttachmentPort.save(any())).thenThrow(new IllegalStateException("db down"));
 
-        assertThatThrownBy(() -> service.upload("gallery", 5L, AUTHOR, "photo.jpg", CONTENT))
+        assertThatThrownBy(() -> service.upload("gallery", 5L, AUTHOR, "photo.jpg", SOURCE))
                 .isInstanceOf(IllegalStateException.class);
 
         verify(storeAttachmentPort).delete("board-1/post-5/uuid.jpg");
@@ -217,11 +224,11 @@ class BoardAttachmentServiceTest {
         when(loadBoardDefinitionPort.findByKey("gallery")).thenReturn(Optional.of(definition(3)));
         when(loadBoardAttachmentPort.findById(9L)).thenReturn(Optional.of(attachment(1L)));
         when(loadBoardPostPort.findById(5L)).thenReturn(Optional.of(post()));
-        when(storeAttachmentPort.read("board-1/post-5/uuid.jpg")).thenReturn(CONTENT);
+        when(storeAttachmentPort.read("board-1/post-5/uuid.jpg")).thenReturn(SOURCE);
 
         var download = service.download("gallery", 9L, BoardActor.anonymous());
 
-        assertThat(download.content()).isEqualTo(CONTENT);
+        assertThat(download.content()).isSameAs(SOURCE);
         assertThat(download.attachment().getContentType()).isEqualTo("image/jpeg");
     }
 
@@ -261,49 +268,52 @@ class BoardAttachmentServiceTest {
         verify(loadBoardAttachmentPort).findByPostId(eq(5L));
     }
     @Test
-    @DisplayName("이미지는 축소본을 함께 저장한다 — 목록이 원본을 내려받지 않게")
-    void storesThumbnailForImage() {
+    @DisplayName("이미지는 축소본을 만들지 않고 '만드는 중'으로 저장한 뒤 요청 신호만 낸다 — 응답이 디코딩을 기다리지 않게")
+    void imageUploadDefersThumbnail() {
         when(loadBoardDefinitionPort.findByKey("gallery")).thenReturn(Optional.of(definition(3)));
         when(loadBoardPostPort.findById(5L)).thenReturn(Optional.of(post()));
         when(loadBoardAttachmentPort.countByPostId(5L)).thenReturn(0);
         when(detectFileTypePort.detect(CONTENT)).thenReturn(JPEG);
-        when(generateThumbnailPort.generate(eq(CONTENT), eq("jpg"), anyInt()))
-                .thenReturn(Optional.of(new GenerateThumbnailPort.Thumbnail(new byte[]{9}, "png")));
-        when(storeAttachmentPort.store(1L, 5L, "jpg", CONTENT))
+        when(storeAttachmentPort.store(1L, 5L, "jpg", SOURCE))
                 .thenReturn(new StoreAttachmentPort.StoredAttachment("uuid.jpg", "board-1/post-5/uuid.jpg"));
-        when(storeAttachmentPort.store(eq(1L), eq(5L), eq("png"), any()))
-                .thenReturn(new StoreAttachmentPort.StoredAttachment("thumb.png", "board-1/post-5/thumb.png"));
-        when(saveBoardAttachmentPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(saveBoardAttachmentPort.save(any())).thenAnswer(invocation -> {
+            BoardAttachment toSave = invocation.getArgument(0);
+            return BoardAttachment.rehydrate(9L, 5L, 1L, toSave.getKind(), toSave.getOriginalName(),
+                    toSave.getStoredName(), toSave.getStoragePath(), null, toSave.isThumbnailPending(),
+                    toSave.getContentType(), toSave.getSizeBytes(), toSave.getSortOrder(), toSave.getCreatedAt());
+        });
 
-        BoardAttachment saved = service.upload("gallery", 5L, AUTHOR, "photo.jpg", CONTENT);
+        BoardAttachment saved = service.upload("gallery", 5L, AUTHOR, "photo.jpg", SOURCE);
 
-        assertThat(saved.hasThumbnail()).isTrue();
-        assertThat(saved.displayPath()).isEqualTo("board-1/post-5/thumb.png");
+        assertThat(saved.isThumbnailPending()).isTrue();
+        assertThat(saved.hasThumbnail()).isFalse();
+        // 만드는 중에는 원본으로 떨어진다
+        assertThat(saved.displayPath()).isEqualTo("board-1/post-5/uuid.jpg");
+        verify(publishThumbnailRequestedPort).publish(new ThumbnailRequested(9L));
+        verify(storeAttachmentPort, org.mockito.Mockito.times(1))
+                .store(anyLong(), anyLong(), anyString(), any());
     }
 
     @Test
-    @DisplayName("축소본을 못 만들어도 업로드는 성공한다 — 부가 기능이 본 기능을 죽이지 않는다")
-    void uploadSucceedsWithoutThumbnail() {
+    @DisplayName("형식 판정에는 앞부분만 넘긴다 — 큰 첨부를 통째로 읽지 않는다")
+    void detectsOnHeadOnly() {
+        byte[] large = new byte[DetectFileTypePort.HEAD_BYTES * 4];
+        large[0] = 7;
         when(loadBoardDefinitionPort.findByKey("gallery")).thenReturn(Optional.of(definition(3)));
         when(loadBoardPostPort.findById(5L)).thenReturn(Optional.of(post()));
         when(loadBoardAttachmentPort.countByPostId(5L)).thenReturn(0);
-        when(detectFileTypePort.detect(CONTENT)).thenReturn(JPEG);
-        // WEBP·손상 이미지처럼 리더가 없는 경우
-        when(generateThumbnailPort.generate(any(), anyString(), anyInt())).thenReturn(Optional.empty());
-        when(storeAttachmentPort.store(1L, 5L, "jpg", CONTENT))
-                .thenReturn(new StoreAttachmentPort.StoredAttachment("uuid.jpg", "board-1/post-5/uuid.jpg"));
-        when(saveBoardAttachmentPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        org.mockito.ArgumentCaptor<byte[]> head = org.mockito.ArgumentCaptor.forClass(byte[].class);
+        when(detectFileTypePort.detect(head.capture()))
+                .thenReturn(DetectedFileType.of("pdf", "application/pdf", false));
 
-        BoardAttachment saved = service.upload("gallery", 5L, AUTHOR, "photo.jpg", CONTENT);
+        assertThatThrownBy(() -> service.upload("gallery", 5L, AUTHOR, "photo.jpg", AttachmentContent.of(large)))
+                .isInstanceOf(BoardInvariantViolationException.class);
 
-        assertThat(saved.hasThumbnail()).isFalse();
-        assertThat(saved.displayPath()).isEqualTo("board-1/post-5/uuid.jpg");
-        verify(storeAttachmentPort, org.mockito.Mockito.times(1))
-                .store(anyLong(), anyLong(), anyString(), any());
+        assertThat(head.getValue()).hasSize(DetectFileTypePort.HEAD_BYTES).startsWith((byte) 7);
     }
 
     @Test
-    @DisplayName("이미지가 아니면 축소본 생성기를 부르지 않는다")
+    @DisplayName("이미지가 아니면 축소본을 요청하지 않는다")
     void skipsThumbnailForNonImage() {
         // 이 게시판만 pdf 를 허용한다 — 확장자 정책에 걸려 검증 단계에서 끝나면 검사하려는 것을 못 본다.
         BoardDefinition withPdf = BoardDefinition.rehydrate(1L, "gallery", "갤러리", null, BoardSkin.GALLERY,
@@ -316,13 +326,31 @@ class BoardAttachmentServiceTest {
         when(loadBoardAttachmentPort.countByPostId(5L)).thenReturn(0);
         when(detectFileTypePort.detect(CONTENT))
                 .thenReturn(DetectedFileType.of("pdf", "application/pdf", false));
-        when(storeAttachmentPort.store(1L, 5L, "pdf", CONTENT))
+        when(storeAttachmentPort.store(1L, 5L, "pdf", SOURCE))
                 .thenReturn(new StoreAttachmentPort.StoredAttachment("uuid.pdf", "board-1/post-5/uuid.pdf"));
         when(saveBoardAttachmentPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
-        service.upload("gallery", 5L, AUTHOR, "안내문.pdf", CONTENT);
+        BoardAttachment saved = service.upload("gallery", 5L, AUTHOR, "안내문.pdf", SOURCE);
 
-        verify(generateThumbnailPort, never()).generate(any(), anyString(), anyInt());
+        assertThat(saved.isThumbnailPending()).isFalse();
+        verify(publishThumbnailRequestedPort, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("행 기록이 실패하면 축소본도 요청하지 않는다")
+    void noThumbnailRequestWhenSaveFails() {
+        when(loadBoardDefinitionPort.findByKey("gallery")).thenReturn(Optional.of(definition(3)));
+        when(loadBoardPostPort.findById(5L)).thenReturn(Optional.of(post()));
+        when(loadBoardAttachmentPort.countByPostId(5L)).thenReturn(0);
+        when(detectFileTypePort.detect(CONTENT)).thenReturn(JPEG);
+        when(storeAttachmentPort.store(anyLong(), anyLong(), anyString(), any()))
+                .thenReturn(new StoreAttachmentPort.StoredAttachment("uuid.jpg", "board-1/post-5/uuid.jpg"));
+        when(saveBoardAttachmentPort.save(any())).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> service.upload("gallery", 5L, AUTHOR, "photo.jpg", SOURCE))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(publishThumbnailRequestedPort, never()).publish(any());
     }
 
     @Test
@@ -336,6 +364,25 @@ class BoardAttachmentServiceTest {
 
         verify(storeAttachmentPort).delete("board-1/post-5/uuid.jpg");
         verify(storeAttachmentPort).delete("board-1/post-5/thumb.png");
+        // 파일 삭제가 조용히 실패해도 청소가 다시 보게 지우기 전에 저널에 적는다
+        verify(attachmentJournalPort).record("board-1/post-5/uuid.jpg", NOW);
+        verify(attachmentJournalPort).record("board-1/post-5/thumb.png", NOW);
+    }
+
+    @Test
+    @DisplayName("삭제는 저널을 행보다 먼저 적는다 — 저널은 트랜잭션 밖에서만 커밋된다")
+    void deleteJournalsBeforeRowDelete() {
+        when(loadBoardDefinitionPort.findByKey("gallery")).thenReturn(Optional.of(definition(3)));
+        when(loadBoardAttachmentPort.findById(9L)).thenReturn(Optional.of(attachment(1L)));
+        when(loadBoardPostPort.findById(5L)).thenReturn(Optional.of(post()));
+
+        service.delete("gallery", 9L, AUTHOR);
+
+        var order = org.mockito.Mockito.inOrder(attachmentJournalPort, saveBoardAttachmentPort, storeAttachmentPort);
+        order.verify(attachmentJournalPort).record("board-1/post-5/uuid.jpg", NOW);
+        order.verify(attachmentJournalPort).record("board-1/post-5/thumb.png", NOW);
+        order.verify(saveBoardAttachmentPort).delete(9L);
+        order.verify(storeAttachmentPort).delete("board-1/post-5/uuid.jpg");
     }
 
     @Test
@@ -344,15 +391,15 @@ class BoardAttachmentServiceTest {
         when(loadBoardDefinitionPort.findByKey("gallery")).thenReturn(Optional.of(definition(3)));
         when(loadBoardPostPort.findById(5L)).thenReturn(Optional.of(post()));
         when(loadBoardAttachmentPort.findById(9L)).thenReturn(Optional.of(attachment(1L)));
-        when(storeAttachmentPort.read("board-1/post-5/thumb.png")).thenReturn(CONTENT);
+        when(storeAttachmentPort.read("board-1/post-5/thumb.png")).thenReturn(SOURCE);
 
         assertThat(service.downloadThumbnail("gallery", 9L, BoardActor.anonymous()).content())
-                .isEqualTo(CONTENT);
+                .isSameAs(SOURCE);
 
         when(loadBoardAttachmentPort.findById(9L)).thenReturn(Optional.of(attachment(1L, null)));
-        when(storeAttachmentPort.read("board-1/post-5/uuid.jpg")).thenReturn(CONTENT);
+        when(storeAttachmentPort.read("board-1/post-5/uuid.jpg")).thenReturn(SOURCE);
 
         assertThat(service.downloadThumbnail("gallery", 9L, BoardActor.anonymous()).content())
-                .isEqualTo(CONTENT);
+                .isSameAs(SOURCE);
     }
 }
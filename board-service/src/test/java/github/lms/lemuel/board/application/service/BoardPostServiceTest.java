@@ -2,6 +2,7 @@ package github.lms.lemuel.board.application.service;
 
 import github.lms.lemuel.board.application.port.in.BoardPage;
 import github.lms.lemuel.board.application.port.in.ManagePostUseCase.PostContentCommand;
+import github.lms.lemuel.board.application.port.in.PostCursor;
 import github.lms.lemuel.board.application.port.in.QueryPostUseCase.PostListQuery;
 import github.lms.lemuel.board.application.port.out.LoadBoardDefinitionPort;
 import github.lms.lemuel.board.application.port.out.LoadBoardPostPort;
@@ -61,13 +62,15 @@ class BoardPostServiceTest {
     private SaveBoardPostPort saveBoardPostPort;
     @Mock
     private SanitizeHtmlPort sanitizeHtmlPort;
+    @Mock
+    private PostViewCounter postViewCounter;
 
     private BoardPostService service;
 
     @BeforeEach
     void setUp() {
         service = new BoardPostService(loadBoardDefinitionPort, loadBoardPostPort, saveBoardPostPort,
-                new BoardContentSanitizer(sanitizeHtmlPort), Clock.fixed(FIXED, ZoneOffset.UTC));
+                new BoardContentSanitizer(sanitizeHtmlPort), postViewCounter, Clock.fixed(FIXED, ZoneOffset.UTC));
     }
 
     private static BoardDefinition definition(Long id, List<String> readRoles, boolean active) {
@@ -153,16 +156,27 @@ class BoardPostServiceTest {
     }
 
     @Test
-    @DisplayName("상세 조회는 조회수를 올려 저장한다")
-    void readIncreasesViewCount() {
+    @DisplayName("상세 조회는 조회수를 카운터에 세기만 하고 글을 저장하지 않는다 — 응답에는 자기 조회가 보인다")
+    void readCountsViewWithoutSaving() {
+        BoardActor anonymous = BoardActor.anonymous();
         when(loadBoardDefinitionPort.findByKey("notice")).thenReturn(Optional.of(definition(1L, List.of(), true)));
         when(loadBoardPostPort.findById(5L)).thenReturn(Optional.of(post(5L, 1L, false, BoardPostStatus.PUBLISHED)));
-        when(saveBoardPostPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postViewCounter.record(5L, anonymous)).thenReturn(true);
 
-        BoardPost read = service.read("notice", 5L, BoardActor.anonymous());
+        BoardPost read = service.read("notice", 5L, anonymous);
 
         assertThat(read.getViewCount()).isEqualTo(8L);
-        verify(saveBoardPostPort).save(any(BoardPost.class));
+        verify(saveBoardPostPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("중복 구간 안의 재조회는 응답 조회수도 그대로다")
+    void repeatedReadKeepsViewCount() {
+        when(loadBoardDefinitionPort.findByKey("notice")).thenReturn(Optional.of(definition(1L, List.of(), true)));
+        when(loadBoardPostPort.findById(5L)).thenReturn(Optional.of(post(5L, 1L, false, BoardPostStatus.PUBLISHED)));
+        when(postViewCounter.record(5L, AUTHOR)).thenReturn(false);
+
+        assertThat(service.read("notice", 5L, AUTHOR).getViewCount()).isEqualTo(7L);
     }
 
     @Test
@@ -203,6 +217,31 @@ class BoardPostServiceTest {
         assertThat(captor.getValue().keyword()).isEqualTo("검색어");
     }
 
+    @Test
+    @DisplayName("커서가 오면 정렬 키로 풀어 조건에 싣는다 — 직전 쪽 마지막 글 다음부터 읽는다")
+    void listWithCursor() {
+        when(loadBoardDefinitionPort.findByKey("notice")).thenReturn(Optional.of(definition(1L, List.of(), true)));
+        when(loadBoardPostPort.search(any(), anyInt(), anyInt()))
+                .thenReturn(BoardPage.slice(List.of(), 20, null));
+        BoardPost last = post(42L, 1L, false, BoardPostStatus.PUBLISHED);
+
+        service.list("notice", AUTHOR, new PostListQuery(0, 20, null, null, PostCursor.of(last).encode()));
+
+        ArgumentCaptor<PostSearchCriteria> captor = ArgumentCaptor.forClass(PostSearchCriteria.class);
+        verify(loadBoardPostPort).search(captor.capture(), anyInt(), anyInt());
+        assertThat(captor.getValue().after()).isEqualTo(new PostCursor(false, NOW, 42L));
+    }
+
+    @Test
+    @DisplayName("이 서비스가 만든 커서가 아니면 400 으로 이어질 예외를 던진다")
+    void malformedCursor() {
+        when(loadBoardDefinitionPort.findByKey("notice")).thenReturn(Optional.of(definition(1L, List.of(), true)));
+
+        assertThatThrownBy(() -> service.list("notice", AUTHOR, new PostListQuery(0, 20, null, null, "not-a-cursor")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(loadBoardPostPort, never()).search(any(), anyInt(), anyInt());
+    }
+
     @Test
     @DisplayName("페이지 크기는 상한이 있다 — 한 방에 게시판 전체를 덤프할 수 없다")
     void pageSizeIsCapped() {
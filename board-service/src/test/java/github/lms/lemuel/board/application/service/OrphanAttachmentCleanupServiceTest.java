@@ -1,5 +1,7 @@
 package github.lms.lemuel.board.application.service;
 
+import github.lms.lemuel.board.application.port.in.CleanupOrphanAttachmentUseCase.CleanupResult;
+import github.lms.lemuel.board.application.port.out.AttachmentJournalPort;
 import github.lms.lemuel.board.application.port.out.LoadBoardAttachmentPort;
 import github.lms.lemuel.board.application.port.out.StoreAttachmentPort;
 import github.lms.lemuel.board.application.port.out.StoreAttachmentPort.StoredFile;
@@ -13,13 +15,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -39,13 +46,15 @@ class OrphanAttachmentCleanupServiceTest {
     private LoadBoardAttachmentPort loadBoardAttachmentPort;
     @Mock
     private StoreAttachmentPort storeAttachmentPort;
+    @Mock
+    private AttachmentJournalPort attachmentJournalPort;
 
     private OrphanAttachmentCleanupService service;
 
     @BeforeEach
     void setUp() {
         service = new OrphanAttachmentCleanupService(loadBoardAttachmentPort, storeAttachmentPort,
-                new AttachmentProperties("./data", true, null, 24),
+                attachmentJournalPort, new AttachmentProperties("./data", true, null, 24, null),
                 Clock.fixed(NOW, ZoneOffset.UTC));
     }
 
@@ -59,9 +68,8 @@ class OrphanAttachmentCleanupServiceTest {
         when(storeAttachmentPort.listAll()).thenReturn(List.of(file("board-1/post-1/a.jpg", 999)));
         when(loadBoardAttachmentPort.findAllReferencedPaths()).thenReturn(Set.of("board-1/post-1/a.jpg"));
 
-        assertThat(service.cleanupOrphans()).isEqualTo(
-                new github.lms.lemuel.board.application.port.in.CleanupOrphanAttachmentUseCase
-                        .CleanupResult(1, 0));
+        assertThat(service.reconcileAll()).isEqualTo(
+                new CleanupResult(1, 0, 0));
         verify(storeAttachmentPort, never()).delete(anyString());
     }
 
@@ -74,7 +82,7 @@ class OrphanAttachmentCleanupServiceTest {
         when(loadBoardAttachmentPort.findAllReferencedPaths())
                 .thenReturn(Set.of("board-1/post-1/a.jpg", "board-1/post-1/a-thumb.png"));
 
-        assertThat(service.cleanupOrphans().deleted()).isZero();
+        assertThat(service.reconcileAll().deleted()).isZero();
     }
 
     @Test
@@ -83,7 +91,7 @@ class OrphanAttachmentCleanupServiceTest {
         when(storeAttachmentPort.listAll()).thenReturn(List.of(file("board-1/post-1/new.jpg", 1)));
         when(loadBoardAttachmentPort.findAllReferencedPaths()).thenReturn(Set.of());
 
-        assertThat(service.cleanupOrphans().deleted()).isZero();
+        assertThat(service.reconcileAll().deleted()).isZero();
         verify(storeAttachmentPort, never()).delete(anyString());
     }
 
@@ -94,8 +102,9 @@ class OrphanAttachmentCleanupServiceTest {
                 file("board-1/post-1/exactly.jpg", 24),
                 file("board-1/post-1/older.jpg", 25)));
         when(loadBoardAttachmentPort.findAllReferencedPaths()).thenReturn(Set.of());
+        when(storeAttachmentPort.delete("board-1/post-1/older.jpg")).thenReturn(true);
 
-        assertThat(service.cleanupOrphans().deleted()).isEqualTo(1);
+        assertThat(service.reconcileAll().deleted()).isEqualTo(1);
         verify(storeAttachmentPort).delete("board-1/post-1/older.jpg");
         verify(storeAttachmentPort, never()).delete("board-1/post-1/exactly.jpg");
     }
@@ -108,10 +117,10 @@ class OrphanAttachmentCleanupServiceTest {
                 file("board-1/post-1/orphan.jpg", 100),
                 file("board-2/post-9/orphan2.png", 48)));
         when(loadBoardAttachmentPort.findAllReferencedPaths()).thenReturn(Set.of("board-1/post-1/keep.jpg"));
+        when(storeAttachmentPort.delete(anyString())).thenReturn(true);
 
-        assertThat(service.cleanupOrphans()).isEqualTo(
-                new github.lms.lemuel.board.application.port.in.CleanupOrphanAttachmentUseCase
-                        .CleanupResult(3, 2));
+        assertThat(service.reconcileAll()).isEqualTo(
+                new CleanupResult(3, 2, 0));
         verify(storeAttachmentPort).delete("board-1/post-1/orphan.jpg");
         verify(storeAttachmentPort).delete("board-2/post-9/orphan2.png");
     }
@@ -121,15 +130,102 @@ class OrphanAttachmentCleanupServiceTest {
     void emptyStorageSkipsQuery() {
         when(storeAttachmentPort.listAll()).thenReturn(List.of());
 
-        assertThat(service.cleanupOrphans().scanned()).isZero();
+        assertThat(service.reconcileAll().scanned()).isZero();
         verifyNoInteractions(loadBoardAttachmentPort);
     }
 
     @Test
     @DisplayName("유예 기간을 0 이하로 설정해도 기본값으로 바닥을 깐다 — 업로드 중 파일을 지우지 않게")
     void graceHasFloor() {
-        AttachmentProperties reckless = new AttachmentProperties("./data", true, null, 0);
+        AttachmentProperties reckless = new AttachmentProperties("./data", true, null, 0, null);
 
         assertThat(reckless.cleanupGraceHours()).isEqualTo(24);
     }
+
+    // ── 저널 청소 ────────────────────────────────────────────────────────
+
+    private static final OffsetDateTime CUTOFF = OffsetDateTime.ofInstant(NOW, ZoneOffset.UTC).minusHours(24);
+
+    @Test
+    @DisplayName("저널 청소는 저장소를 훑지 않는다 — 유예가 지난 미참조 기록의 파일만 지우고 기록을 치운다")
+    void journalSweepTouchesOnlyUnboundEntries() {
+        when(attachmentJournalPort.removeBoundBefore(CUTOFF)).thenReturn(5);
+        when(attachmentJournalPort.findUnboundBefore(CUTOFF, OrphanAttachmentCleanupService.JOURNAL_BATCH))
+                .thenReturn(List.of("board-1/post-1/orphan.jpg"));
+        when(storeAttachmentPort.delete("board-1/post-1/orphan.jpg")).thenReturn(true);
+
+        assertThat(service.cleanupOrphans()).isEqualTo(new CleanupResult(6, 1, 0));
+
+        var order = inOrder(storeAttachmentPort, attachmentJournalPort);
+        // 파일을 먼저 지우고 기록을 지운다 — 그 사이에 죽어도 파일이 저널에서 사라지지 않는다
+        order.verify(storeAttachmentPort).delete("board-1/post-1/orphan.jpg");
+        order.verify(attachmentJournalPort).remove(List.of("board-1/post-1/orphan.jpg"));
+        verify(storeAttachmentPort, never()).listAll();
+        verifyNoInteractions(loadBoardAttachmentPort);
+    }
+
+    @Test
+    @DisplayName("밀린 기록은 묶음 단위로 끝까지 돈다")
+    void journalSweepPagesThroughBacklog() {
+        List<String> fullBatch = IntStream.range(0, OrphanAttachmentCleanupService.JOURNAL_BATCH)
+                .mapToObj(i -> "board-1/post-1/" + i + ".jpg").toList();
+        when(attachmentJournalPort.findUnboundBefore(CUTOFF, OrphanAttachmentCleanupService.JOURNAL_BATCH))
+                .thenReturn(fullBatch, List.of("board-1/post-1/last.jpg"));
+        when(storeAttachmentPort.delete(anyString())).thenReturn(true);
+
+        assertThat(service.cleanupOrphans().deleted()).isEqualTo(OrphanAttachmentCleanupService.JOURNAL_BATCH + 1);
+        verify(attachmentJournalPort, times(2)).remove(anyCollection());
+    }
+
+    @Test
+    @DisplayName("유예가 지난 미참조 기록이 없으면 아무것도 지우지 않는다")
+    void emptyJournal() {
+        when(attachmentJournalPort.findUnboundBefore(CUTOFF, OrphanAttachmentCleanupService.JOURNAL_BATCH))
+                .thenReturn(List.of());
+
+        assertThat(service.cleanupOrphans()).isEqualTo(new CleanupResult(0, 0, 0));
+        verify(storeAttachmentPort, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("지우지 못한 파일은 기록을 남기고 실패로 센다 — 다음 회차가 다시 본다")
+    void journalSweepKeepsEntriesOfFailedDeletes() {
+        when(attachmentJournalPort.findUnboundBefore(CUTOFF, OrphanAttachmentCleanupService.JOURNAL_BATCH))
+                .thenReturn(List.of("board-1/post-1/gone.jpg", "board-1/post-1/stuck.jpg"));
+        when(storeAttachmentPort.delete("board-1/post-1/gone.jpg")).thenReturn(true);
+        when(storeAttachmentPort.delete("board-1/post-1/stuck.jpg")).thenReturn(false);
+
+        assertThat(service.cleanupOrphans()).isEqualTo(new CleanupResult(2, 1, 1));
+        verify(attachmentJournalPort).remove(List.of("board-1/post-1/gone.jpg"));
+    }
+
+    @Test
+    @DisplayName("꽉 찬 묶음을 하나도 못 지우면 그 회차는 멈춘다 — 실패한 기록을 되풀이해 읽지 않는다")
+    void journalSweepStopsWhenBatchMakesNoProgress() {
+        List<String> fullBatch = IntStream.range(0, OrphanAttachmentCleanupService.JOURNAL_BATCH)
+                .mapToObj(i -> "board-1/post-1/" + i + ".jpg").toList();
+        when(attachmentJournalPort.findUnboundBefore(CUTOFF, OrphanAttachmentCleanupService.JOURNAL_BATCH))
+                .thenReturn(fullBatch);
+        when(storeAttachmentPort.delete(anyString())).thenReturn(false);
+
+        CleanupResult result = service.cleanupOrphans();
+
+        assertThat(result.deleted()).isZero();
+        assertThat(result.failed()).isEqualTo(OrphanAttachmentCleanupService.JOURNAL_BATCH);
+        verify(attachmentJournalPort, times(1)).findUnboundBefore(CUTOFF, OrphanAttachmentCleanupService.JOURNAL_BATCH);
+        verify(attachmentJournalPort).remove(List.of());
+    }
+
+    @Test
+    @DisplayName("전체 대조도 지우지 못한 파일은 삭제가 아니라 실패로 센다")
+    void reconcileCountsFailedDeletes() {
+        when(storeAttachmentPort.listAll()).thenReturn(List.of(
+                file("board-1/post-1/orphan.jpg", 100),
+                file("board-1/post-1/stuck.jpg", 100)));
+        when(loadBoardAttachmentPort.findAllReferencedPaths()).thenReturn(Set.of());
+        when(storeAttachmentPort.delete("board-1/post-1/orphan.jpg")).thenReturn(true);
+        when(storeAttachmentPort.delete("board-1/post-1/stuck.jpg")).thenReturn(false);
+
+        assertThat(service.reconcileAll()).isEqualTo(new CleanupResult(2, 1, 1));
+    }
 }
@@ -0,0 +1,214 @@
+package github.lms.lemuel.board.application.service;
+
+import github.lms.lemuel.board.application.port.out.IncrementPostViewPort;
+import github.lms.lemuel.board.config.ViewCountProperties;
+import github.lms.lemuel.board.domain.BoardActor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostViewCounterTest {
+
+    private static final BoardActor ANONYMOUS = BoardActor.anonymous();
+    private static final BoardActor USER = BoardActor.of(10L, "USER");
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-08-15T10:00:00Z"));
+    private RecordingPort port;
+
+    @BeforeEach
+    void setUp() {
+        port = new RecordingPort();
+    }
+
+    private PostViewCounter counter(Duration dedupWindow, int dedupMaxEntries) {
+        return new PostViewCounter(port, new ViewCountProperties(5_000L, dedupWindow, dedupMaxEntries), clock);
+    }
+
+    @Test
+    @DisplayName("모아 둔 조회수를 글별로 한 번에 내려보내고 비운다")
+    void flushesAggregatedDeltas() {
+        PostViewCounter counter = counter(Duration.ZERO, 100);
+        counter.record(5L, ANONYMOUS);
+        counter.record(5L, ANONYMOUS);
+        counter.record(7L, USER);
+
+        assertThat(counter.flushViews()).isEqualTo(2);
+        assertThat(port.calls).containsExactly(Map.of(5L, 2L, 7L, 1L));
+
+        assertThat(counter.flushViews()).isZero();
+        assertThat(port.calls).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 재조회는 구간 안이면 세지 않고, 구간이 지나면 다시 센다 — 비로그인은 매번 센다")
+    void dedupPerUserWithinWindow() {
+        PostViewCounter counter = counter(Duration.ofMinutes(30), 100);
+
+        assertThat(counter.record(5L, USER)).isTrue();
+        assertThat(counter.record(5L, USER)).isFalse();
+        assertThat(counter.record(6L, USER)).isTrue();
+        assertThat(counter.record(5L, ANONYMOUS)).isTrue();
+        assertThat(counter.record(5L, ANONYMOUS)).isTrue();
+
+        clock.advance(Duration.ofMinutes(30));
+        assertThat(counter.record(5L, USER)).isTrue();
+        assertThat(counter.pendingViews(5L)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("중복 판정 기억이 상한에 닿으면 새 조회는 기억하지 않고 센다")
+    void dedupMemoryIsBounded() {
+        PostViewCounter counter = counter(Duration.ofMinutes(30), 1);
+        counter.record(5L, USER);
+
+        assertThat(counter.record(6L, USER)).isTrue();
+        assertThat(counter.record(6L, USER)).isTrue();
+        // 이미 기억한 조회는 계속 걸러진다.
+        assertThat(counter.record(5L, USER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 중복 기억은 flush 때 치워져 상한을 다시 쓸 수 있다")
+    void expiredDedupEntriesAreEvictedOnFlush() {
+        PostViewCounter counter = counter(Duration.ofMinutes(30), 1);
+        counter.record(5L, USER);
+        clock.advance(Duration.ofMinutes(31));
+        counter.flushViews();
+
+        assertThat(counter.record(6L, USER)).isTrue();
+        assertThat(counter.record(6L, USER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB 반영이 실패하면 거둔 값을 되돌려 쌓고 다음 바퀴에 함께 내려보낸다")
+    void failedFlushKeepsCounts() {
+        PostViewCounter counter = counter(Duration.ZERO, 100);
+        counter.record(5L, ANONYMOUS);
+        counter.record(5L, ANONYMOUS);
+        port.failNext = true;
+
+        assertThatThrownBy(counter::flushViews).isInstanceOf(IllegalStateException.class);
+        assertThat(counter.pendingViews(5L)).isEqualTo(2L);
+
+        counter.record(5L, ANONYMOUS);
+        counter.flushViews();
+        assertThat(port.calls).containsExactly(Map.of(5L, 3L));
+    }
+
+    @Test
+    @DisplayName("한 바퀴 조용했던 글의 카운터를 떼어 낸 뒤에도 그 뒤 조회는 잃지 않는다")
+    void idlePostsAreRetiredWithoutLosingViews() {
+        PostViewCounter counter = counter(Duration.ZERO, 100);
+        counter.record(5L, ANONYMOUS);
+        counter.flushViews();
+        counter.flushViews();   // 5번 글은 조용했다 — 카운터를 뗀다
+
+        counter.record(5L, ANONYMOUS);
+        counter.flushViews();
+
+        assertThat(port.calls).containsExactly(Map.of(5L, 1L), Map.of(5L, 1L));
+    }
+
+    @Test
+    @DisplayName("조회와 flush 가 겹쳐도 센 만큼 정확히 내려간다")
+    void concurrentRecordAndFlushLoseNothing() throws Exception {
+        PostViewCounter counter = counter(Duration.ZERO, 100);
+        int threads = 8;
+        int viewsPerThread = 5_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    counter.record((long) (i % 3), ANONYMOUS);
+                }
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            counter.flushViews();
+        }
+        pool.shutdown();
+        counter.flushViews();
+        counter.flushViews();
+
+        assertThat(port.total()).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    @DisplayName("종료 직전 flush 는 남은 조회수를 내려보내고, 실패해도 종료를 막지 않는다")
+    void flushOnShutdown() {
+        PostViewCounter counter = counter(Duration.ZERO, 100);
+        counter.record(5L, ANONYMOUS);
+        counter.flushOnShutdown();
+        assertThat(port.calls).containsExactly(Map.of(5L, 1L));
+
+        counter.record(5L, ANONYMOUS);
+        port.failNext = true;
+        counter.flushOnShutdown();
+        assertThat(port.calls).hasSize(1);
+    }
+
+    private static final class RecordingPort implements IncrementPostViewPort {
+
+        private final List<Map<Long, Long>> calls = new ArrayList<>();
+        private boolean failNext;
+
+        @Override
+        public void incrementViews(Map<Long, Long> deltas) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("db down");
+            }
+            calls.add(Map.copyOf(deltas));
+        }
+
+        long total() {
+            return calls.stream().flatMap(call -> call.values().stream()).mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
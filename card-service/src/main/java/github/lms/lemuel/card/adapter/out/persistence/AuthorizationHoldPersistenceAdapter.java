@@ -3,6 +3,7 @@ package github.lms.lemuel.card.adapter.out.persistence;
 import github.lms.lemuel.card.application.port.out.LoadAuthorizationHoldPort;
 import github.lms.lemuel.card.application.port.out.SaveAuthorizationHoldPort;
 import github.lms.lemuel.card.domain.AuthorizationHold;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -60,8 +61,9 @@ public class AuthorizationHoldPersistenceAdapter
     }
 
     @Override
-    public List<AuthorizationHold> findAllActiveAuthorizedBefore(Instant before) {
-        return repository.findAllActiveAuthorizedBefore(before)
+    public List<AuthorizationHold> claimActiveAuthorizedBefore(Instant before, HoldCursor after, int limit) {
+        return repository.claimActiveAuthorizedBefore(before, after.authorizedAt(), after.id(),
+                        PageRequest.of(0, limit))
                 .stream()
                 .map(AuthorizationHoldJpaEntity::toDomain)
                 .toList();
@@ -2,9 +2,12 @@ package github.lms.lemuel.card.adapter.out.persistence;
 
 import github.lms.lemuel.card.domain.HoldStatus;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
@@ -62,12 +65,22 @@ public interface SpringDataAuthorizationHoldRepository
                                        @Param("to") Instant to);
 
     /**
-     * 지정 시각 이전에 승인되고 아직 ACTIVE 상태인 홀드 목록 — 만료 배치 전용.
+     * 미매입 만료 스윕의 청크 claim — (authorized_at, id) 키셋 다음 청크를 {@code FOR UPDATE SKIP LOCKED} 로
+     * 잠근다. lock.timeout −2 가 Hibernate 의 SKIP LOCKED 지정이다. 부분 인덱스
+     * {@code idx_hold_active_authorized (authorized_at, id) WHERE status='ACTIVE'} 가 커버한다.
      */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
     @Query("""
             select h from AuthorizationHoldJpaEntity h
              where h.status = 'ACTIVE'
                and h.authorizedAt < :before
+               and (h.authorizedAt > :afterAuthorizedAt
+                    or (h.authorizedAt = :afterAuthorizedAt and h.id > :afterId))
+             order by h.authorizedAt asc, h.id asc
             """)
-    List<AuthorizationHoldJpaEntity> findAllActiveAuthorizedBefore(@Param("before") Instant before);
+    List<AuthorizationHoldJpaEntity> claimActiveAuthorizedBefore(@Param("before") Instant before,
+                                                                 @Param("afterAuthorizedAt") Instant afterAuthorizedAt,
+                                                                 @Param("afterId") Long afterId,
+                                                                 Pageable pageable);
 }
@@ -54,10 +54,19 @@ public interface LoadAuthorizationHoldPort {
     BigDecimal sumHoldsByCardAndMonth(Long cardId, YearMonth month);
 
     /**
-     * 특정 시각 이전에 생성된 ACTIVE 홀드 목록 — 미매입 만료 배치 전용.
-     *
-     * @param before 이 시각보다 이전에 {@code authorized_at} 된 ACTIVE 홀드
-     * @return 만료 대상 홀드 목록
+     * 미매입 만료 스윕의 청크 claim — {@code before} 이전에 승인된 ACTIVE 홀드를 {@code after} 다음부터
+     * (승인 시각, id) 순으로 최대 {@code limit} 건, {@code FOR UPDATE SKIP LOCKED} 로 잠가 가져온다.
+     * 트랜잭션 안에서 불러야 잠금이 처리 끝까지 유지된다.
      */
-    List<AuthorizationHold> findAllActiveAuthorizedBefore(Instant before);
+    List<AuthorizationHold> claimActiveAuthorizedBefore(Instant before, HoldCursor after, int limit);
+
+    /** 만료 스윕의 키셋 커서 — 승인 시각 순서에 id 로 동률을 끊는다. */
+    record HoldCursor(Instant authorizedAt, Long id) {
+
+        public static final HoldCursor START = new HoldCursor(Instant.EPOCH, 0L);
+
+        public static HoldCursor after(AuthorizationHold hold) {
+            return new HoldCursor(hold.getAuthorizedAt(), hold.getId());
+        }
+    }
 }
@@ -2,13 +2,20 @@ package github.lms.lemuel.card.application.service;
 
 import github.lms.lemuel.card.application.port.in.ExpireStaleHoldsUseCase;
 import github.lms.lemuel.card.application.port.out.LoadAuthorizationHoldPort;
+import github.lms.lemuel.card.application.port.out.LoadAuthorizationHoldPort.HoldCursor;
 import github.lms.lemuel.card.application.port.out.SaveAuthorizationHoldPort;
 import github.lms.lemuel.card.domain.AuthorizationHold;
+import github.lms.lemuel.card.domain.HoldStatus;
+import github.lms.lemuel.common.sweep.KeysetSweeper;
+import github.lms.lemuel.common.sweep.SweepJob;
+import github.lms.lemuel.common.sweep.SweepReport;
+import github.lms.lemuel.common.sweep.SweepSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -18,43 +25,96 @@ import java.util.List;
  *
  * <p>지정된 일 수 이상 ACTIVE 로 남아 있는 홀드를 EXPIRED 로 전환해 가용한도를 복구한다.
  *
- * <p>각 홀드를 개별로 갱신한다(배치 단위 트랜잭션 — 한 홀드 실패가 전체를 롤백하지 않도록
- * 호출자({@code HoldExpiryScheduler})에서 예외를 삼킨 뒤 로그로만 남긴다.
+ * <p>공통 스윕 엔진({@link KeysetSweeper})이 (승인 시각, id) 키셋으로 청크를 잠가 가며 청크마다 커밋한다.
+ * 예전에는 후보 전체를 한 트랜잭션에서 읽고 갱신해, 한 건의 저장 실패가 트랜잭션을 rollback-only 로
+ * 만들어 이미 만료한 건까지 되돌렸고 후보가 많으면 트랜잭션이 그만큼 길어졌다. 지금은 실패한 청크만
+ * 건별로 다시 처리하고, 그래도 실패한 홀드는 격리한다.
  */
 @Service
 public class ExpireStaleHoldsService implements ExpireStaleHoldsUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(ExpireStaleHoldsService.class);
 
+    static final String JOB_NAME = "card-hold-expiry";
+
     private final LoadAuthorizationHoldPort loadAuthorizationHoldPort;
     private final SaveAuthorizationHoldPort saveAuthorizationHoldPort;
+    private final KeysetSweeper sweeper;
+    private final SweepSettings sweepSettings;
 
     public ExpireStaleHoldsService(LoadAuthorizationHoldPort loadAuthorizationHoldPort,
-                                    SaveAuthorizationHoldPort saveAuthorizationHoldPort) {
+                                    SaveAuthorizationHoldPort saveAuthorizationHoldPort,
+                                    KeysetSweeper sweeper,
+                                    @Value("${app.card.hold.sweep.chunk-size:100}") int chunkSize,
+                                    @Value("${app.card.hold.sweep.workers:2}") int workers,
+                                    @Value("${app.card.hold.sweep.time-budget:20m}") Duration timeBudget) {
         this.loadAuthorizationHoldPort = loadAuthorizationHoldPort;
         this.saveAuthorizationHoldPort = saveAuthorizationHoldPort;
+        this.sweeper = sweeper;
+        this.sweepSettings = SweepSettings.of(chunkSize, workers, timeBudget);
     }
 
     @Override
-    @Transactional
     public int expireStaleHolds(int expiryDays) {
         Instant threshold = Instant.now().minus(expiryDays, ChronoUnit.DAYS);
-        List<AuthorizationHold> stale = loadAuthorizationHoldPort.findAllActiveAuthorizedBefore(threshold);
-
-        int expired = 0;
-        for (AuthorizationHold hold : stale) {
-            try {
-                hold.expire();
-                saveAuthorizationHoldPort.save(hold);
-                expired++;
-                log.debug("[HoldExpiry] 만료 처리 authorizationId={}", hold.getAuthorizationId());
-            } catch (RuntimeException e) {
-                log.error("[HoldExpiry] 홀드 만료 실패(건너뜀) authorizationId={} error={}",
-                        hold.getAuthorizationId(), e.getMessage());
+        SweepReport report = sweeper.sweep(new StaleHoldSweep(threshold, Duration.ofDays(expiryDays)), sweepSettings);
+
+        log.info("[HoldExpiry] 완료: 만료 {}건, 실패 {}건, 소진={} (threshold={}, expiryDays={})",
+                report.processed(), report.failed(), report.drained(), threshold, expiryDays);
+        return report.processed();
+    }
+
+    private final class StaleHoldSweep implements SweepJob<AuthorizationHold, HoldCursor> {
+
+        private final Instant threshold;
+        private final Duration expiry;
+
+        private StaleHoldSweep(Instant threshold, Duration expiry) {
+            this.threshold = threshold;
+            this.expiry = expiry;
+        }
+
+        @Override
+        public String name() {
+            return JOB_NAME;
+        }
+
+        @Override
+        public HoldCursor start() {
+            return HoldCursor.START;
+        }
+
+        @Override
+        public List<AuthorizationHold> claim(HoldCursor after, int limit) {
+            return loadAuthorizationHoldPort.claimActiveAuthorizedBefore(threshold, after, limit);
+        }
+
+        @Override
+        public HoldCursor keyOf(AuthorizationHold hold) {
+            return HoldCursor.after(hold);
+        }
+
+        /**
+         * 건별 재시도 경로에는 claim 의 잠금이 없으므로 다시 잠그고 상태를 본다 — 그 사이 매입이 도착했으면
+         * 만료하지 않는다.
+         */
+        @Override
+        public boolean process(AuthorizationHold claimed) {
+            AuthorizationHold hold = loadAuthorizationHoldPort
+                    .findByAuthorizationIdForUpdate(claimed.getAuthorizationId())
+                    .orElse(null);
+            if (hold == null || hold.getStatus() != HoldStatus.ACTIVE) {
+                return false;
             }
+            hold.expire();
+            saveAuthorizationHoldPort.save(hold);
+            log.debug("[HoldExpiry] 만료 처리 authorizationId={}", hold.getAuthorizationId());
+            return true;
         }
 
-        log.info("[HoldExpiry] 완료: 만료 {}건 (threshold={}, expiryDays={})", expired, threshold, expiryDays);
-        return expired;
+        @Override
+        public Instant dueAt(AuthorizationHold hold) {
+            return hold.getAuthorizedAt().plus(expiry);
+        }
     }
 }
@@ -0,0 +1,20 @@
+package github.lms.lemuel.card.config;
+
+import github.lms.lemuel.common.sweep.KeysetSweeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 공통 스윕 엔진 배선 — 미매입 홀드 만료 배치가 쓴다. 청크마다 새 트랜잭션을 연다.
+ */
+@Configuration
+public class SweepConfig {
+
+    @Bean
+    public KeysetSweeper keysetSweeper(PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry) {
+        return KeysetSweeper.transactional(transactionManager, meterRegistry);
+    }
+}
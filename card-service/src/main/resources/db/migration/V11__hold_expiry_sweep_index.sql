@@ -0,0 +1,9 @@
+-- V11: 미매입 홀드 만료 스윕 인덱스
+--
+-- 만료 배치가 공통 스윕 엔진(KeysetSweeper)으로 옮겨 가며, 후보를 한 번에 전부 읽는 대신
+-- (authorized_at, id) 키셋으로 청크를 FOR UPDATE SKIP LOCKED 로 잠가 간다.
+-- 기존 idx_hold_card_status 는 card_id 가 앞이라 이 순서를 덮지 못한다.
+-- ACTIVE 만 색인하므로 매입·만료로 닫힌 홀드가 아무리 쌓여도 스캔 대상이 늘지 않는다.
+
+CREATE INDEX idx_hold_active_authorized
+    ON authorization_holds (authorized_at, id) WHERE status = 'ACTIVE';
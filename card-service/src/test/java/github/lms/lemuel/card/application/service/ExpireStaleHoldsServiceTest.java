@@ -0,0 +1,123 @@
+package github.lms.lemuel.card.application.service;
+
+import github.lms.lemuel.card.application.port.out.LoadAuthorizationHoldPort;
+import github.lms.lemuel.card.application.port.out.LoadAuthorizationHoldPort.HoldCursor;
+import github.lms.lemuel.card.application.port.out.SaveAuthorizationHoldPort;
+import github.lms.lemuel.card.domain.AuthorizationHold;
+import github.lms.lemuel.card.domain.HoldStatus;
+import github.lms.lemuel.common.sweep.KeysetSweeper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 미매입 홀드 만료 — 공통 스윕 엔진 위의 잡 정의.
+ *
+ * <p>엔진은 트랜잭션 없이 돌려 잡의 판정만 본다. 실 PostgreSQL 의 SKIP LOCKED·청크 커밋은
+ * {@code HoldExpiryIT} 가 덮는다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExpireStaleHoldsServiceTest {
+
+    @Mock LoadAuthorizationHoldPort loadPort;
+    @Mock SaveAuthorizationHoldPort savePort;
+
+    ExpireStaleHoldsService service;
+
+    @BeforeEach
+    void setUp() {
+        KeysetSweeper sweeper = new KeysetSweeper(TransactionOperations.withoutTransaction(),
+                new SimpleMeterRegistry(), Clock.systemUTC());
+        service = new ExpireStaleHoldsService(loadPort, savePort, sweeper, 100, 1, Duration.ofMinutes(5));
+    }
+
+    private static AuthorizationHold hold(long id, HoldStatus status) {
+        return AuthorizationHold.builder()
+                .id(id)
+                .authorizationId("AUTH-" + id)
+                .cardId(9001L)
+                .cardAccountId(5001L)
+                .holderUserId(888L)
+                .amount(new BigDecimal("45000"))
+                .status(status)
+                .merchantName("테스트가맹점")
+                .mcc("5812")
+                .authorizedAt(Instant.now().minus(10, ChronoUnit.DAYS))
+                .build();
+    }
+
+    @Test
+    @DisplayName("잠근 ACTIVE 홀드를 EXPIRED 로 저장하고 건수를 돌려준다")
+    void expiresClaimedActiveHolds() {
+        AuthorizationHold claimed = hold(1L, HoldStatus.ACTIVE);
+        when(loadPort.claimActiveAuthorizedBefore(any(), eq(HoldCursor.START), eq(100)))
+                .thenReturn(List.of(claimed));
+        when(loadPort.claimActiveAuthorizedBefore(any(), eq(HoldCursor.after(claimed)), eq(100)))
+                .thenReturn(List.of());
+        when(loadPort.findByAuthorizationIdForUpdate("AUTH-1"))
+                .thenReturn(Optional.of(hold(1L, HoldStatus.ACTIVE)));
+
+        int expired = service.expireStaleHolds(7);
+
+        ArgumentCaptor<AuthorizationHold> saved = ArgumentCaptor.forClass(AuthorizationHold.class);
+        verify(savePort).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(HoldStatus.EXPIRED);
+        assertThat(expired).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잠그고 보니 이미 매입된 홀드는 만료하지 않는다 — 스캔과 처리 사이의 매입")
+    void skipsHoldCapturedMeanwhile() {
+        when(loadPort.claimActiveAuthorizedBefore(any(), any(), anyInt()))
+                .thenReturn(List.of(hold(2L, HoldStatus.ACTIVE)), List.of());
+        when(loadPort.findByAuthorizationIdForUpdate("AUTH-2"))
+                .thenReturn(Optional.of(hold(2L, HoldStatus.CAPTURED)));
+
+        int expired = service.expireStaleHolds(7);
+
+        verify(savePort, never()).save(any());
+        assertThat(expired).isZero();
+    }
+
+    @Test
+    @DisplayName("한 홀드의 저장 실패가 다른 홀드의 만료를 되돌리지 않는다")
+    void oneFailureDoesNotUndoOthers() {
+        when(loadPort.claimActiveAuthorizedBefore(any(), any(), anyInt()))
+                .thenReturn(List.of(hold(3L, HoldStatus.ACTIVE), hold(4L, HoldStatus.ACTIVE)), List.of());
+        when(loadPort.findByAuthorizationIdForUpdate("AUTH-3"))
+                .thenAnswer(inv -> Optional.of(hold(3L, HoldStatus.ACTIVE)));
+        when(loadPort.findByAuthorizationIdForUpdate("AUTH-4"))
+                .thenAnswer(inv -> Optional.of(hold(4L, HoldStatus.ACTIVE)));
+        when(savePort.save(argThat(h -> h != null && h.getId() == 3L)))
+                .thenThrow(new IllegalStateException("lock timeout"));
+
+        int expired = service.expireStaleHolds(7);
+
+        assertThat(expired).isEqualTo(1);
+        verify(savePort, atLeastOnce()).save(argThat(h -> h != null && h.getId() == 4L));
+    }
+}
@@ -12,6 +12,10 @@ plugins {
 //   물지 않는다 — 자체 최소 SecurityConfig 보유.
 
 dependencies {
+    // 수집 배치 지원(다중 행 upsert)만 — shared-common 의 batch 기능 변형이라 본체(JWT·Outbox·Kafka·자동 구성)는 따라오지 않는다.
+    implementation("github.lms.lemuel:shared-common:1.0.0") {
+        capabilities { requireCapability("github.lms.lemuel:shared-common-batch") }
+    }
     // Spring Boot 스타터
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
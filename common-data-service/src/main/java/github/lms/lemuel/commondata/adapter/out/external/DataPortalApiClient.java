@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 공공데이터포털(data.go.kr) 표준 봉투 HTTP 클라이언트.
@@ -28,7 +29,8 @@ import java.util.Map;
  *   <li>데이터 없음: resultCode {@code "03"}(NODATA) → 빈 리스트. 그 외 코드는 예외.</li>
  *   <li>아이템 노드는 {@code body.items.item}(배열/단일 객체) 또는 {@code body.items}(배열) 모두 지원.</li>
  *   <li>페이지네이션: totalCount 기준 전 페이지 순회. totalCount 를 안 주는 API 는
- *       "받은 행 < pageSize" 로 종료 판정하고, MAX_PAGES 안전 상한으로 무한 루프를 막는다.</li>
+ *       "받은 행 < pageSize" 로 종료 판정하고, MAX_PAGES 안전 상한으로 무한 루프를 막는다.
+ *       페이지는 받는 대로 하나씩 넘기고, 이어하기는 {@code fromPage} 의 pageNo 부터 요청한다.</li>
  *   <li>JSON 형식 지정 파라미터({@code _type}/{@code resultType})는 API 마다 달라 클라이언트가
  *       임의로 붙이지 않는다 — 소스 defaultParams 로 등록하는 것이 계약.</li>
  * </ul>
@@ -64,14 +66,14 @@ public class DataPortalApiClient implements DataPortalClientPort {
     }
 
     @Override
-    public List<PortalItem> fetchItems(DataSource source, Map<String, String> overrideParams) {
+    public void fetchPages(DataSource source, Map<String, String> overrideParams, int fromPage,
+                           Consumer<PortalPage> onPage) {
         Map<String, String> params = new LinkedHashMap<>(source.defaultParams());
         if (overrideParams != null) {
             params.putAll(overrideParams);
         }
 
-        List<PortalItem> all = new ArrayList<>();
-        int pageNo = 1;
+        int pageNo = Math.max(1, fromPage);
         while (pageNo <= MAX_PAGES) {
             JsonNode body = getBody(source, params, pageNo);
             if (body == null) {
@@ -81,12 +83,14 @@ public class DataPortalApiClient implements DataPortalClientPort {
             if (items.isEmpty()) {
                 break;
             }
+            List<PortalItem> portalItems = new ArrayList<>(items.size());
             for (JsonNode item : items) {
                 PortalItem portalItem = toPortalItem(item, source.keyFields());
                 if (portalItem != null) {
-                    all.add(portalItem);
+                    portalItems.add(portalItem);
                 }
             }
+            onPage.accept(new PortalPage(pageNo, portalItems));
             int totalCount = body.path("totalCount").asInt(0);
             long fetched = (long) pageNo * source.pageSize();
             boolean lastPage = totalCount > 0
@@ -97,7 +101,6 @@ public class DataPortalApiClient implements DataPortalClientPort {
             }
             pageNo++;
         }
-        return all;
     }
 
     // ---- 내부 구현 ----
@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 서울 열린데이터광장(openapi.seoul.go.kr) 봉투 HTTP 클라이언트.
@@ -33,7 +34,8 @@ import java.util.Map;
  *       플랫 {@code "RESULT.CODE"} 를 함께 인식한다 — 실시간 도시데이터 계열 봉투.</li>
  *   <li>INFO-200(데이터 없음)은 빈 리스트, 그 외 비 INFO-000 코드는 예외.</li>
  *   <li>list_total_count 기준 전 구간 순회, 미제공이면 "받은 행 &lt; 윈도우 크기" 로 종료.
- *       {@code MAX_PAGES} 안전 상한으로 무한 루프를 막는다.</li>
+ *       {@code MAX_PAGES} 안전 상한으로 무한 루프를 막는다. 구간은 한 페이지씩 넘기고, 이어하기는
+ *       {@code fromPage} 로 START 인덱스를 건너뛴다.</li>
  * </ul>
  */
 @Component
@@ -46,7 +48,7 @@ public class SeoulOpenApiClient implements DataPortalClientPort {
     static final String PARAM_SERVICE = "service";
     /** defaultParams 예약 키 — START/END 뒤에 붙는 후행 경로(장소명·날짜 등, {@code /} 구분). */
     static final String PARAM_PATH = "path";
-    /** START/END 를 무시하고 같은 구간을 반복하는 API 로부터의 무한 루프 방지 상한. */
+    /** START/END 를 무시하고 같은 구간을 반복하는 API 로부터의 무한 루프 방지 상한(페이지 번호 기준). */
     private static final int MAX_PAGES = 100;
     private static final String RESULT_FIELD = "RESULT";
     private static final String ROW_FIELD = "row";
@@ -74,7 +76,8 @@ public class SeoulOpenApiClient implements DataPortalClientPort {
     }
 
     @Override
-    public List<PortalItem> fetchItems(DataSource source, Map<String, String> overrideParams) {
+    public void fetchPages(DataSource source, Map<String, String> overrideParams, int fromPage,
+                           Consumer<PortalPage> onPage) {
         Map<String, String> params = new LinkedHashMap<>(source.defaultParams());
         if (overrideParams != null) {
             params.putAll(overrideParams);
@@ -87,10 +90,10 @@ public class SeoulOpenApiClient implements DataPortalClientPort {
         }
         String path = params.get(PARAM_PATH);
 
-        List<PortalItem> all = new ArrayList<>();
         int windowSize = source.pageSize();
-        int start = 1;
-        for (int page = 0; page < MAX_PAGES; page++) {
+        int firstPage = Math.max(1, fromPage);
+        int start = (firstPage - 1) * windowSize + 1;
+        for (int page = firstPage; page <= MAX_PAGES; page++) {
             int end = start + windowSize - 1;
             Page result = getPage(source, service, path, start, end);
             if (result == null) {
@@ -99,12 +102,14 @@ public class SeoulOpenApiClient implements DataPortalClientPort {
             if (result.rows.isEmpty()) {
                 break;
             }
+            List<PortalItem> items = new ArrayList<>(result.rows.size());
             for (JsonNode row : result.rows) {
                 PortalItem item = toPortalItem(row, source.keyFields());
                 if (item != null) {
-                    all.add(item);
+                    items.add(item);
                 }
             }
+            onPage.accept(new PortalPage(page, items));
             boolean lastPage = result.totalCount > 0
                     ? end >= result.totalCount
                     : result.rows.size() < windowSize;
@@ -113,7 +118,6 @@ public class SeoulOpenApiClient implements DataPortalClientPort {
             }
             start = end + 1;
         }
-        return all;
     }
 
     // ---- 내부 구현 ----
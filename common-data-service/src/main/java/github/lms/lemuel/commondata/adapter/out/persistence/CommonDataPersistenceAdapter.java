@@ -3,6 +3,7 @@ package github.lms.lemuel.commondata.adapter.out.persistence;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import github.lms.lemuel.common.batch.MultiRowUpsert;
 import github.lms.lemuel.commondata.application.port.out.LoadDataRecordPort;
 import github.lms.lemuel.commondata.application.port.out.LoadDataSourcePort;
 import github.lms.lemuel.commondata.application.port.out.SaveDataRecordPort;
@@ -11,19 +12,28 @@ import github.lms.lemuel.commondata.domain.DataProvider;
 import github.lms.lemuel.commondata.domain.DataRecord;
 import github.lms.lemuel.commondata.domain.DataSource;
 import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * 데이터소스/레코드 영속성 어댑터.
  *
  * <p>도메인의 defaultParams(Map)·keyFields(List)를 컬럼(JSON 문자열·CSV)으로 오가는 변환을
- * 여기서 담당한다 — 도메인·엔티티는 서로를 모른다.
+ * 여기서 담당한다 — 도메인·엔티티는 서로를 모른다. 레코드 쓰기는 페이지 단위 다중 행 upsert 라
+ * 엔티티를 거치지 않고 JdbcTemplate 로 보낸다.
  */
 @Component
 public class CommonDataPersistenceAdapter
@@ -31,16 +41,35 @@ public class CommonDataPersistenceAdapter
 
     private static final TypeReference<Map<String, String>> PARAMS_TYPE = new TypeReference<>() { };
 
+    /** 한 문장의 최대 행 수 — 행당 파라미터 5개. */
+    static final int ROWS_PER_STATEMENT = 500;
+
+    // 해시가 같으면 갱신하지 않는다 — 조회 뒤 다른 수집이 먼저 같은 값을 쓴 경우까지 여기서 걸러진다.
+    private static final MultiRowUpsert<RecordRow> UPSERT = new MultiRowUpsert<>("""
+            INSERT INTO data_records AS r (source_id, record_key, payload, payload_hash, collected_at)
+            VALUES\s""", "(?, ?, ?, ?, ?)", """
+             ON CONFLICT (source_id, record_key) DO UPDATE
+            SET payload      = EXCLUDED.payload,
+                payload_hash = EXCLUDED.payload_hash,
+                collected_at = EXCLUDED.collected_at
+            WHERE r.payload_hash IS DISTINCT FROM EXCLUDED.payload_hash
+            """, ROWS_PER_STATEMENT,
+            Comparator.comparingLong(RecordRow::sourceId).thenComparing(row -> row.record().recordKey()),
+            CommonDataPersistenceAdapter::bind);
+
     private final DataSourceRepository dataSourceRepository;
     private final DataRecordRepository dataRecordRepository;
     private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     public CommonDataPersistenceAdapter(DataSourceRepository dataSourceRepository,
                                         DataRecordRepository dataRecordRepository,
-                                        ObjectMapper objectMapper) {
+                                        ObjectMapper objectMapper,
+                                        JdbcTemplate jdbcTemplate) {
         this.dataSourceRepository = dataSourceRepository;
         this.dataRecordRepository = dataRecordRepository;
         this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -81,17 +110,49 @@ public class CommonDataPersistenceAdapter
                 .orElseGet(List::of);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, String> findPayloadHashes(String sourceCode, Collection<String> recordKeys) {
+        if (recordKeys.isEmpty()) {
+            return Map.of();
+        }
+        return dataSourceRepository.findByCode(sourceCode)
+                .map(source -> dataRecordRepository.findPayloadHashes(source.getId(), recordKeys).stream()
+                        .filter(stored -> stored.getPayloadHash() != null)
+                        .collect(Collectors.toMap(DataRecordRepository.StoredHash::getRecordKey,
+                                DataRecordRepository.StoredHash::getPayloadHash)))
+                .orElseGet(Map::of);
+    }
+
+    /**
+     * 다중 행 VALUES 로 upsert 한다({@link MultiRowUpsert} — (source_id, record_key) 순 잠금, 문장 분할).
+     * 한 문장 안에 같은 key 가 두 번 있으면 PostgreSQL 이 거부하므로 중복 key 는 호출자가 미리 걸러 보낸다.
+     */
     @Override
     @Transactional
-    public void upsert(DataRecord record) {
-        DataSourceJpaEntity source = dataSourceRepository.findByCode(record.sourceCode())
-                .orElseThrow(() -> new IllegalStateException(
-                        "레코드가 참조하는 데이터소스가 없습니다: " + record.sourceCode()));
-        DataRecordJpaEntity entity = dataRecordRepository
-                .findBySourceIdAndRecordKey(source.getId(), record.recordKey())
-                .orElseGet(() -> DataRecordJpaEntity.create(source.getId(), record.recordKey()));
-        entity.apply(record.payload(), record.collectedAt());
-        dataRecordRepository.save(entity);
+    public int upsertAll(List<DataRecord> records) {
+        Map<String, Long> sourceIds = new HashMap<>();
+        List<RecordRow> rows = new ArrayList<>(records.size());
+        for (DataRecord record : records) {
+            long sourceId = sourceIds.computeIfAbsent(record.sourceCode(), code -> dataSourceRepository
+                    .findByCode(code)
+                    .orElseThrow(() -> new IllegalStateException("레코드가 참조하는 데이터소스가 없습니다: " + code))
+                    .getId());
+            rows.add(new RecordRow(sourceId, record));
+        }
+        return UPSERT.execute(jdbcTemplate, rows);
+    }
+
+    /** upsert 한 행 — 소스 코드를 FK 로 풀어 둔 레코드. */
+    private record RecordRow(long sourceId, DataRecord record) { }
+
+    private static void bind(RecordRow row, List<Object> args) {
+        DataRecord record = row.record();
+        args.add(row.sourceId());
+        args.add(record.recordKey());
+        args.add(record.payload());
+        args.add(record.payloadHash());
+        args.add(Timestamp.from(record.collectedAt() != null ? record.collectedAt() : Instant.now()));
     }
 
     // ---- 변환 ----
@@ -11,6 +11,10 @@ import org.hibernate.annotations.JdbcTypeCode;
 import java.sql.Types;
 import java.time.Instant;
 
+/**
+ * 수집 레코드 — 읽기 전용 매핑. 쓰기는 어댑터의 다중 행 upsert 하나뿐이라(payload 와 payload_hash 를 함께 씀)
+ * 해시 없이 payload 만 바꾸는 쓰기 경로를 엔티티에 두지 않는다.
+ */
 @Entity
 @Table(name = "data_records")
 public class DataRecordJpaEntity {
@@ -30,6 +34,10 @@ public class DataRecordJpaEntity {
     @Column(name = "payload", nullable = false)
     private String payload;
 
+    /** payload SHA-256 hex — 재수집 변경 판정용. */
+    @Column(name = "payload_hash", length = 64)
+    private String payloadHash;
+
     @Column(name = "collected_at", nullable = false)
     private Instant collectedAt;
 
@@ -51,16 +59,4 @@ public class DataRecordJpaEntity {
     Instant getCollectedAt() {
         return collectedAt;
     }
-
-    static DataRecordJpaEntity create(Long sourceId, String recordKey) {
-        DataRecordJpaEntity entity = new DataRecordJpaEntity();
-        entity.sourceId = sourceId;
-        entity.recordKey = recordKey;
-        return entity;
-    }
-
-    void apply(String payload, Instant collectedAt) {
-        this.payload = payload;
-        this.collectedAt = collectedAt != null ? collectedAt : Instant.now();
-    }
 }
@@ -2,13 +2,26 @@ package github.lms.lemuel.commondata.adapter.out.persistence;
 
 import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 public interface DataRecordRepository extends JpaRepository<DataRecordJpaEntity, Long> {
 
-    Optional<DataRecordJpaEntity> findBySourceIdAndRecordKey(Long sourceId, String recordKey);
-
     List<DataRecordJpaEntity> findBySourceIdOrderByCollectedAtDescIdDesc(Long sourceId, Limit limit);
+
+    /** 페이지 하나의 key 들에 대한 저장 payload 해시 — (source_id, record_key) UNIQUE 인덱스로 찾는다. */
+    @Query("select r.recordKey as recordKey, r.payloadHash as payloadHash from DataRecordJpaEntity r "
+            + "where r.sourceId = :sourceId and r.recordKey in :recordKeys")
+    List<StoredHash> findPayloadHashes(@Param("sourceId") Long sourceId,
+                                       @Param("recordKeys") Collection<String> recordKeys);
+
+    interface StoredHash {
+
+        String getRecordKey();
+
+        String getPayloadHash();
+    }
 }
@@ -0,0 +1,54 @@
+package github.lms.lemuel.commondata.adapter.out.persistence;
+
+import github.lms.lemuel.commondata.application.port.out.SyncCheckpointPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * 공공데이터 수집 페이지 체크포인트 — 엔티티 없이 JdbcTemplate 로 읽고 쓴다(페이지마다 한 행을 덮어쓴다).
+ */
+@Component
+public class SyncCheckpointPersistenceAdapter implements SyncCheckpointPort {
+
+    private static final String SAVE_SQL = """
+            INSERT INTO data_sync_checkpoints (source_code, params_key, last_page, updated_at)
+            VALUES (?, ?, ?, NOW())
+            ON CONFLICT (source_code, params_key) DO UPDATE
+            SET last_page = EXCLUDED.last_page, updated_at = EXCLUDED.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyncCheckpointPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OptionalInt findLastPage(String sourceCode, String paramsKey, Instant since) {
+        List<Integer> pages = jdbcTemplate.queryForList(
+                "SELECT last_page FROM data_sync_checkpoints "
+                        + "WHERE source_code = ? AND params_key = ? AND updated_at >= ?",
+                Integer.class, sourceCode, paramsKey, Timestamp.from(since));
+        return pages.isEmpty() ? OptionalInt.empty() : OptionalInt.of(pages.getFirst());
+    }
+
+    @Override
+    @Transactional
+    public void saveLastPage(String sourceCode, String paramsKey, int pageNo) {
+        jdbcTemplate.update(SAVE_SQL, sourceCode, paramsKey, pageNo);
+    }
+
+    @Override
+    @Transactional
+    public void clear(String sourceCode, String paramsKey) {
+        jdbcTemplate.update("DELETE FROM data_sync_checkpoints WHERE source_code = ? AND params_key = ?",
+                sourceCode, paramsKey);
+    }
+}
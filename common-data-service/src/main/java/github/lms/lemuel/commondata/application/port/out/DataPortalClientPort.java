@@ -3,8 +3,10 @@ package github.lms.lemuel.commondata.application.port.out;
 import github.lms.lemuel.commondata.domain.DataProvider;
 import github.lms.lemuel.commondata.domain.DataSource;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 공공데이터 수집 HTTP 클라이언트 포트 — 제공처({@link DataProvider})별 구현이 1개씩 있고,
@@ -19,15 +21,28 @@ public interface DataPortalClientPort {
     boolean isConfigured();
 
     /**
-     * 소스의 전 페이지를 순회해 아이템을 수집한다.
+     * 소스를 {@code fromPage}(1-base) 페이지부터 한 페이지씩 받아 {@code onPage} 로 넘긴다.
+     *
+     * <p>다음 페이지는 {@code onPage} 가 돌아온 뒤에 요청한다 — 메모리에는 한 페이지만 머물고, 콜백이 던진
+     * 예외는 그대로 전파돼 순회를 멈춘다. 아이템이 없는 페이지(데이터 없음·끝)는 넘기지 않고 끝낸다.
      *
      * @param overrideParams 소스 defaultParams 위에 덮어쓸 호출 파라미터
      */
-    List<PortalItem> fetchItems(DataSource source, Map<String, String> overrideParams);
+    void fetchPages(DataSource source, Map<String, String> overrideParams, int fromPage, Consumer<PortalPage> onPage);
+
+    /** 전 페이지를 모아 돌려준다 — 소량 조회용. 수집 배치는 {@link #fetchPages} 로 흘려 받는다. */
+    default List<PortalItem> fetchItems(DataSource source, Map<String, String> overrideParams) {
+        List<PortalItem> all = new ArrayList<>();
+        fetchPages(source, overrideParams, 1, page -> all.addAll(page.items()));
+        return all;
+    }
 
     /**
      * @param recordKey   keyFields 값 조인(구분자 {@code |}) — 키 필드 결측 시 payload SHA-256
      * @param payloadJson 아이템 JSON 원문
      */
     record PortalItem(String recordKey, String payloadJson) { }
+
+    /** 응답 한 페이지 — {@code pageNo} 는 이어하기 체크포인트가 기록하는 1-base 페이지 번호다. */
+    record PortalPage(int pageNo, List<PortalItem> items) { }
 }
@@ -2,9 +2,14 @@ package github.lms.lemuel.commondata.application.port.out;
 
 import github.lms.lemuel.commondata.domain.DataRecord;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface LoadDataRecordPort {
 
     List<DataRecord> findLatest(String sourceCode, int limit);
+
+    /** 저장된 레코드의 payload 해시(recordKey → 해시). 없는 key 는 빠진다 — 페이지 단위 변경 판정용. */
+    Map<String, String> findPayloadHashes(String sourceCode, Collection<String> recordKeys);
 }
@@ -2,8 +2,15 @@ package github.lms.lemuel.commondata.application.port.out;
 
 import github.lms.lemuel.commondata.domain.DataRecord;
 
+import java.util.List;
+
 public interface SaveDataRecordPort {
 
-    /** (sourceCode, recordKey) UNIQUE upsert — 재수집은 payload/collectedAt 갱신. */
-    void upsert(DataRecord record);
+    /**
+     * (sourceCode, recordKey) UNIQUE 기준 다중 행 upsert — 재수집은 payload/collectedAt 갱신.
+     * payload 해시가 저장된 값과 같은 행은 건드리지 않는다.
+     *
+     * @return 새로 들어가거나 payload 가 바뀐 행 수
+     */
+    int upsertAll(List<DataRecord> records);
 }
@@ -0,0 +1,21 @@
+package github.lms.lemuel.commondata.application.port.out;
+
+import java.time.Instant;
+import java.util.OptionalInt;
+
+/**
+ * 공공데이터 수집 이어하기용 페이지 체크포인트.
+ *
+ * <p>(소스, 호출 파라미터) 조합마다 DB 에 반영을 마친 마지막 페이지를 기록한다. 중간에 죽은 수집은 다음
+ * 실행이 그 다음 페이지부터 받는다. 끝까지 돈 수집은 {@link #clear} 로 지워 다음 실행이 처음부터 다시 받게
+ * 한다 — 그래도 바뀌지 않은 레코드는 payload 해시로 걸러져 쓰기가 없다.
+ */
+public interface SyncCheckpointPort {
+
+    /** {@code since} 이후 기록된 마지막 반영 페이지 — 그보다 오래된 체크포인트는 이어하기 대상이 아니다. */
+    OptionalInt findLastPage(String sourceCode, String paramsKey, Instant since);
+
+    void saveLastPage(String sourceCode, String paramsKey, int pageNo);
+
+    void clear(String sourceCode, String paramsKey);
+}
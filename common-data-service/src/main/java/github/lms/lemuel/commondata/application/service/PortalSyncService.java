@@ -4,26 +4,47 @@ import github.lms.lemuel.commondata.application.port.in.SyncDataSourceUseCase;
 import github.lms.lemuel.commondata.application.port.in.SyncResult;
 import github.lms.lemuel.commondata.application.port.out.DataPortalClientPort;
 import github.lms.lemuel.commondata.application.port.out.DataPortalClientPort.PortalItem;
+import github.lms.lemuel.commondata.application.port.out.DataPortalClientPort.PortalPage;
+import github.lms.lemuel.commondata.application.port.out.LoadDataRecordPort;
 import github.lms.lemuel.commondata.application.port.out.LoadDataSourcePort;
 import github.lms.lemuel.commondata.application.port.out.SaveDataRecordPort;
+import github.lms.lemuel.commondata.application.port.out.SyncCheckpointPort;
 import github.lms.lemuel.commondata.domain.DataRecord;
 import github.lms.lemuel.commondata.domain.DataSource;
 import github.lms.lemuel.commondata.domain.DataSourceNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * 공공데이터포털 수집 배치.
  *
- * <p>등록된 데이터소스 1개의 전 페이지를 받아 {@code (source, recordKey)} UNIQUE upsert 로
- * 저장한다(재수집 멱등). 개별 레코드 저장 실패는 집계만 하고 계속 진행한다 — 한 아이템의
- * 이상값으로 수집 전체를 죽이지 않는다.
+ * <p>등록된 데이터소스 1개를 <b>한 페이지씩</b> 받아 {@code (source, recordKey)} UNIQUE upsert 로
+ * 저장한다(재수집 멱등). 메모리에는 한 페이지만 머문다.
+ *
+ * <ul>
+ *   <li><b>변경분만 쓰기</b> — 페이지의 key 들에 대한 저장 payload 해시를 한 번에 읽어, 해시가 같은 레코드는
+ *       쓰지 않고 나머지를 다중 행 upsert 한 번으로 보낸다. 정적 데이터셋의 재수집은 읽기만 남는다.</li>
+ *   <li><b>이어하기</b> — 페이지를 반영할 때마다 (소스, override 파라미터) 체크포인트를 남긴다. 중간에 죽은
+ *       수집은 {@code resume-window-hours} 안에서 다음 실행이 그 다음 페이지부터 잇고, 끝까지 돈 수집은
+ *       체크포인트를 지워 다음 실행이 처음부터 받는다.</li>
+ *   <li>묶음 upsert 가 실패하면 건별로 다시 나눠 원인 레코드만 실패로 센다 — 한 아이템의 이상값으로 수집
+ *       전체를 죽이지 않는다.</li>
+ * </ul>
+ *
+ * <p>결과의 {@code skipped} 는 키/본문 결측과 payload 가 그대로인 레코드를 함께 센다.
  */
 @Service
 public class PortalSyncService implements SyncDataSourceUseCase {
@@ -32,14 +53,23 @@ public class PortalSyncService implements SyncDataSourceUseCase {
 
     private final List<DataPortalClientPort> portalClients;
     private final LoadDataSourcePort loadDataSourcePort;
+    private final LoadDataRecordPort loadDataRecordPort;
     private final SaveDataRecordPort saveDataRecordPort;
+    private final SyncCheckpointPort checkpointPort;
+    private final Duration resumeWindow;
 
     public PortalSyncService(List<DataPortalClientPort> portalClients,
                              LoadDataSourcePort loadDataSourcePort,
-                             SaveDataRecordPort saveDataRecordPort) {
+                             LoadDataRecordPort loadDataRecordPort,
+                             SaveDataRecordPort saveDataRecordPort,
+                             SyncCheckpointPort checkpointPort,
+                             @Value("${app.commondata.sync.resume-window-hours:24}") long resumeWindowHours) {
         this.portalClients = portalClients;
         this.loadDataSourcePort = loadDataSourcePort;
+        this.loadDataRecordPort = loadDataRecordPort;
         this.saveDataRecordPort = saveDataRecordPort;
+        this.checkpointPort = checkpointPort;
+        this.resumeWindow = Duration.ofHours(Math.max(0, resumeWindowHours));
     }
 
     @Override
@@ -63,33 +93,94 @@ public class PortalSyncService implements SyncDataSourceUseCase {
                             .formatted(source.provider(), sourceCode));
         }
 
-        var items = portalClient.fetchItems(source,
-                overrideParams == null ? Map.of() : overrideParams);
-
-        int scanned = 0;
-        int upserted = 0;
-        int skipped = 0;
-        int failed = 0;
+        Map<String, String> params = overrideParams == null ? Map.of() : overrideParams;
+        String paramsKey = paramsKey(params);
         Instant collectedAt = Instant.now();
-        for (PortalItem item : items) {
-            scanned++;
+        OptionalInt lastPage = checkpointPort.findLastPage(sourceCode, paramsKey, collectedAt.minus(resumeWindow));
+        int fromPage = lastPage.isPresent() ? lastPage.getAsInt() + 1 : 1;
+        if (fromPage > 1) {
+            log.info("공공데이터 수집 이어하기 source={} — {}페이지까지 반영됨, {}페이지부터", sourceCode,
+                    fromPage - 1, fromPage);
+        }
+
+        Tally tally = new Tally();
+        portalClient.fetchPages(source, params, fromPage, page -> {
+            writePage(sourceCode, page, collectedAt, tally);
+            checkpointPort.saveLastPage(sourceCode, paramsKey, page.pageNo());
+        });
+        checkpointPort.clear(sourceCode, paramsKey);
+
+        log.info("공공데이터 수집 완료 source={} — 스캔 {}, upsert {}, 변경 없음 {}, 결측 스킵 {}, 실패 {}",
+                sourceCode, tally.scanned, tally.upserted, tally.unchanged, tally.invalid, tally.failed);
+        return new SyncResult(tally.scanned, tally.upserted, tally.invalid + tally.unchanged, tally.failed);
+    }
+
+    /** 한 페이지 반영 — 결측 제외, 페이지 안 중복 key 는 뒤의 것, 저장 해시와 같은 레코드 제외. */
+    private void writePage(String sourceCode, PortalPage page, Instant collectedAt, Tally tally) {
+        Map<String, DataRecord> byKey = new LinkedHashMap<>();
+        for (PortalItem item : page.items()) {
+            tally.scanned++;
             if (item == null || item.recordKey() == null || item.recordKey().isBlank()
                     || item.payloadJson() == null || item.payloadJson().isBlank()) {
-                skipped++;   // 키/본문 결측 — 저장 스킵
+                tally.invalid++;   // 키/본문 결측 — 저장 스킵
                 continue;
             }
+            // 한 INSERT 안에 같은 key 가 두 번이면 ON CONFLICT 가 거부한다 — 건별 upsert 때처럼 뒤의 것이 남는다.
+            if (byKey.put(item.recordKey(),
+                    new DataRecord(null, sourceCode, item.recordKey(), item.payloadJson(), collectedAt)) != null) {
+                tally.unchanged++;
+            }
+        }
+        if (byKey.isEmpty()) {
+            return;
+        }
+        Map<String, String> stored = loadDataRecordPort.findPayloadHashes(sourceCode, byKey.keySet());
+        List<DataRecord> changed = new ArrayList<>(byKey.size());
+        for (DataRecord record : byKey.values()) {
+            if (record.payloadHash().equals(stored.get(record.recordKey()))) {
+                tally.unchanged++;
+            } else {
+                changed.add(record);
+            }
+        }
+        upsertChanged(sourceCode, changed, tally);
+    }
+
+    private void upsertChanged(String sourceCode, List<DataRecord> changed, Tally tally) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        try {
+            tally.upserted += saveDataRecordPort.upsertAll(changed);
+            return;
+        } catch (RuntimeException e) {
+            log.warn("레코드 묶음 저장 실패 source={} — {}건을 건별로 다시 저장: {}",
+                    sourceCode, changed.size(), e.getMessage());
+        }
+        for (DataRecord record : changed) {
             try {
-                saveDataRecordPort.upsert(new DataRecord(
-                        null, sourceCode, item.recordKey(), item.payloadJson(), collectedAt));
-                upserted++;
+                tally.upserted += saveDataRecordPort.upsertAll(List.of(record));
             } catch (RuntimeException e) {
-                failed++;
-                log.warn("레코드 저장 실패 source={} key={}: {}",
-                        sourceCode, item.recordKey(), e.getMessage());
+                tally.failed++;
+                log.warn("레코드 저장 실패 source={} key={}: {}", sourceCode, record.recordKey(), e.getMessage());
             }
         }
-        log.info("공공데이터 수집 완료 source={} — 스캔 {}, upsert {}, 스킵 {}, 실패 {}",
-                sourceCode, scanned, upserted, skipped, failed);
-        return new SyncResult(scanned, upserted, skipped, failed);
+    }
+
+    /** 체크포인트 식별용 override 파라미터 표기 — 키 순서와 무관하게 같은 호출이면 같은 값. */
+    static String paramsKey(Map<String, String> params) {
+        return new TreeMap<>(params).entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("&"));
+    }
+
+    /** 페이지 콜백이 누적하는 집계 — 페이지는 한 스레드에서 차례로 오므로 동기화가 필요 없다. */
+    private static final class Tally {
+
+        private int scanned;
+        private int upserted;
+        private int unchanged;
+        private int invalid;
+        private int failed;
     }
 }
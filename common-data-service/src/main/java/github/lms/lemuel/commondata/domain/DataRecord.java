@@ -1,13 +1,18 @@
 package github.lms.lemuel.commondata.domain;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HexFormat;
 
 /**
  * 데이터소스에서 수집한 아이템 1건.
  *
  * <p>payload 는 data.go.kr 응답 아이템의 JSON 원문을 그대로 보존한다 — 범용 커넥터라
  * 도메인 특화 스키마를 강제하지 않는다. {@code (sourceCode, recordKey)} 가 멱등 재수집의
- * 자연키이며, 재수집은 payload/collectedAt 갱신으로 흡수된다.
+ * 자연키이며, 재수집은 payload/collectedAt 갱신으로 흡수된다 — payload 가 그대로면({@link #payloadHash()} 동일)
+ * 갱신도 없다.
  */
 public record DataRecord(Long id, String sourceCode, String recordKey,
                          String payload, Instant collectedAt) {
@@ -23,4 +28,14 @@ public record DataRecord(Long id, String sourceCode, String recordKey,
             throw new IllegalArgumentException("payload 은(는) 필수입니다");
         }
     }
+
+    /** payload 원문(UTF-8) SHA-256 hex — 저장된 {@code payload_hash} 와 비교해 재수집 시 변경 여부를 가린다. */
+    public String payloadHash() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원 JVM", e);
+        }
+    }
 }
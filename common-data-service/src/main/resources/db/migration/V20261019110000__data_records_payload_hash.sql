@@ -0,0 +1,22 @@
+-- V20261019110000: 페이지 스트리밍 수집 — payload 해시 변경 판정 + 이어하기 체크포인트 (commondata)
+--
+-- data_records.payload_hash : payload 원문(UTF-8) SHA-256 hex. 재수집은 페이지마다 저장 해시와 비교해
+--                             바뀐 행만 다중 행 upsert 로 보낸다(ON CONFLICT ... WHERE IS DISTINCT FROM).
+--                             기존 행은 여기서 채워 둔다 — 배포 직후 첫 재수집부터 정적 데이터셋은 쓰기가 없다.
+-- data_sync_checkpoints     : (소스, 호출 파라미터) 조합별로 DB 반영을 마친 마지막 페이지. 중간에 죽은 수집은
+--                             다음 실행이 그 다음 페이지부터 잇고, 끝까지 돈 수집은 행을 지운다.
+
+ALTER TABLE data_records ADD COLUMN IF NOT EXISTS payload_hash VARCHAR(64);
+
+UPDATE data_records
+SET payload_hash = encode(sha256(convert_to(payload, 'UTF8')), 'hex')
+WHERE payload_hash IS NULL;
+
+CREATE TABLE IF NOT EXISTS data_sync_checkpoints (
+    source_code VARCHAR(50)  NOT NULL,
+    params_key  TEXT         NOT NULL,              -- override 파라미터 정렬 조인(k=v&..) — 없으면 ''
+    last_page   INT          NOT NULL,              -- 반영을 마친 마지막 페이지(1-base)
+    updated_at  TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (source_code, params_key)
+);
@@ -2,11 +2,13 @@ package github.lms.lemuel.commondata.adapter.out.external;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import github.lms.lemuel.commondata.application.port.out.DataPortalClientPort.PortalItem;
+import github.lms.lemuel.commondata.application.port.out.DataPortalClientPort.PortalPage;
 import github.lms.lemuel.commondata.domain.DataSource;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -72,6 +74,24 @@ class DataPortalApiClientTest {
         server.verify();
     }
 
+    @Test
+    void fetchPages_는_fromPage_부터_한_페이지씩_넘긴다() {
+        DataPortalApiClient client = clientWith("KEY");
+        server.expect(requestTo(containsString("pageNo=2")))
+                .andRespond(withSuccess(envelope("3",
+                        "{\"item\":[{\"locdate\":\"20260217\"}]}"), APPLICATION_JSON));
+        server.expect(requestTo(containsString("pageNo=3")))
+                .andRespond(withSuccess(envelope("3",
+                        "{\"item\":[{\"locdate\":\"20260301\"}]}"), APPLICATION_JSON));
+        List<PortalPage> pages = new ArrayList<>();
+
+        client.fetchPages(source(List.of("locdate"), 1), Map.of(), 2, pages::add);
+
+        assertThat(pages).extracting(PortalPage::pageNo).containsExactly(2, 3);
+        assertThat(pages.get(1).items()).extracting(PortalItem::recordKey).containsExactly("20260301");
+        server.verify();
+    }
+
     @Test
     void item_단건객체도_지원한다() {
         DataPortalApiClient client = clientWith("KEY");
@@ -1,12 +1,14 @@
 package github.lms.lemuel.commondata.adapter.out.external;
 
 import github.lms.lemuel.commondata.application.port.out.DataPortalClientPort.PortalItem;
+import github.lms.lemuel.commondata.application.port.out.DataPortalClientPort.PortalPage;
 import github.lms.lemuel.commondata.domain.DataProvider;
 import github.lms.lemuel.commondata.domain.DataSource;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -91,6 +93,22 @@ class SeoulOpenApiClientTest {
         server.verify();
     }
 
+    @Test
+    void fetchPages_는_fromPage_의_START_인덱스부터_이어받는다() {
+        SeoulOpenApiClient client = clientWith("SEOULKEY");
+        server.expect(requestTo(containsString("/json/SPOP_LOCL_RESD_DONG/3/4")))
+                .andRespond(withSuccess(envelope("SPOP_LOCL_RESD_DONG", 3,
+                        "[{\"K\":\"c\"}]"), APPLICATION_JSON));
+        List<PortalPage> pages = new ArrayList<>();
+
+        client.fetchPages(source(Map.of("service", "SPOP_LOCL_RESD_DONG"), List.of("K"), 2), Map.of(), 2,
+                pages::add);
+
+        assertThat(pages).extracting(PortalPage::pageNo).containsExactly(2);
+        assertThat(pages.getFirst().items()).extracting(PortalItem::recordKey).containsExactly("c");
+        server.verify();
+    }
+
     @Test
     void path_후행경로는_URL_세그먼트로_붙고_override_로_교체가능() {
         SeoulOpenApiClient client = clientWith("SEOULKEY");
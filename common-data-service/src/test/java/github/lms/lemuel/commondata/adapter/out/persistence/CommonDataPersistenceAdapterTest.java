@@ -7,31 +7,38 @@ import github.lms.lemuel.commondata.domain.DataSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class CommonDataPersistenceAdapterTest {
 
     private DataSourceRepository sourceRepository;
     private DataRecordRepository recordRepository;
+    private JdbcTemplate jdbcTemplate;
     private CommonDataPersistenceAdapter adapter;
 
     @BeforeEach
     void setUp() {
         sourceRepository = mock(DataSourceRepository.class);
         recordRepository = mock(DataRecordRepository.class);
-        adapter = new CommonDataPersistenceAdapter(sourceRepository, recordRepository, new ObjectMapper());
+        jdbcTemplate = mock(JdbcTemplate.class);
+        adapter = new CommonDataPersistenceAdapter(sourceRepository, recordRepository, new ObjectMapper(), jdbcTemplate);
     }
 
     private static DataSourceJpaEntity entity(String code, String defaultParams, String keyFields) {
@@ -122,8 +129,10 @@ class CommonDataPersistenceAdapterTest {
         DataSourceJpaEntity src = entity("src-a", "{}", null);
         setId(src, 7L);
         when(sourceRepository.findByCode("src-a")).thenReturn(Optional.of(src));
-        DataRecordJpaEntity rec = DataRecordJpaEntity.create(7L, "20260101");
-        rec.apply("{\"dateName\":\"신정\"}", Instant.now());
+        DataRecordJpaEntity rec = mock(DataRecordJpaEntity.class);
+        when(rec.getRecordKey()).thenReturn("20260101");
+        when(rec.getPayload()).thenReturn("{\"dateName\":\"신정\"}");
+        when(rec.getCollectedAt()).thenReturn(Instant.now());
         when(recordRepository.findBySourceIdOrderByCollectedAtDescIdDesc(eq(7L), any()))
                 .thenReturn(List.of(rec));
 
@@ -135,40 +144,81 @@ class CommonDataPersistenceAdapterTest {
     }
 
     @Test
-    void upsert_레코드_신규는_create후_저장() {
+    void upsertAll_은_key_순으로_정렬한_다중행_VALUES_한_문장에_해시를_실어_보낸다() {
         DataSourceJpaEntity src = entity("src-a", "{}", null);
         setId(src, 7L);
         when(sourceRepository.findByCode("src-a")).thenReturn(Optional.of(src));
-        when(recordRepository.findBySourceIdAndRecordKey(7L, "20260101")).thenReturn(Optional.empty());
-
-        adapter.upsert(new DataRecord(null, "src-a", "20260101", "{\"a\":1}", Instant.now()));
-
-        verify(recordRepository).save(any(DataRecordJpaEntity.class));
+        when(jdbcTemplate.update(any(String.class), any(Object[].class))).thenReturn(1);
+        Instant collectedAt = Instant.parse("2026-10-19T00:00:00Z");
+        DataRecord second = new DataRecord(null, "src-a", "20260102", "{\"b\":2}", collectedAt);
+        DataRecord first = new DataRecord(null, "src-a", "20260101", "{\"a\":1}", collectedAt);
+
+        int changed = adapter.upsertAll(List.of(second, first));
+
+        assertThat(changed).isEqualTo(1);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), args.capture());
+        assertThat(sql.getValue())
+                .contains("(?, ?, ?, ?, ?), (?, ?, ?, ?, ?)")
+                .contains("ON CONFLICT (source_id, record_key) DO UPDATE")
+                .contains("WHERE r.payload_hash IS DISTINCT FROM EXCLUDED.payload_hash");
+        assertThat(args.getValue()).containsExactly(
+                7L, "20260101", "{\"a\":1}", first.payloadHash(), Timestamp.from(collectedAt),
+                7L, "20260102", "{\"b\":2}", second.payloadHash(), Timestamp.from(collectedAt));
     }
 
     @Test
-    void upsert_레코드_기존은_apply후_저장() {
+    void upsertAll_은_문장당_행_상한을_넘으면_나눠_보내고_소스는_한_번만_찾는다() {
         DataSourceJpaEntity src = entity("src-a", "{}", null);
         setId(src, 7L);
         when(sourceRepository.findByCode("src-a")).thenReturn(Optional.of(src));
-        DataRecordJpaEntity existing = DataRecordJpaEntity.create(7L, "20260101");
-        existing.apply("{\"old\":1}", Instant.now());
-        when(recordRepository.findBySourceIdAndRecordKey(7L, "20260101")).thenReturn(Optional.of(existing));
-
-        adapter.upsert(new DataRecord(null, "src-a", "20260101", "{\"new\":2}", null));
-
-        verify(recordRepository).save(existing);
-        assertThat(existing.getPayload()).isEqualTo("{\"new\":2}");
+        when(jdbcTemplate.update(any(String.class), any(Object[].class))).thenReturn(2);
+        List<DataRecord> records = IntStream.range(0, CommonDataPersistenceAdapter.ROWS_PER_STATEMENT + 1)
+                .mapToObj(i -> new DataRecord(null, "src-a", "k" + i, "{}", null))
+                .toList();
+
+        assertThat(adapter.upsertAll(records)).isEqualTo(4);
+        verify(jdbcTemplate, times(2)).update(any(String.class), any(Object[].class));
+        verify(sourceRepository, times(1)).findByCode("src-a");
     }
 
     @Test
-    void upsert_레코드_소스없으면_예외() {
+    void upsertAll_레코드_소스없으면_예외() {
         when(sourceRepository.findByCode("nope")).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> adapter.upsert(
-                new DataRecord(null, "nope", "k", "{\"a\":1}", Instant.now())))
+        assertThatThrownBy(() -> adapter.upsertAll(List.of(
+                new DataRecord(null, "nope", "k", "{\"a\":1}", Instant.now()))))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("데이터소스가 없습니다");
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void findPayloadHashes_는_저장_해시를_key_별로_돌려주고_해시없는_행은_뺀다() {
+        DataSourceJpaEntity src = entity("src-a", "{}", null);
+        setId(src, 7L);
+        when(sourceRepository.findByCode("src-a")).thenReturn(Optional.of(src));
+        when(recordRepository.findPayloadHashes(7L, List.of("a", "b", "c")))
+                .thenReturn(List.of(storedHash("a", "h-a"), storedHash("b", null)));
+
+        assertThat(adapter.findPayloadHashes("src-a", List.of("a", "b", "c")))
+                .containsExactly(Map.entry("a", "h-a"));
+        assertThat(adapter.findPayloadHashes("src-a", List.of())).isEmpty();
+    }
+
+    private static DataRecordRepository.StoredHash storedHash(String recordKey, String payloadHash) {
+        return new DataRecordRepository.StoredHash() {
+            @Override
+            public String getRecordKey() {
+                return recordKey;
+            }
+
+            @Override
+            public String getPayloadHash() {
+                return payloadHash;
+            }
+        };
     }
 
     /** IDENTITY 생성 id 를 리플렉션으로 주입(단위 테스트는 DB 없이 도메인 매핑만 검증). */
@@ -0,0 +1,52 @@
+package github.lms.lemuel.commondata.adapter.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SyncCheckpointPersistenceAdapterTest {
+
+    private static final Instant SINCE = Instant.parse("2026-10-18T00:00:00Z");
+
+    private JdbcTemplate jdbcTemplate;
+    private SyncCheckpointPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        adapter = new SyncCheckpointPersistenceAdapter(jdbcTemplate);
+    }
+
+    @Test
+    void findLastPage_는_기한_안의_체크포인트만_돌려준다() {
+        when(jdbcTemplate.queryForList(contains("updated_at >= ?"), eq(Integer.class),
+                eq("src-a"), eq("solYear=2026"), eq(Timestamp.from(SINCE)))).thenReturn(List.of(7));
+        when(jdbcTemplate.queryForList(contains("updated_at >= ?"), eq(Integer.class),
+                eq("src-b"), eq(""), eq(Timestamp.from(SINCE)))).thenReturn(List.of());
+
+        assertThat(adapter.findLastPage("src-a", "solYear=2026", SINCE)).isEqualTo(OptionalInt.of(7));
+        assertThat(adapter.findLastPage("src-b", "", SINCE)).isEmpty();
+    }
+
+    @Test
+    void saveLastPage_는_조합별_한_행을_덮어쓰고_clear_는_그_행을_지운다() {
+        adapter.saveLastPage("src-a", "", 3);
+        adapter.clear("src-a", "");
+
+        verify(jdbcTemplate).update(contains("ON CONFLICT (source_code, params_key) DO UPDATE"),
+                eq("src-a"), eq(""), eq(3));
+        verify(jdbcTemplate).update(contains("DELETE FROM data_sync_checkpoints"), eq("src-a"), eq(""));
+    }
+}
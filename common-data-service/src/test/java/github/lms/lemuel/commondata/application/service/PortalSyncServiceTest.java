@@ -3,8 +3,11 @@ package github.lms.lemuel.commondata.application.service;
 import github.lms.lemuel.commondata.application.port.in.SyncResult;
 import github.lms.lemuel.commondata.application.port.out.DataPortalClientPort;
 import github.lms.lemuel.commondata.application.port.out.DataPortalClientPort.PortalItem;
+import github.lms.lemuel.commondata.application.port.out.DataPortalClientPort.PortalPage;
+import github.lms.lemuel.commondata.application.port.out.LoadDataRecordPort;
 import github.lms.lemuel.commondata.application.port.out.LoadDataSourcePort;
 import github.lms.lemuel.commondata.application.port.out.SaveDataRecordPort;
+import github.lms.lemuel.commondata.application.port.out.SyncCheckpointPort;
 import github.lms.lemuel.commondata.domain.DataProvider;
 import github.lms.lemuel.commondata.domain.DataRecord;
 import github.lms.lemuel.commondata.domain.DataSource;
@@ -13,15 +16,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -36,7 +46,10 @@ class PortalSyncServiceTest {
     private final DataPortalClientPort dataGoKrClient = mock(DataPortalClientPort.class);
     private final DataPortalClientPort seoulClient = mock(DataPortalClientPort.class);
     private final LoadDataSourcePort loadDataSourcePort = mock(LoadDataSourcePort.class);
+    private final LoadDataRecordPort loadDataRecordPort = mock(LoadDataRecordPort.class);
     private final SaveDataRecordPort saveDataRecordPort = mock(SaveDataRecordPort.class);
+    private final SyncCheckpointPort checkpointPort = mock(SyncCheckpointPort.class);
+    private final List<String> events = new ArrayList<>();
 
     private PortalSyncService service;
 
@@ -54,8 +67,37 @@ class PortalSyncServiceTest {
         lenient().when(seoulClient.provider()).thenReturn(DataProvider.SEOUL_OPENAPI);
         lenient().when(dataGoKrClient.isConfigured()).thenReturn(true);
         lenient().when(seoulClient.isConfigured()).thenReturn(true);
-        service = new PortalSyncService(List.of(dataGoKrClient, seoulClient),
-                loadDataSourcePort, saveDataRecordPort);
+        // 기본은 보낸 레코드가 모두 새 행
+        lenient().doAnswer(inv -> {
+            List<DataRecord> records = inv.getArgument(0);
+            events.add("upsert " + records.stream().map(DataRecord::recordKey).toList());
+            return records.size();
+        }).when(saveDataRecordPort).upsertAll(any());
+        service = service(List.of(dataGoKrClient, seoulClient));
+    }
+
+    private PortalSyncService service(List<DataPortalClientPort> clients) {
+        return new PortalSyncService(clients, loadDataSourcePort, loadDataRecordPort, saveDataRecordPort,
+                checkpointPort, 24);
+    }
+
+    /** 클라이언트가 {@code fromPage} 이후 페이지를 차례로 넘기게 한다 — 페이지 요청도 events 에 남긴다. */
+    private void stubPages(DataPortalClientPort client, PortalPage... pages) {
+        doAnswer(inv -> {
+            int fromPage = inv.getArgument(2);
+            Consumer<PortalPage> onPage = inv.getArgument(3);
+            for (PortalPage page : pages) {
+                if (page.pageNo() >= fromPage) {
+                    events.add("fetch " + page.pageNo());
+                    onPage.accept(page);
+                }
+            }
+            return null;
+        }).when(client).fetchPages(any(), anyMap(), anyInt(), any());
+    }
+
+    private static PortalPage page(int pageNo, PortalItem... items) {
+        return new PortalPage(pageNo, List.of(items));
     }
 
     @Test
@@ -67,8 +109,8 @@ class PortalSyncServiceTest {
         IllegalStateException e = assertThrows(IllegalStateException.class,
                 () -> service.sync("seoul-living-pop", Map.of()));
         assertTrue(e.getMessage().contains("SEOUL_OPENAPI"));
-        verify(seoulClient, never()).fetchItems(any(), anyMap());
-        verify(dataGoKrClient, never()).fetchItems(any(), anyMap());
+        verify(seoulClient, never()).fetchPages(any(), anyMap(), anyInt(), any());
+        verify(dataGoKrClient, never()).fetchPages(any(), anyMap(), anyInt(), any());
     }
 
     @Test
@@ -93,21 +135,19 @@ class PortalSyncServiceTest {
     @DisplayName("SEOUL_OPENAPI 소스는 서울 클라이언트로 디스패치 — data.go.kr 클라이언트 미호출")
     void dispatchesByProvider() {
         when(loadDataSourcePort.findByCode("seoul-living-pop")).thenReturn(Optional.of(seoulSource));
-        when(seoulClient.fetchItems(any(), anyMap())).thenReturn(List.of(
-                new PortalItem("20260801|11000", "{\"a\":1}")));
+        stubPages(seoulClient, page(1, new PortalItem("20260801|11000", "{\"a\":1}")));
 
         SyncResult result = service.sync("seoul-living-pop", Map.of());
 
         assertEquals(new SyncResult(1, 1, 0, 0), result);
-        verify(seoulClient).fetchItems(any(), anyMap());
-        verify(dataGoKrClient, never()).fetchItems(any(), anyMap());
+        verify(seoulClient).fetchPages(any(), anyMap(), eq(1), any());
+        verify(dataGoKrClient, never()).fetchPages(any(), anyMap(), anyInt(), any());
     }
 
     @Test
     @DisplayName("소스 provider 를 담당하는 클라이언트가 없으면 예외")
     void rejectsWhenNoClientForProvider() {
-        PortalSyncService onlyDataGoKr = new PortalSyncService(List.of(dataGoKrClient),
-                loadDataSourcePort, saveDataRecordPort);
+        PortalSyncService onlyDataGoKr = service(List.of(dataGoKrClient));
         when(loadDataSourcePort.findByCode("seoul-living-pop")).thenReturn(Optional.of(seoulSource));
 
         IllegalStateException e = assertThrows(IllegalStateException.class,
@@ -116,39 +156,149 @@ class PortalSyncServiceTest {
     }
 
     @Test
-    @DisplayName("정상 수집 — 결측 키는 스킵, 저장 실패는 집계만 하고 계속")
+    @DisplayName("정상 수집 — 결측 키는 스킵, 묶음 저장이 실패하면 건별로 나눠 원인 레코드만 실패로 센다")
     void countsUpsertSkipFail() {
         when(loadDataSourcePort.findByCode("kasi-rest-days")).thenReturn(Optional.of(source));
-        when(dataGoKrClient.fetchItems(any(), anyMap())).thenReturn(List.of(
+        stubPages(dataGoKrClient, page(1,
                 new PortalItem("20260101|1", "{\"a\":1}"),
                 new PortalItem(" ", "{\"b\":2}"),          // 키 결측 — 스킵
                 new PortalItem("20260216|1", "{\"c\":3}"),
                 new PortalItem("20260217|1", "{\"d\":4}")));
         doAnswer(inv -> {
-            DataRecord record = inv.getArgument(0);
-            if ("20260216|1".equals(record.recordKey())) {
+            List<DataRecord> records = inv.getArgument(0);
+            if (records.stream().anyMatch(record -> "20260216|1".equals(record.recordKey()))) {
                 throw new RuntimeException("boom");
             }
-            return null;
-        }).when(saveDataRecordPort).upsert(any());
+            return records.size();
+        }).when(saveDataRecordPort).upsertAll(any());
 
         SyncResult result = service.sync("kasi-rest-days", Map.of("solYear", "2026"));
 
         assertEquals(new SyncResult(4, 2, 1, 1), result);
-        verify(saveDataRecordPort, times(3)).upsert(any());
+        verify(saveDataRecordPort, times(4)).upsertAll(any());   // 묶음 1번 + 건별 3번
     }
 
     @Test
     @DisplayName("override 파라미터는 클라이언트에 그대로 전달, null 은 빈 맵으로")
     void passesOverrideParams() {
         when(loadDataSourcePort.findByCode("kasi-rest-days")).thenReturn(Optional.of(source));
-        when(dataGoKrClient.fetchItems(any(), anyMap())).thenReturn(List.of());
+        stubPages(dataGoKrClient);
 
         service.sync("kasi-rest-days", null);
 
         @SuppressWarnings("unchecked")
         var captor = forClass(Map.class);
-        verify(dataGoKrClient).fetchItems(any(), captor.capture());
+        verify(dataGoKrClient).fetchPages(any(), captor.capture(), eq(1), any());
         assertEquals(Map.of(), captor.getValue());
     }
+
+    @Test
+    @DisplayName("페이지마다 받는 즉시 반영한다 — 다음 페이지 요청 전에 앞 페이지 upsert 와 체크포인트가 끝난다")
+    void writesPageByPage() {
+        when(loadDataSourcePort.findByCode("kasi-rest-days")).thenReturn(Optional.of(source));
+        doAnswer(inv -> {
+            events.add("checkpoint " + inv.getArgument(2));
+            return null;
+        }).when(checkpointPort).saveLastPage(eq("kasi-rest-days"), anyString(), anyInt());
+        stubPages(dataGoKrClient,
+                page(1, new PortalItem("a", "{\"a\":1}"), new PortalItem("b", "{\"b\":1}")),
+                page(2, new PortalItem("c", "{\"c\":1}")));
+
+        SyncResult result = service.sync("kasi-rest-days", Map.of());
+
+        assertEquals(new SyncResult(3, 3, 0, 0), result);
+        assertEquals(List.of("fetch 1", "upsert [a, b]", "checkpoint 1",
+                "fetch 2", "upsert [c]", "checkpoint 2"), events);
+        verify(checkpointPort).clear("kasi-rest-days", "");
+    }
+
+    @Test
+    @DisplayName("저장 해시와 payload 해시가 같은 레코드는 쓰지 않고 skipped 로 센다")
+    void skipsUnchangedByPayloadHash() {
+        when(loadDataSourcePort.findByCode("kasi-rest-days")).thenReturn(Optional.of(source));
+        String sameHash = new DataRecord(null, "kasi-rest-days", "a", "{\"a\":1}", null).payloadHash();
+        when(loadDataRecordPort.findPayloadHashes(eq("kasi-rest-days"), any()))
+                .thenReturn(Map.of("a", sameHash, "b", "stale-hash"));
+        stubPages(dataGoKrClient, page(1,
+                new PortalItem("a", "{\"a\":1}"),
+                new PortalItem("b", "{\"b\":2}"),
+                new PortalItem("c", "{\"c\":3}")));
+
+        SyncResult result = service.sync("kasi-rest-days", Map.of());
+
+        assertEquals(new SyncResult(3, 2, 1, 0), result);
+        assertEquals(List.of("fetch 1", "upsert [b, c]"), events);
+    }
+
+    @Test
+    @DisplayName("모든 레코드가 그대로인 페이지는 upsert 를 부르지 않는다 — 정적 데이터셋 재수집은 읽기만 남는다")
+    void unchangedPageWritesNothing() {
+        when(loadDataSourcePort.findByCode("kasi-rest-days")).thenReturn(Optional.of(source));
+        String hash = new DataRecord(null, "kasi-rest-days", "a", "{\"a\":1}", null).payloadHash();
+        when(loadDataRecordPort.findPayloadHashes(eq("kasi-rest-days"), any())).thenReturn(Map.of("a", hash));
+        stubPages(dataGoKrClient, page(1, new PortalItem("a", "{\"a\":1}")));
+
+        SyncResult result = service.sync("kasi-rest-days", Map.of());
+
+        assertEquals(new SyncResult(1, 0, 1, 0), result);
+        verify(saveDataRecordPort, never()).upsertAll(any());
+        verify(checkpointPort).saveLastPage("kasi-rest-days", "", 1);
+    }
+
+    @Test
+    @DisplayName("한 페이지 안 같은 key 는 뒤의 것만 보낸다 — 한 문장에 같은 key 가 두 번 들어가지 않게")
+    void keepsLastDuplicateWithinPage() {
+        when(loadDataSourcePort.findByCode("kasi-rest-days")).thenReturn(Optional.of(source));
+        stubPages(dataGoKrClient, page(1,
+                new PortalItem("a", "{\"v\":1}"),
+                new PortalItem("a", "{\"v\":2}")));
+        @SuppressWarnings("unchecked")
+        var captor = forClass(List.class);
+
+        SyncResult result = service.sync("kasi-rest-days", Map.of());
+
+        assertEquals(new SyncResult(2, 1, 1, 0), result);
+        verify(saveDataRecordPort).upsertAll(captor.capture());
+        assertEquals(List.of("{\"v\":2}"),
+                captor.getValue().stream().map(r -> ((DataRecord) r).payload()).toList());
+    }
+
+    @Test
+    @DisplayName("기한 안의 체크포인트가 있으면 그 다음 페이지부터 잇는다 — 파라미터 순서와 무관하게 같은 체크포인트")
+    void resumesFromLastCommittedPage() {
+        when(loadDataSourcePort.findByCode("kasi-rest-days")).thenReturn(Optional.of(source));
+        when(checkpointPort.findLastPage(eq("kasi-rest-days"), eq("month=02&solYear=2026"), any()))
+                .thenReturn(OptionalInt.of(2));
+        stubPages(dataGoKrClient,
+                page(1, new PortalItem("a", "{}")),
+                page(2, new PortalItem("b", "{}")),
+                page(3, new PortalItem("c", "{}")));
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("solYear", "2026");
+        params.put("month", "02");
+
+        SyncResult result = service.sync("kasi-rest-days", params);
+
+        assertEquals(new SyncResult(1, 1, 0, 0), result);
+        verify(dataGoKrClient).fetchPages(any(), anyMap(), eq(3), any());
+        assertEquals(List.of("fetch 3", "upsert [c]"), events);
+        verify(checkpointPort).clear("kasi-rest-days", "month=02&solYear=2026");
+    }
+
+    @Test
+    @DisplayName("수집이 중간에 실패하면 반영한 페이지의 체크포인트는 남기고 지우지 않는다")
+    void keepsCheckpointWhenFetchFails() {
+        when(loadDataSourcePort.findByCode("kasi-rest-days")).thenReturn(Optional.of(source));
+        doAnswer(inv -> {
+            Consumer<PortalPage> onPage = inv.getArgument(3);
+            onPage.accept(page(1, new PortalItem("a", "{}")));
+            throw new IllegalStateException("공공데이터포털 API 오류 resultCode=22");
+        }).when(dataGoKrClient).fetchPages(any(), anyMap(), anyInt(), any());
+
+        assertThrows(IllegalStateException.class, () -> service.sync("kasi-rest-days", Map.of()));
+
+        verify(saveDataRecordPort).upsertAll(any());
+        verify(checkpointPort).saveLastPage("kasi-rest-days", "", 1);
+        verify(checkpointPort, never()).clear(any(), any());
+    }
 }
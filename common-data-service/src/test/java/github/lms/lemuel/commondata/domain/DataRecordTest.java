@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DataRecordTest {
@@ -32,4 +33,18 @@ class DataRecordTest {
         assertThrows(IllegalArgumentException.class,
                 () -> new DataRecord(null, "src", "key", "", null));
     }
+
+    @Test
+    @DisplayName("payloadHash 는 payload 원문(UTF-8) SHA-256 hex — 같은 원문이면 같고 한 글자만 달라도 다르다")
+    void payloadHashFollowsPayload() {
+        DataRecord record = new DataRecord(null, "src", "k1", "{\"dateName\":\"신정\"}", null);
+
+        assertEquals(64, record.payloadHash().length());
+        assertEquals(record.payloadHash(),
+                new DataRecord(null, "src", "k2", "{\"dateName\":\"신정\"}", Instant.now()).payloadHash());
+        assertNotEquals(record.payloadHash(),
+                new DataRecord(null, "src", "k1", "{\"dateName\":\"설날\"}", null).payloadHash());
+        assertEquals("44136fa355b3678a1146ad16f7e8649e94fb4fc21fe77e8310c060f61caaff8a",
+                new DataRecord(null, "src", "k", "{}", null).payloadHash());
+    }
 }
@@ -9,11 +9,12 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * @param model      기본 claude-opus-4-8 (고정 규칙: 사용자가 바꾸지 않는 한 opus-4-8)
  * @param baseUrl    기본 https://api.anthropic.com
  * @param version    anthropic-version 헤더 (기본 2023-06-01)
- * @param maxTokens  응답 상한 — 라벨만 받으므로 작게
+ * @param maxTokens  응답 상한 — 라벨만 받으므로 작게(묶음 요청은 기사 수만큼 곱한다)
+ * @param batchSize  요청 하나에 묶어 보낼 기사 수 — 기본 20(&le;0 이면 기본)
  */
 @ConfigurationProperties(prefix = "app.company.sentiment.claude")
 public record ClaudeSentimentProperties(String apiKey, String model, String baseUrl,
-                                        String version, int maxTokens) {
+                                        String version, int maxTokens, int batchSize) {
 
     public ClaudeSentimentProperties {
         if (model == null || model.isBlank()) {
@@ -31,6 +32,9 @@ public record ClaudeSentimentProperties(String apiKey, String model, String base
         if (apiKey == null) {
             apiKey = "";
         }
+        if (batchSize <= 0) {
+            batchSize = 20;
+        }
     }
 
     public boolean configured() {
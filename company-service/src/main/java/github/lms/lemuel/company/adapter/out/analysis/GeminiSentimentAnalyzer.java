@@ -3,6 +3,7 @@ package github.lms.lemuel.company.adapter.out.analysis;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import github.lms.lemuel.company.application.port.out.AnalyzeSentimentPort;
+import github.lms.lemuel.company.application.port.out.AnalyzeSentimentPort.ArticleText;
 import github.lms.lemuel.company.domain.ArticleSentiment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,21 +52,52 @@ public class GeminiSentimentAnalyzer implements AnalyzeSentimentPort {
             return fallback.analyze(title, summary);
         }
         try {
-            return SentimentLabels.toSentiment(requestLabel(title, summary));
+            return SentimentLabels.toSentiment(requestText(
+                    SentimentLabels.INSTRUCTION, SentimentLabels.userText(title, summary), properties.maxTokens()));
         } catch (RuntimeException e) {
             log.warn("Gemini 감성분석 실패 — 키워드 폴백. reason={}", e.getMessage());
             return fallback.analyze(title, summary);
         }
     }
 
-    private String requestLabel(String title, String summary) {
+    /**
+     * 기사 여러 건을 요청 하나로 분류한다 — 번호마다 한 줄로 라벨을 받는다. 응답에서 빠진 기사만 키워드로
+     * 폴백하고, 호출·파싱 자체가 실패하면 묶음 전체를 키워드로 폴백한다.
+     */
+    @Override
+    public List<ArticleSentiment> analyzeAll(List<ArticleText> articles) {
+        if (articles.size() <= 1 || !properties.configured()) {
+            return AnalyzeSentimentPort.super.analyzeAll(articles);
+        }
+        List<ArticleSentiment> labelled;
+        try {
+            labelled = SentimentLabels.parseBatch(requestText(SentimentLabels.BATCH_INSTRUCTION,
+                    SentimentLabels.batchUserText(articles), properties.maxTokens() * articles.size()), articles.size());
+        } catch (RuntimeException e) {
+            log.warn("Gemini 묶음 감성분석 실패 — 키워드 폴백 {}건. reason={}", articles.size(), e.getMessage());
+            return articles.stream().map(a -> fallback.analyze(a.title(), a.summary())).toList();
+        }
+        for (int i = 0; i < articles.size(); i++) {
+            if (labelled.get(i) == null) {
+                labelled.set(i, fallback.analyze(articles.get(i).title(), articles.get(i).summary()));
+            }
+        }
+        return labelled;
+    }
+
+    @Override
+    public int batchSize() {
+        return properties.batchSize();
+    }
+
+    private String requestText(String instruction, String userText, int maxTokens) {
         // Generative Language API: system_instruction + contents[user].parts[text]
         Map<String, Object> body = Map.of(
-                "system_instruction", Map.of("parts", List.of(Map.of("text", SentimentLabels.INSTRUCTION))),
+                "system_instruction", Map.of("parts", List.of(Map.of("text", instruction))),
                 "contents", List.of(Map.of(
                         "role", "user",
-                        "parts", List.of(Map.of("text", SentimentLabels.userText(title, summary))))),
-                "generationConfig", Map.of("maxOutputTokens", properties.maxTokens()));
+                        "parts", List.of(Map.of("text", userText)))),
+                "generationConfig", Map.of("maxOutputTokens", maxTokens));
         String response = restClient.post()
                 .uri("/v1beta/models/{model}:generateContent", properties.model())
                 .header("x-goog-api-key", properties.apiKey())
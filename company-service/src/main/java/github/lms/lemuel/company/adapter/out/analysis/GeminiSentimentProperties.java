@@ -11,10 +11,11 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * @param maxTokens     generationConfig.maxOutputTokens — 2.5 계열은 thinking 이 예산을 먹을 수 있어 여유를 둔다
  * @param dailyQuota    일일 Gemini 호출 상한(무료티어 초과·과금 방지) — 도달 시 키워드 폴백. 기본 200(&le;0 이면 기본)
  * @param minIntervalMs 호출 간 최소 간격(ms) — 분당 상한(RPM) 보호 스로틀. 기본 0(스로틀 없음, 음수면 0)
+ * @param batchSize     요청 하나에 묶어 보낼 기사 수 — 호출 상한·스로틀은 요청 단위로 든다. 기본 20(&le;0 이면 기본)
  */
 @ConfigurationProperties(prefix = "app.company.sentiment.gemini")
 public record GeminiSentimentProperties(String apiKey, String model, String baseUrl, int maxTokens,
-                                        int dailyQuota, long minIntervalMs) {
+                                        int dailyQuota, long minIntervalMs, int batchSize) {
 
     public GeminiSentimentProperties {
         if (model == null || model.isBlank()) {
@@ -35,6 +36,9 @@ public record GeminiSentimentProperties(String apiKey, String model, String base
         if (minIntervalMs < 0) {
             minIntervalMs = 0;
         }
+        if (batchSize <= 0) {
+            batchSize = 20;
+        }
     }
 
     public boolean configured() {
@@ -3,6 +3,7 @@ package github.lms.lemuel.company.adapter.out.analysis;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import github.lms.lemuel.company.application.port.out.AnalyzeSentimentPort;
+import github.lms.lemuel.company.application.port.out.AnalyzeSentimentPort.ArticleText;
 import github.lms.lemuel.company.domain.ArticleSentiment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,7 +52,8 @@ public class LlmSentimentAnalyzer implements AnalyzeSentimentPort {
             return fallback.analyze(title, summary);
         }
         try {
-            String label = requestLabel(title, summary);
+            String label = requestText(
+                    SentimentLabels.INSTRUCTION, SentimentLabels.userText(title, summary), properties.maxTokens());
             return SentimentLabels.toSentiment(label);
         } catch (RuntimeException e) {
             log.warn("Claude 감성분석 실패 — 키워드 폴백. reason={}", e.getMessage());
@@ -59,13 +61,42 @@ public class LlmSentimentAnalyzer implements AnalyzeSentimentPort {
         }
     }
 
-    private String requestLabel(String title, String summary) {
+    /**
+     * 기사 여러 건을 요청 하나로 분류한다 — 번호마다 한 줄로 라벨을 받는다. 응답에서 빠진 기사만 키워드로
+     * 폴백하고, 호출·파싱 자체가 실패하면 묶음 전체를 키워드로 폴백한다.
+     */
+    @Override
+    public List<ArticleSentiment> analyzeAll(List<ArticleText> articles) {
+        if (articles.size() <= 1 || !properties.configured()) {
+            return AnalyzeSentimentPort.super.analyzeAll(articles);
+        }
+        List<ArticleSentiment> labelled;
+        try {
+            labelled = SentimentLabels.parseBatch(requestText(SentimentLabels.BATCH_INSTRUCTION,
+                    SentimentLabels.batchUserText(articles), properties.maxTokens() * articles.size()), articles.size());
+        } catch (RuntimeException e) {
+            log.warn("Claude 묶음 감성분석 실패 — 키워드 폴백 {}건. reason={}", articles.size(), e.getMessage());
+            return articles.stream().map(a -> fallback.analyze(a.title(), a.summary())).toList();
+        }
+        for (int i = 0; i < articles.size(); i++) {
+            if (labelled.get(i) == null) {
+                labelled.set(i, fallback.analyze(articles.get(i).title(), articles.get(i).summary()));
+            }
+        }
+        return labelled;
+    }
+
+    @Override
+    public int batchSize() {
+        return properties.batchSize();
+    }
+
+    private String requestText(String instruction, String userText, int maxTokens) {
         Map<String, Object> body = Map.of(
                 "model", properties.model(),
-                "max_tokens", properties.maxTokens(),
-                "system", SentimentLabels.INSTRUCTION,
-                "messages", List.of(Map.of("role", "user", "content",
-                        SentimentLabels.userText(title, summary))));
+                "max_tokens", maxTokens,
+                "system", instruction,
+                "messages", List.of(Map.of("role", "user", "content", userText)));
         String response = restClient.post()
                 .uri("/v1/messages")
                 .header("x-api-key", properties.apiKey())
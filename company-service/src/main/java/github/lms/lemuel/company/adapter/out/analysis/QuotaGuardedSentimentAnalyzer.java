@@ -1,6 +1,7 @@
 package github.lms.lemuel.company.adapter.out.analysis;
 
 import github.lms.lemuel.company.application.port.out.AnalyzeSentimentPort;
+import github.lms.lemuel.company.application.port.out.AnalyzeSentimentPort.ArticleText;
 import github.lms.lemuel.company.domain.ArticleSentiment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.List;
 
 /**
  * Gemini 호출량 상한 가드 (ADR 0023 Phase 4 — 무료티어 초과/과금 방지).
@@ -18,8 +20,10 @@ import java.time.ZoneId;
  * <b>일일 호출 상한</b>(도달 시 그날은 키워드 폴백)과 <b>분당 스로틀</b>(호출 간 최소 간격)을 강제한다.
  * fail-open 철학 유지 — 상한을 넘겨도 평판 산정은 키워드로 계속된다(예외 없음).
  *
- * <p>재계산은 단일 스레드 순차 실행이지만 방어적으로 상태 접근을 동기화한다. 상한/간격은
- * {@code app.company.sentiment.gemini.daily-quota}·{@code .min-interval-ms} 로 조절(env override).
+ * <p>예산은 <b>요청</b> 단위다 — 기사 여러 건을 실은 묶음 요청({@link #analyzeAll})도 한 콜이다. 재계산은
+ * 여러 작업 스레드가 동시에 부르므로 예약과 스로틀을 한 잠금 안에서 한다: 상한을 넘겨 예약되는 일이 없고,
+ * 요청 시작 간격이 스레드 수와 무관하게 최소 간격 이상으로 벌어진다(요청 자체는 겹쳐 날아간다).
+ * 상한/간격은 {@code app.company.sentiment.gemini.daily-quota}·{@code .min-interval-ms} 로 조절(env override).
  *
  * <p>참고: 캐시({@code SentimentCachePort})가 신규 기사만 분석하도록 호출량을 이미 줄이므로 이 상한은
  * 평상시엔 거의 닿지 않는 <b>안전망</b>이다. 상한 도달분(대량 콜드스타트 등)은 키워드로 캐시되며 이후
@@ -58,6 +62,23 @@ public class QuotaGuardedSentimentAnalyzer implements AnalyzeSentimentPort {
         return delegate.analyze(title, summary);
     }
 
+    /** 묶음 요청도 예산 1콜 — 예산이 없으면 묶음 전체를 키워드로 폴백한다. */
+    @Override
+    public List<ArticleSentiment> analyzeAll(List<ArticleText> articles) {
+        if (articles.isEmpty()) {
+            return List.of();
+        }
+        if (!reserveSlot()) {
+            return fallback.analyzeAll(articles);
+        }
+        return delegate.analyzeAll(articles);
+    }
+
+    @Override
+    public int batchSize() {
+        return delegate.batchSize();
+    }
+
     /** 오늘 예산에서 1콜을 예약하고 스로틀을 적용한다. 예산 소진 시 false(키워드 폴백). */
     private synchronized boolean reserveSlot() {
         LocalDate today = LocalDate.now(KST);
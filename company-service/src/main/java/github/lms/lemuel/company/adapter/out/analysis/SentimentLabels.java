@@ -1,8 +1,15 @@
 package github.lms.lemuel.company.adapter.out.analysis;
 
+import github.lms.lemuel.company.application.port.out.AnalyzeSentimentPort.ArticleText;
 import github.lms.lemuel.company.domain.ArticleSentiment;
 import github.lms.lemuel.company.domain.IssueCategory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * LLM 감성분석 제공자(Claude·Gemini) 공용 — 분류 지시 프롬프트 + 라벨→도메인 매핑.
  * 제공자가 달라도 "라벨 하나만 출력" 계약과 매핑은 동일하므로 여기 모은다 (ADR 0023 Phase 4).
@@ -20,12 +27,51 @@ final class SentimentLabels {
             NEGATIVE_LABOR, NEGATIVE_PRODUCT, NEGATIVE_OTHER
             부정 기사는 가장 핵심적인 이슈 카테고리를 골라라(재무/법률/지배구조/노동/제품). 애매하면 NEGATIVE_OTHER.""";
 
+    /** 묶음 분류 지시 — 번호마다 한 줄, "번호: 라벨" 만 출력하도록 강제. */
+    static final String BATCH_INSTRUCTION = INSTRUCTION + """
+
+            입력에는 [번호] 로 구분된 기사가 여러 건 있다. 기사마다 한 줄씩 "번호: 라벨" 형식으로만 출력해라
+            (예: 1: NEUTRAL). 모든 번호를 빠짐없이, 다른 말 없이.""";
+
+    /** "3: NEGATIVE_LEGAL", "[3] NEGATIVE_LEGAL" 처럼 번호와 라벨이 한 줄에 있는 응답 행. */
+    private static final Pattern BATCH_LINE = Pattern.compile("^\\W*(\\d+)\\W+([A-Za-z_]+)\\W*$");
+
     /** 제목/요약을 사용자 입력 텍스트로. */
     static String userText(String title, String summary) {
         return "제목: " + (title == null ? "" : title)
                 + "\n요약: " + (summary == null ? "" : summary);
     }
 
+    /** 여러 기사를 [1]부터 번호를 붙여 한 입력으로. */
+    static String batchUserText(List<ArticleText> articles) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < articles.size(); i++) {
+            ArticleText article = articles.get(i);
+            text.append(i == 0 ? "" : "\n\n").append('[').append(i + 1).append("]\n")
+                    .append(userText(article.title(), article.summary()));
+        }
+        return text.toString();
+    }
+
+    /**
+     * 묶음 응답 → 입력 순서의 감성 목록(크기 {@code count}). 응답에 없는 번호·범위 밖 번호는 null 로 남겨
+     * 호출자가 그 기사만 폴백하게 한다 — 한 줄이 어긋났다고 묶음 전체를 버리지 않는다.
+     */
+    static List<ArticleSentiment> parseBatch(String response, int count) {
+        ArticleSentiment[] parsed = new ArticleSentiment[count];
+        for (String line : (response == null ? "" : response).split("\\R")) {
+            Matcher m = BATCH_LINE.matcher(line.trim());
+            if (!m.matches()) {
+                continue;
+            }
+            int index = Integer.parseInt(m.group(1)) - 1;
+            if (index >= 0 && index < count && parsed[index] == null) {
+                parsed[index] = toSentiment(m.group(2));
+            }
+        }
+        return new ArrayList<>(Arrays.asList(parsed));
+    }
+
     /** 라벨 문자열 → 도메인 감성. 알 수 없는 라벨은 NEUTRAL(보수적). */
     static ArticleSentiment toSentiment(String rawLabel) {
         String label = rawLabel == null ? "" : rawLabel.trim().toUpperCase();
@@ -52,6 +52,10 @@ public class ArticleSentimentJpaEntity {
         return e;
     }
 
+    String urlHash() {
+        return urlHash;
+    }
+
     ArticleSentiment toDomain() {
         Sentiment s = Sentiment.valueOf(sentiment);
         IssueCategory c = category == null ? null : IssueCategory.valueOf(category);
@@ -2,10 +2,11 @@ package github.lms.lemuel.company.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface ArticleSentimentRepository
         extends JpaRepository<ArticleSentimentJpaEntity, ArticleSentimentJpaEntity.Key> {
 
-    Optional<ArticleSentimentJpaEntity> findByUrlHashAndProvider(String urlHash, String provider);
+    List<ArticleSentimentJpaEntity> findByProviderAndUrlHashIn(String provider, Collection<String> urlHashes);
 }
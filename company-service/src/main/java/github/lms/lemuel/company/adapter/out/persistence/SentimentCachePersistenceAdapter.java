@@ -2,45 +2,71 @@ package github.lms.lemuel.company.adapter.out.persistence;
 
 import github.lms.lemuel.company.application.port.out.SentimentCachePort;
 import github.lms.lemuel.company.domain.ArticleSentiment;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.Instant;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
- * 기사 감성 캐시 영속 어댑터. (url_hash, provider) 로 조회·저장하며, 동시 저장 충돌(PK 중복)은
- * 멱등하게 무시한다(먼저 저장한 값 존중). persistence 어댑터라 단위 커버리지 게이트 제외.
+ * 기사 감성 캐시 영속 어댑터. (url_hash, provider) 로 일괄 조회·저장한다.
+ *
+ * <p>조회는 {@code IN} 목록을 {@value #IN_CHUNK} 건씩 끊어 묻는다. 저장은 {@link JdbcTemplate} batchUpdate
+ * 한 번이고, 동시 저장 충돌(PK 중복)은 {@code ON CONFLICT DO NOTHING} 으로 멱등하게 무시한다(먼저 저장한 값
+ * 존중) — 예외로 받아 건별로 되감던 방식은 묶음 하나가 통째로 실패했다.
+ * persistence 어댑터라 단위 커버리지 게이트 제외.
  */
 @Component
 public class SentimentCachePersistenceAdapter implements SentimentCachePort {
 
-    private static final Logger log = LoggerFactory.getLogger(SentimentCachePersistenceAdapter.class);
+    /** IN 목록 한 번의 크기 — 바인드 파라미터 수·쿼리 계획 캐시를 적당히 묶어 둔다. */
+    static final int IN_CHUNK = 1_000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO article_sentiment (url_hash, provider, sentiment, category, analyzed_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (url_hash, provider) DO NOTHING
+            """;
 
     private final ArticleSentimentRepository repository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public SentimentCachePersistenceAdapter(ArticleSentimentRepository repository) {
+    public SentimentCachePersistenceAdapter(ArticleSentimentRepository repository, JdbcTemplate jdbcTemplate) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Optional<ArticleSentiment> find(String urlHash, String provider) {
-        return repository.findByUrlHashAndProvider(urlHash, provider)
-                .map(ArticleSentimentJpaEntity::toDomain);
+    public Map<String, ArticleSentiment> findAll(Collection<String> urlHashes, String provider) {
+        List<String> hashes = List.copyOf(urlHashes);
+        Map<String, ArticleSentiment> cached = new HashMap<>();
+        for (int from = 0; from < hashes.size(); from += IN_CHUNK) {
+            List<String> chunk = hashes.subList(from, Math.min(hashes.size(), from + IN_CHUNK));
+            for (ArticleSentimentJpaEntity entity : repository.findByProviderAndUrlHashIn(provider, chunk)) {
+                cached.put(entity.urlHash(), entity.toDomain());
+            }
+        }
+        return cached;
     }
 
     @Override
     @Transactional
-    public void save(String urlHash, String provider, ArticleSentiment sentiment) {
-        try {
-            repository.save(ArticleSentimentJpaEntity.of(urlHash, provider, sentiment, Instant.now()));
-        } catch (DataIntegrityViolationException e) {
-            // (url_hash, provider) PK 충돌 — 동시 재계산 레이스. 먼저 저장한 캐시를 존중.
-            log.debug("감성 캐시 동시 저장 충돌 스킵 urlHash={} provider={}", urlHash, provider);
+    public void saveAll(Map<String, ArticleSentiment> sentiments, String provider) {
+        if (sentiments.isEmpty()) {
+            return;
         }
+        Timestamp analyzedAt = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(sentiments.size());
+        sentiments.forEach((urlHash, sentiment) -> rows.add(new Object[]{
+                urlHash, provider, sentiment.sentiment().name(),
+                sentiment.category() == null ? null : sentiment.category().name(), analyzedAt}));
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
     }
 }
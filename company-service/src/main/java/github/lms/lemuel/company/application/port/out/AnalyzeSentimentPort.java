@@ -2,6 +2,8 @@ package github.lms.lemuel.company.application.port.out;
 
 import github.lms.lemuel.company.domain.ArticleSentiment;
 
+import java.util.List;
+
 /**
  * 기사 감성 분석 포트 — Phase 2 구현체는 룰 기반(KeywordSentimentAnalyzer),
  * Phase 4 에서 LLM(Claude API) 구현체로 무중단 교체 가능하게 인터페이스 뒤에 숨긴다(ADR 0023).
@@ -9,4 +11,25 @@ import github.lms.lemuel.company.domain.ArticleSentiment;
 public interface AnalyzeSentimentPort {
 
     ArticleSentiment analyze(String title, String summary);
+
+    /**
+     * 여러 기사를 한꺼번에 분석한다 — 결과는 입력과 같은 순서·같은 개수.
+     *
+     * <p>기본은 건별 {@link #analyze} 다. LLM 구현체는 요청 하나에 여러 기사를 실어 왕복·호출 예산을
+     * 기사 수가 아니라 묶음 수만큼만 쓴다. 한 번에 넘길 개수는 {@link #batchSize()} 를 따른다.
+     */
+    default List<ArticleSentiment> analyzeAll(List<ArticleText> articles) {
+        return articles.stream()
+                .map(article -> analyze(article.title(), article.summary()))
+                .toList();
+    }
+
+    /** {@link #analyzeAll} 한 번에 넘길 기사 수 상한 — 1 이면 묶어도 이득이 없다(룰 기반). */
+    default int batchSize() {
+        return 1;
+    }
+
+    /** 분석 입력 — 기사 제목/요약. */
+    record ArticleText(String title, String summary) {
+    }
 }
@@ -2,7 +2,8 @@ package github.lms.lemuel.company.application.port.out;
 
 import github.lms.lemuel.company.domain.ArticleSentiment;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * 기사 감성 분석 결과 캐시 포트 (ADR 0023 Phase 4 — LLM 비용 절감).
@@ -10,12 +11,15 @@ import java.util.Optional;
  * <p>기사(title/summary)·{@code urlHash} 는 불변이라 {@code (urlHash, provider)} 별 감성은 영구 유효하다.
  * 평판 재계산이 매번 전체 기사를 재분석하던 것을, 캐시 히트로 대체해 LLM 재호출을 없앤다 —
  * 하루 신규 기사 수만큼만 분석한다. provider 를 키에 포함해 엔진 전환 시 캐시가 섞이지 않는다.
+ *
+ * <p>조회·저장 모두 <b>일괄</b>이다 — 전체 재계산은 기업 수백 곳의 기사 수천 건을 한 번에 다루므로
+ * 기사마다 한 번씩 묻고 쓰면 그만큼 DB 왕복이 생긴다.
  */
 public interface SentimentCachePort {
 
-    /** 캐시된 감성 조회 — 없으면 빈 값(분석 필요). */
-    Optional<ArticleSentiment> find(String urlHash, String provider);
+    /** 캐시된 감성 일괄 조회 — urlHash → 감성. 캐시에 없는 기사는 결과에 없다(분석 필요). */
+    Map<String, ArticleSentiment> findAll(Collection<String> urlHashes, String provider);
 
-    /** 분석 결과 캐시 저장 — 이미 있으면(동시 저장 레이스) 무시한다(멱등). */
-    void save(String urlHash, String provider, ArticleSentiment sentiment);
+    /** 분석 결과 일괄 저장 — 이미 있는 {@code (urlHash, provider)} 는 건너뛴다(동시 재계산 레이스, 멱등). */
+    void saveAll(Map<String, ArticleSentiment> sentiments, String provider);
 }
@@ -2,6 +2,7 @@ package github.lms.lemuel.company.application.service;
 
 import github.lms.lemuel.company.application.port.in.RecalcReputationUseCase;
 import github.lms.lemuel.company.application.port.out.AnalyzeSentimentPort;
+import github.lms.lemuel.company.application.port.out.AnalyzeSentimentPort.ArticleText;
 import github.lms.lemuel.company.application.port.out.LoadArticlePort;
 import github.lms.lemuel.company.application.port.out.LoadCompanyPort;
 import github.lms.lemuel.company.application.port.out.LoadReputationPort;
@@ -12,6 +13,7 @@ import github.lms.lemuel.company.domain.Company;
 import github.lms.lemuel.company.domain.ReputationScore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -19,15 +21,33 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * 저장된 기사에서 오늘자 평판 스냅샷을 산정한다(ADR 0023 Phase 2).
  *
- * <p>외부 호출이 없어(순수 DB 읽기 + 인메모리 분류) 동기 실행한다. INSERT-only 이므로 오늘자
- * 스냅샷이 이미 있으면 건너뛴다 — 재실행해도 그날 첫 스냅샷이 불변으로 남는다.
+ * <p>INSERT-only 이므로 오늘자 스냅샷이 이미 있으면 건너뛴다 — 재실행해도 그날 첫 스냅샷이 불변으로 남는다.
+ *
+ * <p>산정은 세 단계다.
+ * <ol>
+ *   <li>기업마다 오늘자 존재 여부와 윈도우 기사를 읽는다 — 작업 실행기에서 동시에.</li>
+ *   <li>모든 기업의 기사를 urlHash 로 중복 제거해 감성 캐시를 한 번에 조회하고, 캐시에 없는 기사만
+ *       {@link AnalyzeSentimentPort#batchSize()} 개씩 묶어 분석한다(묶음끼리 동시에). 묶음마다 결과를 일괄
+ *       캐시한다 — 도중에 실패해도 끝난 묶음은 다음 재계산에서 다시 분석하지 않는다.</li>
+ *   <li>기업마다 점수를 산정해 저장한다 — 다시 동시에.</li>
+ * </ol>
+ * 동시 실행 수는 {@code recalcWorkerExecutor} 가, LLM 호출 간격·일일 상한은 분석기 앞의 예산 가드가 정한다.
+ * 한 작업의 예외는 나머지 작업이 끝난 뒤 호출자에게 그대로 전파된다(예전 순차 실행과 같은 계약).
  */
 @Service
 public class ReputationRecalcService implements RecalcReputationUseCase {
@@ -41,6 +61,7 @@ public class ReputationRecalcService implements RecalcReputationUseCase {
     private final SentimentCachePort sentimentCachePort;
     private final LoadReputationPort loadReputationPort;
     private final ReputationSnapshotWriter snapshotWriter;
+    private final Executor workerExecutor;
     private final int windowDays;
     private final String sentimentProvider;
 
@@ -50,6 +71,7 @@ public class ReputationRecalcService implements RecalcReputationUseCase {
                                    SentimentCachePort sentimentCachePort,
                                    LoadReputationPort loadReputationPort,
                                    ReputationSnapshotWriter snapshotWriter,
+                                   @Qualifier("recalcWorkerExecutor") Executor workerExecutor,
                                    @Value("${app.company.reputation.window-days:30}") int windowDays,
                                    @Value("${app.company.sentiment.provider:keyword}") String sentimentProvider) {
         this.loadCompanyPort = loadCompanyPort;
@@ -58,6 +80,7 @@ public class ReputationRecalcService implements RecalcReputationUseCase {
         this.sentimentCachePort = sentimentCachePort;
         this.loadReputationPort = loadReputationPort;
         this.snapshotWriter = snapshotWriter;
+        this.workerExecutor = workerExecutor;
         this.windowDays = windowDays;
         this.sentimentProvider = sentimentProvider;
     }
@@ -66,19 +89,17 @@ public class ReputationRecalcService implements RecalcReputationUseCase {
     public Optional<ReputationScore> recalcFor(String stockCode) {
         Company company = loadCompanyPort.findByStockCode(stockCode)
                 .orElseThrow(() -> new NoSuchElementException("기업을 찾을 수 없습니다: " + stockCode));
-        Outcome outcome = recalcOne(company, Instant.now());
+        Outcome outcome = recalc(List.of(company), Instant.now()).getFirst();
         return Optional.ofNullable(outcome.score());
     }
 
     @Override
     public RecalcSummary recalcAll() {
-        Instant now = Instant.now();
         int saved = 0;
         int skippedNoArticle = 0;
         int skippedExisting = 0;
         List<Company> companies = loadCompanyPort.findAll();
-        for (Company company : companies) {
-            Outcome outcome = recalcOne(company, now);
+        for (Outcome outcome : recalc(companies, Instant.now())) {
             switch (outcome.status()) {
                 case SAVED -> saved++;
                 case NO_ARTICLE -> skippedNoArticle++;
@@ -90,37 +111,114 @@ public class ReputationRecalcService implements RecalcReputationUseCase {
         return summary;
     }
 
-    private Outcome recalcOne(Company company, Instant now) {
+    /** 입력 기업 순서대로 결과를 돌려준다. */
+    private List<Outcome> recalc(List<Company> companies, Instant now) {
         LocalDate today = now.atZone(KST).toLocalDate();
+        Instant since = now.minus(Duration.ofDays(windowDays));
+        List<Candidate> candidates = inParallel(companies, company -> candidate(company, today, since));
+
+        Map<String, Article> articles = new LinkedHashMap<>();
+        for (Candidate candidate : candidates) {
+            candidate.articles().forEach(article -> articles.putIfAbsent(article.urlHash(), article));
+        }
+        Map<String, ArticleSentiment> sentiments = sentimentsOf(articles);
+
+        return inParallel(candidates, candidate -> score(candidate, today, now, sentiments));
+    }
+
+    private Candidate candidate(Company company, LocalDate today, Instant since) {
         if (loadReputationPort.existsForDate(company.stockCode(), today)) {
-            return Outcome.exists();
+            return Candidate.decided(company, Outcome.exists());
         }
-        Instant since = now.minus(Duration.ofDays(windowDays));
         List<Article> articles = loadArticlePort.findForScoring(company.stockCode(), since);
         if (articles.isEmpty()) {
-            return Outcome.noArticle();
+            return Candidate.decided(company, Outcome.noArticle());
+        }
+        return new Candidate(company, articles, null);
+    }
+
+    private Outcome score(Candidate candidate, LocalDate today, Instant now, Map<String, ArticleSentiment> sentiments) {
+        if (candidate.decided() != null) {
+            return candidate.decided();
         }
-        List<ArticleSentiment> sentiments = articles.stream()
-                .map(this::sentimentOf)
+        String stockCode = candidate.company().stockCode();
+        List<ArticleSentiment> articleSentiments = candidate.articles().stream()
+                .map(article -> sentiments.get(article.urlHash()))
                 .toList();
-        ReputationScore score = ReputationScore.compute(company.stockCode(), today, sentiments, now);
+        ReputationScore score = ReputationScore.compute(stockCode, today, articleSentiments, now);
         // 저장 + 등급 변동 이벤트 발행을 한 트랜잭션으로 (원자성). 오늘자 존재/레이스면 false.
         if (!snapshotWriter.writeIfChanged(score)) {
             return Outcome.exists();
         }
         log.info("평판 스냅샷 저장 stockCode={} score={} grade={} (기사 {}건)",
-                company.stockCode(), score.score(), score.grade(), score.articleCount());
+                stockCode, score.score(), score.grade(), score.articleCount());
         return Outcome.saved(score);
     }
 
-    /** 감성 = 캐시 우선. 캐시 미스면 분석하고 (urlHash, provider) 로 저장 — 재계산 반복 시 LLM 재호출 0. */
-    private ArticleSentiment sentimentOf(Article article) {
-        return sentimentCachePort.find(article.urlHash(), sentimentProvider)
-                .orElseGet(() -> {
-                    ArticleSentiment analyzed = analyzeSentimentPort.analyze(article.title(), article.summary());
-                    sentimentCachePort.save(article.urlHash(), sentimentProvider, analyzed);
-                    return analyzed;
-                });
+    /**
+     * 감성 = 캐시 우선. 캐시 미스만 묶어 분석하고 (urlHash, provider) 로 저장 — 재계산 반복 시 LLM 재호출 0.
+     * 여러 기업에 걸친 같은 기사는 한 번만 분석한다(입력이 이미 urlHash 로 중복 제거돼 있다).
+     */
+    private Map<String, ArticleSentiment> sentimentsOf(Map<String, Article> articles) {
+        if (articles.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, ArticleSentiment> sentiments =
+                new HashMap<>(sentimentCachePort.findAll(articles.keySet(), sentimentProvider));
+        List<Article> misses = articles.values().stream()
+                .filter(article -> !sentiments.containsKey(article.urlHash()))
+                .toList();
+        if (misses.isEmpty()) {
+            return sentiments;
+        }
+        int batchSize = Math.max(1, analyzeSentimentPort.batchSize());
+        List<List<Article>> batches = new ArrayList<>();
+        for (int from = 0; from < misses.size(); from += batchSize) {
+            batches.add(misses.subList(from, Math.min(misses.size(), from + batchSize)));
+        }
+        inParallel(batches, this::analyzeAndCache).forEach(sentiments::putAll);
+        log.info("감성 분석 provider={} — 기사 {}건 중 캐시 {}건, 분석 {}건(요청 {}회)",
+                sentimentProvider, articles.size(), articles.size() - misses.size(), misses.size(), batches.size());
+        return sentiments;
+    }
+
+    private Map<String, ArticleSentiment> analyzeAndCache(List<Article> batch) {
+        List<ArticleSentiment> analyzed = analyzeSentimentPort.analyzeAll(batch.stream()
+                .map(article -> new ArticleText(article.title(), article.summary()))
+                .toList());
+        if (analyzed.size() != batch.size()) {
+            throw new IllegalStateException(
+                    "감성 분석 결과 수가 입력과 다릅니다: 입력 " + batch.size() + "건, 결과 " + analyzed.size() + "건");
+        }
+        Map<String, ArticleSentiment> byHash = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            byHash.put(batch.get(i).urlHash(), analyzed.get(i));
+        }
+        sentimentCachePort.saveAll(byHash, sentimentProvider);
+        return byHash;
+    }
+
+    /** 작업 실행기에서 항목마다 task 를 돌려 입력 순서대로 모은다. 실패가 있으면 모두 끝난 뒤 그 예외를 던진다. */
+    private <T, R> List<R> inParallel(List<T> items, Function<T, R> task) {
+        List<CompletableFuture<R>> futures = items.stream()
+                .map(item -> CompletableFuture.supplyAsync(() -> task.apply(item), workerExecutor))
+                .toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /** 산정 대상 — decided 가 있으면 산정할 필요 없이 결과가 이미 정해진 기업(오늘자 존재·기사 없음). */
+    private record Candidate(Company company, List<Article> articles, Outcome decided) {
+        static Candidate decided(Company company, Outcome outcome) {
+            return new Candidate(company, List.of(), outcome);
+        }
     }
 
     private enum Status { SAVED, NO_ARTICLE, EXISTS }
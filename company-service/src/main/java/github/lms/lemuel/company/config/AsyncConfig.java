@@ -1,5 +1,6 @@
 package github.lms.lemuel.company.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
@@ -30,4 +31,17 @@ public class AsyncConfig {
         executor.setVirtualThreads(true);
         return executor;
     }
+
+    /**
+     * 평판 재계산 안쪽 작업 — 기업별 기사 읽기·산정과 감성 묶음 분석을 동시에 돌린다. 동시 실행은
+     * {@code app.company.reputation.recalc-parallelism} 까지라 커넥션 풀과 LLM 예산을 다 가져가지 않는다
+     * (LLM 호출 간격·일일 상한은 {@code QuotaGuardedSentimentAnalyzer} 가 스레드와 무관하게 지킨다).
+     */
+    @Bean(name = "recalcWorkerExecutor")
+    public TaskExecutor recalcWorkerExecutor(@Value("${app.company.reputation.recalc-parallelism:4}") int parallelism) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("company-recalc-worker-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(Math.max(1, parallelism));
+        return executor;
+    }
 }
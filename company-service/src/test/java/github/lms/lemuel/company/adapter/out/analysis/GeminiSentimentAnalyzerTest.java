@@ -1,6 +1,7 @@
 package github.lms.lemuel.company.adapter.out.analysis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import github.lms.lemuel.company.application.port.out.AnalyzeSentimentPort.ArticleText;
 import github.lms.lemuel.company.domain.ArticleSentiment;
 import github.lms.lemuel.company.domain.IssueCategory;
 import github.lms.lemuel.company.domain.Sentiment;
@@ -10,6 +11,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
+import java.util.List;
+
 import static org.hamcrest.Matchers.endsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
@@ -28,7 +31,7 @@ class GeminiSentimentAnalyzerTest {
     private Fixture configuredWith(String responseBody, boolean success) {
         RestClient.Builder builder = RestClient.builder();
         MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
-        GeminiSentimentProperties props = new GeminiSentimentProperties("test-key", null, null, 0, 0, 0);
+        GeminiSentimentProperties props = new GeminiSentimentProperties("test-key", null, null, 0, 0, 0, 0);
         GeminiSentimentAnalyzer analyzer = new GeminiSentimentAnalyzer(props, builder, objectMapper);
         server.expect(requestTo(endsWith("generateContent")))
                 .andExpect(header("x-goog-api-key", "test-key"))
@@ -41,7 +44,7 @@ class GeminiSentimentAnalyzerTest {
     @Test
     @DisplayName("API 키 미설정이면 호출 없이 키워드 분석기로 폴백한다")
     void fallsBackWhenNotConfigured() {
-        GeminiSentimentProperties props = new GeminiSentimentProperties("", null, null, 0, 0, 0);
+        GeminiSentimentProperties props = new GeminiSentimentProperties("", null, null, 0, 0, 0, 0);
         GeminiSentimentAnalyzer analyzer = new GeminiSentimentAnalyzer(props, RestClient.builder(), objectMapper);
 
         // 키워드 분석기가 '리콜'을 PRODUCT 부정으로 잡는다 — Gemini 호출 없이 동일 결과
@@ -124,4 +127,32 @@ class GeminiSentimentAnalyzerTest {
         assertEquals(Sentiment.NEUTRAL, result.sentiment());
         fx.server().verify();
     }
+
+    @Test
+    @DisplayName("묶음 분석은 요청 한 번으로 번호별 라벨을 매핑하고, 빠진 번호만 키워드로 폴백한다")
+    void analyzesBatchInOneRequest() {
+        Fixture fx = configuredWith("{\"candidates\":[{\"content\":{\"parts\":[{\"text\":"
+                + "\"1: POSITIVE\\n3: NEGATIVE_GOVERNANCE\"}]}}]}", true);
+
+        List<ArticleSentiment> result = fx.analyzer().analyzeAll(List.of(
+                new ArticleText("어떤 기업 소식", ""), new ArticleText("파업 장기화", ""), new ArticleText("제목", "")));
+
+        assertEquals(Sentiment.POSITIVE, result.get(0).sentiment());
+        assertEquals(IssueCategory.LABOR, result.get(1).category());   // 응답에 없던 2번 — 키워드 폴백
+        assertEquals(IssueCategory.GOVERNANCE, result.get(2).category());
+        fx.server().verify();
+    }
+
+    @Test
+    @DisplayName("묶음 요청이 HTTP 오류면 묶음 전체를 키워드로 폴백한다")
+    void fallsBackWholeBatchOnHttpError() {
+        Fixture fx = configuredWith(null, false);
+
+        List<ArticleSentiment> result = fx.analyzer().analyzeAll(List.of(
+                new ArticleText("신제품 흥행", ""), new ArticleText("분식회계 의혹", "")));
+
+        assertEquals(Sentiment.POSITIVE, result.get(0).sentiment());
+        assertEquals(IssueCategory.FINANCIAL, result.get(1).category());
+        fx.server().verify();
+    }
 }
@@ -1,14 +1,19 @@
 package github.lms.lemuel.company.adapter.out.analysis;
 
+import github.lms.lemuel.company.application.port.out.AnalyzeSentimentPort.ArticleText;
 import github.lms.lemuel.company.domain.ArticleSentiment;
 import github.lms.lemuel.company.domain.IssueCategory;
 import github.lms.lemuel.company.domain.Sentiment;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,7 +21,7 @@ import static org.mockito.Mockito.when;
 class QuotaGuardedSentimentAnalyzerTest {
 
     private GeminiSentimentProperties props(int dailyQuota, long minIntervalMs) {
-        return new GeminiSentimentProperties("k", null, null, 0, dailyQuota, minIntervalMs);
+        return new GeminiSentimentProperties("k", null, null, 0, dailyQuota, minIntervalMs, 0);
     }
 
     @Test
@@ -70,4 +75,25 @@ class QuotaGuardedSentimentAnalyzerTest {
         assertEquals(Sentiment.NEUTRAL, r2.sentiment());
         verify(delegate, times(2)).analyze(any(), any());
     }
+
+    @Test
+    @DisplayName("묶음 요청은 기사 수와 상관없이 상한 한 칸을 쓰고, 상한이 다 차면 묶음 전체를 키워드로 폴백한다")
+    void batchConsumesOneSlot() {
+        GeminiSentimentAnalyzer delegate = mock(GeminiSentimentAnalyzer.class);
+        when(delegate.analyzeAll(anyList()))
+                .thenReturn(List.of(ArticleSentiment.positive(), ArticleSentiment.positive(), ArticleSentiment.positive()));
+        QuotaGuardedSentimentAnalyzer guard = new QuotaGuardedSentimentAnalyzer(delegate, props(1, 0));
+        List<ArticleText> batch = List.of(new ArticleText("제목", ""), new ArticleText("소송 제기", ""),
+                new ArticleText("리콜 사태", ""));
+
+        List<ArticleSentiment> first = guard.analyzeAll(batch);     // 1 — delegate, 세 건이 한 칸
+        List<ArticleSentiment> overflow = guard.analyzeAll(batch);  // 2 — 상한 초과 → 키워드
+
+        assertEquals(Sentiment.POSITIVE, first.get(1).sentiment());
+        assertEquals(Sentiment.NEUTRAL, overflow.get(0).sentiment());
+        assertEquals(IssueCategory.LEGAL, overflow.get(1).category());
+        assertEquals(IssueCategory.PRODUCT, overflow.get(2).category());
+        verify(delegate, times(1)).analyzeAll(anyList());
+        verify(delegate, never()).analyze(any(), any());
+    }
 }
@@ -1,10 +1,14 @@
 package github.lms.lemuel.company.adapter.out.analysis;
 
+import github.lms.lemuel.company.application.port.out.AnalyzeSentimentPort.ArticleText;
+import github.lms.lemuel.company.domain.ArticleSentiment;
 import github.lms.lemuel.company.domain.IssueCategory;
 import github.lms.lemuel.company.domain.Sentiment;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -32,4 +36,29 @@ class SentimentLabelsTest {
         assertEquals("제목: A\n요약: B", SentimentLabels.userText("A", "B"));
         assertEquals("제목: A\n요약: ", SentimentLabels.userText("A", null));
     }
+
+    @Test
+    @DisplayName("batchUserText 는 기사마다 [번호] 를 붙여 빈 줄로 잇는다")
+    void batchUserText() {
+        assertEquals("[1]\n제목: A\n요약: B\n\n[2]\n제목: C\n요약: ",
+                SentimentLabels.batchUserText(List.of(new ArticleText("A", "B"), new ArticleText("C", null))));
+    }
+
+    @Test
+    @DisplayName("parseBatch 는 번호로 자리를 찾고, 빠지거나 범위 밖인 번호는 null 로 남긴다")
+    void parseBatch() {
+        List<ArticleSentiment> parsed = SentimentLabels.parseBatch("""
+                1: NEGATIVE_LEGAL
+                설명 문장은 무시
+                [3] positive
+                7: NEUTRAL
+                1: POSITIVE""", 4);
+
+        assertEquals(4, parsed.size());
+        assertEquals(IssueCategory.LEGAL, parsed.get(0).category());   // 같은 번호가 또 와도 첫 줄이 이긴다
+        assertNull(parsed.get(1));
+        assertEquals(Sentiment.POSITIVE, parsed.get(2).sentiment());
+        assertNull(parsed.get(3));
+        assertEquals(3, SentimentLabels.parseBatch(null, 3).stream().filter(s -> s == null).count());
+    }
 }
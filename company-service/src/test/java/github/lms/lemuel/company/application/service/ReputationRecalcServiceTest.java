@@ -17,9 +17,21 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -35,19 +47,30 @@ class ReputationRecalcServiceTest {
 
     private final LoadCompanyPort loadCompanyPort = mock(LoadCompanyPort.class);
     private final LoadArticlePort loadArticlePort = mock(LoadArticlePort.class);
-    private final AnalyzeSentimentPort analyzeSentimentPort = mock(AnalyzeSentimentPort.class);
-    private final SentimentCachePort sentimentCachePort = mock(SentimentCachePort.class);
+    private final StubAnalyzer analyzer = new StubAnalyzer(2);
+    private final InMemorySentimentCache cache = new InMemorySentimentCache();
     private final LoadReputationPort loadReputationPort = mock(LoadReputationPort.class);
     private final ReputationSnapshotWriter snapshotWriter = mock(ReputationSnapshotWriter.class);
-    private final ReputationRecalcService service = new ReputationRecalcService(
-            loadCompanyPort, loadArticlePort, analyzeSentimentPort, sentimentCachePort,
-            loadReputationPort, snapshotWriter, 30, "gemini");
+    private final ReputationRecalcService service = service(Runnable::run);
 
     private static final Company SAMSUNG = new Company("005930", null, "삼성전자", null);
 
+    private ReputationRecalcService service(Executor executor) {
+        return new ReputationRecalcService(loadCompanyPort, loadArticlePort, analyzer, cache,
+                loadReputationPort, snapshotWriter, executor, 30, "gemini");
+    }
+
+    private static Article article(String stockCode, String url, String title) {
+        return Article.collect(stockCode, ArticleSource.NAVER_NEWS, title, "요약", "a.com", url, Instant.now());
+    }
+
     private static Article article() {
-        return Article.collect("005930", ArticleSource.NAVER_NEWS, "제목", "요약", "a.com",
-                "https://a.com/1", Instant.now());
+        return article("005930", "https://a.com/1", "제목");
+    }
+
+    private void givenScorable(String stockCode, List<Article> articles) {
+        when(loadReputationPort.existsForDate(eq(stockCode), any(LocalDate.class))).thenReturn(false);
+        when(loadArticlePort.findForScoring(eq(stockCode), any())).thenReturn(articles);
     }
 
     @Test
@@ -74,8 +97,7 @@ class ReputationRecalcServiceTest {
     @DisplayName("기사가 없으면 스냅샷을 만들지 않는다")
     void skipsWhenNoArticles() {
         when(loadCompanyPort.findByStockCode("005930")).thenReturn(Optional.of(SAMSUNG));
-        when(loadReputationPort.existsForDate(eq("005930"), any(LocalDate.class))).thenReturn(false);
-        when(loadArticlePort.findForScoring(eq("005930"), any())).thenReturn(List.of());
+        givenScorable("005930", List.of());
 
         Optional<ReputationScore> result = service.recalcFor("005930");
 
@@ -87,10 +109,10 @@ class ReputationRecalcServiceTest {
     @DisplayName("기사를 분류해 스냅샷을 산정하고 writer 로 저장 위임한다")
     void computesAndDelegatesToWriter() {
         when(loadCompanyPort.findByStockCode("005930")).thenReturn(Optional.of(SAMSUNG));
-        when(loadReputationPort.existsForDate(eq("005930"), any(LocalDate.class))).thenReturn(false);
-        when(loadArticlePort.findForScoring(eq("005930"), any())).thenReturn(List.of(article(), article()));
-        when(analyzeSentimentPort.analyze(any(), any()))
-                .thenReturn(ArticleSentiment.negative(IssueCategory.LEGAL), ArticleSentiment.positive());
+        givenScorable("005930", List.of(article("005930", "https://a.com/1", "소송"),
+                article("005930", "https://a.com/2", "호재")));
+        analyzer.labels.put("소송", ArticleSentiment.negative(IssueCategory.LEGAL));
+        analyzer.labels.put("호재", ArticleSentiment.positive());
         when(snapshotWriter.writeIfChanged(any())).thenReturn(true);
 
         Optional<ReputationScore> result = service.recalcFor("005930");
@@ -107,32 +129,67 @@ class ReputationRecalcServiceTest {
     @DisplayName("감성 캐시 히트면 분석기를 호출하지 않고 저장도 하지 않는다")
     void usesCacheWhenPresent() {
         when(loadCompanyPort.findByStockCode("005930")).thenReturn(Optional.of(SAMSUNG));
-        when(loadReputationPort.existsForDate(eq("005930"), any(LocalDate.class))).thenReturn(false);
-        when(loadArticlePort.findForScoring(eq("005930"), any())).thenReturn(List.of(article()));
-        when(sentimentCachePort.find(any(), eq("gemini"))).thenReturn(Optional.of(ArticleSentiment.positive()));
+        givenScorable("005930", List.of(article()));
+        cache.rows.put(article().urlHash() + "|gemini", ArticleSentiment.positive());
         when(snapshotWriter.writeIfChanged(any())).thenReturn(true);
 
         Optional<ReputationScore> result = service.recalcFor("005930");
 
         assertTrue(result.isPresent());
-        verify(analyzeSentimentPort, never()).analyze(any(), any());
-        verify(sentimentCachePort, never()).save(any(), any(), any());
+        assertEquals(0, analyzer.calls.size());
+        assertEquals(0, cache.saveAllCalls.get());
     }
 
     @Test
     @DisplayName("감성 캐시 미스면 분석 후 결과를 (urlHash, provider) 로 캐시 저장한다")
     void analyzesAndCachesOnMiss() {
         when(loadCompanyPort.findByStockCode("005930")).thenReturn(Optional.of(SAMSUNG));
-        when(loadReputationPort.existsForDate(eq("005930"), any(LocalDate.class))).thenReturn(false);
-        when(loadArticlePort.findForScoring(eq("005930"), any())).thenReturn(List.of(article()));
-        when(sentimentCachePort.find(any(), eq("gemini"))).thenReturn(Optional.empty());
-        when(analyzeSentimentPort.analyze(any(), any())).thenReturn(ArticleSentiment.neutral());
+        givenScorable("005930", List.of(article()));
         when(snapshotWriter.writeIfChanged(any())).thenReturn(true);
 
         service.recalcFor("005930");
 
-        verify(analyzeSentimentPort).analyze(any(), any());
-        verify(sentimentCachePort).save(any(), eq("gemini"), any());
+        assertEquals(1, analyzer.calls.size());
+        assertEquals(ArticleSentiment.neutral(), cache.rows.get(article().urlHash() + "|gemini"));
+    }
+
+    @Test
+    @DisplayName("여러 기업의 같은 기사는 한 번만, 캐시 미스만 묶음 크기씩 분석하고 캐시는 한 번에 조회한다")
+    void deduplicatesAcrossCompaniesAndBatchesMisses() {
+        Company naver = new Company("035420", null, "NAVER", null);
+        when(loadCompanyPort.findAll()).thenReturn(List.of(SAMSUNG, naver));
+        Article shared = article("005930", "https://a.com/shared", "공동 기사");
+        givenScorable("005930", List.of(shared, article("005930", "https://a.com/1", "1"),
+                article("005930", "https://a.com/2", "2")));
+        givenScorable("035420", List.of(article("035420", "https://a.com/shared", "공동 기사"),
+                article("035420", "https://a.com/3", "3"), article("035420", "https://a.com/cached", "캐시")));
+        cache.rows.put(article("035420", "https://a.com/cached", "캐시").urlHash() + "|gemini",
+                ArticleSentiment.positive());
+        when(snapshotWriter.writeIfChanged(any())).thenReturn(true);
+
+        RecalcReputationUseCase.RecalcSummary summary = service.recalcAll();
+
+        assertEquals(2, summary.saved());
+        assertEquals(1, cache.findAllCalls.get());
+        // 서로 다른 캐시 미스 4건(공동 1 + 1,2,3) → 묶음 크기 2 로 요청 2회
+        assertEquals(List.of(2, 2), analyzer.calls.stream().map(List::size).toList());
+        assertEquals(4, analyzer.calls.stream().flatMap(List::stream).map(AnalyzeSentimentPort.ArticleText::title)
+                .distinct().count());
+        assertEquals(2, cache.saveAllCalls.get());
+        assertEquals(5, cache.rows.size());
+    }
+
+    @Test
+    @DisplayName("분석 결과 수가 입력과 다르면 실패한다 — 감성을 엉뚱한 기사에 붙이지 않는다")
+    void rejectsMismatchedBatchResult() {
+        when(loadCompanyPort.findByStockCode("005930")).thenReturn(Optional.of(SAMSUNG));
+        givenScorable("005930", List.of(article("005930", "https://a.com/1", "1"),
+                article("005930", "https://a.com/2", "2")));
+        analyzer.transform = results -> results.subList(0, 1);
+
+        assertThrows(IllegalStateException.class, () -> service.recalcFor("005930"));
+        verify(snapshotWriter, never()).writeIfChanged(any());
+        assertEquals(0, cache.rows.size());
     }
 
     @Test
@@ -142,12 +199,9 @@ class ReputationRecalcServiceTest {
         Company kakao = new Company("035720", null, "카카오", null);
         when(loadCompanyPort.findAll()).thenReturn(List.of(SAMSUNG, naver, kakao));
         // 삼성: 저장 / NAVER: 기사없음 / 카카오: 오늘 스냅샷 존재
-        when(loadReputationPort.existsForDate(eq("005930"), any(LocalDate.class))).thenReturn(false);
-        when(loadReputationPort.existsForDate(eq("035420"), any(LocalDate.class))).thenReturn(false);
+        givenScorable("005930", List.of(article()));
+        givenScorable("035420", List.of());
         when(loadReputationPort.existsForDate(eq("035720"), any(LocalDate.class))).thenReturn(true);
-        when(loadArticlePort.findForScoring(eq("005930"), any())).thenReturn(List.of(article()));
-        when(loadArticlePort.findForScoring(eq("035420"), any())).thenReturn(List.of());
-        when(analyzeSentimentPort.analyze(any(), any())).thenReturn(ArticleSentiment.neutral());
         when(snapshotWriter.writeIfChanged(any())).thenReturn(true);
 
         RecalcReputationUseCase.RecalcSummary summary = service.recalcAll();
@@ -157,4 +211,84 @@ class ReputationRecalcServiceTest {
         assertEquals(1, summary.skippedNoArticle());
         assertEquals(1, summary.skippedExisting());
     }
+
+    @Test
+    @DisplayName("작업 풀에서 동시에 돌려도 기업마다 한 번씩 산정하고 기사마다 한 번씩 분석한다")
+    void parallelRecalcScoresEveryCompanyOnce() {
+        List<Company> companies = IntStream.range(0, 40)
+                .mapToObj(i -> new Company(String.format("%06d", i), null, "기업" + i, null))
+                .toList();
+        when(loadCompanyPort.findAll()).thenReturn(companies);
+        companies.forEach(company -> givenScorable(company.stockCode(), IntStream.range(0, 5)
+                .mapToObj(i -> article(company.stockCode(), "https://a.com/" + company.stockCode() + "/" + i, "제목"))
+                .toList()));
+        when(snapshotWriter.writeIfChanged(any())).thenReturn(true);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            RecalcReputationUseCase.RecalcSummary summary = service(pool).recalcAll();
+
+            assertEquals(40, summary.saved());
+            assertEquals(200, analyzer.calls.stream().mapToInt(List::size).sum());
+            assertEquals(100, analyzer.calls.size());
+            assertEquals(200, cache.rows.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** 제목으로 라벨을 정하는 로컬 분석기 — 묶음 호출을 기록한다. 모르는 제목은 NEUTRAL. */
+    private static final class StubAnalyzer implements AnalyzeSentimentPort {
+
+        private final int batchSize;
+        private final Map<String, ArticleSentiment> labels = new HashMap<>();
+        private final List<List<ArticleText>> calls = new CopyOnWriteArrayList<>();
+        private Function<List<ArticleSentiment>, List<ArticleSentiment>> transform = Function.identity();
+
+        StubAnalyzer(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ArticleSentiment analyze(String title, String summary) {
+            return labels.getOrDefault(title, ArticleSentiment.neutral());
+        }
+
+        @Override
+        public List<ArticleSentiment> analyzeAll(List<ArticleText> articles) {
+            calls.add(List.copyOf(articles));
+            return transform.apply(AnalyzeSentimentPort.super.analyzeAll(articles));
+        }
+
+        @Override
+        public int batchSize() {
+            return batchSize;
+        }
+    }
+
+    /** (urlHash, provider) 키의 메모리 캐시 — 이미 있으면 저장하지 않는다. */
+    private static final class InMemorySentimentCache implements SentimentCachePort {
+
+        private final Map<String, ArticleSentiment> rows = new ConcurrentHashMap<>();
+        private final AtomicInteger findAllCalls = new AtomicInteger();
+        private final AtomicInteger saveAllCalls = new AtomicInteger();
+
+        @Override
+        public Map<String, ArticleSentiment> findAll(Collection<String> urlHashes, String provider) {
+            findAllCalls.incrementAndGet();
+            Map<String, ArticleSentiment> found = new HashMap<>();
+            for (String urlHash : new ArrayList<>(urlHashes)) {
+                ArticleSentiment cached = rows.get(urlHash + "|" + provider);
+                if (cached != null) {
+                    found.put(urlHash, cached);
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public void saveAll(Map<String, ArticleSentiment> sentiments, String provider) {
+            saveAllCalls.incrementAndGet();
+            sentiments.forEach((urlHash, sentiment) -> rows.putIfAbsent(urlHash + "|" + provider, sentiment));
+        }
+    }
 }
@@ -31,6 +31,17 @@ class ConfigBeansTest {
         assertTrue(latch.await(5, TimeUnit.SECONDS));
     }
 
+    @Test
+    @DisplayName("AsyncConfig — recalcWorkerExecutor 는 병렬도 0 이하도 한 건씩은 실행한다")
+    void recalcWorkerExecutor() throws Exception {
+        TaskExecutor executor = new AsyncConfig().recalcWorkerExecutor(0);
+
+        CountDownLatch latch = new CountDownLatch(2);
+        executor.execute(latch::countDown);
+        executor.execute(latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
     @Test
     @DisplayName("HttpClientConfig — RestClient.Builder 빈 제공")
     void httpClientConfig() {
@@ -17,8 +17,9 @@ import java.time.LocalDate;
  * ECOS 지표 일일 자동 수집 스케줄러.
  *
  * <p>매일 {@code app.economics.sync.schedule.cron}(기본 08:00 KST) 에 전체 카탈로그를 대상으로
- * 최근 {@code lookback-days}(기본 30일) 구간을 재조회해 관측치를 upsert 한다 —
+ * 최근 {@code lookback-days}(기본 30일) 구간을 요청해 관측치를 upsert 한다 —
  * {@code (indicator_code, observed_date)} UNIQUE 라 SEED 값이 실 ECOS 값으로 덮어써진다.
+ * 이미 ECOS 로 채운 지표는 수집 배치가 high-water mark 뒤(와 정정 look-back)만 실제로 다시 받는다.
  *
  * <ul>
  *   <li>{@code ECOS_API_KEY} 미설정이면 조용히 skip(예외 아님) — 키 없이도 서비스는 SEED 로 계속 동작.</li>
@@ -26,6 +26,9 @@ import java.util.function.Supplier;
  * <p>TODO(Task 10 · Chunk 4): AdminApiKeyFilter 로 {@code /admin/economics/**} 게이팅 예정.
  * 현재는 미인증 상태이며, 게이트 필터가 아직 없다.
  *
+ * <p>기본은 증분 수집(이미 받은 연속 구간은 정정 look-back 만)이고, {@code full=true} 면 요청 구간 전체를
+ * ECOS 에서 다시 받는다 — 과거 이력을 일부러 다시 당길 때 쓴다.
+ *
  * <p>수집은 시간이 걸리는 배치라 202 + 백그라운드 실행으로 처리하고,
  * 진행/결과는 GET /admin/economics/sync/status 로 확인한다. 동시 실행은 409.
  */
@@ -54,11 +57,13 @@ public class EconomicsSyncAdminController {
     public ResponseEntity<Map<String, String>> sync(
             @RequestParam(required = false) String code,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
-        String job = (code == null ? "all" : code) + ":" + from + "~" + to;
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean full) {
+        String job = (code == null ? "all" : code) + ":" + from + "~" + to + (full ? ":full" : "");
         recordAuditPort.record("COLLECT_TRIGGERED", "EcosSync", job,
-                Map.of("code", code == null ? "all" : code, "from", from.toString(), "to", to.toString()));
-        return submit(job, () -> syncIndicatorsUseCase.syncIndicators(code, from, to));
+                Map.of("code", code == null ? "all" : code, "from", from.toString(), "to", to.toString(),
+                        "full", String.valueOf(full)));
+        return submit(job, () -> syncIndicatorsUseCase.syncIndicators(code, from, to, full));
     }
 
     @GetMapping("/status")
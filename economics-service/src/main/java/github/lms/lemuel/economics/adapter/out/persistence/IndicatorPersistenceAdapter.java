@@ -1,5 +1,6 @@
 package github.lms.lemuel.economics.adapter.out.persistence;
 
+import github.lms.lemuel.common.batch.MultiRowUpsert;
 import github.lms.lemuel.economics.application.port.out.LoadIndicatorPort;
 import github.lms.lemuel.economics.application.port.out.LoadIndicatorValuePort;
 import github.lms.lemuel.economics.application.port.out.SaveIndicatorValuePort;
@@ -7,24 +8,75 @@ import github.lms.lemuel.economics.domain.Indicator;
 import github.lms.lemuel.economics.domain.IndicatorValue;
 import github.lms.lemuel.economics.domain.ValueSource;
 import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 public class IndicatorPersistenceAdapter
         implements LoadIndicatorPort, LoadIndicatorValuePort, SaveIndicatorValuePort {
 
+    /** 한 문장의 최대 행 수 — 행당 파라미터 4개. */
+    static final int ROWS_PER_STATEMENT = 1_000;
+
+    // 값·source 가 같으면 갱신하지 않는다 — 정정 look-back 으로 다시 받은 행 대부분이 여기서 걸러져
+    // 죽은 튜플·WAL 을 만들지 않고, 영향 행 수가 곧 "바뀐 관측치 수" 가 된다.
+    private static final MultiRowUpsert<IndicatorValue> UPSERT = new MultiRowUpsert<>("""
+            INSERT INTO indicator_values AS v (indicator_code, observed_date, value, source, synced_at)
+            VALUES\s""", "(?, ?, ?, ?, NOW())", """
+             ON CONFLICT (indicator_code, observed_date) DO UPDATE
+            SET value     = EXCLUDED.value,
+                source    = EXCLUDED.source,
+                synced_at = NOW()
+            WHERE (v.value, v.source) IS DISTINCT FROM (EXCLUDED.value, EXCLUDED.source)
+            """, ROWS_PER_STATEMENT,
+            Comparator.comparing(IndicatorValue::indicatorCode).thenComparing(IndicatorValue::observedDate),
+            (value, args) -> {
+                args.add(value.indicatorCode());
+                args.add(value.observedDate());
+                args.add(value.value());
+                args.add(value.source().name());
+            });
+
+    /** 일별 ECOS 이웃 관측일이 이보다 벌어지면 끊긴 것으로 본다 — 설·추석 연휴와 주말이 겹친 휴장보다 길다. */
+    static final int MAX_DAILY_GAP_DAYS = 10;
+
+    // 지표별로 관측일을 차례로 훑어 앞 관측일과 벌어진(또는 첫) 행을 구간 시작으로 표시하고, 마지막 구간 시작일을 고른다.
+    // 월별은 관측일이 달 첫날이지만 달 단위로 잘라 비교해 말일 표기가 섞여도 빈 달만 끊김으로 본다.
+    static final String ECOS_COVERAGE_SQL = """
+            SELECT indicator_code,
+                   MAX(observed_date) FILTER (WHERE run_start) AS contiguous_from,
+                   MAX(observed_date)                          AS latest
+            FROM (SELECT v.indicator_code, v.observed_date,
+                         (CASE WHEN i.cycle = 'M'
+                               THEN date_trunc('month', v.observed_date)
+                                    > date_trunc('month', LAG(v.observed_date) OVER w) + INTERVAL '1 month'
+                               ELSE v.observed_date - LAG(v.observed_date) OVER w > ?
+                          END) IS NOT FALSE AS run_start
+                  FROM indicator_values v
+                  JOIN indicators i ON i.code = v.indicator_code
+                  WHERE v.source = 'ECOS'
+                  WINDOW w AS (PARTITION BY v.indicator_code ORDER BY v.observed_date)) runs
+            GROUP BY indicator_code
+            """;
+
     private final IndicatorRepository indicatorRepository;
     private final IndicatorValueRepository indicatorValueRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     public IndicatorPersistenceAdapter(IndicatorRepository indicatorRepository,
-                                        IndicatorValueRepository indicatorValueRepository) {
+                                        IndicatorValueRepository indicatorValueRepository,
+                                        JdbcTemplate jdbcTemplate) {
         this.indicatorRepository = indicatorRepository;
         this.indicatorValueRepository = indicatorValueRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -59,17 +111,25 @@ public class IndicatorPersistenceAdapter
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, EcosCoverage> findEcosCoverage() {
+        Map<String, EcosCoverage> coverage = new HashMap<>();
+        jdbcTemplate.query(ECOS_COVERAGE_SQL, rs -> {
+            coverage.put(rs.getString("indicator_code"), new EcosCoverage(
+                    rs.getObject("contiguous_from", LocalDate.class), rs.getObject("latest", LocalDate.class)));
+        }, MAX_DAILY_GAP_DAYS);
+        return coverage;
+    }
+
+    /**
+     * 다중 행 VALUES 로 upsert 한다({@link MultiRowUpsert}). 행은 (indicator_code, observed_date) 순으로 잠근다 —
+     * 수동 동기화와 스케줄이 겹치는 구간을 동시에 써도 교착이 생기지 않는다.
+     */
     @Override
     @Transactional
-    public void upsert(IndicatorValue value) {
-        IndicatorValueJpaEntity entity = indicatorValueRepository
-                .findByIndicatorCodeAndObservedDate(value.indicatorCode(), value.observedDate())
-                .map(existing -> {
-                    existing.applyDomain(value);
-                    return existing;
-                })
-                .orElseGet(() -> IndicatorValueJpaEntity.fromDomain(value));
-        indicatorValueRepository.save(entity);
+    public int upsertAll(List<IndicatorValue> values) {
+        return UPSERT.execute(jdbcTemplate, values);
     }
 
     @Override
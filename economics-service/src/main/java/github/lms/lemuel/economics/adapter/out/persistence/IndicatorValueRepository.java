@@ -9,7 +9,6 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 
 public interface IndicatorValueRepository extends JpaRepository<IndicatorValueJpaEntity, Long> {
 
@@ -18,8 +17,6 @@ public interface IndicatorValueRepository extends JpaRepository<IndicatorValueJp
     List<IndicatorValueJpaEntity> findByIndicatorCodeAndObservedDateBetweenOrderByObservedDateAsc(
             String indicatorCode, LocalDate from, LocalDate to);
 
-    Optional<IndicatorValueJpaEntity> findByIndicatorCodeAndObservedDate(String indicatorCode, LocalDate observedDate);
-
     /** 지정 지표에서 {@code date} 이후의 특정 source 행을 벌크 삭제한다(후행 SEED 제거용). */
     @Modifying(clearAutomatically = true)
     @Query("delete from IndicatorValueJpaEntity v "
@@ -4,6 +4,11 @@ import java.time.LocalDate;
 
 public interface SyncIndicatorsUseCase {
 
-    /** indicatorCode=null 이면 카탈로그 전체. [from, to] 관측치를 ECOS 에서 받아 upsert. */
-    SyncResult syncIndicators(String indicatorCode, LocalDate from, LocalDate to);
+    /** indicatorCode=null 이면 카탈로그 전체. [from, to] 관측치를 ECOS 에서 받아 upsert (이미 받은 연속 구간은 건너뜀). */
+    default SyncResult syncIndicators(String indicatorCode, LocalDate from, LocalDate to) {
+        return syncIndicators(indicatorCode, from, to, false);
+    }
+
+    /** {@code fullWindow} 면 이미 받은 구간이라도 [from, to] 전체를 다시 받는다 — 과거 이력 재수집용. */
+    SyncResult syncIndicators(String indicatorCode, LocalDate from, LocalDate to, boolean fullWindow);
 }
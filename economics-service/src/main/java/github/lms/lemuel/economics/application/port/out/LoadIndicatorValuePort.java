@@ -4,6 +4,7 @@ import github.lms.lemuel.economics.domain.IndicatorValue;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 public interface LoadIndicatorValuePort {
 
@@ -12,4 +13,13 @@ public interface LoadIndicatorValuePort {
 
     /** [from, to] 시계열, observedDate ASC. */
     List<IndicatorValue> findSeries(String indicatorCode, LocalDate from, LocalDate to);
+
+    /**
+     * 지표별 ECOS 연속 구간 — 끊김 없이 이어진 마지막 ECOS 구간의 시작일과 최신 관측일. ECOS 행이 하나도 없는
+     * 지표는 빠진다. 일별은 이웃 관측일 간격이 휴장 연휴보다 길면, 월별은 빈 달이 있으면 끊긴 것으로 본다.
+     * 수집은 요청 시작일이 이 구간 안일 때만 {@code latest} 를 high-water mark 로 삼는다.
+     */
+    Map<String, EcosCoverage> findEcosCoverage();
+
+    record EcosCoverage(LocalDate contiguousFrom, LocalDate latest) { }
 }
@@ -3,11 +3,17 @@ package github.lms.lemuel.economics.application.port.out;
 import github.lms.lemuel.economics.domain.IndicatorValue;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public interface SaveIndicatorValuePort {
 
-    /** (indicator_code, observed_date) UNIQUE upsert — SEED 를 ECOS 가 덮어쓴다. */
-    void upsert(IndicatorValue value);
+    /**
+     * (indicator_code, observed_date) UNIQUE 기준 다중 행 upsert — SEED 를 ECOS 가 덮어쓴다.
+     * 값·source 가 그대로인 행은 건드리지 않는다(재조회 구간이 매번 같은 행을 다시 쓰지 않게).
+     *
+     * @return 새로 들어가거나 값이 바뀐 행 수
+     */
+    int upsertAll(List<IndicatorValue> values);
 
     /**
      * 실 ECOS 최신 관측일({@code latestEcosDate}) 이후의 SEED 행을 제거한다.
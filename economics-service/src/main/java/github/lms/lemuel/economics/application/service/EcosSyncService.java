@@ -1,21 +1,29 @@
 package github.lms.lemuel.economics.application.service;
 
+import github.lms.lemuel.common.batch.RequestPacer;
 import github.lms.lemuel.economics.application.port.in.SyncIndicatorsUseCase;
 import github.lms.lemuel.economics.application.port.in.SyncResult;
 import github.lms.lemuel.economics.application.port.out.EcosClientPort;
 import github.lms.lemuel.economics.application.port.out.LoadIndicatorPort;
+import github.lms.lemuel.economics.application.port.out.LoadIndicatorValuePort;
+import github.lms.lemuel.economics.application.port.out.LoadIndicatorValuePort.EcosCoverage;
 import github.lms.lemuel.economics.application.port.out.SaveIndicatorValuePort;
 import github.lms.lemuel.economics.domain.Indicator;
 import github.lms.lemuel.economics.domain.IndicatorValue;
 import github.lms.lemuel.economics.domain.ValueSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * ECOS 수집 배치.
@@ -23,8 +31,18 @@ import java.util.List;
  * <p>대상 지표(전체 또는 특정 code)의 [from, to] 관측치를 ECOS 에서 받아
  * {@code (indicator_code, observed_date)} UNIQUE upsert 로 저장(SEED → ECOS 대체)한다.
  *
- * <p>호출 간 간격(requestIntervalMs)으로 ECOS 쿼터를 보호하고, 개별 지표 실패는 집계만 하고
- * 계속 진행한다(전체 배치가 한 지표 때문에 죽지 않게).
+ * <ul>
+ *   <li><b>증분 수집</b> — 요청 시작일이 끊김 없는 마지막 ECOS 구간 안이면, 지표별 ECOS 최신 관측일
+ *       (high-water mark)에서 정정 look-back(일별 {@code revision-lookback-days}, 월별
+ *       {@code revision-lookback-months}) 만큼만 되돌아가 요청한다. 요청 구간에 ECOS 행이 없거나 빈 구간이
+ *       걸치면(첫 수집·백필) 요청 구간을 그대로 받고, {@code fullWindow} 면 언제나 그대로 받는다.</li>
+ *   <li><b>묶음 반영</b> — 지표 하나의 관측치는 다중 행 upsert 한 번으로 쓰고, 값이 그대로인 행은 건너뛴다.
+ *       {@code upserted} 는 새로 들어가거나 값이 바뀐 행 수다.</li>
+ *   <li><b>지표 병렬</b> — 지표끼리는 독립이라 {@code ecosFetchExecutor} 에서 나눠 받는다. 호출 간격
+ *       (requestIntervalMs)은 워커 전체가 공유해 ECOS 쿼터를 직렬 때와 같게 지킨다.</li>
+ * </ul>
+ *
+ * <p>개별 지표 실패는 집계만 하고 계속 진행한다(전체 배치가 한 지표 때문에 죽지 않게).
  */
 @Service
 public class EcosSyncService implements SyncIndicatorsUseCase {
@@ -34,17 +52,29 @@ public class EcosSyncService implements SyncIndicatorsUseCase {
 
     private final EcosClientPort ecosClient;
     private final LoadIndicatorPort loadIndicatorPort;
+    private final LoadIndicatorValuePort loadIndicatorValuePort;
     private final SaveIndicatorValuePort saveIndicatorValuePort;
-    private final long requestIntervalMs;
+    private final Executor fetchExecutor;
+    private final RequestPacer pacer;
+    private final int revisionLookbackDays;
+    private final int revisionLookbackMonths;
 
     public EcosSyncService(EcosClientPort ecosClient,
                            LoadIndicatorPort loadIndicatorPort,
+                           LoadIndicatorValuePort loadIndicatorValuePort,
                            SaveIndicatorValuePort saveIndicatorValuePort,
-                           @Value("${app.economics.sync.request-interval-ms:150}") long requestIntervalMs) {
+                           @Qualifier("ecosFetchExecutor") Executor fetchExecutor,
+                           @Value("${app.economics.sync.request-interval-ms:150}") long requestIntervalMs,
+                           @Value("${app.economics.sync.revision-lookback-days:7}") int revisionLookbackDays,
+                           @Value("${app.economics.sync.revision-lookback-months:2}") int revisionLookbackMonths) {
         this.ecosClient = ecosClient;
         this.loadIndicatorPort = loadIndicatorPort;
+        this.loadIndicatorValuePort = loadIndicatorValuePort;
         this.saveIndicatorValuePort = saveIndicatorValuePort;
-        this.requestIntervalMs = requestIntervalMs;
+        this.fetchExecutor = fetchExecutor;
+        this.pacer = new RequestPacer(requestIntervalMs);
+        this.revisionLookbackDays = Math.max(0, revisionLookbackDays);
+        this.revisionLookbackMonths = Math.max(0, revisionLookbackMonths);
     }
 
     @Override
@@ -52,54 +82,89 @@ public class EcosSyncService implements SyncIndicatorsUseCase {
     // allEntries=true 는 특정 지표 하나만 sync 해도 전체를 evict 하는 coarse 한 무효화지만,
     // 카탈로그 N 이 작아(현재 4개) 재적재 비용이 무시할 만해 지표별 세분 evict 대신 채택.
     @CacheEvict(cacheNames = {"indicatorSnapshots", "indicatorSeries"}, allEntries = true)
-    public SyncResult syncIndicators(String indicatorCode, LocalDate from, LocalDate to) {
+    public SyncResult syncIndicators(String indicatorCode, LocalDate from, LocalDate to, boolean fullWindow) {
         requireConfigured();
         if (from == null || to == null || from.isAfter(to)) {
             throw new IllegalArgumentException("조회 기간이 올바르지 않습니다: from=" + from + ", to=" + to);
         }
         List<Indicator> targets = resolveTargets(indicatorCode);
+        Map<String, EcosCoverage> coverage = fullWindow ? Map.of() : loadIndicatorValuePort.findEcosCoverage();
+
+        List<CompletableFuture<Outcome>> futures = targets.stream()
+                .map(indicator -> CompletableFuture.supplyAsync(
+                        () -> syncOne(indicator, coverage.get(indicator.code()), from, to), fetchExecutor))
+                .toList();
 
         int scanned = 0;
         int upserted = 0;
         int skipped = 0;
         int failed = 0;
-        for (Indicator indicator : targets) {
-            scanned++;
-            try {
-                List<EcosClientPort.Observation> observations =
-                        ecosClient.fetchObservations(indicator, from, to);
-                if (observations.isEmpty()) {
-                    skipped++;   // ECOS 응답 0건 (결측 구간 등)
-                } else {
-                    LocalDate latestEcos = observations.get(0).observedDate();
-                    for (EcosClientPort.Observation obs : observations) {
-                        saveIndicatorValuePort.upsert(new IndicatorValue(
-                                null, indicator.code(), obs.observedDate(), obs.value(),
-                                ValueSource.ECOS, null));
-                        upserted++;
-                        if (obs.observedDate().isAfter(latestEcos)) {
-                            latestEcos = obs.observedDate();
-                        }
-                    }
-                    // SEED 는 오늘까지 가짜 미래치를 채워둔다 — 실 ECOS 최신일 이후의 후행 SEED 를 잘라
-                    // 헤드라인 최신값이 시드가 아니라 실데이터를 가리키게 한다.
-                    int purged = saveIndicatorValuePort.purgeSeedNewerThan(indicator.code(), latestEcos);
-                    if (purged > 0) {
-                        log.info("후행 SEED {}건 제거 code={} (실 ECOS 최신일 {} 이후)",
-                                purged, indicator.code(), latestEcos);
-                    }
-                }
-            } catch (RuntimeException e) {
-                failed++;
-                log.warn("지표 동기화 실패 code={}: {}", indicator.code(), e.getMessage(), e);
+        try {
+            for (CompletableFuture<Outcome> future : futures) {
+                Outcome outcome = future.join();
+                scanned++;
+                upserted += outcome.upserted();
+                skipped += outcome.skipped() ? 1 : 0;
+                failed += outcome.failed() ? 1 : 0;
+                logProgress(scanned, targets.size(), upserted, failed);
             }
-            logProgress(scanned, targets.size(), upserted, failed);
-            pause();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
         }
         log.info("ECOS 동기화 완료 — 스캔 {}, upsert {}, 스킵 {}, 실패 {}", scanned, upserted, skipped, failed);
         return new SyncResult(scanned, upserted, skipped, failed);
     }
 
+    private Outcome syncOne(Indicator indicator, EcosCoverage coverage, LocalDate from, LocalDate to) {
+        LocalDate fetchFrom = fetchFrom(indicator, coverage, from);
+        if (fetchFrom.isAfter(to)) {
+            return Outcome.SKIPPED;   // 요청 구간 전체가 이미 받은 정정 창 밖 — ECOS 호출 없음
+        }
+        pacer.acquire();
+        try {
+            List<EcosClientPort.Observation> observations = ecosClient.fetchObservations(indicator, fetchFrom, to);
+            if (observations.isEmpty()) {
+                return Outcome.SKIPPED;   // ECOS 응답 0건 (결측 구간 등)
+            }
+            LocalDate latestEcos = coverage != null ? coverage.latest() : observations.get(0).observedDate();
+            for (EcosClientPort.Observation obs : observations) {
+                if (obs.observedDate().isAfter(latestEcos)) {
+                    latestEcos = obs.observedDate();
+                }
+            }
+            int changed = saveIndicatorValuePort.upsertAll(observations.stream()
+                    .map(obs -> new IndicatorValue(null, indicator.code(), obs.observedDate(), obs.value(),
+                            ValueSource.ECOS, null))
+                    .toList());
+            // SEED 는 오늘까지 가짜 미래치를 채워둔다 — 실 ECOS 최신일 이후의 후행 SEED 를 잘라
+            // 헤드라인 최신값이 시드가 아니라 실데이터를 가리키게 한다.
+            int purged = saveIndicatorValuePort.purgeSeedNewerThan(indicator.code(), latestEcos);
+            if (purged > 0) {
+                log.info("후행 SEED {}건 제거 code={} (실 ECOS 최신일 {} 이후)", purged, indicator.code(), latestEcos);
+            }
+            return new Outcome(changed, false, false);
+        } catch (RuntimeException e) {
+            log.warn("지표 동기화 실패 code={}: {}", indicator.code(), e.getMessage(), e);
+            return Outcome.FAILED;
+        }
+    }
+
+    /**
+     * 실제로 ECOS 에 요청할 시작일. 끊김 없는 ECOS 구간이 요청 시작일 이전부터 이어져 있으면 그 구간은 이미 받은
+     * 것으로 보고 high-water mark 에서 정정 look-back 만큼만 되돌아간다 — 한은이 최근 관측치를 사후 정정하기 때문이다.
+     * 요청 시작일 뒤에 빈 구간이 있으면 연속 구간이 그 뒤에서 시작하므로 요청 구간을 그대로 받는다.
+     */
+    LocalDate fetchFrom(Indicator indicator, EcosCoverage coverage, LocalDate from) {
+        if (coverage == null || coverage.contiguousFrom().isAfter(from)) {
+            return from;
+        }
+        LocalDate revisable = switch (indicator.cycle()) {
+            case D -> coverage.latest().minusDays(revisionLookbackDays);
+            case M -> coverage.latest().minusMonths(revisionLookbackMonths);
+        };
+        return revisable.isAfter(from) ? revisable : from;
+    }
+
     private List<Indicator> resolveTargets(String indicatorCode) {
         if (indicatorCode == null) {
             return loadIndicatorPort.findAll();
@@ -121,15 +186,10 @@ public class EcosSyncService implements SyncIndicatorsUseCase {
         }
     }
 
-    private void pause() {
-        if (requestIntervalMs <= 0) {
-            return;
-        }
-        try {
-            Thread.sleep(requestIntervalMs);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("동기화 스레드 인터럽트", e);
-        }
+    /** 지표 하나의 결과 — 워커가 돌려주고 호출 스레드가 합산한다. */
+    private record Outcome(int upserted, boolean skipped, boolean failed) {
+
+        static final Outcome SKIPPED = new Outcome(0, true, false);
+        static final Outcome FAILED = new Outcome(0, false, true);
     }
 }
@@ -1,5 +1,6 @@
 package github.lms.lemuel.economics.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
@@ -18,4 +19,17 @@ public class AsyncConfig {
         executor.setVirtualThreads(true);
         return executor;
     }
+
+    /**
+     * 한 배치 안에서 지표들을 나눠 받는 작업 풀 — 지표끼리는 서로 독립이라 ECOS 응답 대기를 겹친다.
+     * 동시 {@code app.economics.sync.concurrency} 건까지 띄우고, 호출 간격은 이 값과 무관하게
+     * {@code request-interval-ms} 가 전체 워커에 걸쳐 지킨다.
+     */
+    @Bean(name = "ecosFetchExecutor")
+    public TaskExecutor ecosFetchExecutor(@Value("${app.economics.sync.concurrency:4}") int concurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("economics-ecos-fetch-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(Math.max(1, concurrency));
+        return executor;
+    }
 }
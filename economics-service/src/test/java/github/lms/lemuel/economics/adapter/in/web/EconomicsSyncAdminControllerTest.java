@@ -56,7 +56,7 @@ class EconomicsSyncAdminControllerTest {
     void syncAllAccepted() throws Exception {
         SyncResult result = new SyncResult(4, 4, 40, 0);
         when(tracker.tryStart("all:2026-01-01~2026-06-30")).thenReturn(true);
-        when(syncIndicatorsUseCase.syncIndicators(isNull(), eq(FROM), eq(TO))).thenReturn(result);
+        when(syncIndicatorsUseCase.syncIndicators(isNull(), eq(FROM), eq(TO), eq(false))).thenReturn(result);
 
         mockMvc.perform(post("/admin/economics/sync")
                         .param("from", "2026-01-01").param("to", "2026-06-30"))
@@ -64,7 +64,7 @@ class EconomicsSyncAdminControllerTest {
                 .andExpect(jsonPath("$.message").value("동기화 시작: all:2026-01-01~2026-06-30"))
                 .andExpect(jsonPath("$.statusUrl").value("/admin/economics/sync/status"));
 
-        verify(syncIndicatorsUseCase).syncIndicators(isNull(), eq(FROM), eq(TO));
+        verify(syncIndicatorsUseCase).syncIndicators(isNull(), eq(FROM), eq(TO), eq(false));
         verify(tracker).complete(result);
     }
 
@@ -72,7 +72,7 @@ class EconomicsSyncAdminControllerTest {
     @DisplayName("POST — code 지정 + 백그라운드 예외 시 tracker.fail")
     void syncCodeTaskFails() throws Exception {
         when(tracker.tryStart("CPI:2026-01-01~2026-06-30")).thenReturn(true);
-        when(syncIndicatorsUseCase.syncIndicators(eq("CPI"), eq(FROM), eq(TO)))
+        when(syncIndicatorsUseCase.syncIndicators(eq("CPI"), eq(FROM), eq(TO), eq(false)))
                 .thenThrow(new IllegalStateException("boom"));
 
         mockMvc.perform(post("/admin/economics/sync")
@@ -82,6 +82,20 @@ class EconomicsSyncAdminControllerTest {
         verify(tracker).fail("boom");
     }
 
+    @Test
+    @DisplayName("POST — full=true 면 요청 구간 전체 재수집으로 넘기고 job 에 표시한다")
+    void syncFullWindow() throws Exception {
+        when(tracker.tryStart("CPI:2026-01-01~2026-06-30:full")).thenReturn(true);
+
+        mockMvc.perform(post("/admin/economics/sync")
+                        .param("code", "CPI").param("from", "2026-01-01").param("to", "2026-06-30")
+                        .param("full", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.message").value("동기화 시작: CPI:2026-01-01~2026-06-30:full"));
+
+        verify(syncIndicatorsUseCase).syncIndicators("CPI", FROM, TO, true);
+    }
+
     @Test
     @DisplayName("POST — 이미 실행 중이면 409")
     void syncConflict() throws Exception {
@@ -94,7 +108,7 @@ class EconomicsSyncAdminControllerTest {
                 .andExpect(status().isConflict())
                 .andExpect(jsonPath("$.message").exists());
 
-        verify(syncIndicatorsUseCase, never()).syncIndicators(isNull(), eq(FROM), eq(TO));
+        verify(syncIndicatorsUseCase, never()).syncIndicators(isNull(), eq(FROM), eq(TO), eq(false));
     }
 
     @Test
@@ -1,5 +1,6 @@
 package github.lms.lemuel.economics.adapter.out.persistence;
 
+import github.lms.lemuel.economics.application.port.out.LoadIndicatorValuePort;
 import github.lms.lemuel.economics.domain.Indicator;
 import github.lms.lemuel.economics.domain.IndicatorCycle;
 import github.lms.lemuel.economics.domain.IndicatorValue;
@@ -11,22 +12,31 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 
 import java.math.BigDecimal;
+import java.sql.ResultSet;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 /**
- * IndicatorPersistenceAdapter — 카탈로그/관측치 조회 매핑·upsert(신규/기존 병합)와,
- * 그에 딸린 JPA 엔티티 fromDomain/applyDomain/toDomain 왕복 매핑을 Mockito 리포지토리로 검증.
+ * IndicatorPersistenceAdapter — 카탈로그/관측치 조회 매핑·다중 행 upsert 문장·ECOS 연속 구간 조회와,
+ * 그에 딸린 JPA 엔티티 fromDomain/toDomain 왕복 매핑을 Mockito 리포지토리로 검증.
  */
 @ExtendWith(MockitoExtension.class)
 class IndicatorPersistenceAdapterTest {
@@ -35,6 +45,8 @@ class IndicatorPersistenceAdapterTest {
     private IndicatorRepository indicatorRepository;
     @Mock
     private IndicatorValueRepository indicatorValueRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
 
     private final Indicator baseRate = new Indicator("BASE_RATE", "한국은행 기준금리", "%",
             IndicatorCycle.D, "722Y001", "0101000", Instant.parse("2026-01-01T00:00:00Z"));
@@ -45,7 +57,7 @@ class IndicatorPersistenceAdapterTest {
     }
 
     private IndicatorPersistenceAdapter adapter() {
-        return new IndicatorPersistenceAdapter(indicatorRepository, indicatorValueRepository);
+        return new IndicatorPersistenceAdapter(indicatorRepository, indicatorValueRepository, jdbcTemplate);
     }
 
     @Test
@@ -97,32 +109,55 @@ class IndicatorPersistenceAdapterTest {
     }
 
     @Test
-    @DisplayName("upsert — 신규는 fromDomain 저장")
-    void upsertNew() {
-        when(indicatorValueRepository.findByIndicatorCodeAndObservedDate("BASE_RATE", LocalDate.of(2026, 6, 1)))
-                .thenReturn(Optional.empty());
-
-        adapter().upsert(value(LocalDate.of(2026, 6, 1), "3.25"));
+    @DisplayName("upsertAll — (code, 날짜) 순으로 정렬한 다중 행 VALUES 한 문장, 영향 행 수를 돌려준다")
+    void upsertAllWritesOneMultiRowStatement() {
+        when(jdbcTemplate.update(any(String.class), any(Object[].class))).thenReturn(1);
+
+        int changed = adapter().upsertAll(List.of(
+                value(LocalDate.of(2026, 6, 2), "3.50"),
+                value(LocalDate.of(2026, 6, 1), "3.25")));
+
+        assertThat(changed).isEqualTo(1);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), args.capture());
+        assertThat(sql.getValue())
+                .contains("(?, ?, ?, ?, NOW()), (?, ?, ?, ?, NOW())")
+                .contains("ON CONFLICT (indicator_code, observed_date) DO UPDATE")
+                .contains("IS DISTINCT FROM (EXCLUDED.value, EXCLUDED.source)");
+        assertThat(args.getValue()).containsExactly(
+                "BASE_RATE", LocalDate.of(2026, 6, 1), new BigDecimal("3.25"), "ECOS",
+                "BASE_RATE", LocalDate.of(2026, 6, 2), new BigDecimal("3.50"), "ECOS");
+    }
 
-        verify(indicatorValueRepository).save(any(IndicatorValueJpaEntity.class));
+    @Test
+    @DisplayName("upsertAll — 문장당 행 상한을 넘으면 나눠 보내고 영향 행 수를 합친다")
+    void upsertAllSplitsLargeInput() {
+        when(jdbcTemplate.update(any(String.class), any(Object[].class))).thenReturn(3);
+        List<IndicatorValue> values = IntStream
+                .range(0, IndicatorPersistenceAdapter.ROWS_PER_STATEMENT + 1)
+                .mapToObj(i -> value(LocalDate.of(2020, 1, 1).plusDays(i), "1.00"))
+                .toList();
+
+        assertThat(adapter().upsertAll(values)).isEqualTo(6);
+        verify(jdbcTemplate, times(2)).update(any(String.class), any(Object[].class));
+        verifyNoMoreInteractions(indicatorValueRepository);
     }
 
     @Test
-    @DisplayName("upsert — 기존 관측치면 applyDomain 병합 저장")
-    void upsertExisting() {
-        IndicatorValueJpaEntity existing = IndicatorValueJpaEntity.fromDomain(
-                new IndicatorValue(7L, "BASE_RATE", LocalDate.of(2026, 6, 1),
-                        new BigDecimal("3.00"), ValueSource.SEED, Instant.parse("2025-01-01T00:00:00Z")));
-        when(indicatorValueRepository.findByIndicatorCodeAndObservedDate("BASE_RATE", LocalDate.of(2026, 6, 1)))
-                .thenReturn(Optional.of(existing));
-
-        adapter().upsert(value(LocalDate.of(2026, 6, 1), "3.25"));
-
-        ArgumentCaptor<IndicatorValueJpaEntity> captor =
-                ArgumentCaptor.forClass(IndicatorValueJpaEntity.class);
-        verify(indicatorValueRepository).save(captor.capture());
-        IndicatorValue merged = captor.getValue().toDomain();
-        assertThat(merged.value()).isEqualByComparingTo("3.25");
-        assertThat(merged.source()).isEqualTo(ValueSource.ECOS);
+    @DisplayName("findEcosCoverage — 지표별 마지막 연속 ECOS 구간(시작일·최신일)을 일별 끊김 기준과 함께 조회한다")
+    void findEcosCoverage() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("indicator_code")).thenReturn("BASE_RATE");
+        when(rs.getObject("contiguous_from", LocalDate.class)).thenReturn(LocalDate.of(2024, 1, 2));
+        when(rs.getObject("latest", LocalDate.class)).thenReturn(LocalDate.of(2026, 6, 30));
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(eq(IndicatorPersistenceAdapter.ECOS_COVERAGE_SQL), any(RowCallbackHandler.class),
+                eq(IndicatorPersistenceAdapter.MAX_DAILY_GAP_DAYS));
+
+        assertThat(adapter().findEcosCoverage()).containsExactly(Map.entry("BASE_RATE",
+                new LoadIndicatorValuePort.EcosCoverage(LocalDate.of(2024, 1, 2), LocalDate.of(2026, 6, 30))));
     }
 }
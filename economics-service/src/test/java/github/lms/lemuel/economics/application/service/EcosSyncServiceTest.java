@@ -4,6 +4,8 @@ import github.lms.lemuel.economics.application.port.in.SyncResult;
 import github.lms.lemuel.economics.application.port.out.EcosClientPort;
 import github.lms.lemuel.economics.application.port.out.EcosClientPort.Observation;
 import github.lms.lemuel.economics.application.port.out.LoadIndicatorPort;
+import github.lms.lemuel.economics.application.port.out.LoadIndicatorValuePort;
+import github.lms.lemuel.economics.application.port.out.LoadIndicatorValuePort.EcosCoverage;
 import github.lms.lemuel.economics.application.port.out.SaveIndicatorValuePort;
 import github.lms.lemuel.economics.domain.Indicator;
 import github.lms.lemuel.economics.domain.IndicatorCycle;
@@ -20,13 +22,20 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -44,6 +53,8 @@ class EcosSyncServiceTest {
     @Mock
     private LoadIndicatorPort loadIndicatorPort;
     @Mock
+    private LoadIndicatorValuePort loadIndicatorValuePort;
+    @Mock
     private SaveIndicatorValuePort saveIndicatorValuePort;
 
     private EcosSyncService service;
@@ -55,9 +66,17 @@ class EcosSyncServiceTest {
 
     @BeforeEach
     void setUp() {
-        // 테스트에서는 호출 간격 0 (sleep 없음)
-        service = new EcosSyncService(ecosClient, loadIndicatorPort, saveIndicatorValuePort, 0L);
+        // 테스트에서는 호출 간격 0 (sleep 없음), 지표는 호출 스레드에서 차례로
+        service = service(Runnable::run);
         lenient().when(ecosClient.isConfigured()).thenReturn(true);
+        // 기본은 받은 행이 모두 새 행 — 값이 그대로인 행을 거르는 경우는 따로 스텁한다
+        lenient().when(saveIndicatorValuePort.upsertAll(any()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+    }
+
+    private EcosSyncService service(Executor executor) {
+        return new EcosSyncService(ecosClient, loadIndicatorPort, loadIndicatorValuePort, saveIndicatorValuePort,
+                executor, 0L, 7, 2);
     }
 
     @Test
@@ -90,9 +109,13 @@ class EcosSyncServiceTest {
         SyncResult result = service.syncIndicators(null, FROM, TO);
 
         assertThat(result).isEqualTo(new SyncResult(2, 3, 0, 0));
-        ArgumentCaptor<IndicatorValue> captor = ArgumentCaptor.forClass(IndicatorValue.class);
-        verify(saveIndicatorValuePort, times(3)).upsert(captor.capture());
-        assertThat(captor.getAllValues()).allMatch(v -> v.source() == ValueSource.ECOS);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<IndicatorValue>> captor = ArgumentCaptor.forClass(List.class);
+        // 지표마다 다중 행 upsert 한 번
+        verify(saveIndicatorValuePort, times(2)).upsertAll(captor.capture());
+        assertThat(captor.getAllValues()).flatMap(values -> values)
+                .hasSize(3)
+                .allMatch(v -> v.source() == ValueSource.ECOS);
     }
 
     @Test
@@ -115,7 +138,7 @@ class EcosSyncServiceTest {
 
         assertThatIllegalArgumentException()
                 .isThrownBy(() -> service.syncIndicators("NOPE", FROM, TO));
-        verify(saveIndicatorValuePort, never()).upsert(any());
+        verify(saveIndicatorValuePort, never()).upsertAll(any());
     }
 
     @Test
@@ -127,7 +150,7 @@ class EcosSyncServiceTest {
         SyncResult result = service.syncIndicators("BASE_RATE", FROM, TO);
 
         assertThat(result).isEqualTo(new SyncResult(1, 0, 1, 0));
-        verify(saveIndicatorValuePort, never()).upsert(any());
+        verify(saveIndicatorValuePort, never()).upsertAll(any());
     }
 
     @Test
@@ -169,6 +192,138 @@ class EcosSyncServiceTest {
         SyncResult result = service.syncIndicators(null, FROM, TO);
 
         assertThat(result).isEqualTo(new SyncResult(2, 1, 0, 1));
-        verify(saveIndicatorValuePort, times(1)).upsert(any());
+        verify(saveIndicatorValuePort, times(1)).upsertAll(any());
+    }
+
+    @Test
+    @DisplayName("이미 받은 일별 지표는 ECOS 최신일에서 정정 look-back(7일)만큼만 되돌아가 요청한다")
+    void fetchesDailyDeltaFromHighWaterMark() {
+        when(loadIndicatorPort.findByCode("BASE_RATE")).thenReturn(Optional.of(baseRate));
+        when(loadIndicatorValuePort.findEcosCoverage()).thenReturn(Map.of(
+                "BASE_RATE", new EcosCoverage(LocalDate.of(2025, 1, 2), LocalDate.of(2026, 6, 20))));
+        when(ecosClient.fetchObservations(any(), any(), any())).thenReturn(List.of());
+
+        service.syncIndicators("BASE_RATE", FROM, TO);
+
+        verify(ecosClient).fetchObservations(baseRate, LocalDate.of(2026, 6, 13), TO);
+    }
+
+    @Test
+    @DisplayName("월별 지표의 정정 look-back 은 개월 단위(2개월)다")
+    void fetchesMonthlyDeltaFromHighWaterMark() {
+        when(loadIndicatorPort.findByCode("CPI")).thenReturn(Optional.of(cpi));
+        when(loadIndicatorValuePort.findEcosCoverage()).thenReturn(Map.of(
+                "CPI", new EcosCoverage(LocalDate.of(2020, 1, 1), LocalDate.of(2026, 5, 1))));
+        when(ecosClient.fetchObservations(any(), any(), any())).thenReturn(List.of());
+
+        service.syncIndicators("CPI", FROM, TO);
+
+        verify(ecosClient).fetchObservations(cpi, LocalDate.of(2026, 3, 1), TO);
+    }
+
+    @Test
+    @DisplayName("요청 구간 앞쪽에 ECOS 행이 없으면(첫 수집) 요청 구간을 그대로 받는다")
+    void backfillsWhenCoverageStartsAfterFrom() {
+        when(loadIndicatorPort.findByCode("BASE_RATE")).thenReturn(Optional.of(baseRate));
+        when(loadIndicatorValuePort.findEcosCoverage()).thenReturn(Map.of(
+                "BASE_RATE", new EcosCoverage(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 6, 20))));
+        when(ecosClient.fetchObservations(any(), any(), any())).thenReturn(List.of());
+
+        service.syncIndicators("BASE_RATE", FROM, TO);
+
+        verify(ecosClient).fetchObservations(baseRate, FROM, TO);
+    }
+
+    @Test
+    @DisplayName("요청 구간이 통째로 정정 창보다 앞이면 ECOS 를 부르지 않고 skipped")
+    void skipsWithoutCallWhenWindowAlreadyCovered() {
+        when(loadIndicatorPort.findByCode("BASE_RATE")).thenReturn(Optional.of(baseRate));
+        when(loadIndicatorValuePort.findEcosCoverage()).thenReturn(Map.of(
+                "BASE_RATE", new EcosCoverage(LocalDate.of(2025, 1, 2), LocalDate.of(2026, 9, 30))));
+
+        SyncResult result = service.syncIndicators("BASE_RATE", FROM, TO);
+
+        assertThat(result).isEqualTo(new SyncResult(1, 0, 1, 0));
+        verify(ecosClient, never()).fetchObservations(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("과거 구간 백필 — 연속 ECOS 구간이 요청 구간 뒤에서 시작하면(빈 구간) 최신일이 더 늦어도 그대로 받는다")
+    void backfillsOlderWindowIntoGap() {
+        LocalDate gapFrom = LocalDate.of(2025, 1, 1);
+        LocalDate gapTo = LocalDate.of(2025, 6, 30);
+        when(loadIndicatorPort.findByCode("BASE_RATE")).thenReturn(Optional.of(baseRate));
+        // 2020 년부터 받았지만 2025 상반기가 비어 있다 — 연속 구간은 그 뒤인 2025-09-01 부터
+        when(loadIndicatorValuePort.findEcosCoverage()).thenReturn(Map.of(
+                "BASE_RATE", new EcosCoverage(LocalDate.of(2025, 9, 1), LocalDate.of(2026, 9, 30))));
+        when(ecosClient.fetchObservations(any(), any(), any())).thenReturn(List.of(
+                new Observation(LocalDate.of(2025, 3, 4), new BigDecimal("3.00"))));
+
+        SyncResult result = service.syncIndicators("BASE_RATE", gapFrom, gapTo);
+
+        assertThat(result).isEqualTo(new SyncResult(1, 1, 0, 0));
+        verify(ecosClient).fetchObservations(baseRate, gapFrom, gapTo);
+    }
+
+    @Test
+    @DisplayName("fullWindow 면 이미 받은 연속 구간이라도 ECOS 범위를 보지 않고 요청 구간 전체를 다시 받는다")
+    void fullWindowRefetchesCoveredHistory() {
+        when(loadIndicatorPort.findByCode("BASE_RATE")).thenReturn(Optional.of(baseRate));
+        when(ecosClient.fetchObservations(any(), any(), any())).thenReturn(List.of());
+
+        service.syncIndicators("BASE_RATE", FROM, TO, true);
+
+        verify(ecosClient).fetchObservations(baseRate, FROM, TO);
+        verify(loadIndicatorValuePort, never()).findEcosCoverage();
+    }
+
+    @Test
+    @DisplayName("upserted 는 실제로 바뀐 행 수 — 값이 그대로인 재조회 행은 세지 않는다")
+    void countsOnlyChangedRows() {
+        when(loadIndicatorPort.findByCode("BASE_RATE")).thenReturn(Optional.of(baseRate));
+        when(ecosClient.fetchObservations(any(), any(), any())).thenReturn(List.of(
+                new Observation(LocalDate.of(2026, 6, 1), new BigDecimal("3.25")),
+                new Observation(LocalDate.of(2026, 6, 2), new BigDecimal("3.25"))));
+        doReturn(1).when(saveIndicatorValuePort).upsertAll(any());
+
+        SyncResult result = service.syncIndicators("BASE_RATE", FROM, TO);
+
+        assertThat(result).isEqualTo(new SyncResult(1, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("후행 SEED 제거 기준은 이번에 받은 구간과 기존 ECOS 최신일 중 늦은 날이다")
+    void purgeUsesLaterOfCoverageAndFetched() {
+        when(loadIndicatorPort.findByCode("BASE_RATE")).thenReturn(Optional.of(baseRate));
+        when(loadIndicatorValuePort.findEcosCoverage()).thenReturn(Map.of(
+                "BASE_RATE", new EcosCoverage(LocalDate.of(2025, 1, 2), LocalDate.of(2026, 6, 20))));
+        when(ecosClient.fetchObservations(any(), any(), any())).thenReturn(List.of(
+                new Observation(LocalDate.of(2026, 6, 15), new BigDecimal("3.25"))));
+
+        service.syncIndicators("BASE_RATE", FROM, TO);
+
+        verify(saveIndicatorValuePort).purgeSeedNewerThan("BASE_RATE", LocalDate.of(2026, 6, 20));
+    }
+
+    @Test
+    @DisplayName("독립 지표는 동시에 받는다 — 두 지표의 ECOS 호출이 함께 걸려 있어야 끝난다")
+    void syncsIndicatorsConcurrently() {
+        CountDownLatch bothInFlight = new CountDownLatch(2);
+        when(loadIndicatorPort.findAll()).thenReturn(List.of(baseRate, cpi));
+        when(ecosClient.fetchObservations(any(), any(), any())).thenAnswer(invocation -> {
+            bothInFlight.countDown();
+            if (!bothInFlight.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("다른 지표 호출이 겹치지 않았다");
+            }
+            return List.of(new Observation(LocalDate.of(2026, 6, 1), new BigDecimal("1")));
+        });
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            SyncResult result = service(pool).syncIndicators(null, FROM, TO);
+
+            assertThat(result).isEqualTo(new SyncResult(2, 2, 0, 0));
+        } finally {
+            pool.shutdownNow();
+        }
     }
 }
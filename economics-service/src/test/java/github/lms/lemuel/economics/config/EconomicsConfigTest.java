@@ -7,6 +7,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.web.client.RestClient;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -30,6 +33,17 @@ class EconomicsConfigTest {
         assertThat(executor).isNotNull();
     }
 
+    @Test
+    @DisplayName("AsyncConfig — ecosFetchExecutor 는 병렬도 0 이하도 한 건씩은 실행한다")
+    void ecosFetchExecutor() throws Exception {
+        TaskExecutor executor = new AsyncConfig().ecosFetchExecutor(0);
+
+        CountDownLatch latch = new CountDownLatch(2);
+        executor.execute(latch::countDown);
+        executor.execute(latch::countDown);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
     @Test
     @DisplayName("CacheConfig — 인스턴스화 가능")
     void cacheConfig() {
@@ -10,6 +10,10 @@ plugins {
 //   (설계: docs/superpowers/specs/2026-07-06-financial-statements-service-design.md)
 
 dependencies {
+    // 수집 배치 지원(호출 간격)만 — shared-common 의 batch 기능 변형이라 본체(JWT·Outbox·Kafka·자동 구성)는 따라오지 않는다.
+    implementation("github.lms.lemuel:shared-common:1.0.0") {
+        capabilities { requireCapability("github.lms.lemuel:shared-common-batch") }
+    }
     testImplementation(testFixtures("github.lms.lemuel:shared-common:1.0.0"))   // 아키텍처 가드 픽스처(테스트 전용 — 프로덕션 미의존 경계는 그대로)
     // Spring Boot 스타터
     implementation("org.springframework.boot:spring-boot-starter-actuator")
@@ -6,19 +6,39 @@ import github.lms.lemuel.financial.domain.Company;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Component
 public class CompanyPersistenceAdapter implements LoadCompanyPort, SaveCompanyPort {
 
+    // 동기화 청크를 한 번에 반영한다 — 행마다 findById + save 하던 것을 multi-row upsert 하나로.
+    // 병합(기존 시장 유지 등)은 서비스가 도메인에서 끝내고 오므로 여기선 그대로 덮어쓴다.
+    // datasource 의 reWriteBatchedInserts=true 가 배치를 INSERT ... VALUES (...), (...) 로 다시 쓴다.
+    private static final String UPSERT_SQL = """
+            INSERT INTO companies (stock_code, corp_code, name, market, updated_at)
+            VALUES (?, ?, ?, ?, NOW())
+            ON CONFLICT (stock_code)
+            DO UPDATE SET corp_code = EXCLUDED.corp_code,
+                          name = EXCLUDED.name,
+                          market = EXCLUDED.market,
+                          updated_at = EXCLUDED.updated_at
+            """;
+
     private final CompanyRepository repository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public CompanyPersistenceAdapter(CompanyRepository repository) {
+    public CompanyPersistenceAdapter(CompanyRepository repository, JdbcTemplate jdbcTemplate) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -36,6 +56,17 @@ public class CompanyPersistenceAdapter implements LoadCompanyPort, SaveCompanyPo
         return repository.findById(stockCode).map(CompanyJpaEntity::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Company> findAllByStockCodes(Collection<String> stockCodes) {
+        if (stockCodes.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllById(stockCodes).stream()
+                .map(CompanyJpaEntity::toDomain)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Company> findAllWithCorpCode() {
@@ -46,13 +77,24 @@ public class CompanyPersistenceAdapter implements LoadCompanyPort, SaveCompanyPo
 
     @Override
     @Transactional
-    public void upsert(Company company) {
-        CompanyJpaEntity entity = repository.findById(company.stockCode())
-                .map(existing -> {
-                    existing.applyDomain(company);
-                    return existing;
-                })
-                .orElseGet(() -> CompanyJpaEntity.fromDomain(company));
-        repository.save(entity);
+    public void upsertAll(List<Company> companies) {
+        if (companies.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Company company = companies.get(i);
+                ps.setString(1, company.stockCode());
+                ps.setString(2, company.corpCode());
+                ps.setString(3, company.name());
+                ps.setString(4, company.market());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return companies.size();
+            }
+        });
     }
 }
@@ -3,19 +3,44 @@ package github.lms.lemuel.financial.adapter.out.persistence;
 import github.lms.lemuel.financial.application.port.out.LoadFinancialStatementPort;
 import github.lms.lemuel.financial.application.port.out.SaveFinancialStatementPort;
 import github.lms.lemuel.financial.domain.FinancialStatement;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.List;
 
 @Component
 public class FinancialStatementPersistenceAdapter
         implements LoadFinancialStatementPort, SaveFinancialStatementPort {
 
+    // 동기화 청크를 uq_fs_company_year_div 충돌 갱신 하나로 반영한다 — 행마다 조회 + save 하지 않는다.
+    private static final String UPSERT_SQL = """
+            INSERT INTO financial_statements
+                (stock_code, fiscal_year, fs_div, currency, revenue, operating_profit, net_income,
+                 total_assets, total_liabilities, total_equity, source, synced_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (stock_code, fiscal_year, fs_div)
+            DO UPDATE SET currency = EXCLUDED.currency,
+                          revenue = EXCLUDED.revenue,
+                          operating_profit = EXCLUDED.operating_profit,
+                          net_income = EXCLUDED.net_income,
+                          total_assets = EXCLUDED.total_assets,
+                          total_liabilities = EXCLUDED.total_liabilities,
+                          total_equity = EXCLUDED.total_equity,
+                          source = EXCLUDED.source,
+                          synced_at = EXCLUDED.synced_at
+            """;
+
     private final FinancialStatementRepository repository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public FinancialStatementPersistenceAdapter(FinancialStatementRepository repository) {
+    public FinancialStatementPersistenceAdapter(FinancialStatementRepository repository, JdbcTemplate jdbcTemplate) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -28,15 +53,32 @@ public class FinancialStatementPersistenceAdapter
 
     @Override
     @Transactional
-    public void upsert(FinancialStatement statement) {
-        FinancialStatementJpaEntity entity = repository
-                .findByStockCodeAndFiscalYearAndFsDiv(
-                        statement.stockCode(), statement.fiscalYear(), statement.fsDivision())
-                .map(existing -> {
-                    existing.applyDomain(statement);
-                    return existing;
-                })
-                .orElseGet(() -> FinancialStatementJpaEntity.fromDomain(statement));
-        repository.save(entity);
+    public void upsertAll(List<FinancialStatement> statements) {
+        if (statements.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                FinancialStatement statement = statements.get(i);
+                ps.setString(1, statement.stockCode());
+                ps.setInt(2, statement.fiscalYear());
+                ps.setString(3, statement.fsDivision().name());
+                ps.setString(4, statement.currency());
+                ps.setBigDecimal(5, statement.revenue());
+                ps.setBigDecimal(6, statement.operatingProfit());
+                ps.setBigDecimal(7, statement.netIncome());
+                ps.setBigDecimal(8, statement.totalAssets());
+                ps.setBigDecimal(9, statement.totalLiabilities());
+                ps.setBigDecimal(10, statement.totalEquity());
+                ps.setString(11, statement.source().name());
+                ps.setTimestamp(12, Timestamp.from(statement.syncedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return statements.size();
+            }
+        });
     }
 }
@@ -1,12 +1,10 @@
 package github.lms.lemuel.financial.adapter.out.persistence;
 
-import github.lms.lemuel.financial.domain.FsDivision;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface FinancialStatementRepository extends JpaRepository<FinancialStatementJpaEntity, Long> {
 
@@ -20,7 +18,4 @@ public interface FinancialStatementRepository extends JpaRepository<FinancialSta
     List<FinancialStatementJpaEntity> findByCompany(@Param("stockCode") String stockCode,
                                                     @Param("fromYear") Integer fromYear,
                                                     @Param("toYear") Integer toYear);
-
-    Optional<FinancialStatementJpaEntity> findByStockCodeAndFiscalYearAndFsDiv(
-            String stockCode, int fiscalYear, FsDivision fsDiv);
 }
@@ -0,0 +1,57 @@
+package github.lms.lemuel.financial.adapter.out.persistence;
+
+import github.lms.lemuel.financial.application.port.out.SyncCheckpointPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DART 동기화 체크포인트 — 엔티티 없이 JdbcTemplate 로 읽고 쓴다(청크마다 수백 건을 한 번에 기록).
+ * 이미 있는 key 는 기록 시각만 새로 찍는다.
+ */
+@Component
+public class SyncCheckpointPersistenceAdapter implements SyncCheckpointPort {
+
+    private static final String MARK_SQL = """
+            INSERT INTO dart_sync_checkpoints (job, item_key, completed_at)
+            VALUES (?, ?, NOW())
+            ON CONFLICT (job, item_key) DO UPDATE SET completed_at = EXCLUDED.completed_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyncCheckpointPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findCompleted(String job, Instant since) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT item_key FROM dart_sync_checkpoints WHERE job = ? AND completed_at >= ?",
+                String.class, job, Timestamp.from(since)));
+    }
+
+    @Override
+    @Transactional
+    public void markCompleted(String job, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = keys.stream().map(key -> new Object[]{job, key}).toList();
+        jdbcTemplate.batchUpdate(MARK_SQL, rows);
+    }
+
+    @Override
+    @Transactional
+    public void clear(String job) {
+        jdbcTemplate.update("DELETE FROM dart_sync_checkpoints WHERE job = ?", job);
+    }
+}
@@ -2,6 +2,7 @@ package github.lms.lemuel.financial.application.port.out;
 
 import github.lms.lemuel.financial.domain.Company;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +12,9 @@ public interface LoadCompanyPort {
 
     Optional<Company> findByStockCode(String stockCode);
 
+    /** 종목코드 묶음 조회 — 동기화가 청크마다 기존 행을 한 번에 미리 읽는다. 없는 코드는 결과에서 빠진다. */
+    List<Company> findAllByStockCodes(Collection<String> stockCodes);
+
     /** DART 재무제표 수집 대상 — 고유번호(corp_code)를 보유한 기업 전체. */
     List<Company> findAllWithCorpCode();
 
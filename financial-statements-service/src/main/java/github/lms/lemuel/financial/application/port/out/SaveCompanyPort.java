@@ -2,8 +2,13 @@ package github.lms.lemuel.financial.application.port.out;
 
 import github.lms.lemuel.financial.domain.Company;
 
+import java.util.List;
+
 public interface SaveCompanyPort {
 
-    /** 종목코드 기준 upsert — 기존 행이 있으면 corp_code/기업명 갱신. */
-    void upsert(Company company);
+    /**
+     * 종목코드 기준 다건 upsert — 기존 행이 있으면 corp_code/기업명/시장 갱신. 한 트랜잭션의 multi-row
+     * 배치라 하나가 실패하면 묶음 전체가 롤백된다(호출자가 건별로 다시 나눠 원인 행을 가린다).
+     */
+    void upsertAll(List<Company> companies);
 }
@@ -2,8 +2,13 @@ package github.lms.lemuel.financial.application.port.out;
 
 import github.lms.lemuel.financial.domain.FinancialStatement;
 
+import java.util.List;
+
 public interface SaveFinancialStatementPort {
 
-    /** (종목코드, 사업연도, 재무제표구분) 기준 upsert — SEED 행을 DART 실데이터가 덮어쓴다. */
-    void upsert(FinancialStatement statement);
+    /**
+     * (종목코드, 사업연도, 재무제표구분) 기준 다건 upsert — SEED 행을 DART 실데이터가 덮어쓴다.
+     * 한 트랜잭션의 multi-row 배치라 하나가 실패하면 묶음 전체가 롤백된다.
+     */
+    void upsertAll(List<FinancialStatement> statements);
 }
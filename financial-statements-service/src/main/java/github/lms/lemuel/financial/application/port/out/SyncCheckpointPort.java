@@ -0,0 +1,22 @@
+package github.lms.lemuel.financial.application.port.out;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * DART 동기화 이어하기용 건별 체크포인트.
+ *
+ * <p>job 은 실행 단위("companies", "statements-2024"), key 는 그 안의 기업(corp_code)이다. 청크가 DB 에
+ * 반영된 뒤에만 기록하므로, 중간에 죽은 배치는 다음 실행이 기록된 기업을 건너뛰고 이어간다.
+ * 끝까지 돈 배치는 {@link #clear} 로 지워 다음 정기 실행이 처음부터 다시 받게 한다(정정공시 반영).
+ */
+public interface SyncCheckpointPort {
+
+    /** {@code since} 이후 기록된 완료 key — 그보다 오래된 체크포인트는 이어하기 대상이 아니다. */
+    Set<String> findCompleted(String job, Instant since);
+
+    void markCompleted(String job, Collection<String> keys);
+
+    void clear(String job);
+}
@@ -1,5 +1,6 @@
 package github.lms.lemuel.financial.application.service;
 
+import github.lms.lemuel.common.batch.RequestPacer;
 import github.lms.lemuel.financial.application.port.in.SyncCompaniesUseCase;
 import github.lms.lemuel.financial.application.port.in.SyncResult;
 import github.lms.lemuel.financial.application.port.in.SyncStatementsUseCase;
@@ -7,16 +8,30 @@ import github.lms.lemuel.financial.application.port.out.DartClientPort;
 import github.lms.lemuel.financial.application.port.out.LoadCompanyPort;
 import github.lms.lemuel.financial.application.port.out.SaveCompanyPort;
 import github.lms.lemuel.financial.application.port.out.SaveFinancialStatementPort;
+import github.lms.lemuel.financial.application.port.out.SyncCheckpointPort;
 import github.lms.lemuel.financial.domain.Company;
 import github.lms.lemuel.financial.domain.FinancialStatement;
 import github.lms.lemuel.financial.domain.StatementSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * DART 수집 배치.
@@ -24,102 +39,144 @@ import java.util.Optional;
  * <p>기업 동기화: corpCode.xml 상장사 → 기업개황으로 유가(Y)·코스닥(K)만 필터 → 종목코드 기준 upsert.
  * 재무제표 동기화: corp_code 보유 기업별 사업보고서 주요계정 → (기업, 연도, 구분) upsert.
  *
- * <p>호출 간 간격(requestIntervalMs)으로 DART 쿼터(일 2만 콜)를 보호하고, 개별 기업 실패는
- * 집계만 하고 계속 진행한다(전체 배치가 한 기업 때문에 죽지 않게).
+ * <p>대상을 {@code upsert-chunk-size} 건씩 끊어 처리한다. 청크 안의 DART 호출은 {@code dartFetchExecutor}
+ * 로 겹쳐 보내되, 호출 시작 사이 간격(requestIntervalMs)은 {@link RequestPacer} 가 모든 워커에 걸쳐 지켜
+ * DART 쿼터(일 2만 콜)를 직렬 시절과 같은 속도로 쓴다 — 겹치는 것은 응답 대기뿐이다. 응답이 모이면 기존
+ * 행을 한 번에 미리 읽고(기업) multi-row upsert 한 번으로 반영한 뒤, 그 청크의 기업을 체크포인트로
+ * 남긴다. 중간에 끊긴 배치는 다음 실행이 체크포인트를 건너뛰고 이어가고, 끝까지 돈 배치는 체크포인트를 지운다.
+ *
+ * <p>개별 기업 실패는 집계만 하고 계속 진행한다(전체 배치가 한 기업 때문에 죽지 않게). 청크 upsert 가
+ * 실패하면 건별로 다시 나눠 원인 행만 실패로 센다. 실패한 기업은 체크포인트에 남지 않아 다음 실행이 다시 받는다.
  */
 @Service
 public class DartSyncService implements SyncCompaniesUseCase, SyncStatementsUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(DartSyncService.class);
-    private static final int PROGRESS_LOG_INTERVAL = 100;
+    private static final String COMPANIES_JOB = "companies";
 
     private final DartClientPort dartClient;
     private final LoadCompanyPort loadCompanyPort;
     private final SaveCompanyPort saveCompanyPort;
     private final SaveFinancialStatementPort saveFinancialStatementPort;
-    private final long requestIntervalMs;
+    private final SyncCheckpointPort checkpointPort;
+    private final Executor fetchExecutor;
+    private final Clock clock;
+    private final RequestPacer pacer;
     private final int maxCompanies;
+    private final int chunkSize;
+    private final Duration resumeWindow;
 
     public DartSyncService(DartClientPort dartClient,
                            LoadCompanyPort loadCompanyPort,
                            SaveCompanyPort saveCompanyPort,
                            SaveFinancialStatementPort saveFinancialStatementPort,
+                           SyncCheckpointPort checkpointPort,
+                           @Qualifier("dartFetchExecutor") Executor fetchExecutor,
+                           Clock clock,
                            @Value("${app.financial.sync.request-interval-ms:150}") long requestIntervalMs,
-                           @Value("${app.financial.sync.max-companies:0}") int maxCompanies) {
+                           @Value("${app.financial.sync.max-companies:0}") int maxCompanies,
+                           @Value("${app.financial.sync.upsert-chunk-size:200}") int chunkSize,
+                           @Value("${app.financial.sync.resume-window-hours:24}") long resumeWindowHours) {
         this.dartClient = dartClient;
         this.loadCompanyPort = loadCompanyPort;
         this.saveCompanyPort = saveCompanyPort;
         this.saveFinancialStatementPort = saveFinancialStatementPort;
-        this.requestIntervalMs = requestIntervalMs;
+        this.checkpointPort = checkpointPort;
+        this.fetchExecutor = fetchExecutor;
+        this.clock = clock;
+        this.pacer = new RequestPacer(requestIntervalMs);
         this.maxCompanies = maxCompanies;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.resumeWindow = Duration.ofHours(resumeWindowHours);
     }
 
     @Override
     public SyncResult syncCompanies() {
         requireConfigured();
         List<DartClientPort.ListedCompany> listed = dartClient.fetchListedCompanies();
-        int scanned = 0;
-        int upserted = 0;
-        int skipped = 0;
-        int failed = 0;
-        for (DartClientPort.ListedCompany candidate : listed) {
-            if (maxCompanies > 0 && scanned >= maxCompanies) {
-                break;
-            }
-            scanned++;
-            try {
-                Optional<DartClientPort.CompanyProfile> profile = dartClient.fetchProfile(candidate.corpCode());
-                String market = profile.map(DartClientPort.CompanyProfile::marketOrNull).orElse(null);
+        if (maxCompanies > 0 && listed.size() > maxCompanies) {
+            listed = listed.subList(0, maxCompanies);
+        }
+        List<DartClientPort.ListedCompany> pending = pending(COMPANIES_JOB, listed, DartClientPort.ListedCompany::corpCode);
+        Tally tally = new Tally(pending.size());
+        for (List<DartClientPort.ListedCompany> chunk : chunks(pending)) {
+            List<String> done = new ArrayList<>();
+            Map<DartClientPort.ListedCompany, String> markets = new LinkedHashMap<>();
+            for (Fetched<DartClientPort.ListedCompany, Optional<DartClientPort.CompanyProfile>> fetched
+                    : fetchAll(chunk, candidate -> dartClient.fetchProfile(candidate.corpCode()))) {
+                DartClientPort.ListedCompany candidate = fetched.item();
+                if (fetched.error() != null) {
+                    tally.failed++;
+                    log.warn("기업 동기화 실패 corpCode={} name={}: {}",
+                            candidate.corpCode(), candidate.name(), fetched.error().getMessage());
+                    continue;
+                }
+                String market = fetched.value().map(DartClientPort.CompanyProfile::marketOrNull).orElse(null);
                 if (market == null) {   // 기업개황 미존재 또는 비수집 시장(코넥스/기타)
-                    skipped++;
+                    tally.skipped++;
+                    done.add(candidate.corpCode());
                 } else {
-                    Company merged = loadCompanyPort.findByStockCode(candidate.stockCode())
-                            .map(existing -> existing.mergedWith(candidate.corpCode(), candidate.name()))
-                            .orElseGet(() -> new Company(candidate.stockCode(), candidate.corpCode(),
-                                    candidate.name(), market));
-                    saveCompanyPort.upsert(merged);
-                    upserted++;
+                    markets.put(candidate, market);
                 }
-            } catch (RuntimeException e) {
-                failed++;
-                log.warn("기업 동기화 실패 corpCode={} name={}: {}", candidate.corpCode(), candidate.name(), e.getMessage());
             }
-            logProgress("기업", scanned, listed.size(), upserted, failed);
-            pause();
+            Map<String, Company> existing = loadCompanyPort.findAllByStockCodes(markets.keySet().stream()
+                            .map(DartClientPort.ListedCompany::stockCode).collect(Collectors.toSet())).stream()
+                    .collect(Collectors.toMap(Company::stockCode, Function.identity()));
+            List<Row<Company>> rows = new ArrayList<>();
+            markets.forEach((candidate, market) -> {
+                try {
+                    Company current = existing.get(candidate.stockCode());
+                    Company merged = current != null
+                            ? current.mergedWith(candidate.corpCode(), candidate.name())
+                            : new Company(candidate.stockCode(), candidate.corpCode(), candidate.name(), market);
+                    rows.add(new Row<>(candidate.corpCode(), "corpCode=" + candidate.corpCode(), merged));
+                } catch (RuntimeException e) {
+                    tally.failed++;
+                    log.warn("기업 동기화 실패 corpCode={} name={}: {}", candidate.corpCode(), candidate.name(), e.getMessage());
+                }
+            });
+            done.addAll(upsertChunk(rows, saveCompanyPort::upsertAll, tally, "기업"));
+            checkpointPort.markCompleted(COMPANIES_JOB, done);
+            tally.logProgress("기업");
         }
-        log.info("기업 동기화 완료 — 스캔 {}, 상장(코스피/코스닥) upsert {}, 스킵 {}, 실패 {}", scanned, upserted, skipped, failed);
-        return new SyncResult(scanned, upserted, skipped, failed);
+        checkpointPort.clear(COMPANIES_JOB);
+        log.info("기업 동기화 완료 — 스캔 {}, 상장(코스피/코스닥) upsert {}, 스킵 {}, 실패 {}",
+                tally.scanned, tally.upserted, tally.skipped, tally.failed);
+        return tally.result();
     }
 
     @Override
     public SyncResult syncStatements(int year) {
         requireConfigured();
-        List<Company> companies = loadCompanyPort.findAllWithCorpCode();
-        int scanned = 0;
-        int upserted = 0;
-        int skipped = 0;
-        int failed = 0;
-        for (Company company : companies) {
-            scanned++;
-            try {
-                Optional<DartClientPort.AnnualSummary> summary =
-                        dartClient.fetchAnnualSummary(company.corpCode(), year);
-                if (summary.isEmpty()) {
-                    skipped++;   // 미공시(신규 상장 등)
+        String job = "statements-" + year;
+        List<Company> pending = pending(job, loadCompanyPort.findAllWithCorpCode(), Company::corpCode);
+        Tally tally = new Tally(pending.size());
+        for (List<Company> chunk : chunks(pending)) {
+            List<String> done = new ArrayList<>();
+            List<Row<FinancialStatement>> rows = new ArrayList<>();
+            for (Fetched<Company, Optional<DartClientPort.AnnualSummary>> fetched
+                    : fetchAll(chunk, company -> dartClient.fetchAnnualSummary(company.corpCode(), year))) {
+                Company company = fetched.item();
+                if (fetched.error() != null) {
+                    tally.failed++;
+                    log.warn("재무제표 동기화 실패 stockCode={} year={}: {}",
+                            company.stockCode(), year, fetched.error().getMessage());
+                } else if (fetched.value().isEmpty()) {
+                    tally.skipped++;   // 미공시(신규 상장 등)
+                    done.add(company.corpCode());
                 } else {
-                    saveFinancialStatementPort.upsert(toStatement(company, year, summary.get()));
-                    upserted++;
+                    rows.add(new Row<>(company.corpCode(), "stockCode=%s year=%d".formatted(company.stockCode(), year),
+                            toStatement(company, year, fetched.value().get())));
                 }
-            } catch (RuntimeException e) {
-                failed++;
-                log.warn("재무제표 동기화 실패 stockCode={} year={}: {}", company.stockCode(), year, e.getMessage());
             }
-            logProgress("재무제표", scanned, companies.size(), upserted, failed);
-            pause();
+            done.addAll(upsertChunk(rows, saveFinancialStatementPort::upsertAll, tally, "재무제표"));
+            checkpointPort.markCompleted(job, done);
+            tally.logProgress("재무제표");
         }
+        checkpointPort.clear(job);
         log.info("재무제표 동기화 완료 — 연도 {}, 대상 {}, upsert {}, 미공시 {}, 실패 {}",
-                year, scanned, upserted, skipped, failed);
-        return new SyncResult(scanned, upserted, skipped, failed);
+                year, tally.scanned, tally.upserted, tally.skipped, tally.failed);
+        return tally.result();
     }
 
     private FinancialStatement toStatement(Company company, int year, DartClientPort.AnnualSummary s) {
@@ -135,21 +192,101 @@ public class DartSyncService implements SyncCompaniesUseCase, SyncStatementsUseC
         }
     }
 
-    private void logProgress(String job, int scanned, int total, int upserted, int failed) {
-        if (scanned % PROGRESS_LOG_INTERVAL == 0) {
-            log.info("{} 동기화 진행 {}/{} (upsert {}, 실패 {})", job, scanned, total, upserted, failed);
+    /** 재개 창 안의 체크포인트에 없는 대상만 — 지난 실행이 중간에 끊겼으면 거기서 이어간다. */
+    private <T> List<T> pending(String job, List<T> targets, Function<T, String> key) {
+        Set<String> completed = checkpointPort.findCompleted(job, clock.instant().minus(resumeWindow));
+        if (completed.isEmpty()) {
+            return targets;
         }
+        List<T> pending = targets.stream().filter(target -> !completed.contains(key.apply(target))).toList();
+        log.info("{} 동기화 이어하기 — 체크포인트 {}건 건너뜀, 남은 {}건", job, targets.size() - pending.size(), pending.size());
+        return pending;
     }
 
-    private void pause() {
-        if (requestIntervalMs <= 0) {
-            return;
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + chunkSize)));
+        }
+        return chunks;
+    }
+
+    /**
+     * 청크의 DART 호출을 작업 풀에 겹쳐 보내고 입력 순서대로 모은다. 호출 실패는 결과에 담아 돌려주고
+     * (건별 집계), 간격 대기 중 인터럽트만 배치를 멈춘다.
+     */
+    private <T, R> List<Fetched<T, R>> fetchAll(List<T> items, Function<T, R> fetch) {
+        List<CompletableFuture<Fetched<T, R>>> futures = items.stream()
+                .map(item -> CompletableFuture.supplyAsync(() -> {
+                    pacer.acquire();
+                    try {
+                        return new Fetched<T, R>(item, fetch.apply(item), null);
+                    } catch (RuntimeException e) {
+                        return new Fetched<T, R>(item, null, e);
+                    }
+                }, fetchExecutor))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 청크를 multi-row upsert 한 번으로 반영한다. 실패하면(묶음 전체 롤백) 건별로 다시 나눠 원인 행만
+     * 실패로 센다. 반영된 행의 key 를 돌려준다.
+     */
+    private <T> List<String> upsertChunk(List<Row<T>> rows, Consumer<List<T>> upsertAll, Tally tally, String job) {
+        if (rows.isEmpty()) {
+            return List.of();
         }
         try {
-            Thread.sleep(requestIntervalMs);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("동기화 스레드 인터럽트", e);
+            upsertAll.accept(rows.stream().map(Row::value).toList());
+            tally.upserted += rows.size();
+            return rows.stream().map(Row::key).toList();
+        } catch (RuntimeException e) {
+            log.warn("{} 청크 upsert 실패 — {}건을 건별로 다시 반영: {}", job, rows.size(), e.getMessage());
+        }
+        List<String> written = new ArrayList<>();
+        for (Row<T> row : rows) {
+            try {
+                upsertAll.accept(List.of(row.value()));
+                tally.upserted++;
+                written.add(row.key());
+            } catch (RuntimeException e) {
+                tally.failed++;
+                log.warn("{} 동기화 실패 {}: {}", job, row.label(), e.getMessage());
+            }
+        }
+        return written;
+    }
+
+    private record Fetched<T, R>(T item, R value, RuntimeException error) {
+    }
+
+    /** upsert 대상 한 행 — key 는 체크포인트, label 은 실패 로그용. */
+    private record Row<T>(String key, String label, T value) {
+    }
+
+    /** 청크 결과는 호출 스레드에서만 모으므로 원자 변수가 필요 없다. */
+    private static final class Tally {
+
+        private final int scanned;
+        private int upserted;
+        private int skipped;
+        private int failed;
+
+        Tally(int scanned) {
+            this.scanned = scanned;
+        }
+
+        void logProgress(String job) {
+            log.info("{} 동기화 진행 {}/{} (upsert {}, 실패 {})", job, upserted + skipped + failed, scanned, upserted, failed);
+        }
+
+        SyncResult result() {
+            return new SyncResult(scanned, upserted, skipped, failed);
         }
     }
 }
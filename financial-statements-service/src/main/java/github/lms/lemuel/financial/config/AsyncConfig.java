@@ -1,5 +1,6 @@
 package github.lms.lemuel.financial.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
@@ -18,4 +19,17 @@ public class AsyncConfig {
         executor.setVirtualThreads(true);
         return executor;
     }
+
+    /**
+     * 배치 안에서 DART 호출을 겹쳐 보내는 작업 풀. 응답을 기다리는 동안 다음 호출이 나가도록 동시
+     * {@code app.financial.sync.concurrency} 건까지 띄운다 — 초당 호출 수는 이 값이 아니라
+     * {@code request-interval-ms} 간격이 전체 워커에 걸쳐 지킨다.
+     */
+    @Bean(name = "dartFetchExecutor")
+    public TaskExecutor dartFetchExecutor(@Value("${app.financial.sync.concurrency:4}") int concurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("financial-dart-fetch-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(Math.max(1, concurrency));
+        return executor;
+    }
 }
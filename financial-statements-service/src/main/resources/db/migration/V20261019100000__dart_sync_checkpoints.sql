@@ -0,0 +1,16 @@
+-- V20261019100000: DART 동기화 이어하기 체크포인트
+--
+-- 기업·재무제표 동기화는 기업 수천 곳을 도는 장시간 배치라 재배포·OOM 으로 중간에 끊기면 처음부터 다시
+-- 돌아 DART 일일 쿼터를 두 번 쓴다. 청크가 반영될 때마다 그 청크의 기업을 여기에 기록하고, 다음 실행은
+-- 기록된 기업(재개 창 안의 것만)을 건너뛴다. 끝까지 돈 실행은 자기 job 의 행을 지운다 — 다음 정기 실행은
+-- 처음부터 다시 받아 정정공시를 반영한다.
+--
+-- job      : 실행 단위 — 'companies', 'statements-2024' ...
+-- item_key : job 안의 기업 — DART 고유번호(corp_code)
+
+CREATE TABLE IF NOT EXISTS dart_sync_checkpoints (
+    job          VARCHAR(40) NOT NULL,
+    item_key     VARCHAR(20) NOT NULL,
+    completed_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (job, item_key)
+);
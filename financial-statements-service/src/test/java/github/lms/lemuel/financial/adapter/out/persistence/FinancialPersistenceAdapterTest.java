@@ -15,21 +15,31 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
- * 영속성 어댑터 2종(Company·FinancialStatement)의 매핑·upsert(신규/기존 병합)·검색 분기와,
- * 그에 딸린 JPA 엔티티 fromDomain/applyDomain/toDomain 왕복 매핑을 Mockito 리포지토리로 검증.
+ * 영속성 어댑터 3종(Company·FinancialStatement·SyncCheckpoint)의 매핑·다건 upsert 바인딩·검색 분기와,
+ * 그에 딸린 JPA 엔티티 fromDomain/applyDomain/toDomain 왕복 매핑을 Mockito 리포지토리·JdbcTemplate 로 검증.
  */
 @ExtendWith(MockitoExtension.class)
 class FinancialPersistenceAdapterTest {
@@ -38,6 +48,10 @@ class FinancialPersistenceAdapterTest {
     private CompanyRepository companyRepository;
     @Mock
     private FinancialStatementRepository statementRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PreparedStatement ps;
 
     private Company sampleCompany() {
         return new Company("005930", "00126380", "삼성전자", "KOSPI");
@@ -55,7 +69,7 @@ class FinancialPersistenceAdapterTest {
     @Test
     @DisplayName("search — keyword null 이면 findAll 정렬 페이지")
     void searchAll() {
-        CompanyPersistenceAdapter adapter = new CompanyPersistenceAdapter(companyRepository);
+        CompanyPersistenceAdapter adapter = new CompanyPersistenceAdapter(companyRepository, jdbcTemplate);
         Page<CompanyJpaEntity> page = new PageImpl<>(
                 List.of(CompanyJpaEntity.fromDomain(sampleCompany())),
                 PageRequest.of(0, 20), 1);
@@ -72,7 +86,7 @@ class FinancialPersistenceAdapterTest {
     @Test
     @DisplayName("search — keyword 있으면 검색 쿼리 사용")
     void searchByKeyword() {
-        CompanyPersistenceAdapter adapter = new CompanyPersistenceAdapter(companyRepository);
+        CompanyPersistenceAdapter adapter = new CompanyPersistenceAdapter(companyRepository, jdbcTemplate);
         Page<CompanyJpaEntity> page = new PageImpl<>(
                 List.of(CompanyJpaEntity.fromDomain(sampleCompany())));
         when(companyRepository.search(eq("삼성"), any(Pageable.class))).thenReturn(page);
@@ -86,7 +100,7 @@ class FinancialPersistenceAdapterTest {
     @Test
     @DisplayName("findByStockCode / findAllWithCorpCode 매핑")
     void companyLookups() {
-        CompanyPersistenceAdapter adapter = new CompanyPersistenceAdapter(companyRepository);
+        CompanyPersistenceAdapter adapter = new CompanyPersistenceAdapter(companyRepository, jdbcTemplate);
         when(companyRepository.findById("005930"))
                 .thenReturn(Optional.of(CompanyJpaEntity.fromDomain(sampleCompany())));
         when(companyRepository.findByCorpCodeIsNotNull())
@@ -97,33 +111,37 @@ class FinancialPersistenceAdapterTest {
     }
 
     @Test
-    @DisplayName("upsert — 신규는 fromDomain 저장")
-    void companyUpsertNew() {
-        CompanyPersistenceAdapter adapter = new CompanyPersistenceAdapter(companyRepository);
-        when(companyRepository.findById("005930")).thenReturn(Optional.empty());
-
-        adapter.upsert(sampleCompany());
+    @DisplayName("findAllByStockCodes — 한 번에 조회, 빈 입력은 DB 에 가지 않는다")
+    void companyFindAllByStockCodes() {
+        CompanyPersistenceAdapter adapter = new CompanyPersistenceAdapter(companyRepository, jdbcTemplate);
+        when(companyRepository.findAllById(Set.of("005930")))
+                .thenReturn(List.of(CompanyJpaEntity.fromDomain(sampleCompany())));
 
-        ArgumentCaptor<CompanyJpaEntity> captor = ArgumentCaptor.forClass(CompanyJpaEntity.class);
-        verify(companyRepository).save(captor.capture());
-        assertThat(captor.getValue().toDomain().stockCode()).isEqualTo("005930");
+        assertThat(adapter.findAllByStockCodes(Set.of("005930"))).extracting(Company::corpCode)
+                .containsExactly("00126380");
+        assertThat(adapter.findAllByStockCodes(Set.of())).isEmpty();
+        verify(companyRepository).findAllById(any());
     }
 
     @Test
-    @DisplayName("upsert — 기존 행이면 applyDomain 병합 저장")
-    void companyUpsertExisting() {
-        CompanyPersistenceAdapter adapter = new CompanyPersistenceAdapter(companyRepository);
-        CompanyJpaEntity existing = CompanyJpaEntity.fromDomain(
-                new Company("005930", null, "구삼성", "KOSPI"));
-        when(companyRepository.findById("005930")).thenReturn(Optional.of(existing));
-
-        adapter.upsert(sampleCompany());
-
-        ArgumentCaptor<CompanyJpaEntity> captor = ArgumentCaptor.forClass(CompanyJpaEntity.class);
-        verify(companyRepository).save(captor.capture());
-        Company merged = captor.getValue().toDomain();
-        assertThat(merged.corpCode()).isEqualTo("00126380");
-        assertThat(merged.name()).isEqualTo("삼성전자");
+    @DisplayName("upsertAll — 종목코드 충돌 갱신 배치 하나로 행마다 바인딩, 빈 목록은 건너뜀")
+    void companyUpsertAll() throws SQLException {
+        CompanyPersistenceAdapter adapter = new CompanyPersistenceAdapter(companyRepository, jdbcTemplate);
+
+        adapter.upsertAll(List.of(sampleCompany(), new Company("247540", "00256598", "에코프로비엠", "KOSDAQ")));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<BatchPreparedStatementSetter> setter = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), setter.capture());
+        assertThat(sql.getValue()).contains("ON CONFLICT (stock_code)");
+        assertThat(setter.getValue().getBatchSize()).isEqualTo(2);
+        setter.getValue().setValues(ps, 1);
+        verify(ps).setString(1, "247540");
+        verify(ps).setString(4, "KOSDAQ");
+        verify(companyRepository, never()).save(any());
+
+        adapter.upsertAll(List.of());
+        verify(jdbcTemplate).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
     }
 
     // ---- FinancialStatementPersistenceAdapter ----
@@ -132,7 +150,7 @@ class FinancialPersistenceAdapterTest {
     @DisplayName("findByCompany — 엔티티→도메인 매핑")
     void statementFindByCompany() {
         FinancialStatementPersistenceAdapter adapter =
-                new FinancialStatementPersistenceAdapter(statementRepository);
+                new FinancialStatementPersistenceAdapter(statementRepository, jdbcTemplate);
         when(statementRepository.findByCompany("005930", null, null))
                 .thenReturn(List.of(FinancialStatementJpaEntity.fromDomain(sampleStatement())));
 
@@ -149,37 +167,55 @@ class FinancialPersistenceAdapterTest {
     }
 
     @Test
-    @DisplayName("upsert — 신규는 fromDomain 저장")
-    void statementUpsertNew() {
+    @DisplayName("upsertAll — (종목, 연도, 구분) 충돌 갱신 배치로 계정·출처·수집시각을 바인딩")
+    void statementUpsertAll() throws SQLException {
         FinancialStatementPersistenceAdapter adapter =
-                new FinancialStatementPersistenceAdapter(statementRepository);
-        when(statementRepository.findByStockCodeAndFiscalYearAndFsDiv("005930", 2024, FsDivision.CFS))
-                .thenReturn(Optional.empty());
+                new FinancialStatementPersistenceAdapter(statementRepository, jdbcTemplate);
+
+        adapter.upsertAll(List.of(sampleStatement()));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<BatchPreparedStatementSetter> setter = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), setter.capture());
+        assertThat(sql.getValue()).contains("ON CONFLICT (stock_code, fiscal_year, fs_div)");
+        setter.getValue().setValues(ps, 0);
+        verify(ps).setInt(2, 2024);
+        verify(ps).setString(3, "CFS");
+        verify(ps).setBigDecimal(5, new BigDecimal("1000"));
+        verify(ps).setString(11, "DART");
+        verify(ps).setTimestamp(12, Timestamp.from(Instant.parse("2026-01-01T00:00:00Z")));
+        verify(statementRepository, never()).save(any());
+    }
 
-        adapter.upsert(sampleStatement());
+    @Test
+    @DisplayName("upsertAll — 빈 목록은 DB 에 가지 않는다")
+    void statementUpsertAllEmpty() {
+        new FinancialStatementPersistenceAdapter(statementRepository, jdbcTemplate).upsertAll(List.of());
 
-        verify(statementRepository).save(any(FinancialStatementJpaEntity.class));
+        verifyNoInteractions(jdbcTemplate);
     }
 
+    // ---- SyncCheckpointPersistenceAdapter ----
+
     @Test
-    @DisplayName("upsert — 기존 행이면 applyDomain 병합 저장")
-    void statementUpsertExisting() {
-        FinancialStatementPersistenceAdapter adapter =
-                new FinancialStatementPersistenceAdapter(statementRepository);
-        FinancialStatementJpaEntity existing = FinancialStatementJpaEntity.fromDomain(
-                new FinancialStatement(9L, "005930", 2024, FsDivision.CFS, "KRW",
-                        new BigDecimal("1"), null, null, null, null, null,
-                        StatementSource.SEED, Instant.parse("2025-01-01T00:00:00Z")));
-        when(statementRepository.findByStockCodeAndFiscalYearAndFsDiv("005930", 2024, FsDivision.CFS))
-                .thenReturn(Optional.of(existing));
-
-        adapter.upsert(sampleStatement());
-
-        ArgumentCaptor<FinancialStatementJpaEntity> captor =
-                ArgumentCaptor.forClass(FinancialStatementJpaEntity.class);
-        verify(statementRepository).save(captor.capture());
-        FinancialStatement merged = captor.getValue().toDomain();
-        assertThat(merged.revenue()).isEqualByComparingTo("1000");
-        assertThat(merged.source()).isEqualTo(StatementSource.DART);
+    @DisplayName("체크포인트 — 재개 창 이후 key 조회, 건별 기록 배치, job 단위 삭제")
+    void syncCheckpoints() {
+        SyncCheckpointPersistenceAdapter adapter = new SyncCheckpointPersistenceAdapter(jdbcTemplate);
+        Instant since = Instant.parse("2026-10-18T00:00:00Z");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("companies"), eq(Timestamp.from(since))))
+                .thenReturn(List.of("00126380"));
+
+        assertThat(adapter.findCompleted("companies", since)).containsExactly("00126380");
+
+        adapter.markCompleted("companies", List.of());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        adapter.markCompleted("companies", List.of("00126380", "00164742"));
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).containsExactly(
+                new Object[]{"companies", "00126380"}, new Object[]{"companies", "00164742"});
+
+        adapter.clear("companies");
+        verify(jdbcTemplate).update(anyString(), eq("companies"));
     }
 }
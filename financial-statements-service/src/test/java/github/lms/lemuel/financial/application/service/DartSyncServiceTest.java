@@ -5,6 +5,7 @@ import github.lms.lemuel.financial.application.port.out.DartClientPort;
 import github.lms.lemuel.financial.application.port.out.LoadCompanyPort;
 import github.lms.lemuel.financial.application.port.out.SaveCompanyPort;
 import github.lms.lemuel.financial.application.port.out.SaveFinancialStatementPort;
+import github.lms.lemuel.financial.application.port.out.SyncCheckpointPort;
 import github.lms.lemuel.financial.domain.Company;
 import github.lms.lemuel.financial.domain.FinancialStatement;
 import github.lms.lemuel.financial.domain.FsDivision;
@@ -14,19 +15,38 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -36,6 +56,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class DartSyncServiceTest {
 
+    private static final Instant NOW = Instant.parse("2026-10-19T01:00:00Z");
+
     @Mock
     private DartClientPort dartClient;
     @Mock
@@ -44,17 +66,40 @@ class DartSyncServiceTest {
     private SaveCompanyPort saveCompanyPort;
     @Mock
     private SaveFinancialStatementPort saveFinancialStatementPort;
+    @Captor
+    private ArgumentCaptor<List<Company>> companies;
+    @Captor
+    private ArgumentCaptor<List<FinancialStatement>> statements;
 
+    private final InMemoryCheckpoints checkpoints = new InMemoryCheckpoints();
     private DartSyncService service;
 
     @BeforeEach
     void setUp() {
-        // 테스트에서는 호출 간격 0 (sleep 없음), 상한 없음
-        service = new DartSyncService(dartClient, loadCompanyPort, saveCompanyPort,
-                saveFinancialStatementPort, 0L, 0);
+        // 테스트에서는 호출 간격 0 (sleep 없음), 상한 없음, 호출 스레드에서 바로 실행
+        service = service(dartClient, 0L, 0, 200, Runnable::run);
         lenient().when(dartClient.isConfigured()).thenReturn(true);
     }
 
+    private DartSyncService service(DartClientPort client, long intervalMs, int maxCompanies, int chunkSize,
+                                    Executor executor) {
+        return new DartSyncService(client, loadCompanyPort, saveCompanyPort, saveFinancialStatementPort,
+                checkpoints, executor, Clock.fixed(NOW, ZoneOffset.UTC), intervalMs, maxCompanies, chunkSize, 24);
+    }
+
+    private static DartClientPort.AnnualSummary summary() {
+        return new DartClientPort.AnnualSummary(FsDivision.CFS, "KRW",
+                new BigDecimal("300900000000000"), new BigDecimal("32700000000000"),
+                new BigDecimal("34500000000000"), new BigDecimal("514500000000000"),
+                new BigDecimal("112300000000000"), new BigDecimal("402200000000000"));
+    }
+
+    private static List<Company> listedCompanies(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Company("%06d".formatted(i), "%08d".formatted(i), "기업" + i, "KOSPI"))
+                .toList();
+    }
+
     @Test
     @DisplayName("API 키 미설정이면 IllegalStateException — 배치 시작 자체를 거부")
     void requiresApiKey() {
@@ -77,15 +122,13 @@ class DartSyncServiceTest {
                 .thenReturn(Optional.of(new DartClientPort.CompanyProfile("00256598", "K", "에코프로비엠")));
         when(dartClient.fetchProfile("00999999"))
                 .thenReturn(Optional.of(new DartClientPort.CompanyProfile("00999999", "N", "코넥스기업")));
-        when(loadCompanyPort.findByStockCode("005930")).thenReturn(Optional.empty());
-        when(loadCompanyPort.findByStockCode("247540")).thenReturn(Optional.empty());
+        when(loadCompanyPort.findAllByStockCodes(Set.of("005930", "247540"))).thenReturn(List.of());
 
         SyncResult result = service.syncCompanies();
 
         assertThat(result).isEqualTo(new SyncResult(3, 2, 1, 0));
-        ArgumentCaptor<Company> captor = ArgumentCaptor.forClass(Company.class);
-        verify(saveCompanyPort, times(2)).upsert(captor.capture());
-        assertThat(captor.getAllValues()).extracting(Company::stockCode, Company::market)
+        verify(saveCompanyPort).upsertAll(companies.capture());
+        assertThat(companies.getValue()).extracting(Company::stockCode, Company::market)
                 .containsExactly(tuple("005930", "KOSPI"), tuple("247540", "KOSDAQ"));
     }
 
@@ -96,14 +139,13 @@ class DartSyncServiceTest {
                 new DartClientPort.ListedCompany("00126380", "005930", "삼성전자")));
         when(dartClient.fetchProfile("00126380"))
                 .thenReturn(Optional.of(new DartClientPort.CompanyProfile("00126380", "Y", "삼성전자")));
-        when(loadCompanyPort.findByStockCode("005930"))
-                .thenReturn(Optional.of(new Company("005930", null, "삼성전자", "KOSPI")));
+        when(loadCompanyPort.findAllByStockCodes(Set.of("005930")))
+                .thenReturn(List.of(new Company("005930", null, "삼성전자", "KOSPI")));
 
         service.syncCompanies();
 
-        ArgumentCaptor<Company> captor = ArgumentCaptor.forClass(Company.class);
-        verify(saveCompanyPort).upsert(captor.capture());
-        assertThat(captor.getValue().hasCorpCode()).isTrue();
+        verify(saveCompanyPort).upsertAll(companies.capture());
+        assertThat(companies.getValue().getFirst().hasCorpCode()).isTrue();
     }
 
     @Test
@@ -115,7 +157,7 @@ class DartSyncServiceTest {
         when(dartClient.fetchProfile("00000001")).thenThrow(new IllegalStateException("DART 오류"));
         when(dartClient.fetchProfile("00126380"))
                 .thenReturn(Optional.of(new DartClientPort.CompanyProfile("00126380", "Y", "삼성전자")));
-        when(loadCompanyPort.findByStockCode("005930")).thenReturn(Optional.empty());
+        when(loadCompanyPort.findAllByStockCodes(Set.of("005930"))).thenReturn(List.of());
 
         SyncResult result = service.syncCompanies();
 
@@ -125,14 +167,13 @@ class DartSyncServiceTest {
     @Test
     @DisplayName("기업 동기화 — max-companies 상한만큼만 스캔")
     void syncCompaniesRespectsLimit() {
-        service = new DartSyncService(dartClient, loadCompanyPort, saveCompanyPort,
-                saveFinancialStatementPort, 0L, 1);
+        service = service(dartClient, 0L, 1, 200, Runnable::run);
         when(dartClient.fetchListedCompanies()).thenReturn(List.of(
                 new DartClientPort.ListedCompany("00126380", "005930", "삼성전자"),
                 new DartClientPort.ListedCompany("00164742", "005380", "현대차")));
         when(dartClient.fetchProfile("00126380"))
                 .thenReturn(Optional.of(new DartClientPort.CompanyProfile("00126380", "Y", "삼성전자")));
-        when(loadCompanyPort.findByStockCode("005930")).thenReturn(Optional.empty());
+        when(loadCompanyPort.findAllByStockCodes(Set.of("005930"))).thenReturn(List.of());
 
         SyncResult result = service.syncCompanies();
 
@@ -146,19 +187,14 @@ class DartSyncServiceTest {
         when(loadCompanyPort.findAllWithCorpCode()).thenReturn(List.of(
                 new Company("005930", "00126380", "삼성전자", "KOSPI"),
                 new Company("005380", "00164742", "현대차", "KOSPI")));
-        when(dartClient.fetchAnnualSummary("00126380", 2024)).thenReturn(Optional.of(
-                new DartClientPort.AnnualSummary(FsDivision.CFS, "KRW",
-                        new BigDecimal("300900000000000"), new BigDecimal("32700000000000"),
-                        new BigDecimal("34500000000000"), new BigDecimal("514500000000000"),
-                        new BigDecimal("112300000000000"), new BigDecimal("402200000000000"))));
+        when(dartClient.fetchAnnualSummary("00126380", 2024)).thenReturn(Optional.of(summary()));
         when(dartClient.fetchAnnualSummary("00164742", 2024)).thenReturn(Optional.empty());
 
         SyncResult result = service.syncStatements(2024);
 
         assertThat(result).isEqualTo(new SyncResult(2, 1, 1, 0));
-        ArgumentCaptor<FinancialStatement> captor = ArgumentCaptor.forClass(FinancialStatement.class);
-        verify(saveFinancialStatementPort).upsert(captor.capture());
-        FinancialStatement saved = captor.getValue();
+        verify(saveFinancialStatementPort).upsertAll(statements.capture());
+        FinancialStatement saved = statements.getValue().getFirst();
         assertThat(saved.stockCode()).isEqualTo("005930");
         assertThat(saved.fiscalYear()).isEqualTo(2024);
         assertThat(saved.source()).isEqualTo(StatementSource.DART);
@@ -176,6 +212,181 @@ class DartSyncServiceTest {
         SyncResult result = service.syncStatements(2024);
 
         assertThat(result).isEqualTo(new SyncResult(1, 0, 0, 1));
-        verify(saveFinancialStatementPort, never()).upsert(any());
+        verify(saveFinancialStatementPort, never()).upsertAll(any());
+    }
+
+    @Test
+    @DisplayName("청크 크기만큼 모아 multi-row upsert 하고, 기업 기존 행은 청크마다 한 번에 미리 읽는다")
+    void upsertsInChunksWithBulkPreload() {
+        service = service(dartClient, 0L, 0, 2, Runnable::run);
+        when(loadCompanyPort.findAllWithCorpCode()).thenReturn(listedCompanies(5));
+        when(dartClient.fetchAnnualSummary(anyString(), anyInt())).thenReturn(Optional.of(summary()));
+        when(dartClient.fetchListedCompanies()).thenReturn(listedCompanies(5).stream()
+                .map(c -> new DartClientPort.ListedCompany(c.corpCode(), c.stockCode(), c.name())).toList());
+        when(dartClient.fetchProfile(anyString()))
+                .thenAnswer(inv -> Optional.of(new DartClientPort.CompanyProfile(inv.getArgument(0), "Y", "기업")));
+        when(loadCompanyPort.findAllByStockCodes(any())).thenReturn(List.of());
+
+        assertThat(service.syncStatements(2024)).isEqualTo(new SyncResult(5, 5, 0, 0));
+        assertThat(service.syncCompanies()).isEqualTo(new SyncResult(5, 5, 0, 0));
+
+        verify(saveFinancialStatementPort, times(3)).upsertAll(statements.capture());
+        assertThat(statements.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        verify(saveCompanyPort, times(3)).upsertAll(companies.capture());
+        verify(loadCompanyPort, times(3)).findAllByStockCodes(any());
+        verify(loadCompanyPort, never()).findByStockCode(anyString());
+    }
+
+    @Test
+    @DisplayName("청크 upsert 가 실패하면 건별로 다시 반영해 원인 행만 실패로 센다")
+    void failedChunkFallsBackToPerRow() {
+        when(loadCompanyPort.findAllWithCorpCode()).thenReturn(listedCompanies(3));
+        when(dartClient.fetchAnnualSummary(anyString(), anyInt())).thenReturn(Optional.of(summary()));
+        doAnswer(inv -> {
+            List<FinancialStatement> rows = inv.getArgument(0);
+            if (rows.stream().anyMatch(row -> row.stockCode().equals("000001"))) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return null;
+        }).when(saveFinancialStatementPort).upsertAll(anyList());
+
+        SyncResult result = service.syncStatements(2024);
+
+        assertThat(result).isEqualTo(new SyncResult(3, 2, 0, 1));
+        verify(saveFinancialStatementPort, times(4)).upsertAll(anyList());   // 청크 1 + 건별 3
+    }
+
+    @Test
+    @DisplayName("끊긴 배치는 반영된 청크를 건너뛰고 이어가며, 끝까지 돌면 체크포인트를 지운다")
+    void resumesFromCheckpoint() {
+        service = service(dartClient, 0L, 0, 2, Runnable::run);
+        when(loadCompanyPort.findAllWithCorpCode()).thenReturn(listedCompanies(5));
+        when(dartClient.fetchAnnualSummary(anyString(), anyInt())).thenReturn(Optional.of(summary()));
+        // 지난 실행이 첫 청크를 반영하고 끊겼다 — 그 청크의 체크포인트가 남아 있다.
+        checkpoints.markCompleted("statements-2024", List.of("00000000", "00000001"));
+        checkpoints.markCompletedAt("statements-2024", "00000004", NOW.minus(Duration.ofDays(3)));   // 재개 창 밖
+
+        SyncResult result = service.syncStatements(2024);
+
+        assertThat(result).isEqualTo(new SyncResult(3, 3, 0, 0));
+        verify(dartClient, never()).fetchAnnualSummary("00000000", 2024);
+        verify(dartClient, never()).fetchAnnualSummary("00000001", 2024);
+        verify(dartClient).fetchAnnualSummary("00000004", 2024);
+        assertThat(checkpoints.rows).doesNotContainKey("statements-2024");
+    }
+
+    @Test
+    @DisplayName("배치가 중간에 죽으면 앞선 청크의 체크포인트가 남고, 실패한 기업은 남지 않는다")
+    void interruptedRunLeavesCheckpoints() {
+        service = service(dartClient, 0L, 0, 2, Runnable::run);
+        when(dartClient.fetchListedCompanies()).thenReturn(listedCompanies(4).stream()
+                .map(c -> new DartClientPort.ListedCompany(c.corpCode(), c.stockCode(), c.name())).toList());
+        when(dartClient.fetchProfile("00000000")).thenThrow(new IllegalStateException("DART 오류"));
+        when(dartClient.fetchProfile("00000001"))
+                .thenReturn(Optional.of(new DartClientPort.CompanyProfile("00000001", "Y", "기업1")));
+        when(dartClient.fetchProfile("00000002"))
+                .thenReturn(Optional.of(new DartClientPort.CompanyProfile("00000002", "Y", "기업2")));
+        when(dartClient.fetchProfile("00000003"))
+                .thenReturn(Optional.of(new DartClientPort.CompanyProfile("00000003", "Y", "기업3")));
+        when(loadCompanyPort.findAllByStockCodes(any()))
+                .thenReturn(List.of())
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        assertThatIllegalStateException().isThrownBy(() -> service.syncCompanies());
+
+        assertThat(checkpoints.rows.get("companies")).containsOnlyKeys("00000001");
+    }
+
+    @Test
+    @DisplayName("스텁 DART 서버 — 워커가 응답 대기를 겹쳐 직렬보다 빠르되, 호출 시작 간격은 워커 전체에 걸쳐 지킨다")
+    void concurrentFetchRespectsRequestInterval() {
+        int companyCount = 30;
+        long intervalMs = 10;
+        long latencyMs = 60;
+        StubDartServer stub = new StubDartServer(latencyMs);
+        when(loadCompanyPort.findAllWithCorpCode()).thenReturn(listedCompanies(companyCount));
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            long started = System.nanoTime();
+            SyncResult result = service(stub, intervalMs, 0, 200, pool).syncStatements(2024);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            assertThat(result).isEqualTo(new SyncResult(companyCount, companyCount, 0, 0));
+            // 직렬이면 30 × (60 + 10) = 2100ms — 응답 대기가 겹쳐 절반도 안 걸린다.
+            assertThat(elapsedMs).isLessThan(companyCount * (latencyMs + intervalMs) / 2);
+            // k 번째 호출은 첫 호출에서 k × 간격 이전에 시작하지 않는다 (초당 호출 수 상한 유지).
+            List<Long> starts = stub.startedNanos.stream().sorted().toList();
+            for (int k = 1; k < starts.size(); k++) {
+                assertThat(TimeUnit.NANOSECONDS.toMicros(starts.get(k) - starts.getFirst()))
+                        .isGreaterThanOrEqualTo(k * intervalMs * 1_000 - 2_000);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** 응답마다 지연을 주는 DART 스텁 — 호출 시작 시각을 기록한다. */
+    private static final class StubDartServer implements DartClientPort {
+
+        private final long latencyMs;
+        private final Collection<Long> startedNanos = new ConcurrentLinkedQueue<>();
+
+        StubDartServer(long latencyMs) {
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        public boolean isConfigured() {
+            return true;
+        }
+
+        @Override
+        public List<ListedCompany> fetchListedCompanies() {
+            return List.of();
+        }
+
+        @Override
+        public Optional<CompanyProfile> fetchProfile(String corpCode) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<AnnualSummary> fetchAnnualSummary(String corpCode, int year) {
+            startedNanos.add(System.nanoTime());
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of(summary());
+        }
+    }
+
+    /** job → (key → 기록 시각). 어댑터의 ON CONFLICT 갱신처럼 다시 기록하면 시각만 바뀐다. */
+    private static final class InMemoryCheckpoints implements SyncCheckpointPort {
+
+        private final Map<String, Map<String, Instant>> rows = new HashMap<>();
+
+        @Override
+        public Set<String> findCompleted(String job, Instant since) {
+            return rows.getOrDefault(job, Map.of()).entrySet().stream()
+                    .filter(row -> !row.getValue().isBefore(since))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public void markCompleted(String job, Collection<String> keys) {
+            new ArrayList<>(keys).forEach(key -> markCompletedAt(job, key, NOW));
+        }
+
+        void markCompletedAt(String job, String key, Instant at) {
+            rows.computeIfAbsent(job, ignored -> new HashMap<>()).put(key, at);
+        }
+
+        @Override
+        public void clear(String job) {
+            rows.remove(job);
+        }
     }
 }
@@ -28,6 +28,7 @@ class FinancialConfigTest {
     void asyncConfig() {
         TaskExecutor executor = new AsyncConfig().syncTaskExecutor();
         assertThat(executor).isNotNull();
+        assertThat(new AsyncConfig().dartFetchExecutor(0)).isNotNull();   // 0 이하여도 한 건씩은 돈다
     }
 
     @Test
@@ -45,10 +45,10 @@ public class CommissionPayoutScheduler {
         LocalDate today = LocalDate.now(clock);
         log.info("[CommissionPayout] 시작: today={}", today);
         PayoutBatchResult result = useCase.payDueOn(today);
-        log.info("[CommissionPayout] 완료: 지급={} 보류={}", result.paid(), result.held());
+        log.info("[CommissionPayout] 완료: 지급={} 보류={} 실패={}", result.paid(), result.held(), result.failed());
 
         auditLogger.record(AuditAction.INSURANCE_COMMISSION_PAID, "CommissionPayoutJob", today.toString(),
-                String.format("{\"date\":\"%s\",\"paid\":%d,\"held\":%d}",
-                        today, result.paid(), result.held()));
+                String.format("{\"date\":\"%s\",\"paid\":%d,\"held\":%d,\"failed\":%d}",
+                        today, result.paid(), result.held(), result.failed()));
     }
 }
@@ -0,0 +1,35 @@
+package github.lms.lemuel.insurance.adapter.in.schedule;
+
+import github.lms.lemuel.insurance.application.port.in.RefreshPremiumRateIndexUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드별 요율 인덱스 적재·교체 주기 — 기동 직후 한 번, 이후 {@code rate-index-refresh-interval} 마다
+ * 요율표 버전 지문을 확인하고 새 요율이 게시됐을 때만 다시 읽는다.
+ *
+ * <p><b>ShedLock 을 걸지 않는다.</b> 인덱스는 노드마다 자기 메모리에 있으므로 모든 노드가 각자 돌아야 한다.
+ */
+@Component
+public class PremiumRateIndexScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PremiumRateIndexScheduler.class);
+
+    private final RefreshPremiumRateIndexUseCase useCase;
+
+    public PremiumRateIndexScheduler(RefreshPremiumRateIndexUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.insurance.rate-index-refresh-interval:PT1M}")
+    public void refresh() {
+        try {
+            useCase.refreshIfChanged();
+        } catch (RuntimeException e) {
+            // 지금 인덱스(또는 적재 전이면 DB 경로)로 계속 답한다 — 다음 주기에 다시 확인.
+            log.error("[RateIndex] 요율 인덱스 갱신 실패 — 현재 인덱스 유지", e);
+        }
+    }
+}
@@ -7,6 +7,9 @@ import github.lms.lemuel.insurance.application.port.in.CreateProposalUseCase;
 import github.lms.lemuel.insurance.application.port.in.CreateProposalUseCase.CreateProposalCommand;
 import github.lms.lemuel.insurance.application.port.in.CreateProposalUseCase.ProposalSummary;
 import github.lms.lemuel.insurance.application.port.in.GetProposalUseCase;
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase;
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase.PremiumMatrix;
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase.QuoteMatrixCommand;
 import github.lms.lemuel.insurance.application.port.in.RenderProposalSheetUseCase;
 import github.lms.lemuel.insurance.domain.Gender;
 import github.lms.lemuel.insurance.domain.SalesChannel;
@@ -22,6 +25,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
 import org.springframework.http.HttpStatus;
@@ -38,10 +42,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 /**
- * 가입설계 API — 산출·조회·청약 전환·설계서 PDF.
+ * 가입설계 API — 산출·일괄 산출·조회·청약 전환·설계서 PDF.
  *
  * <p>인증: shared-common SecurityConfig 기본 규칙(anyRequest → authenticated) — JWT 필수.
  * 전환 요청의 금액은 받지 않는다 — 설계 스냅샷의 산출값을 서버가 주입한다(D-P3).
@@ -54,15 +59,18 @@ public class ProposalController {
     private final GetProposalUseCase getUseCase;
     private final ConvertProposalUseCase convertUseCase;
     private final RenderProposalSheetUseCase renderUseCase;
+    private final QuotePremiumMatrixUseCase matrixUseCase;
 
     public ProposalController(CreateProposalUseCase createUseCase,
                               GetProposalUseCase getUseCase,
                               ConvertProposalUseCase convertUseCase,
-                              RenderProposalSheetUseCase renderUseCase) {
+                              RenderProposalSheetUseCase renderUseCase,
+                              QuotePremiumMatrixUseCase matrixUseCase) {
         this.createUseCase = createUseCase;
         this.getUseCase = getUseCase;
         this.convertUseCase = convertUseCase;
         this.renderUseCase = renderUseCase;
+        this.matrixUseCase = matrixUseCase;
     }
 
     /** 가입설계 산출 — 201 + 산출 스냅샷(적용 요율·보험료·유효기한). 설계자는 JWT 주체. */
@@ -76,6 +84,18 @@ public class ProposalController {
                 request.salesChannel(), request.partnerBankCode()));
     }
 
+    /**
+     * 보험료 일괄 산출 — 상품 × 납입기간 행렬 미리보기. 설계를 만들지 않는다(저장 없음, 200).
+     * 산출 불가 칸은 칸별 사유로 돌려주고, 행렬 크기·보장금액이 잘못됐을 때만 400.
+     */
+    @PostMapping("/quote-matrix")
+    public PremiumMatrix quoteMatrix(@Valid @RequestBody MatrixRequest request) {
+        requireFcId();
+        return matrixUseCase.quoteMatrix(new QuoteMatrixCommand(
+                request.productCodes(), request.paymentTerms(),
+                request.insuredBirthDate(), request.insuredGender(), request.coverageAmount()));
+    }
+
     /** 가입설계 단건 조회 — 본인 설계만(타인 403). */
     @GetMapping("/{proposalId}")
     public ProposalSummary get(@PathVariable String proposalId) {
@@ -133,6 +153,16 @@ public class ProposalController {
                                 String partnerBankCode) {
     }
 
+    /**
+     * @param paymentTerms 생략하면 상품별로 요율표에 있는 납입기간 전부
+     */
+    public record MatrixRequest(@NotEmpty List<@NotBlank String> productCodes,
+                                List<@NotNull @Min(1) Integer> paymentTerms,
+                                @NotNull @Past LocalDate insuredBirthDate,
+                                @NotNull Gender insuredGender,
+                                @NotNull @DecimalMin(value = "0.01") BigDecimal coverageAmount) {
+    }
+
     /**
      * 요청자(fcId) 필드는 의도적으로 없다 — JWT 주체에서만 파생한다(IDOR 차단).
      *
@@ -145,6 +145,23 @@ public class InsurancePolicyEventPublisherAdapter implements PublishInsuranceEve
      */
     @Override
     public void publishCommissionPaid(Policy policy, CommissionSchedule schedule) {
+        saveOutboxEventPort.save(commissionPaidEvent(policy, schedule));
+    }
+
+    /** 지급 배치의 설계사 청크 — 회차별 이벤트를 만들어 Outbox 에 한 번에 기록한다(JDBC 배치). */
+    @Override
+    public void publishCommissionPaidAll(List<PaidCommission> paid) {
+        if (paid.isEmpty()) {
+            return;
+        }
+        List<OutboxEvent> events = new ArrayList<>(paid.size());
+        for (PaidCommission p : paid) {
+            events.add(commissionPaidEvent(p.policy(), p.schedule()));
+        }
+        saveOutboxEventPort.saveAll(events);
+    }
+
+    private OutboxEvent commissionPaidEvent(Policy policy, CommissionSchedule schedule) {
         Map<String, Object> payload = new LinkedHashMap<>();
         payload.put("policyNumber",      policy.getPolicyNumber());
         payload.put("commissionId",      schedule.getCommissionId());
@@ -153,11 +170,11 @@ public class InsurancePolicyEventPublisherAdapter implements PublishInsuranceEve
         payload.put("paidAmount",        schedule.getPaidAmount().toPlainString());
         payload.put("paidAt",            schedule.getPaidAt().toString());
 
-        saveOutboxEventPort.save(OutboxEvent.pending(
+        return OutboxEvent.pending(
                 AGGREGATE_TYPE,
                 policy.getPolicyNumber(),        // 파티션 키
                 "InsuranceCommissionPaid",       // → lemuel.insurance.commission_paid
-                toJson(payload)));
+                toJson(payload));
     }
 
     /**
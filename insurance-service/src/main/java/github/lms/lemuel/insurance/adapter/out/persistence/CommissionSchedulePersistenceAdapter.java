@@ -4,6 +4,7 @@ import github.lms.lemuel.insurance.application.port.out.LoadCommissionSchedulePo
 import github.lms.lemuel.insurance.application.port.out.SaveCommissionSchedulePort;
 import github.lms.lemuel.insurance.domain.CommissionSchedule;
 import github.lms.lemuel.insurance.domain.CommissionStatus;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -11,7 +12,11 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Component
@@ -25,8 +30,17 @@ public class CommissionSchedulePersistenceAdapter
     }
 
     @Override
-    public List<CommissionSchedule> findDueScheduledOnOrBefore(LocalDate date) {
-        return repository.findByStatusAndDueDateLessThanEqual(CommissionStatus.SCHEDULED, date)
+    public List<CommissionSchedule> findDueScheduledPage(LocalDate date, DueCursor after, int limit) {
+        return repository.findDueScheduledAfter(date, after.fcId(), after.id(), PageRequest.of(0, limit))
+                .stream().map(CommissionScheduleJpaEntity::toDomain).toList();
+    }
+
+    @Override
+    public List<CommissionSchedule> lockScheduledByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return repository.lockScheduledByIdIn(ids)
                 .stream().map(CommissionScheduleJpaEntity::toDomain).toList();
     }
 
@@ -63,8 +77,33 @@ public class CommissionSchedulePersistenceAdapter
         return repository.saveAndFlush(entity).toDomain();
     }
 
+    /**
+     * 전이 결과 일괄 반영 — 기존 행은 한 번의 IN 조회로 읽어 반영하고 flush 도 한 번만 한다.
+     * 같은 tx 에서 잠가 읽은 행이면 영속성 컨텍스트에서 바로 나온다.
+     */
     @Override
     public List<CommissionSchedule> saveAll(List<CommissionSchedule> schedules) {
-        return schedules.stream().map(this::save).toList();
+        List<Long> ids = schedules.stream().map(CommissionSchedule::getId).filter(Objects::nonNull).toList();
+        Map<Long, CommissionScheduleJpaEntity> existing = new HashMap<>();
+        for (CommissionScheduleJpaEntity entity : repository.findAllById(ids)) {
+            existing.put(entity.getId(), entity);
+        }
+        List<CommissionScheduleJpaEntity> entities = new ArrayList<>(schedules.size());
+        for (CommissionSchedule schedule : schedules) {
+            if (schedule.getId() == null) {
+                entities.add(CommissionScheduleJpaEntity.fromDomain(schedule));
+                continue;
+            }
+            CommissionScheduleJpaEntity entity = existing.get(schedule.getId());
+            if (entity == null) {
+                throw new IllegalStateException(
+                        "존재하지 않는 수수료 회차 행에 전이 결과를 반영할 수 없습니다: id=" + schedule.getId());
+            }
+            entity.applyTransitionResult(schedule);
+            entities.add(entity);
+        }
+        List<CommissionScheduleJpaEntity> saved = repository.saveAll(entities);
+        repository.flush();
+        return saved.stream().map(CommissionScheduleJpaEntity::toDomain).toList();
     }
 }
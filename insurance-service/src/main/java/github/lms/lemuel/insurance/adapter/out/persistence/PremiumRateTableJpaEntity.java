@@ -1,6 +1,8 @@
 package github.lms.lemuel.insurance.adapter.out.persistence;
 
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort.RateRow;
 import github.lms.lemuel.insurance.application.port.out.LoadRateTablePort.RateSnapshot;
+import github.lms.lemuel.insurance.domain.Gender;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -12,7 +14,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 /**
- * premium_rate_tables 테이블 매핑 (V9) — 요율 조회 전용.
+ * premium_rate_tables 테이블 매핑 (V9) — 요율 조회·요율 인덱스 적재 전용.
  *
  * <p>D-P1: 요율 개정은 새 행(effective_from 버저닝) — 이 엔티티로 UPDATE 하지 않는다.
  */
@@ -51,4 +53,9 @@ public class PremiumRateTableJpaEntity {
     public RateSnapshot toSnapshot() {
         return new RateSnapshot(id, ratePerMille);
     }
+
+    public RateRow toRow() {
+        return new RateRow(id, productCode, Gender.valueOf(gender), ageFrom, ageTo,
+                paymentTermYears, ratePerMille, effectiveFrom);
+    }
 }
@@ -1,5 +1,6 @@
 package github.lms.lemuel.insurance.adapter.out.persistence;
 
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort;
 import github.lms.lemuel.insurance.application.port.out.LoadProposalPort;
 import github.lms.lemuel.insurance.application.port.out.LoadRateTablePort;
 import github.lms.lemuel.insurance.application.port.out.SaveProposalPort;
@@ -15,7 +16,7 @@ import java.util.UUID;
 
 @Component
 public class ProposalPersistenceAdapter
-        implements LoadProposalPort, SaveProposalPort, LoadRateTablePort {
+        implements LoadProposalPort, SaveProposalPort, LoadRateTablePort, LoadPremiumRateIndexPort {
 
     private final SpringDataProposalQuoteRepository proposalRepository;
     private final SpringDataPremiumRateTableRepository rateTableRepository;
@@ -65,4 +66,16 @@ public class ProposalPersistenceAdapter
                 .findFirst()
                 .map(PremiumRateTableJpaEntity::toSnapshot);
     }
+
+    @Override
+    public RateTableVersion currentVersion() {
+        return new RateTableVersion(rateTableRepository.count(), rateTableRepository.findMaxId());
+    }
+
+    @Override
+    public List<RateRow> loadAll() {
+        return rateTableRepository.findAll().stream()
+                .map(PremiumRateTableJpaEntity::toRow)
+                .toList();
+    }
 }
@@ -1,7 +1,10 @@
 package github.lms.lemuel.insurance.adapter.out.persistence;
 
 import github.lms.lemuel.insurance.domain.CommissionStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,9 +16,31 @@ import java.util.UUID;
 public interface SpringDataCommissionScheduleRepository
         extends JpaRepository<CommissionScheduleJpaEntity, Long> {
 
-    /** 지급 배치 스캔 — idx_commission_due_scheduled 부분 인덱스와 일치. */
-    List<CommissionScheduleJpaEntity> findByStatusAndDueDateLessThanEqual(
-            CommissionStatus status, LocalDate date);
+    /**
+     * 지급 배치의 키셋 페이지 — (fc_id, id) 순. idx_commission_scheduled_fc 부분 인덱스를 순서대로 탄다.
+     * due_date 는 인덱스 INCLUDE 컬럼으로 거른다.
+     */
+    @Query("""
+            select c from CommissionScheduleJpaEntity c
+            where c.status = github.lms.lemuel.insurance.domain.CommissionStatus.SCHEDULED
+              and c.dueDate <= :date
+              and (c.fcId > :afterFcId or (c.fcId = :afterFcId and c.id > :afterId))
+            order by c.fcId asc, c.id asc
+            """)
+    List<CommissionScheduleJpaEntity> findDueScheduledAfter(@Param("date") LocalDate date,
+                                                            @Param("afterFcId") String afterFcId,
+                                                            @Param("afterId") Long afterId,
+                                                            Pageable pageable);
+
+    /** 설계사 청크 지급 직전 재확인 — 아직 SCHEDULED 인 행만 {@code FOR UPDATE} 로 잠근다. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select c from CommissionScheduleJpaEntity c
+            where c.id in :ids
+              and c.status = github.lms.lemuel.insurance.domain.CommissionStatus.SCHEDULED
+            order by c.id asc
+            """)
+    List<CommissionScheduleJpaEntity> lockScheduledByIdIn(@Param("ids") List<Long> ids);
 
     List<CommissionScheduleJpaEntity> findByPolicyIdAndStatus(UUID policyId, CommissionStatus status);
 
@@ -29,4 +29,8 @@ public interface SpringDataPremiumRateTableRepository
                                                    @Param("insuranceAge") int insuranceAge,
                                                    @Param("paymentTermYears") int paymentTermYears,
                                                    @Param("asOf") LocalDate asOf);
+
+    /** 요율 인덱스 버전 지문 — INSERT-only 표라 최대 id 가 오르면 새 요율이 게시된 것이다. */
+    @Query("SELECT COALESCE(MAX(r.id), 0) FROM PremiumRateTableJpaEntity r")
+    long findMaxId();
 }
@@ -16,9 +16,10 @@ public interface PayDueCommissionsUseCase {
     PayoutBatchResult payDueOn(LocalDate today);
 
     /**
-     * @param paid 지급 완료된 회차 수 (SCHEDULED → PAID)
-     * @param held 계약이 ACTIVE 가 아니어서 보류된 회차 수 (상태 불변)
+     * @param paid   지급 완료된 회차 수 (SCHEDULED → PAID)
+     * @param held   계약이 ACTIVE 가 아니어서 보류된 회차 수 (상태 불변)
+     * @param failed 설계사 청크 트랜잭션이 실패해 롤백된 회차 수 (상태 불변 — 다음 배치가 재시도)
      */
-    record PayoutBatchResult(int paid, int held) {
+    record PayoutBatchResult(int paid, int held, int failed) {
     }
 }
@@ -0,0 +1,57 @@
+package github.lms.lemuel.insurance.application.port.in;
+
+import github.lms.lemuel.insurance.domain.Gender;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 보험료 일괄 산출 유스케이스 — 피보험자 한 명에 대해 상품 × 납입기간 행렬을 한 번에 산출한다.
+ *
+ * <p>비교 화면·방카 채널용 미리보기다. 설계를 만들지 않고(저장 없음) 스냅샷도 남기지 않는다 — 고객이 고른
+ * 조합은 {@link CreateProposalUseCase} 로 다시 산출해 설계가 된다. 모든 칸은 같은 요율 인덱스 버전으로 계산된다.
+ */
+public interface QuotePremiumMatrixUseCase {
+
+    /** 한 번에 받는 상품 수 상한. */
+    int MAX_PRODUCTS = 20;
+
+    /** 한 번에 받는 납입기간 수 상한. */
+    int MAX_PAYMENT_TERMS = 10;
+
+    PremiumMatrix quoteMatrix(QuoteMatrixCommand cmd);
+
+    /**
+     * @param paymentTerms 비어 있으면 상품·성별별로 요율표에 있는 납입기간 전부
+     */
+    record QuoteMatrixCommand(List<String> productCodes, List<Integer> paymentTerms,
+                              LocalDate insuredBirthDate, Gender insuredGender,
+                              BigDecimal coverageAmount) {
+    }
+
+    record PremiumMatrix(int insuranceAge, LocalDate quotedOn, List<MatrixCell> cells) {
+    }
+
+    /**
+     * 행렬 한 칸. {@link CellStatus#QUOTED} 가 아니면 요율·보험료는 null 이다 — 한 칸이 산출 불가여도
+     * 나머지 칸은 그대로 돌려준다.
+     */
+    record MatrixCell(String productCode, int paymentTermYears, CellStatus status,
+                      Long rateTableId, BigDecimal appliedRatePerMille, BigDecimal annualPremium) {
+
+        public static MatrixCell unavailable(String productCode, int paymentTermYears, CellStatus status) {
+            return new MatrixCell(productCode, paymentTermYears, status, null, null, null);
+        }
+    }
+
+    enum CellStatus {
+        QUOTED,
+        /** 상품이 없거나 판매 종료 */
+        PRODUCT_UNAVAILABLE,
+        /** 요율표에 해당 (성별, 보험나이, 납입기간) 구간이 없다 */
+        RATE_NOT_FOUND,
+        /** 요율은 있으나 보장금액과의 조합이 산출 불가(원 단위 0원 등) */
+        NOT_QUOTABLE
+    }
+}
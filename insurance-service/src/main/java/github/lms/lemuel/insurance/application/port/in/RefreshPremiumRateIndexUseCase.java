@@ -0,0 +1,12 @@
+package github.lms.lemuel.insurance.application.port.in;
+
+/**
+ * 노드별 인메모리 요율 인덱스 갱신.
+ *
+ * <p>요율표 버전 지문이 바뀌었을 때만 전체를 다시 읽어 새 인덱스를 만들고 통째로 교체한다.
+ */
+public interface RefreshPremiumRateIndexUseCase {
+
+    /** 새 요율이 게시됐으면 인덱스를 교체하고 true, 바뀐 게 없으면 false. */
+    boolean refreshIfChanged();
+}
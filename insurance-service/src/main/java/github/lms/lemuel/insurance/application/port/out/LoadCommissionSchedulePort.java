@@ -13,11 +13,19 @@ import java.util.List;
 public interface LoadCommissionSchedulePort {
 
     /**
-     * 지급 배치 스캔 — SCHEDULED 이면서 지급 예정일이 {@code date} 이전(포함)인 회차.
+     * 지급 배치 스캔 — SCHEDULED 이면서 지급 예정일이 {@code date} 이전(포함)인 회차를 {@code after} 다음부터
+     * (fc_id, id) 순으로 최대 {@code limit} 건.
      *
-     * <p>V1 부분 인덱스 {@code idx_commission_due_scheduled (WHERE status='SCHEDULED')} 사용.
+     * <p>잠그지 않는 읽기다 — 지급은 설계사 청크 트랜잭션에서 {@link #lockScheduledByIds} 로 다시 잠가 확인한다.
+     * V13 부분 인덱스 {@code idx_commission_scheduled_fc (fc_id, id) WHERE status='SCHEDULED'} 사용.
      */
-    List<CommissionSchedule> findDueScheduledOnOrBefore(LocalDate date);
+    List<CommissionSchedule> findDueScheduledPage(LocalDate date, DueCursor after, int limit);
+
+    /**
+     * 주어진 id 중 아직 SCHEDULED 인 회차를 {@code FOR UPDATE} 로 잠가 가져온다 — id 순.
+     * 트랜잭션 안에서 불러야 잠금이 지급 반영까지 유지된다. 이미 지급·소멸된 회차는 빠진다.
+     */
+    List<CommissionSchedule> lockScheduledByIds(List<Long> ids);
 
     /** 특정 계약의 특정 상태 회차 전부. */
     List<CommissionSchedule> findByPolicyIdAndStatus(String policyId, CommissionStatus status);
@@ -38,6 +46,16 @@ public interface LoadCommissionSchedulePort {
      */
     List<FcPaidSummary> summarizePaidByFcInMonth(java.time.YearMonth month);
 
+    /** 지급 배치 스캔의 키셋 커서 — 설계사(fc_id)별로 모이도록 fc_id 를 앞에 두고 id 로 동률을 끊는다. */
+    record DueCursor(String fcId, Long id) {
+
+        public static final DueCursor START = new DueCursor("", 0L);
+
+        public static DueCursor after(CommissionSchedule schedule) {
+            return new DueCursor(schedule.getFcId(), schedule.getId());
+        }
+    }
+
     /**
      * 월 마감 집계 행 — FC별 당월 지급 합계.
      *
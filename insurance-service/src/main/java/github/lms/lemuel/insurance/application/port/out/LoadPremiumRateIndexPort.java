@@ -0,0 +1,32 @@
+package github.lms.lemuel.insurance.application.port.out;
+
+import github.lms.lemuel.insurance.domain.Gender;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 요율 인덱스 적재 포트 — 요율표 전체와 그 버전 지문.
+ *
+ * <p>요율표는 INSERT-only 다(D-P1: 개정은 새 effective_from 행). 그래서 (행 수, 최대 id) 만 보면 새 요율이
+ * 게시됐는지 알 수 있다 — 주기적 확인은 {@link #currentVersion()} 만 부르고, 바뀌었을 때만 전체를 읽는다.
+ */
+public interface LoadPremiumRateIndexPort {
+
+    RateTableVersion currentVersion();
+
+    /** 요율표 전체. 순서는 보장하지 않는다 — 인덱스가 스스로 정렬한다. */
+    List<RateRow> loadAll();
+
+    /** 요율표 버전 지문 — 행이 추가되면 maxId 가, (금지돼 있지만) 삭제되면 rowCount 가 바뀐다. */
+    record RateTableVersion(long rowCount, long maxId) {
+
+        public static final RateTableVersion EMPTY = new RateTableVersion(0, 0);
+    }
+
+    /** premium_rate_tables 한 행. 나이 구간은 양끝 포함. */
+    record RateRow(long id, String productCode, Gender gender, int ageFrom, int ageTo,
+                   int paymentTermYears, BigDecimal ratePerMille, LocalDate effectiveFrom) {
+    }
+}
@@ -75,6 +75,18 @@ public interface PublishInsuranceEventPort {
      */
     void publishCommissionPaid(Policy policy, CommissionSchedule schedule);
 
+    /**
+     * 수수료 회차 지급 일괄 — {@link #publishCommissionPaid} 를 회차마다 부른 것과 같은 이벤트를 남긴다
+     * (회차 1건 = 이벤트 1건, 페이로드·파티션 키 동일). Outbox 기록만 한 번에 한다.
+     *
+     * @param paid 지급된 회차와 그 계약 — 순서대로 기록된다
+     */
+    void publishCommissionPaidAll(List<PaidCommission> paid);
+
+    /** 일괄 발행의 한 건 — 지급된 회차와 파티션 키를 내는 계약. */
+    record PaidCommission(Policy policy, CommissionSchedule schedule) {
+    }
+
     /**
      * 환수 트리거 — 토픽 {@code lemuel.insurance.commission_clawback_triggered}.
      *
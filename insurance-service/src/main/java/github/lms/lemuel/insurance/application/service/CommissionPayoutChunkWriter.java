@@ -0,0 +1,83 @@
+package github.lms.lemuel.insurance.application.service;
+
+import github.lms.lemuel.insurance.application.port.out.LoadCommissionSchedulePort;
+import github.lms.lemuel.insurance.application.port.out.PublishInsuranceEventPort;
+import github.lms.lemuel.insurance.application.port.out.PublishInsuranceEventPort.PaidCommission;
+import github.lms.lemuel.insurance.application.port.out.SaveCommissionSchedulePort;
+import github.lms.lemuel.insurance.domain.CommissionSchedule;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수수료 지급 배치의 설계사 청크 한 개 — 한 설계사(FC)의 지급 대상 회차를 한 트랜잭션에서 지급한다.
+ *
+ * <p><b>{@code REQUIRES_NEW}</b>: 청크마다 독립 커밋한다. 배치가 중간에 죽어도 커밋된 청크의 회차는
+ * PAID 라 다음 실행의 스캔(SCHEDULED 만)에 다시 걸리지 않고, 커밋되지 않은 청크는 통째로 롤백돼
+ * SCHEDULED 로 남는다 — 재시작은 체크포인트 없이 남은 회차부터 이어진다.
+ *
+ * <p><b>이중 지급 차단</b>: 스캔은 잠그지 않는 읽기라, 지급 직전에 회차를 {@code FOR UPDATE} 로 다시 잠가
+ * 아직 SCHEDULED 인 것만 지급한다. 그 사이 다른 실행이 지급했거나 환수 스윕이 소멸시킨 회차는 빠진다.
+ * 도메인 전이 가드(SCHEDULED→PAID 만 허용)가 마지막 방어선이다.
+ *
+ * <p>쓰기는 청크 단위로 모은다 — 회차 상태는 {@code saveAll} 한 번, {@code commission_paid} 는 회차별
+ * 이벤트를 Outbox 에 한 번에 기록한다. 회차와 이벤트가 같은 tx 라 "지급됐는데 이벤트가 없는" 상태는 없다.
+ */
+@Service
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class CommissionPayoutChunkWriter {
+
+    private final LoadCommissionSchedulePort loadSchedulePort;
+    private final SaveCommissionSchedulePort saveSchedulePort;
+    private final PublishInsuranceEventPort publishPort;
+
+    public CommissionPayoutChunkWriter(
+            LoadCommissionSchedulePort loadSchedulePort,
+            SaveCommissionSchedulePort saveSchedulePort,
+            PublishInsuranceEventPort publishPort) {
+        this.loadSchedulePort = loadSchedulePort;
+        this.saveSchedulePort = saveSchedulePort;
+        this.publishPort = publishPort;
+    }
+
+    /**
+     * @param payable 계약 상태 게이트를 통과한 회차와 그 계약 — 한 설계사분
+     * @param today   지급일 (KST)
+     * @return 실제로 지급한 회차 수 — 잠가 보니 이미 처리된 회차는 세지 않는다
+     */
+    public int pay(List<PaidCommission> payable, LocalDate today) {
+        List<Long> ids = new ArrayList<>(payable.size());
+        for (PaidCommission p : payable) {
+            ids.add(p.schedule().getId());
+        }
+        Map<Long, CommissionSchedule> locked = new HashMap<>();
+        for (CommissionSchedule schedule : loadSchedulePort.lockScheduledByIds(ids)) {
+            locked.put(schedule.getId(), schedule);
+        }
+
+        List<CommissionSchedule> paidSchedules = new ArrayList<>(locked.size());
+        List<PaidCommission> paid = new ArrayList<>(locked.size());
+        for (PaidCommission p : payable) {
+            CommissionSchedule schedule = locked.get(p.schedule().getId());
+            if (schedule == null) {
+                continue;
+            }
+            schedule.markPaid(today);
+            paidSchedules.add(schedule);
+            paid.add(new PaidCommission(p.policy(), schedule));
+        }
+        if (paid.isEmpty()) {
+            return 0;
+        }
+
+        saveSchedulePort.saveAll(paidSchedules);
+        publishPort.publishCommissionPaidAll(paid);
+        return paid.size();
+    }
+}
@@ -2,19 +2,21 @@ package github.lms.lemuel.insurance.application.service;
 
 import github.lms.lemuel.insurance.application.port.in.PayDueCommissionsUseCase;
 import github.lms.lemuel.insurance.application.port.out.LoadCommissionSchedulePort;
+import github.lms.lemuel.insurance.application.port.out.LoadCommissionSchedulePort.DueCursor;
 import github.lms.lemuel.insurance.application.port.out.LoadPolicyPort;
-import github.lms.lemuel.insurance.application.port.out.PublishInsuranceEventPort;
-import github.lms.lemuel.insurance.application.port.out.SaveCommissionSchedulePort;
+import github.lms.lemuel.insurance.application.port.out.PublishInsuranceEventPort.PaidCommission;
 import github.lms.lemuel.insurance.domain.CommissionSchedule;
 import github.lms.lemuel.insurance.domain.Policy;
 import github.lms.lemuel.insurance.domain.PolicyStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -27,55 +29,108 @@ import java.util.Optional;
  *   <li>terminal — 환수 스윕({@code CommissionClawbackSweepService})이 CANCELLED 로 소멸시킨다.</li>
  * </ul>
  *
- * <p>지급 1건당 {@code lemuel.insurance.commission_paid} 를 같은 tx 의 Outbox 에 기록한다.
- * 이중 지급은 도메인 전이 가드(SCHEDULED→PAID 만 허용)가 차단한다.
+ * <p><b>스트리밍</b>: due 회차를 한 번에 읽지 않고 (fc_id, id) 키셋 페이지로 훑는다. 페이지가 설계사 순으로
+ * 정렬돼 있어 한 설계사의 회차가 이어져 나오고, 설계사가 바뀔 때마다(또는 청크가 페이지 크기에 차면) 모은
+ * 회차를 {@link CommissionPayoutChunkWriter} 가 청크 트랜잭션 하나로 지급한다. 보류 회차도 커서는 지나가므로
+ * 같은 실행에서 다시 읽지 않는다. 한 번에 메모리에 있는 것은 페이지 하나와 청크 하나, 계약 캐시뿐이다.
+ *
+ * <p>계약 캐시는 LRU 로 크기를 묶는다 — 같은 계약의 회차는 대개 같은 설계사 청크에 몰려 있어 적중률이 높다.
+ *
+ * <p>청크 하나가 실패하면 그 설계사분만 롤백되고(상태 불변, 다음 배치 재시도) 나머지는 계속 지급한다.
+ * 지급 1건당 {@code lemuel.insurance.commission_paid} 를 같은 tx 의 Outbox 에 기록한다.
  */
 @Service
-@Transactional
 public class CommissionPayoutService implements PayDueCommissionsUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(CommissionPayoutService.class);
 
     private final LoadCommissionSchedulePort loadSchedulePort;
-    private final SaveCommissionSchedulePort saveSchedulePort;
     private final LoadPolicyPort loadPolicyPort;
-    private final PublishInsuranceEventPort publishPort;
+    private final CommissionPayoutChunkWriter chunkWriter;
+    private final int pageSize;
+    private final int policyCacheSize;
 
     public CommissionPayoutService(
             LoadCommissionSchedulePort loadSchedulePort,
-            SaveCommissionSchedulePort saveSchedulePort,
             LoadPolicyPort loadPolicyPort,
-            PublishInsuranceEventPort publishPort) {
+            CommissionPayoutChunkWriter chunkWriter,
+            @Value("${app.insurance.batch.commission-payout.page-size:500}") int pageSize,
+            @Value("${app.insurance.batch.commission-payout.policy-cache-size:10000}") int policyCacheSize) {
+        if (pageSize <= 0 || policyCacheSize <= 0) {
+            throw new IllegalArgumentException(
+                    "page-size·policy-cache-size 는 양수여야 합니다: " + pageSize + ", " + policyCacheSize);
+        }
         this.loadSchedulePort = loadSchedulePort;
-        this.saveSchedulePort = saveSchedulePort;
         this.loadPolicyPort = loadPolicyPort;
-        this.publishPort = publishPort;
+        this.chunkWriter = chunkWriter;
+        this.pageSize = pageSize;
+        this.policyCacheSize = policyCacheSize;
     }
 
     @Override
     public PayoutBatchResult payDueOn(LocalDate today) {
-        int paid = 0;
-        int held = 0;
-        Map<String, Optional<Policy>> policyCache = new HashMap<>();
+        Tally tally = new Tally();
+        Map<String, Optional<Policy>> policyCache = boundedCache(policyCacheSize);
+        List<PaidCommission> chunk = new ArrayList<>();
+        String chunkFcId = null;
+        DueCursor cursor = DueCursor.START;
 
-        for (CommissionSchedule schedule : loadSchedulePort.findDueScheduledOnOrBefore(today)) {
-            Optional<Policy> policy = policyCache.computeIfAbsent(
-                    schedule.getPolicyId(), loadPolicyPort::findByPolicyId);
+        while (true) {
+            List<CommissionSchedule> page = loadSchedulePort.findDueScheduledPage(today, cursor, pageSize);
+            for (CommissionSchedule schedule : page) {
+                if (!schedule.getFcId().equals(chunkFcId) || chunk.size() >= pageSize) {
+                    flush(chunkFcId, chunk, today, tally);
+                    chunkFcId = schedule.getFcId();
+                }
+                Optional<Policy> policy = policyCache.computeIfAbsent(
+                        schedule.getPolicyId(), loadPolicyPort::findByPolicyId);
 
-            if (policy.isEmpty() || policy.get().getStatus() != PolicyStatus.ACTIVE) {
-                held++;
-                continue;
+                if (policy.isEmpty() || policy.get().getStatus() != PolicyStatus.ACTIVE) {
+                    tally.held++;
+                    continue;
+                }
+                chunk.add(new PaidCommission(policy.get(), schedule));
             }
+            if (page.size() < pageSize) {
+                break;
+            }
+            cursor = DueCursor.after(page.get(page.size() - 1));
+        }
+        flush(chunkFcId, chunk, today, tally);
 
-            schedule.markPaid(today);
-            saveSchedulePort.save(schedule);
-            publishPort.publishCommissionPaid(policy.get(), schedule);
-            paid++;
+        if (tally.paid + tally.held + tally.failed > 0) {
+            log.info("[CommissionPayout] today={} 지급={} 보류={} 실패={}", today, tally.paid, tally.held, tally.failed);
         }
+        return new PayoutBatchResult(tally.paid, tally.held, tally.failed);
+    }
 
-        if (paid + held > 0) {
-            log.info("[CommissionPayout] today={} 지급={} 보류={}", today, paid, held);
+    private void flush(String fcId, List<PaidCommission> chunk, LocalDate today, Tally tally) {
+        if (chunk.isEmpty()) {
+            return;
         }
-        return new PayoutBatchResult(paid, held);
+        try {
+            tally.paid += chunkWriter.pay(List.copyOf(chunk), today);
+        } catch (RuntimeException e) {
+            tally.failed += chunk.size();
+            log.error("[CommissionPayout] 설계사 청크 지급 실패 — 롤백, 다음 배치 재시도: fcId={} 회차={}",
+                    fcId, chunk.size(), e);
+        }
+        chunk.clear();
+    }
+
+    /** 접근 순 LRU — 상한을 넘으면 가장 오래 안 쓴 계약부터 버린다. */
+    private static <K, V> Map<K, V> boundedCache(int maxEntries) {
+        return new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private static final class Tally {
+        int paid;
+        int held;
+        int failed;
     }
 }
@@ -0,0 +1,108 @@
+package github.lms.lemuel.insurance.application.service;
+
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase;
+import github.lms.lemuel.insurance.application.port.out.LoadInsuranceProductPort;
+import github.lms.lemuel.insurance.application.port.out.LoadInsuranceProductPort.ProductSnapshot;
+import github.lms.lemuel.insurance.application.port.out.LoadRateTablePort.RateSnapshot;
+import github.lms.lemuel.insurance.domain.PremiumRater;
+import github.lms.lemuel.insurance.domain.exception.InvalidProposalException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 보험료 일괄 산출 — 상품 × 납입기간 행렬을 요율 인덱스 한 버전으로 계산한다.
+ *
+ * <p>칸마다 DB 를 부르지 않는다: 상품 판매 여부만 상품당 한 번 확인하고, 요율은 인덱스에서 찾는다.
+ * 계산식은 단건 산출과 같은 {@link PremiumRater} 다. 한 칸이 산출 불가여도 예외로 전체를 실패시키지 않고
+ * 그 칸의 사유({@link CellStatus})를 돌려준다 — 입력 자체가 잘못된 경우(보장금액·행렬 크기)만 거부한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PremiumMatrixQuoteService implements QuotePremiumMatrixUseCase {
+
+    private final LoadInsuranceProductPort loadProductPort;
+    private final PremiumRateIndexService rateIndex;
+    private final Clock clock;
+
+    public PremiumMatrixQuoteService(LoadInsuranceProductPort loadProductPort,
+                                     PremiumRateIndexService rateIndex,
+                                     Clock clock) {
+        this.loadProductPort = loadProductPort;
+        this.rateIndex = rateIndex;
+        this.clock = clock;
+    }
+
+    @Override
+    public PremiumMatrix quoteMatrix(QuoteMatrixCommand cmd) {
+        Objects.requireNonNull(cmd.insuredGender(), "insuredGender");
+        List<String> products = distinct(cmd.productCodes());
+        List<Integer> requestedTerms = distinct(cmd.paymentTerms());
+        if (products.isEmpty() || products.size() > MAX_PRODUCTS) {
+            throw new InvalidProposalException("상품은 1~" + MAX_PRODUCTS + "개여야 합니다: " + products.size());
+        }
+        if (requestedTerms.size() > MAX_PAYMENT_TERMS) {
+            throw new InvalidProposalException(
+                    "납입기간은 " + MAX_PAYMENT_TERMS + "개 이하여야 합니다: " + requestedTerms.size());
+        }
+        BigDecimal coverage = cmd.coverageAmount();
+        if (coverage == null || coverage.signum() <= 0) {
+            throw new InvalidProposalException("보장금액은 0 보다 커야 합니다: " + coverage);
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        int insuranceAge = PremiumRater.insuranceAge(cmd.insuredBirthDate(), today);
+        PremiumRateIndex index = rateIndex.currentOrLoad();
+
+        List<MatrixCell> cells = new ArrayList<>();
+        for (String productCode : products) {
+            List<Integer> terms = requestedTerms.isEmpty()
+                    ? index.paymentTerms(productCode, cmd.insuredGender(), today)
+                    : requestedTerms;
+            boolean sellable = loadProductPort.findByCode(productCode).map(ProductSnapshot::active).orElse(false);
+            for (int term : terms) {
+                cells.add(sellable
+                        ? quoteCell(index, productCode, term, cmd, insuranceAge, today)
+                        : MatrixCell.unavailable(productCode, term, CellStatus.PRODUCT_UNAVAILABLE));
+            }
+        }
+        return new PremiumMatrix(insuranceAge, today, List.copyOf(cells));
+    }
+
+    private static MatrixCell quoteCell(PremiumRateIndex index, String productCode, int term,
+                                        QuoteMatrixCommand cmd, int insuranceAge, LocalDate today) {
+        Optional<RateSnapshot> rate = index.findApplicableRate(
+                productCode, cmd.insuredGender(), insuranceAge, term, today);
+        if (rate.isEmpty()) {
+            return MatrixCell.unavailable(productCode, term, CellStatus.RATE_NOT_FOUND);
+        }
+        try {
+            BigDecimal premium = PremiumRater.annualPremium(cmd.coverageAmount(), rate.get().ratePerMille());
+            return new MatrixCell(productCode, term, CellStatus.QUOTED,
+                    rate.get().rateTableId(), rate.get().ratePerMille(), premium);
+        } catch (InvalidProposalException e) {
+            return MatrixCell.unavailable(productCode, term, CellStatus.NOT_QUOTABLE);
+        }
+    }
+
+    private static <T> List<T> distinct(List<T> values) {
+        if (values == null) {
+            return List.of();
+        }
+        LinkedHashSet<T> set = new LinkedHashSet<>();
+        for (T value : values) {
+            if (value != null) {
+                set.add(value);
+            }
+        }
+        return List.copyOf(set);
+    }
+}
@@ -0,0 +1,166 @@
+package github.lms.lemuel.insurance.application.service;
+
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort.RateRow;
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort.RateTableVersion;
+import github.lms.lemuel.insurance.application.port.out.LoadRateTablePort;
+import github.lms.lemuel.insurance.domain.Gender;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * 노드별 인메모리 요율 인덱스 — {@link LoadRateTablePort} 와 같은 질문에 DB 대신 배열로 답한다.
+ *
+ * <p>구조: (상품, 성별, 납입기간) 마다 요율 개시일(effective_from) 오름차순 배열 하나와, 개시일마다
+ * "그 날 기준 보험나이 → 적용 요율 행" 배열 하나. 조회는 개시일 이분 탐색(개정 횟수만큼, 보통 한 자릿수)
+ * 한 번과 나이 배열 인덱싱 한 번이다.
+ *
+ * <p>의미는 {@code SpringDataPremiumRateTableRepository.findApplicable} 과 같다 — 나이 구간이 걸치는 행 중
+ * 기준일 이전 개시분의 최신(effective_from DESC, id DESC) 행이 이긴다. 개정이 일부 나이 구간만 새로 내도
+ * 나머지 구간은 이전 개시분이 그대로 적용된다: 개시일별 나이 배열은 직전 개시일의 배열을 복사한 뒤 그 날
+ * 개시된 행을 id 오름차순으로 덮어써서 만든다.
+ *
+ * <p>만든 뒤에는 바뀌지 않는다 — 새 요율이 게시되면 새 인덱스를 만들어 통째로 교체한다
+ * ({@link PremiumRateIndexService}). 그래서 읽기에 락이 없다.
+ */
+public final class PremiumRateIndex implements LoadRateTablePort {
+
+    /** 이 나이를 넘는 구간 상한은 잘라서 색인한다 — 보험나이 150 초과는 산출 대상이 아니다. */
+    static final int MAX_INDEXED_AGE = 150;
+
+    private static final int NO_RATE = -1;
+
+    private final RateTableVersion version;
+    private final Map<SeriesKey, Series> series;
+    private final int rowCount;
+
+    private PremiumRateIndex(RateTableVersion version, Map<SeriesKey, Series> series, int rowCount) {
+        this.version = version;
+        this.series = series;
+        this.rowCount = rowCount;
+    }
+
+    /** 요율표 전체로 인덱스를 만든다. 버전 지문은 읽어 온 행에서 직접 계산한다(지문 조회와 적재 사이 경합 없음). */
+    public static PremiumRateIndex build(List<RateRow> rows) {
+        Map<SeriesKey, List<RateRow>> grouped = new HashMap<>();
+        long maxId = 0;
+        for (RateRow row : rows) {
+            grouped.computeIfAbsent(new SeriesKey(row.productCode(), row.gender(), row.paymentTermYears()),
+                    key -> new ArrayList<>()).add(row);
+            maxId = Math.max(maxId, row.id());
+        }
+        Map<SeriesKey, Series> series = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((key, group) -> series.put(key, Series.build(group)));
+        return new PremiumRateIndex(new RateTableVersion(rows.size(), maxId), series, rows.size());
+    }
+
+    public RateTableVersion version() {
+        return version;
+    }
+
+    @Override
+    public Optional<RateSnapshot> findApplicableRate(String productCode, Gender gender,
+                                                     int insuranceAge, int paymentTermYears, LocalDate asOf) {
+        Series s = series.get(new SeriesKey(productCode, gender, paymentTermYears));
+        if (s == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(s.find(insuranceAge, asOf.toEpochDay()));
+    }
+
+    /** 기준일에 요율이 하나라도 개시돼 있는 납입기간 — 오름차순. 일괄 산출에서 납입기간을 지정하지 않았을 때 쓴다. */
+    public List<Integer> paymentTerms(String productCode, Gender gender, LocalDate asOf) {
+        TreeSet<Integer> terms = new TreeSet<>();
+        long day = asOf.toEpochDay();
+        series.forEach((key, s) -> {
+            if (key.productCode().equals(productCode) && key.gender() == gender && s.startsOnOrBefore(day)) {
+                terms.add(key.paymentTermYears());
+            }
+        });
+        return List.copyOf(terms);
+    }
+
+    /** 운영 로그용 요약. */
+    public String stats() {
+        return "rows=" + rowCount + ", series=" + series.size() + ", version=" + version;
+    }
+
+    private record SeriesKey(String productCode, Gender gender, int paymentTermYears) {
+    }
+
+    /** (상품, 성별, 납입기간) 하나의 개정 이력. */
+    private static final class Series {
+
+        /** 개시일(epoch day) 오름차순. */
+        private final long[] effectiveDays;
+        /** effectiveDays[i] 기준 보험나이 → rates 인덱스(없으면 NO_RATE). */
+        private final int[][] rateByAge;
+        private final RateSnapshot[] rates;
+
+        private Series(long[] effectiveDays, int[][] rateByAge, RateSnapshot[] rates) {
+            this.effectiveDays = effectiveDays;
+            this.rateByAge = rateByAge;
+            this.rates = rates;
+        }
+
+        static Series build(List<RateRow> group) {
+            List<RateRow> sorted = new ArrayList<>(group);
+            sorted.sort(Comparator.comparing(RateRow::effectiveFrom).thenComparingLong(RateRow::id));
+
+            int width = 0;
+            for (RateRow row : sorted) {
+                width = Math.max(width, Math.min(row.ageTo(), MAX_INDEXED_AGE) + 1);
+            }
+            RateSnapshot[] rates = new RateSnapshot[sorted.size()];
+            long[] days = new long[sorted.size()];
+            int[][] byAge = new int[sorted.size()][];
+            int versions = 0;
+            int[] current = new int[width];
+            Arrays.fill(current, NO_RATE);
+
+            for (int i = 0; i < sorted.size(); i++) {
+                RateRow row = sorted.get(i);
+                rates[i] = new RateSnapshot(row.id(), row.ratePerMille());
+                long day = row.effectiveFrom().toEpochDay();
+                if (versions == 0 || days[versions - 1] != day) {
+                    current = versions == 0 ? current : current.clone();
+                    days[versions] = day;
+                    byAge[versions] = current;
+                    versions++;
+                }
+                int to = Math.min(row.ageTo(), MAX_INDEXED_AGE);
+                for (int age = Math.max(row.ageFrom(), 0); age <= to; age++) {
+                    current[age] = i;
+                }
+            }
+            return new Series(Arrays.copyOf(days, versions), Arrays.copyOf(byAge, versions), rates);
+        }
+
+        RateSnapshot find(int insuranceAge, long asOfDay) {
+            int v = Arrays.binarySearch(effectiveDays, asOfDay);
+            if (v < 0) {
+                v = -v - 2; // asOf 이전의 마지막 개시일
+            }
+            if (v < 0) {
+                return null;
+            }
+            int[] byAge = rateByAge[v];
+            if (insuranceAge < 0 || insuranceAge >= byAge.length) {
+                return null;
+            }
+            int rate = byAge[insuranceAge];
+            return rate == NO_RATE ? null : rates[rate];
+        }
+
+        boolean startsOnOrBefore(long day) {
+            return effectiveDays[0] <= day;
+        }
+    }
+}
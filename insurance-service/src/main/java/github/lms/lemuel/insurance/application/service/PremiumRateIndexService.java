@@ -0,0 +1,70 @@
+package github.lms.lemuel.insurance.application.service;
+
+import github.lms.lemuel.insurance.application.port.in.RefreshPremiumRateIndexUseCase;
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort;
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort.RateTableVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 노드별 요율 인덱스의 수명 관리 — 최초 적재와 새 요율 게시 시 통째 교체.
+ *
+ * <p>인덱스는 불변이고 교체는 volatile 필드 하나를 바꾸는 것이라, 산출 중인 요청은 옛 인덱스 아니면 새 인덱스
+ * 하나만 본다. 일괄 산출은 인덱스를 한 번 집어 모든 칸에 쓰므로 행렬 안에서 요율 버전이 섞이지 않는다.
+ *
+ * <p><b>단건 산출은 인덱스가 준비되기 전에 기다리지 않는다.</b> {@link #readyIndex()} 가 비면 DB 조회 경로로
+ * 답한다. 일괄 산출은 납입기간 목록을 인덱스에서 얻으므로 {@link #currentOrLoad()} 로 그 자리에서 적재한다.
+ */
+@Service
+public class PremiumRateIndexService implements RefreshPremiumRateIndexUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(PremiumRateIndexService.class);
+
+    private final LoadPremiumRateIndexPort loadIndexPort;
+
+    private volatile PremiumRateIndex index;
+
+    public PremiumRateIndexService(LoadPremiumRateIndexPort loadIndexPort) {
+        this.loadIndexPort = loadIndexPort;
+    }
+
+    /** 적재가 끝난 인덱스. 아직이면 비어 있다 — 호출자는 DB 경로로 답해야 한다. */
+    public Optional<PremiumRateIndex> readyIndex() {
+        return Optional.ofNullable(index);
+    }
+
+    /** 적재된 인덱스, 아직이면 지금 적재한다. */
+    public PremiumRateIndex currentOrLoad() {
+        PremiumRateIndex current = index;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return index != null ? index : rebuild();
+        }
+    }
+
+    @Override
+    public synchronized boolean refreshIfChanged() {
+        PremiumRateIndex current = index;
+        if (current != null) {
+            RateTableVersion latest = loadIndexPort.currentVersion();
+            if (latest.equals(current.version())) {
+                return false;
+            }
+        }
+        rebuild();
+        return true;
+    }
+
+    private PremiumRateIndex rebuild() {
+        long started = System.nanoTime();
+        PremiumRateIndex rebuilt = PremiumRateIndex.build(loadIndexPort.loadAll());
+        index = rebuilt;
+        log.info("[RateIndex] 요율 인덱스 적재: {} ({}ms)", rebuilt.stats(), (System.nanoTime() - started) / 1_000_000);
+        return rebuilt;
+    }
+}
@@ -52,6 +52,7 @@ public class ProposalQuoteService implements CreateProposalUseCase, GetProposalU
 
     private final LoadInsuranceProductPort loadProductPort;
     private final LoadRateTablePort loadRateTablePort;
+    private final PremiumRateIndexService rateIndex;
     private final LoadProposalPort loadProposalPort;
     private final SaveProposalPort saveProposalPort;
     private final SaveApplicationPort saveApplicationPort;
@@ -61,6 +62,7 @@ public class ProposalQuoteService implements CreateProposalUseCase, GetProposalU
     public ProposalQuoteService(
             LoadInsuranceProductPort loadProductPort,
             LoadRateTablePort loadRateTablePort,
+            PremiumRateIndexService rateIndex,
             LoadProposalPort loadProposalPort,
             SaveProposalPort saveProposalPort,
             SaveApplicationPort saveApplicationPort,
@@ -68,6 +70,7 @@ public class ProposalQuoteService implements CreateProposalUseCase, GetProposalU
             Clock clock) {
         this.loadProductPort = loadProductPort;
         this.loadRateTablePort = loadRateTablePort;
+        this.rateIndex = rateIndex;
         this.loadProposalPort = loadProposalPort;
         this.saveProposalPort = saveProposalPort;
         this.saveApplicationPort = saveApplicationPort;
@@ -82,7 +85,11 @@ public class ProposalQuoteService implements CreateProposalUseCase, GetProposalU
 
         LocalDate today = LocalDate.now(clock);
         int insuranceAge = PremiumRater.insuranceAge(cmd.insuredBirthDate(), today);
-        RateSnapshot rate = loadRateTablePort
+        // 요율 인덱스가 준비됐으면 메모리에서, 기동 직후 적재 전이면 DB 에서 — 같은 규칙, 같은 답.
+        LoadRateTablePort rates = rateIndex.readyIndex()
+                .<LoadRateTablePort>map(index -> index)
+                .orElse(loadRateTablePort);
+        RateSnapshot rate = rates
                 .findApplicableRate(cmd.productCode(), cmd.insuredGender(),
                         insuranceAge, cmd.paymentTermYears(), today)
                 .orElseThrow(() -> new RateNotFoundException(
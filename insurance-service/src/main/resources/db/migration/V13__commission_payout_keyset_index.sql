@@ -0,0 +1,11 @@
+-- V13: 수수료 지급 배치 키셋 스캔 인덱스
+--
+-- 지급 배치(CommissionPayoutService)는 due 회차를 (fc_id, id) 키셋 페이지로 훑고 설계사별 청크
+-- 트랜잭션으로 지급한다. V1 의 idx_commission_due_scheduled (due_date) 는 이 정렬을 못 주므로
+-- 페이지마다 due 회차 전체를 정렬하게 된다. 같은 SCHEDULED 부분 인덱스를 (fc_id, id) 순으로 하나 더 두고
+-- due_date 는 INCLUDE 로 실어 힙 방문 없이 거른다. 지급·소멸된 행은 인덱스에서 빠지므로 크기는
+-- 미지급 회차 수에 비례한다.
+
+CREATE INDEX idx_commission_scheduled_fc ON commission_schedules (fc_id, id)
+    INCLUDE (due_date)
+    WHERE status = 'SCHEDULED';
@@ -8,6 +8,11 @@ import github.lms.lemuel.insurance.application.port.in.CreateProposalUseCase;
 import github.lms.lemuel.insurance.application.port.in.CreateProposalUseCase.CreateProposalCommand;
 import github.lms.lemuel.insurance.application.port.in.CreateProposalUseCase.ProposalSummary;
 import github.lms.lemuel.insurance.application.port.in.GetProposalUseCase;
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase;
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase.CellStatus;
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase.MatrixCell;
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase.PremiumMatrix;
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase.QuoteMatrixCommand;
 import github.lms.lemuel.insurance.application.port.in.RenderProposalSheetUseCase;
 import github.lms.lemuel.insurance.domain.Gender;
 import github.lms.lemuel.insurance.domain.exception.ProposalExpiredException;
@@ -62,13 +67,15 @@ class ProposalControllerTest {
     @Mock GetProposalUseCase getUseCase;
     @Mock ConvertProposalUseCase convertUseCase;
     @Mock RenderProposalSheetUseCase renderUseCase;
+    @Mock QuotePremiumMatrixUseCase matrixUseCase;
 
     private MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(
-                new ProposalController(createUseCase, getUseCase, convertUseCase, renderUseCase)).build();
+                new ProposalController(createUseCase, getUseCase, convertUseCase, renderUseCase,
+                        matrixUseCase)).build();
     }
 
     @AfterEach
@@ -244,4 +251,45 @@ class ProposalControllerTest {
                 .andExpect(status().isForbidden());
         verify(renderUseCase, never()).render(any(), any());
     }
+
+    @Test
+    @DisplayName("일괄 산출은 200 + 칸별 결과이고, 산출 불가 칸은 사유만 싣는다")
+    void quoteMatrixReturnsCells() throws Exception {
+        authenticateAs(JWT_USER_ID);
+        when(matrixUseCase.quoteMatrix(any())).thenReturn(new PremiumMatrix(37, LocalDate.of(2026, 8, 7), List.of(
+                new MatrixCell("PROD-LIFE-01", 20, CellStatus.QUOTED, 11L,
+                        new BigDecimal("2.5"), new BigDecimal("250000")),
+                MatrixCell.unavailable("PROD-LIFE-01", 30, CellStatus.RATE_NOT_FOUND))));
+
+        mockMvc.perform(post("/api/insurance/proposals/quote-matrix")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"productCodes":["PROD-LIFE-01"],"paymentTerms":[20,30],
+                                 "insuredBirthDate":"1990-01-15","insuredGender":"M",
+                                 "coverageAmount":100000000}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.insuranceAge").value(37))
+                .andExpect(jsonPath("$.cells[0].annualPremium").value(250000))
+                .andExpect(jsonPath("$.cells[1].status").value("RATE_NOT_FOUND"));
+
+        ArgumentCaptor<QuoteMatrixCommand> captor = ArgumentCaptor.forClass(QuoteMatrixCommand.class);
+        verify(matrixUseCase).quoteMatrix(captor.capture());
+        assertThat(captor.getValue().paymentTerms()).containsExactly(20, 30);
+    }
+
+    @Test
+    @DisplayName("일괄 산출: 상품 목록이 비면 400 이고 유스케이스를 부르지 않는다")
+    void quoteMatrixRejectsEmptyProducts() throws Exception {
+        authenticateAs(JWT_USER_ID);
+
+        mockMvc.perform(post("/api/insurance/proposals/quote-matrix")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"productCodes":[],"insuredBirthDate":"1990-01-15","insuredGender":"M",
+                                 "coverageAmount":100000000}
+                                """))
+                .andExpect(status().isBadRequest());
+        verify(matrixUseCase, never()).quoteMatrix(any());
+    }
 }
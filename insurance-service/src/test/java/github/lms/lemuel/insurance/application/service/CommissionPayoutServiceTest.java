@@ -2,8 +2,10 @@ package github.lms.lemuel.insurance.application.service;
 
 import github.lms.lemuel.insurance.application.port.in.PayDueCommissionsUseCase.PayoutBatchResult;
 import github.lms.lemuel.insurance.application.port.out.LoadCommissionSchedulePort;
+import github.lms.lemuel.insurance.application.port.out.LoadCommissionSchedulePort.DueCursor;
 import github.lms.lemuel.insurance.application.port.out.LoadPolicyPort;
 import github.lms.lemuel.insurance.application.port.out.PublishInsuranceEventPort;
+import github.lms.lemuel.insurance.application.port.out.PublishInsuranceEventPort.PaidCommission;
 import github.lms.lemuel.insurance.application.port.out.SaveCommissionSchedulePort;
 import github.lms.lemuel.insurance.domain.CommissionConstants;
 import github.lms.lemuel.insurance.domain.CommissionSchedule;
@@ -18,17 +20,30 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
  * 수수료 회차 지급 배치 서비스 테스트 — 계약 상태 게이트(ACTIVE 만 지급)가 핵심.
+ *
+ * <p>청크 기록기는 실물을 쓰고 포트만 목으로 둔다. 키셋 페이지와 잠금 재확인은 {@link #stubRows} 가
+ * 메모리 위 "테이블"로 흉내 낸다 — (fc_id, id) 순, SCHEDULED 만.
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CommissionPayoutService — 수수료 회차 지급 배치")
@@ -43,7 +58,35 @@ class CommissionPayoutServiceTest {
     @Mock PublishInsuranceEventPort publishPort;
 
     private CommissionPayoutService service() {
-        return new CommissionPayoutService(loadSchedulePort, saveSchedulePort, loadPolicyPort, publishPort);
+        return service(500, 10_000);
+    }
+
+    private CommissionPayoutService service(int pageSize, int policyCacheSize) {
+        CommissionPayoutChunkWriter writer =
+                new CommissionPayoutChunkWriter(loadSchedulePort, saveSchedulePort, publishPort);
+        return new CommissionPayoutService(loadSchedulePort, loadPolicyPort, writer, pageSize, policyCacheSize);
+    }
+
+    /** 키셋 페이지 조회와 잠금 재확인을 주어진 행 위에서 흉내 낸다 — 상태는 행 객체의 현재 값을 따른다. */
+    private void stubRows(CommissionSchedule... rows) {
+        List<CommissionSchedule> table = new ArrayList<>(List.of(rows));
+        table.sort(Comparator.comparing(CommissionSchedule::getFcId).thenComparing(CommissionSchedule::getId));
+        when(loadSchedulePort.findDueScheduledPage(eq(TODAY), any(), anyInt())).thenAnswer(inv -> {
+            DueCursor after = inv.getArgument(1);
+            int limit = inv.getArgument(2);
+            return table.stream()
+                    .filter(r -> r.getStatus() == CommissionStatus.SCHEDULED && !r.getDueDate().isAfter(TODAY))
+                    .filter(r -> r.getFcId().compareTo(after.fcId()) > 0
+                            || (r.getFcId().equals(after.fcId()) && r.getId() > after.id()))
+                    .limit(limit)
+                    .toList();
+        });
+        lenient().when(loadSchedulePort.lockScheduledByIds(anyList())).thenAnswer(inv -> {
+            List<Long> ids = inv.getArgument(0);
+            return table.stream()
+                    .filter(r -> ids.contains(r.getId()) && r.getStatus() == CommissionStatus.SCHEDULED)
+                    .toList();
+        });
     }
 
     private static Policy policyIn(PolicyStatus status) {
@@ -62,11 +105,15 @@ class CommissionPayoutServiceTest {
     }
 
     private static CommissionSchedule dueSchedule() {
+        return dueSchedule(10L, POLICY_ID, "fc-100");
+    }
+
+    private static CommissionSchedule dueSchedule(long id, String policyId, String fcId) {
         return CommissionSchedule.builder()
-                .id(10L)
-                .commissionId("33333333-3333-3333-3333-333333333333")
-                .policyId(POLICY_ID)
-                .fcId("fc-100")
+                .id(id)
+                .commissionId("33333333-3333-3333-3333-" + String.format("%012d", id))
+                .policyId(policyId)
+                .fcId(fcId)
                 .recipientType(CommissionConstants.RECIPIENT_TYPE_FC)
                 .installmentNo(3)
                 .installmentAmount(new BigDecimal("8333.33"))
@@ -79,7 +126,7 @@ class CommissionPayoutServiceTest {
     @DisplayName("ACTIVE 계약의 due 회차를 지급한다 — PAID + 지급액 기록 + commission_paid 발행")
     void paysDueInstallmentOfActivePolicy() {
         CommissionSchedule schedule = dueSchedule();
-        when(loadSchedulePort.findDueScheduledOnOrBefore(TODAY)).thenReturn(List.of(schedule));
+        stubRows(schedule);
         when(loadPolicyPort.findByPolicyId(POLICY_ID)).thenReturn(Optional.of(policyIn(PolicyStatus.ACTIVE)));
 
         PayoutBatchResult result = service().payDueOn(TODAY);
@@ -89,15 +136,16 @@ class CommissionPayoutServiceTest {
         assertThat(schedule.getStatus()).isEqualTo(CommissionStatus.PAID);
         assertThat(schedule.getPaidAt()).isEqualTo(TODAY);
         assertThat(schedule.getPaidAmount()).isEqualByComparingTo(new BigDecimal("8333.33"));
-        verify(saveSchedulePort).save(schedule);
-        verify(publishPort).publishCommissionPaid(any(Policy.class), any(CommissionSchedule.class));
+        verify(saveSchedulePort).saveAll(List.of(schedule));
+        verify(publishPort).publishCommissionPaidAll(argThat(paid -> paid.size() == 1
+                && paid.get(0).schedule() == schedule && paid.get(0).policy() instanceof Policy));
     }
 
     @Test
     @DisplayName("LAPSED 계약의 회차는 보류한다 — SCHEDULED 유지, 다음 배치 재시도")
     void holdsInstallmentOfLapsedPolicy() {
         CommissionSchedule schedule = dueSchedule();
-        when(loadSchedulePort.findDueScheduledOnOrBefore(TODAY)).thenReturn(List.of(schedule));
+        stubRows(schedule);
         when(loadPolicyPort.findByPolicyId(POLICY_ID)).thenReturn(Optional.of(policyIn(PolicyStatus.LAPSED)));
 
         PayoutBatchResult result = service().payDueOn(TODAY);
@@ -105,20 +153,20 @@ class CommissionPayoutServiceTest {
         assertThat(result.paid()).isZero();
         assertThat(result.held()).isEqualTo(1);
         assertThat(schedule.getStatus()).isEqualTo(CommissionStatus.SCHEDULED);
-        verify(saveSchedulePort, never()).save(any());
-        verify(publishPort, never()).publishCommissionPaid(any(), any());
+        verify(saveSchedulePort, never()).saveAll(any());
+        verify(publishPort, never()).publishCommissionPaidAll(any());
     }
 
     @Test
     @DisplayName("계약 행이 없는 고아 회차는 보류하고 지급하지 않는다")
     void holdsOrphanInstallment() {
-        when(loadSchedulePort.findDueScheduledOnOrBefore(TODAY)).thenReturn(List.of(dueSchedule()));
+        stubRows(dueSchedule());
         when(loadPolicyPort.findByPolicyId(POLICY_ID)).thenReturn(Optional.empty());
 
         PayoutBatchResult result = service().payDueOn(TODAY);
 
         assertThat(result.held()).isEqualTo(1);
-        verify(saveSchedulePort, never()).save(any());
+        verify(saveSchedulePort, never()).saveAll(any());
     }
 
     @Test
@@ -136,7 +184,7 @@ class CommissionPayoutServiceTest {
                 .firstYearTotal(new BigDecimal("100000.00"))
                 .dueDate(TODAY)
                 .build();
-        when(loadSchedulePort.findDueScheduledOnOrBefore(TODAY)).thenReturn(List.of(s1, s2));
+        stubRows(s1, s2);
         when(loadPolicyPort.findByPolicyId(POLICY_ID)).thenReturn(Optional.of(policyIn(PolicyStatus.ACTIVE)));
 
         PayoutBatchResult result = service().payDueOn(TODAY);
@@ -144,4 +192,93 @@ class CommissionPayoutServiceTest {
         assertThat(result.paid()).isEqualTo(2);
         verify(loadPolicyPort).findByPolicyId(POLICY_ID);  // 캐시 — 계약 조회는 1회
     }
+
+    @Test
+    @DisplayName("키셋 페이지를 끝까지 훑는다 — 페이지 크기보다 많은 due 회차도 모두 지급, 설계사마다 청크 1개")
+    void streamsPagesAndPaysOneChunkPerAgent() {
+        String otherPolicy = "22222222-2222-2222-2222-222222222222";
+        stubRows(
+                dueSchedule(1L, POLICY_ID, "fc-100"),
+                dueSchedule(2L, POLICY_ID, "fc-100"),
+                dueSchedule(3L, otherPolicy, "fc-200"),
+                dueSchedule(4L, otherPolicy, "fc-200"),
+                dueSchedule(5L, otherPolicy, "fc-200"));
+        when(loadPolicyPort.findByPolicyId(anyString())).thenReturn(Optional.of(policyIn(PolicyStatus.ACTIVE)));
+
+        PayoutBatchResult result = service(3, 10).payDueOn(TODAY);
+
+        assertThat(result.paid()).isEqualTo(5);
+        // fc-100 (2건) / fc-200 (3건) — 페이지 경계(3건)가 fc-200 중간에 걸려도 설계사 단위로 모인다
+        verify(saveSchedulePort).saveAll(argThat(list -> list.size() == 2 && list.get(0).getFcId().equals("fc-100")));
+        verify(saveSchedulePort).saveAll(argThat(list -> list.size() == 3 && list.get(0).getFcId().equals("fc-200")));
+        verify(publishPort, times(2)).publishCommissionPaidAll(anyList());
+    }
+
+    @Test
+    @DisplayName("한 설계사의 회차가 페이지 크기를 넘으면 청크를 나눈다 — 청크 크기 상한")
+    void splitsAgentChunkAtPageSize() {
+        stubRows(
+                dueSchedule(1L, POLICY_ID, "fc-100"),
+                dueSchedule(2L, POLICY_ID, "fc-100"),
+                dueSchedule(3L, POLICY_ID, "fc-100"));
+        when(loadPolicyPort.findByPolicyId(POLICY_ID)).thenReturn(Optional.of(policyIn(PolicyStatus.ACTIVE)));
+
+        PayoutBatchResult result = service(2, 10).payDueOn(TODAY);
+
+        assertThat(result.paid()).isEqualTo(3);
+        verify(saveSchedulePort, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("청크 하나가 실패해도 다른 설계사는 지급한다 — 실패분은 집계만 하고 다음 배치가 재시도")
+    void isolatesFailedAgentChunk() {
+        String otherPolicy = "22222222-2222-2222-2222-222222222222";
+        stubRows(dueSchedule(1L, POLICY_ID, "fc-100"), dueSchedule(2L, otherPolicy, "fc-200"));
+        when(loadPolicyPort.findByPolicyId(anyString())).thenReturn(Optional.of(policyIn(PolicyStatus.ACTIVE)));
+        doThrow(new IllegalStateException("boom")).when(saveSchedulePort)
+                .saveAll(argThat(list -> list.get(0).getFcId().equals("fc-100")));
+
+        PayoutBatchResult result = service().payDueOn(TODAY);
+
+        assertThat(result.paid()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재실행해도 이중 지급하지 않는다 — 커밋된 회차는 스캔에서 빠지고, 잠가 보니 이미 지급된 회차는 건너뛴다")
+    void resumesWithoutDoublePaying() {
+        CommissionSchedule alreadyPaid = dueSchedule(1L, POLICY_ID, "fc-100");
+        CommissionSchedule pending = dueSchedule(2L, POLICY_ID, "fc-100");
+        stubRows(alreadyPaid, pending);
+        when(loadPolicyPort.findByPolicyId(POLICY_ID)).thenReturn(Optional.of(policyIn(PolicyStatus.ACTIVE)));
+        // 스캔 직후 다른 실행이 1번을 지급해 커밋한 상황 — 잠금 재확인에서는 2번만 남는다
+        when(loadSchedulePort.lockScheduledByIds(anyList())).thenReturn(List.of(pending));
+
+        PayoutBatchResult first = service().payDueOn(TODAY);
+        PayoutBatchResult second = service().payDueOn(TODAY);
+
+        assertThat(first.paid()).isEqualTo(1);
+        assertThat(alreadyPaid.getStatus()).isEqualTo(CommissionStatus.SCHEDULED);
+        assertThat(pending.getStatus()).isEqualTo(CommissionStatus.PAID);
+        assertThat(second.paid()).isZero();
+        verify(publishPort).publishCommissionPaidAll(argThat((List<PaidCommission> paid) ->
+                paid.size() == 1 && paid.get(0).schedule() == pending));
+    }
+
+    @Test
+    @DisplayName("계약 캐시는 상한을 지킨다 — 밀려난 계약은 다시 조회한다")
+    void boundsPolicyCache() {
+        String policyA = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
+        String policyB = "bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb";
+        stubRows(
+                dueSchedule(1L, policyA, "fc-100"),
+                dueSchedule(2L, policyB, "fc-100"),
+                dueSchedule(3L, policyA, "fc-100"));
+        when(loadPolicyPort.findByPolicyId(anyString())).thenReturn(Optional.of(policyIn(PolicyStatus.ACTIVE)));
+
+        service(500, 1).payDueOn(TODAY);
+
+        verify(loadPolicyPort, times(2)).findByPolicyId(policyA);
+        verify(loadPolicyPort).findByPolicyId(policyB);
+    }
 }
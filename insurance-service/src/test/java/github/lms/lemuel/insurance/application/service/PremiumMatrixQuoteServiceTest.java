@@ -0,0 +1,149 @@
+package github.lms.lemuel.insurance.application.service;
+
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase;
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase.CellStatus;
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase.MatrixCell;
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase.PremiumMatrix;
+import github.lms.lemuel.insurance.application.port.in.QuotePremiumMatrixUseCase.QuoteMatrixCommand;
+import github.lms.lemuel.insurance.application.port.out.LoadInsuranceProductPort;
+import github.lms.lemuel.insurance.application.port.out.LoadInsuranceProductPort.ProductSnapshot;
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort;
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort.RateRow;
+import github.lms.lemuel.insurance.domain.Gender;
+import github.lms.lemuel.insurance.domain.PremiumRater;
+import github.lms.lemuel.insurance.domain.exception.InvalidProposalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PremiumMatrixQuoteService — 상품 × 납입기간 일괄 산출")
+class PremiumMatrixQuoteServiceTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2026, 8, 7);
+    private static final LocalDate BIRTH = LocalDate.of(1990, 1, 15);   // 보험나이 37
+    private static final LocalDate OPENED = LocalDate.of(2025, 1, 1);
+    private static final BigDecimal COVERAGE = new BigDecimal("100000000");
+
+    @Mock LoadInsuranceProductPort loadProductPort;
+    @Mock LoadPremiumRateIndexPort loadRateIndexPort;
+
+    private PremiumMatrixQuoteService service() {
+        Clock fixed = Clock.fixed(TODAY.atStartOfDay(KST).toInstant(), KST);
+        return new PremiumMatrixQuoteService(loadProductPort, new PremiumRateIndexService(loadRateIndexPort), fixed);
+    }
+
+    private static ProductSnapshot product(String code, boolean active) {
+        return new ProductSnapshot(code, code, "LIFE", new BigDecimal("300000.00"),
+                new BigDecimal("100000000.00"), new BigDecimal("0.035000"), "INS-01", active);
+    }
+
+    private void givenRates() {
+        when(loadRateIndexPort.loadAll()).thenReturn(List.of(
+                new RateRow(11, "LIFE-A", Gender.M, 30, 39, 10, new BigDecimal("4.1"), OPENED),
+                new RateRow(12, "LIFE-A", Gender.M, 30, 39, 20, new BigDecimal("2.5"), OPENED),
+                new RateRow(13, "LIFE-B", Gender.M, 30, 39, 20, new BigDecimal("2.2"), OPENED),
+                new RateRow(14, "LIFE-A", Gender.F, 30, 39, 30, new BigDecimal("1.8"), OPENED)));
+    }
+
+    @Test
+    @DisplayName("요청한 상품 × 납입기간 전부를 단건 산출과 같은 식으로 계산하고, 없는 칸은 사유만 싣는다")
+    void quotesFullMatrix() {
+        givenRates();
+        when(loadProductPort.findByCode("LIFE-A")).thenReturn(Optional.of(product("LIFE-A", true)));
+        when(loadProductPort.findByCode("LIFE-B")).thenReturn(Optional.of(product("LIFE-B", true)));
+
+        PremiumMatrix matrix = service().quoteMatrix(new QuoteMatrixCommand(
+                List.of("LIFE-A", "LIFE-B"), List.of(10, 20), BIRTH, Gender.M, COVERAGE));
+
+        assertThat(matrix.insuranceAge()).isEqualTo(37);
+        assertThat(matrix.quotedOn()).isEqualTo(TODAY);
+        assertThat(matrix.cells()).containsExactly(
+                new MatrixCell("LIFE-A", 10, CellStatus.QUOTED, 11L, new BigDecimal("4.1"),
+                        PremiumRater.annualPremium(COVERAGE, new BigDecimal("4.1"))),
+                new MatrixCell("LIFE-A", 20, CellStatus.QUOTED, 12L, new BigDecimal("2.5"),
+                        PremiumRater.annualPremium(COVERAGE, new BigDecimal("2.5"))),
+                MatrixCell.unavailable("LIFE-B", 10, CellStatus.RATE_NOT_FOUND),
+                new MatrixCell("LIFE-B", 20, CellStatus.QUOTED, 13L, new BigDecimal("2.2"),
+                        PremiumRater.annualPremium(COVERAGE, new BigDecimal("2.2"))));
+    }
+
+    @Test
+    @DisplayName("납입기간을 생략하면 상품·성별별로 요율표에 있는 납입기간 전부를 산출한다")
+    void omittedTermsUseIndexTerms() {
+        givenRates();
+        when(loadProductPort.findByCode("LIFE-A")).thenReturn(Optional.of(product("LIFE-A", true)));
+
+        PremiumMatrix matrix = service().quoteMatrix(new QuoteMatrixCommand(
+                List.of("LIFE-A"), null, BIRTH, Gender.M, COVERAGE));
+
+        assertThat(matrix.cells()).extracting(MatrixCell::paymentTermYears).containsExactly(10, 20);
+    }
+
+    @Test
+    @DisplayName("판매 종료·없는 상품은 칸마다 PRODUCT_UNAVAILABLE — 다른 상품 칸은 그대로 산출, 상품당 조회 1회")
+    void unavailableProduct() {
+        givenRates();
+        when(loadProductPort.findByCode("LIFE-A")).thenReturn(Optional.of(product("LIFE-A", false)));
+        when(loadProductPort.findByCode("LIFE-B")).thenReturn(Optional.of(product("LIFE-B", true)));
+        lenient().when(loadProductPort.findByCode("NOPE")).thenReturn(Optional.empty());
+
+        PremiumMatrix matrix = service().quoteMatrix(new QuoteMatrixCommand(
+                List.of("LIFE-A", "LIFE-B", "NOPE"), List.of(20), BIRTH, Gender.M, COVERAGE));
+
+        assertThat(matrix.cells()).extracting(MatrixCell::status).containsExactly(
+                CellStatus.PRODUCT_UNAVAILABLE, CellStatus.QUOTED, CellStatus.PRODUCT_UNAVAILABLE);
+        verify(loadProductPort, times(3)).findByCode(anyString());
+    }
+
+    @Test
+    @DisplayName("원 단위 0원이 되는 칸은 NOT_QUOTABLE — 행렬 전체를 실패시키지 않는다")
+    void zeroPremiumCellIsNotQuotable() {
+        givenRates();
+        when(loadProductPort.findByCode("LIFE-A")).thenReturn(Optional.of(product("LIFE-A", true)));
+
+        PremiumMatrix matrix = service().quoteMatrix(new QuoteMatrixCommand(
+                List.of("LIFE-A"), List.of(20), BIRTH, Gender.M, new BigDecimal("100")));
+
+        assertThat(matrix.cells()).extracting(MatrixCell::status).containsExactly(CellStatus.NOT_QUOTABLE);
+    }
+
+    @Test
+    @DisplayName("입력 거부 — 상품 0개·상한 초과, 납입기간 상한 초과, 보장금액 0 이하")
+    void rejectsInvalidInput() {
+        List<String> tooMany = IntStream.rangeClosed(0, QuotePremiumMatrixUseCase.MAX_PRODUCTS)
+                .mapToObj(i -> "P" + i).toList();
+        List<Integer> tooManyTerms = IntStream.rangeClosed(1, QuotePremiumMatrixUseCase.MAX_PAYMENT_TERMS + 1)
+                .boxed().toList();
+
+        assertThatThrownBy(() -> service().quoteMatrix(new QuoteMatrixCommand(
+                List.of(), List.of(20), BIRTH, Gender.M, COVERAGE))).isInstanceOf(InvalidProposalException.class);
+        assertThatThrownBy(() -> service().quoteMatrix(new QuoteMatrixCommand(
+                tooMany, List.of(20), BIRTH, Gender.M, COVERAGE))).isInstanceOf(InvalidProposalException.class);
+        assertThatThrownBy(() -> service().quoteMatrix(new QuoteMatrixCommand(
+                List.of("LIFE-A"), tooManyTerms, BIRTH, Gender.M, COVERAGE)))
+                .isInstanceOf(InvalidProposalException.class);
+        assertThatThrownBy(() -> service().quoteMatrix(new QuoteMatrixCommand(
+                List.of("LIFE-A"), List.of(20), BIRTH, Gender.M, BigDecimal.ZERO)))
+                .isInstanceOf(InvalidProposalException.class);
+    }
+}
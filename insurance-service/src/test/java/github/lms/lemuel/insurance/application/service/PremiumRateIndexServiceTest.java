@@ -0,0 +1,93 @@
+package github.lms.lemuel.insurance.application.service;
+
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort;
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort.RateRow;
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort.RateTableVersion;
+import github.lms.lemuel.insurance.domain.Gender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PremiumRateIndexService — 적재·버전 확인·통째 교체")
+class PremiumRateIndexServiceTest {
+
+    private static final LocalDate ASOF = LocalDate.of(2026, 8, 7);
+    private static final RateRow V1_ROW =
+            new RateRow(1, "PROD-LIFE-01", Gender.M, 30, 39, 20, new BigDecimal("2.5"), LocalDate.of(2025, 1, 1));
+    private static final RateRow V2_ROW =
+            new RateRow(2, "PROD-LIFE-01", Gender.M, 30, 39, 20, new BigDecimal("2.7"), LocalDate.of(2026, 4, 1));
+
+    @Mock LoadPremiumRateIndexPort port;
+
+    @Test
+    @DisplayName("적재 전에는 비어 있다 — 첫 갱신은 버전 확인 없이 전체를 읽는다")
+    void firstRefreshLoads() {
+        PremiumRateIndexService service = new PremiumRateIndexService(port);
+        assertThat(service.readyIndex()).isEmpty();
+        when(port.loadAll()).thenReturn(List.of(V1_ROW));
+
+        assertThat(service.refreshIfChanged()).isTrue();
+
+        assertThat(service.readyIndex()).isPresent();
+        verify(port, never()).currentVersion();
+    }
+
+    @Test
+    @DisplayName("버전 지문이 같으면 다시 읽지 않고 같은 인덱스를 유지한다")
+    void sameVersionKeepsIndex() {
+        PremiumRateIndexService service = new PremiumRateIndexService(port);
+        when(port.loadAll()).thenReturn(List.of(V1_ROW));
+        service.refreshIfChanged();
+        PremiumRateIndex loaded = service.readyIndex().orElseThrow();
+        when(port.currentVersion()).thenReturn(new RateTableVersion(1, 1));
+
+        assertThat(service.refreshIfChanged()).isFalse();
+
+        verify(port, times(1)).loadAll();
+        assertThat(service.readyIndex()).containsSame(loaded);
+    }
+
+    @Test
+    @DisplayName("새 요율이 게시되면 새 인덱스로 교체한다 — 이미 집은 옛 인덱스는 그대로 옛 답을 낸다")
+    void newVersionSwaps() {
+        PremiumRateIndexService service = new PremiumRateIndexService(port);
+        when(port.loadAll()).thenReturn(List.of(V1_ROW), List.of(V1_ROW, V2_ROW));
+        service.refreshIfChanged();
+        PremiumRateIndex old = service.readyIndex().orElseThrow();
+        when(port.currentVersion()).thenReturn(new RateTableVersion(2, 2));
+
+        assertThat(service.refreshIfChanged()).isTrue();
+
+        assertThat(service.readyIndex().orElseThrow()
+                .findApplicableRate("PROD-LIFE-01", Gender.M, 35, 20, ASOF).orElseThrow().rateTableId())
+                .isEqualTo(2);
+        assertThat(old.findApplicableRate("PROD-LIFE-01", Gender.M, 35, 20, ASOF).orElseThrow().rateTableId())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("currentOrLoad — 적재 전이면 그 자리에서 적재하고, 이후로는 다시 읽지 않는다")
+    void currentOrLoadLoadsOnce() {
+        PremiumRateIndexService service = new PremiumRateIndexService(port);
+        when(port.loadAll()).thenReturn(List.of(V1_ROW));
+
+        PremiumRateIndex first = service.currentOrLoad();
+        PremiumRateIndex second = service.currentOrLoad();
+
+        assertThat(second).isSameAs(first);
+        verify(port, times(1)).loadAll();
+    }
+}
@@ -0,0 +1,138 @@
+package github.lms.lemuel.insurance.application.service;
+
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort.RateRow;
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort.RateTableVersion;
+import github.lms.lemuel.insurance.application.port.out.LoadRateTablePort.RateSnapshot;
+import github.lms.lemuel.insurance.domain.Gender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요율 인덱스 — {@code SpringDataPremiumRateTableRepository.findApplicable} 과 같은 답을 내는지.
+ */
+@DisplayName("PremiumRateIndex — 개시일 구간 + 나이 배열 조회")
+class PremiumRateIndexTest {
+
+    private static final LocalDate V1 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate V2 = LocalDate.of(2026, 4, 1);
+
+    private static RateRow row(long id, Gender gender, int ageFrom, int ageTo, int term, String rate, LocalDate from) {
+        return new RateRow(id, "PROD-LIFE-01", gender, ageFrom, ageTo, term, new BigDecimal(rate), from);
+    }
+
+    @Test
+    @DisplayName("기준일 이전 개시분 중 최신 행이 이긴다 — 개정 전날은 옛 요율, 당일부터 새 요율")
+    void latestEffectiveRowWins() {
+        PremiumRateIndex index = PremiumRateIndex.build(List.of(
+                row(1, Gender.M, 30, 39, 20, "2.5", V1),
+                row(2, Gender.M, 30, 39, 20, "2.7", V2)));
+
+        assertThat(index.findApplicableRate("PROD-LIFE-01", Gender.M, 35, 20, V2.minusDays(1)))
+                .contains(new RateSnapshot(1, new BigDecimal("2.5")));
+        assertThat(index.findApplicableRate("PROD-LIFE-01", Gender.M, 35, 20, V2))
+                .contains(new RateSnapshot(2, new BigDecimal("2.7")));
+        assertThat(index.findApplicableRate("PROD-LIFE-01", Gender.M, 35, 20, V1.minusDays(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일부 나이 구간만 개정하면 나머지 구간은 이전 개시분이 그대로 적용된다")
+    void partialRevisionKeepsOtherBands() {
+        PremiumRateIndex index = PremiumRateIndex.build(List.of(
+                row(1, Gender.M, 30, 39, 20, "2.5", V1),
+                row(2, Gender.M, 40, 49, 20, "3.5", V1),
+                row(3, Gender.M, 40, 49, 20, "3.9", V2)));
+
+        assertThat(index.findApplicableRate("PROD-LIFE-01", Gender.M, 35, 20, V2)).map(RateSnapshot::rateTableId)
+                .contains(1L);
+        assertThat(index.findApplicableRate("PROD-LIFE-01", Gender.M, 45, 20, V2)).map(RateSnapshot::rateTableId)
+                .contains(3L);
+    }
+
+    @Test
+    @DisplayName("구간 밖 나이·없는 납입기간·다른 성별·음수 나이는 빈 값이다")
+    void missesAreEmpty() {
+        PremiumRateIndex index = PremiumRateIndex.build(List.of(row(1, Gender.M, 30, 39, 20, "2.5", V1)));
+
+        assertThat(index.findApplicableRate("PROD-LIFE-01", Gender.M, 29, 20, V2)).isEmpty();
+        assertThat(index.findApplicableRate("PROD-LIFE-01", Gender.M, 40, 20, V2)).isEmpty();
+        assertThat(index.findApplicableRate("PROD-LIFE-01", Gender.M, 35, 10, V2)).isEmpty();
+        assertThat(index.findApplicableRate("PROD-LIFE-01", Gender.F, 35, 20, V2)).isEmpty();
+        assertThat(index.findApplicableRate("PROD-LIFE-01", Gender.M, -1, 20, V2)).isEmpty();
+        assertThat(index.findApplicableRate("PROD-OTHER", Gender.M, 35, 20, V2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버전 지문은 읽어 온 행에서 계산한다 — (행 수, 최대 id)")
+    void versionFromRows() {
+        PremiumRateIndex index = PremiumRateIndex.build(List.of(
+                row(7, Gender.M, 30, 39, 20, "2.5", V1),
+                row(3, Gender.F, 30, 39, 20, "2.1", V1)));
+
+        assertThat(index.version()).isEqualTo(new RateTableVersion(2, 7));
+        assertThat(PremiumRateIndex.build(List.of()).version()).isEqualTo(RateTableVersion.EMPTY);
+    }
+
+    @Test
+    @DisplayName("납입기간 목록 — 기준일에 개시된 것만, 오름차순")
+    void paymentTermsOnDate() {
+        PremiumRateIndex index = PremiumRateIndex.build(List.of(
+                row(1, Gender.M, 30, 39, 20, "2.5", V1),
+                row(2, Gender.M, 30, 39, 10, "4.5", V1),
+                row(3, Gender.M, 30, 39, 30, "1.9", V2),
+                row(4, Gender.F, 30, 39, 15, "2.0", V1)));
+
+        assertThat(index.paymentTerms("PROD-LIFE-01", Gender.M, V1)).containsExactly(10, 20);
+        assertThat(index.paymentTerms("PROD-LIFE-01", Gender.M, V2)).containsExactly(10, 20, 30);
+        assertThat(index.paymentTerms("PROD-LIFE-01", Gender.F, V2)).containsExactly(15);
+    }
+
+    @Test
+    @DisplayName("동등성: 임의 요율표·질의에서 DB 질의 규칙(구간 포함 + 개시일 DESC, id DESC 첫 행)과 같은 답")
+    void matchesRepositoryQuerySemantics() {
+        Random random = new Random(20261019L);
+        List<RateRow> rows = new ArrayList<>();
+        String[] products = {"P1", "P2"};
+        int[] terms = {10, 20};
+        for (int i = 1; i <= 400; i++) {
+            int from = random.nextInt(90);
+            rows.add(new RateRow(i, products[random.nextInt(2)], random.nextBoolean() ? Gender.M : Gender.F,
+                    from, from + random.nextInt(20), terms[random.nextInt(2)],
+                    BigDecimal.valueOf(1 + random.nextInt(5000), 3),
+                    V1.plusDays(random.nextInt(6) * 90L)));
+        }
+        PremiumRateIndex index = PremiumRateIndex.build(rows);
+
+        for (int q = 0; q < 3_000; q++) {
+            String product = products[random.nextInt(2)];
+            Gender gender = random.nextBoolean() ? Gender.M : Gender.F;
+            int age = random.nextInt(115) - 2;
+            int term = terms[random.nextInt(2)];
+            LocalDate asOf = V1.minusDays(30).plusDays(random.nextInt(700));
+
+            assertThat(index.findApplicableRate(product, gender, age, term, asOf))
+                    .as("%s %s age=%d term=%d asOf=%s", product, gender, age, term, asOf)
+                    .isEqualTo(reference(rows, product, gender, age, term, asOf));
+        }
+    }
+
+    /** 리포지토리 JPQL 을 그대로 옮긴 기준 구현. */
+    private static Optional<RateSnapshot> reference(List<RateRow> rows, String product, Gender gender,
+                                                    int age, int term, LocalDate asOf) {
+        return rows.stream()
+                .filter(r -> r.productCode().equals(product) && r.gender() == gender
+                        && r.paymentTermYears() == term && r.ageFrom() <= age && r.ageTo() >= age
+                        && !r.effectiveFrom().isAfter(asOf))
+                .max(Comparator.comparing(RateRow::effectiveFrom).thenComparingLong(RateRow::id))
+                .map(r -> new RateSnapshot(r.id(), r.ratePerMille()));
+    }
+}
@@ -6,6 +6,8 @@ import github.lms.lemuel.insurance.application.port.in.CreateProposalUseCase.Cre
 import github.lms.lemuel.insurance.application.port.in.CreateProposalUseCase.ProposalSummary;
 import github.lms.lemuel.insurance.application.port.out.LoadInsuranceProductPort;
 import github.lms.lemuel.insurance.application.port.out.LoadInsuranceProductPort.ProductSnapshot;
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort;
+import github.lms.lemuel.insurance.application.port.out.LoadPremiumRateIndexPort.RateRow;
 import github.lms.lemuel.insurance.application.port.out.LoadProposalPort;
 import github.lms.lemuel.insurance.application.port.out.LoadRateTablePort;
 import github.lms.lemuel.insurance.application.port.out.LoadRateTablePort.RateSnapshot;
@@ -61,14 +63,20 @@ class ProposalQuoteServiceTest {
 
     @Mock LoadInsuranceProductPort loadProductPort;
     @Mock LoadRateTablePort loadRateTablePort;
+    @Mock LoadPremiumRateIndexPort loadRateIndexPort;
     @Mock LoadProposalPort loadProposalPort;
     @Mock SaveProposalPort saveProposalPort;
     @Mock SaveApplicationPort saveApplicationPort;
     @Mock RenderProposalSheetPdfPort renderPdfPort;
 
+    /** 요율 인덱스 적재 전 — 단건 산출은 DB 경로(loadRateTablePort)로 답한다. */
     private ProposalQuoteService service() {
+        return service(new PremiumRateIndexService(loadRateIndexPort));
+    }
+
+    private ProposalQuoteService service(PremiumRateIndexService rateIndex) {
         Clock fixed = Clock.fixed(TODAY.atStartOfDay(KST).toInstant(), KST);
-        return new ProposalQuoteService(loadProductPort, loadRateTablePort, loadProposalPort,
+        return new ProposalQuoteService(loadProductPort, loadRateTablePort, rateIndex, loadProposalPort,
                 saveProposalPort, saveApplicationPort, renderPdfPort, fixed);
     }
 
@@ -120,6 +128,25 @@ class ProposalQuoteServiceTest {
         assertThat(summary.validUntil()).isEqualTo(TODAY.plusDays(ProposalQuote.VALIDITY_DAYS));
     }
 
+    @Test
+    @DisplayName("산출: 요율 인덱스가 적재됐으면 DB 를 부르지 않고 인덱스의 요율 행으로 산출한다")
+    void createUsesReadyRateIndex() {
+        when(loadRateIndexPort.loadAll()).thenReturn(List.of(
+                new RateRow(11L, "PROD-LIFE-01", Gender.M, 30, 39, 20, new BigDecimal("2.5"), TODAY.minusYears(1))));
+        PremiumRateIndexService rateIndex = new PremiumRateIndexService(loadRateIndexPort);
+        rateIndex.refreshIfChanged();
+        when(loadProductPort.findByCode("PROD-LIFE-01")).thenReturn(Optional.of(activeProduct()));
+        when(saveProposalPort.insertNew(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        ProposalSummary summary = service(rateIndex).create(new CreateProposalCommand(
+                null, "PROD-LIFE-01", "fc-100", "홍길동",
+                LocalDate.of(1990, 1, 15), Gender.M,
+                new BigDecimal("100000000"), 20, SalesChannel.FC, null));
+
+        assertThat(summary.annualPremium()).isEqualByComparingTo("250000");
+        verify(loadRateTablePort, never()).findApplicableRate(anyString(), any(), anyInt(), anyInt(), any());
+    }
+
     @Test
     @DisplayName("산출: 판매 종료 상품은 입구에서 거부한다")
     void createRejectsInactiveProduct() {
@@ -6,10 +6,11 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * 이상 탐지 스케줄러 — 버킷 폭(5분)과 같은 주기로 직전 마감 버킷을 판정한다.
+ * 이상 탐지 스케줄러 — 짧은 주기(기본 10초)로 돌며 그 사이 새로 마감된 버킷을 판정한다. 새 버킷이
+ * 없는 스캔은 metric 당 버킷 한 행을 읽는 것으로 끝난다.
  *
  * <p>{@code app.ops.anomaly.enabled=true} 일 때만 빈이 생성된다(로컬/테스트 기본 off — Prometheus
- * 폴러와 동일 패턴). fixedDelay 라 판정이 밀려도 겹치지 않으며(단일 스레드), 실제 판정·오류 격리는
+ * 폴러와 동일 패턴). fixedDelay 라 스캔끼리 겹치지 않으며(metric 판정은 스캔 안에서 병렬), 실제 판정·오류 격리는
  * {@link DetectAnomaliesUseCase} 가 담당한다(한 metric 실패가 다른 metric·다음 스캔을 막지 않음).
  */
 @Component
@@ -22,7 +23,7 @@ public class AnomalyScanScheduler {
         this.detectAnomaliesUseCase = detectAnomaliesUseCase;
     }
 
-    @Scheduled(fixedDelayString = "${app.ops.anomaly.scan-interval-ms:300000}")
+    @Scheduled(fixedDelayString = "${app.ops.anomaly.scan-interval-ms:10000}")
     public void scan() {
         detectAnomaliesUseCase.detectOnce();
     }
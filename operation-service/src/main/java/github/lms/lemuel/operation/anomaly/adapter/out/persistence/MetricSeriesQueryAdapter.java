@@ -1,40 +1,91 @@
 package github.lms.lemuel.operation.anomaly.adapter.out.persistence;
 
 import github.lms.lemuel.operation.anomaly.application.port.out.LoadMetricSeriesPort;
-import github.lms.lemuel.operation.signal.adapter.out.persistence.MetricBucketJpaEntity;
-import github.lms.lemuel.operation.signal.adapter.out.persistence.SpringDataMetricBucketRepository;
 import github.lms.lemuel.operation.signal.domain.MetricBucket;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * 이상 탐지 입력 시계열 조회 어댑터 — signal BC 가 소유한 {@code ops_metric_bucket} 리포지토리를
- * 읽기 전용으로 재사용한다(같은 테이블의 조회 좌표라 별도 리포지토리를 두지 않는다).
+ * 이상 탐지 입력 시계열 조회 어댑터 — signal BC 가 소유한 {@code ops_metric_bucket} 을 읽기 전용으로 조회한다.
  *
- * <p>리포지토리는 최신 순(desc)으로 반환하므로, 판정 로직이 인덱스로 다루기 쉽게
- * 시간 오름차순으로 뒤집어 도메인 모델로 매핑한다.
+ * <p>metric 마다 한 번씩 묻던 것을 <b>문장 하나</b>로 묶는다. 대상 metric 과 시작 시각을 {@code VALUES} 로
+ * 넘기고 {@code LATERAL} 로 metric 마다 최신 limit 개를 자른다 — 각 갈래는
+ * idx_metric_bucket_recent(metric_key, bucket_start DESC) 범위 탐색 하나다. 바깥 정렬이 metric·시간 오름차순을
+ * 정해 주므로 뒤집을 필요가 없다.
  */
 @Component
 public class MetricSeriesQueryAdapter implements LoadMetricSeriesPort {
 
-    private final SpringDataMetricBucketRepository repository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public MetricSeriesQueryAdapter(SpringDataMetricBucketRepository repository) {
-        this.repository = repository;
+    public MetricSeriesQueryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
-    public List<MetricBucket> loadClosedBuckets(String metricKey, Instant before, int limit) {
-        List<MetricBucketJpaEntity> desc =
-                repository.findRecentClosed(metricKey, before, PageRequest.of(0, limit));
-        List<MetricBucket> asc = new ArrayList<>(desc.size());
-        for (int i = desc.size() - 1; i >= 0; i--) {
-            asc.add(desc.get(i).toDomain());
+    public Map<String, List<ClosedBucket>> loadClosedBuckets(Map<String, Instant> fromInclusive, Instant before,
+                                                             int limit) {
+        if (fromInclusive.isEmpty()) {
+            return Map.of();
         }
-        return asc;
+        List<Object> args = new ArrayList<>(fromInclusive.size() * 2 + 2);
+        fromInclusive.forEach((metricKey, from) -> {
+            args.add(metricKey);
+            args.add(OffsetDateTime.ofInstant(from, ZoneOffset.UTC));
+        });
+        args.add(OffsetDateTime.ofInstant(before, ZoneOffset.UTC));
+        args.add(limit);
+
+        Map<String, List<ClosedBucket>> series = new LinkedHashMap<>();
+        jdbcTemplate.query(loadSql(fromInclusive.size()), rs -> {
+            ClosedBucket row = toClosedBucket(rs);
+            series.computeIfAbsent(row.bucket().metricKey(), k -> new ArrayList<>()).add(row);
+        }, args.toArray());
+        return series;
+    }
+
+    static String loadSql(int metrics) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT b.metric_key, b.bucket_start, b.count_total, b.count_signal,
+                       b.value_sum, b.value_max, b.sample_count, b.updated_at
+                FROM (VALUES\s""");
+        for (int i = 0; i < metrics; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(CAST(? AS varchar), CAST(? AS timestamptz))");
+        }
+        sql.append("""
+                ) AS k(metric_key, from_start)
+                CROSS JOIN LATERAL (
+                    SELECT m.* FROM opslab.ops_metric_bucket m
+                    WHERE m.metric_key = k.metric_key
+                      AND m.bucket_start >= k.from_start
+                      AND m.bucket_start < ?
+                    ORDER BY m.bucket_start DESC
+                    LIMIT ?
+                ) b
+                ORDER BY b.metric_key, b.bucket_start
+                """);
+        return sql.toString();
+    }
+
+    private static ClosedBucket toClosedBucket(ResultSet rs) throws SQLException {
+        MetricBucket bucket = new MetricBucket(
+                rs.getString("metric_key"),
+                rs.getObject("bucket_start", OffsetDateTime.class).toInstant(),
+                rs.getLong("count_total"),
+                rs.getLong("count_signal"),
+                rs.getDouble("value_sum"),
+                rs.getObject("value_max", Double.class),
+                rs.getLong("sample_count"));
+        return new ClosedBucket(bucket, rs.getObject("updated_at", OffsetDateTime.class).toInstant());
     }
 }
@@ -17,7 +17,7 @@ public interface DetectAnomaliesUseCase {
      * @param opened   신규로 연 인시던트 수
      * @param refired  기존 활성 인시던트에 병합(refire)한 수
      * @param resolved 정상 복귀로 자동 해제한 수
-     * @param skipped  히스토리 부족 등으로 판정을 건너뛴 metric 수
+     * @param skipped  히스토리 부족·새로 마감된 버킷 없음 등으로 판정을 건너뛴 metric 수
      */
     record DetectionSummary(int scanned, int opened, int refired, int resolved, int skipped) {
     }
@@ -4,6 +4,7 @@ import github.lms.lemuel.operation.signal.domain.MetricBucket;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 이상 탐지 입력 시계열 조회 포트 — ops_metric_bucket 의 카운터형 버킷을 읽는다.
@@ -14,13 +15,23 @@ import java.util.List;
 public interface LoadMetricSeriesPort {
 
     /**
-     * 지정 metric_key 의 <b>마감된</b>(bucket_start &lt; before) 버킷을 최신 순으로 최대 limit 개 읽어
-     * <b>시간 오름차순(과거→현재)</b>으로 반환한다. 판정 로직이 인덱스로 다루기 쉽도록 정렬을 고정한다.
+     * 여러 metric 의 <b>마감된</b>(bucket_start &lt; before) 버킷을 한 번에 읽는다. metric 마다
+     * {@code fromInclusive} 이상인 버킷 중 최신 limit 개를 <b>시간 오름차순(과거→현재)</b>으로 담는다.
      *
-     * @param metricKey 대상 metric_key (예 "settlement")
-     * @param before    이 시각 미만의 버킷만 (현재 진행 중인 미마감 버킷 제외)
-     * @param limit     최대 조회 개수 (windowSize + resolveStreakK 정도)
-     * @return 오름차순 버킷 목록 (없으면 빈 리스트)
+     * <p>스캔 사이에 베이스라인을 들고 있는 호출자는 {@code fromInclusive} 에 마지막으로 본 버킷 시각을 줘
+     * 그 버킷(갱신 여부 확인용)과 새로 마감된 버킷만 받는다. 처음 보는 metric 은 {@link Instant#EPOCH}.
+     *
+     * @param fromInclusive metric_key → 이 시각 이상의 버킷만. 키 집합이 곧 조회 대상
+     * @param before        이 시각 미만의 버킷만 (현재 진행 중인 미마감 버킷 제외)
+     * @param limit         metric 당 최대 조회 개수 (windowSize + resolveStreakK 정도)
+     * @return metric_key → 오름차순 버킷 목록. 버킷이 없는 metric 은 빠진다
+     */
+    Map<String, List<ClosedBucket>> loadClosedBuckets(Map<String, Instant> fromInclusive, Instant before, int limit);
+
+    /**
+     * 마감 버킷 한 행과 그 행의 마지막 갱신 시각 — 호출자가 들고 있던 마지막 버킷이 그 뒤 늦게 도착한
+     * 신호로 다시 쓰였는지(또는 지워지고 다시 채워졌는지) 가리는 데 쓴다.
      */
-    List<MetricBucket> loadClosedBuckets(String metricKey, Instant before, int limit);
+    record ClosedBucket(MetricBucket bucket, Instant updatedAt) {
+    }
 }
@@ -2,6 +2,7 @@ package github.lms.lemuel.operation.anomaly.application.service;
 
 import github.lms.lemuel.operation.anomaly.application.port.in.DetectAnomaliesUseCase;
 import github.lms.lemuel.operation.anomaly.application.port.out.LoadMetricSeriesPort;
+import github.lms.lemuel.operation.anomaly.application.port.out.LoadMetricSeriesPort.ClosedBucket;
 import github.lms.lemuel.operation.anomaly.application.service.AnomalyIncidentApplier.Outcome;
 import github.lms.lemuel.operation.anomaly.domain.AnomalyDecision;
 import github.lms.lemuel.operation.anomaly.domain.AnomalyEvaluator;
@@ -9,33 +10,44 @@ import github.lms.lemuel.operation.anomaly.domain.AnomalyThreshold;
 import github.lms.lemuel.operation.config.OpsProperties;
 import github.lms.lemuel.operation.incident.domain.SignalCategory;
 import github.lms.lemuel.operation.signal.domain.BucketWindow;
-import github.lms.lemuel.operation.signal.domain.MetricBucket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * 이상 탐지 오케스트레이터 — 트랜잭션 없이 metric 을 순회하고, metric 1건의 반영은
+ * 이상 탐지 오케스트레이터 — 트랜잭션 없이 metric 을 판정하고, metric 1건의 반영은
  * {@link AnomalyIncidentApplier} 의 독립 트랜잭션에 위임한다({@code IngestAlertService} 와 동일 구조).
  *
- * <p>판정 흐름(metric 당):
+ * <p>스캔 흐름:
  * <ol>
- *   <li>마감된 버킷을 {@code windowSize + resolveStreakK} 개까지 시간순으로 읽는다.</li>
- *   <li>히스토리가 {@code windowSize + 1} 미만이면 스킵(콜드스타트).</li>
- *   <li>가장 최근(직전 마감) 버킷을 롤링 베이스라인 대비 판정한다.</li>
- *   <li>이상이면 인시던트 생성/refire, 정상이면서 직전 K개가 모두 정상이면 자동 해제한다.</li>
+ *   <li>모든 대상 metric 의 버킷을 <b>조회 한 번</b>으로 읽는다 — metric 마다 마지막으로 본 버킷부터.
+ *       처음 보는 metric(기동 직후)만 {@code windowSize + resolveStreakK} 개 히스토리를 읽는다.</li>
+ *   <li>마지막으로 본 버킷이 그새 다시 쓰였으면(늦은 신호, 재적재) 그 metric 만 히스토리를 다시 읽어
+ *       베이스라인을 새로 만든다.</li>
+ *   <li>metric 별로 병렬로({@code anomalyScanExecutor}) 새 버킷을 하나씩 베이스라인 대비 판정하며
+ *       창에 넣는다({@link MetricBaselineTracker}). 창은 베이스라인 전략이 만든다. 창이 차기 전(콜드스타트)이면 스킵.</li>
+ *   <li>새 판정이 있으면 가장 최근 버킷 기준으로 인시던트 생성/refire, 정상이면서 직전 K개가 모두 정상이면
+ *       자동 해제한다. 새 버킷이 없는 metric 은 반영하지 않는다(스캔 주기가 짧아도 refire 가 늘지 않는다).</li>
  * </ol>
  *
- * <p>한 metric 의 실패는 다른 metric 을 막지 않는다(건별 try). 동시 경쟁(중복 INSERT/낙관적 락)은
- * 새 트랜잭션 재시도로 refire 수렴 — 스캐너는 단일 스레드라 실제 경쟁은 드물지만 견고성을 유지한다.
+ * <p>한 metric 의 실패는 다른 metric 을 막지 않는다(건별 try) — 반영에 실패한 판정은 다음 스캔이 다시 반영한다.
+ * 동시 경쟁(중복 INSERT/낙관적 락)은 새 트랜잭션 재시도로 refire 수렴.
  */
 @Service
 public class AnomalyDetectionService implements DetectAnomaliesUseCase {
@@ -49,18 +61,26 @@ public class AnomalyDetectionService implements DetectAnomaliesUseCase {
     private final AnomalyIncidentApplier applier;
     private final OpsProperties properties;
     private final Clock clock;
+    private final Executor scanExecutor;
+    /**
+     * metric_key → 스캔 사이 베이스라인. 스캔은 직렬화되고({@code synchronized}) 스캔 안에서는
+     * metric 마다 한 스레드만 만진다.
+     */
+    private final Map<String, MetricBaselineTracker> trackers = new ConcurrentHashMap<>();
 
     public AnomalyDetectionService(LoadMetricSeriesPort loadMetricSeriesPort, AnomalyEvaluator evaluator,
-                                   AnomalyIncidentApplier applier, OpsProperties properties, Clock clock) {
+                                   AnomalyIncidentApplier applier, OpsProperties properties, Clock clock,
+                                   @Qualifier("anomalyScanExecutor") Executor scanExecutor) {
         this.loadMetricSeriesPort = loadMetricSeriesPort;
         this.evaluator = evaluator;
         this.applier = applier;
         this.properties = properties;
         this.clock = clock;
+        this.scanExecutor = scanExecutor;
     }
 
     @Override
-    public DetectionSummary detectOnce() {
+    public synchronized DetectionSummary detectOnce() {
         OpsProperties.Anomaly cfg = properties.getAnomaly();
         AnomalyThreshold threshold = new AnomalyThreshold(
                 cfg.getZThreshold(), cfg.getCriticalZThreshold(), cfg.getWindowSize(),
@@ -72,74 +92,111 @@ public class AnomalyDetectionService implements DetectAnomaliesUseCase {
         Instant currentFloor = BucketWindow.floor(now, bucketSeconds);
         int limit = threshold.windowSize() + threshold.resolveStreakK();
 
-        int scanned = 0, opened = 0, refired = 0, resolved = 0, skipped = 0;
+        Map<String, SignalCategory> targets = new LinkedHashMap<>();
+        cfg.getMetricCategory().forEach((metricKey, categoryName) ->
+                targets.put(metricKey, resolveCategory(metricKey, categoryName)));
+        trackers.keySet().retainAll(targets.keySet());
 
-        for (Map.Entry<String, String> entry : cfg.getMetricCategory().entrySet()) {
-            String metricKey = entry.getKey();
-            SignalCategory category = resolveCategory(metricKey, entry.getValue());
-            try {
-                Optional<Outcome> result = scanMetric(metricKey, category, threshold, currentFloor, now, limit);
-                if (result.isEmpty()) {
-                    skipped++;
-                    continue;
-                }
-                scanned++;
-                switch (result.get()) {
-                    case OPENED -> opened++;
-                    case REFIRED -> refired++;
-                    case AUTO_RESOLVED -> resolved++;
-                    case NONE -> { /* 정상 유지 — 집계 대상 아님 */ }
-                }
-            } catch (Exception e) {
-                log.error("이상 탐지 metric 처리 실패 — 다른 metric 계속: metric={}", metricKey, e);
-            }
+        Map<String, List<ClosedBucket>> fresh;
+        try {
+            fresh = loadNewBuckets(targets.keySet(), threshold, currentFloor, limit);
+        } catch (Exception e) {
+            log.error("이상 탐지 시계열 조회 실패 — 이번 스캔 건너뜀: metrics={}", targets.size(), e);
+            return new DetectionSummary(0, 0, 0, 0, targets.size());
         }
 
-        if (opened + refired + resolved > 0) {
+        Tally tally = new Tally();
+        List<CompletableFuture<Void>> scans = new ArrayList<>(targets.size());
+        targets.forEach((metricKey, category) -> scans.add(CompletableFuture.runAsync(
+                () -> scanMetric(metricKey, category, fresh.getOrDefault(metricKey, List.of()), threshold, now, tally),
+                scanExecutor)));
+        CompletableFuture.allOf(scans.toArray(CompletableFuture[]::new)).join();
+
+        DetectionSummary summary = tally.toSummary();
+        if (summary.opened() + summary.refired() + summary.resolved() > 0) {
             log.info("이상 탐지 스캔 완료: scanned={} opened={} refired={} resolved={} skipped={}",
-                    scanned, opened, refired, resolved, skipped);
+                    summary.scanned(), summary.opened(), summary.refired(), summary.resolved(), summary.skipped());
         }
-        return new DetectionSummary(scanned, opened, refired, resolved, skipped);
+        return summary;
     }
 
-    private Optional<Outcome> scanMetric(String metricKey, SignalCategory category, AnomalyThreshold t,
-                                         Instant currentFloor, Instant now, int limit) {
-        List<MetricBucket> series = loadMetricSeriesPort.loadClosedBuckets(metricKey, currentFloor, limit);
-        int m = series.size();
-        int w = t.windowSize();
-        if (m < w + 1) {
-            log.debug("히스토리 부족 — 판정 스킵: metric={} buckets={} (필요 {})", metricKey, m, w + 1);
-            return Optional.empty();
+    /**
+     * metric 마다 아직 판정하지 않은 버킷을 고른다. 이어 붙일 수 없는 metric(처음 보거나, 마지막 버킷이
+     * 다시 쓰였거나 limit 에 밀려 잘린)은 베이스라인을 새로 만들고 히스토리 전체를 돌려준다.
+     */
+    private Map<String, List<ClosedBucket>> loadNewBuckets(Iterable<String> metricKeys, AnomalyThreshold t,
+                                                           Instant currentFloor, int limit) {
+        Map<String, Instant> from = new LinkedHashMap<>();
+        for (String metricKey : metricKeys) {
+            MetricBaselineTracker tracker = trackers.get(metricKey);
+            from.put(metricKey, tracker == null ? Instant.EPOCH : tracker.resumeFrom());
         }
-
-        AnomalyDecision current = evaluateAt(series, m - 1, w, t);
-        boolean resolveEligible = !current.isAnomaly() && isNormalStreak(series, w, t, t.resolveStreakK());
-
-        return Optional.of(applyWithConflictRetry(metricKey, category, current, resolveEligible, now));
+        Map<String, List<ClosedBucket>> loaded = loadMetricSeriesPort.loadClosedBuckets(from, currentFloor, limit);
+
+        Map<String, List<ClosedBucket>> fresh = new HashMap<>();
+        Map<String, Instant> rebuild = new LinkedHashMap<>();
+        from.forEach((metricKey, since) -> {
+            List<ClosedBucket> rows = loaded.getOrDefault(metricKey, List.of());
+            MetricBaselineTracker tracker = trackers.get(metricKey);
+            if (tracker == null || tracker.isEmpty()) {
+                trackers.putIfAbsent(metricKey, newTracker(t));
+                fresh.put(metricKey, rows);
+            } else if (tracker.continuesWith(rows)) {
+                fresh.put(metricKey, rows.subList(1, rows.size()));
+            } else {
+                log.debug("마지막 버킷이 바뀌어 베이스라인을 다시 만든다: metric={} tail={}", metricKey, since);
+                rebuild.put(metricKey, Instant.EPOCH);
+            }
+        });
+        if (!rebuild.isEmpty()) {
+            Map<String, List<ClosedBucket>> reloaded =
+                    loadMetricSeriesPort.loadClosedBuckets(rebuild, currentFloor, limit);
+            rebuild.keySet().forEach(metricKey -> {
+                trackers.put(metricKey, newTracker(t));
+                fresh.put(metricKey, reloaded.getOrDefault(metricKey, List.of()));
+            });
+        }
+        return fresh;
     }
 
-    /** series[index] 를 그 직전 windowSize 개 버킷의 failure_rate 베이스라인으로 판정. index >= windowSize 전제. */
-    private AnomalyDecision evaluateAt(List<MetricBucket> series, int index, int windowSize, AnomalyThreshold t) {
-        MetricBucket target = series.get(index);
-        double[] window = new double[windowSize];
-        for (int k = 0; k < windowSize; k++) {
-            window[k] = series.get(index - windowSize + k).failureRate();
+    private void scanMetric(String metricKey, SignalCategory category, List<ClosedBucket> fresh,
+                            AnomalyThreshold t, Instant now, Tally tally) {
+        try {
+            Optional<Outcome> result = evaluateAndApply(metricKey, category, fresh, t, now);
+            if (result.isEmpty()) {
+                tally.skipped.incrementAndGet();
+                return;
+            }
+            tally.scanned.incrementAndGet();
+            switch (result.get()) {
+                case OPENED -> tally.opened.incrementAndGet();
+                case REFIRED -> tally.refired.incrementAndGet();
+                case AUTO_RESOLVED -> tally.resolved.incrementAndGet();
+                case NONE -> { /* 정상 유지 — 집계 대상 아님 */ }
+            }
+        } catch (Exception e) {
+            log.error("이상 탐지 metric 처리 실패 — 다른 metric 계속: metric={}", metricKey, e);
         }
-        return evaluator.evaluate(target.failureRate(), target.countTotal(), window, t);
     }
 
-    /** 직전 K개 버킷이 모두 정상(게이트 미충족)이어야 자동 해제 자격 — 각 버킷은 자기 직전 윈도우로 재판정. */
-    private boolean isNormalStreak(List<MetricBucket> series, int windowSize, AnomalyThreshold t, int k) {
-        int m = series.size();
-        if (m < windowSize + k) {
-            return false; // K개 연속을 증명할 히스토리가 없음 — 보수적으로 유지(해제 안 함)
+    private Optional<Outcome> evaluateAndApply(String metricKey, SignalCategory category, List<ClosedBucket> fresh,
+                                               AnomalyThreshold t, Instant now) {
+        MetricBaselineTracker tracker = trackers.get(metricKey);
+        tracker.ingest(fresh, evaluator, t);
+        if (!tracker.hasPendingApply()) {
+            return Optional.empty(); // 새로 마감된 버킷 없음 — 직전 스캔의 반영이 그대로 유효
         }
-        for (int s = 0; s < k; s++) {
-            if (evaluateAt(series, m - 1 - s, windowSize, t).isAnomaly()) {
-                return false;
-            }
+        AnomalyDecision current = tracker.latestDecision();
+        if (current == null) {
+            log.debug("히스토리 부족 — 판정 스킵: metric={} (필요 {})", metricKey, t.windowSize() + 1);
+            tracker.markApplied();
+            return Optional.empty();
         }
-        return true;
+        boolean resolveEligible = !current.isAnomaly() && tracker.isNormalStreak();
+
+        Outcome outcome = applyWithConflictRetry(metricKey, category, current, resolveEligible, now);
+        tracker.markApplied();
+        return Optional.of(outcome);
     }
 
     private Outcome applyWithConflictRetry(String metricKey, SignalCategory category,
@@ -165,4 +222,23 @@ public class AnomalyDetectionService implements DetectAnomaliesUseCase {
             return SignalCategory.UNKNOWN;
         }
     }
+
+    /** 병렬 판정의 집계 — metric 마다 다른 스레드가 센다. */
+    private static final class Tally {
+
+        private final AtomicInteger scanned = new AtomicInteger();
+        private final AtomicInteger opened = new AtomicInteger();
+        private final AtomicInteger refired = new AtomicInteger();
+        private final AtomicInteger resolved = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+
+        DetectionSummary toSummary() {
+            return new DetectionSummary(scanned.get(), opened.get(), refired.get(), resolved.get(), skipped.get());
+        }
+    }
+
+    /** 창은 평가기의 베이스라인 전략이 만든다 — 전략 빈을 바꾸면 판정도 따라 바뀐다. */
+    private MetricBaselineTracker newTracker(AnomalyThreshold t) {
+        return new MetricBaselineTracker(evaluator.newWindow(t.windowSize()), t.resolveStreakK());
+    }
 }
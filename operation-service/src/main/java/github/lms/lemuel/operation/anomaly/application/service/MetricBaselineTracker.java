@@ -0,0 +1,99 @@
+package github.lms.lemuel.operation.anomaly.application.service;
+
+import github.lms.lemuel.operation.anomaly.application.port.out.LoadMetricSeriesPort.ClosedBucket;
+import github.lms.lemuel.operation.anomaly.domain.AnomalyDecision;
+import github.lms.lemuel.operation.anomaly.domain.AnomalyEvaluator;
+import github.lms.lemuel.operation.anomaly.domain.AnomalyThreshold;
+import github.lms.lemuel.operation.anomaly.domain.BaselineWindow;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * metric 하나의 스캔 사이 상태 — 롤링 베이스라인, 직전 K개 판정, 마지막으로 본 버킷.
+ *
+ * <p>버킷은 들어올 때 <b>한 번만</b> 판정한다: 지금 창(직전 windowSize 개)에 대고 판정한 다음 창에 넣는다.
+ * 매 스캔 히스토리 전체를 읽어 버킷마다 창을 다시 세던 것과 판정은 같고, 새 버킷이 없으면 할 일이 없다.
+ *
+ * <p>창은 평가기의 베이스라인 전략이 만든다({@link AnomalyEvaluator#newWindow}) — 전략 빈을 바꾸면 이 창도,
+ * 그 위의 판정도 바뀐다.
+ *
+ * <p>메모리에만 있다 — 재시작하면 {@link AnomalyDetectionService} 가 히스토리를 다시 읽어 새로 만든다.
+ * 한 metric 은 한 스캔에서 한 스레드만 만지므로 잠그지 않는다(스캔 사이 가시성은 스캔 합류가 보장).
+ */
+final class MetricBaselineTracker {
+
+    private final BaselineWindow window;
+    private final int resolveStreakK;
+    /** 창이 찬 뒤 판정된 최근 버킷들(최대 K개) — 창이 차면 계속 차 있으니 늘 최신 버킷까지 이어진다. */
+    private final Deque<AnomalyDecision> recent = new ArrayDeque<>();
+    private AnomalyDecision latest;
+    private Instant tailStart;
+    private Instant tailUpdatedAt;
+    /** 새로 판정된 버킷을 아직 인시던트에 반영하지 못했다 — 반영이 실패하면 다음 스캔이 다시 시도한다. */
+    private boolean pendingApply;
+
+    MetricBaselineTracker(BaselineWindow window, int resolveStreakK) {
+        this.window = window;
+        this.resolveStreakK = resolveStreakK;
+    }
+
+    /** 아직 버킷을 하나도 받지 못했다(버킷이 없는 metric) — 다음 조회도 처음부터 받는다. */
+    boolean isEmpty() {
+        return tailStart == null;
+    }
+
+    /** 다음 조회의 시작 시각 — 마지막으로 본 버킷부터 다시 받아 그 버킷이 그대로인지 본다. */
+    Instant resumeFrom() {
+        return isEmpty() ? Instant.EPOCH : tailStart;
+    }
+
+    /**
+     * 이번 조회 결과가 들고 있는 상태에 이어지는가 — 첫 행이 마지막으로 본 버킷 그대로여야 한다.
+     * 늦은 신호로 그 버킷이 다시 쓰였거나, 지워졌거나, limit 에 밀려 잘렸으면 이어 붙일 수 없다.
+     */
+    boolean continuesWith(List<ClosedBucket> rows) {
+        if (rows.isEmpty()) {
+            return false;
+        }
+        ClosedBucket first = rows.getFirst();
+        return first.bucket().bucketStart().equals(tailStart) && first.updatedAt().equals(tailUpdatedAt);
+    }
+
+    /** 오름차순 새 버킷들을 판정하며 창에 넣는다. */
+    void ingest(List<ClosedBucket> rows, AnomalyEvaluator evaluator, AnomalyThreshold t) {
+        for (ClosedBucket row : rows) {
+            if (window.isFull()) {
+                latest = evaluator.evaluate(row.bucket().failureRate(), row.bucket().countTotal(), window.baseline(), t);
+                recent.addLast(latest);
+                if (recent.size() > resolveStreakK) {
+                    recent.removeFirst();
+                }
+            }
+            window.push(row.bucket().failureRate());
+            tailStart = row.bucket().bucketStart();
+            tailUpdatedAt = row.updatedAt();
+            pendingApply = true;
+        }
+    }
+
+    boolean hasPendingApply() {
+        return pendingApply;
+    }
+
+    void markApplied() {
+        pendingApply = false;
+    }
+
+    /** 가장 최근 버킷의 판정. 창이 차기 전(콜드스타트)이면 null. */
+    AnomalyDecision latestDecision() {
+        return latest;
+    }
+
+    /** 직전 K개 버킷이 모두 판정됐고 모두 정상이어야 자동 해제 자격 — 증명할 히스토리가 없으면 해제 안 함. */
+    boolean isNormalStreak() {
+        return recent.size() == resolveStreakK && recent.stream().noneMatch(AnomalyDecision::isAnomaly);
+    }
+}
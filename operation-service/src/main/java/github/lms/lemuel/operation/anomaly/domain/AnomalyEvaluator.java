@@ -26,8 +26,22 @@ public class AnomalyEvaluator {
     }
 
     public AnomalyDecision evaluate(double failureRate, long countTotal, double[] baselineWindow, AnomalyThreshold t) {
-        Baseline baseline = baselineStrategy.compute(baselineWindow);
+        return evaluate(failureRate, countTotal, baselineStrategy.compute(baselineWindow), t);
+    }
+
+    /**
+     * 스캔 사이에 들고 있을 창 — 주입된 전략이 만든다. 이 창의 {@link BaselineWindow#baseline()} 을
+     * 아래 {@link #evaluate(double, long, Baseline, AnomalyThreshold)} 에 넘기면 전략을 거친 판정이 된다.
+     */
+    public BaselineWindow newWindow(int capacity) {
+        return baselineStrategy.newWindow(capacity);
+    }
 
+    /**
+     * 이미 산정된 베이스라인으로 판정한다 — 스캔 사이에 창을 유지하는 호출자({@link BaselineWindow})가
+     * 창을 배열로 다시 펼치지 않게.
+     */
+    public AnomalyDecision evaluate(double failureRate, long countTotal, Baseline baseline, AnomalyThreshold t) {
         if (baseline.isDegenerate()) {
             return normal(0.0, baseline, failureRate, countTotal,
                     "베이스라인 변동 없음(stddev=0 또는 표본부족) — 판정 스킵");
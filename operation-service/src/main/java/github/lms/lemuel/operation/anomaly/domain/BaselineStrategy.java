@@ -14,4 +14,16 @@ public interface BaselineStrategy {
      * @return 평균·표준편차·표본수
      */
     Baseline compute(double[] window);
+
+    /**
+     * 스캔 사이에 들고 있을 빈 창 — 탐지 서비스는 이 창으로 판정하므로, 전략을 바꾸면 판정도 바뀐다.
+     *
+     * <p>기본은 판정마다 창을 펼쳐 {@link #compute} 를 다시 부른다. 값 하나씩 갱신하는 식이 있는 전략만
+     * 재정의한다({@link RollingWindowBaseline}).
+     *
+     * @param capacity 창 크기(직전 N개)
+     */
+    default BaselineWindow newWindow(int capacity) {
+        return new RecomputingBaselineWindow(this, capacity);
+    }
 }
@@ -0,0 +1,19 @@
+package github.lms.lemuel.operation.anomaly.domain;
+
+/**
+ * 스캔 사이에 들고 있는 관측 창 — 값을 시간순으로 넣고, 지금 창(직전 N개)의 베이스라인을 낸다.
+ *
+ * <p>{@link BaselineStrategy#newWindow} 가 만든다. 전략마다 창을 유지하는 방법이 다르므로 창도 전략이
+ * 정한다 — 롤링윈도우는 값 하나마다 O(1) 로 갱신하고({@link RollingWindowStats}), 그런 갱신식이 없는
+ * 전략은 판정마다 창을 펼쳐 {@link BaselineStrategy#compute} 를 다시 부른다.
+ */
+public interface BaselineWindow {
+
+    boolean isFull();
+
+    /** 시간순 다음 값을 넣는다. 창이 차 있으면 가장 오래된 값이 빠진다. */
+    void push(double value);
+
+    /** 지금 창의 베이스라인. 같은 창을 {@link BaselineStrategy#compute} 에 준 것과 같아야 한다. */
+    Baseline baseline();
+}
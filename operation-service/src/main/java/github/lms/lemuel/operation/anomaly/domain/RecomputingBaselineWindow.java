@@ -0,0 +1,46 @@
+package github.lms.lemuel.operation.anomaly.domain;
+
+/**
+ * 증분 갱신식이 없는 전략의 창 — 값은 링에 담아 두고, 베이스라인을 물을 때마다 창을 시간순으로 펼쳐
+ * 전략의 {@link BaselineStrategy#compute} 를 그대로 부른다. 판정당 O(N) 이지만 결과는 전략 그 자체다.
+ */
+final class RecomputingBaselineWindow implements BaselineWindow {
+
+    private final BaselineStrategy strategy;
+    private final double[] ring;
+    private int size;
+    /** 다음에 쓸 칸 — 창이 찬 뒤에는 가장 오래된 값의 칸이다. */
+    private int next;
+
+    RecomputingBaselineWindow(BaselineStrategy strategy, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.strategy = strategy;
+        this.ring = new double[capacity];
+    }
+
+    @Override
+    public boolean isFull() {
+        return size == ring.length;
+    }
+
+    @Override
+    public void push(double value) {
+        ring[next] = value;
+        next = (next + 1) % ring.length;
+        if (size < ring.length) {
+            size++;
+        }
+    }
+
+    @Override
+    public Baseline baseline() {
+        int oldest = isFull() ? next : 0;
+        double[] window = new double[size];
+        for (int i = 0; i < size; i++) {
+            window[i] = ring[(oldest + i) % ring.length];
+        }
+        return strategy.compute(window);
+    }
+}
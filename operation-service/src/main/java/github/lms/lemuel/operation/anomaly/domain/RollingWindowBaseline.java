@@ -30,4 +30,10 @@ public class RollingWindowBaseline implements BaselineStrategy {
 
         return new Baseline(mean, stddev, n);
     }
+
+    /** 같은 결과를 값 하나당 O(1) 로 낸다. */
+    @Override
+    public BaselineWindow newWindow(int capacity) {
+        return new RollingWindowStats(capacity);
+    }
 }
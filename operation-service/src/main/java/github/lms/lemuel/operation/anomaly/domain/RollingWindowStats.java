@@ -0,0 +1,92 @@
+package github.lms.lemuel.operation.anomaly.domain;
+
+/**
+ * 고정 크기 롤링 윈도우의 평균·모표준편차를 값 하나 넣을 때마다 O(1) 로 갱신한다(Welford).
+ *
+ * <p>{@link RollingWindowBaseline} 은 판정마다 창 전체를 두 번 훑는다. 스캔 사이에 창을 들고 있으면
+ * 새 버킷 하나가 들어오고 가장 오래된 하나가 나가는 것만 반영하면 된다 — 창이 차기 전에는 Welford 추가,
+ * 찬 뒤에는 같은 n 에서 값 교체(mean' = mean + (x − y)/n, M2' = M2 + (x − y)(x − mean' + y − mean)).
+ *
+ * <p><b>결과는 {@link RollingWindowBaseline} 과 같아야 한다.</b> 더하고 빼기를 반복하면 마지막 자리 오차가
+ * 남는데, 특히 변동이 창에서 빠져나가 값이 모두 같아졌을 때 stddev 가 0 이 아니라 1e-17 같은 값이 되면
+ * 퇴화 게이트({@link Baseline#isDegenerate()})를 지나쳐 z 가 폭주한다. 그래서 창이 한 바퀴 돌 때마다,
+ * 그리고 M2 가 오차 수준으로 작아졌을 때 창을 두 번 훑어 정확히 다시 맞춘다 — 계산 순서까지
+ * {@link RollingWindowBaseline} 과 같아 상수 창의 stddev 는 정확히 0 이 된다.
+ */
+public final class RollingWindowStats implements BaselineWindow {
+
+    /** 이보다 작은 M2 는 누적 오차와 구별할 수 없다 — 창을 다시 훑어 정확한 값으로 맞춘다. */
+    private static final double RESYNC_M2 = 1e-12;
+
+    private final double[] ring;
+    private int size;
+    /** 다음에 쓸 칸 — 창이 찬 뒤에는 가장 오래된 값의 칸이다. */
+    private int next;
+    private int pushesSinceResync;
+    private double mean;
+    private double m2;
+
+    public RollingWindowStats(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.ring = new double[capacity];
+    }
+
+    @Override
+    public boolean isFull() {
+        return size == ring.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void push(double value) {
+        if (isFull()) {
+            double leaving = ring[next];
+            double oldMean = mean;
+            mean += (value - leaving) / size;
+            m2 += (value - leaving) * (value - mean + leaving - oldMean);
+        } else {
+            size++;
+            double delta = value - mean;
+            mean += delta / size;
+            m2 += delta * (value - mean);
+        }
+        ring[next] = value;
+        next = (next + 1) % ring.length;
+        if (++pushesSinceResync == ring.length) {
+            resync();
+        }
+    }
+
+    /** 지금 창의 베이스라인. {@link RollingWindowBaseline#compute} 에 같은 창을 준 것과 같다. */
+    @Override
+    public Baseline baseline() {
+        if (size == 0) {
+            return new Baseline(0.0, 0.0, 0);
+        }
+        if (m2 < RESYNC_M2) {
+            resync();
+        }
+        return new Baseline(mean, Math.sqrt(m2 / size), size);
+    }
+
+    private void resync() {
+        int oldest = isFull() ? next : 0;
+        double sum = 0.0;
+        for (int i = 0; i < size; i++) {
+            sum += ring[(oldest + i) % ring.length];
+        }
+        mean = sum / size;
+        double sqDiff = 0.0;
+        for (int i = 0; i < size; i++) {
+            double d = ring[(oldest + i) % ring.length] - mean;
+            sqDiff += d * d;
+        }
+        m2 = sqDiff;
+        pushesSinceResync = 0;
+    }
+}
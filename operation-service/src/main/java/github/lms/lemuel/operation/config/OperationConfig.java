@@ -5,6 +5,8 @@ import github.lms.lemuel.operation.anomaly.domain.BaselineStrategy;
 import github.lms.lemuel.operation.anomaly.domain.RollingWindowBaseline;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 
 import java.time.Clock;
 
@@ -20,7 +22,8 @@ public class OperationConfig {
 
     /**
      * Phase 3 베이스라인 전략 — 롤링윈도우 1종만 등록(계절성은 인터페이스로 선점).
-     * 순수 도메인 객체라 config(조립 계층)에서 조립한다.
+     * 순수 도메인 객체라 config(조립 계층)에서 조립한다. 탐지 스캔이 들고 있는 창도 이 전략이 만들므로
+     * ({@link BaselineStrategy#newWindow}) 이 빈을 바꾸면 운영 판정이 바뀐다.
      */
     @Bean
     public BaselineStrategy baselineStrategy() {
@@ -32,4 +35,16 @@ public class OperationConfig {
     public AnomalyEvaluator anomalyEvaluator(BaselineStrategy baselineStrategy) {
         return new AnomalyEvaluator(baselineStrategy);
     }
+
+    /**
+     * 이상 탐지 metric 판정 실행기 — 가상 스레드, 동시 실행은 {@code app.ops.anomaly.scan-parallelism} 까지.
+     * 반영 트랜잭션이 커넥션 풀을 다 가져가지 않도록 상한을 두고, 넘치면 제출한 스캐너 스레드가 기다린다.
+     */
+    @Bean(name = "anomalyScanExecutor")
+    public TaskExecutor anomalyScanExecutor(OpsProperties properties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ops-anomaly-scan-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(properties.getAnomaly().getScanParallelism());
+        return executor;
+    }
 }
@@ -94,6 +94,10 @@ public class OpsProperties {
         private Map<String, String> topics = new HashMap<>();
         /** 버킷 폭(초). 5분=300. Phase 3 베이스라인 단위와 일치해야 한다. */
         private int bucketSeconds = 300;
+        /** 메모리에 모인 버킷을 DB 에 내려보내는 주기(ms). Kafka 오프셋 커밋도 이만큼 늦는다. */
+        private long flushIntervalMs = 1_000;
+        /** 주기 전이라도 내려보내는 모인 신호 수. 반영이 실패한 채 이를 넘으면 버린다(통계 손실). */
+        private long maxPendingEvents = 50_000;
 
         public Map<String, String> getTopics() {
             return topics;
@@ -110,6 +114,22 @@ public class OpsProperties {
         public void setBucketSeconds(int bucketSeconds) {
             this.bucketSeconds = bucketSeconds;
         }
+
+        public long getFlushIntervalMs() {
+            return flushIntervalMs;
+        }
+
+        public void setFlushIntervalMs(long flushIntervalMs) {
+            this.flushIntervalMs = flushIntervalMs;
+        }
+
+        public long getMaxPendingEvents() {
+            return maxPendingEvents;
+        }
+
+        public void setMaxPendingEvents(long maxPendingEvents) {
+            this.maxPendingEvents = maxPendingEvents;
+        }
     }
 
     /**
@@ -121,8 +141,13 @@ public class OpsProperties {
     public static class Anomaly {
         /** 스캐너 빈 토글 — 로컬/테스트 기본 off (Prometheus 폴러와 동일). */
         private boolean enabled = false;
-        /** 스캔 주기(ms). 버킷 폭(5분)과 일치. */
-        private long scanIntervalMs = 300_000;
+        /**
+         * 스캔 주기(ms). 스캔은 마지막으로 본 버킷 이후만 읽고 새로 마감된 버킷만 판정하므로 버킷 폭(5분)보다
+         * 훨씬 짧게 잡아도 된다 — 짧을수록 버킷이 마감된 뒤 판정까지의 지연이 준다.
+         */
+        private long scanIntervalMs = 10_000;
+        /** metric 판정·인시던트 반영을 동시에 돌리는 최대 수 — 반영마다 DB 커넥션 하나를 쓴다. */
+        private int scanParallelism = 4;
         /** 롤링 베이스라인 윈도우 크기(직전 버킷 수). 12 = 1시간. */
         private int windowSize = 12;
         /** 이상으로 볼 z-score 하한. */
@@ -154,6 +179,14 @@ public class OpsProperties {
             this.scanIntervalMs = scanIntervalMs;
         }
 
+        public int getScanParallelism() {
+            return scanParallelism;
+        }
+
+        public void setScanParallelism(int scanParallelism) {
+            this.scanParallelism = scanParallelism;
+        }
+
         public int getWindowSize() {
             return windowSize;
         }
@@ -25,6 +25,10 @@ import java.time.Instant;
  *
  * <p>버킷 시각은 Kafka record timestamp(발행 시각 근사)를 쓴다 — 페이로드 파싱 없이
  * 카운트만 하므로 스키마 변화에 견고하다.
+ *
+ * <p>ack 는 곧바로 하지 않고 {@link RecordSignalUseCase#afterFlush} 에 건다. 기록은 노드 메모리에 모였다가
+ * 묶어 내려가므로, 그보다 먼저 커밋하면 그 사이에 죽었을 때 커밋된 레코드의 카운트가 사라진다.
+ * 반영 스레드에서 부른 ack 는 리스너 컨테이너가 받아 두었다가 컨슈머 스레드에서 커밋한다.
  */
 @Component
 @ConditionalOnProperty(name = "app.kafka.enabled", havingValue = "true")
@@ -66,8 +70,10 @@ public class DomainEventSignalConsumer {
             // 버킷 적재 실패는 통계 손실일 뿐이므로 ack 로 진행(무한 재시도로 컨슈머를 막지 않음).
             log.warn("신호 버킷 적재 실패 — 스킵: metricKey={} topic={} offset={}",
                     metricKey, record.topic(), record.offset(), e);
-        } finally {
             ack.acknowledge();
+            return;
         }
+        // 기록은 메모리에 모였을 뿐이다 — 오프셋은 DB 에 내려간 뒤에 커밋한다.
+        recordSignalUseCase.afterFlush(ack::acknowledge);
     }
 }
@@ -22,6 +22,7 @@ import java.time.Instant;
  *
  * <p>버킷 시각은 envelope 의 {@code occurredAt} 을 우선 쓰고, 없으면 record timestamp 로 폴백한다.
  * Phase 2a 성공 컨슈머와 동일하게 멱등 미적용(통계 5분 버킷) + 적재 실패해도 ack(컨슈머 정지 방지).
+ * 정상 기록의 ack 는 버킷이 DB 에 내려간 뒤로 미룬다(DomainEventSignalConsumer 와 같다).
  */
 @Component
 @ConditionalOnProperty(name = "app.kafka.enabled", havingValue = "true")
@@ -80,9 +81,10 @@ public class OpsFailureSignalConsumer {
         } catch (Exception e) {
             log.warn("실패 신호 버킷 적재 실패 — 스킵: metricKey={} topic={} offset={}",
                     metricKey, record.topic(), record.offset(), e);
-        } finally {
             ack.acknowledge();
+            return;
         }
+        recordSignalUseCase.afterFlush(ack::acknowledge);
     }
 
     /** envelope.occurredAt 우선, 파싱 실패/부재 시 Kafka record timestamp 폴백. */
@@ -0,0 +1,26 @@
+package github.lms.lemuel.operation.signal.adapter.in.scheduler;
+
+import github.lms.lemuel.operation.signal.application.port.in.FlushSignalBucketsUseCase;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리에 모인 신호 버킷을 주기적으로 DB 에 내려보낸다.
+ *
+ * <p>Kafka 컨슈머의 오프셋 커밋이 이 반영 뒤에 일어나므로, 주기가 곧 커밋 지연이다. 실패 처리(되돌려
+ * 쌓기·상한 초과 시 버림)는 {@link FlushSignalBucketsUseCase} 구현이 맡는다.
+ */
+@Component
+public class SignalFlushScheduler {
+
+    private final FlushSignalBucketsUseCase flushSignalBucketsUseCase;
+
+    public SignalFlushScheduler(FlushSignalBucketsUseCase flushSignalBucketsUseCase) {
+        this.flushSignalBucketsUseCase = flushSignalBucketsUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${app.ops.signal.flush-interval-ms:1000}")
+    public void flush() {
+        flushSignalBucketsUseCase.flush();
+    }
+}
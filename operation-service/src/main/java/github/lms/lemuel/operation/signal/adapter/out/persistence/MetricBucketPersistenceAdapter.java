@@ -1,18 +1,48 @@
 package github.lms.lemuel.operation.signal.adapter.out.persistence;
 
+import github.lms.lemuel.common.batch.MultiRowUpsert;
 import github.lms.lemuel.operation.signal.application.port.out.UpsertMetricBucketPort;
+import github.lms.lemuel.operation.signal.domain.MetricBucket;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Types;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
 
 @Component
 public class MetricBucketPersistenceAdapter implements UpsertMetricBucketPort {
 
+    /** 한 문장의 최대 행 수 — 행당 파라미터 7개. */
+    static final int ROWS_PER_STATEMENT = 500;
+
+    // GREATEST 는 NULL 을 건너뛴다 — 게이지 표본이 없는 누적분(value_max NULL)은 기존 피크를 그대로 둔다.
+    private static final MultiRowUpsert<MetricBucket> UPSERT = new MultiRowUpsert<>("""
+            INSERT INTO opslab.ops_metric_bucket AS b
+                (metric_key, bucket_start, count_total, count_signal, value_sum, value_max, sample_count, updated_at)
+            VALUES\s""", "(?, ?, ?, ?, ?, ?, ?, NOW())", """
+             ON CONFLICT (metric_key, bucket_start) DO UPDATE
+            SET count_total  = b.count_total  + EXCLUDED.count_total,
+                count_signal = b.count_signal + EXCLUDED.count_signal,
+                value_sum    = b.value_sum    + EXCLUDED.value_sum,
+                value_max    = GREATEST(b.value_max, EXCLUDED.value_max),
+                sample_count = b.sample_count + EXCLUDED.sample_count,
+                updated_at   = NOW()
+            """, ROWS_PER_STATEMENT,
+            Comparator.comparing(MetricBucket::metricKey).thenComparing(MetricBucket::bucketStart),
+            MetricBucketPersistenceAdapter::bind);
+
     private final SpringDataMetricBucketRepository repository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public MetricBucketPersistenceAdapter(SpringDataMetricBucketRepository repository) {
+    public MetricBucketPersistenceAdapter(SpringDataMetricBucketRepository repository, JdbcTemplate jdbcTemplate) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -26,4 +56,25 @@ public class MetricBucketPersistenceAdapter implements UpsertMetricBucketPort {
     public void accumulateGauge(String metricKey, Instant bucketStart, double value) {
         repository.upsertGauge(metricKey, bucketStart, value);
     }
+
+    /**
+     * 다중 행 VALUES 로 누적한다({@link MultiRowUpsert}). 행은 (metric_key, bucket_start) 순으로 잠근다 — 여러 노드가
+     * 겹치는 버킷을 동시에 내려보내도 교착이 생기지 않는다.
+     */
+    @Override
+    @Transactional
+    public void upsertAll(List<MetricBucket> deltas) {
+        UPSERT.execute(jdbcTemplate, deltas);
+    }
+
+    private static void bind(MetricBucket delta, List<Object> args) {
+        args.add(delta.metricKey());
+        args.add(OffsetDateTime.ofInstant(delta.bucketStart(), ZoneOffset.UTC));
+        args.add(delta.countTotal());
+        args.add(delta.countSignal());
+        args.add(delta.valueSum());
+        // null 이어도 타입을 밝혀 둔다 — 다중 행 VALUES 에서 타입 없는 NULL 은 추론이 흔들린다.
+        args.add(new SqlParameterValue(Types.DOUBLE, delta.valueMax()));
+        args.add(delta.sampleCount());
+    }
 }
@@ -0,0 +1,14 @@
+package github.lms.lemuel.operation.signal.application.port.in;
+
+/**
+ * 메모리에 모인 신호 버킷을 DB 에 내려보내는 유스케이스 — 스케줄러가 주기적으로 부른다.
+ */
+public interface FlushSignalBucketsUseCase {
+
+    /**
+     * 모인 누적분을 한 번에 UPSERT 하고, 그 사이 걸린 {@link RecordSignalUseCase#afterFlush} 콜백을 부른다.
+     *
+     * @return 내려보낸 버킷(행) 수
+     */
+    int flush();
+}
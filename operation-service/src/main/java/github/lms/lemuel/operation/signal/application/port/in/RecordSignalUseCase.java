@@ -7,6 +7,9 @@ import java.time.Instant;
  *
  * <p>Kafka 컨슈머(카운터)와 Prometheus 폴러(게이지)가 공용한다. 버킷 정렬·UPSERT 는 구현이 맡고,
  * 호출자는 "무슨 신호가 언제 얼마" 만 넘긴다.
+ *
+ * <p>기록은 노드 메모리에 모였다가 주기적으로 DB 에 내려간다. 그래서 기록이 돌아왔다고 DB 에 있는 것이
+ * 아니다 — 내려간 뒤에 할 일(Kafka 오프셋 커밋)은 {@link #afterFlush} 에 건다.
  */
 public interface RecordSignalUseCase {
 
@@ -27,4 +30,12 @@ public interface RecordSignalUseCase {
      * @param observedAt 관측 시각 (버킷 정렬 기준)
      */
     void recordGauge(String metricKey, double value, Instant observedAt);
+
+    /**
+     * 지금까지 기록한 신호가 DB 에 내려간 뒤 {@code callback} 을 부른다 — 등록한 순서대로.
+     *
+     * <p>Kafka 컨슈머가 오프셋 커밋을 여기에 건다. 커밋이 반영보다 앞서면 그 사이에 노드가 죽었을 때
+     * 커밋된 레코드의 카운트가 사라진다. callback 은 컨슈머 스레드가 아닌 곳에서 불릴 수 있다.
+     */
+    void afterFlush(Runnable callback);
 }
@@ -1,12 +1,18 @@
 package github.lms.lemuel.operation.signal.application.port.out;
 
+import github.lms.lemuel.operation.signal.domain.MetricBucket;
+
 import java.time.Instant;
+import java.util.List;
 
 /**
  * 신호 버킷 UPSERT 아웃바운드 포트 — (metric_key, bucket_start) 충돌 시 누적 갱신.
  *
  * <p>동시 다중 컨슈머/폴러가 같은 버킷에 몰려도 DB 원자 UPSERT(ON CONFLICT DO UPDATE)로
  * 경쟁 없이 누적된다. 앱 레벨 락 불필요.
+ *
+ * <p>운영 적재는 {@link #upsertAll} 하나로 한다. 건별 두 메서드는 같은 누적 의미의 기준이다 —
+ * 묶음 적재가 건별 적재와 같은 합계를 내는지 대조할 때 쓴다.
  */
 public interface UpsertMetricBucketPort {
 
@@ -19,4 +25,12 @@ public interface UpsertMetricBucketPort {
      * 게이지 표본 누적: value_sum += value, value_max = max(value_max, value), sample_count += 1.
      */
     void accumulateGauge(String metricKey, Instant bucketStart, double value);
+
+    /**
+     * 누적분 여러 버킷을 한 문장으로 더한다 — 각 행의 count·sum·sample 은 더하고 value_max 는 큰 쪽을 남긴다.
+     * {@code valueMax} 가 null 이면(게이지 표본 없음) 기존 피크를 건드리지 않는다.
+     *
+     * <p>한 묶음 안에 같은 (metricKey, bucketStart) 가 두 번 오면 안 된다.
+     */
+    void upsertAll(List<MetricBucket> deltas);
 }
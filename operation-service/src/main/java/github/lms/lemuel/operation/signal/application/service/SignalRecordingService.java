@@ -1,40 +1,235 @@
 package github.lms.lemuel.operation.signal.application.service;
 
 import github.lms.lemuel.operation.config.OpsProperties;
+import github.lms.lemuel.operation.signal.application.port.in.FlushSignalBucketsUseCase;
 import github.lms.lemuel.operation.signal.application.port.in.RecordSignalUseCase;
 import github.lms.lemuel.operation.signal.application.port.out.UpsertMetricBucketPort;
 import github.lms.lemuel.operation.signal.domain.BucketWindow;
+import github.lms.lemuel.operation.signal.domain.MetricBucket;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 /**
- * 신호 1건을 5분 버킷으로 정렬해 UPSERT 누적한다.
+ * 신호를 5분 버킷으로 정렬해 <b>노드 메모리에서 먼저 합친 뒤</b> 한 번에 UPSERT 한다.
  *
- * <p>트랜잭션을 두지 않는다 — 단일 원자 UPSERT 라 컨슈머의 @Transactional(있으면) 경계에
- * 그대로 얹히거나, 폴러의 독립 호출로도 안전하다. 통계 버킷이라 at-least-once 중복은 허용
- * (드문 재전송이 5분 카운트를 거의 흔들지 않음 — Phase 3 는 상대임계+z-score 로 노이즈에 강건).
+ * <p>건마다 UPSERT 하던 때는 이벤트가 몰리면 같은 몇 개의 버킷 행(지금 5분의 payment·order…)에 행 잠금이
+ * 줄을 섰다. 이제 (metric_key, bucket_start) 별 누적분을 모아 두었다가 다음 때에 내려보낸다.
+ * <ul>
+ *   <li>주기마다({@code app.ops.signal.flush-interval-ms}) — 스케줄러가 부른다.</li>
+ *   <li>버킷이 닫힐 때 — 새 버킷의 첫 신호가 오면 곧바로. 이상 탐지는 마감된 버킷만 읽으므로 닫힌 버킷이
+ *       주기만큼 늦게 채워지지 않게 한다.</li>
+ *   <li>모인 신호가 {@code max-pending-events} 에 닿을 때.</li>
+ * </ul>
+ *
+ * <p><b>Kafka 오프셋은 반영 뒤에 커밋된다.</b> 컨슈머는 기록 후 ack 를 {@link #afterFlush} 에 걸고,
+ * 그 ack 는 자기 신호가 든 창이 DB 에 내려간 다음에 불린다. 기록 → 등록 순서라 ack 가 자기 신호보다
+ * 앞 창에 들어가는 일은 없다(뒤 창에 들어가 한 바퀴 늦게 커밋될 수는 있다 — 무해하다).
+ *
+ * <p>반영이 실패하면 누적분과 ack 를 다음 창 앞에 되돌려 다시 시도한다. 다만 모인 신호가 상한을 넘은
+ * 채로 또 실패하면 버리고 ack 한다 — 통계 버킷 손실로 컨슈머를 막지 않는다는 기존 원칙 그대로다.
+ * 정상 종료 때는 빈 소멸 단계에서 한 번 더 내려보낸다. 그때는 리스너 컨테이너가 이미 멈춰 ack 가
+ * 커밋되지 못할 수 있는데, 그러면 재기동 후 다시 읽어 조금 더 센다(at-least-once — 허용).
  */
 @Service
-public class SignalRecordingService implements RecordSignalUseCase {
+public class SignalRecordingService implements RecordSignalUseCase, FlushSignalBucketsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(SignalRecordingService.class);
 
     private final UpsertMetricBucketPort upsertPort;
     private final int bucketSeconds;
+    private final long maxPendingEvents;
+
+    /** 기록은 읽기 잠금으로 함께, 창 교체만 쓰기 잠금 — 교체된 옛 창에 늦게 쓰는 기록이 없게 한다. */
+    private final ReentrantReadWriteLock windowLock = new ReentrantReadWriteLock();
+    private Window window = new Window();
+    /** 지금까지 본 가장 늦은 버킷(epoch 초) — 이보다 늦은 버킷이 오면 앞 버킷이 닫힌 것이다. */
+    private final AtomicLong latestBucket = new AtomicLong(Long.MIN_VALUE);
 
     public SignalRecordingService(UpsertMetricBucketPort upsertPort, OpsProperties properties) {
         this.upsertPort = upsertPort;
         this.bucketSeconds = properties.getSignal().getBucketSeconds();
+        this.maxPendingEvents = properties.getSignal().getMaxPendingEvents();
     }
 
     @Override
     public void recordEvent(String metricKey, boolean signal, Instant occurredAt) {
-        Instant bucket = BucketWindow.floor(occurredAt, bucketSeconds);
-        upsertPort.incrementEvent(metricKey, bucket, signal);
+        accumulate(metricKey, BucketWindow.floor(occurredAt, bucketSeconds), bucket -> bucket.addEvent(signal));
     }
 
     @Override
     public void recordGauge(String metricKey, double value, Instant observedAt) {
-        Instant bucket = BucketWindow.floor(observedAt, bucketSeconds);
-        upsertPort.accumulateGauge(metricKey, bucket, value);
+        accumulate(metricKey, BucketWindow.floor(observedAt, bucketSeconds), bucket -> bucket.addGauge(value));
+    }
+
+    @Override
+    public void afterFlush(Runnable callback) {
+        windowLock.readLock().lock();
+        try {
+            window.callbacks.add(callback);
+        } finally {
+            windowLock.readLock().unlock();
+        }
+    }
+
+    private void accumulate(String metricKey, Instant bucketStart, Consumer<Accumulator> update) {
+        long pending;
+        windowLock.readLock().lock();
+        try {
+            Accumulator bucket = window.buckets.computeIfAbsent(new BucketKey(metricKey, bucketStart),
+                    key -> new Accumulator());
+            synchronized (bucket) {
+                update.accept(bucket);
+            }
+            pending = window.events.incrementAndGet();
+        } finally {
+            windowLock.readLock().unlock();
+        }
+        long epochSecond = bucketStart.getEpochSecond();
+        long previous = latestBucket.getAndAccumulate(epochSecond, Math::max);
+        boolean bucketClosed = previous != Long.MIN_VALUE && epochSecond > previous;
+        if (bucketClosed || pending == maxPendingEvents) {
+            flush();
+        }
+    }
+
+    @Override
+    public synchronized int flush() {
+        Window drained;
+        windowLock.writeLock().lock();
+        try {
+            drained = window;
+            window = new Window();
+        } finally {
+            windowLock.writeLock().unlock();
+        }
+
+        List<MetricBucket> deltas = drained.toDeltas();
+        if (!deltas.isEmpty()) {
+            try {
+                upsertPort.upsertAll(deltas);
+            } catch (RuntimeException e) {
+                if (drained.events.get() < maxPendingEvents) {
+                    restore(drained);
+                    log.warn("신호 버킷 반영 실패 — 다음 바퀴에 다시 시도: 버킷 {}건, 신호 {}건",
+                            deltas.size(), drained.events.get(), e);
+                    return 0;
+                }
+                log.error("신호 버킷 반영 실패 — 대기 상한을 넘어 버리고 진행(통계 손실): 버킷 {}건, 신호 {}건",
+                        deltas.size(), drained.events.get(), e);
+            }
+        }
+        drained.callbacks.forEach(SignalRecordingService::runQuietly);
+        return deltas.size();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        int flushed = flush();
+        log.info("종료 전 신호 버킷 반영: {}건", flushed);
+    }
+
+    /** 실패한 창을 지금 창 앞에 붙인다 — ack 순서가 뒤집히면 커밋 오프셋이 뒤로 간다. */
+    private void restore(Window failed) {
+        windowLock.writeLock().lock();
+        try {
+            failed.absorb(window);
+            window = failed;
+        } finally {
+            windowLock.writeLock().unlock();
+        }
+    }
+
+    private static void runQuietly(Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            log.warn("신호 반영 후 콜백 실패 — 다음 콜백은 계속", e);
+        }
+    }
+
+    /** 아직 내려보내지 않은 신호 수 — 테스트용. */
+    long pendingEvents() {
+        windowLock.readLock().lock();
+        try {
+            return window.events.get();
+        } finally {
+            windowLock.readLock().unlock();
+        }
+    }
+
+    private record BucketKey(String metricKey, Instant bucketStart) {
+    }
+
+    /** 한 번에 내려보낼 단위 — 교체 후에는 flush 스레드만 만진다. */
+    private static final class Window {
+
+        private final Map<BucketKey, Accumulator> buckets = new ConcurrentHashMap<>();
+        private final Queue<Runnable> callbacks = new ConcurrentLinkedQueue<>();
+        private final AtomicLong events = new AtomicLong();
+
+        List<MetricBucket> toDeltas() {
+            List<MetricBucket> deltas = new ArrayList<>(buckets.size());
+            buckets.forEach((key, bucket) -> deltas.add(bucket.toDelta(key)));
+            return deltas;
+        }
+
+        /** {@code later} 의 누적분과 콜백을 뒤에 덧붙인다. */
+        void absorb(Window later) {
+            later.buckets.forEach((key, bucket) -> buckets.merge(key, bucket, Accumulator::merge));
+            callbacks.addAll(later.callbacks);
+            events.addAndGet(later.events.get());
+        }
+    }
+
+    /** 버킷 하나의 누적분 — ops_metric_bucket 한 행에 더할 값. 갱신은 인스턴스 잠금 안에서. */
+    private static final class Accumulator {
+
+        private long countTotal;
+        private long countSignal;
+        private double valueSum;
+        private Double valueMax;
+        private long sampleCount;
+
+        void addEvent(boolean signal) {
+            countTotal++;
+            if (signal) {
+                countSignal++;
+            }
+        }
+
+        void addGauge(double value) {
+            valueSum += value;
+            valueMax = valueMax == null ? value : Math.max(valueMax, value);
+            sampleCount++;
+        }
+
+        Accumulator merge(Accumulator other) {
+            countTotal += other.countTotal;
+            countSignal += other.countSignal;
+            valueSum += other.valueSum;
+            if (other.valueMax != null) {
+                valueMax = valueMax == null ? other.valueMax : Math.max(valueMax, other.valueMax);
+            }
+            sampleCount += other.sampleCount;
+            return this;
+        }
+
+        MetricBucket toDelta(BucketKey key) {
+            return new MetricBucket(key.metricKey(), key.bucketStart(),
+                    countTotal, countSignal, valueSum, valueMax, sampleCount);
+        }
     }
 }
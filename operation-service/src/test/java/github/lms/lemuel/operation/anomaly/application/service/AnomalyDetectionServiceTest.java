@@ -5,6 +5,8 @@ import github.lms.lemuel.operation.anomaly.application.port.out.LoadMetricSeries
 import github.lms.lemuel.operation.anomaly.application.service.AnomalyIncidentApplier.Outcome;
 import github.lms.lemuel.operation.anomaly.domain.AnomalyDecision;
 import github.lms.lemuel.operation.anomaly.domain.AnomalyEvaluator;
+import github.lms.lemuel.operation.anomaly.domain.Baseline;
+import github.lms.lemuel.operation.anomaly.domain.BaselineStrategy;
 import github.lms.lemuel.operation.anomaly.domain.RollingWindowBaseline;
 import github.lms.lemuel.operation.config.OpsProperties;
 import github.lms.lemuel.operation.incident.domain.SignalCategory;
@@ -18,30 +20,39 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AnomalyDetectionServiceTest {
 
-    private LoadMetricSeriesPort loadPort;
+    private static final Instant SERIES_START = Instant.parse("2026-07-11T00:00:00Z");
+
+    private InMemorySeries loadPort;
     private AnomalyIncidentApplier applier;
+    private OpsProperties props;
     private AnomalyDetectionService service;
 
     @BeforeEach
     void setUp() {
-        loadPort = mock(LoadMetricSeriesPort.class);
+        loadPort = new InMemorySeries();
         applier = mock(AnomalyIncidentApplier.class);
 
-        OpsProperties props = new OpsProperties();
+        props = new OpsProperties();
         OpsProperties.Anomaly cfg = props.getAnomaly();
         cfg.setWindowSize(3);
         cfg.setZThreshold(3.0);
@@ -51,44 +62,52 @@ class AnomalyDetectionServiceTest {
         cfg.setResolveStreakK(2);
         cfg.getMetricCategory().put("settlement", "SETTLEMENT_FAILURE");
 
+        service = service(Runnable::run);
+    }
+
+    private AnomalyDetectionService service(Executor executor) {
+        return service(executor, new RollingWindowBaseline());
+    }
+
+    private AnomalyDetectionService service(Executor executor, BaselineStrategy strategy) {
         Clock clock = Clock.fixed(Instant.parse("2026-07-12T00:00:00Z"), ZoneOffset.UTC);
-        AnomalyEvaluator evaluator = new AnomalyEvaluator(new RollingWindowBaseline());
-        service = new AnomalyDetectionService(loadPort, evaluator, applier, props, clock);
+        AnomalyEvaluator evaluator = new AnomalyEvaluator(strategy);
+        return new AnomalyDetectionService(loadPort, evaluator, applier, props, clock, executor);
     }
 
-    /** total=100, signal = fr*100 인 카운터 버킷. bucketStart 는 판정에 무관하므로 순번만 다르게 둔다. */
-    private static MetricBucket bucket(int index, double failureRate) {
+    /** total=100, signal = fr*100 인 카운터 버킷. 순번마다 5분씩 뒤다. */
+    private static MetricBucket bucket(String metricKey, int index, double failureRate) {
         long total = 100;
         long signal = Math.round(failureRate * total);
-        return new MetricBucket("settlement", Instant.parse("2026-07-11T00:00:00Z").plusSeconds(index * 300L),
-                total, signal, 0, null, 0);
+        return new MetricBucket(metricKey, SERIES_START.plusSeconds(index * 300L), total, signal, 0, null, 0);
     }
 
-    private static List<MetricBucket> series(double... frs) {
-        List<MetricBucket> list = new ArrayList<>();
+    private void seed(String metricKey, double... frs) {
+        int offset = loadPort.rows.getOrDefault(metricKey, List.of()).size();
         for (int i = 0; i < frs.length; i++) {
-            list.add(bucket(i, frs[i]));
+            loadPort.write(bucket(metricKey, offset + i, frs[i]));
         }
-        return list;
+    }
+
+    private AnomalyDecision verifyAppliedOnce(ArgumentCaptor<Boolean> resolveCaptor) {
+        ArgumentCaptor<AnomalyDecision> decisionCaptor = ArgumentCaptor.forClass(AnomalyDecision.class);
+        verify(applier).apply(eq("settlement"), eq(SignalCategory.SETTLEMENT_FAILURE),
+                decisionCaptor.capture(), resolveCaptor.capture(), any());
+        return decisionCaptor.getValue();
     }
 
     @Test
     @DisplayName("실패율 급증 → applier 에 ANOMALY 결정 전달, opened 집계")
     void spike_opensIncident() {
         // 베이스라인 3버킷(변동 있는 저실패율) + 급증 1버킷
-        when(loadPort.loadClosedBuckets(eq("settlement"), any(), anyInt()))
-                .thenReturn(series(0.01, 0.02, 0.03, 0.40));
+        seed("settlement", 0.01, 0.02, 0.03, 0.40);
         when(applier.apply(eq("settlement"), eq(SignalCategory.SETTLEMENT_FAILURE), any(), anyBoolean(), any()))
                 .thenReturn(Outcome.OPENED);
 
         DetectionSummary summary = service.detectOnce();
 
-        ArgumentCaptor<AnomalyDecision> decisionCaptor = ArgumentCaptor.forClass(AnomalyDecision.class);
         ArgumentCaptor<Boolean> resolveCaptor = ArgumentCaptor.forClass(Boolean.class);
-        verify(applier).apply(eq("settlement"), eq(SignalCategory.SETTLEMENT_FAILURE),
-                decisionCaptor.capture(), resolveCaptor.capture(), any());
-
-        assertThat(decisionCaptor.getValue().isAnomaly()).isTrue();
+        assertThat(verifyAppliedOnce(resolveCaptor).isAnomaly()).isTrue();
         assertThat(resolveCaptor.getValue()).isFalse();   // 이상일 땐 해제 자격 계산 안 함
         assertThat(summary.opened()).isEqualTo(1);
         assertThat(summary.scanned()).isEqualTo(1);
@@ -97,8 +116,7 @@ class AnomalyDetectionServiceTest {
     @Test
     @DisplayName("히스토리 부족(windowSize+1 미만) → 판정 스킵, applier 미호출")
     void insufficientHistory_isSkipped() {
-        when(loadPort.loadClosedBuckets(eq("settlement"), any(), anyInt()))
-                .thenReturn(series(0.02, 0.03));   // 2버킷 < windowSize(3)+1
+        seed("settlement", 0.02, 0.03);   // 2버킷 < windowSize(3)+1
 
         DetectionSummary summary = service.detectOnce();
 
@@ -111,20 +129,166 @@ class AnomalyDetectionServiceTest {
     @DisplayName("정상 + 직전 K버킷 모두 정상 → applier 에 resolveEligible=true 전달")
     void normalStreak_marksResolveEligible() {
         // 5버킷(=windowSize3+K2) 모두 floor(0.10) 미만 → 전부 NORMAL, 최근 2개 정상 연속
-        when(loadPort.loadClosedBuckets(eq("settlement"), any(), anyInt()))
-                .thenReturn(series(0.01, 0.02, 0.03, 0.02, 0.02));
+        seed("settlement", 0.01, 0.02, 0.03, 0.02, 0.02);
         when(applier.apply(eq("settlement"), eq(SignalCategory.SETTLEMENT_FAILURE), any(), anyBoolean(), any()))
                 .thenReturn(Outcome.AUTO_RESOLVED);
 
         DetectionSummary summary = service.detectOnce();
 
-        ArgumentCaptor<AnomalyDecision> decisionCaptor = ArgumentCaptor.forClass(AnomalyDecision.class);
         ArgumentCaptor<Boolean> resolveCaptor = ArgumentCaptor.forClass(Boolean.class);
-        verify(applier).apply(eq("settlement"), eq(SignalCategory.SETTLEMENT_FAILURE),
-                decisionCaptor.capture(), resolveCaptor.capture(), any());
-
-        assertThat(decisionCaptor.getValue().isAnomaly()).isFalse();
+        assertThat(verifyAppliedOnce(resolveCaptor).isAnomaly()).isFalse();
         assertThat(resolveCaptor.getValue()).isTrue();
         assertThat(summary.resolved()).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("새로 마감된 버킷이 없으면 마지막 버킷 한 행만 읽고 다시 반영하지 않는다")
+    void noNewBucket_isNotReapplied() {
+        seed("settlement", 0.01, 0.02, 0.03, 0.40);
+        when(applier.apply(any(), any(), any(), anyBoolean(), any())).thenReturn(Outcome.OPENED);
+        service.detectOnce();
+
+        DetectionSummary second = service.detectOnce();
+
+        verify(applier, times(1)).apply(any(), any(), any(), anyBoolean(), any());
+        assertThat(second.skipped()).isEqualTo(1);
+        assertThat(loadPort.calls.get(1)).containsEntry("settlement", SERIES_START.plusSeconds(3 * 300L));
+        assertThat(loadPort.returnedRows.get(1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이어 받은 새 버킷의 판정은 히스토리 전체로 처음부터 판정한 것과 같다")
+    void incrementalDecisionMatchesFullRebuild() {
+        seed("settlement", 0.01, 0.02, 0.03, 0.02, 0.04);
+        when(applier.apply(any(), any(), any(), anyBoolean(), any())).thenReturn(Outcome.NONE);
+        service.detectOnce();
+        seed("settlement", 0.35);
+
+        service.detectOnce();
+        ArgumentCaptor<AnomalyDecision> incremental = ArgumentCaptor.forClass(AnomalyDecision.class);
+        verify(applier, times(2)).apply(any(), any(), incremental.capture(), anyBoolean(), any());
+
+        service(Runnable::run).detectOnce();   // 재시작 — 히스토리를 다시 읽어 만든다
+        ArgumentCaptor<AnomalyDecision> rebuilt = ArgumentCaptor.forClass(AnomalyDecision.class);
+        verify(applier, times(3)).apply(any(), any(), rebuilt.capture(), anyBoolean(), any());
+
+        assertThat(incremental.getAllValues().get(1).isAnomaly()).isTrue();
+        assertThat(incremental.getAllValues().get(1)).isEqualTo(rebuilt.getAllValues().get(2));
+    }
+
+    @Test
+    @DisplayName("베이스라인 전략 빈을 바꾸면 판정도 바뀐다 — 스캔이 들고 있는 창도 전략이 만든다")
+    void baselineStrategyDrivesDecisions() {
+        // 롤링윈도우로는 평소 변동 안(0.20 안팎)이지만, 기준선을 0.00±0.01 로 고정한 전략에서는 급증이다
+        seed("settlement", 0.20, 0.21, 0.22, 0.21);
+        when(applier.apply(any(), any(), any(), anyBoolean(), any())).thenReturn(Outcome.NONE);
+        BaselineStrategy fixed = window -> new Baseline(0.0, 0.01, window.length);
+
+        service.detectOnce();
+        service(Runnable::run, fixed).detectOnce();
+
+        ArgumentCaptor<AnomalyDecision> decisions = ArgumentCaptor.forClass(AnomalyDecision.class);
+        verify(applier, times(2)).apply(any(), any(), decisions.capture(), anyBoolean(), any());
+        assertThat(decisions.getAllValues().get(0).isAnomaly()).isFalse();
+        assertThat(decisions.getAllValues().get(1).isAnomaly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막으로 본 버킷이 다시 쓰이면 그 metric 만 히스토리를 다시 읽어 새로 판정한다")
+    void rewrittenTailRebuildsBaseline() {
+        seed("settlement", 0.01, 0.02, 0.03, 0.40);
+        when(applier.apply(any(), any(), any(), anyBoolean(), any())).thenReturn(Outcome.OPENED, Outcome.NONE);
+        service.detectOnce();
+
+        loadPort.write(bucket("settlement", 3, 0.02));   // 늦은 신호로 마지막 버킷이 다시 쓰였다
+
+        service.detectOnce();
+        ArgumentCaptor<AnomalyDecision> decisions = ArgumentCaptor.forClass(AnomalyDecision.class);
+        verify(applier, times(2)).apply(any(), any(), decisions.capture(), anyBoolean(), any());
+        assertThat(decisions.getAllValues().get(1).isAnomaly()).isFalse();
+        assertThat(loadPort.calls.get(2)).containsEntry("settlement", Instant.EPOCH);
+    }
+
+    @Test
+    @DisplayName("버킷이 없던 metric 은 버킷이 생기면 처음부터 판정한다")
+    void metricWithoutBucketsStartsFromScratchLater() {
+        assertThat(service.detectOnce().skipped()).isEqualTo(1);
+        seed("settlement", 0.01, 0.02, 0.03, 0.40);
+        when(applier.apply(any(), any(), any(), anyBoolean(), any())).thenReturn(Outcome.OPENED);
+
+        assertThat(service.detectOnce().opened()).isEqualTo(1);
+        assertThat(loadPort.calls).allMatch(call -> call.get("settlement").equals(Instant.EPOCH));
+    }
+
+    @Test
+    @DisplayName("반영이 실패한 판정은 새 버킷이 없어도 다음 스캔이 다시 반영한다")
+    void failedApplyIsRetriedNextScan() {
+        seed("settlement", 0.01, 0.02, 0.03, 0.40);
+        when(applier.apply(any(), any(), any(), anyBoolean(), any()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(Outcome.OPENED);
+
+        assertThat(service.detectOnce().opened()).isZero();
+        DetectionSummary second = service.detectOnce();
+
+        assertThat(second.opened()).isEqualTo(1);
+        verify(applier, times(2)).apply(any(), any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("여러 metric 을 조회 한 번으로 읽고 병렬로 판정한다")
+    void metricsAreLoadedOnceAndEvaluatedInParallel() {
+        List<String> metrics = List.of("settlement", "payment", "stock", "shipping", "refund", "coupon");
+        metrics.forEach(metric -> {
+            props.getAnomaly().getMetricCategory().put(metric, "SETTLEMENT_FAILURE");
+            seed(metric, 0.01, 0.02, 0.03, 0.40);
+        });
+        when(applier.apply(any(), any(), any(), anyBoolean(), any())).thenReturn(Outcome.OPENED);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            DetectionSummary summary = service(pool).detectOnce();
+
+            assertThat(summary.opened()).isEqualTo(metrics.size());
+            assertThat(loadPort.calls).hasSize(1);
+            metrics.forEach(metric -> verify(applier).apply(eq(metric), any(), any(), anyBoolean(), any()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** ops_metric_bucket 조회를 메모리로 옮긴 것 — 다시 쓰면 updated_at 이 바뀐다. */
+    private static final class InMemorySeries implements LoadMetricSeriesPort {
+
+        private final Map<String, List<ClosedBucket>> rows = new HashMap<>();
+        private final List<Map<String, Instant>> calls = new ArrayList<>();
+        private final List<Integer> returnedRows = new ArrayList<>();
+        private long version;
+
+        synchronized void write(MetricBucket bucket) {
+            List<ClosedBucket> series = rows.computeIfAbsent(bucket.metricKey(), k -> new ArrayList<>());
+            series.removeIf(row -> row.bucket().bucketStart().equals(bucket.bucketStart()));
+            series.add(new ClosedBucket(bucket, Instant.parse("2026-07-12T00:00:00Z").plusMillis(++version)));
+            series.sort((a, b) -> a.bucket().bucketStart().compareTo(b.bucket().bucketStart()));
+        }
+
+        @Override
+        public synchronized Map<String, List<ClosedBucket>> loadClosedBuckets(Map<String, Instant> fromInclusive,
+                                                                              Instant before, int limit) {
+            calls.add(Map.copyOf(fromInclusive));
+            Map<String, List<ClosedBucket>> result = new LinkedHashMap<>();
+            int returned = 0;
+            for (Map.Entry<String, Instant> entry : fromInclusive.entrySet()) {
+                List<ClosedBucket> matched = rows.getOrDefault(entry.getKey(), List.of()).stream()
+                        .filter(row -> !row.bucket().bucketStart().isBefore(entry.getValue()))
+                        .filter(row -> row.bucket().bucketStart().isBefore(before))
+                        .toList();
+                if (!matched.isEmpty()) {
+                    result.put(entry.getKey(), matched.subList(Math.max(0, matched.size() - limit), matched.size()));
+                    returned += result.get(entry.getKey()).size();
+                }
+            }
+            returnedRows.add(returned);
+            return result;
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package github.lms.lemuel.operation.anomaly.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecomputingBaselineWindowTest {
+
+    /** 받은 창을 그대로 적어 두고, 가장 최근 값을 평균 자리에 돌려주는 전략 — 증분 창을 재정의하지 않는다. */
+    private static final class LastValueStrategy implements BaselineStrategy {
+
+        private final List<double[]> seen = new ArrayList<>();
+
+        @Override
+        public Baseline compute(double[] window) {
+            seen.add(window.clone());
+            return window.length == 0
+                    ? new Baseline(0.0, 0.0, 0)
+                    : new Baseline(window[window.length - 1], 1.0, window.length);
+        }
+    }
+
+    @Test
+    @DisplayName("증분 창이 없는 전략은 판정마다 직전 N개를 시간순으로 펼쳐 compute 를 다시 부른다")
+    void defaultWindowRecomputesThroughStrategy() {
+        LastValueStrategy strategy = new LastValueStrategy();
+        BaselineWindow window = strategy.newWindow(3);
+
+        for (double value : new double[]{1, 2, 3, 4, 5}) {
+            window.push(value);
+        }
+
+        assertThat(window.isFull()).isTrue();
+        assertThat(window.baseline().mean()).isEqualTo(5.0);
+        assertThat(strategy.seen).containsExactly(new double[]{3, 4, 5});
+    }
+
+    @Test
+    @DisplayName("창이 차기 전에는 들어온 만큼만 넘긴다")
+    void partialWindow() {
+        LastValueStrategy strategy = new LastValueStrategy();
+        BaselineWindow window = strategy.newWindow(3);
+        window.push(7);
+
+        assertThat(window.isFull()).isFalse();
+        assertThat(window.baseline().sampleSize()).isEqualTo(1);
+        assertThat(strategy.seen).containsExactly(new double[]{7});
+    }
+
+    @Test
+    @DisplayName("롤링윈도우 전략은 같은 결과를 O(1) 로 내는 증분 창을 돌려준다")
+    void rollingWindowUsesIncrementalStats() {
+        assertThat(new RollingWindowBaseline().newWindow(3)).isInstanceOf(RollingWindowStats.class);
+    }
+}
@@ -0,0 +1,62 @@
+package github.lms.lemuel.operation.anomaly.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RollingWindowStatsTest {
+
+    private final RollingWindowBaseline reference = new RollingWindowBaseline();
+
+    @Test
+    @DisplayName("값을 밀어 넣을 때마다 같은 창을 통째로 다시 센 것과 같다")
+    void matchesFullRecomputeOnEveryPush() {
+        Random random = new Random(46);
+        int capacity = 12;
+        RollingWindowStats stats = new RollingWindowStats(capacity);
+        double[] series = new double[2_000];
+        for (int i = 0; i < series.length; i++) {
+            // 낮은 실패율에 가끔 급증이 섞인다
+            series[i] = random.nextInt(20) == 0 ? 0.3 + random.nextDouble() : random.nextDouble() * 0.05;
+            stats.push(series[i]);
+
+            double[] window = Arrays.copyOfRange(series, Math.max(0, i + 1 - capacity), i + 1);
+            Baseline expected = reference.compute(window);
+            Baseline actual = stats.baseline();
+            assertThat(actual.sampleSize()).isEqualTo(expected.sampleSize());
+            assertThat(actual.mean()).isCloseTo(expected.mean(), within(1e-12));
+            assertThat(actual.stddev()).isCloseTo(expected.stddev(), within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("변동이 창에서 빠져나가 상수 창이 되면 stddev 는 정확히 0 — 퇴화 게이트가 그대로 선다")
+    void constantWindowAfterVarianceLeavesIsExactlyDegenerate() {
+        RollingWindowStats stats = new RollingWindowStats(4);
+        for (double v : new double[]{0.9, 0.01, 0.4, 0.07, 0.03, 0.03, 0.03, 0.03}) {
+            stats.push(v);
+        }
+
+        Baseline b = stats.baseline();
+        assertThat(b.mean()).isEqualTo(0.03);
+        assertThat(b.stddev()).isZero();
+        assertThat(b.isDegenerate()).isTrue();
+    }
+
+    @Test
+    @DisplayName("창이 차기 전에는 들어온 만큼만 센다")
+    void partialWindow() {
+        RollingWindowStats stats = new RollingWindowStats(8);
+        stats.push(2);
+        stats.push(4);
+
+        assertThat(stats.isFull()).isFalse();
+        assertThat(stats.baseline()).isEqualTo(new Baseline(3.0, 1.0, 2));
+        assertThat(new RollingWindowStats(3).baseline().isDegenerate()).isTrue();
+    }
+}
@@ -175,7 +175,8 @@ class AnomalyDetectionIntegrationTest {
         assertThat(anomalyIncidents("settlement").getFirst().getStatus())
                 .isEqualTo(IncidentStatus.OPEN);
 
-        // Phase B: 버킷을 정상 시계열로 교체(최근 K개 포함 전부 정상) 후 재스캔
+        // Phase B: 버킷을 정상 시계열로 교체(최근 K개 포함 전부 정상) 후 재스캔.
+        // 스캐너가 들고 있던 마지막 버킷이 다시 쓰였으므로(updated_at) 히스토리를 다시 읽어 베이스라인을 새로 만든다.
         jdbcTemplate.update("DELETE FROM opslab.ops_metric_bucket");
         Instant latest2 = latestClosedBucketStart();
         seedNormalBaseline("settlement", latest2, WINDOW + K);   // windowSize+K 만큼 정상
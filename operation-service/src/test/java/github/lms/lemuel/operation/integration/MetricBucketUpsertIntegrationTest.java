@@ -19,6 +19,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
@@ -119,4 +120,39 @@ class MetricBucketUpsertIntegrationTest {
         assertThat(repository.count()).isEqualTo(3);
         assertThat(load("order").countTotal()).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("다중 행 묶음 UPSERT 는 같은 신호를 건별로 넣은 것과 같은 행을 만든다 — 기존 행 위에 누적해도")
+    void upsertAllMatchesPerEventPath() {
+        // 건별 경로: payment(카운터 4건, 실패 1) + kafka.lag.max(게이지 3건)
+        upsertPort.incrementEvent("payment", BUCKET, false);
+        upsertPort.incrementEvent("payment", BUCKET, true);
+        upsertPort.incrementEvent("payment", BUCKET, false);
+        upsertPort.incrementEvent("payment", BUCKET, false);
+        upsertPort.accumulateGauge("kafka.lag.max", BUCKET, 100.0);
+        upsertPort.accumulateGauge("kafka.lag.max", BUCKET, 500.0);
+        upsertPort.accumulateGauge("kafka.lag.max", BUCKET, 300.0);
+
+        // 묶음 경로: 같은 신호를 두 번에 나눠 — 두 번째는 이미 있는 행 위에 누적, 게이지 없는 누적분은 피크를 두고 간다.
+        upsertPort.upsertAll(List.of(
+                new MetricBucket("order", BUCKET, 1, 0, 0.0, null, 0),
+                new MetricBucket("lag", BUCKET, 0, 0, 600.0, 500.0, 2)));
+        upsertPort.upsertAll(List.of(
+                new MetricBucket("order", BUCKET, 3, 1, 0.0, null, 0),
+                new MetricBucket("lag", BUCKET, 0, 0, 300.0, 300.0, 1),
+                new MetricBucket("lag", BUCKET.plusSeconds(300), 2, 0, 0.0, null, 0)));
+
+        assertSameTotals(load("order"), load("payment"));
+        assertSameTotals(load("lag"), load("kafka.lag.max"));
+        assertThat(repository.findById(new MetricBucketId("lag", BUCKET.plusSeconds(300))).orElseThrow()
+                .toDomain().valueMax()).isNull();
+    }
+
+    private static void assertSameTotals(MetricBucket aggregated, MetricBucket perEvent) {
+        assertThat(aggregated.countTotal()).isEqualTo(perEvent.countTotal());
+        assertThat(aggregated.countSignal()).isEqualTo(perEvent.countSignal());
+        assertThat(aggregated.valueSum()).isCloseTo(perEvent.valueSum(), within(1e-9));
+        assertThat(aggregated.valueMax()).isEqualTo(perEvent.valueMax());
+        assertThat(aggregated.sampleCount()).isEqualTo(perEvent.sampleCount());
+    }
 }
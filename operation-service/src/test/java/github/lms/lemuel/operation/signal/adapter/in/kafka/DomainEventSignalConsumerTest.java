@@ -4,6 +4,7 @@ import github.lms.lemuel.operation.signal.application.port.in.RecordSignalUseCas
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
@@ -14,6 +15,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +33,16 @@ class DomainEventSignalConsumerTest {
         return r;
     }
 
+    /** 기록 직후에는 ack 하지 않고, 반영 뒤 콜백으로 건 ack 가 불려야 커밋된다. */
+    private void verifyAckDeferredToFlush() {
+        ArgumentCaptor<Runnable> afterFlush = ArgumentCaptor.forClass(Runnable.class);
+        verify(recordSignalUseCase).afterFlush(afterFlush.capture());
+        verify(ack, never()).acknowledge();
+
+        afterFlush.getValue().run();
+        verify(ack).acknowledge();
+    }
+
     @Test
     void order_created_는_order_분모를_record_timestamp_로_올리고_ack_한다() {
         long ts = Instant.parse("2026-07-07T06:03:00Z").toEpochMilli();
@@ -39,7 +51,7 @@ class DomainEventSignalConsumerTest {
 
         verify(recordSignalUseCase).recordEvent(DomainEventSignalConsumer.METRIC_ORDER, false,
                 Instant.ofEpochMilli(ts));
-        verify(ack).acknowledge();
+        verifyAckDeferredToFlush();
     }
 
     @Test
@@ -49,7 +61,7 @@ class DomainEventSignalConsumerTest {
                 .onPaymentCaptured(record("lemuel.payment.captured", ts), ack);
 
         verify(recordSignalUseCase).recordEvent(eq(DomainEventSignalConsumer.METRIC_PAYMENT), eq(false), any());
-        verify(ack).acknowledge();
+        verifyAckDeferredToFlush();
     }
 
     @Test
@@ -59,7 +71,7 @@ class DomainEventSignalConsumerTest {
                 .onSettlementCreated(record("lemuel.settlement.created", ts), ack);
 
         verify(recordSignalUseCase).recordEvent(eq(DomainEventSignalConsumer.METRIC_SETTLEMENT), eq(false), any());
-        verify(ack).acknowledge();
+        verifyAckDeferredToFlush();
     }
 
     @Test
@@ -70,5 +82,6 @@ class DomainEventSignalConsumerTest {
                 .onOrderCreated(record("lemuel.order.created", 1_000L), ack);
 
         verify(ack).acknowledge();
+        verify(recordSignalUseCase, never()).afterFlush(any());
     }
 }
@@ -7,6 +7,7 @@ import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.common.record.TimestampType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
@@ -16,6 +17,7 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +37,15 @@ class OpsFailureSignalConsumerTest {
                 -1, -1, "key", value, new RecordHeaders(), Optional.empty());
     }
 
+    private void verifyAckDeferredToFlush() {
+        ArgumentCaptor<Runnable> afterFlush = ArgumentCaptor.forClass(Runnable.class);
+        verify(recordSignalUseCase).afterFlush(afterFlush.capture());
+        verify(ack, never()).acknowledge();
+
+        afterFlush.getValue().run();
+        verify(ack).acknowledge();
+    }
+
     @Test
     void settlement_failed_는_settlement_분자를_signal_true_로_올리고_envelope_occurredAt_을_쓴다() {
         String envelope = """
@@ -44,7 +55,7 @@ class OpsFailureSignalConsumerTest {
 
         verify(recordSignalUseCase).recordEvent(DomainEventSignalConsumer.METRIC_SETTLEMENT, true,
                 Instant.parse("2026-07-07T06:03:00Z"));
-        verify(ack).acknowledge();
+        verifyAckDeferredToFlush();
     }
 
     @Test
@@ -71,7 +82,7 @@ class OpsFailureSignalConsumerTest {
         consumer().onStockReclaimDelayed(record("lemuel.ops.stock.reclaim_delayed", "{}", 1000L), ack);
 
         verify(recordSignalUseCase).recordEvent(eq("stock-reclaim"), eq(true), any());
-        verify(ack).acknowledge();
+        verifyAckDeferredToFlush();
     }
 
     @Test
@@ -81,6 +92,6 @@ class OpsFailureSignalConsumerTest {
 
         verify(recordSignalUseCase).recordEvent(eq(DomainEventSignalConsumer.METRIC_ORDER), eq(true),
                 eq(Instant.ofEpochMilli(ts)));
-        verify(ack).acknowledge();
+        verifyAckDeferredToFlush();
     }
 }
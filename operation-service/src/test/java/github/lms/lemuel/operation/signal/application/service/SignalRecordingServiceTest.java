@@ -2,49 +2,228 @@ package github.lms.lemuel.operation.signal.application.service;
 
 import github.lms.lemuel.operation.config.OpsProperties;
 import github.lms.lemuel.operation.signal.application.port.out.UpsertMetricBucketPort;
-import org.junit.jupiter.api.BeforeEach;
+import github.lms.lemuel.operation.signal.domain.BucketWindow;
+import github.lms.lemuel.operation.signal.domain.MetricBucket;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
-import static org.mockito.Mockito.verify;
+import static org.assertj.core.api.Assertions.assertThat;
 
-@ExtendWith(MockitoExtension.class)
 class SignalRecordingServiceTest {
 
-    @Mock
-    UpsertMetricBucketPort upsertPort;
+    private static final Instant BUCKET = Instant.parse("2026-07-07T06:00:00Z");
 
-    private SignalRecordingService service;
+    private final InMemoryBucketStore store = new InMemoryBucketStore();
 
-    @BeforeEach
-    void setUp() {
+    private SignalRecordingService service(long maxPendingEvents) {
         OpsProperties properties = new OpsProperties();
         properties.getSignal().setBucketSeconds(300);
-        service = new SignalRecordingService(upsertPort, properties);
+        properties.getSignal().setMaxPendingEvents(maxPendingEvents);
+        return new SignalRecordingService(store, properties);
     }
 
     @Test
-    void recordEvent_는_5분_버킷으로_정렬해_incrementEvent_에_위임한다() {
+    void 기록은_flush_전까지_DB_에_닿지_않고_flush_때_버킷당_한_행으로_합쳐진다() {
+        SignalRecordingService service = service(1_000);
         service.recordEvent("payment", false, Instant.parse("2026-07-07T06:03:22Z"));
+        service.recordEvent("payment", true, Instant.parse("2026-07-07T06:04:59Z"));
+        service.recordEvent("payment", false, Instant.parse("2026-07-07T06:00:00Z"));
 
-        verify(upsertPort).incrementEvent("payment", Instant.parse("2026-07-07T06:00:00Z"), false);
+        assertThat(store.upsertAllCalls).isEmpty();
+
+        assertThat(service.flush()).isEqualTo(1);
+        assertThat(store.upsertAllCalls).containsExactly(
+                List.of(new MetricBucket("payment", BUCKET, 3, 1, 0.0, null, 0)));
+        assertThat(service.flush()).isZero();
+    }
+
+    @Test
+    void 게이지는_합_최댓값_표본수로_합쳐진다() {
+        SignalRecordingService service = service(1_000);
+        service.recordGauge("kafka.lag.max", 100.0, Instant.parse("2026-07-07T06:09:59Z"));
+        service.recordGauge("kafka.lag.max", 500.0, Instant.parse("2026-07-07T06:05:00Z"));
+        service.recordGauge("kafka.lag.max", 300.0, Instant.parse("2026-07-07T06:06:00Z"));
+        service.flush();
+
+        assertThat(store.upsertAllCalls.getFirst()).containsExactly(new MetricBucket(
+                "kafka.lag.max", Instant.parse("2026-07-07T06:05:00Z"), 0, 0, 900.0, 500.0, 3));
+    }
+
+    @Test
+    void 반영_뒤_콜백은_반영이_끝난_다음_등록_순서대로_불린다() {
+        SignalRecordingService service = service(1_000);
+        List<String> log = new ArrayList<>();
+        store.onUpsertAll = () -> log.add("upsert");
+        service.recordEvent("order", false, BUCKET);
+        service.afterFlush(() -> log.add("ack-1"));
+        service.recordEvent("order", false, BUCKET);
+        service.afterFlush(() -> log.add("ack-2"));
+
+        assertThat(log).isEmpty();
+        service.flush();
+
+        assertThat(log).containsExactly("upsert", "ack-1", "ack-2");
+    }
+
+    @Test
+    void 반영이_실패하면_누적분과_콜백을_다음_창_앞에_되돌려_다시_시도한다() {
+        SignalRecordingService service = service(1_000);
+        List<String> acks = new ArrayList<>();
+        service.recordEvent("order", false, BUCKET);
+        service.afterFlush(() -> acks.add("ack-1"));
+        store.failNext = true;
+
+        assertThat(service.flush()).isZero();
+        assertThat(acks).isEmpty();
+        assertThat(service.pendingEvents()).isEqualTo(1);
+
+        service.recordEvent("order", true, BUCKET);
+        service.afterFlush(() -> acks.add("ack-2"));
+        service.flush();
+
+        assertThat(store.rows.get(new Key("order", BUCKET)))
+                .isEqualTo(new MetricBucket("order", BUCKET, 2, 1, 0.0, null, 0));
+        assertThat(acks).containsExactly("ack-1", "ack-2");
     }
 
     @Test
-    void recordEvent_는_signal_플래그를_그대로_전달한다() {
-        service.recordEvent("settlement", true, Instant.parse("2026-07-07T06:07:00Z"));
+    void 대기_상한을_넘긴_채_반영이_실패하면_버리고_ack_한다_컨슈머를_막지_않게() {
+        SignalRecordingService service = service(2);
+        List<String> acks = new ArrayList<>();
+        store.failNext = true;
+        service.recordEvent("order", false, BUCKET);
+        service.afterFlush(() -> acks.add("ack"));
+        service.recordEvent("order", false, BUCKET);   // 상한 도달 — 곧바로 반영을 시도하고 실패한다
 
-        verify(upsertPort).incrementEvent("settlement", Instant.parse("2026-07-07T06:05:00Z"), true);
+        assertThat(store.rows).isEmpty();
+        assertThat(acks).containsExactly("ack");
+        assertThat(service.pendingEvents()).isZero();
     }
 
     @Test
-    void recordGauge_는_5분_버킷으로_정렬해_accumulateGauge_에_위임한다() {
-        service.recordGauge("kafka.lag.max", 320.0, Instant.parse("2026-07-07T06:09:59Z"));
+    void 새_버킷의_첫_신호가_오면_앞_버킷을_곧바로_내려보낸다() {
+        SignalRecordingService service = service(1_000);
+        service.recordEvent("payment", false, BUCKET.plusSeconds(10));
+        service.recordEvent("payment", false, BUCKET.plusSeconds(20));
+        assertThat(store.upsertAllCalls).isEmpty();
+
+        service.recordEvent("payment", false, BUCKET.plusSeconds(300));
+
+        assertThat(store.rows.get(new Key("payment", BUCKET)).countTotal()).isEqualTo(2);
+        // 늦게 도착한 앞 버킷 신호는 마감을 다시 일으키지 않는다.
+        int calls = store.upsertAllCalls.size();
+        service.recordEvent("payment", false, BUCKET.plusSeconds(30));
+        assertThat(store.upsertAllCalls).hasSize(calls);
+    }
+
+    @Test
+    void 모아서_내려보낸_합계는_건별_UPSERT_와_같다() throws Exception {
+        SignalRecordingService service = service(5_000);
+        InMemoryBucketStore perEvent = new InMemoryBucketStore();
+        Random random = new Random(45);
+        List<Runnable> perEventWrites = new ArrayList<>();
+        List<Runnable> aggregatedWrites = new ArrayList<>();
+        String[] counters = {"order", "payment", "settlement"};
+        String[] gauges = {"kafka.lag.max", "redis.up"};
+        for (int i = 0; i < 40_000; i++) {
+            // 버킷 20개(100분)에 흩뿌린다 — 버킷 마감 반영도 섞인다.
+            Instant at = BUCKET.plusSeconds(random.nextInt(6_000));
+            Instant bucket = BucketWindow.floor(at, 300);
+            if (random.nextInt(4) == 0) {
+                String key = gauges[random.nextInt(gauges.length)];
+                double value = random.nextInt(1_000);   // 정수 값 — 더하는 순서가 달라도 합이 정확히 같다
+                perEventWrites.add(() -> perEvent.accumulateGauge(key, bucket, value));
+                aggregatedWrites.add(() -> service.recordGauge(key, value, at));
+            } else {
+                String key = counters[random.nextInt(counters.length)];
+                boolean signal = random.nextInt(10) == 0;
+                perEventWrites.add(() -> perEvent.incrementEvent(key, bucket, signal));
+                aggregatedWrites.add(() -> service.recordEvent(key, signal, at));
+            }
+        }
+        perEventWrites.forEach(Runnable::run);
+
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            pool.submit(() -> {
+                for (int i = offset; i < aggregatedWrites.size(); i += threads) {
+                    aggregatedWrites.get(i).run();
+                }
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            service.flush();
+        }
+        pool.shutdown();
+        service.flush();
+
+        assertThat(store.rows).isEqualTo(perEvent.rows);
+        assertThat(store.upsertAllCalls.size()).isLessThan(aggregatedWrites.size() / 10);
+    }
+
+    private record Key(String metricKey, Instant bucketStart) {
+    }
+
+    /** ops_metric_bucket UPSERT 의 누적 의미를 메모리로 옮긴 것 — 건별 두 경로와 묶음 경로 모두. */
+    private static final class InMemoryBucketStore implements UpsertMetricBucketPort {
+
+        private final Map<Key, MetricBucket> rows = new HashMap<>();
+        private final List<List<MetricBucket>> upsertAllCalls = new ArrayList<>();
+        private boolean failNext;
+        private Runnable onUpsertAll = () -> {
+        };
+
+        @Override
+        public void incrementEvent(String metricKey, Instant bucketStart, boolean signal) {
+            merge(new MetricBucket(metricKey, bucketStart, 1, signal ? 1 : 0, 0.0, null, 0));
+        }
+
+        @Override
+        public void accumulateGauge(String metricKey, Instant bucketStart, double value) {
+            merge(new MetricBucket(metricKey, bucketStart, 0, 0, value, value, 1));
+        }
+
+        @Override
+        public synchronized void upsertAll(List<MetricBucket> deltas) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("db down");
+            }
+            upsertAllCalls.add(List.copyOf(deltas));
+            deltas.forEach(this::merge);
+            onUpsertAll.run();
+        }
+
+        private synchronized void merge(MetricBucket delta) {
+            rows.merge(new Key(delta.metricKey(), delta.bucketStart()), delta, (row, d) -> new MetricBucket(
+                    row.metricKey(), row.bucketStart(),
+                    row.countTotal() + d.countTotal(),
+                    row.countSignal() + d.countSignal(),
+                    row.valueSum() + d.valueSum(),
+                    greatest(row.valueMax(), d.valueMax()),
+                    row.sampleCount() + d.sampleCount()));
+        }
 
-        verify(upsertPort).accumulateGauge("kafka.lag.max", Instant.parse("2026-07-07T06:05:00Z"), 320.0);
+        /** PostgreSQL GREATEST 처럼 NULL 은 건너뛴다. */
+        private static Double greatest(Double a, Double b) {
+            if (a == null) {
+                return b;
+            }
+            return b == null ? a : Double.valueOf(Math.max(a, b));
+        }
     }
 }
@@ -8,16 +8,23 @@ import github.lms.lemuel.common.audit.application.port.in.SearchAuditLogsUseCase
 import github.lms.lemuel.common.audit.application.port.in.SearchAuditLogsUseCase.AuditLogRow;
 import github.lms.lemuel.common.audit.domain.AuditAction;
 import github.lms.lemuel.common.web.csv.CsvResponse;
+import github.lms.lemuel.common.web.csv.CsvResponse.StreamOptions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.core.io.ByteArrayResource;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -51,9 +58,12 @@ import java.util.Objects;
 public class AdminAuditLogController {
 
     private final SearchAuditLogsUseCase searchAuditLogsUseCase;
+    private final Duration exportTimeout;
 
-    public AdminAuditLogController(SearchAuditLogsUseCase searchAuditLogsUseCase) {
+    public AdminAuditLogController(SearchAuditLogsUseCase searchAuditLogsUseCase,
+                                    @Value("${app.audit.export.timeout:30m}") Duration exportTimeout) {
         this.searchAuditLogsUseCase = searchAuditLogsUseCase;
+        this.exportTimeout = exportTimeout;
     }
 
     @GetMapping
@@ -107,30 +117,33 @@ public class AdminAuditLogController {
      * 본문에 경고 행을 끼우면 그 행이 데이터로 읽혀 집계를 오염시키므로, 메타는 메타 자리에 둔다.
      */
     @GetMapping("/export")
-    @Operation(summary = "감사 로그 CSV", description = "화면과 같은 조건으로 최대 5000행을 내려받는다")
-    public ResponseEntity<ByteArrayResource> export(
+    @Operation(summary = "감사 로그 CSV", description = "화면과 같은 조건으로 최대 1,048,575행(Excel 시트 한도)을 스트리밍으로 내려받는다")
+    public WebAsyncTask<Void> export(
             @RequestParam(required = false) String actorEmail,
             @RequestParam(required = false) Long actorId,
             @RequestParam(required = false) String action,
             @RequestParam(required = false) String resourceType,
             @RequestParam(required = false) String resourceId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) {
 
         AuditLogExport export = searchAuditLogsUseCase.export(
                 toQuery(actorEmail, actorId, action, resourceType, resourceId, from, to, 0, 1));
 
-        ResponseEntity<ByteArrayResource> csv = CsvResponse.of(
+        ResponseEntity<StreamingResponseBody> csv = CsvResponse.<AuditLogRow>stream(
                 "audit-logs",
                 List.of("일시", "행위자ID", "행위자", "액션", "리소스유형", "리소스ID", "IP", "상세"),
-                export.rows(),
-                AdminAuditLogController::toCells);
+                export.rows()::forEach,
+                AdminAuditLogController::toCells,
+                StreamOptions.gzipIfAccepted(acceptEncoding));
 
-        return ResponseEntity.status(csv.getStatusCode())
+        return CsvResponse.asyncTask(ResponseEntity.status(csv.getStatusCode())
                 .headers(csv.getHeaders())
                 .header("X-Export-Truncated", String.valueOf(export.truncated()))
                 .header("X-Export-Total", String.valueOf(export.totalElements()))
-                .body(csv.getBody());
+                .body(csv.getBody()), response, exportTimeout);
     }
 
     private static List<String> toCells(AuditLogRow row) {
@@ -63,7 +63,7 @@ public class BulkOrderController {
         long userId = callerId();
         try (var in = file.getInputStream()) {
             BulkOrderDraft draft = bulkOrderUseCase.uploadAndValidate(
-                    userId, file.getOriginalFilename(), parser.parse(in));
+                    userId, file.getOriginalFilename(), parser.rows(in));
             return ResponseEntity.ok(DraftResponse.detail(draft));
         } catch (IOException e) {
             throw new UncheckedIOException(e);
@@ -10,8 +10,9 @@ import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * 대량주문 CSV 파서 — <b>파일 형식만</b> 책임진다. 값의 옳고 그름은 도메인(열 스펙)이 본다.
@@ -30,41 +31,151 @@ public class BulkOrderCsvParser {
     /** 한 번에 받을 수 있는 최대 행 수 — 무제한이면 파일 하나가 서버를 멈춘다. */
     private static final int MAX_ROWS = 5_000;
 
-    /** @return 데이터 행 목록(헤더 제외). 각 행은 셀 문자열 목록 */
-    public List<List<String>> parse(InputStream in) {
-        List<List<String>> rows = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
-            String header = reader.readLine();
-            if (header == null) {
-                throw new InvalidBulkOrderFileException("빈 파일입니다");
-            }
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.isBlank()) {
-                    continue; // 엑셀이 흔히 남기는 꼬리 빈 줄 — 오류로 세지 않는다
-                }
-                if (rows.size() >= MAX_ROWS) {
-                    throw new InvalidBulkOrderFileException(
-                            "한 번에 올릴 수 있는 행은 " + MAX_ROWS + "건까지입니다. 파일을 나눠 올려 주세요.");
+    /**
+     * 데이터 행(헤더 제외)을 <b>읽는 대로</b> 내준다. 각 행은 셀 문자열 목록이다.
+     *
+     * <p>파일 전체를 {@code List<List<String>>} 로 먼저 펼치지 않는다 — 그 목록은 초안 행으로 옮겨진
+     * 직후 버려지는데, 5,000 행 × 열 8 개면 버려질 문자열만 수만 개다. 헤더는 여기서 바로 읽어
+     * 빈 파일을 즉시 거절하고, 나머지는 소비자가 당길 때 한 행씩 읽는다. {@code in} 은 호출자가 닫는다.
+     *
+     * <p>따옴표로 감싼 셀 안의 쉼표·줄바꿈은 값이다(RFC 4180, {@code ""} 는 따옴표 하나) — 엑셀은 주소·메모에
+     * 쉼표나 줄바꿈이 있으면 그렇게 저장한다. 따옴표가 닫히지 않았거나 닫는 따옴표 뒤에 값이 이어지면 그 행에
+     * 닿았을 때 물리 줄 번호와 함께 {@link InvalidBulkOrderFileException} 을 던진다 — 셀 경계를 짐작해
+     * 열을 밀리게 읽느니 파일을 고치게 한다.
+     */
+    public Iterable<List<String>> rows(InputStream in) {
+        Lines lines = new Lines(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        String header = lines.next();
+        if (header == null) {
+            throw new InvalidBulkOrderFileException("빈 파일입니다");
+        }
+        readRecord(header, lines); // 사람이 읽는 헤더 — 여러 줄짜리여도 통째로 건너뛴다
+        return () -> new RowIterator(lines);
+    }
+
+    /** 물리 줄 단위 읽기 — 오류 메시지에 쓸 줄 번호를 센다. */
+    private static final class Lines {
+
+        private final BufferedReader reader;
+        private int number;
+
+        private Lines(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        String next() {
+            try {
+                String line = reader.readLine();
+                if (line != null) {
+                    number++;
                 }
-                rows.add(Arrays.stream(line.split(",", -1)).map(BulkOrderCsvParser::clean).toList());
+                return line;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
         }
-        if (rows.isEmpty()) {
-            throw new InvalidBulkOrderFileException("데이터 행이 없습니다. 헤더만 있는 파일인지 확인해 주세요.");
+    }
+
+    /** 당길 때 한 행씩 읽는 반복자 — 꼬리 빈 줄을 건너뛰고 행 수 상한을 센다. */
+    private static final class RowIterator implements Iterator<List<String>> {
+
+        private final Lines lines;
+        private List<String> next;
+        private boolean fetched;   // next 가 이번 차례의 행인가 — 앞서 읽어 두지 않아야 깨진 행 앞의 행이 살아 나간다
+        private int count;
+
+        private RowIterator(Lines lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched) {
+                advance();
+                fetched = true;
+            }
+            return next != null;
+        }
+
+        @Override
+        public List<String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            fetched = false;
+            return next;
+        }
+
+        private void advance() {
+            String line;
+            do {
+                line = lines.next();
+            } while (line != null && line.isBlank()); // 엑셀이 흔히 남기는 꼬리 빈 줄 — 오류로 세지 않는다
+            if (line == null) {
+                next = null;
+                return;
+            }
+            if (count >= MAX_ROWS) {
+                throw new InvalidBulkOrderFileException(
+                        "한 번에 올릴 수 있는 행은 " + MAX_ROWS + "건까지입니다. 파일을 나눠 올려 주세요.");
+            }
+            count++;
+            next = readRecord(line, lines);
         }
-        return rows;
     }
 
-    /** 엑셀이 UTF-8 저장 시 붙이는 BOM 과 값을 감싼 따옴표를 걷어낸다. */
-    private static String clean(String cell) {
-        String value = cell.startsWith("﻿") ? cell.substring(1) : cell;
-        value = value.trim();
-        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
-            value = value.substring(1, value.length() - 1);
+    /**
+     * {@code first} 줄에서 시작하는 행 하나를 셀로 나눈다. 따옴표 안에서 줄이 끝나면 다음 줄을 이어 읽는다.
+     * 따옴표 없는 셀은 앞뒤 공백을 걷고, 따옴표 셀은 안쪽을 그대로 둔다.
+     */
+    private static List<String> readRecord(String first, Lines lines) {
+        int startLine = lines.number;
+        String line = first.startsWith("\uFEFF") ? first.substring(1) : first; // 엑셀이 UTF-8 저장 시 붙이는 BOM
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;     // 지금 셀이 따옴표로 시작했는가
+        boolean inQuotes = false;   // 아직 닫는 따옴표를 못 만났는가
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!inQuotes) {
+                    cells.add(quoted ? cell.toString() : cell.toString().trim());
+                    return cells;
+                }
+                line = lines.next();
+                if (line == null) {
+                    throw new InvalidBulkOrderFileException(startLine + "번째 줄: 따옴표가 닫히지 않았습니다");
+                }
+                cell.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (inQuotes) {
+                if (c != '"') {
+                    cell.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    cell.append('"');
+                    i++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (c == ',') {
+                cells.add(quoted ? cell.toString() : cell.toString().trim());
+                cell.setLength(0);
+                quoted = false;
+            } else if (quoted) {
+                if (!Character.isWhitespace(c)) {
+                    throw new InvalidBulkOrderFileException(
+                            lines.number + "번째 줄: 닫는 따옴표 뒤에 값이 이어집니다");
+                }
+            } else if (c == '"' && cell.toString().isBlank()) {
+                quoted = true;
+                inQuotes = true;
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
         }
-        return value;
     }
 }
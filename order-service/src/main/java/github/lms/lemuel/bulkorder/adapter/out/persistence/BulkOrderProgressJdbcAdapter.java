@@ -0,0 +1,52 @@
+package github.lms.lemuel.bulkorder.adapter.out.persistence;
+
+import github.lms.lemuel.bulkorder.application.port.out.RecordBulkOrderProgressPort;
+import github.lms.lemuel.bulkorder.domain.exception.BulkOrderInvariantViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 확정 진행 기록 — 행 단위 조건부 UPDATE 를 한 번의 배치로 보낸다.
+ *
+ * <p>{@code created_order_id IS NULL} 조건이 동시 확정의 마지막 방어선이다. 두 요청이 같은 행을
+ * 동시에 주문으로 만들면 늦은 쪽의 UPDATE 가 0 건이 되고, 예외로 그 묶음의 주문까지 롤백된다.
+ */
+@Component
+public class BulkOrderProgressJdbcAdapter implements RecordBulkOrderProgressPort {
+
+    private static final String MARK_ORDERED = """
+            UPDATE bulk_order_rows SET created_order_id = :orderId
+            WHERE draft_id = :draftId AND line_number = :lineNumber AND created_order_id IS NULL
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public BulkOrderProgressJdbcAdapter(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public void markOrdered(Long draftId, Map<Integer, Long> orderIdByLine) {
+        if (orderIdByLine.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = orderIdByLine.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("draftId", draftId)
+                        .addValue("lineNumber", entry.getKey())
+                        .addValue("orderId", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        int[] updated = jdbc.batchUpdate(MARK_ORDERED, batch);
+        for (int count : updated) {
+            // 드라이버가 배치 건수를 모를 때(SUCCESS_NO_INFO = -2)는 판정하지 않는다.
+            if (count == 0) {
+                throw new BulkOrderInvariantViolationException(
+                        "이미 주문이 기록된 행이 있습니다(동시 확정?): draftId=" + draftId);
+            }
+        }
+    }
+}
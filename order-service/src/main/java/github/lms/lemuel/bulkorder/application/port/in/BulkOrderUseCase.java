@@ -14,8 +14,11 @@ import java.util.List;
  */
 public interface BulkOrderUseCase {
 
-    /** 파일을 행으로 쪼개 초안으로 저장하고 <b>곧바로 검증까지</b> 수행한다(업로드의 목적이 검증이다). */
-    BulkOrderDraft uploadAndValidate(Long uploaderUserId, String fileName, List<List<String>> rows);
+    /**
+     * 파일을 행으로 쪼개 초안으로 저장하고 <b>곧바로 검증까지</b> 수행한다(업로드의 목적이 검증이다).
+     * {@code rows} 는 한 번만 순회한다 — 파서가 읽는 대로 내주는 행을 그대로 받을 수 있다.
+     */
+    BulkOrderDraft uploadAndValidate(Long uploaderUserId, String fileName, Iterable<List<String>> rows);
 
     /** 고친 값으로 다시 검증한다. 오류 행이 사라지면 확정이 열린다. */
     BulkOrderDraft revalidate(Long draftId, Long requesterUserId);
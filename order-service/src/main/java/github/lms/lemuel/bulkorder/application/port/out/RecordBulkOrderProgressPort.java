@@ -0,0 +1,21 @@
+package github.lms.lemuel.bulkorder.application.port.out;
+
+import java.util.Map;
+
+/**
+ * 확정 진행 기록 — 주문이 나간 행에 주문 id 를 <b>주문과 같은 트랜잭션에서</b> 남긴다.
+ *
+ * <p>예전에는 확정이 끝난 뒤 초안을 한 번 저장하면서 행의 {@code createdOrderId} 를 함께 썼다.
+ * 그 사이에 프로세스가 죽으면 주문은 나갔는데 행에는 흔적이 없어, 재확정이 곧 중복 주문이었다.
+ * 묶음 트랜잭션 안에서 기록하면 "주문이 있다 ⇔ 행에 표시가 있다" 가 커밋 단위로 함께 움직이고,
+ * 재확정은 표시 없는 행부터 이어 간다.
+ */
+public interface RecordBulkOrderProgressPort {
+
+    /**
+     * @param orderIdByLine 행 번호 → 생성된 주문 id
+     * @throws github.lms.lemuel.bulkorder.domain.exception.BulkOrderInvariantViolationException
+     *         이미 주문이 기록된 행이 섞여 있을 때(동시에 두 번 확정한 경우) — 묶음 전체가 롤백되어야 한다
+     */
+    void markOrdered(Long draftId, Map<Integer, Long> orderIdByLine);
+}
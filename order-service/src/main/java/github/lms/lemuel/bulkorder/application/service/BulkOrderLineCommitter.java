@@ -1,12 +1,18 @@
 package github.lms.lemuel.bulkorder.application.service;
 
 import github.lms.lemuel.bulkorder.application.port.out.PlaceBulkOrderLinePort;
+import github.lms.lemuel.bulkorder.application.port.out.RecordBulkOrderProgressPort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
- * 대량주문 확정의 <b>행 단위 트랜잭션 경계</b>.
+ * 대량주문 확정의 <b>묶음 단위 트랜잭션 경계</b>.
  *
  * <p>왜 별도 빈인가: 확정은 수백 행을 한 번에 처리하는 작업이라, 뒷쪽 한 행의 실패가 앞쪽 전부를
  * 롤백하면 안 된다. 롤백된 재고를 그 사이 다른 주문이 가져가면 재시도는 같은 결과를 내지 못하고,
@@ -14,19 +20,42 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>{@code REQUIRES_NEW} 를 같은 클래스의 메서드에 달고 self-invocation 으로 부르면 프록시를
  * 거치지 않아 트랜잭션이 적용되지 않는다 — 그래서 반드시 별도 빈이어야 한다.
+ *
+ * <p>한 트랜잭션에 여러 행을 담는 이유는 커밋 비용이다. 행마다 커밋하면 확정 시간이 "행 수 × 커밋
+ * 지연" 으로 자란다. 묶음이 실패하면 호출자({@link BulkOrderService})가 묶음을 쪼개 다시 부르므로,
+ * 실패 사유는 여전히 행 단위로 남는다.
  */
 @Component
 public class BulkOrderLineCommitter {
 
     private final PlaceBulkOrderLinePort placeBulkOrderLinePort;
+    private final RecordBulkOrderProgressPort progressPort;
 
-    public BulkOrderLineCommitter(PlaceBulkOrderLinePort placeBulkOrderLinePort) {
+    public BulkOrderLineCommitter(PlaceBulkOrderLinePort placeBulkOrderLinePort,
+                                  RecordBulkOrderProgressPort progressPort) {
         this.placeBulkOrderLinePort = placeBulkOrderLinePort;
+        this.progressPort = progressPort;
     }
 
-    /** 행 1줄을 실주문으로 확정한다. 실패하면 이 행만 롤백되고 예외가 호출자에게 올라간다. */
+    /**
+     * 행 묶음을 한 트랜잭션에서 실주문으로 확정하고, 같은 트랜잭션에서 행에 주문 id 를 기록한다.
+     * 한 행이라도 실패하면 묶음 전체가 롤백되고 예외가 호출자에게 올라간다.
+     *
+     * @return 입력과 같은 순서의 주문 id
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public Long commit(Long buyerUserId, PlaceBulkOrderLinePort.Line line) {
-        return placeBulkOrderLinePort.place(buyerUserId, line);
+    public List<Long> commit(Long draftId, Long buyerUserId, List<PendingLine> lines) {
+        List<Long> orderIds = new ArrayList<>(lines.size());
+        Map<Integer, Long> orderIdByLine = new LinkedHashMap<>();
+        for (PendingLine pending : lines) {
+            Long orderId = placeBulkOrderLinePort.place(buyerUserId, pending.line());
+            orderIds.add(orderId);
+            orderIdByLine.put(pending.rowNumber(), orderId);
+        }
+        progressPort.markOrdered(draftId, orderIdByLine);
+        return orderIds;
     }
+
+    /** 확정할 행 1줄 — 결과를 행으로 되돌려 적기 위해 행 번호를 함께 싣는다. */
+    public record PendingLine(int rowNumber, PlaceBulkOrderLinePort.Line line) { }
 }
@@ -11,6 +11,9 @@ import github.lms.lemuel.bulkorder.domain.exception.BulkOrderNotFoundException;
 import github.lms.lemuel.bulkorder.domain.exception.InvalidBulkOrderFileException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,17 +22,27 @@ import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * 대량주문 초안 업로드·검증·확정.
  *
  * <p><b>확정 실패의 격리</b>가 이 서비스의 어려운 부분이다. 행 하나가 실패했다고 전체를 롤백하면
  * 앞서 성공한 수백 건의 주문·재고 차감이 되돌아가는데, 그 사이 다른 주문이 같은 재고를 가져갔다면
- * 재시도는 같은 결과를 내지 못한다. 그래서 <b>행 단위로 독립 커밋</b>({@link BulkOrderLineCommitter})
- * 하고, 실패한 행만 사유를 남겨 다시 확정할 수 있게 둔다.
+ * 재시도는 같은 결과를 내지 못한다. 그래서 <b>작은 묶음 단위로 독립 커밋</b>({@link BulkOrderLineCommitter})
+ * 하고, 묶음이 실패하면 반으로 쪼개 다시 커밋해 결국 실패한 행만 사유를 남긴다. 정상 경로의 커밋
+ * 횟수는 "행 수 ÷ 묶음 크기" 이고, 불량 행 하나의 추가 비용은 묶음 크기의 로그에 비례한다.
+ *
+ * <p>묶음은 크기가 정해진 작업 풀에서 병렬로 돈다. 풀이 가득 차면 호출 스레드가 직접 실행해
+ * 대기열이 끝없이 자라지 않는다. 병렬이므로 <b>같은 상품의 마지막 재고를 어느 행이 가져갈지는
+ * 파일 순서와 무관</b>하다 — 재고가 모자라면 어느 행이든 실패 행으로 남아 다시 확정된다.
  *
  * <p>이미 주문이 나간 행은 {@code createdOrderId} 로 걸러진다 — 재확정이 중복 주문이 되지 않는
- * 유일한 근거다.
+ * 유일한 근거다. 이 값은 주문과 같은 묶음 트랜잭션에서 기록되므로, 확정 도중 프로세스가 죽어도
+ * 재확정은 기록이 없는 행부터 이어 간다.
  */
 @Service
 public class BulkOrderService implements BulkOrderUseCase {
@@ -45,34 +58,57 @@ public class BulkOrderService implements BulkOrderUseCase {
     private static final String ITEM_ADDRESS2 = "address2";
     private static final String ITEM_MEMO = "delivery_memo";
 
+    /** 한 트랜잭션에 담는 행 수 기본값. 실패 시 쪼개기 비용(로그 단계)과 커밋 절감의 균형점. */
+    static final int DEFAULT_GROUP_SIZE = 20;
+
     private final BulkOrderDraftPort draftPort;
     private final BulkOrderColumnSpecPort columnSpecPort;
     private final BulkOrderLineCommitter lineCommitter;
     private final Clock clock;
+    private final Executor confirmExecutor;
+    private final int groupSize;
 
+    /** 호출 스레드에서 묶음을 차례로 커밋한다 — 테스트·단일 스레드 배선용. */
     public BulkOrderService(BulkOrderDraftPort draftPort,
                             BulkOrderColumnSpecPort columnSpecPort,
                             BulkOrderLineCommitter lineCommitter,
                             Clock clock) {
+        this(draftPort, columnSpecPort, lineCommitter, clock, Runnable::run, DEFAULT_GROUP_SIZE);
+    }
+
+    @Autowired
+    public BulkOrderService(BulkOrderDraftPort draftPort,
+                            BulkOrderColumnSpecPort columnSpecPort,
+                            BulkOrderLineCommitter lineCommitter,
+                            Clock clock,
+                            @Qualifier("bulkOrderConfirmExecutor") Executor confirmExecutor,
+                            @Value("${app.bulk-order.confirm.group-size:" + DEFAULT_GROUP_SIZE + "}") int groupSize) {
+        if (groupSize < 1) {
+            throw new IllegalArgumentException("app.bulk-order.confirm.group-size 는 1 이상이어야 합니다: " + groupSize);
+        }
         this.draftPort = draftPort;
         this.columnSpecPort = columnSpecPort;
         this.lineCommitter = lineCommitter;
         this.clock = clock;
+        this.confirmExecutor = confirmExecutor;
+        this.groupSize = groupSize;
     }
 
     @Override
     @Transactional
     public BulkOrderDraft uploadAndValidate(Long uploaderUserId, String fileName,
-                                            List<List<String>> rows) {
-        if (rows == null || rows.isEmpty()) {
+                                            Iterable<List<String>> rows) {
+        List<BulkOrderRow> parsed = new ArrayList<>();
+        if (rows != null) {
+            for (List<String> values : rows) {
+                parsed.add(BulkOrderRow.uploaded(parsed.size() + 1, values));
+            }
+        }
+        if (parsed.isEmpty()) {
             throw new InvalidBulkOrderFileException("데이터 행이 없습니다. 헤더만 있는 파일인지 확인해 주세요.");
         }
         LocalDateTime now = LocalDateTime.now(clock);
 
-        List<BulkOrderRow> parsed = new ArrayList<>();
-        for (int i = 0; i < rows.size(); i++) {
-            parsed.add(BulkOrderRow.uploaded(i + 1, rows.get(i)));
-        }
         BulkOrderDraft draft = BulkOrderDraft.upload(uploaderUserId, fileName, parsed, now);
         draft.validate(columnSpecPort.findAllOrdered(), now);
 
@@ -91,10 +127,11 @@ public class BulkOrderService implements BulkOrderUseCase {
     }
 
     /**
-     * 확정 — 행별 독립 커밋.
+     * 확정 — 묶음별 독립 커밋, 실패 묶음은 행 단위까지 쪼갠다.
      *
-     * <p>이 메서드 자체는 트랜잭션을 열지 않는다. 열면 행별 {@code REQUIRES_NEW} 가 바깥 트랜잭션과
+     * <p>이 메서드 자체는 트랜잭션을 열지 않는다. 열면 묶음별 {@code REQUIRES_NEW} 가 바깥 트랜잭션과
      * 얽혀 "행은 커밋됐는데 초안 상태는 롤백" 같은 어긋남이 생긴다. 초안 저장은 마지막에 한 번.
+     * 작업 스레드는 결과만 모으고, 도메인 행에 적는 일은 호출 스레드가 행 번호 순으로 한다.
      */
     @Override
     public ConfirmResult confirm(Long draftId, Long requesterUserId) {
@@ -102,24 +139,40 @@ public class BulkOrderService implements BulkOrderUseCase {
         draft.requireConfirmable();
 
         List<BulkOrderColumnSpec> specs = columnSpecPort.findAllOrdered();
+        Map<Integer, LineOutcome> outcomes = new ConcurrentHashMap<>();
+        List<BulkOrderLineCommitter.PendingLine> pending = new ArrayList<>();
+        for (BulkOrderRow row : draft.pendingRows()) {
+            try {
+                pending.add(new BulkOrderLineCommitter.PendingLine(row.getRowNumber(), toLine(row, specs)));
+            } catch (RuntimeException e) {
+                // 주문을 만들 값조차 꺼낼 수 없는 행 — 커밋을 시도하지 않고 사유만 남긴다.
+                outcomes.put(row.getRowNumber(), LineOutcome.failed(reasonOf(e)));
+            }
+        }
+
+        List<CompletableFuture<Void>> groups = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += groupSize) {
+            List<BulkOrderLineCommitter.PendingLine> group =
+                    List.copyOf(pending.subList(from, Math.min(from + groupSize, pending.size())));
+            groups.add(CompletableFuture.runAsync(
+                    () -> commitSplitting(draft, group, outcomes), confirmExecutor));
+        }
+        CompletableFuture.allOf(groups.toArray(CompletableFuture[]::new)).join();
+
         List<ConfirmResult.Line> lines = new ArrayList<>();
         int created = 0;
         int failed = 0;
-
         for (BulkOrderRow row : draft.pendingRows()) {
-            try {
-                Long orderId = lineCommitter.commit(draft.getUploaderUserId(), toLine(row, specs));
-                row.markOrderCreated(orderId);
+            LineOutcome outcome = outcomes.get(row.getRowNumber());
+            if (outcome.orderId() != null) {
+                row.markOrderCreated(outcome.orderId());
                 created++;
-                lines.add(new ConfirmResult.Line(row.getRowNumber(), orderId, null));
-            } catch (RuntimeException e) {
+            } else {
                 // 재고 부족·상품 없음 등 — 이 행만 실패로 남기고 나머지는 계속 진행한다.
+                row.markConfirmFailed(outcome.error());
                 failed++;
-                row.markConfirmFailed(reasonOf(e));
-                lines.add(new ConfirmResult.Line(row.getRowNumber(), null, reasonOf(e)));
-                log.warn("대량주문 확정 실패 행: draftId={}, row={}, reason={}",
-                        draftId, row.getRowNumber(), e.getMessage());
             }
+            lines.add(new ConfirmResult.Line(row.getRowNumber(), outcome.orderId(), outcome.error()));
         }
 
         LocalDateTime now = LocalDateTime.now(clock);
@@ -131,11 +184,48 @@ public class BulkOrderService implements BulkOrderUseCase {
         }
         BulkOrderDraft saved = draftPort.save(draft);
 
-        log.info("대량주문 확정: draftId={}, 생성={}, 실패={}, status={}",
-                draftId, created, failed, saved.getStatus());
+        log.info("대량주문 확정: draftId={}, 생성={}, 실패={}, 묶음={}, status={}",
+                draftId, created, failed, groups.size(), saved.getStatus());
         return new ConfirmResult(draftId, saved.getStatus().name(), created, failed, lines);
     }
 
+    /**
+     * 묶음을 한 번에 커밋하고, 실패하면 반으로 나눠 다시 커밋한다. 한 행까지 내려가서도 실패하면
+     * 그 행의 사유로 남긴다 — 사유가 행 단위로 정확히 남는 것은 행별 커밋 시절과 같다.
+     */
+    private void commitSplitting(BulkOrderDraft draft, List<BulkOrderLineCommitter.PendingLine> group,
+                                 Map<Integer, LineOutcome> outcomes) {
+        try {
+            List<Long> orderIds = lineCommitter.commit(draft.getId(), draft.getUploaderUserId(), group);
+            for (int i = 0; i < group.size(); i++) {
+                outcomes.put(group.get(i).rowNumber(), LineOutcome.created(orderIds.get(i)));
+            }
+        } catch (RuntimeException e) {
+            if (group.size() == 1) {
+                int rowNumber = group.get(0).rowNumber();
+                outcomes.put(rowNumber, LineOutcome.failed(reasonOf(e)));
+                log.warn("대량주문 확정 실패 행: draftId={}, row={}, reason={}",
+                        draft.getId(), rowNumber, e.getMessage());
+                return;
+            }
+            int middle = group.size() / 2;
+            commitSplitting(draft, group.subList(0, middle), outcomes);
+            commitSplitting(draft, group.subList(middle, group.size()), outcomes);
+        }
+    }
+
+    /** 행 하나의 확정 결과 — 주문 id 와 실패 사유 중 하나만 있다. */
+    private record LineOutcome(Long orderId, String error) {
+
+        static LineOutcome created(Long orderId) {
+            return new LineOutcome(orderId, null);
+        }
+
+        static LineOutcome failed(String error) {
+            return new LineOutcome(null, error);
+        }
+    }
+
     @Override
     @Transactional
     public void discard(Long draftId, Long requesterUserId) {
@@ -0,0 +1,36 @@
+package github.lms.lemuel.bulkorder.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 대량주문 확정 배선.
+ *
+ * <p><b>확정 풀은 작고 따로 둔다.</b> 묶음 하나가 커넥션 하나를 트랜잭션 내내 쥐므로, 작업 수가 곧
+ * 커넥션 풀 점유다 — 공용 {@code taskExecutor} 에 얹으면 대량 확정 한 번이 ES 인덱싱과 커넥션을 두고
+ * 다툰다. 대기열이 차면 호출 스레드가 직접 묶음을 돌려(CallerRunsPolicy) 확정 요청이 스스로 속도를
+ * 늦춘다. 작업을 버리는 일은 없다.
+ */
+@Configuration
+public class BulkOrderConfig {
+
+    @Bean(name = "bulkOrderConfirmExecutor")
+    public Executor bulkOrderConfirmExecutor(
+            @Value("${app.bulk-order.confirm.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers * 4);
+        executor.setThreadNamePrefix("bulk-order-confirm-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,23 @@
+package github.lms.lemuel.config;
+
+import github.lms.lemuel.common.sweep.KeysetSweeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 만료·타임아웃 배치가 함께 쓰는 스윕 엔진.
+ *
+ * <p>엔진 하나를 공유하는 이유는 격리 목록이다 — 잡 이름으로 구분되므로 섞이지 않고, 인스턴스 안에서
+ * 한 곳에 모여 {@code sweep.quarantine.size} 로 보인다. 잡별 청크 크기·워커 수는 각 서비스가 정한다.
+ */
+@Configuration
+public class SweepConfig {
+
+    @Bean
+    public KeysetSweeper keysetSweeper(PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry) {
+        return KeysetSweeper.transactional(transactionManager, meterRegistry);
+    }
+}
@@ -1,11 +1,13 @@
 package github.lms.lemuel.payment.adapter.out.persistence;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -42,6 +44,24 @@ public interface PaymentJpaRepository extends JpaRepository<PaymentJpaEntity, Lo
     @Query("SELECT p FROM PaymentJpaEntity p WHERE p.status = 'READY' AND p.createdAt < :cutoff ORDER BY p.createdAt ASC")
     List<PaymentJpaEntity> findPendingCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 
+    /**
+     * 미입금 만료 스윕의 청크 claim — (created_at, id) 키셋 다음 청크를 {@code FOR UPDATE SKIP LOCKED} 로 잠근다.
+     * lock.timeout −2 가 Hibernate 의 SKIP LOCKED 지정이다. 네이티브 SQL 을 쓰지 않는 이유는 스키마 한정자 —
+     * JPQL 은 hibernate default_schema 를 따른다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT p FROM PaymentJpaEntity p
+            WHERE p.status = 'READY' AND p.createdAt < :cutoff
+              AND (p.createdAt > :afterCreatedAt OR (p.createdAt = :afterCreatedAt AND p.id > :afterId))
+            ORDER BY p.createdAt ASC, p.id ASC
+            """)
+    List<PaymentJpaEntity> claimPendingCreatedBefore(@Param("cutoff") LocalDateTime cutoff,
+                                                     @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                     @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+
     /** 상태별 건수 — settlement 프로젝션 cross-DB 대사(ADR 0020 Phase 5.2)의 원천 카운트. */
     long countByStatus(String status);
 
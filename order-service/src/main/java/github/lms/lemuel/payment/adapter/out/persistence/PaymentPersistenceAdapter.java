@@ -55,6 +55,17 @@ public class PaymentPersistenceAdapter implements LoadPaymentPort, SavePaymentPo
                 .toList();
     }
 
+    @Override
+    public List<PaymentDomain> claimPendingCreatedBefore(java.time.LocalDateTime cutoff,
+                                                         PendingCursor after, int limit) {
+        return paymentJpaRepository
+                .claimPendingCreatedBefore(cutoff, after.createdAt(), after.id(),
+                        org.springframework.data.domain.PageRequest.of(0, limit))
+                .stream()
+                .map(paymentMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public List<PaymentDomain> findAllCaptured() {
         // 1회성 백필 전용 — 전체 결제를 도메인으로 hydrate 후 CAPTURED 만 필터.
@@ -27,4 +27,21 @@ public interface LoadPaymentPort {
      * {@code PaymentExpiryPolicy} 가 도메인 규칙으로 책임진다. 오래된 순으로 최대 {@code limit} 건.
      */
     List<PaymentDomain> findPendingCreatedBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * 미입금 만료 스윕의 청크 claim — {@code after} 다음부터 (생성 시각, id) 순으로 최대 {@code limit} 건을
+     * {@code FOR UPDATE SKIP LOCKED} 로 잠가 가져온다. 다른 워커가 잡은 행은 건너뛴다.
+     * 트랜잭션 안에서 불러야 잠금이 처리 끝까지 유지된다.
+     */
+    List<PaymentDomain> claimPendingCreatedBefore(LocalDateTime cutoff, PendingCursor after, int limit);
+
+    /** 미입금 만료 스윕의 키셋 커서 — {@code idx_payments_pending_expiry (created_at)} 순서에 id 로 동률을 끊는다. */
+    record PendingCursor(LocalDateTime createdAt, Long id) {
+
+        public static final PendingCursor START = new PendingCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+        public static PendingCursor after(PaymentDomain payment) {
+            return new PendingCursor(payment.getCreatedAt(), payment.getId());
+        }
+    }
 }
@@ -1,7 +1,12 @@
 package github.lms.lemuel.payment.application.service;
 
+import github.lms.lemuel.common.sweep.KeysetSweeper;
+import github.lms.lemuel.common.sweep.SweepJob;
+import github.lms.lemuel.common.sweep.SweepReport;
+import github.lms.lemuel.common.sweep.SweepSettings;
 import github.lms.lemuel.payment.application.port.in.ExpirePendingPaymentsUseCase;
 import github.lms.lemuel.payment.application.port.out.LoadPaymentPort;
+import github.lms.lemuel.payment.application.port.out.LoadPaymentPort.PendingCursor;
 import github.lms.lemuel.payment.domain.PaymentDomain;
 import github.lms.lemuel.payment.domain.PaymentExpiryPolicy;
 import org.slf4j.Logger;
@@ -10,7 +15,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 /**
@@ -19,70 +26,124 @@ import java.util.List;
  * <p>입금 대기(READY)로 기한이 지난 결제를 만료시키고 그 주문을 취소해 재고를 되돌린다. 미처리 시
  * 결제는 READY, 주문은 CREATED 로 영구 잔류하며 재고를 붙잡고 주문 통계를 왜곡한다.
  *
- * <p><b>트랜잭션 없음(의도)</b> — 이 클래스는 후보를 훑기만 하고, 실제 상태 변경은
- * {@link PaymentExpiryProcessor} 가 건별 독립 트랜잭션에서 수행한다. 한 건의 실패가 나머지를 막지 않는다.
+ * <p><b>공통 스윕 엔진 위에서 돈다</b>({@link KeysetSweeper}). 예전에는 오래된 순 {@code batch-limit} 건만
+ * 읽고 끝나서, 하루 밀린 건이 그 수를 넘으면 다음 날에도 다 비우지 못했다. 지금은 (생성 시각, id) 키셋으로
+ * 청크를 잠가 가며 밀린 건을 끝까지 — 또는 시간 예산까지 — 비운다.
  *
- * <p><b>실패를 삼키지 않는다</b> — 개별 실패는 건별로 잡되 {@code failed} 카운터와 WARN 로그로 드러낸다.
- * 실패 건은 상태가 READY 그대로라 다음 주기가 다시 집는다(멱등).
+ * <p><b>트랜잭션 없음(의도)</b> — 이 클래스는 잡을 정의하기만 하고, 청크·단건 트랜잭션은 엔진이 연다.
+ * {@link PaymentExpiryProcessor} 는 그 트랜잭션에 합류한다.
+ *
+ * <p><b>실패를 삼키지 않는다</b> — 단건 재시도까지 실패한 건은 {@code failed} 로 세고 WARN 로그를 남긴 뒤
+ * 격리한다. 격리 기간이 지나면 다시 시도된다(멱등).
  */
 @Service
 public class ExpirePendingPaymentsService implements ExpirePendingPaymentsUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(ExpirePendingPaymentsService.class);
 
+    static final String JOB_NAME = "payment-expiry";
+
     private final LoadPaymentPort loadPaymentPort;
     private final PaymentExpiryProcessor processor;
+    private final KeysetSweeper sweeper;
     private final Duration ttl;
-    private final int batchLimit;
+    private final int previewLimit;
+    private final SweepSettings sweepSettings;
 
+    /**
+     * @param previewLimit dryRun 이 훑는 최대 건수 — 실제 만료는 건수 제한 없이 시간 예산까지 돈다
+     */
     public ExpirePendingPaymentsService(
             LoadPaymentPort loadPaymentPort,
             PaymentExpiryProcessor processor,
+            KeysetSweeper sweeper,
             @Value("${app.payment-expiry.ttl:48h}") Duration ttl,
-            @Value("${app.payment-expiry.batch-limit:200}") int batchLimit) {
+            @Value("${app.payment-expiry.batch-limit:200}") int previewLimit,
+            @Value("${app.payment-expiry.sweep.chunk-size:50}") int chunkSize,
+            @Value("${app.payment-expiry.sweep.workers:2}") int workers,
+            @Value("${app.payment-expiry.sweep.time-budget:15m}") Duration timeBudget) {
         this.loadPaymentPort = loadPaymentPort;
         this.processor = processor;
+        this.sweeper = sweeper;
         this.ttl = ttl;
-        this.batchLimit = batchLimit;
+        this.previewLimit = previewLimit;
+        this.sweepSettings = SweepSettings.of(chunkSize, workers, timeBudget);
     }
 
     @Override
     public ExpiryReport expireDue(LocalDateTime now, boolean dryRun) {
         LocalDateTime cutoff = now.minus(ttl);
-        List<PaymentDomain> candidates = loadPaymentPort.findPendingCreatedBefore(cutoff, batchLimit);
-
-        int expired = 0;
-        int skipped = 0;
-        int failed = 0;
-
-        for (PaymentDomain payment : candidates) {
-            // 쿼리는 시각만 거르므로 수단·경계 판정은 도메인 정책이 다시 본다(모르는 수단은 만료 대상 아님).
-            if (!PaymentExpiryPolicy.isExpired(
-                    payment.getPaymentMethod(), payment.getCreatedAt(), ttl, now)) {
-                skipped++;
-                continue;
-            }
-            if (dryRun) {
-                expired++;
-                continue;
-            }
-            try {
-                processor.expireAndCancelOrder(payment.getId());
-                expired++;
-            } catch (RuntimeException e) {
-                // 다음 주기가 다시 집는다 — 여기서 멈추면 뒤 건들이 통째로 밀린다.
-                failed++;
-                log.warn("미입금 만료 실패: paymentId={}, orderId={}, 사유={}",
-                        payment.getId(), payment.getOrderId(), e.toString());
-            }
+        if (dryRun) {
+            return preview(cutoff, now);
         }
 
-        ExpiryReport report = new ExpiryReport(candidates.size(), expired, skipped, failed, dryRun);
+        SweepReport sweep = sweeper.sweep(new PendingPaymentSweep(cutoff, now), sweepSettings);
+        // 격리로 건너뛴 건은 이번 주기에 손대지 않았으므로 제외로 센다 — 실패는 "이번에 실패한 건" 만.
+        return new ExpiryReport(sweep.claimed(), sweep.processed(),
+                sweep.skipped() + sweep.quarantined(), sweep.failed(), false);
+    }
+
+    /** 아무 것도 잠그거나 바꾸지 않고 "만료될 건수" 만 센다. */
+    private ExpiryReport preview(LocalDateTime cutoff, LocalDateTime now) {
+        List<PaymentDomain> candidates = loadPaymentPort.findPendingCreatedBefore(cutoff, previewLimit);
+        int expired = (int) candidates.stream().filter(payment -> isDue(payment, now)).count();
+        ExpiryReport report = new ExpiryReport(candidates.size(), expired, candidates.size() - expired, 0, true);
         if (!candidates.isEmpty()) {
-            log.info("미입금 만료 배치{}: 조회={}, 만료={}, 제외={}, 실패={}",
-                    dryRun ? "(dryRun)" : "", report.scanned(), report.expired(),
-                    report.skipped(), report.failed());
+            log.info("미입금 만료 배치(dryRun): 조회={}, 만료={}, 제외={}",
+                    report.scanned(), report.expired(), report.skipped());
         }
         return report;
     }
+
+    private boolean isDue(PaymentDomain payment, LocalDateTime now) {
+        // 쿼리는 시각만 거르므로 수단·경계 판정은 도메인 정책이 다시 본다(모르는 수단은 만료 대상 아님).
+        return PaymentExpiryPolicy.isExpired(payment.getPaymentMethod(), payment.getCreatedAt(), ttl, now);
+    }
+
+    /** 한 번의 스윕 — 컷오프와 판정 시각을 고정해 워커 사이에 같은 기준을 쓴다. */
+    private final class PendingPaymentSweep implements SweepJob<PaymentDomain, PendingCursor> {
+
+        private final LocalDateTime cutoff;
+        private final LocalDateTime now;
+
+        private PendingPaymentSweep(LocalDateTime cutoff, LocalDateTime now) {
+            this.cutoff = cutoff;
+            this.now = now;
+        }
+
+        @Override
+        public String name() {
+            return JOB_NAME;
+        }
+
+        @Override
+        public PendingCursor start() {
+            return PendingCursor.START;
+        }
+
+        @Override
+        public List<PaymentDomain> claim(PendingCursor after, int limit) {
+            return loadPaymentPort.claimPendingCreatedBefore(cutoff, after, limit);
+        }
+
+        @Override
+        public PendingCursor keyOf(PaymentDomain payment) {
+            return PendingCursor.after(payment);
+        }
+
+        @Override
+        public boolean process(PaymentDomain payment) {
+            if (!isDue(payment, now)) {
+                return false;
+            }
+            processor.expireAndCancelOrder(payment.getId());
+            return true;
+        }
+
+        @Override
+        public Instant dueAt(PaymentDomain payment) {
+            // now 가 시스템 기본 시간대의 LocalDateTime 이므로 같은 시간대로 되돌린다.
+            return payment.getCreatedAt().plus(ttl).atZone(ZoneId.systemDefault()).toInstant();
+        }
+    }
 }
@@ -6,17 +6,18 @@ import github.lms.lemuel.payment.application.port.out.SavePaymentPort;
 import github.lms.lemuel.payment.domain.PaymentDomain;
 import github.lms.lemuel.payment.domain.exception.PaymentNotFoundException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
- * 미입금 만료 1건 처리기 — <b>건별 독립 트랜잭션</b>.
+ * 미입금 만료 1건 처리기 — 호출자의 트랜잭션에 합류한다.
  *
- * <p>배치 루프와 트랜잭션 경계를 분리하는 이유: 한 건의 실패(락 타임아웃·주문 상태 경합)가 이미 처리된
- * 앞 건들을 함께 롤백하면 안 되기 때문이다. 실패 건은 다음 주기가 다시 집는다(멱등).
+ * <p>트랜잭션 경계는 스윕 엔진({@code KeysetSweeper})이 쥔다. 평소에는 청크 트랜잭션 하나에 여러 건이
+ * 합류하고, 청크가 실패하면 엔진이 건마다 새 트랜잭션으로 다시 부른다 — 한 건의 실패(락 타임아웃·주문 상태
+ * 경합)가 같은 청크의 다른 건을 끝내 막지 않는다.
  *
- * <p>스캔 시점의 스냅샷을 믿지 않고 <b>비관적 락으로 재조회해 권위 재검증</b>한다 — 스캔과 처리 사이에
- * 입금이 도착해 승인(AUTHORIZED)됐을 수 있다. 그 경우 도메인 전이 가드가 만료를 차단한다
+ * <p>스캔 시점의 스냅샷을 믿지 않고 <b>비관적 락으로 재조회해 권위 재검증</b>한다 — 청크 claim 이 이미
+ * 잠갔어도 단건 재시도 경로에는 그 잠금이 없고, 스캔과 처리 사이에 입금이 도착해 승인(AUTHORIZED)됐을
+ * 수 있다. 그 경우 도메인 전이 가드가 만료를 차단한다
  * ({@link PaymentDomain#expire()} → READY 에서만 EXPIRED 도달).
  */
 @Component
@@ -43,7 +44,7 @@ public class PaymentExpiryProcessor {
      * @return 주문까지 취소했으면 true. 결제만 만료하고 주문은 손대지 않았으면 false
      *         (이미 결제·취소된 주문에 잔류 결제 행만 남은 경우)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public boolean expireAndCancelOrder(Long paymentId) {
         PaymentDomain payment = loadPaymentPort.loadByIdForUpdate(paymentId)
                 .orElseThrow(() -> new PaymentNotFoundException(paymentId));
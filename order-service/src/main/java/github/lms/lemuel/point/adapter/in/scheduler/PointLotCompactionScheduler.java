@@ -0,0 +1,47 @@
+package github.lms.lemuel.point.adapter.in.scheduler;
+
+import github.lms.lemuel.point.application.port.in.CompactPointLotsUseCase;
+import github.lms.lemuel.point.application.port.in.CompactPointLotsUseCase.CompactPointLotsCommand;
+import github.lms.lemuel.point.application.port.in.CompactPointLotsUseCase.CompactPointLotsResult;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 로트 압축 배치 — 같은 만료일·출처의 로트를 하나로 모아 사용 경로가 읽는 로트 수를 줄인다.
+ *
+ * <p>소멸 배치({@code order-point-lot-expiry}, 03:40) 뒤에 돈다. 먼저 돌면 곧 소멸될 로트까지 합치느라
+ * 할 일만 늘어난다. 락 이름 {@code order-point-lot-compaction} 은 전역 유일하다.
+ */
+@Component
+public class PointLotCompactionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLotCompactionScheduler.class);
+
+    private final CompactPointLotsUseCase useCase;
+    private final int batchSize;
+
+    public PointLotCompactionScheduler(CompactPointLotsUseCase useCase,
+                                       @Value("${app.point.compaction.batch-size:1000}") int batchSize) {
+        this.useCase = useCase;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.point.compaction.cron:0 20 4 * * *}", zone = "Asia/Seoul")
+    @SchedulerLock(name = "order-point-lot-compaction", lockAtMostFor = "PT30M")
+    public void compact() {
+        try {
+            CompactPointLotsResult result = useCase.compact(new CompactPointLotsCommand(batchSize, false));
+            if (result.mergedLotCount() > 0) {
+                log.info("포인트 로트 압축 배치: groups={}, 흡수 lots={}",
+                        result.groupCount(), result.mergedLotCount());
+            }
+        } catch (RuntimeException exception) {
+            // 스케줄러 밖으로 예외가 새면 이후 주기가 멈출 수 있다 — 남기되 스레드는 지킨다.
+            log.error("포인트 로트 압축 배치 실패 — 다음 주기에 재시도한다", exception);
+        }
+    }
+}
@@ -54,6 +54,9 @@ public class PointLotJpaEntity {
     @Column(name = "reference_id", nullable = false, length = 100)
     private String referenceId;
 
+    @Column(name = "merged_into_lot_id")
+    private Long mergedIntoLotId;
+
     @Version
     @Column(name = "version", nullable = false)
     private long version;
@@ -66,7 +69,6 @@ public class PointLotJpaEntity {
         entity.id = lot.getId();
         entity.accountId = lot.getAccountId();
         entity.origin = lot.getOrigin();
-        entity.originalAmount = lot.getOriginalAmount();
         entity.grantedAt = lot.getGrantedAt();
         entity.expiresAt = lot.getExpiresAt();
         entity.referenceType = lot.getReferenceType();
@@ -76,13 +78,16 @@ public class PointLotJpaEntity {
     }
 
     void apply(PointLot lot) {
+        // 압축으로 흡수한 로트는 원 발급액이 늘어난다 — 그 밖의 경로에서는 변하지 않는다.
+        this.originalAmount = lot.getOriginalAmount();
         this.remainingAmount = lot.getRemainingAmount();
         this.status = lot.getStatus();
+        this.mergedIntoLotId = lot.getMergedIntoLotId();
     }
 
     PointLot toDomain() {
         return PointLot.rehydrate(id, accountId, origin, originalAmount, remainingAmount, status,
-                grantedAt, expiresAt, referenceType, referenceId, version);
+                grantedAt, expiresAt, referenceType, referenceId, mergedIntoLotId, version);
     }
 
     Long getId() {
@@ -1,5 +1,6 @@
 package github.lms.lemuel.point.adapter.out.persistence;
 
+import github.lms.lemuel.point.domain.PointLotOrigin;
 import github.lms.lemuel.point.domain.PointLotStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,13 +13,34 @@ import java.util.List;
 
 public interface PointLotRepository extends JpaRepository<PointLotJpaEntity, Long> {
 
-    /** 소비 가능한 로트. 정렬은 도메인(PointLotSelector)이 책임지므로 순서를 약속하지 않는다. */
+    /**
+     * 만료일이 있는 소비 가능 로트를 (만료일, id) 키셋 다음부터 — {@code idx_point_lots_consume} 를
+     * 앞에서부터 LIMIT 만큼만 훑는다. 무기한 로트는 {@link #findConsumableUnlimitedAfter} 가 맡는다.
+     */
     @Query("""
             select l from PointLotJpaEntity l
             where l.accountId = :accountId and l.status = :status and l.remainingAmount > 0
+              and l.expiresAt is not null
+              and (l.expiresAt > :afterExpiresAt or (l.expiresAt = :afterExpiresAt and l.id > :afterId))
+            order by l.expiresAt asc, l.id asc
             """)
-    List<PointLotJpaEntity> findConsumable(@Param("accountId") Long accountId,
-                                           @Param("status") PointLotStatus status);
+    List<PointLotJpaEntity> findConsumableExpiringAfter(@Param("accountId") Long accountId,
+                                                        @Param("status") PointLotStatus status,
+                                                        @Param("afterExpiresAt") OffsetDateTime afterExpiresAt,
+                                                        @Param("afterId") Long afterId,
+                                                        Pageable pageable);
+
+    /** 무기한 소비 가능 로트를 id 키셋 다음부터. 소비 순서에서 언제나 만료일 있는 로트 뒤다. */
+    @Query("""
+            select l from PointLotJpaEntity l
+            where l.accountId = :accountId and l.status = :status and l.remainingAmount > 0
+              and l.expiresAt is null and l.id > :afterId
+            order by l.id asc
+            """)
+    List<PointLotJpaEntity> findConsumableUnlimitedAfter(@Param("accountId") Long accountId,
+                                                         @Param("status") PointLotStatus status,
+                                                         @Param("afterId") Long afterId,
+                                                         Pageable pageable);
 
     /** 소멸 배치 스캔 — 계정별로 묶어 처리할 수 있게 accountId 순으로 돌려준다. */
     @Query("""
@@ -31,4 +53,37 @@ public interface PointLotRepository extends JpaRepository<PointLotJpaEntity, Lon
                                         Pageable pageable);
 
     List<PointLotJpaEntity> findByIdIn(Collection<Long> ids);
+
+    /** 압축 묶음 — [accountId, origin, expiresAt, count]. 같은 계정의 묶음이 이어지도록 계정 순. */
+    @Query("""
+            select l.accountId, l.origin, l.expiresAt, count(l) from PointLotJpaEntity l
+            where l.status = :status and l.origin in :origins
+            group by l.accountId, l.origin, l.expiresAt
+            having count(l) > 1
+            order by l.accountId asc
+            """)
+    List<Object[]> findCompactionGroups(@Param("status") PointLotStatus status,
+                                        @Param("origins") Collection<PointLotOrigin> origins,
+                                        Pageable pageable);
+
+    @Query("""
+            select l from PointLotJpaEntity l
+            where l.accountId = :accountId and l.status = :status and l.origin = :origin
+              and l.expiresAt = :expiresAt
+            order by l.id asc
+            """)
+    List<PointLotJpaEntity> findGroupExpiringAt(@Param("accountId") Long accountId,
+                                                @Param("status") PointLotStatus status,
+                                                @Param("origin") PointLotOrigin origin,
+                                                @Param("expiresAt") OffsetDateTime expiresAt);
+
+    @Query("""
+            select l from PointLotJpaEntity l
+            where l.accountId = :accountId and l.status = :status and l.origin = :origin
+              and l.expiresAt is null
+            order by l.id asc
+            """)
+    List<PointLotJpaEntity> findGroupUnlimited(@Param("accountId") Long accountId,
+                                               @Param("status") PointLotStatus status,
+                                               @Param("origin") PointLotOrigin origin);
 }
@@ -10,6 +10,7 @@ import github.lms.lemuel.point.domain.PointEarnScope;
 import github.lms.lemuel.point.domain.PointEntry;
 import github.lms.lemuel.point.domain.PointEntryType;
 import github.lms.lemuel.point.domain.PointLot;
+import github.lms.lemuel.point.domain.PointLotOrigin;
 import github.lms.lemuel.point.domain.PointLotStatus;
 import github.lms.lemuel.point.domain.exception.PointInvariantViolationException;
 import org.springframework.data.domain.PageRequest;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -90,11 +92,24 @@ public class PointPersistenceAdapter
 
     // ── PointLotPort ──────────────────────────────────────────────────────────
 
-    @Override
-    public List<PointLot> loadConsumable(Long accountId) {
-        return lots.findConsumable(accountId, PointLotStatus.ACTIVE).stream()
-                .map(PointLotJpaEntity::toDomain)
-                .toList();
+    /**
+     * 만료일 있는 구간을 먼저 키셋으로 훑고, 그 쪽이 모자라면 같은 호출 안에서 무기한 구간 앞부분으로
+     * 채운다. 두 구간을 질의로 나누는 것은 {@code NULLS LAST} 정렬을 키셋 조건으로 표현하지 않기 위해서다.
+     */
+    @Override
+    public List<PointLot> loadConsumablePage(Long accountId, ConsumeCursor after, int limit) {
+        List<PointLotJpaEntity> page = new ArrayList<>(limit);
+        long unlimitedAfterId = after.id();
+        if (!after.inUnlimitedRange()) {
+            page.addAll(lots.findConsumableExpiringAfter(accountId, PointLotStatus.ACTIVE,
+                    after.expiresAt(), after.id(), PageRequest.of(0, limit)));
+            unlimitedAfterId = 0L;
+        }
+        if (page.size() < limit) {
+            page.addAll(lots.findConsumableUnlimitedAfter(accountId, PointLotStatus.ACTIVE,
+                    unlimitedAfterId, PageRequest.of(0, limit - page.size())));
+        }
+        return page.stream().map(PointLotJpaEntity::toDomain).toList();
     }
 
     @Override
@@ -139,6 +154,29 @@ public class PointPersistenceAdapter
         return result;
     }
 
+    @Override
+    public List<CompactionGroup> findCompactionGroups(int limit) {
+        List<PointLotOrigin> compactable = Arrays.stream(PointLotOrigin.values())
+                .filter(PointLotOrigin::isCompactable)
+                .toList();
+        return lots.findCompactionGroups(PointLotStatus.ACTIVE, compactable, PageRequest.of(0, limit)).stream()
+                .map(row -> new CompactionGroup(
+                        ((Number) row[0]).longValue(),
+                        (PointLotOrigin) row[1],
+                        (OffsetDateTime) row[2],
+                        ((Number) row[3]).longValue()))
+                .toList();
+    }
+
+    @Override
+    public List<PointLot> loadCompactionGroup(CompactionGroup group) {
+        List<PointLotJpaEntity> members = group.expiresAt() == null
+                ? lots.findGroupUnlimited(group.accountId(), PointLotStatus.ACTIVE, group.origin())
+                : lots.findGroupExpiringAt(group.accountId(), PointLotStatus.ACTIVE, group.origin(),
+                        group.expiresAt());
+        return members.stream().map(PointLotJpaEntity::toDomain).toList();
+    }
+
     // ── PointEntryPort ────────────────────────────────────────────────────────
 
     @Override
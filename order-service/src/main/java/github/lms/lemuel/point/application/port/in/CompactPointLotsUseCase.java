@@ -0,0 +1,20 @@
+package github.lms.lemuel.point.application.port.in;
+
+/**
+ * 포인트 로트 압축 유스케이스 — 같은 (계정, 출처, 만료일) 의 ACTIVE 로트를 하나로 합친다.
+ *
+ * <p>잔고도 소멸 일정도 바꾸지 않는 정리 작업이지만, 로트 행을 대량으로 고치므로 소멸 배치와 같이
+ * {@code dryRun} 으로 규모를 먼저 볼 수 있게 한다.
+ */
+public interface CompactPointLotsUseCase {
+
+    /** @param batchSize 한 번에 처리할 압축 묶음 수 상한 */
+    record CompactPointLotsCommand(int batchSize, boolean dryRun) {
+    }
+
+    /** @param mergedLotCount 다른 로트에 흡수되어 닫힌 로트 수(dry-run 이면 닫힐 예정 수) */
+    record CompactPointLotsResult(int groupCount, int mergedLotCount, boolean dryRun) {
+    }
+
+    CompactPointLotsResult compact(CompactPointLotsCommand command);
+}
@@ -1,6 +1,7 @@
 package github.lms.lemuel.point.application.port.out;
 
 import github.lms.lemuel.point.domain.PointLot;
+import github.lms.lemuel.point.domain.PointLotOrigin;
 
 import java.time.OffsetDateTime;
 import java.util.Collection;
@@ -9,13 +10,18 @@ import java.util.List;
 /**
  * 포인트 로트 적재·저장 포트.
  *
- * <p>{@link #loadConsumable} 은 소비 가능한(ACTIVE, 잔량 &gt; 0) 로트만 돌려준다. 정렬은
- * {@code PointLotSelector} 가 책임지므로 순서를 약속하지 않는다 — 저장소가 정렬을 보장한다고
- * 믿으면, 인덱스가 바뀌는 날 소비 순서가 조용히 달라진다.
+ * <p>{@link #loadConsumablePage} 는 소비 가능한(ACTIVE, 잔량 &gt; 0) 로트를 <b>소비 순서대로 한 쪽씩</b>
+ * 돌려준다 — 적립이 잦은 계정은 로트가 수천 개라, 전부 읽어 고르면 사용 한 번의 비용이 로트 수에
+ * 비례해 자란다. 페이지 경계를 정하는 데만 순서를 쓰고, 최종 소비 순서는 여전히
+ * {@code PointLotSelector} 가 정한다 — 저장소 정렬과 도메인 정렬이 어긋나도 순서가 조용히 바뀌지 않게.
  */
 public interface PointLotPort {
 
-    List<PointLot> loadConsumable(Long accountId);
+    /**
+     * 소비 순서(만료 임박 순, 무기한은 마지막, 같으면 id 순)로 {@code after} 다음 로트를 최대 {@code limit} 건.
+     * 첫 쪽은 {@link ConsumeCursor#START} 로 부른다. {@code limit} 보다 적게 오면 마지막 쪽이다.
+     */
+    List<PointLot> loadConsumablePage(Long accountId, ConsumeCursor after, int limit);
 
     /** 환불 복원 때 원 로트를 찾기 위해 id 로 적재한다. */
     List<PointLot> loadByIds(Collection<Long> lotIds);
@@ -26,4 +32,38 @@ public interface PointLotPort {
     PointLot save(PointLot lot);
 
     List<PointLot> saveAll(List<PointLot> lots);
+
+    /**
+     * 압축 대상 — 같은 (계정, 출처, 만료일) 의 ACTIVE 로트가 둘 이상인 묶음을 계정 순으로 최대 {@code limit} 개.
+     * 압축할 수 없는 출처({@link PointLotOrigin#isCompactable()})는 처음부터 빠진다.
+     */
+    List<CompactionGroup> findCompactionGroups(int limit);
+
+    /** 압축 묶음의 ACTIVE 로트 전부, id 순. */
+    List<PointLot> loadCompactionGroup(CompactionGroup group);
+
+    /**
+     * 소비 순서 키셋 커서 — 마지막으로 받은 로트의 (만료일, id).
+     * 만료일이 null 이면 무기한 구간에 들어선 것이다.
+     */
+    record ConsumeCursor(OffsetDateTime expiresAt, Long id) {
+
+        /**
+         * 첫 쪽. 로트는 적립 시각보다 뒤에 만료되고(DB CHECK) 적립 시각은 epoch 이후이므로,
+         * (epoch, 0) 은 어떤 로트보다도 앞선다.
+         */
+        public static final ConsumeCursor START =
+                new ConsumeCursor(OffsetDateTime.parse("1970-01-01T00:00:00Z"), 0L);
+
+        public static ConsumeCursor after(PointLot lot) {
+            return new ConsumeCursor(lot.getExpiresAt(), lot.getId());
+        }
+
+        public boolean inUnlimitedRange() {
+            return expiresAt == null;
+        }
+    }
+
+    record CompactionGroup(Long accountId, PointLotOrigin origin, OffsetDateTime expiresAt, long lotCount) {
+    }
 }
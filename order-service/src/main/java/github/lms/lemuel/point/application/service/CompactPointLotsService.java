@@ -0,0 +1,115 @@
+package github.lms.lemuel.point.application.service;
+
+import github.lms.lemuel.point.application.port.in.CompactPointLotsUseCase;
+import github.lms.lemuel.point.application.port.out.PointAccountPort;
+import github.lms.lemuel.point.application.port.out.PointLotPort;
+import github.lms.lemuel.point.application.port.out.PointLotPort.CompactionGroup;
+import github.lms.lemuel.point.domain.PointLot;
+import github.lms.lemuel.point.domain.exception.PointInvariantViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 로트 압축 배치 — 같은 (계정, 출처, 만료일) 의 ACTIVE 로트를 묶음의 가장 오래된 로트로 모은다.
+ *
+ * <p>사용 경로는 요청액을 덮을 만큼만 로트를 읽으므로({@link ConsumableLots}) 비용이 "건드리는 로트 수"
+ * 에 비례한다. 같은 날 만료되는 자잘한 적립이 수십 개면 그만큼 읽고 고친다 — 합쳐 두면 한 개다.
+ * 완전히 소진된 로트는 이미 {@code idx_point_lots_consume}(ACTIVE 만 색인)에서 빠져 있어 사용 경로의
+ * 비용에 들어가지 않으므로 건드리지 않는다. 환불 복원이 그 로트로 되돌아와야 하기 때문이기도 하다.
+ *
+ * <p>잔고는 변하지 않으므로 원장 엔트리를 남기지 않는다. 대신 흡수된 로트가 {@code mergedIntoLotId} 를
+ * 남겨, 그 로트를 가리키는 소비 기록이 환불 때 흡수한 로트로 이어진다.
+ *
+ * <p>계정 락을 잡는 이유는 사용 경로와의 경합이다 — 압축 중인 로트를 사용이 동시에 깎으면 한쪽은
+ * 낙관적 락 충돌로 실패한다. 사용과 같은 락을 잡아 줄을 세우면 충돌이 생기지 않는다.
+ *
+ * <p>트랜잭션은 계정마다 따로 연다(REQUIRES_NEW). 배치 전체를 한 트랜잭션으로 묶으면 앞에서 잡은 계정
+ * 락(FOR UPDATE)이 마지막 계정까지 풀리지 않아, 그동안 그 계정들의 사용 요청이 전부 줄을 선다. 계정 하나가
+ * 실패해도 그 계정만 롤백하고 나머지는 계속한다 — 남은 묶음은 다음 주기의 집계에 다시 잡힌다.
+ */
+@Service
+public class CompactPointLotsService implements CompactPointLotsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactPointLotsService.class);
+
+    private final PointAccountPort accountPort;
+    private final PointLotPort lotPort;
+    private final TransactionTemplate perAccount;
+
+    public CompactPointLotsService(PointAccountPort accountPort, PointLotPort lotPort,
+                                   PlatformTransactionManager transactionManager) {
+        this.accountPort = accountPort;
+        this.lotPort = lotPort;
+        this.perAccount = new TransactionTemplate(transactionManager);
+        this.perAccount.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public CompactPointLotsResult compact(CompactPointLotsCommand command) {
+        List<CompactionGroup> groups = lotPort.findCompactionGroups(command.batchSize());
+        if (groups.isEmpty()) {
+            return new CompactPointLotsResult(0, 0, command.dryRun());
+        }
+
+        if (command.dryRun()) {
+            int preview = groups.stream().mapToInt(group -> Math.toIntExact(group.lotCount() - 1)).sum();
+            log.info("포인트 로트 압축 dry-run: groups={}, 흡수예정 lots={}", groups.size(), preview);
+            return new CompactPointLotsResult(groups.size(), preview, true);
+        }
+
+        Map<Long, List<CompactionGroup>> byAccount = new LinkedHashMap<>();
+        for (CompactionGroup group : groups) {
+            byAccount.computeIfAbsent(group.accountId(), key -> new ArrayList<>()).add(group);
+        }
+
+        int merged = 0;
+        int failedAccounts = 0;
+        for (Map.Entry<Long, List<CompactionGroup>> account : byAccount.entrySet()) {
+            try {
+                Integer compacted = perAccount.execute(status -> compactAccount(account.getKey(), account.getValue()));
+                merged += compacted == null ? 0 : compacted;
+            } catch (RuntimeException exception) {
+                failedAccounts++;
+                log.warn("포인트 로트 압축 계정 실패 — 롤백하고 다음 계정으로: accountId={}", account.getKey(), exception);
+            }
+        }
+
+        log.info("포인트 로트 압축 완료: groups={}, accounts={}, 실패 accounts={}, 흡수 lots={}",
+                groups.size(), byAccount.size(), failedAccounts, merged);
+        return new CompactPointLotsResult(groups.size(), merged, false);
+    }
+
+    private int compactAccount(Long accountId, List<CompactionGroup> groups) {
+        accountPort.loadByIdForUpdate(accountId)
+                .orElseThrow(() -> new PointInvariantViolationException(
+                        "로트가 가리키는 계정이 없습니다: accountId=" + accountId));
+
+        int merged = 0;
+        for (CompactionGroup group : groups) {
+            // 집계와 락 사이에 사용·소멸이 끼었을 수 있으므로 락을 잡은 뒤 묶음을 다시 읽는다.
+            List<PointLot> members = lotPort.loadCompactionGroup(group);
+            if (members.size() < 2) {
+                continue;
+            }
+            PointLot survivor = members.get(0);
+            List<PointLot> changed = new ArrayList<>(members.size());
+            for (PointLot absorbed : members.subList(1, members.size())) {
+                survivor.absorb(absorbed);
+                changed.add(absorbed);
+            }
+            changed.add(survivor);
+            lotPort.saveAll(changed);
+            merged += members.size() - 1;
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,56 @@
+package github.lms.lemuel.point.application.service;
+
+import github.lms.lemuel.point.application.port.out.PointLotPort;
+import github.lms.lemuel.point.application.port.out.PointLotPort.ConsumeCursor;
+import github.lms.lemuel.point.domain.PointLot;
+import github.lms.lemuel.point.domain.PointLotConsumption;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 잔고를 줄이는 경로(사용·수기 차감)가 로트를 읽는 방식 — 요청액을 덮을 만큼만 소비 순서대로 읽는다.
+ *
+ * <p>예전에는 계정의 소비 가능 로트를 전부 읽고 {@code PointLotSelector} 가 골랐다. 적립이 잦은 계정은
+ * 로트가 수천 개라 사용 한 번의 비용이 로트 수에 비례해 자랐다. 소비는 언제나 앞에서부터 먹으므로
+ * 요청액을 덮는 앞부분만 있으면 선택 결과가 같다 — 그래서 쪽 단위로 읽다가 덮이면 멈춘다.
+ *
+ * <p>덮지 못한 채 끝까지 읽으면 읽은 것을 그대로 돌려준다. 잔액 부족 판정은 selector 의 몫이다.
+ */
+final class ConsumableLots {
+
+    /** 한 쪽의 크기. 대부분의 사용은 첫 쪽에서 끝나므로 크게 잡을 이유가 없다. */
+    static final int PAGE_SIZE = 50;
+
+    private ConsumableLots() {
+    }
+
+    static List<PointLot> covering(PointLotPort lotPort, Long accountId, BigDecimal requested) {
+        List<PointLot> loaded = new ArrayList<>();
+        BigDecimal covered = BigDecimal.ZERO;
+        ConsumeCursor cursor = ConsumeCursor.START;
+        while (covered.compareTo(requested) < 0) {
+            List<PointLot> page = lotPort.loadConsumablePage(accountId, cursor, PAGE_SIZE);
+            for (PointLot lot : page) {
+                loaded.add(lot);
+                covered = covered.add(lot.getRemainingAmount());
+            }
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            cursor = ConsumeCursor.after(page.get(page.size() - 1));
+        }
+        return loaded;
+    }
+
+    /** 실제로 깎인 로트만 — 마지막 쪽에서 덤으로 읽힌 로트까지 저장할 필요는 없다. */
+    static List<PointLot> touched(List<PointLot> lots, List<PointLotConsumption> allocations) {
+        Set<Long> consumedIds = allocations.stream()
+                .map(PointLotConsumption::lotId)
+                .collect(Collectors.toSet());
+        return lots.stream().filter(lot -> consumedIds.contains(lot.getId())).toList();
+    }
+}
@@ -83,14 +83,14 @@ public class DeductPointService implements DeductPointUseCase {
         // 이미 소비된 로트를 되돌려야 한다.
         account.deduct(command.amount());
 
-        List<PointLot> lots = lotPort.loadConsumable(account.getId());
+        List<PointLot> lots = ConsumableLots.covering(lotPort, account.getId(), command.amount());
         List<PointLotConsumption> allocations = PointLotSelector.consume(lots, command.amount());
 
         PointEntry entry = PointEntry.manualDeduct(account.getId(), command.amount(),
                 command.referenceId(), sequence, allocations, command.actor(), command.reason());
 
         PointAccount saved = accountPort.save(account);
-        lotPort.saveAll(lots);
+        lotPort.saveAll(ConsumableLots.touched(lots, allocations));
         PointEntry appended = entryPort.append(entry);
         eventPort.pointRevoked(saved, appended);
 
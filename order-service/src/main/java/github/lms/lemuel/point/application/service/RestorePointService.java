@@ -37,7 +37,8 @@ import java.util.Map;
  * 쓰지 않았더라면 그 로트는 여전히 원래 만료일을 가졌을 것이므로 이쪽이 정확하다. 이미
  * <b>소멸·취소</b>된 로트는 되살리지 않고 {@link PointLotOrigin#REFUND_RESTORE} 로 새 로트를
  * 발급하되, 유효기간은 <b>원 로트가 가졌던 기간과 같은 길이</b>를 지금부터 적용한다(무기한이었다면
- * 무기한). 기본 정책값을 쓰면 원래보다 긴 유효기간을 덤으로 주게 된다.
+ * 무기한). 기본 정책값을 쓰면 원래보다 긴 유효기간을 덤으로 주게 된다. 압축으로 <b>병합</b>된 로트는
+ * 흡수한 로트(같은 만료일·출처)를 따라가 그쪽으로 되돌린다.
  *
  * <p>총액 상한은 두 겹으로 보장된다: 결제 도메인이 초과 환불을 막고
  * ({@code PaymentTender.addRefund}), 로트가 원 발급액 초과 복원을 막는다.
@@ -48,6 +49,9 @@ public class RestorePointService implements RestorePointUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(RestorePointService.class);
 
+    /** 병합 사슬 추적 상한 — 압축은 묶음의 가장 오래된 로트로 모으므로 실제 사슬은 한두 단계다. */
+    private static final int MAX_MERGE_HOPS = 8;
+
     private final PointAccountPort accountPort;
     private final PointLotPort lotPort;
     private final PointEntryPort entryPort;
@@ -159,11 +163,14 @@ public class RestorePointService implements RestorePointUseCase {
                 throw new InvalidPointStateException(
                         "복원 대상 로트를 찾을 수 없습니다: lotId=" + item.lotId(), "NONE", "restore");
             }
-            if (origin.getStatus() == PointLotStatus.ACTIVE
-                    || origin.getStatus() == PointLotStatus.EXHAUSTED) {
-                origin.restoreConsumed(item.amount());
-                revived.add(origin);
-                allocations.add(item);
+            PointLot target = followMerges(origin);
+            if (target.getStatus() == PointLotStatus.ACTIVE
+                    || target.getStatus() == PointLotStatus.EXHAUSTED) {
+                target.restoreConsumed(item.amount());
+                if (!revived.contains(target)) {
+                    revived.add(target);
+                }
+                allocations.add(new PointLotConsumption(target.getId(), item.amount()));
             } else {
                 PointLot replacement = issueReplacement(account.getId(), origin, item.amount());
                 PointLot savedReplacement = lotPort.save(replacement);
@@ -176,6 +183,25 @@ public class RestorePointService implements RestorePointUseCase {
         return allocations;
     }
 
+    /**
+     * 압축으로 흡수된 로트면 흡수한 로트까지 따라간다. 만료일·출처가 같은 로트이므로 그쪽으로 되돌리는 것이
+     * 원 로트로 되돌리는 것과 같다. 흡수한 로트가 그 뒤 다시 흡수되었을 수 있어 사슬을 끝까지 탄다.
+     */
+    private PointLot followMerges(PointLot lot) {
+        PointLot current = lot;
+        for (int hop = 0; current.getStatus() == PointLotStatus.MERGED; hop++) {
+            if (hop >= MAX_MERGE_HOPS) {
+                throw new InvalidPointStateException(
+                        "로트 병합 사슬이 너무 깁니다: lotId=" + lot.getId(), current.getStatus().name(), "restore");
+            }
+            Long survivorId = current.getMergedIntoLotId();
+            current = lotPort.loadByIds(List.of(survivorId)).stream().findFirst()
+                    .orElseThrow(() -> new InvalidPointStateException(
+                            "병합 대상 로트를 찾을 수 없습니다: lotId=" + survivorId, "MERGED", "restore"));
+        }
+        return current;
+    }
+
     private PointLot issueReplacement(Long accountId, PointLot origin, BigDecimal amount) {
         OffsetDateTime now = OffsetDateTime.now();
         OffsetDateTime expiresAt = null;
@@ -29,7 +29,8 @@ import java.util.Optional;
  *   <li><b>멱등 단축 반환</b> — 같은 참조로 이미 기록된 사용이면 아무것도 하지 않는다.
  *   <li><b>비관적 락</b>으로 계정을 잡는다. 잔액 확인과 차감 사이에 다른 요청이 끼어들면
  *       같은 포인트가 두 번 쓰인다(재고 read-modify-write 와 같은 함정).
- *   <li>로트에서 만료 임박 순으로 소비 계획을 세우고 <b>총액이 확인된 뒤에만</b> 적용한다.
+ *   <li>로트를 만료 임박 순으로 요청액을 덮을 만큼만 읽어({@link ConsumableLots}) 소비 계획을 세우고
+ *       <b>총액이 확인된 뒤에만</b> 적용한다.
  *   <li>계정·로트·원장을 같은 트랜잭션에서 저장하고 이벤트를 Outbox 에 넣는다.
  * </ol>
  *
@@ -74,16 +75,16 @@ public class UsePointService implements UsePointUseCase {
             return new UsePointResult(null, command.amount(), account.getAvailable());
         }
 
-        List<PointLot> lots = lotPort.loadConsumable(account.getId());
         // 계정 잔고를 먼저 줄여 상태 규칙(정지 계정 등)과 잔액 부족을 판정한 뒤 로트를 건드린다.
         account.use(command.amount());
+        List<PointLot> lots = ConsumableLots.covering(lotPort, account.getId(), command.amount());
         List<PointLotConsumption> allocations = PointLotSelector.consume(lots, command.amount());
 
         PointEntry entry = PointEntry.use(account.getId(), command.amount(),
                 command.referenceType(), command.referenceId(), sequence, allocations, command.actor());
 
         PointAccount saved = accountPort.save(account);
-        lotPort.saveAll(lots);
+        lotPort.saveAll(ConsumableLots.touched(lots, allocations));
         PointEntry appended = entryPort.append(entry);
         eventPort.pointUsed(saved, appended);
 
@@ -5,6 +5,7 @@ import github.lms.lemuel.point.domain.exception.InvalidPointStateException;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.Objects;
 
 /**
  * 포인트 적립 로트 — 적립 1건이 곧 로트 1개다.
@@ -21,18 +22,20 @@ public class PointLot {
     private Long id;
     private final Long accountId;
     private final PointLotOrigin origin;
-    private final BigDecimal originalAmount;
+    private BigDecimal originalAmount;
     private BigDecimal remainingAmount;
     private PointLotStatus status;
     private final OffsetDateTime grantedAt;
     private final OffsetDateTime expiresAt;
     private final String referenceType;
     private final String referenceId;
+    private Long mergedIntoLotId;
     private long version;
 
     private PointLot(Long id, Long accountId, PointLotOrigin origin, BigDecimal originalAmount,
                      BigDecimal remainingAmount, PointLotStatus status, OffsetDateTime grantedAt,
-                     OffsetDateTime expiresAt, String referenceType, String referenceId, long version) {
+                     OffsetDateTime expiresAt, String referenceType, String referenceId,
+                     Long mergedIntoLotId, long version) {
         this.id = id;
         this.accountId = accountId;
         this.origin = origin;
@@ -43,6 +46,7 @@ public class PointLot {
         this.expiresAt = expiresAt;
         this.referenceType = referenceType;
         this.referenceId = referenceId;
+        this.mergedIntoLotId = mergedIntoLotId;
         this.version = version;
     }
 
@@ -66,7 +70,7 @@ public class PointLot {
                     "만료일(" + expiresAt + ")은 적립일(" + grantedAt + ")보다 뒤여야 합니다", "NONE", "issue");
         }
         return new PointLot(null, accountId, origin, value, value, PointLotStatus.ACTIVE,
-                grantedAt, expiresAt, referenceType, referenceId, 0L);
+                grantedAt, expiresAt, referenceType, referenceId, null, 0L);
     }
 
     public static PointLot rehydrate(Long id, Long accountId, PointLotOrigin origin,
@@ -74,10 +78,19 @@ public class PointLot {
                                      PointLotStatus status, OffsetDateTime grantedAt,
                                      OffsetDateTime expiresAt, String referenceType,
                                      String referenceId, long version) {
+        return rehydrate(id, accountId, origin, originalAmount, remainingAmount, status, grantedAt,
+                expiresAt, referenceType, referenceId, null, version);
+    }
+
+    public static PointLot rehydrate(Long id, Long accountId, PointLotOrigin origin,
+                                     BigDecimal originalAmount, BigDecimal remainingAmount,
+                                     PointLotStatus status, OffsetDateTime grantedAt,
+                                     OffsetDateTime expiresAt, String referenceType,
+                                     String referenceId, Long mergedIntoLotId, long version) {
         return new PointLot(id, accountId, origin,
                 PointAmounts.normalize(originalAmount, "rehydrate"),
                 PointAmounts.normalize(remainingAmount, "rehydrate"),
-                status, grantedAt, expiresAt, referenceType, referenceId, version);
+                status, grantedAt, expiresAt, referenceType, referenceId, mergedIntoLotId, version);
     }
 
     // ──────────────────────────────────────────────────────────────────────────
@@ -126,6 +139,49 @@ public class PointLot {
         this.status = PointLotStatus.ACTIVE;
     }
 
+    // ──────────────────────────────────────────────────────────────────────────
+    // 압축
+    // ──────────────────────────────────────────────────────────────────────────
+
+    /**
+     * 같은 계정·출처·만료일의 로트 {@code other} 를 이 로트로 흡수한다. 흡수한 잔량을 반환한다.
+     *
+     * <p>만료일과 출처가 같으면 두 로트는 소비 순서에서도, 소멸 시점에도, GL 상대계정에서도 구별되지
+     * 않는다 — 하나로 합쳐도 고객이 보는 잔고와 소멸 일정은 그대로다. 합치는 이유는 사용 경로의
+     * 비용이 "건드리는 로트 수" 에 비례하기 때문이다.
+     *
+     * <p>원 발급액은 흡수한 로트의 <b>원 발급액</b>만큼 늘린다(잔량이 아니라). 흡수된 로트에서 이미
+     * 소비된 몫이 환불로 되돌아올 때 이 로트로 복원되므로({@link #restoreConsumed}), 그만큼의 복원
+     * 여유가 필요하다. 흡수된 로트는 잔량 0 의 {@link PointLotStatus#MERGED} 로 닫히고 흡수한 로트 id 를 남긴다.
+     */
+    public BigDecimal absorb(PointLot other) {
+        requireActive("absorb");
+        if (other == this || id == null || other.id == null || id.equals(other.id)) {
+            throw new InvalidPointStateException(
+                    "자기 자신이나 영속 전 로트는 합칠 수 없습니다: " + id + " ← " + other.id,
+                    status.name(), "absorb");
+        }
+        if (!accountId.equals(other.accountId) || origin != other.origin
+                || !Objects.equals(expiresAt, other.expiresAt)) {
+            throw new InvalidPointStateException(
+                    "계정·출처·만료일이 같은 로트만 합칠 수 있습니다: " + id + " ← " + other.id,
+                    status.name(), "absorb");
+        }
+        if (!origin.isCompactable()) {
+            throw new InvalidPointStateException(
+                    "합칠 수 없는 출처의 로트입니다: " + origin, status.name(), "absorb");
+        }
+        other.requireActive("absorb");
+
+        BigDecimal moved = other.remainingAmount;
+        this.originalAmount = this.originalAmount.add(other.originalAmount);
+        this.remainingAmount = this.remainingAmount.add(moved);
+        other.remainingAmount = PointAmounts.zero();
+        other.status = PointLotStatus.MERGED;
+        other.mergedIntoLotId = this.id;
+        return moved;
+    }
+
     // ──────────────────────────────────────────────────────────────────────────
     // 종단 전이
     // ──────────────────────────────────────────────────────────────────────────
@@ -194,5 +250,6 @@ public class PointLot {
     public OffsetDateTime getExpiresAt() { return expiresAt; }
     public String getReferenceType() { return referenceType; }
     public String getReferenceId() { return referenceId; }
+    public Long getMergedIntoLotId() { return mergedIntoLotId; }
     public long getVersion() { return version; }
 }
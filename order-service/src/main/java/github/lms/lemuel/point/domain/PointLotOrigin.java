@@ -32,4 +32,14 @@ public enum PointLotOrigin {
     public boolean isPromotional() {
         return promotional;
     }
+
+    /**
+     * 로트 압축으로 같은 만료일의 다른 로트와 합쳐도 되는가.
+     *
+     * <p>{@code ORDER_EARN} 만 안 된다 — 주문 취소 시 적립 로트를 <b>로트 id 로</b> 찾아 취소하므로
+     * ({@code RevokeOrderPointService}), 다른 로트에 흡수되면 회수할 대상이 사라진다.
+     */
+    public boolean isCompactable() {
+        return this != ORDER_EARN;
+    }
 }
@@ -0,0 +1,30 @@
+package github.lms.lemuel.product.adapter.in.event;
+
+import github.lms.lemuel.product.application.port.in.RefreshProductFacetIndexUseCase;
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort.FacetChange;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 파셋 변경 신호 수신 (Inbound Adapter) — 표시하고 공유 변경 로그에 남긴 뒤 돌아간다.
+ *
+ * <p>여기서 바로 인덱스를 다시 읽지 않는다. 재고 차감 요청 스레드에서 DB 를 한 번 더 읽게 되고,
+ * 같은 상품이 몰리면 같은 읽기가 몰린다. 실제 갱신은 {@code ProductFacetIndexScheduler} 가 모아서 한다.
+ *
+ * <p>{@code fallbackExecution} — 트랜잭션 밖에서 발행된 신호(수동 조립 경로)도 버리지 않는다.
+ */
+@Component
+public class ProductFacetIndexEventListener {
+
+    private final RefreshProductFacetIndexUseCase useCase;
+
+    public ProductFacetIndexEventListener(RefreshProductFacetIndexUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFacetChanged(FacetChange change) {
+        useCase.markChanged(change);
+    }
+}
@@ -0,0 +1,56 @@
+package github.lms.lemuel.product.adapter.in.scheduler;
+
+import github.lms.lemuel.product.application.port.in.RefreshProductFacetIndexUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드별 파셋 인덱스 적재·갱신 주기.
+ *
+ * <p><b>ShedLock 을 걸지 않는다.</b> 인덱스는 노드마다 자기 메모리에 있으므로 모든 노드가 각자 돌아야 한다 —
+ * 락을 걸면 한 노드만 최신이 되고 나머지는 영영 비어 있다.
+ *
+ * <ul>
+ *   <li>재적재 — 기동 직후 한 번, 이후 {@code rebuild-interval} 마다. 신호를 거치지 않은 변경(직접 SQL·백필)과
+ *       변경 로그에 남지 못한 신호를 따라잡는 안전망이다.</li>
+ *   <li>부분 갱신 — {@code refresh-interval} 마다 이 노드의 신호와 공유 변경 로그의 새 줄(다른 노드에서 커밋된
+ *       변경)에 해당하는 상품만 다시 읽는다.</li>
+ * </ul>
+ *
+ * <p>그래서 신호를 거친 변경의 노드 간 지연은 {@code refresh-interval} 수준이고, 그 밖의 변경은 최대
+ * {@code rebuild-interval} 이다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.product.facet-index.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductFacetIndexScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductFacetIndexScheduler.class);
+
+    private final RefreshProductFacetIndexUseCase useCase;
+
+    public ProductFacetIndexScheduler(RefreshProductFacetIndexUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.product.facet-index.rebuild-interval:PT10M}")
+    public void rebuild() {
+        try {
+            useCase.rebuild();
+        } catch (RuntimeException exception) {
+            // 적재에 실패해도 파셋 검색은 DB 경로로 답한다 — 남기고 다음 주기에 다시 한다.
+            log.error("파셋 인덱스 재적재 실패 — DB 경로로 계속 답한다", exception);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.product.facet-index.refresh-interval:PT1S}")
+    public void refreshChanged() {
+        try {
+            useCase.refreshChanged();
+        } catch (RuntimeException exception) {
+            log.error("파셋 인덱스 부분 갱신 실패 — 다음 재적재가 따라잡는다", exception);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package github.lms.lemuel.product.adapter.out.event;
+
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파셋 변경 신호를 스프링 애플리케이션 이벤트로 내보내는 어댑터.
+ *
+ * <p>받는 쪽({@code ProductFacetIndexEventListener})은 커밋 후에만 반응한다 — 롤백된 변경으로
+ * 인덱스를 다시 읽는 일은 없다.
+ */
+@Component
+public class SpringProductFacetChangedPublisher implements PublishProductFacetChangedPort {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SpringProductFacetChangedPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(FacetChange change) {
+        eventPublisher.publishEvent(change);
+    }
+}
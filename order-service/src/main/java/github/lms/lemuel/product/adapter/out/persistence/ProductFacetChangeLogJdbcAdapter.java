@@ -0,0 +1,66 @@
+package github.lms.lemuel.product.adapter.out.persistence;
+
+import github.lms.lemuel.product.application.port.out.ProductFacetChangeLogPort;
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort.FacetChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * {@link ProductFacetChangeLogPort} 구현 — {@code opslab.product_facet_changes}.
+ *
+ * <p>{@link #append} 는 커밋 후 리스너에서 불리므로 <b>REQUIRES_NEW</b> 다. 끝난 트랜잭션의 자원에 합류하면
+ * INSERT 가 커밋되지 않는다. 기록 실패는 삼키고 warn 만 남긴다 — 다른 노드는 전체 재적재로 따라잡는다.
+ */
+@Component
+public class ProductFacetChangeLogJdbcAdapter implements ProductFacetChangeLogPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductFacetChangeLogJdbcAdapter.class);
+
+    private static final RowMapper<LoggedFacetChange> ROW = (rs, i) -> new LoggedFacetChange(
+            rs.getLong("id"),
+            new FacetChange(rs.getObject("product_id", Long.class), rs.getObject("variant_id", Long.class)),
+            rs.getTimestamp("changed_at").toInstant());
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public ProductFacetChangeLogJdbcAdapter(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void append(FacetChange change) {
+        try {
+            jdbc.update("INSERT INTO opslab.product_facet_changes (product_id, variant_id)"
+                            + " VALUES (:productId, :variantId)",
+                    new MapSqlParameterSource()
+                            .addValue("productId", change.productId())
+                            .addValue("variantId", change.variantId()));
+        } catch (RuntimeException e) {
+            log.warn("파셋 변경 로그 기록 실패 — 다른 노드는 재적재로 따라잡는다. change={}", change, e);
+        }
+    }
+
+    @Override
+    public List<LoggedFacetChange> findSince(Instant since) {
+        return jdbc.query("SELECT id, product_id, variant_id, changed_at FROM opslab.product_facet_changes"
+                        + " WHERE changed_at > :since ORDER BY changed_at, id",
+                new MapSqlParameterSource("since", Timestamp.from(since)), ROW);
+    }
+
+    @Override
+    public int purgeBefore(Instant before) {
+        return jdbc.update("DELETE FROM opslab.product_facet_changes WHERE changed_at < :before",
+                new MapSqlParameterSource("before", Timestamp.from(before)));
+    }
+}
@@ -0,0 +1,81 @@
+package github.lms.lemuel.product.adapter.out.persistence;
+
+import github.lms.lemuel.product.application.port.out.LoadProductFacetIndexPort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인메모리 파셋 인덱스의 원천 행 — {@link ProductFacetJdbcAdapter} 와 같은 조인 사슬을 필터 없이 편다.
+ *
+ * <p>판매 가능 여부({@code sellable})는 SQL 경로의 availableOnly 조건과 글자 그대로 같은 식이다.
+ * 둘이 갈라지면 인덱스 경로와 DB 경로가 같은 클릭에 다른 개수를 낸다.
+ */
+@Component
+public class ProductFacetIndexJdbcAdapter implements LoadProductFacetIndexPort {
+
+    private static final String OPTION_ROWS = """
+            SELECT v.id AS variant_id, v.product_id,
+                   (v.status = 'ACTIVE' AND v.stock_quantity > 0) AS sellable,
+                   ax.code AS axis_code, ax.name AS axis_name, poa.sort_order AS axis_sort,
+                   av.code AS value_code, av.name AS value_name, pov.sort_order AS value_sort
+            FROM opslab.product_variants v
+                     JOIN opslab.product_variant_option_values m ON m.variant_id = v.id
+                     JOIN opslab.product_option_values pov ON pov.id = m.product_option_value_id
+                     JOIN opslab.option_axis_values av ON av.id = pov.axis_value_id
+                     JOIN opslab.product_option_axes poa ON poa.id = m.product_option_axis_id
+                     JOIN opslab.option_axes ax ON ax.id = poa.axis_id
+            """;
+
+    private static final String CATEGORY_ROWS = """
+            SELECT pc.product_id, pc.category_id
+            FROM opslab.product_ecommerce_categories pc
+            """;
+
+    private static final RowMapper<VariantOptionRow> OPTION_ROW = (rs, i) -> new VariantOptionRow(
+            rs.getLong("variant_id"), rs.getLong("product_id"), rs.getBoolean("sellable"),
+            rs.getString("axis_code"), rs.getString("axis_name"), rs.getInt("axis_sort"),
+            rs.getString("value_code"), rs.getString("value_name"), rs.getInt("value_sort"));
+
+    private static final RowMapper<ProductCategoryRow> CATEGORY_ROW = (rs, i) -> new ProductCategoryRow(
+            rs.getLong("product_id"), rs.getLong("category_id"));
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public ProductFacetIndexJdbcAdapter(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public FacetIndexRows loadAll() {
+        MapSqlParameterSource none = new MapSqlParameterSource();
+        return new FacetIndexRows(
+                jdbc.query(OPTION_ROWS, none, OPTION_ROW),
+                jdbc.query(CATEGORY_ROWS, none, CATEGORY_ROW));
+    }
+
+    @Override
+    public FacetIndexRows loadForProducts(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return new FacetIndexRows(List.of(), List.of());
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("productIds", productIds);
+        return new FacetIndexRows(
+                jdbc.query(OPTION_ROWS + "WHERE v.product_id IN (:productIds)", params, OPTION_ROW),
+                jdbc.query(CATEGORY_ROWS + "WHERE pc.product_id IN (:productIds)", params, CATEGORY_ROW));
+    }
+
+    @Override
+    public List<Long> findProductIdsOfVariants(Collection<Long> variantIds) {
+        if (variantIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbc.queryForList(
+                "SELECT DISTINCT product_id FROM opslab.product_variants WHERE id IN (:variantIds)",
+                new MapSqlParameterSource("variantIds", variantIds), Long.class);
+    }
+}
@@ -9,10 +9,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -37,6 +40,22 @@ public class ProductPersistenceAdapter implements LoadProductPort, SaveProductPo
                 .map(this::withPrimaryCategory);
     }
 
+    @Override
+    public List<Product> findAllByIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> byId = withPrimaryCategories(repository.findAllById(productIds).stream()
+                .map(mapper::toDomain)
+                .toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return productIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public Optional<Product> findByName(String name) {
         return repository.findByName(name)
@@ -0,0 +1,21 @@
+package github.lms.lemuel.product.application.port.in;
+
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort.FacetChange;
+
+/**
+ * 노드별 인메모리 파셋 인덱스 갱신.
+ *
+ * <p>변경 신호는 즉시 반영하지 않고 모았다가({@link #markChanged}) 한 번에 다시 읽는다({@link #refreshChanged}).
+ * 재고 차감이 몰려도 상품 하나를 한 주기에 한 번만 다시 읽게 하기 위해서다.
+ */
+public interface RefreshProductFacetIndexUseCase {
+
+    /** 이 노드에 표시하고, 다른 노드가 읽도록 공유 변경 로그에 남긴다. */
+    void markChanged(FacetChange change);
+
+    /** 공유 변경 로그의 새 줄까지 더해, 모아 둔 상품만 다시 읽어 인덱스에 반영한다. 반영한 상품 수를 돌려준다. */
+    int refreshChanged();
+
+    /** 전체 재적재 — 기동 직후와, 신호가 닿지 않는 변경(직접 SQL·로그 기록 실패)을 따라잡는 안전망. */
+    void rebuild();
+}
@@ -0,0 +1,43 @@
+package github.lms.lemuel.product.application.port.out;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인메모리 파셋 인덱스를 채우는 원천 행 조회 포트.
+ *
+ * <p>{@link LoadProductFacetPort} 가 "질의에 대한 답" 을 돌려준다면, 이 포트는 답을 만들 재료를 돌려준다 —
+ * SKU 하나가 고른 {@code (축, 값)} 한 쌍이 한 행이다. 인덱스는 이 행들로 (축, 값) 별 SKU 비트맵을 만든다.
+ */
+public interface LoadProductFacetIndexPort {
+
+    /** 전체 재적재용 — 옵션 매핑이 있는 모든 SKU. */
+    FacetIndexRows loadAll();
+
+    /** 부분 갱신용 — 주어진 상품들의 현재 상태. 매핑이 사라진 상품은 행이 없다(인덱스에서 빠진다). */
+    FacetIndexRows loadForProducts(Collection<Long> productIds);
+
+    /** SKU id → 소속 상품 id. 재고 원복처럼 SKU 만 아는 변경을 상품 단위 갱신으로 바꾸는 데 쓴다. */
+    List<Long> findProductIdsOfVariants(Collection<Long> variantIds);
+
+    /**
+     * SKU 가 고른 (축, 값) 한 쌍.
+     *
+     * @param sellable {@code status = ACTIVE AND stock_quantity > 0} — 파셋 조회의 availableOnly 조건과 같은 정의
+     */
+    record VariantOptionRow(long variantId, long productId, boolean sellable,
+                            String axisCode, String axisName, int axisSortOrder,
+                            String valueCode, String valueName, int valueSortOrder) {
+    }
+
+    record ProductCategoryRow(long productId, long categoryId) {
+    }
+
+    record FacetIndexRows(List<VariantOptionRow> options, List<ProductCategoryRow> categories) {
+
+        public FacetIndexRows {
+            options = List.copyOf(options);
+            categories = List.copyOf(categories);
+        }
+    }
+}
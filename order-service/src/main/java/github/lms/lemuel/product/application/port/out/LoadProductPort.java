@@ -3,6 +3,7 @@ package github.lms.lemuel.product.application.port.out;
 import github.lms.lemuel.product.domain.Product;
 import github.lms.lemuel.product.domain.ProductStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +11,9 @@ public interface LoadProductPort {
 
     Optional<Product> findById(Long productId);
 
+    /** 일괄 조회 — 결과는 요청한 id 순서를 따르고, 없는 id 는 빠진다. */
+    List<Product> findAllByIds(Collection<Long> productIds);
+
     Optional<Product> findByName(String name);
 
     List<Product> findAll();
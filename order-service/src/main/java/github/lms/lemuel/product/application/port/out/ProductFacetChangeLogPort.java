@@ -0,0 +1,27 @@
+package github.lms.lemuel.product.application.port.out;
+
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort.FacetChange;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 노드 사이에 파셋 변경 신호를 나르는 공유 로그 포트.
+ *
+ * <p>한 노드에서 커밋된 변경을 {@link #append} 로 남기면 모든 노드가 {@link #findSince} 로 읽어 자기 인덱스를
+ * 부분 갱신한다. 로그는 신호일 뿐 원천이 아니다 — 줄을 잃어도 정합성은 깨지지 않고 다음 전체 재적재까지 늦어질 뿐이다.
+ */
+public interface ProductFacetChangeLogPort {
+
+    /** 변경 한 건을 남긴다. 실패해도 던지지 않는다 — 호출자의 변경은 이미 커밋됐다. */
+    void append(FacetChange change);
+
+    /** {@code since} 이후(초과)에 남은 줄을 시각 순으로. */
+    List<LoggedFacetChange> findSince(Instant since);
+
+    /** {@code before} 이전의 줄을 지우고 지운 수를 돌려준다. */
+    int purgeBefore(Instant before);
+
+    record LoggedFacetChange(long id, FacetChange change, Instant changedAt) {
+    }
+}
@@ -0,0 +1,28 @@
+package github.lms.lemuel.product.application.port.out;
+
+/**
+ * 파셋에 영향을 주는 변경(SKU 생성·옵션 매핑·판매 가능 여부)을 알리는 포트.
+ *
+ * <p>커밋 후 받는 쪽이 이 노드의 인덱스에 표시하고 공유 변경 로그({@link ProductFacetChangeLogPort})에 남겨,
+ * 다른 노드도 다음 부분 갱신에서 반영한다. 신호일 뿐이라 유실돼도 정합성이 깨지지 않고 다음 재적재까지 늦어질 뿐이다.
+ */
+@FunctionalInterface
+public interface PublishProductFacetChangedPort {
+
+    /** 아무 데도 알리지 않는다 — 수동 조립·테스트용. */
+    PublishProductFacetChangedPort NO_OP = change -> { };
+
+    void publish(FacetChange change);
+
+    /** 상품 id 또는 SKU id 중 하나만 채운다. */
+    record FacetChange(Long productId, Long variantId) {
+
+        public static FacetChange ofProduct(Long productId) {
+            return new FacetChange(productId, null);
+        }
+
+        public static FacetChange ofVariant(Long variantId) {
+            return new FacetChange(null, variantId);
+        }
+    }
+}
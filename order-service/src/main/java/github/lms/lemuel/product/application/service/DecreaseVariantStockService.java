@@ -2,6 +2,8 @@ package github.lms.lemuel.product.application.service;
 
 import github.lms.lemuel.product.application.port.in.DecreaseVariantStockUseCase;
 import github.lms.lemuel.product.application.port.out.LoadProductVariantPort;
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort;
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort.FacetChange;
 import github.lms.lemuel.product.application.port.out.SaveProductVariantPort;
 import github.lms.lemuel.common.opssignal.NoOpOpsSignalPublisher;
 import github.lms.lemuel.common.opssignal.OpsSignalCategory;
@@ -45,31 +47,40 @@ public class DecreaseVariantStockService extends AbstractDecreaseStockService<Pr
     private final LoadProductVariantPort loadPort;
     private final SaveProductVariantPort savePort;
     private final OpsSignalPort opsSignalPort;
+    private final PublishProductFacetChangedPort facetChangedPort;
 
-    /** 운영 컨텍스트용 — Spring 이 이 생성자로 실 OpsSignalPort 빈을 주입한다. */
+    /** 운영 컨텍스트용 — Spring 이 이 생성자로 실 OpsSignalPort·파셋 신호 빈을 주입한다. */
     @Autowired
     public DecreaseVariantStockService(LoadProductVariantPort loadPort,
                                        SaveProductVariantPort savePort,
                                        TransactionTemplate transactionTemplate,
                                        MeterRegistry meterRegistry,
-                                       OpsSignalPort opsSignalPort) {
+                                       OpsSignalPort opsSignalPort,
+                                       PublishProductFacetChangedPort facetChangedPort) {
         super(transactionTemplate, meterRegistry, "variant.stock.decrease", "Variant 재고 차감 성공 누적");
         this.loadPort = loadPort;
         this.savePort = savePort;
         this.opsSignalPort = opsSignalPort;
+        this.facetChangedPort = facetChangedPort;
     }
 
-    /** 기존 테스트/수동 조립 호환 편의 생성자 — ops 신호는 no-op. */
+    /** 기존 테스트/수동 조립 호환 편의 생성자 — ops 신호·파셋 신호는 no-op. */
     public DecreaseVariantStockService(LoadProductVariantPort loadPort,
                                        SaveProductVariantPort savePort,
                                        TransactionTemplate transactionTemplate,
                                        MeterRegistry meterRegistry) {
-        this(loadPort, savePort, transactionTemplate, meterRegistry, new NoOpOpsSignalPublisher());
+        this(loadPort, savePort, transactionTemplate, meterRegistry, new NoOpOpsSignalPublisher(),
+                PublishProductFacetChangedPort.NO_OP);
     }
 
     @Override
     public ProductVariant decrease(Long variantId, int quantity) {
-        return doDecrease(variantId, quantity);
+        ProductVariant decreased = doDecrease(variantId, quantity);
+        if (decreased.getStockQuantity() == 0) {
+            // 매진 전이 — 파셋의 availableOnly 개수에서 빠져야 한다. 매 차감이 아니라 0 이 된 순간만 알린다.
+            facetChangedPort.publish(FacetChange.ofProduct(decreased.getProductId()));
+        }
+        return decreased;
     }
 
     /**
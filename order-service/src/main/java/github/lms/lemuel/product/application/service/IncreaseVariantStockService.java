@@ -1,10 +1,13 @@
 package github.lms.lemuel.product.application.service;
 
 import github.lms.lemuel.product.application.port.in.IncreaseVariantStockUseCase;
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort;
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort.FacetChange;
 import github.lms.lemuel.product.application.port.out.SaveProductVariantPort;
 import github.lms.lemuel.product.domain.exception.ProductInvariantViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,9 +24,18 @@ public class IncreaseVariantStockService implements IncreaseVariantStockUseCase
     private static final Logger log = LoggerFactory.getLogger(IncreaseVariantStockService.class);
 
     private final SaveProductVariantPort savePort;
+    private final PublishProductFacetChangedPort facetChangedPort;
 
-    public IncreaseVariantStockService(SaveProductVariantPort savePort) {
+    @Autowired
+    public IncreaseVariantStockService(SaveProductVariantPort savePort,
+                                       PublishProductFacetChangedPort facetChangedPort) {
         this.savePort = savePort;
+        this.facetChangedPort = facetChangedPort;
+    }
+
+    /** 기존 테스트/수동 조립 호환 편의 생성자 — 파셋 신호는 no-op. */
+    public IncreaseVariantStockService(SaveProductVariantPort savePort) {
+        this(savePort, PublishProductFacetChangedPort.NO_OP);
     }
 
     @Override
@@ -36,6 +48,8 @@ public class IncreaseVariantStockService implements IncreaseVariantStockUseCase
             log.warn("SKU 재고 원복 스킵(단종·미존재): variantId={}, qty={}", variantId, quantity);
             return false;
         }
+        // 매진 SKU 가 되살아났을 수 있다 — 원복은 환불 경로라 드물어서 매번 알린다.
+        facetChangedPort.publish(FacetChange.ofVariant(variantId));
         return true;
     }
 }
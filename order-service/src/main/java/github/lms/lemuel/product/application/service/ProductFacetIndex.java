@@ -0,0 +1,261 @@
+package github.lms.lemuel.product.application.service;
+
+import github.lms.lemuel.product.application.port.out.LoadProductFacetIndexPort.FacetIndexRows;
+import github.lms.lemuel.product.application.port.out.LoadProductFacetIndexPort.ProductCategoryRow;
+import github.lms.lemuel.product.application.port.out.LoadProductFacetIndexPort.VariantOptionRow;
+import github.lms.lemuel.product.application.port.out.LoadProductFacetPort;
+import github.lms.lemuel.product.domain.IdBitmap;
+import github.lms.lemuel.product.domain.OptionFacetQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 노드별 인메모리 파셋 인덱스 — {@link LoadProductFacetPort} 와 같은 질문에 DB 대신 비트맵으로 답한다.
+ *
+ * <p><b>포스팅은 상품이 아니라 SKU 단위다.</b> (축, 값) 마다 그 값을 고른 SKU id 의 {@link IdBitmap} 을 둔다.
+ * 축 간 AND 를 SKU 비트맵끼리 교집합으로 구하므로 "빨강 SKU 와 L SKU 를 따로 가진 상품" 이 "빨강 L" 에
+ * 걸리지 않는다 — JDBC 어댑터의 {@code GROUP BY v.id HAVING count(DISTINCT 축)} 과 같은 규칙이다.
+ * 상품 수는 살아남은 SKU 를 소속 상품으로 접어서 센다.
+ *
+ * <p>질의 의미는 {@code ProductFacetJdbcAdapter} 와 한 줄씩 대응한다.
+ * <ul>
+ *   <li>모집단 = 옵션 매핑이 있는 SKU ∩ (availableOnly 면 판매 가능 SKU) ∩ (카테고리 지정 시 그 카테고리 상품의 SKU)</li>
+ *   <li>축 안 = 값 포스팅 OR, 축 사이 = AND</li>
+ *   <li>파셋 개수 = 필터를 만족하는 상품의 SKU 중 그 값을 가진 것의 상품 수(0 이면 행을 내지 않는다)</li>
+ * </ul>
+ * 정렬 순서(축 정렬값·값 정렬값)는 상품마다 다를 수 있는데, 인덱스는 (축 코드, 값 코드) 당 한 행으로 접고
+ * 마지막에 반영된 값을 쓴다. SQL 경로는 정렬값이 다른 행을 따로 냈고 화면에는 같은 값이 두 번 보였다.
+ *
+ * <p>갱신은 상품 단위 교체({@link #replaceProducts})다. 읽기와 갱신은 읽기-쓰기 락으로 나눈다 — 파셋 클릭은
+ * 서로 막지 않고, 갱신은 한 주기에 모은 상품을 한 번에 바꾼다.
+ */
+public final class ProductFacetIndex implements LoadProductFacetPort {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<PostingKey, Posting> postings = new HashMap<>();
+    /** 옵션 매핑이 있는 SKU 전부 — JDBC 경로의 조인 사슬을 통과하는 SKU 와 같다. */
+    private final IdBitmap allVariants = IdBitmap.empty();
+    private final IdBitmap sellableVariants = IdBitmap.empty();
+    private final Map<Long, IdBitmap> variantsByCategory = new HashMap<>();
+
+    private final Map<Long, Long> productByVariant = new HashMap<>();
+    private final Map<Long, Set<Long>> variantsByProduct = new HashMap<>();
+    private final Map<Long, Set<Long>> categoriesByProduct = new HashMap<>();
+    private final Map<Long, Set<PostingKey>> keysByVariant = new HashMap<>();
+
+    private ProductFacetIndex() {
+    }
+
+    public static ProductFacetIndex build(FacetIndexRows rows) {
+        ProductFacetIndex index = new ProductFacetIndex();
+        index.apply(rows);
+        return index;
+    }
+
+    /**
+     * 주어진 상품들을 통째로 갈아 끼운다.
+     *
+     * @param rows 그 상품들의 현재 행 — 행이 없는 상품은 인덱스에서 빠진다(매핑 삭제·SKU 전부 삭제)
+     */
+    public void replaceProducts(Collection<Long> productIds, FacetIndexRows rows) {
+        lock.writeLock().lock();
+        try {
+            productIds.forEach(this::removeProduct);
+            apply(rows);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> findProductIds(OptionFacetQuery query, Long categoryId, boolean availableOnly) {
+        lock.readLock().lock();
+        try {
+            IdBitmap products = productsOf(matchingVariants(query, baseVariants(categoryId, availableOnly)));
+            List<Long> ids = new ArrayList<>(Math.toIntExact(products.cardinality()));
+            products.forEach(ids::add);
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<FacetCount> countFacets(OptionFacetQuery query, Long categoryId,
+                                        boolean availableOnly, String restrictToAxisCode) {
+        lock.readLock().lock();
+        try {
+            IdBitmap base = baseVariants(categoryId, availableOnly);
+            // 개수의 모집단은 "필터를 만족하는 상품" 의 SKU 전부다 — 필터 값이 아닌 값도 센다.
+            IdBitmap population = query.isEmpty()
+                    ? base
+                    : variantsOf(productsOf(matchingVariants(query, base))).and(base);
+
+            List<FacetCount> counts = new ArrayList<>();
+            postings.forEach((key, posting) -> {
+                if (restrictToAxisCode != null && !restrictToAxisCode.equals(key.axisCode())) {
+                    return;
+                }
+                IdBitmap hit = posting.variants.and(population);
+                if (hit.isEmpty()) {
+                    return;
+                }
+                counts.add(new FacetCount(key.axisCode(), posting.axisName, posting.axisSortOrder,
+                        key.valueCode(), posting.valueName, posting.valueSortOrder,
+                        productsOf(hit).cardinality()));
+            });
+            counts.sort(Comparator.comparingInt(FacetCount::axisSortOrder)
+                    .thenComparing(FacetCount::axisCode)
+                    .thenComparingInt(FacetCount::valueSortOrder)
+                    .thenComparing(FacetCount::valueCode));
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ── 질의 ───────────────────────────────────────────────────────────────
+
+    private IdBitmap baseVariants(Long categoryId, boolean availableOnly) {
+        IdBitmap base = availableOnly ? sellableVariants : allVariants;
+        if (categoryId != null) {
+            base = base.and(variantsByCategory.getOrDefault(categoryId, IdBitmap.empty()));
+        }
+        return base;
+    }
+
+    /** 축 안 OR, 축 사이 AND — 전부 SKU 비트맵 위에서 한다. */
+    private IdBitmap matchingVariants(OptionFacetQuery query, IdBitmap base) {
+        IdBitmap result = base;
+        for (String axisCode : query.axisCodes()) {
+            List<IdBitmap> values = new ArrayList<>();
+            for (String valueCode : query.valueCodesOf(axisCode)) {
+                Posting posting = postings.get(new PostingKey(axisCode, valueCode));
+                if (posting != null) {
+                    values.add(posting.variants);
+                }
+            }
+            result = result.and(IdBitmap.orAll(values));
+            if (result.isEmpty()) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    private IdBitmap productsOf(IdBitmap variants) {
+        IdBitmap products = IdBitmap.empty();
+        variants.forEach(variantId -> products.add(productByVariant.get(variantId)));
+        return products;
+    }
+
+    private IdBitmap variantsOf(IdBitmap products) {
+        IdBitmap variants = IdBitmap.empty();
+        products.forEach(productId -> variantsByProduct.getOrDefault(productId, Set.of()).forEach(variants::add));
+        return variants;
+    }
+
+    // ── 갱신 ───────────────────────────────────────────────────────────────
+
+    private void apply(FacetIndexRows rows) {
+        for (VariantOptionRow row : rows.options()) {
+            long variantId = row.variantId();
+            allVariants.add(variantId);
+            if (row.sellable()) {
+                sellableVariants.add(variantId);
+            }
+            productByVariant.put(variantId, row.productId());
+            variantsByProduct.computeIfAbsent(row.productId(), k -> new LinkedHashSet<>()).add(variantId);
+
+            PostingKey key = new PostingKey(row.axisCode(), row.valueCode());
+            postings.computeIfAbsent(key, k -> new Posting()).label(row).variants.add(variantId);
+            keysByVariant.computeIfAbsent(variantId, k -> new LinkedHashSet<>()).add(key);
+        }
+        for (ProductCategoryRow row : rows.categories()) {
+            categoriesByProduct.computeIfAbsent(row.productId(), k -> new LinkedHashSet<>()).add(row.categoryId());
+            IdBitmap categoryVariants = variantsByCategory.computeIfAbsent(row.categoryId(), k -> IdBitmap.empty());
+            variantsByProduct.getOrDefault(row.productId(), Set.of()).forEach(categoryVariants::add);
+        }
+    }
+
+    private void removeProduct(Long productId) {
+        Set<Long> variants = variantsByProduct.remove(productId);
+        Set<Long> categories = categoriesByProduct.remove(productId);
+        if (variants == null) {
+            return;
+        }
+        for (Long variantId : variants) {
+            for (PostingKey key : keysByVariant.getOrDefault(variantId, Set.of())) {
+                Posting posting = postings.get(key);
+                posting.variants.remove(variantId);
+                if (posting.variants.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+            keysByVariant.remove(variantId);
+            productByVariant.remove(variantId);
+            allVariants.remove(variantId);
+            sellableVariants.remove(variantId);
+        }
+        if (categories == null) {
+            return;
+        }
+        for (Long categoryId : categories) {
+            IdBitmap categoryVariants = variantsByCategory.get(categoryId);
+            if (categoryVariants == null) {
+                continue;
+            }
+            variants.forEach(categoryVariants::remove);
+            if (categoryVariants.isEmpty()) {
+                variantsByCategory.remove(categoryId);
+            }
+        }
+    }
+
+    /** 인덱스 통계 — 운영 로그용. */
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("variants", allVariants.cardinality());
+            stats.put("sellableVariants", sellableVariants.cardinality());
+            stats.put("products", (long) variantsByProduct.size());
+            stats.put("postings", (long) postings.size());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record PostingKey(String axisCode, String valueCode) {
+    }
+
+    /** (축, 값) 하나의 SKU 비트맵과 표시용 이름·정렬값. */
+    private static final class Posting {
+
+        private final IdBitmap variants = IdBitmap.empty();
+        private String axisName;
+        private int axisSortOrder;
+        private String valueName;
+        private int valueSortOrder;
+
+        private Posting label(VariantOptionRow row) {
+            this.axisName = row.axisName();
+            this.axisSortOrder = row.axisSortOrder();
+            this.valueName = row.valueName();
+            this.valueSortOrder = row.valueSortOrder();
+            return this;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package github.lms.lemuel.product.application.service;
+
+import github.lms.lemuel.product.application.port.in.RefreshProductFacetIndexUseCase;
+import github.lms.lemuel.product.application.port.out.LoadProductFacetIndexPort;
+import github.lms.lemuel.product.application.port.out.LoadProductFacetPort;
+import github.lms.lemuel.product.application.port.out.ProductFacetChangeLogPort;
+import github.lms.lemuel.product.application.port.out.ProductFacetChangeLogPort.LoggedFacetChange;
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort.FacetChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드별 파셋 인덱스의 수명 관리 — 최초 적재, 변경 신호 누적, 부분 갱신.
+ *
+ * <p><b>인덱스가 준비되기 전에는 비어 있다고 답하지 않는다.</b> {@link #readyIndex()} 가 비면 파셋 검색은
+ * 원래의 JDBC 경로로 답한다. 기동 직후 적재 중인 노드가 "결과 0건" 을 내는 것보다 느린 게 낫다.
+ *
+ * <p>변경 신호는 커밋 후에 도착한다. 전체 재적재 중에 커밋된 변경이 적재 결과에 들어갔는지는 알 수 없으므로
+ * 재적재는 누적된 신호를 지우지 않는다 — 다음 부분 갱신이 그 상품을 한 번 더 읽을 뿐이다(멱등).
+ * 부분 갱신과 재적재는 서로 배제한다. 옛 인덱스에 반영한 갱신이 막 교체된 새 인덱스에서 사라지는 경합을 막기 위해서다.
+ *
+ * <p><b>노드 사이 전파</b> — 변경 신호는 이 노드에 표시하는 동시에 공유 로그({@link ProductFacetChangeLogPort})에
+ * 남고, 모든 노드가 부분 갱신 때마다 로그의 새 줄을 읽어 같은 상품을 다시 읽는다. 읽기는 워터마크에서
+ * {@code change-log-overlap} 만큼 겹쳐 시작하고 이미 본 줄 id 는 거른다 — 늦게 커밋된 줄을 놓치지 않기 위해서다.
+ *
+ * <p><b>신선도 한계</b> — 신호를 거친 변경은 어느 노드에서 커밋됐든 모든 노드에서 대략 {@code refresh-interval}
+ * (기본 1초) 안에 반영된다. 신호를 거치지 않은 변경(직접 SQL·백필), 로그 기록이 실패한 변경, overlap 보다 늦게
+ * 보인 줄은 다음 전체 재적재, 즉 최대 {@code rebuild-interval}(기본 10분) 늦는다.
+ */
+@Service
+public class ProductFacetIndexService implements RefreshProductFacetIndexUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductFacetIndexService.class);
+
+    /** IN 절 하나에 넣는 상품 수 상한. */
+    private static final int REFRESH_CHUNK = 500;
+
+    private final LoadProductFacetIndexPort loadIndexPort;
+    private final ProductFacetChangeLogPort changeLogPort;
+    private final Duration changeLogOverlap;
+    private final Duration changeLogRetention;
+
+    private final Set<Long> changedProducts = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changedVariants = ConcurrentHashMap.newKeySet();
+    private volatile ProductFacetIndex index;
+    /** 첫 적재가 시작됐는가 — 인덱스를 끈 노드(스케줄러 없음)에서 신호가 끝없이 쌓이지 않게 한다. */
+    private volatile boolean loading;
+    /** 공유 로그에서 읽은 가장 늦은 줄의 시각 — 부분 갱신(동기화됨)만 읽고 쓴다. */
+    private Instant changeLogWatermark;
+    /** overlap 창 안에서 이미 반영한 줄 id → 줄 시각. 겹쳐 읽은 줄을 두 번 반영하지 않는다. */
+    private final Map<Long, Instant> seenChanges = new HashMap<>();
+
+    public ProductFacetIndexService(LoadProductFacetIndexPort loadIndexPort,
+                                    ProductFacetChangeLogPort changeLogPort,
+                                    @Value("${app.product.facet-index.change-log-overlap:PT1M}") Duration changeLogOverlap,
+                                    @Value("${app.product.facet-index.change-log-retention:PT1H}") Duration changeLogRetention) {
+        this.loadIndexPort = loadIndexPort;
+        this.changeLogPort = changeLogPort;
+        this.changeLogOverlap = changeLogOverlap;
+        this.changeLogRetention = changeLogRetention;
+        // 이보다 앞선 변경은 첫 재적재가 읽는다.
+        this.changeLogWatermark = Instant.now();
+    }
+
+    /** 적재가 끝난 인덱스. 아직이면 비어 있다 — 호출자는 DB 경로로 답해야 한다. */
+    public Optional<LoadProductFacetPort> readyIndex() {
+        return Optional.ofNullable(index);
+    }
+
+    @Override
+    public void markChanged(FacetChange change) {
+        // 인덱스를 끈 노드도 남긴다 — 다른 노드의 인덱스가 이 변경을 기다린다.
+        changeLogPort.append(change);
+        markLocally(change);
+    }
+
+    private void markLocally(FacetChange change) {
+        if (!loading) {
+            return;
+        }
+        if (change.productId() != null) {
+            changedProducts.add(change.productId());
+        }
+        if (change.variantId() != null) {
+            changedVariants.add(change.variantId());
+        }
+    }
+
+    @Override
+    public synchronized int refreshChanged() {
+        ProductFacetIndex current = index;
+        if (current == null) {
+            // 신호는 남겨 둔다 — 적재 도중 커밋된 변경일 수 있다.
+            return 0;
+        }
+        pullSharedChanges();
+        Set<Long> productIds = drain(changedProducts);
+        List<Long> variantIds = new ArrayList<>(drain(changedVariants));
+        if (!variantIds.isEmpty()) {
+            productIds.addAll(loadIndexPort.findProductIdsOfVariants(variantIds));
+        }
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> ordered = new ArrayList<>(productIds);
+        for (int from = 0; from < ordered.size(); from += REFRESH_CHUNK) {
+            List<Long> chunk = ordered.subList(from, Math.min(from + REFRESH_CHUNK, ordered.size()));
+            current.replaceProducts(chunk, loadIndexPort.loadForProducts(chunk));
+        }
+        log.debug("파셋 인덱스 부분 갱신: products={}", ordered.size());
+        return ordered.size();
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        loading = true;
+        long started = System.nanoTime();
+        ProductFacetIndex rebuilt = ProductFacetIndex.build(loadIndexPort.loadAll());
+        index = rebuilt;
+        log.info("파셋 인덱스 재적재: {} ({}ms)", rebuilt.stats(), (System.nanoTime() - started) / 1_000_000);
+        try {
+            changeLogPort.purgeBefore(Instant.now().minus(changeLogRetention));
+        } catch (RuntimeException exception) {
+            log.warn("파셋 변경 로그 정리 실패 — 다음 재적재에서 다시 지운다", exception);
+        }
+    }
+
+    /** 공유 로그에서 다른 노드(와 이 노드)가 남긴 새 줄을 읽어 표시한다. 실패하면 이번 주기는 로컬 신호만 반영한다. */
+    private void pullSharedChanges() {
+        List<LoggedFacetChange> changes;
+        try {
+            changes = changeLogPort.findSince(changeLogWatermark.minus(changeLogOverlap));
+        } catch (RuntimeException exception) {
+            log.warn("파셋 변경 로그 읽기 실패 — 이번 주기는 이 노드의 신호만 반영한다", exception);
+            return;
+        }
+        for (LoggedFacetChange logged : changes) {
+            if (seenChanges.putIfAbsent(logged.id(), logged.changedAt()) == null) {
+                markLocally(logged.change());
+            }
+            if (logged.changedAt().isAfter(changeLogWatermark)) {
+                changeLogWatermark = logged.changedAt();
+            }
+        }
+        Instant horizon = changeLogWatermark.minus(changeLogOverlap);
+        seenChanges.values().removeIf(changedAt -> changedAt.isBefore(horizon));
+    }
+
+    private static Set<Long> drain(Set<Long> source) {
+        Set<Long> drained = new LinkedHashSet<>();
+        for (Long id : source) {
+            if (source.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+}
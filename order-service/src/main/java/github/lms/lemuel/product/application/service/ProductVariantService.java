@@ -5,6 +5,8 @@ import github.lms.lemuel.product.application.port.in.BackfillVariantSignatureUse
 import github.lms.lemuel.product.application.port.in.CreateProductVariantUseCase;
 import github.lms.lemuel.product.application.port.out.LoadProductPort;
 import github.lms.lemuel.product.application.port.out.LoadProductVariantPort;
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort;
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort.FacetChange;
 import github.lms.lemuel.product.application.port.out.SaveProductVariantPort;
 import github.lms.lemuel.product.domain.ProductVariant;
 import github.lms.lemuel.product.domain.exception.ProductInvariantViolationException;
@@ -38,17 +40,20 @@ public class ProductVariantService implements CreateProductVariantUseCase {
     private final SaveProductVariantPort saveVariantPort;
     private final BackfillOptionCatalogUseCase optionCatalogRegistrar;
     private final BackfillVariantSignatureUseCase signatureRegistrar;
+    private final PublishProductFacetChangedPort facetChangedPort;
 
     public ProductVariantService(LoadProductPort loadProductPort,
                                   LoadProductVariantPort loadVariantPort,
                                   SaveProductVariantPort saveVariantPort,
                                   BackfillOptionCatalogUseCase optionCatalogRegistrar,
-                                  BackfillVariantSignatureUseCase signatureRegistrar) {
+                                  BackfillVariantSignatureUseCase signatureRegistrar,
+                                  PublishProductFacetChangedPort facetChangedPort) {
         this.loadProductPort = loadProductPort;
         this.loadVariantPort = loadVariantPort;
         this.saveVariantPort = saveVariantPort;
         this.optionCatalogRegistrar = optionCatalogRegistrar;
         this.signatureRegistrar = signatureRegistrar;
+        this.facetChangedPort = facetChangedPort;
     }
 
     @Override
@@ -79,6 +84,8 @@ public class ProductVariantService implements CreateProductVariantUseCase {
                     "옵션 조합을 등록할 수 없는 SKU 입니다(표시명은 '축:값' 형식이어야 하고 조합이 중복되면 안 됩니다): "
                             + optionName + " — " + String.join(" / ", report.warnings()));
         }
+        // 4) 파셋 인덱스에 새 SKU 의 축·값을 알린다(커밋 후 반영)
+        facetChangedPort.publish(FacetChange.ofProduct(productId));
         return registered;
     }
 
@@ -26,6 +26,11 @@ import java.util.Set;
  *
  * <p>질의 수는 1 + (선택한 축 수) 다. 상품 하나가 가진 축은 많아야 몇 개라 그대로 둔다 —
  * 한 번에 처리하려고 SQL 을 꼬면 위의 규칙이 어디에 있는지 알 수 없게 된다.
+ *
+ * <p><b>답하는 쪽은 둘이다.</b> 노드의 인메모리 파셋 인덱스({@link ProductFacetIndex})가 준비돼 있으면 그쪽이
+ * 같은 질문에 비트맵으로 답하고, 아직이면 JDBC 어댑터가 답한다. 위의 축별 계산 규칙은 어느 쪽이든 여기서
+ * 한 번만 적용된다. 결과 상품은 한 번의 일괄 조회로 읽는다 — 상품마다 {@code findById} 를 부르면 결과
+ * 수만큼 왕복한다.
  */
 @Service
 @Transactional(readOnly = true)
@@ -33,36 +38,39 @@ public class SearchProductFacetsService implements SearchProductFacetsUseCase {
 
     private final LoadProductFacetPort facetPort;
     private final LoadProductPort loadProductPort;
+    private final ProductFacetIndexService facetIndex;
 
-    public SearchProductFacetsService(LoadProductFacetPort facetPort, LoadProductPort loadProductPort) {
+    public SearchProductFacetsService(LoadProductFacetPort facetPort, LoadProductPort loadProductPort,
+                                      ProductFacetIndexService facetIndex) {
         this.facetPort = facetPort;
         this.loadProductPort = loadProductPort;
+        this.facetIndex = facetIndex;
     }
 
     @Override
     public FacetSearchResult search(List<String> optionTokens, Long categoryId, boolean availableOnly) {
         OptionFacetQuery query = OptionFacetQuery.of(optionTokens);
+        LoadProductFacetPort source = facetIndex.readyIndex().orElse(facetPort);
 
-        List<Product> products = facetPort.findProductIds(query, categoryId, availableOnly).stream()
-                .map(loadProductPort::findById)
-                .flatMap(java.util.Optional::stream)
-                .toList();
+        List<Product> products = loadProductPort.findAllByIds(
+                source.findProductIds(query, categoryId, availableOnly));
 
-        return new FacetSearchResult(products, buildFacets(query, categoryId, availableOnly));
+        return new FacetSearchResult(products, buildFacets(source, query, categoryId, availableOnly));
     }
 
-    private List<Facet> buildFacets(OptionFacetQuery query, Long categoryId, boolean availableOnly) {
+    private List<Facet> buildFacets(LoadProductFacetPort source, OptionFacetQuery query,
+                                    Long categoryId, boolean availableOnly) {
         Set<String> selectedAxes = query.axisCodes();
 
         List<FacetCount> counts = new ArrayList<>(
                 // 선택하지 않은 축: 모든 선택을 적용해 센다(좁히는 방향).
-                facetPort.countFacets(query, categoryId, availableOnly, null).stream()
+                source.countFacets(query, categoryId, availableOnly, null).stream()
                         .filter(c -> !selectedAxes.contains(c.axisCode()))
                         .toList());
 
         // 선택한 축: 자기 선택을 빼고 센다(형제 값을 추가로 고를 수 있게).
         for (String axisCode : selectedAxes) {
-            counts.addAll(facetPort.countFacets(
+            counts.addAll(source.countFacets(
                     query.without(axisCode), categoryId, availableOnly, axisCode));
         }
 
@@ -0,0 +1,531 @@
+package github.lms.lemuel.product.domain;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.LongConsumer;
+
+/**
+ * 압축 id 비트맵 — Roaring 방식의 포스팅 리스트.
+ *
+ * <p>id 를 상위 비트(컨테이너 키)와 하위 16비트로 나누고, 컨테이너마다 밀도에 맞는 표현을 고른다.
+ * <ul>
+ *   <li><b>배열 컨테이너</b> — 원소가 {@value #ARRAY_MAX} 개 이하면 정렬된 {@code char[]} (원소당 2바이트).</li>
+ *   <li><b>비트맵 컨테이너</b> — 넘으면 65,536 비트 {@code long[1024]} (8KB 고정).</li>
+ * </ul>
+ * 경계가 4096 인 이유는 그 지점에서 두 표현의 크기가 8KB 로 같아지기 때문이다. 상품·SKU id 는
+ * 시퀀스라 한 축 값의 포스팅이 좁은 구간에 몰리고, 그래서 컨테이너 수가 적고 AND/OR 가 워드 단위로 끝난다.
+ *
+ * <p>음수 id 는 받지 않는다 — 컨테이너 키 정렬이 부호 없는 비교를 가정한다(시퀀스 id 는 음수가 없다).
+ *
+ * <p><b>스레드 안전하지 않다.</b> 변경({@link #add}/{@link #remove})과 읽기를 섞어 쓰는 쪽이 락을 책임진다.
+ * {@link #and}/{@link #or} 는 피연산자를 바꾸지 않고 새 비트맵을 만든다.
+ */
+public final class IdBitmap {
+
+    static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    private long[] keys;
+    private Container[] containers;
+    private int size;
+
+    private IdBitmap(int capacity) {
+        this.keys = new long[Math.max(capacity, 4)];
+        this.containers = new Container[Math.max(capacity, 4)];
+    }
+
+    public static IdBitmap empty() {
+        return new IdBitmap(4);
+    }
+
+    /** 순서·중복과 무관하게 만든다. 정렬 후 컨테이너 단위로 한 번에 채운다. */
+    public static IdBitmap of(long... ids) {
+        long[] sorted = ids.clone();
+        Arrays.sort(sorted);
+        if (sorted.length > 0) {
+            requireNonNegative(sorted[0]);   // 정렬 후 가장 작은 값만 보면 된다
+        }
+        IdBitmap bitmap = new IdBitmap(4);
+        int i = 0;
+        while (i < sorted.length) {
+            long key = highBits(sorted[i]);
+            int j = i;
+            while (j < sorted.length && highBits(sorted[j]) == key) {
+                j++;
+            }
+            bitmap.append(key, Container.fromSorted(sorted, i, j));
+            i = j;
+        }
+        return bitmap;
+    }
+
+    public static IdBitmap of(Collection<Long> ids) {
+        return of(ids.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    /** 여러 포스팅의 합집합 — 같은 축 안의 OR. */
+    public static IdBitmap orAll(Collection<IdBitmap> bitmaps) {
+        IdBitmap result = empty();
+        for (IdBitmap bitmap : bitmaps) {
+            result = result.or(bitmap);
+        }
+        return result;
+    }
+
+    public void add(long id) {
+        requireNonNegative(id);
+        long key = highBits(id);
+        int idx = indexOf(key);
+        if (idx >= 0) {
+            containers[idx] = containers[idx].add(lowBits(id));
+            return;
+        }
+        insertAt(-idx - 1, key, new ArrayContainer(new char[]{lowBits(id)}, 1));
+    }
+
+    public void remove(long id) {
+        if (id < 0) {
+            return;
+        }
+        int idx = indexOf(highBits(id));
+        if (idx < 0) {
+            return;
+        }
+        Container shrunk = containers[idx].remove(lowBits(id));
+        if (shrunk.cardinality() == 0) {
+            removeAt(idx);
+        } else {
+            containers[idx] = shrunk;
+        }
+    }
+
+    public boolean contains(long id) {
+        if (id < 0) {
+            return false;
+        }
+        int idx = indexOf(highBits(id));
+        return idx >= 0 && containers[idx].contains(lowBits(id));
+    }
+
+    public long cardinality() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += containers[i].cardinality();
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** 교집합 — 축과 축 사이의 AND. 키가 겹치는 컨테이너만 본다. */
+    public IdBitmap and(IdBitmap other) {
+        IdBitmap result = new IdBitmap(Math.min(size, other.size));
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            int cmp = Long.compareUnsigned(keys[i], other.keys[j]);
+            if (cmp == 0) {
+                Container c = containers[i].and(other.containers[j]);
+                if (c.cardinality() > 0) {
+                    result.append(keys[i], c);
+                }
+                i++;
+                j++;
+            } else if (cmp < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /** 합집합 — 같은 축 안 값들의 OR. */
+    public IdBitmap or(IdBitmap other) {
+        IdBitmap result = new IdBitmap(size + other.size);
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j >= other.size || (i < size && Long.compareUnsigned(keys[i], other.keys[j]) < 0)) {
+                result.append(keys[i], containers[i].copy());
+                i++;
+            } else if (i >= size || Long.compareUnsigned(keys[i], other.keys[j]) > 0) {
+                result.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.append(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /** 오름차순 순회. */
+    public void forEach(LongConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    /** 오름차순 배열. */
+    public long[] toArray() {
+        long[] out = new long[Math.toIntExact(cardinality())];
+        int[] pos = {0};
+        forEach(id -> out[pos[0]++] = id);
+        return out;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof IdBitmap other && Arrays.equals(toArray(), other.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return "IdBitmap{cardinality=" + cardinality() + ", containers=" + size + "}";
+    }
+
+    // ── 컨테이너 배열 관리 ─────────────────────────────────────────────────
+
+    private static long highBits(long id) {
+        return id >>> 16;
+    }
+
+    private static char lowBits(long id) {
+        return (char) (id & 0xFFFF);
+    }
+
+    private static void requireNonNegative(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("IdBitmap 은 음수 id 를 담지 않는다: " + id);
+        }
+    }
+
+    private int indexOf(long key) {
+        int lo = 0;
+        int hi = size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = Long.compareUnsigned(keys[mid], key);
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    /** 키 오름차순이 보장된 상태에서만 호출한다(빌드·집합 연산 결과 조립). */
+    private void append(long key, Container container) {
+        ensureCapacity(size + 1);
+        keys[size] = key;
+        containers[size] = container;
+        size++;
+    }
+
+    private void insertAt(int idx, long key, Container container) {
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, idx, keys, idx + 1, size - idx);
+        System.arraycopy(containers, idx, containers, idx + 1, size - idx);
+        keys[idx] = key;
+        containers[idx] = container;
+        size++;
+    }
+
+    private void removeAt(int idx) {
+        System.arraycopy(keys, idx + 1, keys, idx, size - idx - 1);
+        System.arraycopy(containers, idx + 1, containers, idx, size - idx - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > keys.length) {
+            int capacity = Math.max(required, keys.length * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+    }
+
+    // ── 컨테이너 ──────────────────────────────────────────────────────────
+
+    private sealed interface Container permits ArrayContainer, BitmapContainer {
+
+        int cardinality();
+
+        boolean contains(char low);
+
+        /** 변경 후의 컨테이너 — 밀도 경계를 넘으면 다른 표현으로 바뀌어 돌아온다. */
+        Container add(char low);
+
+        Container remove(char low);
+
+        Container and(Container other);
+
+        Container or(Container other);
+
+        Container copy();
+
+        void forEach(long base, LongConsumer consumer);
+
+        static Container fromSorted(long[] sorted, int from, int to) {
+            char[] values = new char[to - from];
+            int n = 0;
+            for (int i = from; i < to; i++) {
+                char low = lowBits(sorted[i]);
+                if (n == 0 || values[n - 1] != low) {
+                    values[n++] = low;
+                }
+            }
+            ArrayContainer array = new ArrayContainer(values, n);
+            return n > ARRAY_MAX ? array.toBitmap() : array;
+        }
+    }
+
+    private static final class ArrayContainer implements Container {
+
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        public Container add(char low) {
+            int idx = Arrays.binarySearch(values, 0, cardinality, low);
+            if (idx >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            int insert = -idx - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, insert, values, insert + 1, cardinality - insert);
+            values[insert] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            int idx = Arrays.binarySearch(values, 0, cardinality, low);
+            if (idx >= 0) {
+                System.arraycopy(values, idx + 1, values, idx, cardinality - idx - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                char[] out = new char[cardinality];
+                int n = 0;
+                for (int i = 0; i < cardinality; i++) {
+                    if (bitmap.contains(values[i])) {
+                        out[n++] = values[i];
+                    }
+                }
+                return new ArrayContainer(out, n);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            char[] out = new char[Math.min(cardinality, array.cardinality)];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < array.cardinality) {
+                if (values[i] == array.values[j]) {
+                    out[n++] = values[i];
+                    i++;
+                    j++;
+                } else if (values[i] < array.values[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return new ArrayContainer(out, n);
+        }
+
+        @Override
+        public Container or(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                return bitmap.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            char[] out = new char[cardinality + array.cardinality];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < array.cardinality) {
+                char next;
+                if (j >= array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+                    next = values[i++];
+                } else if (i >= cardinality || values[i] > array.values[j]) {
+                    next = array.values[j++];
+                } else {
+                    next = values[i];
+                    i++;
+                    j++;
+                }
+                out[n++] = next;
+            }
+            ArrayContainer merged = new ArrayContainer(out, n);
+            return n > ARRAY_MAX ? merged.toBitmap() : merged;
+        }
+
+        @Override
+        public Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        public void forEach(long base, LongConsumer consumer) {
+            for (int i = 0; i < cardinality; i++) {
+                consumer.accept(base | values[i]);
+            }
+        }
+
+        BitmapContainer toBitmap() {
+            long[] words = new long[WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return new BitmapContainer(words, cardinality);
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public Container add(char low) {
+            long before = words[low >>> 6];
+            words[low >>> 6] = before | (1L << low);
+            if (before != words[low >>> 6]) {
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            long before = words[low >>> 6];
+            words[low >>> 6] = before & ~(1L << low);
+            if (before != words[low >>> 6]) {
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.and(this);
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            long[] out = new long[WORDS];
+            int card = 0;
+            for (int w = 0; w < WORDS; w++) {
+                out[w] = words[w] & bitmap.words[w];
+                card += Long.bitCount(out[w]);
+            }
+            BitmapContainer result = new BitmapContainer(out, card);
+            return card <= ARRAY_MAX ? result.toArray() : result;
+        }
+
+        @Override
+        public Container or(Container other) {
+            long[] out = words.clone();
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    char low = array.values[i];
+                    out[low >>> 6] |= 1L << low;
+                }
+            } else {
+                BitmapContainer bitmap = (BitmapContainer) other;
+                for (int w = 0; w < WORDS; w++) {
+                    out[w] |= bitmap.words[w];
+                }
+            }
+            int card = 0;
+            for (long word : out) {
+                card += Long.bitCount(word);
+            }
+            return new BitmapContainer(out, card);
+        }
+
+        @Override
+        public Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        public void forEach(long base, LongConsumer consumer) {
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    consumer.accept(base | ((long) w << 6) | bit);
+                    word &= word - 1;
+                }
+            }
+        }
+
+        ArrayContainer toArray() {
+            char[] values = new char[cardinality];
+            int n = 0;
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    values[n++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, n);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+-- 포인트 로트 압축 — 같은 (계정, 출처, 만료일) 의 ACTIVE 로트를 하나로 합친다.
+--
+-- 적립이 잦은 계정은 작은 로트가 수천 개 쌓인다. 사용 경로는 이제 idx_point_lots_consume 를
+-- (만료일, id) 키셋으로 필요한 만큼만 읽지만, 같은 만료일의 잔챙이 로트가 많으면 "필요한 만큼" 자체가
+-- 길어진다. 만료일과 출처가 같은 로트는 소비 순서·소멸 시점·GL 상대계정 어디에서도 구별되지 않으므로
+-- 하나로 합쳐도 고객이 보는 잔고와 소멸 일정은 그대로다.
+--
+-- 흡수된 로트는 지우지 않는다 — point_lot_consumptions 가 환불 복원의 근거로 그 로트를 가리킨다.
+-- 잔량 0 의 MERGED 로 닫고 흡수한 로트를 merged_into_lot_id 로 남겨, 복원이 그 사슬을 따라간다.
+
+ALTER TABLE point_lots DROP CONSTRAINT chk_point_lots_status;
+ALTER TABLE point_lots ADD CONSTRAINT chk_point_lots_status
+    CHECK (status IN ('ACTIVE', 'EXHAUSTED', 'EXPIRED', 'REVOKED', 'MERGED'));
+
+ALTER TABLE point_lots ADD COLUMN merged_into_lot_id BIGINT REFERENCES point_lots(id);
+ALTER TABLE point_lots ADD CONSTRAINT chk_point_lots_merged_link
+    CHECK ((status = 'MERGED') = (merged_into_lot_id IS NOT NULL));
+
+COMMENT ON COLUMN point_lots.merged_into_lot_id IS
+    '로트 압축으로 잔량을 넘겨받은 로트. status=MERGED 일 때만 채워진다. 환불 복원이 이 링크를 따라 살아 있는 로트로 되돌린다.';
+
+-- 압축 묶음 탐색 — GROUP BY (account_id, origin, expires_at) 를 인덱스만으로 끝낸다.
+-- ACTIVE 만 색인하므로 소진·소멸 로트가 아무리 쌓여도 스캔 대상이 늘지 않는다.
+CREATE INDEX idx_point_lots_compaction
+    ON point_lots (account_id, origin, expires_at) WHERE status = 'ACTIVE';
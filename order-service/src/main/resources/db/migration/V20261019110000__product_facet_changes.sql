@@ -0,0 +1,28 @@
+-- V20261019110000: 파셋 변경 로그 — 노드별 인메모리 파셋 인덱스가 다른 노드의 변경을 따라잡는 통로
+--
+-- 파셋 인덱스(ProductFacetIndex)는 노드마다 자기 메모리에 있다. 지금까지 변경 신호(매진 전이·SKU 생성·재고 원복)는
+-- 스프링 이벤트라 신호를 낸 노드만 1초 안에 반영했고, 나머지 노드는 10분 주기 전체 재적재까지 옛 개수를 냈다.
+-- 신호를 이 테이블에 한 줄씩 남기고 모든 노드가 refresh-interval 마다 새 줄만 읽어 부분 갱신한다.
+--
+-- 브로커(Kafka)를 쓰지 않는 이유: 주문 서비스는 Kafka 를 끈 채로도 뜨고(app.kafka.enabled 기본 false), 모든 노드가
+-- 같은 메시지를 받는 브로드캐스트는 노드마다 다른 컨슈머 그룹을 요구해 고정 group-id(lemuel-order) 규칙과 부딪친다.
+-- 신호는 매진 전이처럼 드물어 DB 한 줄이 싸다.
+--
+-- changed_at 은 clock_timestamp() — now() 는 트랜잭션 시작 시각이라 긴 트랜잭션의 줄이 읽는 쪽 워터마크 뒤로
+-- 숨는다. 읽는 쪽은 그래도 change-log-overlap 만큼 겹쳐 읽고 id 로 중복을 거른다.
+-- 오래된 줄은 각 노드의 재적재가 change-log-retention 이 지나면 지운다(여러 노드가 지워도 무해하다).
+
+CREATE TABLE IF NOT EXISTS opslab.product_facet_changes (
+    id         BIGSERIAL PRIMARY KEY,
+    product_id BIGINT,
+    variant_id BIGINT,
+    changed_at TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+
+    CONSTRAINT chk_pfc_target CHECK (product_id IS NOT NULL OR variant_id IS NOT NULL)
+);
+
+CREATE INDEX IF NOT EXISTS idx_pfc_changed_at
+    ON opslab.product_facet_changes (changed_at);
+
+COMMENT ON TABLE opslab.product_facet_changes IS
+    '파셋 인덱스 변경 신호 로그. 모든 노드가 새 줄만 읽어 자기 인메모리 인덱스를 부분 갱신한다. 보존 기간이 지나면 지운다.';
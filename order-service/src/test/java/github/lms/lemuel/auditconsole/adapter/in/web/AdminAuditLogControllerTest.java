@@ -20,18 +20,23 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -156,31 +161,71 @@ class AdminAuditLogControllerTest {
     }
 
     @Test
-    @DisplayName("CSV 는 BOM 으로 시작하고 첨부로 내려간다")
+    @DisplayName("CSV 는 스트리밍으로 BOM 부터 내려가고, 잘림 메타는 본문 전에 헤더로 나간다")
     void exportsCsv() throws Exception {
         when(searchAuditLogsUseCase.export(any()))
-                .thenReturn(new AuditLogExport(List.of(row()), false, 1));
+                .thenReturn(new AuditLogExport(List.of(row())::forEach, false, 1));
 
-        MvcResult result = mockMvc.perform(get("/admin/audit-logs/export"))
-                .andExpect(status().isOk())
+        MvcResult started = mockMvc.perform(get("/admin/audit-logs/export"))
+                .andExpect(request().asyncStarted())
                 .andExpect(header().string("X-Export-Truncated", "false"))
                 .andExpect(header().string("X-Export-Total", "1"))
                 .andReturn();
+        started.getAsyncResult(5000);
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andReturn();
 
         String body = new String(result.getResponse().getContentAsByteArray(), StandardCharsets.UTF_8);
-        assertThat(body).startsWith("﻿");
+        assertThat(body).startsWith("\uFEFF");
         assertThat(body).contains("\"admin@lemuel.io\"");
         assertThat(result.getResponse().getHeader("Content-Disposition")).startsWith("attachment;");
     }
 
+    @Test
+    @DisplayName("내보내기만 자기 async 타임아웃(기본 30분)을 쓴다 — MVC 전역 타임아웃은 그대로다")
+    void exportCarriesItsOwnAsyncTimeout() throws Exception {
+        when(searchAuditLogsUseCase.export(any()))
+                .thenReturn(new AuditLogExport(List.of(row())::forEach, false, 1));
+
+        MvcResult started = mockMvc.perform(get("/admin/audit-logs/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult(5000);
+
+        assertThat(started.getRequest().getAsyncContext().getTimeout())
+                .isEqualTo(Duration.ofMinutes(30).toMillis());
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 에 gzip 이 있으면 즉석 압축해 내려보낸다")
+    void exportsGzipWhenAccepted() throws Exception {
+        when(searchAuditLogsUseCase.export(any()))
+                .thenReturn(new AuditLogExport(List.of(row())::forEach, false, 1));
+
+        MvcResult started = mockMvc.perform(get("/admin/audit-logs/export").header("Accept-Encoding", "gzip, br"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn();
+        started.getAsyncResult(5000);
+
+        byte[] compressed = mockMvc.perform(asyncDispatch(started))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("\"USER_ROLE_CHANGED\"");
+        }
+    }
+
     @Test
     @DisplayName("상한에 걸려 잘리면 헤더로 알린다 — 잘린 줄 모르는 CSV 가 감사 자료로 나가면 안 된다")
     void exportAnnouncesTruncation() throws Exception {
         when(searchAuditLogsUseCase.export(any()))
-                .thenReturn(new AuditLogExport(List.of(row()), true, 12_345));
+                .thenReturn(new AuditLogExport(List.of(row())::forEach, true, 12_345));
 
         mockMvc.perform(get("/admin/audit-logs/export"))
-                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
                 .andExpect(header().string("X-Export-Truncated", "true"))
                 .andExpect(header().string("X-Export-Total", "12345"));
     }
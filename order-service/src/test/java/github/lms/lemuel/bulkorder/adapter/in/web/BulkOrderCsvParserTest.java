@@ -0,0 +1,134 @@
+package github.lms.lemuel.bulkorder.adapter.in.web;
+
+import github.lms.lemuel.bulkorder.domain.exception.InvalidBulkOrderFileException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 대량주문 CSV 파싱 — 파일 형식만 책임진다(열 값의 유효성은 도메인 열 스펙).
+ */
+class BulkOrderCsvParserTest {
+
+    private final BulkOrderCsvParser parser = new BulkOrderCsvParser();
+
+    private static InputStream utf8(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<List<String>> parse(String csv) {
+        List<List<String>> rows = new ArrayList<>();
+        parser.rows(utf8(csv)).forEach(rows::add);
+        return rows;
+    }
+
+    @Test @DisplayName("헤더를 건너뛰고 위치대로 셀을 나눈다 — 따옴표 없는 셀은 앞뒤 공백을 걷는다")
+    void skipsHeaderAndSplitsByPosition() {
+        List<List<String>> rows = parse("""
+                상품,수량,수령인
+                P-1, 2 ,홍길동
+                P-2,1,
+                """);
+
+        assertThat(rows).containsExactly(List.of("P-1", "2", "홍길동"), List.of("P-2", "1", ""));
+    }
+
+    @Test @DisplayName("UTF-8 BOM 이 붙은 헤더도 한 줄로 건너뛴다")
+    void toleratesBom() {
+        assertThat(parse("﻿상품,수량\nP-1,2\n")).containsExactly(List.of("P-1", "2"));
+    }
+
+    @Test @DisplayName("따옴표 셀 안의 쉼표·겹따옴표는 값이다")
+    void quotedCellKeepsCommasAndEscapedQuotes() {
+        List<List<String>> rows = parse("""
+                상품,수량,메모
+                P-1,2,"서울시 중구, 101호"
+                P-2,1,"문 앞 ""경비실"" 맡김"
+                """);
+
+        assertThat(rows).containsExactly(
+                List.of("P-1", "2", "서울시 중구, 101호"),
+                List.of("P-2", "1", "문 앞 \"경비실\" 맡김"));
+    }
+
+    @Test @DisplayName("따옴표 셀 안의 줄바꿈은 행을 끊지 않는다 — 다음 행은 제자리에서 읽힌다")
+    void quotedCellSpansLines() {
+        List<List<String>> rows = parse("""
+                상품,수량,메모
+                P-1,2,"1층
+                경비실"
+                P-2,1,없음
+                """);
+
+        assertThat(rows).containsExactly(List.of("P-1", "2", "1층\n경비실"), List.of("P-2", "1", "없음"));
+    }
+
+    @Test @DisplayName("헤더만 있는 파일은 행 없이 끝난다 — 꼬리 빈 줄도 행으로 세지 않는다")
+    void headerOnlyYieldsNoRows() {
+        assertThat(parse("상품,수량\n")).isEmpty();
+        assertThat(parse("상품,수량\n\n\n")).isEmpty();
+    }
+
+    @Test @DisplayName("빈 파일은 곧바로 거절한다")
+    void emptyFileRejected() {
+        assertThatThrownBy(() -> parser.rows(utf8("")))
+                .isInstanceOf(InvalidBulkOrderFileException.class)
+                .hasMessageContaining("빈 파일");
+    }
+
+    @Test @DisplayName("중간의 깨진 행은 앞 행을 내준 뒤, 그 행에 닿을 때 줄 번호와 함께 거절된다")
+    void malformedRowMidStreamFailsWhenReached() {
+        Iterator<List<String>> rows = parser.rows(utf8("""
+                상품,수량,메모
+                P-1,2,정상
+                P-2,1,"닫는 따옴표"뒤에 값
+                P-3,1,정상
+                """)).iterator();
+
+        assertThat(rows.next()).containsExactly("P-1", "2", "정상");
+        assertThatThrownBy(rows::next)
+                .isInstanceOf(InvalidBulkOrderFileException.class)
+                .hasMessageContaining("3번째 줄");
+    }
+
+    @Test @DisplayName("닫히지 않은 따옴표는 파일 끝에서 그 행이 시작한 줄 번호로 거절된다")
+    void unterminatedQuoteRejected() {
+        Iterator<List<String>> rows = parser.rows(utf8("상품,수량,메모\nP-1,2,정상\nP-2,1,\"끝나지 않는\n메모\n")).iterator();
+
+        assertThat(rows.next()).containsExactly("P-1", "2", "정상");
+        assertThatThrownBy(rows::next)
+                .isInstanceOf(InvalidBulkOrderFileException.class)
+                .hasMessageContaining("3번째 줄")
+                .hasMessageContaining("따옴표");
+    }
+
+    @Test @DisplayName("당긴 만큼만 읽는다 — 아직 안 당긴 뒤쪽 바이트는 읽지 않는다")
+    void readsLazily() {
+        InputStream head = utf8("상품,수량\nP-1,1\nP-2,2\n");
+        InputStream poison = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("아직 읽으면 안 되는 구간");
+            }
+        };
+
+        Iterator<List<String>> rows = parser.rows(new SequenceInputStream(head, poison)).iterator();
+
+        assertThat(rows.next()).containsExactly("P-1", "1");
+        assertThat(rows.next()).containsExactly("P-2", "2");
+        // 세 번째 행을 물을 때에야 뒤쪽을 읽는다
+        assertThatThrownBy(rows::hasNext).isInstanceOf(UncheckedIOException.class);
+    }
+}
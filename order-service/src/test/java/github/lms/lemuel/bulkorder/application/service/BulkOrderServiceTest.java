@@ -4,6 +4,7 @@ import github.lms.lemuel.bulkorder.application.port.in.BulkOrderUseCase;
 import github.lms.lemuel.bulkorder.application.port.out.BulkOrderColumnSpecPort;
 import github.lms.lemuel.bulkorder.application.port.out.BulkOrderDraftPort;
 import github.lms.lemuel.bulkorder.application.port.out.PlaceBulkOrderLinePort;
+import github.lms.lemuel.bulkorder.application.port.out.RecordBulkOrderProgressPort;
 import github.lms.lemuel.bulkorder.domain.BulkOrderColumnSpec;
 import github.lms.lemuel.bulkorder.domain.BulkOrderDraft;
 import github.lms.lemuel.bulkorder.domain.BulkOrderStatus;
@@ -20,15 +21,21 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -65,6 +72,7 @@ class BulkOrderServiceTest {
     private BulkOrderDraftPort draftPort;
     private BulkOrderColumnSpecPort columnSpecPort;
     private PlaceBulkOrderLinePort placeLinePort;
+    private RecordBulkOrderProgressPort progressPort;
     private BulkOrderService service;
     private final AtomicLong idSequence = new AtomicLong(1);
 
@@ -73,6 +81,7 @@ class BulkOrderServiceTest {
         draftPort = mock(BulkOrderDraftPort.class);
         columnSpecPort = mock(BulkOrderColumnSpecPort.class);
         placeLinePort = mock(PlaceBulkOrderLinePort.class);
+        progressPort = mock(RecordBulkOrderProgressPort.class);
         when(columnSpecPort.findAllOrdered()).thenReturn(SPECS);
         when(draftPort.save(any())).thenAnswer(inv -> {
             BulkOrderDraft draft = inv.getArgument(0);
@@ -83,7 +92,7 @@ class BulkOrderServiceTest {
         });
         Clock fixed = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
         service = new BulkOrderService(draftPort, columnSpecPort,
-                new BulkOrderLineCommitter(placeLinePort), fixed);
+                new BulkOrderLineCommitter(placeLinePort, progressPort), fixed);
     }
 
     private static List<String> goodRow(String productId) {
@@ -139,8 +148,8 @@ class BulkOrderServiceTest {
         BulkOrderDraft draft = service.uploadAndValidate(UPLOADER, "bulk.csv",
                 List.of(goodRow("100"), goodRow("101")));
         when(draftPort.findById(draft.getId())).thenReturn(Optional.of(draft));
-        when(placeLinePort.place(anyLong(), any()))
-                .thenReturn(555L)
+        when(placeLinePort.place(anyLong(), any())).thenReturn(555L);
+        when(placeLinePort.place(anyLong(), argThat(line -> line != null && line.productId() == 101L)))
                 .thenThrow(new IllegalStateException("재고가 부족합니다"));
 
         BulkOrderUseCase.ConfirmResult result = service.confirm(draft.getId(), UPLOADER);
@@ -158,8 +167,8 @@ class BulkOrderServiceTest {
         BulkOrderDraft draft = service.uploadAndValidate(UPLOADER, "bulk.csv",
                 List.of(goodRow("100"), goodRow("101")));
         when(draftPort.findById(draft.getId())).thenReturn(Optional.of(draft));
-        when(placeLinePort.place(anyLong(), any()))
-                .thenReturn(555L)
+        when(placeLinePort.place(anyLong(), any())).thenReturn(555L);
+        when(placeLinePort.place(anyLong(), argThat(line -> line != null && line.productId() == 101L)))
                 .thenThrow(new IllegalStateException("재고가 부족합니다"));
         service.confirm(draft.getId(), UPLOADER);
 
@@ -243,4 +252,65 @@ class BulkOrderServiceTest {
                 assertThat(line.error()).contains("product_id"));
         verify(placeLinePort, never()).place(anyLong(), any());
     }
+
+    @Test
+    @DisplayName("실패 묶음은 반씩 쪼개 다시 커밋한다 — 불량 행 하나 때문에 같은 묶음의 정상 행이 실패로 남지 않는다")
+    void failedGroupIsSplitDownToTheBadRow() {
+        BulkOrderDraft draft = service.uploadAndValidate(UPLOADER, "bulk.csv",
+                List.of(goodRow("100"), goodRow("101"), goodRow("102"), goodRow("103")));
+        when(draftPort.findById(draft.getId())).thenReturn(Optional.of(draft));
+        AtomicLong orderIds = new AtomicLong(700);
+        when(placeLinePort.place(anyLong(), any())).thenAnswer(inv -> {
+            PlaceBulkOrderLinePort.Line line = inv.getArgument(1);
+            if (line.productId() == 102L) {
+                throw new IllegalStateException("판매 중지된 상품입니다");
+            }
+            return orderIds.incrementAndGet();
+        });
+
+        BulkOrderUseCase.ConfirmResult result = service.confirm(draft.getId(), UPLOADER);
+
+        assertThat(result.created()).isEqualTo(3);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.lines()).extracting(BulkOrderUseCase.ConfirmResult.Line::rowNumber)
+                .containsExactly(1, 2, 3, 4); // 병렬로 커밋해도 결과는 행 번호 순
+        assertThat(result.lines().get(2).error()).contains("판매 중지");
+        assertThat(result.lines().get(2).orderId()).isNull();
+    }
+
+    @Test
+    @DisplayName("주문 id 는 주문과 같은 묶음 트랜잭션에서 행에 기록된다 — 확정 도중 죽어도 재확정이 이어 간다")
+    void progressRecordedPerGroup() {
+        BulkOrderDraft draft = service.uploadAndValidate(UPLOADER, "bulk.csv",
+                List.of(goodRow("100"), goodRow("101")));
+        when(draftPort.findById(draft.getId())).thenReturn(Optional.of(draft));
+        when(placeLinePort.place(anyLong(), any())).thenReturn(555L, 556L);
+
+        service.confirm(draft.getId(), UPLOADER);
+
+        verify(progressPort).markOrdered(eq(draft.getId()), eq(Map.of(1, 555L, 2, 556L)));
+    }
+
+    @Test
+    @DisplayName("묶음은 주입된 풀에서 돌고, 묶음 크기만큼 행을 한 번에 커밋한다")
+    void groupsRunOnConfirmExecutor() {
+        AtomicInteger submitted = new AtomicInteger();
+        Executor counting = task -> {
+            submitted.incrementAndGet();
+            task.run();
+        };
+        Clock fixed = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+        BulkOrderService grouped = new BulkOrderService(draftPort, columnSpecPort,
+                new BulkOrderLineCommitter(placeLinePort, progressPort), fixed, counting, 2);
+        BulkOrderDraft draft = grouped.uploadAndValidate(UPLOADER, "bulk.csv",
+                List.of(goodRow("100"), goodRow("101"), goodRow("102"), goodRow("103"), goodRow("104")));
+        when(draftPort.findById(draft.getId())).thenReturn(Optional.of(draft));
+        when(placeLinePort.place(anyLong(), any())).thenReturn(555L);
+
+        BulkOrderUseCase.ConfirmResult result = grouped.confirm(draft.getId(), UPLOADER);
+
+        assertThat(result.created()).isEqualTo(5);
+        assertThat(submitted).hasValue(3); // 2 + 2 + 1
+        verify(progressPort, times(3)).markOrdered(eq(draft.getId()), any());
+    }
 }
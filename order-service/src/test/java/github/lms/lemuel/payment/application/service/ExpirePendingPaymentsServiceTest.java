@@ -1,17 +1,22 @@
 package github.lms.lemuel.payment.application.service;
 
 import github.lms.lemuel.payment.application.port.in.ExpirePendingPaymentsUseCase.ExpiryReport;
+import github.lms.lemuel.common.sweep.KeysetSweeper;
 import github.lms.lemuel.payment.application.port.out.LoadPaymentPort;
+import github.lms.lemuel.payment.application.port.out.LoadPaymentPort.PendingCursor;
 import github.lms.lemuel.payment.domain.PaymentDomain;
 import github.lms.lemuel.payment.domain.PaymentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +24,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -28,13 +34,14 @@ import static org.mockito.Mockito.when;
  * 미입금 결제 자동 만료 배치 유스케이스.
  *
  * <p>입금이 오지 않은 가상계좌·무통장 결제를 만료시키고, 그 주문을 취소해 재고를 되돌린다.
- * 배치이므로 <b>한 건의 실패가 나머지를 막지 않아야 하고</b>, 실패를 조용히 삼켜서도 안 된다(카운터로 드러낸다).
+ * 스윕 엔진은 트랜잭션 없이(withoutTransaction) 돌려 잡 정의만 본다. 배치이므로 <b>한 건의 실패가 나머지를 막지 않아야 하고</b>, 실패를 조용히 삼켜서도 안 된다(카운터로 드러낸다).
  */
 @ExtendWith(MockitoExtension.class)
 class ExpirePendingPaymentsServiceTest {
 
     private static final Duration TTL = Duration.ofHours(48);
     private static final LocalDateTime NOW = LocalDateTime.of(2026, 8, 10, 3, 0);
+    private static final int CHUNK = 100;
 
     @Mock LoadPaymentPort loadPaymentPort;
     @Mock PaymentExpiryProcessor processor;
@@ -43,7 +50,10 @@ class ExpirePendingPaymentsServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new ExpirePendingPaymentsService(loadPaymentPort, processor, TTL, 100);
+        KeysetSweeper sweeper = new KeysetSweeper(TransactionOperations.withoutTransaction(),
+                new SimpleMeterRegistry(), Clock.systemUTC());
+        service = new ExpirePendingPaymentsService(loadPaymentPort, processor, sweeper, TTL, 100,
+                CHUNK, 1, Duration.ofMinutes(5));
     }
 
     private PaymentDomain pending(Long id, String method, LocalDateTime createdAt) {
@@ -53,7 +63,7 @@ class ExpirePendingPaymentsServiceTest {
 
     @Test @DisplayName("만료 대상이 없으면 아무 것도 처리하지 않는다")
     void noCandidates_noop() {
-        when(loadPaymentPort.findPendingCreatedBefore(any(), anyInt())).thenReturn(List.of());
+        when(loadPaymentPort.claimPendingCreatedBefore(any(), any(), anyInt())).thenReturn(List.of());
 
         ExpiryReport report = service.expireDue(NOW, false);
 
@@ -65,7 +75,7 @@ class ExpirePendingPaymentsServiceTest {
     @Test @DisplayName("기한 지난 가상계좌 결제를 만료 처리한다")
     void expiresDueVirtualAccountPayment() {
         PaymentDomain due = pending(1L, "VIRTUAL_ACCOUNT", NOW.minusHours(49));
-        when(loadPaymentPort.findPendingCreatedBefore(any(), anyInt())).thenReturn(List.of(due));
+        when(loadPaymentPort.claimPendingCreatedBefore(any(), any(), anyInt())).thenReturn(List.of(due), List.of());
         when(processor.expireAndCancelOrder(due.getId())).thenReturn(true);
 
         ExpiryReport report = service.expireDue(NOW, false);
@@ -76,19 +86,43 @@ class ExpirePendingPaymentsServiceTest {
         assertThat(report.failed()).isZero();
     }
 
-    @Test @DisplayName("조회 컷오프는 now − TTL 이다")
+    @Test @DisplayName("조회 컷오프는 now − TTL 이고, 첫 청크는 키셋 처음부터 잠근다")
     void queriesWithTtlCutoff() {
-        when(loadPaymentPort.findPendingCreatedBefore(NOW.minus(TTL), 100)).thenReturn(List.of());
+        when(loadPaymentPort.claimPendingCreatedBefore(NOW.minus(TTL), PendingCursor.START, CHUNK))
+                .thenReturn(List.of());
 
         service.expireDue(NOW, false);
 
-        verify(loadPaymentPort).findPendingCreatedBefore(NOW.minus(TTL), 100);
+        verify(loadPaymentPort).claimPendingCreatedBefore(NOW.minus(TTL), PendingCursor.START, CHUNK);
+    }
+
+    @Test @DisplayName("밀린 건이 청크보다 많으면 마지막 건 다음부터 이어 잠근다 — 고정 건수에서 멈추지 않는다")
+    void continuesPastFirstChunk() {
+        KeysetSweeper sweeper = new KeysetSweeper(TransactionOperations.withoutTransaction(),
+                new SimpleMeterRegistry(), Clock.systemUTC());
+        ExpirePendingPaymentsService smallChunks = new ExpirePendingPaymentsService(
+                loadPaymentPort, processor, sweeper, TTL, 100, 2, 1, Duration.ofMinutes(5));
+        PaymentDomain first = pending(7L, "VIRTUAL_ACCOUNT", NOW.minusHours(60));
+        PaymentDomain second = pending(8L, "VIRTUAL_ACCOUNT", NOW.minusHours(55));
+        PaymentDomain third = pending(9L, "BANK_TRANSFER", NOW.minusHours(50));
+        when(loadPaymentPort.claimPendingCreatedBefore(any(), eq(PendingCursor.START), eq(2)))
+                .thenReturn(List.of(first, second));
+        when(loadPaymentPort.claimPendingCreatedBefore(any(), eq(PendingCursor.after(second)), eq(2)))
+                .thenReturn(List.of(third));
+        when(loadPaymentPort.claimPendingCreatedBefore(any(), eq(PendingCursor.after(third)), eq(2)))
+                .thenReturn(List.of());
+
+        ExpiryReport report = smallChunks.expireDue(NOW, false);
+
+        assertThat(report.scanned()).isEqualTo(3);
+        assertThat(report.expired()).isEqualTo(3);
+        verify(processor).expireAndCancelOrder(third.getId());
     }
 
     @Test @DisplayName("입금 대기형이 아닌 수단은 기한이 지나도 만료시키지 않는다(정책 재검증)")
     void skipsNonDepositMethod() {
         PaymentDomain card = pending(2L, "CARD", NOW.minusDays(30));
-        when(loadPaymentPort.findPendingCreatedBefore(any(), anyInt())).thenReturn(List.of(card));
+        when(loadPaymentPort.claimPendingCreatedBefore(any(), any(), anyInt())).thenReturn(List.of(card), List.of());
 
         ExpiryReport report = service.expireDue(NOW, false);
 
@@ -101,7 +135,8 @@ class ExpirePendingPaymentsServiceTest {
     @Test @DisplayName("기한 정각은 아직 만료가 아니다 — 경계에서 건너뛴다")
     void skipsExactlyAtDeadline() {
         PaymentDomain atDeadline = pending(3L, "VIRTUAL_ACCOUNT", NOW.minus(TTL));
-        when(loadPaymentPort.findPendingCreatedBefore(any(), anyInt())).thenReturn(List.of(atDeadline));
+        when(loadPaymentPort.claimPendingCreatedBefore(any(), any(), anyInt()))
+                .thenReturn(List.of(atDeadline), List.of());
 
         ExpiryReport report = service.expireDue(NOW, false);
 
@@ -117,16 +152,18 @@ class ExpirePendingPaymentsServiceTest {
         ExpiryReport report = service.expireDue(NOW, true);
 
         verifyNoInteractions(processor);
+        verify(loadPaymentPort, never()).claimPendingCreatedBefore(any(), any(), anyInt()); // 잠그지도 않는다
         assertThat(report.scanned()).isEqualTo(1);
         assertThat(report.expired()).isEqualTo(1); // "만료될 것" 예고
         assertThat(report.dryRun()).isTrue();
     }
 
-    @Test @DisplayName("한 건이 실패해도 나머지는 계속 처리하고, 실패는 카운터로 드러낸다")
+    @Test @DisplayName("한 건이 실패해도 나머지는 건별 재시도로 처리하고, 실패는 카운터로 드러낸다")
     void oneFailureDoesNotStopBatch() {
         PaymentDomain bad = pending(5L, "VIRTUAL_ACCOUNT", NOW.minusHours(50));
         PaymentDomain good = pending(6L, "BANK_TRANSFER", NOW.minusHours(50));
-        when(loadPaymentPort.findPendingCreatedBefore(any(), anyInt())).thenReturn(List.of(bad, good));
+        when(loadPaymentPort.claimPendingCreatedBefore(any(), any(), anyInt()))
+                .thenReturn(List.of(bad, good), List.of());
         when(processor.expireAndCancelOrder(bad.getId())).thenThrow(new RuntimeException("DB 잠금 타임아웃"));
         when(processor.expireAndCancelOrder(good.getId())).thenReturn(true);
 
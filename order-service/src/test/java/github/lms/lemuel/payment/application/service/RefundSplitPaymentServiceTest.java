@@ -161,6 +161,10 @@ class RefundSplitPaymentServiceTest {
                 java.time.LocalDateTime cutoff, int limit) {
             return java.util.List.of(); // 미입금 만료 배치는 이 테스트 범위 밖
         }
+        @Override public java.util.List<PaymentDomain> claimPendingCreatedBefore(
+                java.time.LocalDateTime cutoff, PendingCursor after, int limit) {
+            return java.util.List.of();
+        }
         @Override public PaymentDomain save(PaymentDomain p) { this.stored = p; return p; }
     }
 
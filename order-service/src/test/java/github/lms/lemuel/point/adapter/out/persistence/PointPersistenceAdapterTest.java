@@ -1,5 +1,6 @@
 package github.lms.lemuel.point.adapter.out.persistence;
 
+import github.lms.lemuel.point.application.port.out.PointLotPort;
 import github.lms.lemuel.point.domain.PointAccount;
 import github.lms.lemuel.point.domain.PointAccountStatus;
 import github.lms.lemuel.point.domain.PointEarnScope;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -150,13 +152,54 @@ class PointPersistenceAdapterTest {
     // ── PointLotPort ──────────────────────────────────────────────────────────
 
     @Test
-    @DisplayName("소비 가능 로트 조회는 ACTIVE 상태로만 질의한다")
-    void loadConsumableQueriesActiveOnly() {
-        when(lots.findConsumable(7L, PointLotStatus.ACTIVE))
+    @DisplayName("소비 가능 로트 쪽 조회는 ACTIVE 상태로만 질의하고, 만료일 구간이 가득 차면 무기한 구간을 읽지 않는다")
+    void loadConsumablePageQueriesActiveOnly() {
+        when(lots.findConsumableExpiringAfter(eq(7L), eq(PointLotStatus.ACTIVE), any(), eq(0L), any()))
                 .thenReturn(List.of(lotEntity(1L, new BigDecimal("40"))));
 
-        assertThat(adapter.loadConsumable(7L)).singleElement()
+        assertThat(adapter.loadConsumablePage(7L, PointLotPort.ConsumeCursor.START, 1)).singleElement()
                 .extracting(PointLot::getRemainingAmount).isEqualTo(new BigDecimal("40.00"));
+        verify(lots, never()).findConsumableUnlimitedAfter(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("만료일 구간이 모자라면 무기한 구간 처음부터 남은 자리만큼 채운다")
+    void loadConsumablePageSpillsIntoUnlimitedRange() {
+        when(lots.findConsumableExpiringAfter(eq(7L), eq(PointLotStatus.ACTIVE), any(), eq(0L), any()))
+                .thenReturn(List.of(lotEntity(1L, new BigDecimal("40"))));
+        when(lots.findConsumableUnlimitedAfter(7L, PointLotStatus.ACTIVE, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(lotEntity(9L, new BigDecimal("10"))));
+
+        assertThat(adapter.loadConsumablePage(7L, PointLotPort.ConsumeCursor.START, 3))
+                .extracting(PointLot::getId).containsExactly(1L, 9L);
+    }
+
+    @Test
+    @DisplayName("커서가 무기한 구간에 들어서면 만료일 구간은 다시 읽지 않는다")
+    void loadConsumablePageInUnlimitedRange() {
+        when(lots.findConsumableUnlimitedAfter(7L, PointLotStatus.ACTIVE, 9L, PageRequest.of(0, 5)))
+                .thenReturn(List.of());
+
+        assertThat(adapter.loadConsumablePage(7L, new PointLotPort.ConsumeCursor(null, 9L), 5)).isEmpty();
+        verify(lots, never()).findConsumableExpiringAfter(anyLong(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("압축 묶음 조회는 압축 가능한 출처만 넘기고, 무기한 묶음은 null 비교 대신 전용 질의로 읽는다")
+    void compactionGroups() {
+        when(lots.findCompactionGroups(eq(PointLotStatus.ACTIVE), any(), eq(PageRequest.of(0, 10))))
+                .thenReturn(List.<Object[]>of(new Object[]{7L, PointLotOrigin.MANUAL_GRANT, null, 3L}));
+        when(lots.findGroupUnlimited(7L, PointLotStatus.ACTIVE, PointLotOrigin.MANUAL_GRANT))
+                .thenReturn(List.of(lotEntity(1L, new BigDecimal("40"))));
+
+        List<PointLotPort.CompactionGroup> groups = adapter.findCompactionGroups(10);
+
+        assertThat(groups).containsExactly(
+                new PointLotPort.CompactionGroup(7L, PointLotOrigin.MANUAL_GRANT, null, 3L));
+        assertThat(adapter.loadCompactionGroup(groups.get(0))).hasSize(1);
+        verify(lots).findCompactionGroups(eq(PointLotStatus.ACTIVE),
+                org.mockito.ArgumentMatchers.argThat(origins -> !origins.contains(PointLotOrigin.ORDER_EARN)),
+                any());
     }
 
     @Test
@@ -0,0 +1,170 @@
+package github.lms.lemuel.point.application.service;
+
+import github.lms.lemuel.point.application.port.in.CompactPointLotsUseCase.CompactPointLotsCommand;
+import github.lms.lemuel.point.application.port.in.CompactPointLotsUseCase.CompactPointLotsResult;
+import github.lms.lemuel.point.application.port.out.PointAccountPort;
+import github.lms.lemuel.point.application.port.out.PointLotPort;
+import github.lms.lemuel.point.application.port.out.PointLotPort.CompactionGroup;
+import github.lms.lemuel.point.domain.PointAccount;
+import github.lms.lemuel.point.domain.PointLot;
+import github.lms.lemuel.point.domain.PointLotOrigin;
+import github.lms.lemuel.point.domain.PointLotStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CompactPointLotsService 단위 테스트.
+ *
+ * <p>압축은 잔고를 바꾸지 않는 정리 작업이다 — 합친 뒤에도 잔량 합이 같은지, 가장 오래된 로트로
+ * 모이는지, 계정당 락을 한 번만 잡는지, 계정마다 트랜잭션을 따로 여는지를 본다.
+ */
+class CompactPointLotsServiceTest {
+
+    private static final Long ACCOUNT_ID = 7L;
+    private static final OffsetDateTime GRANTED_AT = OffsetDateTime.parse("2026-08-01T00:00:00Z");
+    private static final OffsetDateTime EXPIRES_AT = GRANTED_AT.plusDays(30);
+
+    private PointAccountPort accountPort;
+    private PointLotPort lotPort;
+    private PlatformTransactionManager transactionManager;
+    private CompactPointLotsService service;
+
+    @BeforeEach
+    void setUp() {
+        accountPort = mock(PointAccountPort.class);
+        lotPort = mock(PointLotPort.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(call -> new SimpleTransactionStatus());
+        service = new CompactPointLotsService(accountPort, lotPort, transactionManager);
+
+        when(accountPort.loadByIdForUpdate(anyLong())).thenReturn(Optional.of(PointAccount.open(42L)));
+        when(lotPort.saveAll(any())).thenAnswer(call -> call.getArgument(0));
+    }
+
+    private PointLot lot(long id, String remaining, OffsetDateTime expiresAt) {
+        return PointLot.rehydrate(id, ACCOUNT_ID, PointLotOrigin.MANUAL_GRANT,
+                new BigDecimal("1000"), new BigDecimal(remaining), PointLotStatus.ACTIVE,
+                GRANTED_AT, expiresAt, "MANUAL", "grant-" + id, 0L);
+    }
+
+    @Test
+    @DisplayName("같은 만료일 묶음을 가장 오래된 로트로 모은다 — 잔량 합은 그대로다")
+    void mergesIntoOldestLot() {
+        CompactionGroup group = new CompactionGroup(ACCOUNT_ID, PointLotOrigin.MANUAL_GRANT, EXPIRES_AT, 3);
+        PointLot oldest = lot(1L, "100", EXPIRES_AT);
+        PointLot second = lot(2L, "200", EXPIRES_AT);
+        PointLot third = lot(3L, "300", EXPIRES_AT);
+        when(lotPort.findCompactionGroups(10)).thenReturn(List.of(group));
+        when(lotPort.loadCompactionGroup(group)).thenReturn(List.of(oldest, second, third));
+
+        CompactPointLotsResult result = service.compact(new CompactPointLotsCommand(10, false));
+
+        assertThat(result.mergedLotCount()).isEqualTo(2);
+        assertThat(oldest.getRemainingAmount()).isEqualByComparingTo("600");
+        assertThat(second.getStatus()).isEqualTo(PointLotStatus.MERGED);
+        assertThat(third.getMergedIntoLotId()).isEqualTo(1L);
+        verify(lotPort).saveAll(List.of(second, third, oldest));
+    }
+
+    @Test
+    @DisplayName("같은 계정의 여러 묶음은 락 한 번으로 처리한다")
+    void locksAccountOnce() {
+        CompactionGroup dated = new CompactionGroup(ACCOUNT_ID, PointLotOrigin.MANUAL_GRANT, EXPIRES_AT, 2);
+        CompactionGroup unlimited = new CompactionGroup(ACCOUNT_ID, PointLotOrigin.MANUAL_GRANT, null, 2);
+        when(lotPort.findCompactionGroups(10)).thenReturn(List.of(dated, unlimited));
+        when(lotPort.loadCompactionGroup(dated)).thenReturn(List.of(lot(1L, "1", EXPIRES_AT), lot(2L, "1", EXPIRES_AT)));
+        when(lotPort.loadCompactionGroup(unlimited)).thenReturn(List.of(lot(3L, "1", null), lot(4L, "1", null)));
+
+        CompactPointLotsResult result = service.compact(new CompactPointLotsCommand(10, false));
+
+        assertThat(result.groupCount()).isEqualTo(2);
+        assertThat(result.mergedLotCount()).isEqualTo(2);
+        verify(accountPort, times(1)).loadByIdForUpdate(ACCOUNT_ID);
+    }
+
+    @Test
+    @DisplayName("계정마다 새 트랜잭션을 열고 닫는다 — 앞 계정의 락을 배치 끝까지 쥐지 않는다")
+    void commitsPerAccount() {
+        CompactionGroup first = new CompactionGroup(ACCOUNT_ID, PointLotOrigin.MANUAL_GRANT, EXPIRES_AT, 2);
+        CompactionGroup second = new CompactionGroup(8L, PointLotOrigin.MANUAL_GRANT, EXPIRES_AT, 2);
+        when(lotPort.findCompactionGroups(10)).thenReturn(List.of(first, second));
+        when(lotPort.loadCompactionGroup(first)).thenReturn(List.of(lot(1L, "1", EXPIRES_AT), lot(2L, "1", EXPIRES_AT)));
+        when(lotPort.loadCompactionGroup(second)).thenReturn(List.of(lot(3L, "1", EXPIRES_AT), lot(4L, "1", EXPIRES_AT)));
+
+        service.compact(new CompactPointLotsCommand(10, false));
+
+        verify(transactionManager, times(2)).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("한 계정이 실패하면 그 계정만 롤백하고 다음 계정은 계속 압축한다")
+    void failedAccountRollsBackAlone() {
+        CompactionGroup broken = new CompactionGroup(99L, PointLotOrigin.MANUAL_GRANT, EXPIRES_AT, 2);
+        CompactionGroup healthy = new CompactionGroup(ACCOUNT_ID, PointLotOrigin.MANUAL_GRANT, EXPIRES_AT, 2);
+        when(lotPort.findCompactionGroups(10)).thenReturn(List.of(broken, healthy));
+        when(accountPort.loadByIdForUpdate(99L)).thenReturn(Optional.empty());
+        when(lotPort.loadCompactionGroup(healthy)).thenReturn(List.of(lot(1L, "1", EXPIRES_AT), lot(2L, "1", EXPIRES_AT)));
+
+        CompactPointLotsResult result = service.compact(new CompactPointLotsCommand(10, false));
+
+        assertThat(result.mergedLotCount()).isEqualTo(1);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("락을 잡고 다시 읽었을 때 한 개만 남았으면 건너뛴다 — 그 사이 사용·소멸이 끼었다")
+    void skipsGroupThatShrankAfterLock() {
+        CompactionGroup group = new CompactionGroup(ACCOUNT_ID, PointLotOrigin.MANUAL_GRANT, EXPIRES_AT, 2);
+        when(lotPort.findCompactionGroups(10)).thenReturn(List.of(group));
+        when(lotPort.loadCompactionGroup(group)).thenReturn(List.of(lot(1L, "100", EXPIRES_AT)));
+
+        CompactPointLotsResult result = service.compact(new CompactPointLotsCommand(10, false));
+
+        assertThat(result.mergedLotCount()).isZero();
+        verify(lotPort, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("dry-run 은 규모만 세고 아무것도 바꾸지 않는다")
+    void dryRunChangesNothing() {
+        when(lotPort.findCompactionGroups(10)).thenReturn(List.of(
+                new CompactionGroup(ACCOUNT_ID, PointLotOrigin.MANUAL_GRANT, EXPIRES_AT, 4)));
+
+        CompactPointLotsResult result = service.compact(new CompactPointLotsCommand(10, true));
+
+        assertThat(result.mergedLotCount()).isEqualTo(3);
+        assertThat(result.dryRun()).isTrue();
+        verify(accountPort, never()).loadByIdForUpdate(anyLong());
+        verify(lotPort, never()).loadCompactionGroup(any());
+    }
+
+    @Test
+    @DisplayName("묶음이 없으면 아무 일도 하지 않는다")
+    void noGroups() {
+        when(lotPort.findCompactionGroups(10)).thenReturn(List.of());
+
+        assertThat(service.compact(new CompactPointLotsCommand(10, false)).groupCount()).isZero();
+    }
+}
@@ -28,8 +28,10 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -102,7 +104,7 @@ class DeductPointServiceTest {
         void deductsBalanceAndLots() {
             PointAccount account = accountWith("5000", PointAccountStatus.ACTIVE);
             when(accountPort.loadForUpdate(USER_ID)).thenReturn(Optional.of(account));
-            when(lotPort.loadConsumable(ACCOUNT_ID)).thenReturn(List.of(
+            when(lotPort.loadConsumablePage(eq(ACCOUNT_ID), any(), anyInt())).thenReturn(List.of(
                     lot(1L, "2000", GRANTED_AT.plusDays(10)),
                     lot(2L, "3000", GRANTED_AT.plusDays(20))));
 
@@ -127,7 +129,7 @@ class DeductPointServiceTest {
             when(accountPort.loadForUpdate(USER_ID)).thenReturn(Optional.of(account));
             PointLot soon = lot(1L, "2000", GRANTED_AT.plusDays(10));
             PointLot later = lot(2L, "3000", GRANTED_AT.plusDays(20));
-            when(lotPort.loadConsumable(ACCOUNT_ID)).thenReturn(List.of(later, soon));
+            when(lotPort.loadConsumablePage(eq(ACCOUNT_ID), any(), anyInt())).thenReturn(List.of(later, soon));
 
             service.deduct(command("2000"));
 
@@ -140,7 +142,7 @@ class DeductPointServiceTest {
         void usesPessimisticLock() {
             PointAccount account = accountWith("1000", PointAccountStatus.ACTIVE);
             when(accountPort.loadForUpdate(USER_ID)).thenReturn(Optional.of(account));
-            when(lotPort.loadConsumable(ACCOUNT_ID)).thenReturn(List.of(lot(1L, "1000", null)));
+            when(lotPort.loadConsumablePage(eq(ACCOUNT_ID), any(), anyInt())).thenReturn(List.of(lot(1L, "1000", null)));
 
             service.deduct(command("500"));
 
@@ -153,7 +155,7 @@ class DeductPointServiceTest {
         void worksOnSuspendedAccount() {
             PointAccount account = accountWith("1000", PointAccountStatus.SUSPENDED);
             when(accountPort.loadForUpdate(USER_ID)).thenReturn(Optional.of(account));
-            when(lotPort.loadConsumable(ACCOUNT_ID)).thenReturn(List.of(lot(1L, "1000", null)));
+            when(lotPort.loadConsumablePage(eq(ACCOUNT_ID), any(), anyInt())).thenReturn(List.of(lot(1L, "1000", null)));
 
             DeductPointResult result = service.deduct(command("400"));
 
@@ -192,7 +194,7 @@ class DeductPointServiceTest {
         void blankReason() {
             PointAccount account = accountWith("1000", PointAccountStatus.ACTIVE);
             when(accountPort.loadForUpdate(USER_ID)).thenReturn(Optional.of(account));
-            when(lotPort.loadConsumable(ACCOUNT_ID)).thenReturn(List.of(lot(1L, "1000", null)));
+            when(lotPort.loadConsumablePage(eq(ACCOUNT_ID), any(), anyInt())).thenReturn(List.of(lot(1L, "1000", null)));
 
             assertThatThrownBy(() -> service.deduct(new DeductPointCommand(
                     USER_ID, new BigDecimal("100"), "recall-1", "   ", "admin:1")))
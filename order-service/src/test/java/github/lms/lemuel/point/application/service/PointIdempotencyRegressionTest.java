@@ -113,9 +113,16 @@ class PointIdempotencyRegressionTest {
         private final List<PointLot> stored = new ArrayList<>();
         private final AtomicLong ids = new AtomicLong();
 
+        /** 페이크는 로트가 몇 개뿐이라 한 쪽에 다 담는다 — 마지막 쪽이라는 신호({@code < limit})도 그대로다. */
         @Override
-        public List<PointLot> loadConsumable(Long accountId) {
-            return stored.stream().filter(PointLot::isConsumable).toList();
+        public List<PointLot> loadConsumablePage(Long accountId, ConsumeCursor after, int limit) {
+            if (after != ConsumeCursor.START) {
+                return List.of();
+            }
+            return stored.stream()
+                    .filter(l -> l.getAccountId().equals(accountId) && l.isConsumable())
+                    .limit(limit)
+                    .toList();
         }
 
         @Override
@@ -128,6 +135,16 @@ class PointIdempotencyRegressionTest {
             return List.of();
         }
 
+        @Override
+        public List<CompactionGroup> findCompactionGroups(int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<PointLot> loadCompactionGroup(CompactionGroup group) {
+            return List.of();
+        }
+
         @Override
         public PointLot save(PointLot lot) {
             if (lot.getId() == null) {
@@ -163,6 +163,28 @@ class RestorePointServiceTest {
         assertThat(entryCaptor.getValue().getAllocations().get(0).lotId()).isEqualTo(99L);
     }
 
+    @Test
+    @DisplayName("압축으로 병합된 로트는 흡수한 로트로 되돌린다 — 대체 로트를 발급하지 않는다")
+    void restoresIntoSurvivorOfMergedLot() {
+        givenUseHistory(new PointLotConsumption(1L, new BigDecimal("300")));
+        PointLot merged = PointLot.rehydrate(1L, ACCOUNT_ID, PointLotOrigin.MANUAL_GRANT,
+                new BigDecimal("300"), BigDecimal.ZERO, PointLotStatus.MERGED,
+                GRANTED_AT, GRANTED_AT.plusDays(30), "MANUAL", "grant-1", 5L, 0L);
+        PointLot survivor = PointLot.rehydrate(5L, ACCOUNT_ID, PointLotOrigin.MANUAL_GRANT,
+                new BigDecimal("800"), new BigDecimal("500"), PointLotStatus.ACTIVE,
+                GRANTED_AT, GRANTED_AT.plusDays(30), "MANUAL", "grant-5", 0L);
+        when(lotPort.loadByIds(List.of(1L))).thenReturn(List.of(merged));
+        when(lotPort.loadByIds(List.of(5L))).thenReturn(List.of(survivor));
+
+        service.restore(command("300"));
+
+        assertThat(survivor.getRemainingAmount()).isEqualByComparingTo(new BigDecimal("800"));
+        verify(lotPort, never()).save(any());
+        ArgumentCaptor<PointEntry> entryCaptor = ArgumentCaptor.forClass(PointEntry.class);
+        verify(entryPort).append(entryCaptor.capture());
+        assertThat(entryCaptor.getValue().getAllocations().get(0).lotId()).isEqualTo(5L);
+    }
+
     @Test
     @DisplayName("원 사용 이력이 없으면 복원할 수 없다")
     void rejectsRestoreWithoutUseHistory() {
@@ -29,6 +29,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -95,7 +96,7 @@ class UsePointServiceTest {
     void use_deductsAndRecordsLedger() {
         PointAccount account = accountWith("5000");
         when(accountPort.loadForUpdate(USER_ID)).thenReturn(Optional.of(account));
-        when(lotPort.loadConsumable(ACCOUNT_ID)).thenReturn(List.of(
+        when(lotPort.loadConsumablePage(eq(ACCOUNT_ID), any(), anyInt())).thenReturn(List.of(
                 lot(1L, "2000", GRANTED_AT.plusDays(10)),
                 lot(2L, "3000", GRANTED_AT.plusDays(20))));
 
@@ -120,7 +121,7 @@ class UsePointServiceTest {
     void use_rejectsInsufficientBalance() {
         PointAccount account = accountWith("1000");
         when(accountPort.loadForUpdate(USER_ID)).thenReturn(Optional.of(account));
-        when(lotPort.loadConsumable(ACCOUNT_ID)).thenReturn(List.of(lot(1L, "1000", null)));
+        when(lotPort.loadConsumablePage(eq(ACCOUNT_ID), any(), anyInt())).thenReturn(List.of(lot(1L, "1000", null)));
 
         assertThatThrownBy(() -> service.use(command("1001")))
                 .isInstanceOf(InsufficientPointException.class);
@@ -144,7 +145,7 @@ class UsePointServiceTest {
         PointAccount account = accountWith("5000");
         account.suspend();
         when(accountPort.loadForUpdate(USER_ID)).thenReturn(Optional.of(account));
-        when(lotPort.loadConsumable(ACCOUNT_ID)).thenReturn(List.of(lot(1L, "5000", null)));
+        when(lotPort.loadConsumablePage(eq(ACCOUNT_ID), any(), anyInt())).thenReturn(List.of(lot(1L, "5000", null)));
 
         assertThatThrownBy(() -> service.use(command("100")))
                 .isInstanceOf(InvalidPointStateException.class);
@@ -171,7 +172,7 @@ class UsePointServiceTest {
         PointAccount account = accountWith("2000");
         PointLot first = lot(1L, "2000", GRANTED_AT.plusDays(10));
         when(accountPort.loadForUpdate(USER_ID)).thenReturn(Optional.of(account));
-        when(lotPort.loadConsumable(ACCOUNT_ID)).thenReturn(List.of(first));
+        when(lotPort.loadConsumablePage(eq(ACCOUNT_ID), any(), anyInt())).thenReturn(List.of(first));
 
         service.use(command("2000"));
 
@@ -184,10 +185,54 @@ class UsePointServiceTest {
     void use_publishesEvent() {
         PointAccount account = accountWith("5000");
         when(accountPort.loadForUpdate(USER_ID)).thenReturn(Optional.of(account));
-        when(lotPort.loadConsumable(ACCOUNT_ID)).thenReturn(List.of(lot(1L, "5000", null)));
+        when(lotPort.loadConsumablePage(eq(ACCOUNT_ID), any(), anyInt())).thenReturn(List.of(lot(1L, "5000", null)));
 
         service.use(command("1000"));
 
         verify(eventPort).pointUsed(any(PointAccount.class), any(PointEntry.class));
     }
+
+    @Test
+    @DisplayName("첫 쪽이 요청액을 덮으면 다음 쪽을 읽지 않는다 — 비용은 건드린 로트 수에 비례한다")
+    @SuppressWarnings("unchecked")
+    void use_readsOnlyCoveringPage() {
+        PointAccount account = accountWith("100000");
+        when(accountPort.loadForUpdate(USER_ID)).thenReturn(Optional.of(account));
+        List<PointLot> page = new java.util.ArrayList<>();
+        for (long id = 1; id <= ConsumableLots.PAGE_SIZE; id++) {
+            page.add(lot(id, "100", GRANTED_AT.plusDays(id)));
+        }
+        when(lotPort.loadConsumablePage(ACCOUNT_ID, PointLotPort.ConsumeCursor.START, ConsumableLots.PAGE_SIZE))
+                .thenReturn(page);
+
+        service.use(command("250"));
+
+        verify(lotPort).loadConsumablePage(eq(ACCOUNT_ID), any(), anyInt());
+        org.mockito.ArgumentCaptor<List<PointLot>> saved = org.mockito.ArgumentCaptor.forClass(List.class);
+        verify(lotPort).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(PointLot::getId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("첫 쪽으로 모자라면 마지막 로트 다음부터 이어 읽는다")
+    void use_continuesFromCursorWhenPageFallsShort() {
+        PointAccount account = accountWith("100000");
+        when(accountPort.loadForUpdate(USER_ID)).thenReturn(Optional.of(account));
+        List<PointLot> first = new java.util.ArrayList<>();
+        for (long id = 1; id <= ConsumableLots.PAGE_SIZE; id++) {
+            first.add(lot(id, "10", GRANTED_AT.plusDays(1)));
+        }
+        PointLot unlimited = lot(900L, "5000", null);
+        when(lotPort.loadConsumablePage(ACCOUNT_ID, PointLotPort.ConsumeCursor.START, ConsumableLots.PAGE_SIZE))
+                .thenReturn(first);
+        when(lotPort.loadConsumablePage(ACCOUNT_ID,
+                new PointLotPort.ConsumeCursor(GRANTED_AT.plusDays(1), (long) ConsumableLots.PAGE_SIZE),
+                ConsumableLots.PAGE_SIZE))
+                .thenReturn(List.of(unlimited));
+
+        service.use(command("600"));
+
+        assertThat(first).allMatch(lot -> lot.getStatus() == PointLotStatus.EXHAUSTED);
+        assertThat(unlimited.getRemainingAmount()).isEqualByComparingTo(new BigDecimal("4900"));
+    }
 }
@@ -249,4 +249,67 @@ class PointLotTest {
                     .doesNotThrowAnyException();
         }
     }
+
+    @Nested
+    @DisplayName("absorb — 압축")
+    class AbsorbTests {
+
+        private PointLot grant(long id, String amount, OffsetDateTime expiresAt) {
+            PointLot lot = PointLot.issue(ACCOUNT_ID, PointLotOrigin.MANUAL_GRANT, new BigDecimal(amount),
+                    GRANTED_AT, expiresAt, "MANUAL", "grant-" + id);
+            lot.assignId(id);
+            return lot;
+        }
+
+        @Test
+        @DisplayName("잔량은 잔량끼리, 원 발급액은 원 발급액끼리 더하고 흡수된 로트는 MERGED 로 닫힌다")
+        void absorb_movesRemainingAndOriginal() {
+            PointLot survivor = grant(1L, "1000", EXPIRES_AT);
+            PointLot absorbed = grant(2L, "500", EXPIRES_AT);
+            absorbed.consume(new BigDecimal("200"));
+
+            BigDecimal moved = survivor.absorb(absorbed);
+
+            assertThat(moved).isEqualByComparingTo("300");
+            assertThat(survivor.getRemainingAmount()).isEqualByComparingTo("1300");
+            assertThat(survivor.getOriginalAmount()).isEqualByComparingTo("1500");
+            assertThat(absorbed.getRemainingAmount()).isEqualByComparingTo("0");
+            assertThat(absorbed.getStatus()).isEqualTo(PointLotStatus.MERGED);
+            assertThat(absorbed.getMergedIntoLotId()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("흡수된 로트에서 쓰인 몫까지 흡수한 로트로 복원할 수 있고, 그 이상은 막는다")
+        void absorb_keepsRestoreHeadroom() {
+            PointLot survivor = grant(1L, "1000", EXPIRES_AT);
+            PointLot absorbed = grant(2L, "500", EXPIRES_AT);
+            absorbed.consume(new BigDecimal("200"));
+            survivor.absorb(absorbed);
+
+            survivor.restoreConsumed(new BigDecimal("200"));
+
+            assertThat(survivor.getRemainingAmount()).isEqualByComparingTo("1500");
+            assertThatThrownBy(() -> survivor.restoreConsumed(BigDecimal.ONE))
+                    .isInstanceOf(InvalidPointStateException.class);
+        }
+
+        @Test
+        @DisplayName("만료일이 다르거나 주문 적립분이면 합치지 않는다")
+        void absorb_rejectsMismatch() {
+            PointLot survivor = grant(1L, "1000", EXPIRES_AT);
+
+            assertThatThrownBy(() -> survivor.absorb(grant(2L, "500", EXPIRES_AT.plusDays(1))))
+                    .isInstanceOf(InvalidPointStateException.class);
+            assertThatThrownBy(() -> survivor.absorb(survivor))
+                    .isInstanceOf(InvalidPointStateException.class);
+
+            PointLot earned = newLot("100");
+            earned.assignId(10L);
+            PointLot otherEarned = PointLot.issue(ACCOUNT_ID, PointLotOrigin.ORDER_EARN, new BigDecimal("100"),
+                    GRANTED_AT, EXPIRES_AT, "ORDER", "1002");
+            otherEarned.assignId(11L);
+            assertThatThrownBy(() -> earned.absorb(otherEarned))
+                    .isInstanceOf(InvalidPointStateException.class);
+        }
+    }
 }
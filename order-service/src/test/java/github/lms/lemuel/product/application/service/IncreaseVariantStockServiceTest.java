@@ -1,6 +1,8 @@
 package github.lms.lemuel.product.application.service;
 import github.lms.lemuel.product.domain.exception.ProductInvariantViolationException;
 
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort;
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort.FacetChange;
 import github.lms.lemuel.product.application.port.out.SaveProductVariantPort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,7 @@ import static org.mockito.Mockito.when;
 class IncreaseVariantStockServiceTest {
 
     @Mock SaveProductVariantPort savePort;
+    @Mock PublishProductFacetChangedPort facetChangedPort;
     @InjectMocks IncreaseVariantStockService service;
 
     @Test @DisplayName("원복 성공: 포트에 위임하고 true 반환")
@@ -26,12 +29,15 @@ class IncreaseVariantStockServiceTest {
         when(savePort.increaseStock(500L, 2)).thenReturn(1);
         assertThat(service.increase(500L, 2)).isTrue();
         verify(savePort).increaseStock(500L, 2);
+        // 매진 SKU 가 되살아났을 수 있다 — 파셋 인덱스에 알린다
+        verify(facetChangedPort).publish(FacetChange.ofVariant(500L));
     }
 
     @Test @DisplayName("단종·미존재로 영향 행 0 이면 예외 없이 false")
     void increase_skipped_whenNoRowAffected() {
         when(savePort.increaseStock(500L, 2)).thenReturn(0);
         assertThat(service.increase(500L, 2)).isFalse();
+        verifyNoInteractions(facetChangedPort);
     }
 
     @Test @DisplayName("수량 0 이하는 예외 — 포트 미호출")
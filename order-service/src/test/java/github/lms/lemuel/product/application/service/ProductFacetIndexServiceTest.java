@@ -0,0 +1,134 @@
+package github.lms.lemuel.product.application.service;
+
+import github.lms.lemuel.product.application.port.out.LoadProductFacetIndexPort;
+import github.lms.lemuel.product.application.port.out.ProductFacetChangeLogPort;
+import github.lms.lemuel.product.application.port.out.ProductFacetChangeLogPort.LoggedFacetChange;
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort.FacetChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파셋 인덱스 수명 관리 — 공유 변경 로그로 다른 노드의 변경을 따라잡는지.
+ *
+ * <p>두 서비스 인스턴스가 같은 가짜 로그를 쓰면 두 노드다.
+ */
+@DisplayName("ProductFacetIndexService — 노드 간 변경 전파")
+class ProductFacetIndexServiceTest {
+
+    private InMemoryChangeLog changeLog;
+    private RecordingIndexPort nodeAPort;
+    private RecordingIndexPort nodeBPort;
+    private ProductFacetIndexService nodeA;
+    private ProductFacetIndexService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        changeLog = new InMemoryChangeLog();
+        nodeAPort = new RecordingIndexPort();
+        nodeBPort = new RecordingIndexPort();
+        nodeA = new ProductFacetIndexService(nodeAPort, changeLog, Duration.ofMinutes(1), Duration.ofHours(1));
+        nodeB = new ProductFacetIndexService(nodeBPort, changeLog, Duration.ofMinutes(1), Duration.ofHours(1));
+        nodeA.rebuild();
+        nodeB.rebuild();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 커밋된 변경을 다른 노드가 다음 부분 갱신에서 다시 읽는다")
+    void otherNodePicksUpChange() {
+        nodeA.markChanged(FacetChange.ofProduct(7L));
+
+        assertThat(nodeB.refreshChanged()).isEqualTo(1);
+        assertThat(nodeBPort.reloaded).containsExactly(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("겹쳐 읽은 줄은 한 번만 반영한다")
+    void overlappingReadAppliesOnce() {
+        nodeA.markChanged(FacetChange.ofProduct(7L));
+        nodeB.refreshChanged();
+
+        assertThat(nodeB.refreshChanged()).isZero();
+        assertThat(nodeBPort.reloaded).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("워터마크보다 앞선 시각으로 늦게 보인 줄도 overlap 안이면 반영한다")
+    void lateVisibleRowWithinOverlap() {
+        nodeA.markChanged(FacetChange.ofProduct(7L));
+        nodeB.refreshChanged();
+        changeLog.appendAt(FacetChange.ofProduct(8L), Instant.now().minusSeconds(30));
+
+        assertThat(nodeB.refreshChanged()).isEqualTo(1);
+        assertThat(nodeBPort.reloaded).last().isEqualTo(List.of(8L));
+    }
+
+    @Test
+    @DisplayName("인덱스를 끈 노드도 변경을 로그에 남긴다")
+    void disabledNodeStillPublishes() {
+        ProductFacetIndexService disabled = new ProductFacetIndexService(new RecordingIndexPort(), changeLog,
+                Duration.ofMinutes(1), Duration.ofHours(1));
+
+        disabled.markChanged(FacetChange.ofVariant(21L));
+
+        assertThat(changeLog.rows).extracting(LoggedFacetChange::change).containsExactly(FacetChange.ofVariant(21L));
+        assertThat(nodeA.refreshChanged()).isEqualTo(1);
+        assertThat(nodeAPort.reloaded).containsExactly(List.of(2L));
+    }
+
+    private static final class InMemoryChangeLog implements ProductFacetChangeLogPort {
+
+        private final List<LoggedFacetChange> rows = new ArrayList<>();
+
+        @Override
+        public void append(FacetChange change) {
+            appendAt(change, Instant.now());
+        }
+
+        void appendAt(FacetChange change, Instant changedAt) {
+            rows.add(new LoggedFacetChange(rows.size() + 1, change, changedAt));
+        }
+
+        @Override
+        public List<LoggedFacetChange> findSince(Instant since) {
+            return rows.stream().filter(row -> row.changedAt().isAfter(since)).toList();
+        }
+
+        @Override
+        public int purgeBefore(Instant before) {
+            int size = rows.size();
+            rows.removeIf(row -> row.changedAt().isBefore(before));
+            return size - rows.size();
+        }
+    }
+
+    /** 재적재는 빈 인덱스, 부분 갱신은 요청된 상품 id 만 기록한다. SKU 21 은 상품 2 소속이다. */
+    private static final class RecordingIndexPort implements LoadProductFacetIndexPort {
+
+        private final List<List<Long>> reloaded = new ArrayList<>();
+
+        @Override
+        public FacetIndexRows loadAll() {
+            return new FacetIndexRows(List.of(), List.of());
+        }
+
+        @Override
+        public FacetIndexRows loadForProducts(Collection<Long> productIds) {
+            reloaded.add(List.copyOf(productIds));
+            return new FacetIndexRows(List.of(), List.of());
+        }
+
+        @Override
+        public List<Long> findProductIdsOfVariants(Collection<Long> variantIds) {
+            return variantIds.stream().map(id -> id / 10).toList();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package github.lms.lemuel.product.application.service;
+
+import github.lms.lemuel.product.application.port.out.LoadProductFacetIndexPort.FacetIndexRows;
+import github.lms.lemuel.product.application.port.out.LoadProductFacetIndexPort.ProductCategoryRow;
+import github.lms.lemuel.product.application.port.out.LoadProductFacetIndexPort.VariantOptionRow;
+import github.lms.lemuel.product.application.port.out.LoadProductFacetPort.FacetCount;
+import github.lms.lemuel.product.domain.OptionFacetQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 인메모리 파셋 인덱스가 JDBC 경로와 같은 의미 규칙으로 답하는지.
+ *
+ * <pre>
+ *   상품 1: SKU 11 = 빨강/L, SKU 12 = 파랑/M
+ *   상품 2: SKU 21 = 빨강/M, SKU 22 = 파랑/L   ← 빨강 L 은 없다(따로 가진 상품)
+ *   상품 3: SKU 31 = 빨강/L (품절)             카테고리 100 = 상품 1, 3
+ * </pre>
+ */
+@DisplayName("ProductFacetIndex — 비트맵 파셋 인덱스")
+class ProductFacetIndexTest {
+
+    private ProductFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<VariantOptionRow> options = new ArrayList<>();
+        options.addAll(sku(11, 1, true, "빨강", "L"));
+        options.addAll(sku(12, 1, true, "파랑", "M"));
+        options.addAll(sku(21, 2, true, "빨강", "M"));
+        options.addAll(sku(22, 2, true, "파랑", "L"));
+        options.addAll(sku(31, 3, false, "빨강", "L"));
+        index = ProductFacetIndex.build(new FacetIndexRows(options, List.of(
+                new ProductCategoryRow(1, 100), new ProductCategoryRow(3, 100))));
+    }
+
+    private static List<VariantOptionRow> sku(long variantId, long productId, boolean sellable,
+                                              String color, String size) {
+        return List.of(
+                new VariantOptionRow(variantId, productId, sellable, "색상", "색상", 1, color, color, 0),
+                new VariantOptionRow(variantId, productId, sellable, "사이즈", "사이즈", 2, size, size, 0));
+    }
+
+    private static OptionFacetQuery query(String... tokens) {
+        return OptionFacetQuery.of(List.of(tokens));
+    }
+
+    @Nested
+    @DisplayName("상품 찾기")
+    class FindProductIds {
+
+        @Test
+        @DisplayName("축 간 AND 는 SKU 하나 안에서 성립한다 — 빨강 SKU 와 L SKU 를 따로 가진 상품은 빠진다")
+        void andHoldsWithinSingleSku() {
+            assertThat(index.findProductIds(query("색상:빨강", "사이즈:L"), null, false))
+                    .containsExactly(1L, 3L);
+        }
+
+        @Test
+        @DisplayName("같은 축 안은 OR 이다")
+        void orWithinAxis() {
+            assertThat(index.findProductIds(query("사이즈:L", "사이즈:M"), null, true))
+                    .containsExactly(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("availableOnly 는 품절 SKU 를 빼고, 카테고리는 그 분류 상품만 남긴다")
+        void availabilityAndCategory() {
+            assertThat(index.findProductIds(query("색상:빨강", "사이즈:L"), null, true)).containsExactly(1L);
+            assertThat(index.findProductIds(OptionFacetQuery.empty(), 100L, false)).containsExactly(1L, 3L);
+            assertThat(index.findProductIds(OptionFacetQuery.empty(), 999L, false)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("인덱스에 없는 값을 고르면 결과가 없다")
+        void unknownValue() {
+            assertThat(index.findProductIds(query("색상:초록"), null, false)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("파셋 개수")
+    class CountFacets {
+
+        @Test
+        @DisplayName("필터를 만족하는 상품의 모든 값을 상품 수로 센다")
+        void countsAllValuesOfMatchingProducts() {
+            List<FacetCount> counts = index.countFacets(query("색상:빨강", "사이즈:L"), null, true, null);
+
+            // 매칭 상품은 1 하나 — 그 상품이 가진 값 전부(빨강·파랑·L·M)가 1 로 센다.
+            assertThat(counts).extracting(FacetCount::axisCode, FacetCount::valueCode, FacetCount::productCount)
+                    .containsExactly(
+                            tuple("색상", "빨강", 1L), tuple("색상", "파랑", 1L),
+                            tuple("사이즈", "L", 1L), tuple("사이즈", "M", 1L));
+        }
+
+        @Test
+        @DisplayName("축 제한을 주면 그 축만 센다")
+        void restrictToAxis() {
+            assertThat(index.countFacets(OptionFacetQuery.empty(), null, false, "색상"))
+                    .extracting(FacetCount::valueCode, FacetCount::productCount)
+                    .containsExactly(tuple("빨강", 3L), tuple("파랑", 2L));
+        }
+
+        @Test
+        @DisplayName("availableOnly 면 품절 SKU 만 가진 상품은 그 값의 개수에서 빠진다")
+        void excludesSoldOutFromCounts() {
+            assertThat(index.countFacets(OptionFacetQuery.empty(), null, true, "색상"))
+                    .extracting(FacetCount::valueCode, FacetCount::productCount)
+                    .containsExactly(tuple("빨강", 2L), tuple("파랑", 2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("부분 갱신")
+    class ReplaceProducts {
+
+        @Test
+        @DisplayName("상품을 갈아 끼우면 옛 SKU 는 모든 포스팅에서 빠지고 새 SKU 가 들어온다")
+        void replacesWholeProduct() {
+            index.replaceProducts(List.of(2L), new FacetIndexRows(sku(23, 2, true, "빨강", "L"), List.of()));
+
+            assertThat(index.findProductIds(query("색상:빨강", "사이즈:L"), null, true)).containsExactly(1L, 2L);
+            assertThat(index.findProductIds(query("색상:파랑"), null, false)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("행이 없는 상품은 인덱스에서 사라지고, 카테고리 포스팅에서도 빠진다")
+        void removesProductWithoutRows() {
+            index.replaceProducts(List.of(3L), new FacetIndexRows(List.of(), List.of()));
+
+            assertThat(index.findProductIds(OptionFacetQuery.empty(), null, false)).containsExactly(1L, 2L);
+            assertThat(index.findProductIds(OptionFacetQuery.empty(), 100L, false)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("매진 전이는 availableOnly 개수에 바로 반영된다")
+        void sellabilityTransition() {
+            index.replaceProducts(List.of(1L), new FacetIndexRows(List.of(), List.of()));
+            List<VariantOptionRow> soldOut = new ArrayList<>(sku(11, 1, false, "빨강", "L"));
+            soldOut.addAll(sku(12, 1, true, "파랑", "M"));
+            index.replaceProducts(List.of(1L), new FacetIndexRows(soldOut, List.of(new ProductCategoryRow(1, 100))));
+
+            assertThat(index.findProductIds(query("사이즈:L"), null, true)).containsExactly(2L);
+            assertThat(index.findProductIds(OptionFacetQuery.empty(), 100L, true)).containsExactly(1L);
+        }
+    }
+}
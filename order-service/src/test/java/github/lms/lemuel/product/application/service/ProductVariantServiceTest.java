@@ -1,6 +1,7 @@
 package github.lms.lemuel.product.application.service;
 
 import github.lms.lemuel.product.application.port.out.LoadProductPort;
+import github.lms.lemuel.product.application.port.out.PublishProductFacetChangedPort.FacetChange;
 import github.lms.lemuel.product.application.service.OptionCatalogFakes.FakeOptionCatalogPort;
 import github.lms.lemuel.product.application.service.OptionCatalogFakes.FakeProductVariantPort;
 import github.lms.lemuel.product.application.service.OptionCatalogFakes.FakeVariantOptionMappingPort;
@@ -15,6 +16,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +39,7 @@ class ProductVariantServiceTest {
     private LoadProductPort loadProductPort;
     private FakeProductVariantPort variantPort;
     private FakeOptionCatalogPort catalogPort;
+    private List<FacetChange> facetChanges;
     private ProductVariantService service;
 
     @BeforeEach
@@ -44,9 +48,11 @@ class ProductVariantServiceTest {
         variantPort = new FakeProductVariantPort();
         catalogPort = new FakeOptionCatalogPort();
         FakeVariantOptionMappingPort mappingPort = new FakeVariantOptionMappingPort();
+        facetChanges = new ArrayList<>();
         service = new ProductVariantService(loadProductPort, variantPort, variantPort,
                 new BackfillOptionCatalogService(variantPort, catalogPort, catalogPort),
-                new BackfillVariantSignatureService(variantPort, variantPort, catalogPort, mappingPort));
+                new BackfillVariantSignatureService(variantPort, variantPort, catalogPort, mappingPort),
+                facetChanges::add);
     }
 
     private void productExists() {
@@ -72,6 +78,7 @@ class ProductVariantServiceTest {
             assertThat(color.getName()).isEqualTo("색상");
             assertThat(catalogPort.findAxisValueByCode(color.getId(), "빨강")).isPresent();
             assertThat(catalogPort.loadProductAxes(PRODUCT_ID)).hasSize(2);
+            assertThat(facetChanges).containsExactly(FacetChange.ofProduct(PRODUCT_ID));
         }
 
         @Test
@@ -0,0 +1,137 @@
+package github.lms.lemuel.product.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IdBitmap — 압축 포스팅 리스트")
+class IdBitmapTest {
+
+    @Nested
+    @DisplayName("기본 연산")
+    class Basics {
+
+        @Test
+        @DisplayName("순서·중복과 무관하게 오름차순으로 담긴다")
+        void sortedAndDistinct() {
+            IdBitmap bitmap = IdBitmap.of(9, 3, 3, 70_000, 1);
+
+            assertThat(bitmap.toArray()).containsExactly(1, 3, 9, 70_000);
+            assertThat(bitmap.cardinality()).isEqualTo(4);
+            assertThat(bitmap.contains(70_000)).isTrue();
+            assertThat(bitmap.contains(4)).isFalse();
+        }
+
+        @Test
+        @DisplayName("마지막 원소를 빼면 비어 있다")
+        void removeToEmpty() {
+            IdBitmap bitmap = IdBitmap.of(5);
+            bitmap.remove(5);
+            bitmap.remove(6);
+
+            assertThat(bitmap.isEmpty()).isTrue();
+            assertThat(bitmap.cardinality()).isZero();
+        }
+
+        @Test
+        @DisplayName("음수 id 는 받지 않는다 — 컨테이너 키 정렬이 부호 없는 비교를 가정한다")
+        void rejectsNegative() {
+            assertThatThrownBy(() -> IdBitmap.empty().add(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> IdBitmap.of(3, -1, 2))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> IdBitmap.of(List.of(5L, Long.MIN_VALUE)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(IdBitmap.of(1).contains(-1)).isFalse();
+        }
+
+        @Test
+        @DisplayName("집합 연산은 피연산자를 바꾸지 않는다")
+        void setOperationsAreNonDestructive() {
+            IdBitmap left = IdBitmap.of(1, 2, 3);
+            IdBitmap right = IdBitmap.of(2, 3, 4);
+
+            assertThat(left.and(right).toArray()).containsExactly(2, 3);
+            assertThat(left.or(right).toArray()).containsExactly(1, 2, 3, 4);
+            assertThat(left.toArray()).containsExactly(1, 2, 3);
+            assertThat(right.toArray()).containsExactly(2, 3, 4);
+        }
+
+        @Test
+        @DisplayName("orAll 은 여러 포스팅의 합집합이고, 빈 목록이면 빈 비트맵이다")
+        void orAll() {
+            assertThat(IdBitmap.orAll(List.of(IdBitmap.of(1), IdBitmap.of(2), IdBitmap.of(1))).toArray())
+                    .containsExactly(1, 2);
+            assertThat(IdBitmap.orAll(List.of()).isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("밀도 경계")
+    class DensityBoundary {
+
+        @Test
+        @DisplayName("한 컨테이너가 배열 상한을 넘어도, 다시 줄어도 원소는 그대로다")
+        void crossesArrayBitmapBoundaryBothWays() {
+            IdBitmap bitmap = IdBitmap.empty();
+            for (long id = 0; id <= IdBitmap.ARRAY_MAX; id++) {
+                bitmap.add(id * 2);
+            }
+            assertThat(bitmap.cardinality()).isEqualTo(IdBitmap.ARRAY_MAX + 1);
+
+            bitmap.remove(0);
+            bitmap.remove(2);
+            assertThat(bitmap.cardinality()).isEqualTo(IdBitmap.ARRAY_MAX - 1);
+            assertThat(bitmap.contains(4)).isTrue();
+            assertThat(bitmap.contains(2)).isFalse();
+        }
+
+        @Test
+        @DisplayName("무작위 집합에서 AND/OR/추가/삭제가 TreeSet 과 같은 결과를 낸다")
+        void matchesTreeSetOnRandomInput() {
+            Random random = new Random(26);
+            for (int round = 0; round < 20; round++) {
+                long range = round % 2 == 0 ? 70_000 : 400_000;
+                TreeSet<Long> leftSet = new TreeSet<>();
+                IdBitmap left = IdBitmap.empty();
+                for (int i = 0; i < 12_000; i++) {
+                    long id = random.nextLong(range);
+                    leftSet.add(id);
+                    left.add(id);
+                }
+                for (int i = 0; i < 4_000; i++) {
+                    long id = random.nextLong(range);
+                    leftSet.remove(id);
+                    left.remove(id);
+                }
+                long[] rightIds = random.longs(9_000, 0, range).toArray();
+                TreeSet<Long> rightSet = new TreeSet<>();
+                for (long id : rightIds) {
+                    rightSet.add(id);
+                }
+                IdBitmap right = IdBitmap.of(rightIds);
+
+                TreeSet<Long> and = new TreeSet<>(leftSet);
+                and.retainAll(rightSet);
+                TreeSet<Long> or = new TreeSet<>(leftSet);
+                or.addAll(rightSet);
+
+                assertThat(left.toArray()).containsExactly(toArray(leftSet));
+                assertThat(left.and(right).toArray()).containsExactly(toArray(and));
+                assertThat(left.or(right).toArray()).containsExactly(toArray(or));
+                assertThat(left.or(right).cardinality()).isEqualTo(or.size());
+            }
+        }
+
+        private long[] toArray(TreeSet<Long> set) {
+            return set.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+}
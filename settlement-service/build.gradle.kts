@@ -3,6 +3,8 @@ plugins {
     id("org.springframework.boot")
     id("io.spring.dependency-management")
     id("info.solidsoft.pitest") version "1.19.0"
+    // 마이크로벤치마크 — src/jmh/java. ./gradlew :settlement-service:jmh (CI 게이트 아님, 수동 실행)
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 // Standalone 모드 (ADR 0020 Phase 0): settlement-service 는 자체 실행가능 jar 로 독립 기동(:8082).
@@ -193,6 +195,15 @@ pitest {
     jvmArgs.set(listOf("-javaagent:${configurations.getByName("mockitoAgent").asPath}"))
 }
 
+// ── 마이크로벤치마크 ─────────────────────────────────────────────────────────────
+// 결과는 build/results/jmh/results.json. 측정 수치는 로컬 머신 기준이라 CI 에서 돌리지 않는다.
+jmh {
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+}
+
 // src/main/resources/settlement-copilot 은 settlement(8082)·order(8088) 공개 API 를 소비하는 제출물 플러그인(MCP·스킬·가드)이다.
 // 서비스 런타임이 읽는 리소스가 아니므로 배포 jar 에 실리지 않도록 리소스 처리에서 제외한다.
 tasks.named<ProcessResources>("processResources") {
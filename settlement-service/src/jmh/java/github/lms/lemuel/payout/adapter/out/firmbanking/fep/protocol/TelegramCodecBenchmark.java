@@ -0,0 +1,153 @@
+package github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol;
+
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated.BulkTransferRequestCodec;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated.BulkTransferRequestTelegram;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated.TransferRequestCodec;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated.TransferRequestTelegram;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.spec.TelegramSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepLayouts.*;
+
+/**
+ * 펌뱅킹 전문 인코딩·디코딩 — 이체요청(0200, 113바이트, 예금주 한글)과 다건이체요청(0220, 100건).
+ *
+ * <p>{@code map*} 은 컴파일 레이아웃 이전 경로(값을 {@code Map<String,String>} 으로 모아 {@link TelegramLayout}
+ * 으로 패딩, 디코딩도 맵으로 전부 풀어 값으로 옮김)를 그대로 한다. {@code compiled*} 는 생성 코덱 —
+ * 인코딩은 재사용 송신 버퍼에 {@code encodeTo}, 디코딩은 뷰에서 꺼낸다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TelegramCodecBenchmark {
+
+    private static final int BULK_SIZE = 100;
+
+    private TransferRequestTelegram transfer;
+    private BulkTransferRequestTelegram bulk;
+    private byte[] transferBytes;
+    private byte[] bulkBytes;
+    private ByteBuffer sendBuffer;
+    private TelegramSpec bulkSpec;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        transfer = new TransferRequestTelegram(MSG_TYPE_TRANSFER_REQ, "260808000001", "20260808120000", "",
+                "KB", "1234567890123456", new BigDecimal("1000000"), "홍길동", "PAYOUT-42");
+        List<BulkTransferRequestTelegram.Detail> details = new ArrayList<>(BULK_SIZE);
+        for (int i = 1; i <= BULK_SIZE; i++) {
+            details.add(new BulkTransferRequestTelegram.Detail(String.valueOf(i), "088",
+                    "110" + (1_000_000_000L + i), BigDecimal.valueOf(10_000L * i), "SELLER" + i, "PAYOUT-" + i));
+        }
+        bulk = new BulkTransferRequestTelegram("0220", "260808000002", "20260808120000", "", "",
+                BigDecimal.valueOf(10_000L * BULK_SIZE * (BULK_SIZE + 1) / 2), List.copyOf(details));
+
+        transferBytes = TransferRequestCodec.encode(transfer);
+        bulkBytes = BulkTransferRequestCodec.encode(bulk);
+        sendBuffer = ByteBuffer.allocate(bulkBytes.length);
+        bulkSpec = FepLayouts.catalog().spec(BulkTransferRequestCodec.TELEGRAM, BulkTransferRequestCodec.VERSION);
+    }
+
+    @Benchmark
+    public ByteBuffer compiledEncodeTransfer() {
+        sendBuffer.clear();
+        TransferRequestCodec.encodeTo(transfer, sendBuffer);
+        return sendBuffer;
+    }
+
+    @Benchmark
+    public byte[] mapEncodeTransfer() {
+        Map<String, String> values = new HashMap<>();
+        values.put(MSG_TYPE, transfer.msgType());
+        values.put(TELEGRAM_NO, transfer.telegramNo());
+        values.put(TRANS_DT, transfer.transDt());
+        values.put(RESP_CODE, transfer.respCode());
+        values.put(BANK_CODE, transfer.bankCode());
+        values.put(ACCOUNT_NO, transfer.accountNo());
+        values.put(AMOUNT, TelegramCodecSupport.digits(transfer.amount(), 0, AMOUNT));
+        values.put(HOLDER_NAME, transfer.holderName());
+        values.put(REF_ID, transfer.refId());
+        return TRANSFER_REQUEST.encode(values);
+    }
+
+    @Benchmark
+    public TransferRequestTelegram compiledDecodeTransfer() {
+        return TransferRequestCodec.decode(transferBytes);
+    }
+
+    @Benchmark
+    public TransferRequestTelegram mapDecodeTransfer() {
+        Map<String, String> values = TRANSFER_REQUEST.decode(transferBytes);
+        return new TransferRequestTelegram(values.get(MSG_TYPE), values.get(TELEGRAM_NO), values.get(TRANS_DT),
+                values.get(RESP_CODE), values.get(BANK_CODE), values.get(ACCOUNT_NO),
+                TelegramCodecSupport.decimal(values.get(AMOUNT), 0, AMOUNT),
+                values.get(HOLDER_NAME), values.get(REF_ID));
+    }
+
+    @Benchmark
+    public ByteBuffer compiledEncodeBulk() {
+        sendBuffer.clear();
+        BulkTransferRequestCodec.encodeTo(bulk, sendBuffer);
+        return sendBuffer;
+    }
+
+    @Benchmark
+    public byte[] mapEncodeBulk() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("MSG_TYPE", bulk.msgType());
+        values.put("TELEGRAM_NO", bulk.telegramNo());
+        values.put("TRANS_DT", bulk.transDt());
+        values.put("RESP_CODE", bulk.respCode());
+        values.put("TOTAL_CNT", TelegramCodecSupport.count(bulk.totalCnt(), bulk.details().size(), "TOTAL_CNT"));
+        values.put("TOTAL_AMOUNT", TelegramCodecSupport.digits(bulk.totalAmount(), 0, "TOTAL_AMOUNT"));
+        for (int i = 0; i < bulk.details().size(); i++) {
+            BulkTransferRequestTelegram.Detail item = bulk.details().get(i);
+            String prefix = "DETAIL_" + (i + 1) + "_";
+            values.put(prefix + "SEQ", item.seq());
+            values.put(prefix + "BANK_CODE", item.bankCode());
+            values.put(prefix + "ACCOUNT_NO", item.accountNo());
+            values.put(prefix + "AMOUNT", TelegramCodecSupport.digits(item.amount(), 0, "AMOUNT"));
+            values.put(prefix + "HOLDER_NAME", item.holderName());
+            values.put(prefix + "REF_ID", item.refId());
+        }
+        return bulkSpec.layoutFor(bulk.details().size()).encode(values);
+    }
+
+    @Benchmark
+    public BulkTransferRequestTelegram compiledDecodeBulk() {
+        return BulkTransferRequestCodec.decode(bulkBytes);
+    }
+
+    @Benchmark
+    public BulkTransferRequestTelegram mapDecodeBulk() {
+        int occurrences = bulkSpec.readOccurrences(bulkBytes);
+        Map<String, String> values = bulkSpec.layoutFor(occurrences).decode(bulkBytes);
+        List<BulkTransferRequestTelegram.Detail> details = new ArrayList<>();
+        for (int i = 1; i <= occurrences; i++) {
+            String prefix = "DETAIL_" + i + "_";
+            details.add(new BulkTransferRequestTelegram.Detail(values.get(prefix + "SEQ"),
+                    values.get(prefix + "BANK_CODE"), values.get(prefix + "ACCOUNT_NO"),
+                    TelegramCodecSupport.decimal(values.get(prefix + "AMOUNT"), 0, "AMOUNT"),
+                    values.get(prefix + "HOLDER_NAME"), values.get(prefix + "REF_ID")));
+        }
+        return new BulkTransferRequestTelegram(values.get("MSG_TYPE"), values.get("TELEGRAM_NO"),
+                values.get("TRANS_DT"), values.get("RESP_CODE"), values.get("TOTAL_CNT"),
+                TelegramCodecSupport.decimal(values.get("TOTAL_AMOUNT"), 0, "TOTAL_AMOUNT"), List.copyOf(details));
+    }
+}
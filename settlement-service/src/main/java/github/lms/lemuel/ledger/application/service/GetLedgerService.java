@@ -1,5 +1,6 @@
 package github.lms.lemuel.ledger.application.service;
 
+import github.lms.lemuel.common.config.replica.ReplicaRead;
 import github.lms.lemuel.ledger.application.port.in.GetLedgerUseCase;
 import github.lms.lemuel.ledger.application.port.out.LoadLedgerEntryPort;
 import github.lms.lemuel.ledger.domain.LedgerEntry;
@@ -13,6 +14,7 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@ReplicaRead
 @Transactional(readOnly = true)
 public class GetLedgerService implements GetLedgerUseCase {
 
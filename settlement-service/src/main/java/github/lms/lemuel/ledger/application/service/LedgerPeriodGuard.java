@@ -1,5 +1,6 @@
 package github.lms.lemuel.ledger.application.service;
 
+import github.lms.lemuel.common.config.replica.PrimaryRead;
 import github.lms.lemuel.ledger.application.port.out.LoadLedgerPeriodPort;
 import github.lms.lemuel.ledger.domain.exception.LedgerPeriodClosedException;
 import lombok.RequiredArgsConstructor;
@@ -22,10 +23,13 @@ import java.time.YearMonth;
  * </ol>
  *
  * <p>기간 행이 없으면 암묵적 OPEN 이므로 마감 이력이 없는 시스템에서는 두 메서드 모두 무해하게 통과한다.
+ *
+ * <p>마감 직후 레플리카가 아직 OPEN 으로 보고 있으면 마감 기간에 전기가 새어 들어간다 — 그래서 항상 프라이머리에서 읽는다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@PrimaryRead
 @Transactional(readOnly = true)
 public class LedgerPeriodGuard {
 
@@ -2,6 +2,14 @@ package github.lms.lemuel.payout.adapter.out.firmbanking.fep;
 
 import github.lms.lemuel.payout.adapter.out.firmbanking.fep.client.FepSocketClient;
 import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepProtocolException;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated.InquiryRequestCodec;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated.InquiryRequestTelegram;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated.InquiryResponseCodec;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated.InquiryResponseTelegram;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated.TransferRequestCodec;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated.TransferRequestTelegram;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated.TransferResponseCodec;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated.TransferResponseTelegram;
 import github.lms.lemuel.payout.application.port.out.FirmBankingPort;
 import github.lms.lemuel.payout.domain.SellerBankAccount;
 import org.slf4j.Logger;
@@ -16,9 +24,8 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import static github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepLayouts.*;
 
@@ -37,6 +44,9 @@ import static github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepL
  * </ul>
  * 재시도 멱등은 출금의뢰번호(referenceId = {@code PAYOUT-<id>}) 기반 은행측 중복 판정이 보장한다
  * (동일 REF_ID 재송신 시 은행이 최초 결과를 재응답 — {@code PayoutSingleExecutor} 의 referenceId 불변 계약).
+ *
+ * <p>전문은 스펙에서 생성된 타입 코덱({@code generated.*Codec})으로 만들고 읽는다 — 필드 offset 이 미리
+ * 풀려 있어 건마다 맵을 만들지 않는다.
  */
 @Component
 @ConditionalOnProperty(name = "app.firmbanking.mode", havingValue = "fep")
@@ -66,19 +76,13 @@ public class FepFirmBankingAdapter implements FirmBankingPort {
     @Override
     public String send(SellerBankAccount account, BigDecimal amount, String referenceId)
             throws FirmBankingException {
-        String amountWon = toWonString(amount);
+        BigDecimal amountWon = toWon(amount);
         String telegramNo = nextTelegramNo();
 
-        Map<String, String> req = new HashMap<>();
-        req.put(MSG_TYPE, MSG_TYPE_TRANSFER_REQ);
-        req.put(TELEGRAM_NO, telegramNo);
-        req.put(TRANS_DT, OffsetDateTime.now().format(TRANS_DT_FMT));
-        req.put(RESP_CODE, "");
-        req.put(BANK_CODE, account.bankCode());
-        req.put(ACCOUNT_NO, account.bankAccountNumber());
-        req.put(AMOUNT, amountWon);
-        req.put(HOLDER_NAME, account.accountHolderName());
-        req.put(REF_ID, referenceId);
+        TransferRequestTelegram req = new TransferRequestTelegram(
+                MSG_TYPE_TRANSFER_REQ, telegramNo, OffsetDateTime.now().format(TRANS_DT_FMT), "",
+                account.bankCode(), account.bankAccountNumber(), amountWon,
+                account.accountHolderName(), referenceId);
 
         byte[] responseBytes;
         try {
@@ -94,13 +98,14 @@ public class FepFirmBankingAdapter implements FirmBankingPort {
             return resolveUnconfirmed(telegramNo, referenceId, e);
         }
 
-        Map<String, String> res = decodeOrThrow(TRANSFER_RESPONSE_LABEL, responseBytes, referenceId);
-        String respCode = res.get(RESP_CODE);
+        TransferResponseTelegram res = decodeOrThrow(
+                TRANSFER_RESPONSE_LABEL, TransferResponseCodec::decode, responseBytes, referenceId);
+        String respCode = res.respCode();
         if (!RESP_OK.equals(respCode)) {
             throw new FirmBankingException(respCode,
                     "펌뱅킹 이체 거절 (응답코드 " + respCode + ", ref=" + referenceId + ")");
         }
-        String txnId = res.get(TXN_ID);
+        String txnId = res.txnId();
         log.info("[FEP] 이체 완료: ref={}, bank={}, account={}, amount={}, txnId={}",
                 referenceId, account.bankCode(), account.maskedAccountNumber(), amountWon, txnId);
         return txnId;
@@ -111,33 +116,30 @@ public class FepFirmBankingAdapter implements FirmBankingPort {
      * 응답을 못 받은 이체는 "실패" 가 아니라 "모름" 이며, 모름 상태로 재송신하면 이중이체가 난다.
      */
     private String resolveUnconfirmed(String origTelegramNo, String referenceId, IOException unconfirmedCause) {
-        Map<String, String> inquiry = new HashMap<>();
-        inquiry.put(MSG_TYPE, MSG_TYPE_INQUIRY_REQ);
-        inquiry.put(TELEGRAM_NO, nextTelegramNo());
-        inquiry.put(TRANS_DT, OffsetDateTime.now().format(TRANS_DT_FMT));
-        inquiry.put(RESP_CODE, "");
-        inquiry.put(ORIG_TELEGRAM_NO, origTelegramNo);
-        inquiry.put(REF_ID, referenceId);
+        InquiryRequestTelegram inquiry = new InquiryRequestTelegram(
+                MSG_TYPE_INQUIRY_REQ, nextTelegramNo(), OffsetDateTime.now().format(TRANS_DT_FMT), "",
+                origTelegramNo, referenceId);
 
         byte[] responseBytes;
         try {
-            responseBytes = client.exchange(INQUIRY_REQUEST.encode(inquiry));
+            responseBytes = client.exchange(InquiryRequestCodec.encode(inquiry));
         } catch (IOException e) {
             throw new FirmBankingException("FEP_UNCONFIRMED",
                     "이체 결과 미확정 — 결과조회도 실패. 자동 재시도 금지, 수동 대사 필요 (ref=" + referenceId + ")",
                     suppress(unconfirmedCause, e));
         }
 
-        Map<String, String> res = decodeOrThrow(INQUIRY_RESPONSE_LABEL, responseBytes, referenceId);
-        String result = res.get(RESULT);
+        InquiryResponseTelegram res = decodeOrThrow(
+                INQUIRY_RESPONSE_LABEL, InquiryResponseCodec::decode, responseBytes, referenceId);
+        String result = res.result();
         switch (result) {
             case RESULT_SUCCESS -> {
-                String txnId = res.get(TXN_ID);
+                String txnId = res.txnId();
                 log.info("[FEP] 결과조회로 성공 확정: ref={}, txnId={}", referenceId, txnId);
                 return txnId;
             }
             case RESULT_FAIL -> {
-                String errorCode = res.get(ERROR_CODE);
+                String errorCode = res.errorCode();
                 throw new FirmBankingException(errorCode.isBlank() ? "FEP_FAIL" : errorCode,
                         "이체 실패 확정 (결과조회, ref=" + referenceId + ")");
             }
@@ -151,17 +153,17 @@ public class FepFirmBankingAdapter implements FirmBankingPort {
     private static final String TRANSFER_RESPONSE_LABEL = "이체응답(0210)";
     private static final String INQUIRY_RESPONSE_LABEL = "결과조회응답(0410)";
 
-    private byte[] encodeOrThrow(Map<String, String> values) {
+    private byte[] encodeOrThrow(TransferRequestTelegram telegram) {
         try {
-            return TRANSFER_REQUEST.encode(values);
+            return TransferRequestCodec.encode(telegram);
         } catch (FepProtocolException e) {
             throw new FirmBankingException("FEP_PROTOCOL_ERROR", "이체요청 전문 인코딩 실패: " + e.getMessage(), e);
         }
     }
 
-    private Map<String, String> decodeOrThrow(String label, byte[] telegram, String referenceId) {
+    private <T> T decodeOrThrow(String label, Function<byte[], T> codec, byte[] telegram, String referenceId) {
         try {
-            return (label.equals(TRANSFER_RESPONSE_LABEL) ? TRANSFER_RESPONSE : INQUIRY_RESPONSE).decode(telegram);
+            return codec.apply(telegram);
         } catch (FepProtocolException e) {
             throw new FirmBankingException("FEP_PROTOCOL_ERROR",
                     label + " 전문 해석 실패 (ref=" + referenceId + "): " + e.getMessage(), e);
@@ -169,10 +171,10 @@ public class FepFirmBankingAdapter implements FirmBankingPort {
     }
 
     /**
-     * 금액 → 원 단위 정수 문자열. {@code BigDecimal} 만 받으며(금액 double 금지 가드),
+     * 금액 → 원 단위 정수. {@code BigDecimal} 만 받으며(금액 double 금지 가드),
      * 0 이하·원 미만 소수·13자리 초과는 송신 전에 차단한다 — 잘못된 전문이 은행에 도달하면 대사가 꼬인다.
      */
-    private String toWonString(BigDecimal amount) {
+    private BigDecimal toWon(BigDecimal amount) {
         if (amount == null || amount.signum() <= 0) {
             throw new FirmBankingException("FEP_INVALID_AMOUNT",
                     "이체 금액은 양수여야 합니다: " + amount);
@@ -189,7 +191,7 @@ public class FepFirmBankingAdapter implements FirmBankingPort {
             throw new FirmBankingException("FEP_INVALID_AMOUNT",
                     "이체 금액이 전문 한도(" + AMOUNT_MAX_DIGITS + "자리)를 초과: " + digits);
         }
-        return digits;
+        return new BigDecimal(won);
     }
 
     /** 전문일련번호 12자리: yyMMdd(6) + 프로세스 내 순번(6). 결과조회의 원거래 식별자로 쓰인다. */
@@ -0,0 +1,476 @@
+package github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol;
+
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.spec.TelegramElement;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.spec.TelegramSpec;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 컴파일한 전문 레이아웃 — 스펙 1건을 필드 offset 표로 한 번 풀어 두고, 인코딩·디코딩은 그 표만 본다.
+ *
+ * <p>{@link TelegramLayout} 은 필드마다 이름으로 맵을 찾고, 값을 문자열·바이트 배열로 바꿔 새 배열에 패딩한다 —
+ * 전문 1건에 필드 수만큼의 할당이 따라온다. 여기서는:
+ * <ul>
+ *   <li><b>인코딩</b>은 {@link Writer} 가 호출자의 {@link ByteBuffer} 에 바로 쓴다. 먼저 미리 만든 패딩 원판
+ *       (AN 은 공백, N 은 '0')을 한 번에 복사하고, 값이 있는 필드만 그 위에 덮는다. ASCII 값은 문자를 바이트로
+ *       그대로 옮기고, 금액은 long 에 들어가면 자릿수를 직접 쓴다 — 중간 문자열이 없다.</li>
+ *   <li><b>디코딩</b>은 {@link View} 가 수신 바이트를 복사하지 않고 감싼다. 필드는 꺼낼 때 해석하며, ASCII 만
+ *       든 필드는 EUC-KR 디코더를 거치지 않는다(한글이 섞인 필드만 charset 을 탄다).</li>
+ * </ul>
+ *
+ * <p>바이트·검증·예외 메시지는 {@link TelegramLayout}·{@link TelegramCodecSupport} 와 같다 — 그쪽이 정본이고,
+ * 이 클래스는 같은 결과를 빨리 내는 경로다. 만든 뒤에는 불변이라 스레드 간에 공유한다.
+ */
+public final class CompiledTelegramLayout {
+
+    private static final byte SPACE = 0x20;
+    private static final byte ZERO = 0x30;
+    /** long 으로 자릿수를 직접 다룰 수 있는 최대 자릿수. */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final String name;
+    private final FepField[] fields;
+    private final int[] offsets;
+    private final Map<String, Integer> fieldIndex;
+
+    // 반복부(있다면) — 1건 안의 상대 offset 과, 반복부 시작 offset
+    private final String groupName;
+    private final FepField[] itemFields;
+    private final int[] itemOffsets;
+    private final Map<String, Integer> itemIndex;
+    private final int groupOffset;
+    private final int unitLength;
+    private final int maxOccurrences;
+    private final boolean variable;
+    private final int countField;
+
+    private final int baseLength;
+    /** 최대 길이 전문의 패딩 원판 — 인코딩은 필요한 길이만큼 복사해 시작한다. */
+    private final byte[] blank;
+
+    private CompiledTelegramLayout(String name, List<FepField> fields, List<Integer> offsets,
+                                   TelegramElement.RepeatedGroup group, int groupOffset,
+                                   int baseLength, String countFieldName) {
+        this.name = name;
+        this.fields = fields.toArray(FepField[]::new);
+        this.offsets = offsets.stream().mapToInt(Integer::intValue).toArray();
+        this.fieldIndex = indexOf(this.fields);
+        this.baseLength = baseLength;
+
+        if (group != null) {
+            this.groupName = group.name();
+            this.itemFields = group.fields().toArray(FepField[]::new);
+            this.itemOffsets = new int[itemFields.length];
+            int relative = 0;
+            for (int i = 0; i < itemFields.length; i++) {
+                itemOffsets[i] = relative;
+                relative += itemFields[i].length();
+            }
+            this.itemIndex = indexOf(this.itemFields);
+            this.unitLength = relative;
+            this.maxOccurrences = group.maxOccurrences();
+            this.variable = group instanceof TelegramElement.VariableRepeated;
+        } else {
+            this.groupName = null;
+            this.itemFields = new FepField[0];
+            this.itemOffsets = new int[0];
+            this.itemIndex = Map.of();
+            this.unitLength = 0;
+            this.maxOccurrences = 0;
+            this.variable = false;
+        }
+        this.groupOffset = groupOffset;
+        this.countField = countFieldName == null ? -1 : field(countFieldName);
+        this.blank = blankTemplate();
+    }
+
+    /** 전문 스펙을 컴파일한다 — 고정·가변 반복부 모두 지원한다. */
+    public static CompiledTelegramLayout compile(TelegramSpec spec) {
+        List<FepField> fields = new ArrayList<>();
+        List<Integer> offsets = new ArrayList<>();
+        TelegramElement.RepeatedGroup group = null;
+        int groupOffset = -1;
+        int offset = 0;
+        for (TelegramElement element : spec.elements()) {
+            switch (element) {
+                case TelegramElement.Single single -> {
+                    fields.add(single.field());
+                    offsets.add(offset);
+                    offset += single.field().length();
+                }
+                case TelegramElement.RepeatedGroup repeated -> {
+                    group = repeated;
+                    groupOffset = offset;
+                    offset += repeated.byteLength();
+                }
+            }
+        }
+        String countField = group instanceof TelegramElement.VariableRepeated variable ? variable.countField() : null;
+        return new CompiledTelegramLayout(spec.name(), fields, offsets, group, groupOffset, offset, countField);
+    }
+
+    /** 평평한 필드 목록({@link TelegramLayout})을 컴파일한다 — 반복 구조가 없는 고정 전문. */
+    public static CompiledTelegramLayout compile(TelegramLayout layout) {
+        List<Integer> offsets = new ArrayList<>();
+        int offset = 0;
+        for (FepField field : layout.fields()) {
+            offsets.add(offset);
+            offset += field.length();
+        }
+        return new CompiledTelegramLayout("layout", layout.fields(), offsets, null, -1, offset, null);
+    }
+
+    /** 단일 필드의 번호 — 클래스 초기화 때 한 번 찾아 상수로 들고 쓴다. */
+    public int field(String fieldName) {
+        Integer index = fieldIndex.get(fieldName);
+        if (index == null) throw new FepProtocolException("레이아웃에 없는 필드: " + name + "." + fieldName);
+        return index;
+    }
+
+    /** 반복부 1건 안의 필드 번호. */
+    public int itemField(String fieldName) {
+        Integer index = itemIndex.get(fieldName);
+        if (index == null) throw new FepProtocolException("반복부에 없는 필드: " + name + "." + groupName + "." + fieldName);
+        return index;
+    }
+
+    /** 반복 건수를 지정한 총 바이트 길이. 가변 반복부가 없으면 건수와 무관하다. */
+    public int lengthFor(int occurrences) {
+        if (!variable) return baseLength;
+        if (occurrences < 0 || occurrences > maxOccurrences) {
+            throw new FepProtocolException("반복 최대 건수 초과: " + name + " " + occurrences + " > " + maxOccurrences);
+        }
+        return baseLength + occurrences * unitLength;
+    }
+
+    /**
+     * {@code target} 의 현재 위치부터 전문 1건을 쓰는 작성기. 패딩 원판이 먼저 깔리므로 값이 없는 필드는
+     * 부르지 않아도 된다. 필드마다 한 번씩만 쓴다 — 같은 필드를 다시 쓰면 앞 값의 잔재가 남을 수 있다.
+     *
+     * @param occurrences 가변 반복부 건수 — 가변 반복부가 없으면 무시한다
+     */
+    public Writer writer(ByteBuffer target, int occurrences) {
+        int length = lengthFor(occurrences);
+        int start = target.position();
+        if (target.limit() - start < length) {
+            throw new FepProtocolException("전문 버퍼 공간 부족: " + name + " 필요 " + length
+                    + " > 남은 " + (target.limit() - start) + " 바이트");
+        }
+        target.put(start, blank, 0, length);
+        return new Writer(target, start, length, variable ? occurrences : maxOccurrences);
+    }
+
+    /**
+     * 수신 전문 위의 읽기 뷰 — 바이트를 복사하지 않는다. 가변 전문은 건수 필드를 먼저 읽어 길이를 확인한다.
+     *
+     * @throws FepProtocolException 전문 길이가 규격과 다르거나 건수 필드가 훼손됐을 때
+     */
+    public View view(byte[] raw) {
+        int occurrences = variable ? readOccurrences(raw) : maxOccurrences;
+        int expected = lengthFor(occurrences);
+        if (raw == null || raw.length != expected) {
+            throw new FepProtocolException("전문 길이 불일치: 수신 "
+                    + (raw == null ? "null" : raw.length) + " != 규격 " + expected + " 바이트");
+        }
+        return new View(raw, occurrences);
+    }
+
+    /** {@link TelegramSpec#readOccurrences} 와 같은 검증을 선두 바이트에서 바로 한다. */
+    private int readOccurrences(byte[] raw) {
+        if (raw == null || raw.length < baseLength) {
+            throw new FepProtocolException("전문이 선두 규격보다 짧다: " + name + " 수신 "
+                    + (raw == null ? "null" : raw.length) + " < " + baseLength + " 바이트");
+        }
+        FepField counter = fields[countField];
+        String value = decodeText(raw, offsets[countField], counter.length(), false);
+        try {
+            int occurrences = Integer.parseInt(value.trim());
+            if (occurrences < 0 || occurrences > maxOccurrences) {
+                throw new FepProtocolException("건수 필드가 규격을 벗어났다: " + name + "."
+                        + counter.name() + "=" + occurrences + " (최대 " + maxOccurrences + ")");
+            }
+            return occurrences;
+        } catch (NumberFormatException e) {
+            throw new FepProtocolException(
+                    "건수 필드가 숫자가 아니다: " + name + "." + counter.name() + "='" + value + "'", e);
+        }
+    }
+
+    private byte[] blankTemplate() {
+        byte[] template = new byte[lengthFor(variable ? maxOccurrences : 0)];
+        for (int i = 0; i < fields.length; i++) {
+            pad(template, offsets[i], fields[i]);
+        }
+        int occurrences = groupName == null ? 0 : maxOccurrences;
+        for (int n = 0; n < occurrences; n++) {
+            for (int i = 0; i < itemFields.length; i++) {
+                pad(template, groupOffset + n * unitLength + itemOffsets[i], itemFields[i]);
+            }
+        }
+        return template;
+    }
+
+    private static void pad(byte[] template, int offset, FepField field) {
+        Arrays.fill(template, offset, offset + field.length(), field.type() == FepFieldType.N ? ZERO : SPACE);
+    }
+
+    private static Map<String, Integer> indexOf(FepField[] fields) {
+        Map<String, Integer> index = new HashMap<>(fields.length * 2);
+        for (int i = 0; i < fields.length; i++) {
+            index.put(fields[i].name(), i);
+        }
+        return Map.copyOf(index);
+    }
+
+    /** 펼친 이름 — {@code DETAIL_3_REF_ID}. 예외 메시지에서만 만든다. */
+    private String itemName(int index, int item) {
+        return groupName + "_" + (index + 1) + "_" + itemFields[item].name();
+    }
+
+    private static String decodeText(byte[] raw, int offset, int length, boolean stripTrailing) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (raw[i] < 0) {
+                // 0x80 이상 — 한글 등 2바이트 문자. 정본과 같은 디코더를 탄다.
+                String value = new String(raw, offset, length, TelegramLayout.EUC_KR);
+                return stripTrailing ? value.stripTrailing() : value;
+            }
+        }
+        if (stripTrailing) {
+            while (end > offset && Character.isWhitespace((char) raw[end - 1])) {
+                end--;
+            }
+        }
+        // EUC-KR 의 0x00~0x7F 는 ASCII 그대로 — Latin-1 로 읽으면 복사 한 번으로 끝난다.
+        return new String(raw, offset, end - offset, StandardCharsets.ISO_8859_1);
+    }
+
+    /** 전문 1건 작성기 — {@link #writer} 로 얻는다. 호출을 이어 쓰고 {@link #finish()} 로 위치를 옮긴다. */
+    public final class Writer {
+
+        private final ByteBuffer target;
+        private final int start;
+        private final int length;
+        private final int occurrences;
+
+        private Writer(ByteBuffer target, int start, int length, int occurrences) {
+            this.target = target;
+            this.start = start;
+            this.length = length;
+            this.occurrences = occurrences;
+        }
+
+        /** 문자열 필드 — {@code null} 은 빈 값(원판 패딩 그대로). */
+        public Writer text(int field, String value) {
+            FepField f = fields[field];
+            put(start + offsets[field], f, f.name(), value);
+            return this;
+        }
+
+        /** 금액 필드 — {@link TelegramCodecSupport#digits} 와 같은 규칙(음수·소수 자릿수 초과 거부). */
+        public Writer decimal(int field, BigDecimal value, int scale) {
+            FepField f = fields[field];
+            putDecimal(start + offsets[field], f, f.name(), f.name(), value, scale);
+            return this;
+        }
+
+        /** 가변 반복부의 건수 필드 — {@link TelegramCodecSupport#count} 로 실제 건수와 대조한다. */
+        public Writer count(int field, String declared) {
+            FepField f = fields[field];
+            put(start + offsets[field], f, f.name(), TelegramCodecSupport.count(declared, occurrences, f.name()));
+            return this;
+        }
+
+        /** 반복부 {@code index}(0부터) 번째 건의 문자열 필드. */
+        public Writer itemText(int index, int item, String value) {
+            put(itemOffset(index, item), itemFields[item], null, value);
+            return this;
+        }
+
+        /** 반복부 {@code index}(0부터) 번째 건의 금액 필드. */
+        public Writer itemDecimal(int index, int item, BigDecimal value, int scale) {
+            FepField f = itemFields[item];
+            putDecimal(itemOffset(index, item), f, null, f.name(), value, scale);
+            return this;
+        }
+
+        /** 버퍼 위치를 전문 끝으로 옮긴다. */
+        public void finish() {
+            target.position(start + length);
+        }
+
+        private int itemOffset(int index, int item) {
+            if (index < 0 || index >= occurrences) {
+                throw new FepProtocolException("반복 건수 범위 밖: " + name + "." + groupName + " " + (index + 1)
+                        + " > " + occurrences);
+            }
+            return start + groupOffset + index * unitLength + itemOffsets[item];
+        }
+
+        /**
+         * @param wireName 길이 초과 메시지의 필드명 — 반복부는 {@code null} 로 넘기고 실패할 때만 펼친 이름을 만든다
+         */
+        private void put(int offset, FepField field, String wireName, String value) {
+            if (value == null || value.isEmpty()) return;
+            int n = value.length();
+            for (int i = 0; i < n; i++) {
+                if (value.charAt(i) >= 0x80) {
+                    putEncoded(offset, field, wireName, value);
+                    return;
+                }
+            }
+            if (n > field.length()) {
+                throw overflow(offset, field, wireName, n);
+            }
+            boolean numeric = field.type() == FepFieldType.N;
+            if (numeric) {
+                for (int i = 0; i < n; i++) {
+                    char c = value.charAt(i);
+                    if (c < '0' || c > '9') throw nonDigit(offset, field, wireName, value);
+                }
+            }
+            int at = numeric ? offset + field.length() - n : offset;
+            for (int i = 0; i < n; i++) {
+                target.put(at + i, (byte) value.charAt(i));
+            }
+        }
+
+        /** 비ASCII 값 — 정본({@link TelegramLayout#encode})과 같은 순서로 바이트화·검증한다. */
+        private void putEncoded(int offset, FepField field, String wireName, String value) {
+            byte[] bytes = value.getBytes(TelegramLayout.EUC_KR);
+            if (bytes.length > field.length()) {
+                throw overflow(offset, field, wireName, bytes.length);
+            }
+            boolean numeric = field.type() == FepFieldType.N;
+            if (numeric && !value.chars().allMatch(Character::isDigit)) {
+                throw nonDigit(offset, field, wireName, value);
+            }
+            target.put(numeric ? offset + field.length() - bytes.length : offset, bytes, 0, bytes.length);
+        }
+
+        private void putDecimal(int offset, FepField field, String wireName, String amountName,
+                                BigDecimal value, int scale) {
+            if (value == null) return;
+            if (value.signum() >= 0 && value.scale() == scale && value.precision() <= MAX_LONG_DIGITS) {
+                long unscaled = scale == 0 ? value.longValue() : value.unscaledValue().longValue();
+                putDigits(offset, field, wireName, unscaled);
+                return;
+            }
+            put(offset, field, wireName, TelegramCodecSupport.digits(value, scale, amountName));
+        }
+
+        /** 0 이상 long 을 우측 정렬로 쓴다 — 좌측은 원판의 '0' 이 채우고 있다. */
+        private void putDigits(int offset, FepField field, String wireName, long value) {
+            int digits = 1;
+            for (long rest = value / 10; rest > 0; rest /= 10) {
+                digits++;
+            }
+            if (digits > field.length()) {
+                throw overflow(offset, field, wireName, digits);
+            }
+            int at = offset + field.length() - 1;
+            long rest = value;
+            for (int i = 0; i < digits; i++) {
+                target.put(at - i, (byte) ('0' + rest % 10));
+                rest /= 10;
+            }
+        }
+
+        private FepProtocolException overflow(int offset, FepField field, String wireName, int bytes) {
+            return new FepProtocolException("필드 길이 초과: " + wireNameAt(offset, wireName)
+                    + " (" + bytes + " > " + field.length() + " 바이트)");
+        }
+
+        private FepProtocolException nonDigit(int offset, FepField field, String wireName, String value) {
+            return new FepProtocolException("N 필드에 비숫자 포함: " + wireNameAt(offset, wireName) + "='" + value + "'");
+        }
+
+        private String wireNameAt(int offset, String wireName) {
+            if (wireName != null) return wireName;
+            int relative = offset - start - groupOffset;
+            int index = relative / unitLength;
+            int within = relative % unitLength;
+            int item = 0;
+            while (item + 1 < itemOffsets.length && itemOffsets[item + 1] <= within) {
+                item++;
+            }
+            return itemName(index, item);
+        }
+    }
+
+    /** 수신 전문 위의 읽기 뷰 — {@link #view} 로 얻는다. 필드는 꺼낼 때 해석한다. */
+    public final class View {
+
+        private final byte[] raw;
+        private final int occurrences;
+
+        private View(byte[] raw, int occurrences) {
+            this.raw = raw;
+            this.occurrences = occurrences;
+        }
+
+        /** 반복 건수 — 가변 전문은 건수 필드 값, 고정 반복부는 선언 건수. */
+        public int occurrences() {
+            return occurrences;
+        }
+
+        /** 문자열 필드 — AN 은 우측 공백 제거, N 은 원문(선행 0 보존). */
+        public String text(int field) {
+            FepField f = fields[field];
+            return decodeText(raw, offsets[field], f.length(), f.type() == FepFieldType.AN);
+        }
+
+        /** 금액 필드 — {@link TelegramCodecSupport#decimal} 과 같다(공백이면 {@code null}). */
+        public BigDecimal decimal(int field, int scale) {
+            FepField f = fields[field];
+            return decimalAt(offsets[field], f, scale);
+        }
+
+        /** 반복부 {@code index}(0부터) 번째 건의 문자열 필드. */
+        public String itemText(int index, int item) {
+            FepField f = itemFields[item];
+            return decodeText(raw, itemOffset(index, item), f.length(), f.type() == FepFieldType.AN);
+        }
+
+        /** 반복부 {@code index}(0부터) 번째 건의 금액 필드. */
+        public BigDecimal itemDecimal(int index, int item, int scale) {
+            return decimalAt(itemOffset(index, item), itemFields[item], scale);
+        }
+
+        private int itemOffset(int index, int item) {
+            if (index < 0 || index >= occurrences) {
+                throw new FepProtocolException("반복 건수 범위 밖: " + name + "." + groupName + " " + (index + 1)
+                        + " > " + occurrences);
+            }
+            return groupOffset + index * unitLength + itemOffsets[item];
+        }
+
+        /** 앞뒤 공백을 걷어낸 ASCII 숫자열이 long 에 들어가면 바로 만들고, 아니면 정본 경로로 넘긴다. */
+        private BigDecimal decimalAt(int offset, FepField field, int scale) {
+            int from = offset;
+            int to = offset + field.length();
+            while (from < to && raw[from] >= 0 && raw[from] <= SPACE) from++;
+            while (to > from && raw[to - 1] >= 0 && raw[to - 1] <= SPACE) to--;
+            if (from == to) return null;
+            if (to - from <= MAX_LONG_DIGITS) {
+                long unscaled = 0;
+                int i = from;
+                for (; i < to; i++) {
+                    byte b = raw[i];
+                    if (b < '0' || b > '9') break;
+                    unscaled = unscaled * 10 + (b - '0');
+                }
+                if (i == to) return BigDecimal.valueOf(unscaled, scale);
+            }
+            return TelegramCodecSupport.decimal(
+                    decodeText(raw, offset, field.length(), false), scale, field.name());
+        }
+    }
+}
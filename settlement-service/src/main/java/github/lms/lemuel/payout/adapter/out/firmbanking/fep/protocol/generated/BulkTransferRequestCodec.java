@@ -3,18 +3,19 @@
 //   ./gradlew :settlement-service:generateTelegramSources
 package github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated;
 
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.CompiledTelegramLayout;
 import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepLayouts;
 import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepProtocolException;
-import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.TelegramCodecSupport;
-import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.spec.TelegramSpec;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * BULK_TRANSFER_REQUEST 개정 1 코덱 — 스펙에서 생성된 타입 안전 인코딩·디코딩.
+ *
+ * <p>필드 offset 은 클래스 초기화 때 {@link CompiledTelegramLayout} 으로 한 번 풀어 둔다 — 인코딩은 값을
+ * 버퍼에 바로 쓰고, 디코딩은 수신 바이트 위의 뷰에서 필드를 꺼낸다.
  */
 public final class BulkTransferRequestCodec {
 
@@ -26,64 +27,90 @@ public final class BulkTransferRequestCodec {
     /** 반복부 DETAIL 최대 건수. */
     public static final int DETAIL_MAX = 100;
 
-    private static final TelegramSpec SPEC = FepLayouts.catalog().spec(TELEGRAM, VERSION);
+    private static final CompiledTelegramLayout LAYOUT =
+            CompiledTelegramLayout.compile(FepLayouts.catalog().spec(TELEGRAM, VERSION));
+
+    private static final int F_MSG_TYPE = LAYOUT.field("MSG_TYPE");
+    private static final int F_TELEGRAM_NO = LAYOUT.field("TELEGRAM_NO");
+    private static final int F_TRANS_DT = LAYOUT.field("TRANS_DT");
+    private static final int F_RESP_CODE = LAYOUT.field("RESP_CODE");
+    private static final int F_TOTAL_CNT = LAYOUT.field("TOTAL_CNT");
+    private static final int F_TOTAL_AMOUNT = LAYOUT.field("TOTAL_AMOUNT");
+    private static final int F_DETAIL_SEQ = LAYOUT.itemField("SEQ");
+    private static final int F_DETAIL_BANK_CODE = LAYOUT.itemField("BANK_CODE");
+    private static final int F_DETAIL_ACCOUNT_NO = LAYOUT.itemField("ACCOUNT_NO");
+    private static final int F_DETAIL_AMOUNT = LAYOUT.itemField("AMOUNT");
+    private static final int F_DETAIL_HOLDER_NAME = LAYOUT.itemField("HOLDER_NAME");
+    private static final int F_DETAIL_REF_ID = LAYOUT.itemField("REF_ID");
 
     private BulkTransferRequestCodec() {
     }
 
     /** 값 → 고정길이 전문 바이트. */
     public static byte[] encode(BulkTransferRequestTelegram telegram) {
-        Map<String, String> values = new LinkedHashMap<>();
-        List<BulkTransferRequestTelegram.Detail> details = telegram.details() == null ? List.of() : telegram.details();
-        if (details.size() > DETAIL_MAX) {
-            throw new FepProtocolException("반복부 DETAIL 최대 " + DETAIL_MAX + "건 초과: " + details.size());
-        }
-        values.put("MSG_TYPE", TelegramCodecSupport.text(telegram.msgType()));
-        values.put("TELEGRAM_NO", TelegramCodecSupport.text(telegram.telegramNo()));
-        values.put("TRANS_DT", TelegramCodecSupport.text(telegram.transDt()));
-        values.put("RESP_CODE", TelegramCodecSupport.text(telegram.respCode()));
-        values.put("TOTAL_CNT", TelegramCodecSupport.count(telegram.totalCnt(), details.size(), "TOTAL_CNT"));
-        values.put("TOTAL_AMOUNT", TelegramCodecSupport.digits(telegram.totalAmount(), 0, "TOTAL_AMOUNT"));
+        byte[] out = new byte[LAYOUT.lengthFor(details(telegram).size())];
+        encodeTo(telegram, ByteBuffer.wrap(out));
+        return out;
+    }
+
+    /**
+     * 값 → {@code target} 의 현재 위치부터 전문 바이트. 위치는 전문 끝으로 옮겨진다 — 송신 버퍼를
+     * 재사용하는 경로용으로, 중간 맵·문자열을 만들지 않는다.
+     */
+    public static void encodeTo(BulkTransferRequestTelegram telegram, ByteBuffer target) {
+        List<BulkTransferRequestTelegram.Detail> details = details(telegram);
+        CompiledTelegramLayout.Writer writer = LAYOUT.writer(target, details.size());
+        writer.text(F_MSG_TYPE, telegram.msgType());
+        writer.text(F_TELEGRAM_NO, telegram.telegramNo());
+        writer.text(F_TRANS_DT, telegram.transDt());
+        writer.text(F_RESP_CODE, telegram.respCode());
+        writer.count(F_TOTAL_CNT, telegram.totalCnt());
+        writer.decimal(F_TOTAL_AMOUNT, telegram.totalAmount(), 0);
         for (int i = 0; i < details.size(); i++) {
             var item = details.get(i);
-            String prefix = "DETAIL_" + (i + 1) + "_";
-            values.put(prefix + "SEQ", TelegramCodecSupport.text(item.seq()));
-            values.put(prefix + "BANK_CODE", TelegramCodecSupport.text(item.bankCode()));
-            values.put(prefix + "ACCOUNT_NO", TelegramCodecSupport.text(item.accountNo()));
-            values.put(prefix + "AMOUNT", TelegramCodecSupport.digits(item.amount(), 0, "AMOUNT"));
-            values.put(prefix + "HOLDER_NAME", TelegramCodecSupport.text(item.holderName()));
-            values.put(prefix + "REF_ID", TelegramCodecSupport.text(item.refId()));
+            writer.itemText(i, F_DETAIL_SEQ, item.seq());
+            writer.itemText(i, F_DETAIL_BANK_CODE, item.bankCode());
+            writer.itemText(i, F_DETAIL_ACCOUNT_NO, item.accountNo());
+            writer.itemDecimal(i, F_DETAIL_AMOUNT, item.amount(), 0);
+            writer.itemText(i, F_DETAIL_HOLDER_NAME, item.holderName());
+            writer.itemText(i, F_DETAIL_REF_ID, item.refId());
         }
-        return SPEC.layoutFor(details.size()).encode(values);
+        writer.finish();
     }
 
     /**
      * 고정길이 전문 바이트 → 값.
      *
      * <p>반복 건수는 건수 필드(TOTAL_CNT)를 먼저 읽어 정한다 — 길이가 건수에 따라 달라지므로
-     * 레이아웃을 만들기 전에 건수를 알아야 한다.
+     * 뷰가 건수로 전문 길이를 확인한 뒤에 필드를 꺼낸다.
      */
     public static BulkTransferRequestTelegram decode(byte[] raw) {
-        int occurrences = SPEC.readOccurrences(raw);
-        Map<String, String> values = SPEC.layoutFor(occurrences).decode(raw);
-        List<BulkTransferRequestTelegram.Detail> details = new ArrayList<>();
-        for (int i = 1; i <= occurrences; i++) {
-            String prefix = "DETAIL_" + i + "_";
+        CompiledTelegramLayout.View view = LAYOUT.view(raw);
+        List<BulkTransferRequestTelegram.Detail> details = new ArrayList<>(view.occurrences());
+        for (int i = 0; i < view.occurrences(); i++) {
             details.add(new BulkTransferRequestTelegram.Detail(
-                    values.get(prefix + "SEQ"),
-                    values.get(prefix + "BANK_CODE"),
-                    values.get(prefix + "ACCOUNT_NO"),
-                    TelegramCodecSupport.decimal(values.get(prefix + "AMOUNT"), 0, "AMOUNT"),
-                    values.get(prefix + "HOLDER_NAME"),
-                    values.get(prefix + "REF_ID")));
+                    view.itemText(i, F_DETAIL_SEQ),
+                    view.itemText(i, F_DETAIL_BANK_CODE),
+                    view.itemText(i, F_DETAIL_ACCOUNT_NO),
+                    view.itemDecimal(i, F_DETAIL_AMOUNT, 0),
+                    view.itemText(i, F_DETAIL_HOLDER_NAME),
+                    view.itemText(i, F_DETAIL_REF_ID)));
         }
         return new BulkTransferRequestTelegram(
-                values.get("MSG_TYPE"),
-                values.get("TELEGRAM_NO"),
-                values.get("TRANS_DT"),
-                values.get("RESP_CODE"),
-                values.get("TOTAL_CNT"),
-                TelegramCodecSupport.decimal(values.get("TOTAL_AMOUNT"), 0, "TOTAL_AMOUNT"),
+                view.text(F_MSG_TYPE),
+                view.text(F_TELEGRAM_NO),
+                view.text(F_TRANS_DT),
+                view.text(F_RESP_CODE),
+                view.text(F_TOTAL_CNT),
+                view.decimal(F_TOTAL_AMOUNT, 0),
                 List.copyOf(details));
     }
+
+    private static List<BulkTransferRequestTelegram.Detail> details(BulkTransferRequestTelegram telegram) {
+        List<BulkTransferRequestTelegram.Detail> details = telegram.details() == null ? List.of() : telegram.details();
+        if (details.size() > DETAIL_MAX) {
+            throw new FepProtocolException("반복부 DETAIL 최대 " + DETAIL_MAX + "건 초과: " + details.size());
+        }
+        return details;
+    }
 }
@@ -3,18 +3,16 @@
 //   ./gradlew :settlement-service:generateTelegramSources
 package github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.generated;
 
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.CompiledTelegramLayout;
 import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepLayouts;
-import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepProtocolException;
-import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.TelegramCodecSupport;
-import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.spec.TelegramSpec;
 
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.nio.ByteBuffer;
 
 /**
  * HOLDER_RESPONSE 개정 1 코덱 — 스펙에서 생성된 타입 안전 인코딩·디코딩.
+ *
+ * <p>필드 offset 은 클래스 초기화 때 {@link CompiledTelegramLayout} 으로 한 번 풀어 둔다 — 인코딩은 값을
+ * 버퍼에 바로 쓰고, 디코딩은 수신 바이트 위의 뷰에서 필드를 꺼낸다.
  */
 public final class HolderResponseCodec {
 
@@ -23,38 +21,58 @@ public final class HolderResponseCodec {
     public static final int VERSION = 1;
     public static final int TOTAL_LENGTH = 81;
 
-    private static final TelegramSpec SPEC = FepLayouts.catalog().spec(TELEGRAM, VERSION);
+    private static final CompiledTelegramLayout LAYOUT =
+            CompiledTelegramLayout.compile(FepLayouts.catalog().spec(TELEGRAM, VERSION));
+
+    private static final int F_MSG_TYPE = LAYOUT.field("MSG_TYPE");
+    private static final int F_TELEGRAM_NO = LAYOUT.field("TELEGRAM_NO");
+    private static final int F_TRANS_DT = LAYOUT.field("TRANS_DT");
+    private static final int F_RESP_CODE = LAYOUT.field("RESP_CODE");
+    private static final int F_BANK_CODE = LAYOUT.field("BANK_CODE");
+    private static final int F_ACCOUNT_NO = LAYOUT.field("ACCOUNT_NO");
+    private static final int F_HOLDER_NAME = LAYOUT.field("HOLDER_NAME");
+    private static final int F_RESULT = LAYOUT.field("RESULT");
 
     private HolderResponseCodec() {
     }
 
     /** 값 → 고정길이 전문 바이트. */
     public static byte[] encode(HolderResponseTelegram telegram) {
-        Map<String, String> values = new LinkedHashMap<>();
-        values.put("MSG_TYPE", TelegramCodecSupport.text(telegram.msgType()));
-        values.put("TELEGRAM_NO", TelegramCodecSupport.text(telegram.telegramNo()));
-        values.put("TRANS_DT", TelegramCodecSupport.text(telegram.transDt()));
-        values.put("RESP_CODE", TelegramCodecSupport.text(telegram.respCode()));
-        values.put("BANK_CODE", TelegramCodecSupport.text(telegram.bankCode()));
-        values.put("ACCOUNT_NO", TelegramCodecSupport.text(telegram.accountNo()));
-        values.put("HOLDER_NAME", TelegramCodecSupport.text(telegram.holderName()));
-        values.put("RESULT", TelegramCodecSupport.text(telegram.result()));
-        return SPEC.toLayout().encode(values);
+        byte[] out = new byte[TOTAL_LENGTH];
+        encodeTo(telegram, ByteBuffer.wrap(out));
+        return out;
+    }
+
+    /**
+     * 값 → {@code target} 의 현재 위치부터 전문 바이트. 위치는 전문 끝으로 옮겨진다 — 송신 버퍼를
+     * 재사용하는 경로용으로, 중간 맵·문자열을 만들지 않는다.
+     */
+    public static void encodeTo(HolderResponseTelegram telegram, ByteBuffer target) {
+        CompiledTelegramLayout.Writer writer = LAYOUT.writer(target, 0);
+        writer.text(F_MSG_TYPE, telegram.msgType());
+        writer.text(F_TELEGRAM_NO, telegram.telegramNo());
+        writer.text(F_TRANS_DT, telegram.transDt());
+        writer.text(F_RESP_CODE, telegram.respCode());
+        writer.text(F_BANK_CODE, telegram.bankCode());
+        writer.text(F_ACCOUNT_NO, telegram.accountNo());
+        writer.text(F_HOLDER_NAME, telegram.holderName());
+        writer.text(F_RESULT, telegram.result());
+        writer.finish();
     }
 
     /**
      * 고정길이 전문 바이트 → 값.
      */
     public static HolderResponseTelegram decode(byte[] raw) {
-        Map<String, String> values = SPEC.toLayout().decode(raw);
+        CompiledTelegramLayout.View view = LAYOUT.view(raw);
         return new HolderResponseTelegram(
-                values.get("MSG_TYPE"),
-                values.get("TELEGRAM_NO"),
-                values.get("TRANS_DT"),
-                values.get("RESP_CODE"),
-                values.get("BANK_CODE"),
-                values.get("ACCOUNT_NO"),
-                values.get("HOLDER_NAME"),
-                values.get("RESULT"));
+                view.text(F_MSG_TYPE),
+                view.text(F_TELEGRAM_NO),
+                view.text(F_TRANS_DT),
+                view.text(F_RESP_CODE),
+                view.text(F_BANK_CODE),
+                view.text(F_ACCOUNT_NO),
+                view.text(F_HOLDER_NAME),
+                view.text(F_RESULT));
     }
 }
@@ -0,0 +1,35 @@
+package github.lms.lemuel.settlement.adapter.in.batch;
+
+import github.lms.lemuel.settlement.application.port.in.RefreshBusinessCalendarUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 영업일 캘린더 공휴일 버전 확인 — 인스턴스마다 주기적으로 최신 버전을 보고, 바뀌었으면 교체한다.
+ *
+ * <p>캘린더는 인스턴스 메모리에 있으므로 ShedLock 을 걸지 않는다 — 모든 레플리카가 각자 확인해야 한다.
+ * 평소 확인 비용은 PK 최댓값 조회 한 번이다. 기동 직후 한 번 바로 돈다(initialDelay 0).
+ */
+@Component
+public class BusinessCalendarRefreshScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(BusinessCalendarRefreshScheduler.class);
+
+    private final RefreshBusinessCalendarUseCase useCase;
+
+    public BusinessCalendarRefreshScheduler(RefreshBusinessCalendarUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    @Scheduled(fixedDelayString = "${app.settlement.calendar.refresh-interval:PT5M}", initialDelay = 0)
+    public void refresh() {
+        try {
+            useCase.refreshIfChanged();
+        } catch (RuntimeException e) {
+            // 지금 캘린더를 유지한다 — 다음 주기에 다시 확인.
+            log.warn("[정산 캘린더] 공휴일 버전 확인 실패 — 현재 캘린더 유지", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package github.lms.lemuel.settlement.adapter.out.persistence;
+
+import github.lms.lemuel.settlement.application.port.out.LoadHolidayCalendarPort;
+import github.lms.lemuel.settlement.domain.HolidayCalendarVersion;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * {@code holiday_calendar_version} 조회 어댑터. 행은 불변이라 최신 PK 가 곧 최신 목록이다.
+ */
+@Repository
+public class HolidayCalendarJdbcAdapter implements LoadHolidayCalendarPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HolidayCalendarJdbcAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public OptionalLong latestVersion() {
+        Long version = jdbcTemplate.queryForObject("SELECT MAX(version) FROM holiday_calendar_version", Long.class);
+        return version == null ? OptionalLong.empty() : OptionalLong.of(version);
+    }
+
+    @Override
+    public Optional<HolidayCalendarVersion> loadLatest() {
+        List<HolidayCalendarVersion> rows = jdbcTemplate.query("""
+                SELECT version, holidays
+                FROM holiday_calendar_version
+                ORDER BY version DESC
+                LIMIT 1
+                """, (rs, rowNum) -> new HolidayCalendarVersion(rs.getLong("version"), holidays(rs)));
+        return rows.stream().findFirst();
+    }
+
+    private static Set<LocalDate> holidays(ResultSet rs) throws SQLException {
+        Array array = rs.getArray("holidays");
+        if (array == null) {
+            return Set.of();
+        }
+        try {
+            Object[] dates = (Object[]) array.getArray();
+            Set<LocalDate> holidays = new HashSet<>(dates.length * 2);
+            for (Object date : dates) {
+                if (date != null) {
+                    holidays.add(((Date) date).toLocalDate());
+                }
+            }
+            return holidays;
+        } finally {
+            array.free();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package github.lms.lemuel.settlement.application.port.in;
+
+public interface RefreshBusinessCalendarUseCase {
+
+    /**
+     * 게시된 추가 공휴일 버전이 바뀌었으면 캘린더 색인을 새로 만들어 프로세스 기본 캘린더로 교체한다.
+     *
+     * @return 교체했으면 true, 바뀐 게 없으면 false
+     */
+    boolean refreshIfChanged();
+}
@@ -0,0 +1,21 @@
+package github.lms.lemuel.settlement.application.port.out;
+
+import github.lms.lemuel.settlement.domain.HolidayCalendarVersion;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * 버전 관리되는 추가 공휴일 목록 조회 Outbound Port.
+ *
+ * <p>주기적 확인은 {@link #latestVersion()} 만 부르고, 버전이 바뀌었을 때만 {@link #loadLatest()} 로
+ * 목록을 읽는다 — 평소 확인 비용은 PK 최댓값 조회 한 번이다.
+ */
+public interface LoadHolidayCalendarPort {
+
+    /** 최신 버전 번호. 아직 한 번도 게시되지 않았으면 empty. */
+    OptionalLong latestVersion();
+
+    /** 최신 버전의 전체 목록. 아직 한 번도 게시되지 않았으면 empty. */
+    Optional<HolidayCalendarVersion> loadLatest();
+}
@@ -1,5 +1,6 @@
 package github.lms.lemuel.settlement.application.service;
 
+import github.lms.lemuel.common.config.replica.ReplicaRead;
 import github.lms.lemuel.settlement.application.port.in.GenerateSettlementPdfUseCase;
 import github.lms.lemuel.settlement.application.port.in.GetSettlementUseCase;
 import github.lms.lemuel.settlement.application.port.out.SettlementPdfPort;
@@ -10,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
+@ReplicaRead(maxLagMillis = 30_000)
 @Transactional(readOnly = true)
 public class GenerateSettlementPdfService implements GenerateSettlementPdfUseCase {
 
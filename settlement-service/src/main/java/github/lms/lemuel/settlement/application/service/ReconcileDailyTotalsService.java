@@ -1,5 +1,6 @@
 package github.lms.lemuel.settlement.application.service;
 
+import github.lms.lemuel.common.config.replica.PrimaryRead;
 import github.lms.lemuel.settlement.application.port.in.ReconcileDailyTotalsUseCase;
 import github.lms.lemuel.settlement.application.port.out.LoadDailyTotalsPort;
 import github.lms.lemuel.settlement.domain.ReconciliationReport;
@@ -13,6 +14,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Service
+@PrimaryRead
 @Transactional(readOnly = true)
 public class ReconcileDailyTotalsService implements ReconcileDailyTotalsUseCase {
 
@@ -0,0 +1,69 @@
+package github.lms.lemuel.settlement.application.service;
+
+import github.lms.lemuel.settlement.application.port.in.RefreshBusinessCalendarUseCase;
+import github.lms.lemuel.settlement.application.port.out.LoadHolidayCalendarPort;
+import github.lms.lemuel.settlement.domain.BusinessDayCalculator;
+import github.lms.lemuel.settlement.domain.HolidayCalendarVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * 버전 관리되는 추가 공휴일({@code holiday_calendar_version})을 영업일 캘린더에 반영한다.
+ *
+ * <p>기준 캘린더는 설정 배선({@code SettlementCalendarConfig})이 만든 빈 — 하드코딩 상수 + 설정 임시공휴일 —
+ * 이고, 그 위에 최신 버전 목록을 얹은 새 {@link BusinessDayCalculator} 를 만든다. 새 인스턴스는 생성자에서
+ * 색인을 다 만든 뒤에야 {@link BusinessDayCalculator#installDefault} 로 설치되므로, 정산일을 계산하던 스레드는
+ * 옛 캘린더 아니면 새 캘린더 하나만 본다(반쯤 만든 색인을 보는 일은 없다).
+ *
+ * <p>DB 를 못 읽으면 지금 캘린더를 그대로 둔다 — 공휴일 확인 실패가 정산일 계산을 멈추게 하지 않는다.
+ */
+@Service
+public class RefreshBusinessCalendarService implements RefreshBusinessCalendarUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshBusinessCalendarService.class);
+
+    private final LoadHolidayCalendarPort loadHolidayCalendarPort;
+    private final BusinessDayCalculator baseCalendar;
+
+    /** 마지막으로 반영한 버전. 아직 없으면 -1. 스케줄러 한 스레드만 쓰지만 운영 조회용으로 volatile. */
+    private volatile long appliedVersion = -1L;
+
+    public RefreshBusinessCalendarService(LoadHolidayCalendarPort loadHolidayCalendarPort,
+                                          BusinessDayCalculator baseCalendar) {
+        this.loadHolidayCalendarPort = loadHolidayCalendarPort;
+        this.baseCalendar = baseCalendar;
+    }
+
+    @Override
+    public synchronized boolean refreshIfChanged() {
+        OptionalLong latest = loadHolidayCalendarPort.latestVersion();
+        if (latest.isEmpty() || latest.getAsLong() == appliedVersion) {
+            return false;
+        }
+        Optional<HolidayCalendarVersion> loaded = loadHolidayCalendarPort.loadLatest();
+        if (loaded.isEmpty()) {
+            return false;
+        }
+        HolidayCalendarVersion version = loaded.get();
+        Set<LocalDate> holidays = new HashSet<>(baseCalendar.extraHolidays());
+        holidays.addAll(version.holidays());
+        BusinessDayCalculator.installDefault(BusinessDayCalculator.withExtraHolidays(holidays));
+        long previous = appliedVersion;
+        appliedVersion = version.version();
+        log.info("[정산 캘린더] 공휴일 버전 교체 {} → {} (추가 공휴일 {}건)",
+                previous < 0 ? "-" : previous, version.version(), version.holidays().size());
+        return true;
+    }
+
+    /** 마지막으로 반영한 버전 — 아직 없으면 -1. */
+    public long appliedVersion() {
+        return appliedVersion;
+    }
+}
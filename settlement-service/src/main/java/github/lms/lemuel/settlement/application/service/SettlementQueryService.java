@@ -1,5 +1,6 @@
 package github.lms.lemuel.settlement.application.service;
 
+import github.lms.lemuel.common.config.replica.ReplicaRead;
 import github.lms.lemuel.settlement.application.port.out.dto.*;
 import github.lms.lemuel.settlement.application.port.out.QuerySettlementPort;
 import lombok.RequiredArgsConstructor;
@@ -13,10 +14,11 @@ import java.util.List;
  * 정산 조회 Application Service
  *
  * readOnly=true: Hibernate flush mode를 MANUAL로 설정하여 dirty checking 비용 제거
- * PostgreSQL replica로 라우팅 가능 (Read/Write 분리 시)
+ * @ReplicaRead: Read/Write 분리 시 레플리카로 라우팅 — 지연 초과·방금 쓴 사용자는 프라이머리
  */
 @Service
 @RequiredArgsConstructor
+@ReplicaRead
 @Transactional(readOnly = true)
 public class SettlementQueryService {
 
@@ -31,7 +31,8 @@ public class SettlementCalendarConfig {
 
     /**
      * 설정된 추가 공휴일을 얹은 캘린더 빈. 생성과 동시에 프로세스 기본 캘린더로 설치해 정적 도메인
-     * 호출부가 이를 반영하도록 한다(기동 시 1회). 추가 공휴일이 없으면 표준 캘린더와 동일하다.
+     * 호출부가 이를 반영하도록 한다. 이후의 교체는 공휴일 갱신 서비스가 이 빈을 기준으로 새 인스턴스를
+     * 만들어 맡는다. 추가 공휴일이 없으면 표준 캘린더와 동일하다.
      */
     @Bean
     public BusinessDayCalculator businessDayCalculator() {
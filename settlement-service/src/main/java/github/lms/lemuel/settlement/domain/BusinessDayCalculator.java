@@ -4,9 +4,12 @@ import github.lms.lemuel.settlement.domain.exception.SettlementInvariantViolatio
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Year;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -29,8 +32,9 @@ import java.util.stream.Stream;
  * 추가 공휴일이 없는 표준 캘린더는 {@link #standard()} 싱글턴이며, {@link #addBusinessDays(LocalDate, int)}
  * 등 정적 메서드는 {@linkplain #installDefault(BusinessDayCalculator) 설치된 기본 인스턴스}에 위임한다.
  * 도메인 정적 호출부({@link SettlementCycle}·{@link HoldbackPolicy})는 그대로 두고, config 계층이 기동
- * 시점에 임시공휴일을 얹은 인스턴스를 기본으로 설치하면 정산일 계산이 이를 반영한다 — 도메인은
- * Spring/JPA 의존성 0(주입 배선은 config 계층 몫)을 유지한다.
+ * 시점에 임시공휴일을 얹은 인스턴스를 기본으로 설치하고, 이후 공휴일 갱신 스케줄러가 새 버전을 볼 때마다
+ * 새 인스턴스로 다시 갈아 끼우면 정산일 계산이 이를 반영한다 — 도메인은 Spring/JPA 의존성 0(주입 배선은
+ * config·application 계층 몫)을 유지한다.
  *
  * <p><b>한계(중요)</b>: {@link #LUNAR_AND_SUBSTITUTE_HOLIDAYS} 는 명시적으로 등재된 연도
  * (<b>{@value #FIRST_REGISTERED_YEAR}~{@value #LAST_REGISTERED_YEAR}</b>)만 정확하다. 이 범위 밖의 연도는
@@ -44,22 +48,39 @@ import java.util.stream.Stream;
  * 성탄절은 토·일 중첩 시 각각 대체공휴일을 부여한다(신정·현충일은 대체 대상 아님). 2028년 추석(10-03)이
  * 개천절과 같은 날이라 대체공휴일(10-05)이 붙는 중첩 사례까지 반영돼 있다.
  *
+ * <p><b>연도별 색인</b> — 예전에는 "N 영업일 후" 를 하루씩 걸으며 날마다 {@code "MM-DD"} 문자열을 만들어
+ * 집합을 뒤졌다. 지금은 인스턴스를 만들 때 {@value #INDEX_FIRST_YEAR}~{@value #INDEX_LAST_YEAR} 의 해마다
+ * 불변 색인({@link YearIndex}: 영업일 비트셋 + 누적 영업일 수 + k번째 영업일 표)을 미리 만들어 둔다.
+ * 영업일 판정·N 영업일 후·두 날짜 사이 영업일 수는 표 조회 몇 번이다(해를 넘기면 해마다 한 번 더).
+ * 색인 범위 밖의 해는 처음 요청될 때 색인을 만들어 인스턴스에 담아 두고 재사용한다. 담는 해는
+ * {@value #OUT_OF_RANGE_CACHE_LIMIT}개까지다 — 넘으면 잘못된 날짜가 줄지어 들어와도 메모리가 자라지 않게
+ * 더 담지 않고 그때그때 만든다(결과는 같고 느릴 뿐이다).
+ * 인스턴스가 불변이므로 공휴일 데이터가 바뀌면 새 인스턴스를 만들어 {@link #installDefault} 로 통째로
+ * 갈아 끼운다(읽는 쪽은 옛 색인 아니면 새 색인 하나만 본다).
+ *
  * <p>설계상 도메인 순수 — Spring/JPA 의존성 없음.
  */
 public final class BusinessDayCalculator {
 
     /** 매년 고정 공휴일 (월-일). 음력 기준 명절·대체공휴일은 {@link #LUNAR_AND_SUBSTITUTE_HOLIDAYS} 로 별도 처리. */
-    private static final Set<String> KOREAN_FIXED_HOLIDAYS = Set.of(
-            "01-01", // 신정
-            "03-01", // 삼일절
-            "05-05", // 어린이날
-            "06-06", // 현충일
-            "08-15", // 광복절
-            "10-03", // 개천절
-            "10-09", // 한글날
-            "12-25"  // 성탄절
+    private static final Set<MonthDay> KOREAN_FIXED_HOLIDAYS = Set.of(
+            MonthDay.of(1, 1),   // 신정
+            MonthDay.of(3, 1),   // 삼일절
+            MonthDay.of(5, 5),   // 어린이날
+            MonthDay.of(6, 6),   // 현충일
+            MonthDay.of(8, 15),  // 광복절
+            MonthDay.of(10, 3),  // 개천절
+            MonthDay.of(10, 9),  // 한글날
+            MonthDay.of(12, 25)  // 성탄절
     );
 
+    /** 인스턴스 생성 시 미리 색인하는 연도 범위. 밖의 해는 처음 요청될 때 색인해 담아 둔다. */
+    private static final int INDEX_FIRST_YEAR = 2000;
+    private static final int INDEX_LAST_YEAR = 2099;
+
+    /** 색인 범위 밖에서 담아 두는 해의 상한 — 해 하나의 색인은 1KB 남짓이다. */
+    private static final int OUT_OF_RANGE_CACHE_LIMIT = 64;
+
     /** 음력 명절·대체공휴일이 정확히 등재된 첫/마지막 연도(경계 밖은 주말+양력 고정 공휴일만 판정). */
     private static final int FIRST_REGISTERED_YEAR = 2026;
     private static final int LAST_REGISTERED_YEAR = 2030;
@@ -167,15 +188,24 @@ public final class BusinessDayCalculator {
     /**
      * 정적 편의 메서드({@link #isBusinessDay}·{@link #addBusinessDays})가 위임하는 프로세스 기본 인스턴스.
      * 기본은 {@link #STANDARD} 이며, config 계층이 기동 시점에 {@link #installDefault} 로 임시공휴일을 얹은
-     * 인스턴스를 1회 설치할 수 있다. 설치 이후 도메인 정적 호출부가 그 캘린더를 반영한다. 기동 시 1회 설정,
-     * 이후 읽기 전용이라 참조 교체의 가시성만 보장하면 된다 — 그 계약을 {@link AtomicReference} 로 명시한다
-     * ({@code volatile} 필드는 "참조 교체만 원자적"이라는 사실이 타입에 드러나지 않는다).
+     * 인스턴스를 설치하고, 운영 중에는 공휴일 갱신 스케줄러가 새 버전을 반영할 때마다 다시 설치한다.
+     * 교체는 다 만들어진 불변 인스턴스의 참조를 통째로 바꾸는 것뿐이라 잠금이 필요 없다 — {@link AtomicReference}
+     * 의 set/get 이 happens-before 를 맺어, 교체 뒤 읽는 스레드는 생성자가 채운 색인까지 온전히 본다.
+     * 계산 도중 교체가 일어나도 한 번 읽은 인스턴스로 끝까지 계산하므로 옛 캘린더 아니면 새 캘린더 하나의
+     * 결과만 나온다. 호출마다 다시 읽으므로 교체 직후 호출부터 새 캘린더가 쓰인다
+     * ({@code volatile} 필드로도 같지만 "참조 교체만 원자적"이라는 계약이 타입에 드러나지 않는다).
      */
     private static final AtomicReference<BusinessDayCalculator> DEFAULT_INSTANCE = new AtomicReference<>(STANDARD);
 
     /** 하드코딩 상수 위에 얹히는 인스턴스별 추가 공휴일(정부 지정 임시공휴일 등). 불변. */
     private final Set<LocalDate> extraHolidays;
 
+    /** {@value #INDEX_FIRST_YEAR}~{@value #INDEX_LAST_YEAR} 연도별 색인. 생성자에서 다 만든 뒤로 바뀌지 않는다. */
+    private final YearIndex[] index;
+
+    /** 색인 범위 밖 해의 색인 — 같은 해는 같은 결과라 경쟁해 두 번 만들어도 먼저 담긴 쪽을 쓴다. */
+    private final ConcurrentHashMap<Integer, YearIndex> outOfRange = new ConcurrentHashMap<>();
+
     /**
      * 추가 공휴일 세트를 주입해 캘린더를 구성한다. {@code null} 은 빈 세트로 정규화하며, 방어 복사로 불변을 보장한다.
      *
@@ -185,6 +215,10 @@ public final class BusinessDayCalculator {
         this.extraHolidays = (extraHolidays == null || extraHolidays.isEmpty())
                 ? Set.of()
                 : Set.copyOf(extraHolidays);
+        this.index = new YearIndex[INDEX_LAST_YEAR - INDEX_FIRST_YEAR + 1];
+        for (int year = INDEX_FIRST_YEAR; year <= INDEX_LAST_YEAR; year++) {
+            index[year - INDEX_FIRST_YEAR] = YearIndex.build(year, this.extraHolidays);
+        }
     }
 
     /** 추가 공휴일이 없는 표준 캘린더 싱글턴. */
@@ -204,7 +238,9 @@ public final class BusinessDayCalculator {
 
     /**
      * 정적 도메인 호출부({@link SettlementCycle}·{@link HoldbackPolicy})가 참조하는 기본 캘린더를 교체한다.
-     * config 계층이 기동 시점에 1회 호출하는 것을 전제로 한다(런타임 도중 변경 대상 아님).
+     * config 계층이 기동 시점에 한 번, 공휴일 갱신 서비스({@code RefreshBusinessCalendarService})가 새 버전을
+     * 반영할 때마다 다시 호출한다. 인자는 다 만들어진 인스턴스여야 하며, 설치는 참조 하나를 원자적으로 바꿔
+     * 공개한다 — 읽는 쪽은 옛 인스턴스 아니면 새 인스턴스를 온전히 본다({@link #DEFAULT_INSTANCE} 참고).
      */
     public static void installDefault(BusinessDayCalculator calculator) {
         DEFAULT_INSTANCE.set(Objects.requireNonNull(calculator, "calculator 필수"));
@@ -230,21 +266,40 @@ public final class BusinessDayCalculator {
         if (from == null) throw new SettlementInvariantViolationException("from 필수");
         if (n < 0) throw new SettlementInvariantViolationException("n 은 0 이상");
 
-        LocalDate cursor = from;
-        // n=0 인 경우: 시작일이 영업일이 아니면 다음 영업일까지 전진
+        YearIndex year = yearIndex(from.getYear());
+        int dayOfYear = from.getDayOfYear();
+        // n=0 인 경우: 시작일이 영업일이면 그대로, 아니면 다음 영업일(= 시작일 이후 첫 영업일)
         if (n == 0) {
-            while (!isBusinessDayOn(cursor)) {
-                cursor = cursor.plusDays(1);
+            if (year.isBusinessDay(dayOfYear)) {
+                return from;
             }
-            return cursor;
+            n = 1;
+        }
+        // 시작일까지의 누적 영업일 수 + n 번째 영업일. 그 해에 모자라면 다음 해로 넘어가며 뺀다.
+        long target = (long) year.businessDaysUpTo(dayOfYear) + n;
+        while (target > year.total()) {
+            target -= year.total();
+            year = yearIndex(year.year + 1);
         }
+        return year.nthBusinessDay((int) target);
+    }
 
-        int added = 0;
-        while (added < n) {
-            cursor = cursor.plusDays(1);
-            if (isBusinessDayOn(cursor)) added++;
+    /**
+     * 이 캘린더 기준, {@code [startInclusive, endExclusive)} 안의 영업일 수. 끝이 시작보다 앞이면 음수
+     * (뒤집은 구간 수의 부호 반전)다.
+     */
+    public long businessDaysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+        if (startInclusive == null || endExclusive == null) {
+            throw new SettlementInvariantViolationException("startInclusive/endExclusive 필수");
         }
-        return cursor;
+        if (endExclusive.isBefore(startInclusive)) {
+            return -businessDaysBetween(endExclusive, startInclusive);
+        }
+        long count = -yearIndex(startInclusive.getYear()).businessDaysUpTo(startInclusive.getDayOfYear() - 1);
+        for (int y = startInclusive.getYear(); y < endExclusive.getYear(); y++) {
+            count += yearIndex(y).total();
+        }
+        return count + yearIndex(endExclusive.getYear()).businessDaysUpTo(endExclusive.getDayOfYear() - 1);
     }
 
     /**
@@ -253,12 +308,28 @@ public final class BusinessDayCalculator {
      * 세 축으로 판정한다. 음력·대체에 미등재된 연도의 명절은 영업일로 간주된다(클래스 Javadoc 한계 참조).
      */
     public boolean isBusinessDayOn(LocalDate date) {
-        DayOfWeek dow = date.getDayOfWeek();
-        if (dow == DayOfWeek.SATURDAY || dow == DayOfWeek.SUNDAY) return false;
-        String mmdd = String.format("%02d-%02d", date.getMonthValue(), date.getDayOfMonth());
-        if (KOREAN_FIXED_HOLIDAYS.contains(mmdd)) return false;
-        if (LUNAR_AND_SUBSTITUTE_HOLIDAYS.contains(date)) return false;
-        return !extraHolidays.contains(date);
+        return yearIndex(date.getYear()).isBusinessDay(date.getDayOfYear());
+    }
+
+    private YearIndex yearIndex(int year) {
+        if (year >= INDEX_FIRST_YEAR && year <= INDEX_LAST_YEAR) {
+            return index[year - INDEX_FIRST_YEAR];
+        }
+        YearIndex cached = outOfRange.get(year);
+        if (cached != null) {
+            return cached;
+        }
+        YearIndex built = YearIndex.build(year, extraHolidays);
+        if (outOfRange.size() >= OUT_OF_RANGE_CACHE_LIMIT) {
+            return built;
+        }
+        YearIndex raced = outOfRange.putIfAbsent(year, built);
+        return raced != null ? raced : built;
+    }
+
+    /** 색인 범위 밖에서 담아 둔 해의 수 — 테스트용. */
+    int cachedOutOfRangeYears() {
+        return outOfRange.size();
     }
 
     /**
@@ -273,4 +344,99 @@ public final class BusinessDayCalculator {
     public static boolean isBusinessDay(LocalDate date) {
         return DEFAULT_INSTANCE.get().isBusinessDayOn(date);
     }
+
+    /** 설치된 기본 캘린더 기준 {@code [startInclusive, endExclusive)} 영업일 수 — 정적 진입점. */
+    public static long countBusinessDays(LocalDate startInclusive, LocalDate endExclusive) {
+        return DEFAULT_INSTANCE.get().businessDaysBetween(startInclusive, endExclusive);
+    }
+
+    /**
+     * 한 해의 불변 영업일 색인.
+     * <ul>
+     *   <li>{@code businessBits} — 그 해 d 번째 날(1-based)이 영업일이면 비트 d-1 이 1.</li>
+     *   <li>{@code upTo[d]} — 1~d 번째 날 중 영업일 수({@code upTo[0] = 0}). 두 날짜 사이 영업일 수가 뺄셈 한 번.</li>
+     *   <li>{@code nth[k-1]} — 그 해 k 번째 영업일의 day-of-year. "N 영업일 후" 가 배열 조회 한 번.</li>
+     * </ul>
+     * 한 해는 366일 이하라 {@code short} 로 충분하다.
+     */
+    private static final class YearIndex {
+
+        final int year;
+        private final long[] businessBits;
+        private final short[] upTo;
+        private final short[] nth;
+
+        private YearIndex(int year, long[] businessBits, short[] upTo, short[] nth) {
+            this.year = year;
+            this.businessBits = businessBits;
+            this.upTo = upTo;
+            this.nth = nth;
+        }
+
+        static YearIndex build(int year, Set<LocalDate> extraHolidays) {
+            int length = Year.of(year).length();
+            long[] bits = new long[(length + 63) >>> 6];
+            // 주말이 아닌 날을 영업일로 켠 뒤, 공휴일을 끈다.
+            int dow = LocalDate.of(year, 1, 1).getDayOfWeek().getValue(); // 1=월 … 7=일
+            for (int d = 0; d < length; d++) {
+                if (dow <= DayOfWeek.FRIDAY.getValue()) {
+                    bits[d >>> 6] |= 1L << d;
+                }
+                dow = dow == 7 ? 1 : dow + 1;
+            }
+            for (MonthDay fixed : KOREAN_FIXED_HOLIDAYS) {
+                if (fixed.isValidYear(year)) {
+                    clear(bits, fixed.atYear(year).getDayOfYear());
+                }
+            }
+            clearYear(bits, year, LUNAR_AND_SUBSTITUTE_HOLIDAYS);
+            clearYear(bits, year, extraHolidays);
+
+            short[] upTo = new short[length + 1];
+            int total = 0;
+            for (int d = 1; d <= length; d++) {
+                if ((bits[(d - 1) >>> 6] & (1L << (d - 1))) != 0) {
+                    total++;
+                }
+                upTo[d] = (short) total;
+            }
+            short[] nth = new short[total];
+            for (int d = 1, k = 0; d <= length; d++) {
+                if (upTo[d] != upTo[d - 1]) {
+                    nth[k++] = (short) d;
+                }
+            }
+            return new YearIndex(year, bits, upTo, nth);
+        }
+
+        private static void clearYear(long[] bits, int year, Set<LocalDate> holidays) {
+            for (LocalDate holiday : holidays) {
+                if (holiday.getYear() == year) {
+                    clear(bits, holiday.getDayOfYear());
+                }
+            }
+        }
+
+        private static void clear(long[] bits, int dayOfYear) {
+            bits[(dayOfYear - 1) >>> 6] &= ~(1L << (dayOfYear - 1));
+        }
+
+        boolean isBusinessDay(int dayOfYear) {
+            return (businessBits[(dayOfYear - 1) >>> 6] & (1L << (dayOfYear - 1))) != 0;
+        }
+
+        /** 1~dayOfYear 번째 날 중 영업일 수. dayOfYear=0 이면 0. */
+        int businessDaysUpTo(int dayOfYear) {
+            return upTo[dayOfYear];
+        }
+
+        int total() {
+            return nth.length;
+        }
+
+        /** 그 해 k 번째(1-based) 영업일. */
+        LocalDate nthBusinessDay(int k) {
+            return LocalDate.ofYearDay(year, nth[k - 1]);
+        }
+    }
 }
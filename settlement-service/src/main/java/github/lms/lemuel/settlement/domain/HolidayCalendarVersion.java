@@ -0,0 +1,17 @@
+package github.lms.lemuel.settlement.domain;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 버전이 붙은 추가 공휴일 목록 — {@code holiday_calendar_version} 의 한 행.
+ *
+ * <p>목록은 증분이 아니라 그 버전 시점의 전체다. {@link BusinessDayCalculator} 의 하드코딩 상수와 설정
+ * 임시공휴일 위에 얹힌다.
+ */
+public record HolidayCalendarVersion(long version, Set<LocalDate> holidays) {
+
+    public HolidayCalendarVersion {
+        holidays = holidays == null ? Set.of() : Set.copyOf(holidays);
+    }
+}
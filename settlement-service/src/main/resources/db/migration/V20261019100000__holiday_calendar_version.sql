@@ -0,0 +1,19 @@
+-- 영업일 캘린더 공휴일 데이터 — 버전 단위 불변 행.
+--
+-- BusinessDayCalculator 의 하드코딩 상수(양력 고정 + 등재 연도 음력·대체)와 설정(app.settlement.extra-holidays)
+-- 위에 얹히는 공휴일 목록이다. 새해 음력 명절·대체공휴일·임시공휴일을 배포 없이 넣는 경로.
+--
+-- 행 UPDATE 금지 — 목록을 바꾸려면 전체 목록을 담은 새 버전 행을 넣는다. 각 인스턴스는 주기적으로
+-- 최신 version 만 확인하고, 바뀌었을 때만 목록을 읽어 캘린더 색인을 새로 만들어 통째로 교체한다.
+-- 표가 비어 있으면 도입 전과 100% 동일하게 동작한다.
+
+CREATE TABLE IF NOT EXISTS holiday_calendar_version (
+    version      BIGSERIAL    PRIMARY KEY,
+    holidays     DATE[]       NOT NULL,      -- 이 버전의 전체 추가 공휴일 목록(증분 아님)
+    note         VARCHAR(255) NOT NULL,      -- 무엇을 왜 바꿨나 — 예) "2031 설·추석 등재", "2026-06-03 임시공휴일"
+    published_by VARCHAR(64)  NOT NULL,
+    published_at TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+
+COMMENT ON TABLE holiday_calendar_version IS
+    '영업일 캘린더 추가 공휴일 — 버전 단위 불변 행, 최신 version 이 유효';
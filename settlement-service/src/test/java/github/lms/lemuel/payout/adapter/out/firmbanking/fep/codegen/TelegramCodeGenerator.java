@@ -98,18 +98,23 @@ public final class TelegramCodeGenerator {
 
     private static String generateCodec(TelegramSpec spec) {
         String vo = voType(spec);
+        TelegramElement.RepeatedGroup group = spec.repeatedGroup().orElse(null);
         StringBuilder out = new StringBuilder(HEADER)
                 .append("package ").append(PACKAGE).append(";\n\n")
-                .append("import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepLayouts;\n")
-                .append("import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepProtocolException;\n")
-                .append("import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.TelegramCodecSupport;\n")
-                .append("import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.spec.TelegramSpec;\n\n")
-                .append("import java.util.ArrayList;\n")
-                .append("import java.util.LinkedHashMap;\n")
-                .append("import java.util.List;\n")
-                .append("import java.util.Map;\n\n")
-                .append("/**\n * ").append(spec.name()).append(" 개정 ").append(spec.version())
-                .append(" 코덱 — 스펙에서 생성된 타입 안전 인코딩·디코딩.\n */\n")
+                .append("import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.CompiledTelegramLayout;\n")
+                .append("import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepLayouts;\n");
+        if (group != null) {
+            out.append("import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepProtocolException;\n");
+        }
+        out.append("\nimport java.nio.ByteBuffer;\n");
+        if (group != null) {
+            out.append("import java.util.ArrayList;\n")
+                    .append("import java.util.List;\n");
+        }
+        out.append("\n/**\n * ").append(spec.name()).append(" 개정 ").append(spec.version())
+                .append(" 코덱 — 스펙에서 생성된 타입 안전 인코딩·디코딩.\n")
+                .append(" *\n * <p>필드 offset 은 클래스 초기화 때 {@link CompiledTelegramLayout} 으로 한 번 풀어 둔다 — 인코딩은 값을\n")
+                .append(" * 버퍼에 바로 쓰고, 디코딩은 수신 바이트 위의 뷰에서 필드를 꺼낸다.\n */\n")
                 .append("public final class ").append(codecType(spec)).append(" {\n\n")
                 .append("    public static final String TELEGRAM = \"").append(spec.name()).append("\";\n")
                 .append("    public static final String MSG_TYPE = \"").append(spec.msgType()).append("\";\n")
@@ -122,63 +127,83 @@ public final class TelegramCodeGenerator {
             out.append("    public static final int TOTAL_LENGTH = ").append(spec.totalLength()).append(";\n");
         }
 
-        spec.repeatedGroup().ifPresent(group -> out.append("    /** 반복부 ").append(group.name())
-                .append(" 최대 건수. */\n    public static final int ").append(group.name()).append("_MAX = ")
-                .append(group.maxOccurrences()).append(";\n"));
+        if (group != null) {
+            out.append("    /** 반복부 ").append(group.name()).append(" 최대 건수. */\n    public static final int ")
+                    .append(group.name()).append("_MAX = ").append(group.maxOccurrences()).append(";\n");
+        }
 
-        out.append("\n    private static final TelegramSpec SPEC = FepLayouts.catalog().spec(TELEGRAM, VERSION);\n\n")
-                .append("    private ").append(codecType(spec)).append("() {\n    }\n\n")
-                .append(encodeMethod(spec, vo))
+        out.append("\n    private static final CompiledTelegramLayout LAYOUT =\n")
+                .append("            CompiledTelegramLayout.compile(FepLayouts.catalog().spec(TELEGRAM, VERSION));\n\n");
+        for (TelegramElement element : spec.elements()) {
+            if (element instanceof TelegramElement.Single single) {
+                out.append("    private static final int ").append(fieldConstant(single.field())).append(" = LAYOUT.field(\"")
+                        .append(single.field().name()).append("\");\n");
+            }
+        }
+        if (group != null) {
+            for (FepField field : group.fields()) {
+                out.append("    private static final int ").append(itemConstant(group, field))
+                        .append(" = LAYOUT.itemField(\"").append(field.name()).append("\");\n");
+            }
+        }
+
+        out.append("\n    private ").append(codecType(spec)).append("() {\n    }\n\n")
+                .append(encodeMethods(spec, vo))
                 .append("\n")
-                .append(decodeMethod(spec, vo))
-                .append("}\n");
-        return out.toString();
+                .append(decodeMethod(spec, vo));
+        if (group != null) {
+            out.append("\n").append(itemsMethod(group, vo));
+        }
+        return out.append("}\n").toString();
     }
 
-    private static String encodeMethod(TelegramSpec spec, String vo) {
+    private static String encodeMethods(TelegramSpec spec, String vo) {
         TelegramElement.RepeatedGroup group = spec.repeatedGroup().orElse(null);
+        String listVar = group == null ? null : camel(group.name()) + "s";
         StringBuilder out = new StringBuilder()
                 .append("    /** 값 → 고정길이 전문 바이트. */\n")
-                .append("    public static byte[] encode(").append(vo).append(" telegram) {\n")
-                .append("        Map<String, String> values = new LinkedHashMap<>();\n");
+                .append("    public static byte[] encode(").append(vo).append(" telegram) {\n");
+        if (spec.isVariable()) {
+            out.append("        byte[] out = new byte[LAYOUT.lengthFor(").append(listVar).append("(telegram).size())];\n");
+        } else {
+            out.append("        byte[] out = new byte[TOTAL_LENGTH];\n");
+        }
+        out.append("        encodeTo(telegram, ByteBuffer.wrap(out));\n")
+                .append("        return out;\n    }\n\n")
+                .append("    /**\n     * 값 → {@code target} 의 현재 위치부터 전문 바이트. 위치는 전문 끝으로 옮겨진다 — 송신 버퍼를\n")
+                .append("     * 재사용하는 경로용으로, 중간 맵·문자열을 만들지 않는다.\n     */\n")
+                .append("    public static void encodeTo(").append(vo).append(" telegram, ByteBuffer target) {\n");
 
-        String listVar = group == null ? null : camel(group.name()) + "s";
         if (group != null) {
-            String accessor = "telegram." + listVar + "()";
             out.append("        List<").append(vo).append(".").append(pascal(group.name())).append("> ")
-                    .append(listVar).append(" = ").append(accessor).append(" == null ? List.of() : ")
-                    .append(accessor).append(";\n")
-                    .append("        if (").append(listVar).append(".size() > ").append(group.name())
-                    .append("_MAX) {\n            throw new FepProtocolException(\"반복부 ").append(group.name())
-                    .append(" 최대 \" + ").append(group.name()).append("_MAX + \"건 초과: \" + ")
-                    .append(listVar).append(".size());\n        }\n");
+                    .append(listVar).append(" = ").append(listVar).append("(telegram);\n")
+                    .append("        CompiledTelegramLayout.Writer writer = LAYOUT.writer(target, ")
+                    .append(listVar).append(".size());\n");
+        } else {
+            out.append("        CompiledTelegramLayout.Writer writer = LAYOUT.writer(target, 0);\n");
         }
 
         String countField = group instanceof TelegramElement.VariableRepeated variable ? variable.countField() : null;
         for (TelegramElement element : spec.elements()) {
             if (element instanceof TelegramElement.Single single) {
                 FepField field = single.field();
-                String value = field.name().equals(countField)
-                        ? "TelegramCodecSupport.count(telegram." + camel(field.name()) + "(), "
-                                + listVar + ".size(), \"" + field.name() + "\")"
-                        : toWire(field, "telegram." + camel(field.name()) + "()");
-                out.append("        values.put(\"").append(field.name()).append("\", ").append(value).append(");\n");
+                String accessor = "telegram." + camel(field.name()) + "()";
+                String call = field.name().equals(countField)
+                        ? "count(" + fieldConstant(field) + ", " + accessor + ")"
+                        : toWire(field, fieldConstant(field), accessor);
+                out.append("        writer.").append(call).append(";\n");
             }
         }
         if (group != null) {
             out.append("        for (int i = 0; i < ").append(listVar).append(".size(); i++) {\n")
-                    .append("            var item = ").append(listVar).append(".get(i);\n")
-                    .append("            String prefix = \"").append(group.name()).append("_\" + (i + 1) + \"_\";\n");
+                    .append("            var item = ").append(listVar).append(".get(i);\n");
             for (FepField field : group.fields()) {
-                out.append("            values.put(prefix + \"").append(field.name()).append("\", ")
-                        .append(toWire(field, "item." + camel(field.name()) + "()")).append(");\n");
+                out.append("            writer.").append(itemToWire(field, itemConstant(group, field),
+                        "item." + camel(field.name()) + "()")).append(";\n");
             }
             out.append("        }\n");
         }
-        String layout = spec.isVariable()
-                ? "SPEC.layoutFor(" + listVar + ".size())"
-                : (group == null ? "SPEC.toLayout()" : "SPEC.toLayout()");
-        return out.append("        return ").append(layout).append(".encode(values);\n    }\n").toString();
+        return out.append("        writer.finish();\n    }\n").toString();
     }
 
     private static String decodeMethod(TelegramSpec spec, String vo) {
@@ -187,37 +212,28 @@ public final class TelegramCodeGenerator {
         if (group instanceof TelegramElement.VariableRepeated variable) {
             out.append("     *\n     * <p>반복 건수는 건수 필드(").append(variable.countField())
                     .append(")를 먼저 읽어 정한다 — 길이가 건수에 따라 달라지므로\n")
-                    .append("     * 레이아웃을 만들기 전에 건수를 알아야 한다.\n");
+                    .append("     * 뷰가 건수로 전문 길이를 확인한 뒤에 필드를 꺼낸다.\n");
         } else if (group != null) {
             out.append("     *\n     * <p>반복부는 <b>선언된 최대 건수를 그대로</b> 돌려준다(빈 슬롯 포함).\n");
         }
-        out.append("     */\n    public static ").append(vo).append(" decode(byte[] raw) {\n");
-
-        if (spec.isVariable()) {
-            out.append("        int occurrences = SPEC.readOccurrences(raw);\n")
-                    .append("        Map<String, String> values = SPEC.layoutFor(occurrences).decode(raw);\n");
-        } else {
-            out.append("        Map<String, String> values = SPEC.toLayout().decode(raw);\n");
-        }
+        out.append("     */\n    public static ").append(vo).append(" decode(byte[] raw) {\n")
+                .append("        CompiledTelegramLayout.View view = LAYOUT.view(raw);\n");
 
         List<String> args = new ArrayList<>();
         for (TelegramElement element : spec.elements()) {
             switch (element) {
                 case TelegramElement.Single single -> args.add("                "
-                        + fromWire(single.field(), "values.get(\"" + single.field().name() + "\")"));
+                        + fromWire(single.field(), fieldConstant(single.field())));
                 case TelegramElement.RepeatedGroup repeated -> {
                     String var = camel(repeated.name()) + "s";
-                    String bound = spec.isVariable() ? "occurrences" : repeated.name() + "_MAX";
                     out.append("        List<").append(vo).append(".").append(pascal(repeated.name())).append("> ")
-                            .append(var).append(" = new ArrayList<>();\n")
-                            .append("        for (int i = 1; i <= ").append(bound).append("; i++) {\n")
-                            .append("            String prefix = \"").append(repeated.name()).append("_\" + i + \"_\";\n")
+                            .append(var).append(" = new ArrayList<>(view.occurrences());\n")
+                            .append("        for (int i = 0; i < view.occurrences(); i++) {\n")
                             .append("            ").append(var).append(".add(new ").append(vo).append(".")
                             .append(pascal(repeated.name())).append("(\n");
                     List<String> nested = new ArrayList<>();
                     for (FepField field : repeated.fields()) {
-                        nested.add("                    "
-                                + fromWire(field, "values.get(prefix + \"" + field.name() + "\")"));
+                        nested.add("                    " + itemFromWire(field, itemConstant(repeated, field)));
                     }
                     out.append(String.join(",\n", nested)).append("));\n        }\n");
                     args.add("                List.copyOf(" + var + ")");
@@ -228,6 +244,24 @@ public final class TelegramCodeGenerator {
                 .append(String.join(",\n", args)).append(");\n    }\n").toString();
     }
 
+    /** 반복부 목록 — {@code null} 은 0건, 최대 건수 초과는 인코딩 전에 거부한다. */
+    private static String itemsMethod(TelegramElement.RepeatedGroup group, String vo) {
+        String type = vo + "." + pascal(group.name());
+        String listVar = camel(group.name()) + "s";
+        String accessor = "telegram." + listVar + "()";
+        return new StringBuilder()
+                .append("    private static List<").append(type).append("> ").append(listVar).append("(")
+                .append(vo).append(" telegram) {\n")
+                .append("        List<").append(type).append("> ").append(listVar).append(" = ")
+                .append(accessor).append(" == null ? List.of() : ").append(accessor).append(";\n")
+                .append("        if (").append(listVar).append(".size() > ").append(group.name())
+                .append("_MAX) {\n            throw new FepProtocolException(\"반복부 ").append(group.name())
+                .append(" 최대 \" + ").append(group.name()).append("_MAX + \"건 초과: \" + ")
+                .append(listVar).append(".size());\n        }\n")
+                .append("        return ").append(listVar).append(";\n    }\n")
+                .toString();
+    }
+
     // ─── 설계서(Markdown) ──────────────────────────────────────────────────────
 
     private static String generateDoc(TelegramSpec spec) {
@@ -309,16 +343,38 @@ public final class TelegramCodeGenerator {
 
     // ─── 타입·이름 규칙 ────────────────────────────────────────────────────────
 
-    private static String toWire(FepField field, String accessor) {
+    private static String toWire(FepField field, String constant, String accessor) {
         return field.isDecimal()
-                ? "TelegramCodecSupport.digits(" + accessor + ", " + field.scale() + ", \"" + field.name() + "\")"
-                : "TelegramCodecSupport.text(" + accessor + ")";
+                ? "decimal(" + constant + ", " + accessor + ", " + field.scale() + ")"
+                : "text(" + constant + ", " + accessor + ")";
     }
 
-    private static String fromWire(FepField field, String accessor) {
+    private static String itemToWire(FepField field, String constant, String accessor) {
         return field.isDecimal()
-                ? "TelegramCodecSupport.decimal(" + accessor + ", " + field.scale() + ", \"" + field.name() + "\")"
-                : accessor;
+                ? "itemDecimal(i, " + constant + ", " + accessor + ", " + field.scale() + ")"
+                : "itemText(i, " + constant + ", " + accessor + ")";
+    }
+
+    private static String fromWire(FepField field, String constant) {
+        return field.isDecimal()
+                ? "view.decimal(" + constant + ", " + field.scale() + ")"
+                : "view.text(" + constant + ")";
+    }
+
+    private static String itemFromWire(FepField field, String constant) {
+        return field.isDecimal()
+                ? "view.itemDecimal(i, " + constant + ", " + field.scale() + ")"
+                : "view.itemText(i, " + constant + ")";
+    }
+
+    /** 단일 필드 번호 상수 — {@code F_BANK_CODE}. 접두사로 MSG_TYPE 같은 공개 상수와 겹치지 않게 한다. */
+    private static String fieldConstant(FepField field) {
+        return "F_" + field.name();
+    }
+
+    /** 반복부 필드 번호 상수 — {@code F_DETAIL_REF_ID}. */
+    private static String itemConstant(TelegramElement.RepeatedGroup group, FepField field) {
+        return "F_" + group.name() + "_" + field.name();
     }
 
     private static String javaType(FepField field) {
@@ -12,6 +12,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  *
  * <p>계약은 <b>decode → encode 가 원본 바이트를 그대로 복원</b>하는 것. 필드 하나라도 코덱에서
  * 빠지거나 순서가 틀리면 바이트가 어긋나 실패한다. 전문·개정이 늘어도 이 테스트는 그대로 따라간다.
+ * 표본은 정본 {@link TelegramLayout} 으로 만들므로, 컴파일된 레이아웃을 타는 코덱과 정본의 대조이기도 하다.
  */
 class TelegramGeneratedCodecRoundTripTest {
 
@@ -56,6 +59,14 @@ class TelegramGeneratedCodecRoundTripTest {
         byte[] reEncoded = (byte[]) encode.invoke(null, value);
 
         assertThat(reEncoded).as("%s 왕복 바이트", key).isEqualTo(original);
+
+        // 재사용 송신 버퍼: 앞 전문의 잔재 위, 임의 위치에 써도 같은 바이트
+        ByteBuffer buffer = ByteBuffer.allocate(3 + original.length);
+        Arrays.fill(buffer.array(), (byte) '#');
+        buffer.position(3);
+        codec.getMethod("encodeTo", value.getClass(), ByteBuffer.class).invoke(null, value, buffer);
+        assertThat(buffer.position()).isEqualTo(3 + original.length);
+        assertThat(Arrays.copyOfRange(buffer.array(), 3, buffer.position())).as("%s encodeTo", key).isEqualTo(original);
         assertThat(reEncoded).hasSize(spec.isVariable() ? spec.lengthFor(occurrences) : spec.totalLength());
         assertThat(codec.getField("MSG_TYPE").get(null)).isEqualTo(spec.msgType());
         assertThat(codec.getField("VERSION").get(null)).isEqualTo(spec.version());
@@ -69,9 +69,10 @@ class TelegramGeneratedSourcesTest {
                 .contains("List<Detail> details")
                 .contains("public record Detail(");
         assertThat(code.get("BulkTransferRequestCodec.java"))
-                .as("가변 전문은 건수를 읽어 레이아웃을 만든다")
-                .contains("SPEC.readOccurrences(raw)")
-                .contains("SPEC.layoutFor(");
+                .as("가변 전문은 건수로 길이를 정하고, 컴파일된 레이아웃 위에서 읽고 쓴다")
+                .contains("LAYOUT.view(raw)")
+                .contains("LAYOUT.lengthFor(")
+                .contains("encodeTo(BulkTransferRequestTelegram telegram, ByteBuffer target)");
         assertThat(code.get("TransferRequestTelegram.java"))
                 .as("scale 선언 필드만 BigDecimal 이 된다")
                 .contains("BigDecimal amount")
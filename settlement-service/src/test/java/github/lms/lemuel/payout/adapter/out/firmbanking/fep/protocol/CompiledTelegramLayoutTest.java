@@ -0,0 +1,270 @@
+package github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol;
+
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.spec.TelegramCatalog;
+import github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.spec.TelegramSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static github.lms.lemuel.payout.adapter.out.firmbanking.fep.protocol.FepLayouts.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * 컴파일된 레이아웃 규격 테스트 — {@link TelegramLayout} 이 정본이다. 같은 값을 넣으면 같은 바이트가,
+ * 같은 바이트를 읽으면 같은 값이, 잘못된 값이면 같은 메시지의 예외가 나와야 한다.
+ */
+class CompiledTelegramLayoutTest {
+
+    private static final TelegramCatalog CATALOG = FepLayouts.catalog();
+    private static final CompiledTelegramLayout TRANSFER = CompiledTelegramLayout.compile(TRANSFER_REQUEST);
+
+    /** 표본 문자 — ASCII·공백·한글(2바이트)이 섞이도록. */
+    private static final String ALPHABET = "AZaz09 -_./#홍길동가나다";
+
+    private Map<String, String> transferValues() {
+        Map<String, String> v = new HashMap<>();
+        v.put(MSG_TYPE, MSG_TYPE_TRANSFER_REQ);
+        v.put(TELEGRAM_NO, "260808000001");
+        v.put(TRANS_DT, "20260808120000");
+        v.put(RESP_CODE, "");
+        v.put(BANK_CODE, "KB");
+        v.put(ACCOUNT_NO, "1234567890123456");
+        v.put(AMOUNT, "1000000");
+        v.put(HOLDER_NAME, "홍길동");
+        v.put(REF_ID, "PAYOUT-42");
+        return v;
+    }
+
+    @Test
+    @DisplayName("카탈로그 전 전문: 무작위 값의 인코딩 바이트와 디코딩 값이 정본과 같다")
+    void matchesReferenceLayoutForEverySpec() {
+        Random random = new Random(20260808L);
+        for (TelegramSpec spec : CATALOG.specs()) {
+            int occurrences = spec.isVariable() ? 3 : 0;
+            TelegramLayout reference = spec.isVariable() ? spec.layoutFor(occurrences) : spec.toLayout();
+            CompiledTelegramLayout compiled = CompiledTelegramLayout.compile(reference);
+
+            for (int round = 0; round < 200; round++) {
+                Map<String, String> values = new HashMap<>();
+                for (FepField field : reference.fields()) {
+                    values.put(field.name(), sample(random, field));
+                }
+                byte[] expected = reference.encode(values);
+
+                byte[] actual = new byte[expected.length];
+                CompiledTelegramLayout.Writer writer = compiled.writer(ByteBuffer.wrap(actual), 0);
+                for (int i = 0; i < reference.fields().size(); i++) {
+                    writer.text(i, values.get(reference.fields().get(i).name()));
+                }
+                writer.finish();
+                assertThat(actual).as("%s 인코딩", spec.name()).isEqualTo(expected);
+
+                Map<String, String> decoded = reference.decode(expected);
+                CompiledTelegramLayout.View view = compiled.view(expected);
+                for (int i = 0; i < reference.fields().size(); i++) {
+                    String name = reference.fields().get(i).name();
+                    assertThat(view.text(i)).as("%s.%s 디코딩", spec.name(), name).isEqualTo(decoded.get(name));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("디코딩: 0x00~0x7F 전 바이트가 정본과 같은 문자열로 읽힌다 (ASCII 지름길 경계)")
+    void asciiFastPathCoversEveryAsciiByte() {
+        TelegramLayout layout = new TelegramLayout(List.of(
+                new FepField("A", 128, FepFieldType.AN), new FepField("N", 128, FepFieldType.N)));
+        byte[] raw = new byte[256];
+        for (int i = 0; i < 128; i++) {
+            raw[i] = (byte) i;
+            raw[255 - i] = (byte) i;
+        }
+        CompiledTelegramLayout.View view = CompiledTelegramLayout.compile(layout).view(raw);
+        Map<String, String> reference = layout.decode(raw);
+
+        assertThat(view.text(0)).isEqualTo(reference.get("A"));
+        assertThat(view.text(1)).isEqualTo(reference.get("N"));
+    }
+
+    @Test
+    @DisplayName("금액: long 지름길과 정본 경로(음수·소수 초과·19자리 이상)가 같은 결과를 낸다")
+    void decimalMatchesCodecSupport() {
+        TelegramLayout layout = new TelegramLayout(List.of(new FepField("AMT", 25, FepFieldType.N)));
+        CompiledTelegramLayout compiled = CompiledTelegramLayout.compile(layout);
+        String[] samples = {"0", "1", "1000000", "999999999999999999", "1234567890123456789012345", "12.50"};
+
+        for (int scale = 0; scale <= 2; scale++) {
+            for (String sample : samples) {
+                BigDecimal value = new BigDecimal(sample);
+                int s = scale;
+                Throwable expectedFailure = catchThrowable(() ->
+                        layout.encode(Map.of("AMT", TelegramCodecSupport.digits(value, s, "AMT"))));
+
+                byte[] buffer = new byte[25];
+                Throwable thrown = catchThrowable(() ->
+                        compiled.writer(ByteBuffer.wrap(buffer), 0).decimal(0, value, s).finish());
+                if (expectedFailure != null) {
+                    assertThat(thrown).as("%s scale=%d", sample, scale)
+                            .isInstanceOf(FepProtocolException.class)
+                            .hasMessage(expectedFailure.getMessage());
+                    continue;
+                }
+                assertThat(thrown).isNull();
+                byte[] expected = layout.encode(Map.of("AMT", TelegramCodecSupport.digits(value, scale, "AMT")));
+                assertThat(buffer).as("%s scale=%d", sample, scale).isEqualTo(expected);
+
+                BigDecimal decoded = compiled.view(expected).decimal(0, scale);
+                assertThat(decoded).isEqualTo(TelegramCodecSupport.decimal(
+                        layout.decode(expected).get("AMT"), scale, "AMT"));
+            }
+        }
+        assertThatThrownBy(() -> compiled.writer(ByteBuffer.allocate(25), 0).decimal(0, new BigDecimal("-1"), 0))
+                .isInstanceOf(FepProtocolException.class)
+                .hasMessage(catchThrowable(() -> TelegramCodecSupport.digits(new BigDecimal("-1"), 0, "AMT"))
+                        .getMessage());
+        assertThat(compiled.view(layout.encode(Map.of("AMT", ""))).decimal(0, 0)).isEqualTo(BigDecimal.ZERO);
+        assertThat(compiled.view(" ".repeat(25).getBytes(TelegramLayout.EUC_KR)).decimal(0, 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("검증 실패 메시지는 정본과 같다 — 바이트 길이 초과·N 필드 비숫자·전문 길이 불일치")
+    void errorMessagesMatchReference() {
+        Map<String, String> overflow = transferValues();
+        overflow.put(HOLDER_NAME, "홍길동".repeat(4)); // 24바이트 > 20
+        assertSameFailure(overflow, HOLDER_NAME);
+
+        Map<String, String> nonDigit = transferValues();
+        nonDigit.put(AMOUNT, "12a");
+        assertSameFailure(nonDigit, AMOUNT);
+
+        byte[] shortTelegram = new byte[TRANSFER_REQUEST.totalLength() - 1];
+        Throwable expected = catchThrowable(() -> TRANSFER_REQUEST.decode(shortTelegram));
+        assertThatThrownBy(() -> TRANSFER.view(shortTelegram))
+                .isInstanceOf(FepProtocolException.class)
+                .hasMessage(expected.getMessage());
+    }
+
+    @Test
+    @DisplayName("가변 전문: 반복부 필드 오류는 펼친 이름(DETAIL_2_REF_ID)으로 보고한다")
+    void itemErrorsUseExpandedNames() {
+        TelegramSpec spec = CATALOG.spec("BULK_TRANSFER_REQUEST", 1);
+        CompiledTelegramLayout compiled = CompiledTelegramLayout.compile(spec);
+        int refId = compiled.itemField("REF_ID");
+        int count = compiled.field("TOTAL_CNT");
+        String tooLong = "X".repeat(100);
+
+        CompiledTelegramLayout.Writer writer = compiled.writer(ByteBuffer.allocate(compiled.lengthFor(2)), 2)
+                .count(count, "2");
+        Throwable expected = catchThrowable(() -> spec.layoutFor(2).encode(Map.of("DETAIL_2_REF_ID", tooLong)));
+
+        assertThatThrownBy(() -> writer.itemText(1, refId, tooLong))
+                .isInstanceOf(FepProtocolException.class)
+                .hasMessage(expected.getMessage());
+    }
+
+    @Test
+    @DisplayName("가변 전문: 건수 필드 훼손은 정본 readOccurrences 와 같은 메시지로 거부한다")
+    void corruptedCountMatchesSpec() {
+        TelegramSpec spec = CATALOG.spec("BULK_TRANSFER_REQUEST", 1);
+        CompiledTelegramLayout compiled = CompiledTelegramLayout.compile(spec);
+        Map<String, String> values = new HashMap<>();
+        values.put("TOTAL_CNT", "1");
+        byte[] raw = spec.layoutFor(1).encode(values);
+        int countOffset = offsetOf(spec.layoutFor(0), "TOTAL_CNT");
+        raw[countOffset] = 'X';
+
+        Throwable expected = catchThrowable(() -> spec.readOccurrences(raw));
+        assertThatThrownBy(() -> compiled.view(raw))
+                .isInstanceOf(FepProtocolException.class)
+                .hasMessage(expected.getMessage());
+
+        byte[] truncated = Arrays.copyOf(raw, spec.baseLength() - 1);
+        Throwable expectedShort = catchThrowable(() -> spec.readOccurrences(truncated));
+        assertThatThrownBy(() -> compiled.view(truncated)).hasMessage(expectedShort.getMessage());
+    }
+
+    @Test
+    @DisplayName("작성기: 재사용 버퍼의 현재 위치부터 쓰고, 앞 전문의 잔재를 패딩으로 덮는다")
+    void writesAtPositionOverStaleBytes() {
+        Map<String, String> values = transferValues();
+        byte[] expected = TRANSFER_REQUEST.encode(values);
+
+        ByteBuffer buffer = ByteBuffer.allocate(7 + expected.length + 5);
+        Arrays.fill(buffer.array(), (byte) 'Z');
+        buffer.position(7);
+        CompiledTelegramLayout.Writer writer = TRANSFER.writer(buffer, 0);
+        for (int i = 0; i < TRANSFER_REQUEST.fields().size(); i++) {
+            writer.text(i, values.get(TRANSFER_REQUEST.fields().get(i).name()));
+        }
+        writer.finish();
+
+        assertThat(buffer.position()).isEqualTo(7 + expected.length);
+        assertThat(Arrays.copyOfRange(buffer.array(), 7, 7 + expected.length)).isEqualTo(expected);
+        assertThat(buffer.array()[6]).isEqualTo((byte) 'Z');
+        assertThat(buffer.array()[7 + expected.length]).isEqualTo((byte) 'Z');
+    }
+
+    @Test
+    @DisplayName("작성기: 남은 버퍼가 전문보다 작으면 쓰기 전에 거부한다")
+    void rejectsShortBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_REQUEST.totalLength() - 1);
+
+        assertThatThrownBy(() -> TRANSFER.writer(buffer, 0))
+                .isInstanceOf(FepProtocolException.class)
+                .hasMessageContaining("전문 버퍼 공간 부족");
+        assertThat(buffer.position()).isZero();
+    }
+
+    private void assertSameFailure(Map<String, String> values, String failingField) {
+        Throwable expected = catchThrowable(() -> TRANSFER_REQUEST.encode(values));
+        assertThat(expected).isInstanceOf(FepProtocolException.class);
+
+        CompiledTelegramLayout.Writer writer = TRANSFER.writer(
+                ByteBuffer.allocate(TRANSFER_REQUEST.totalLength()), 0);
+        assertThatThrownBy(() -> writer.text(TRANSFER.field(failingField), values.get(failingField)))
+                .isInstanceOf(FepProtocolException.class)
+                .hasMessage(expected.getMessage());
+    }
+
+    private static String sample(Random random, FepField field) {
+        if (random.nextInt(8) == 0) {
+            return "";
+        }
+        if (field.type() == FepFieldType.N) {
+            StringBuilder digits = new StringBuilder();
+            int length = 1 + random.nextInt(field.length());
+            for (int i = 0; i < length; i++) {
+                digits.append((char) ('0' + random.nextInt(10)));
+            }
+            return digits.toString();
+        }
+        StringBuilder text = new StringBuilder();
+        int budget = random.nextInt(field.length() + 1);
+        while (true) {
+            char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            int width = c < 0x80 ? 1 : 2;
+            if (budget < width) break;
+            text.append(c);
+            budget -= width;
+        }
+        return text.toString();
+    }
+
+    private static int offsetOf(TelegramLayout layout, String fieldName) {
+        int offset = 0;
+        for (FepField field : layout.fields()) {
+            if (field.name().equals(fieldName)) return offset;
+            offset += field.length();
+        }
+        throw new IllegalArgumentException(fieldName);
+    }
+}
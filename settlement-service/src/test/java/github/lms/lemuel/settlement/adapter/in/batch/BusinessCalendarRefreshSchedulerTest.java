@@ -0,0 +1,36 @@
+package github.lms.lemuel.settlement.adapter.in.batch;
+
+import github.lms.lemuel.settlement.application.port.in.RefreshBusinessCalendarUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BusinessCalendarRefreshSchedulerTest {
+
+    @Mock RefreshBusinessCalendarUseCase useCase;
+
+    @Test
+    @DisplayName("refresh — 유스케이스에 버전 확인을 맡긴다")
+    void refresh_delegates() {
+        when(useCase.refreshIfChanged()).thenReturn(true);
+
+        new BusinessCalendarRefreshScheduler(useCase).refresh();
+
+        verify(useCase).refreshIfChanged();
+    }
+
+    @Test
+    @DisplayName("DB 실패 — 예외를 삼키고 현재 캘린더를 유지한다(다음 주기에 재시도)")
+    void refresh_failure_swallowed() {
+        when(useCase.refreshIfChanged()).thenThrow(new IllegalStateException("db down"));
+
+        assertThatCode(() -> new BusinessCalendarRefreshScheduler(useCase).refresh()).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,103 @@
+package github.lms.lemuel.settlement.application.service;
+
+import github.lms.lemuel.settlement.application.port.out.LoadHolidayCalendarPort;
+import github.lms.lemuel.settlement.domain.BusinessDayCalculator;
+import github.lms.lemuel.settlement.domain.HolidayCalendarVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshBusinessCalendarServiceTest {
+
+    private static final LocalDate CONFIGURED = LocalDate.of(2026, 4, 29);   // 설정 임시공휴일(수)
+    private static final LocalDate PUBLISHED = LocalDate.of(2026, 6, 3);     // DB 게시 임시공휴일(수)
+
+    @Mock LoadHolidayCalendarPort port;
+
+    @AfterEach
+    void resetProcessDefault() {
+        BusinessDayCalculator.installDefault(BusinessDayCalculator.standard());
+    }
+
+    private RefreshBusinessCalendarService service() {
+        return new RefreshBusinessCalendarService(port, BusinessDayCalculator.withExtraHolidays(Set.of(CONFIGURED)));
+    }
+
+    @Test
+    @DisplayName("새 버전 — 설정 공휴일 ∪ 게시 공휴일로 색인을 다시 만들어 기본 캘린더로 교체한다")
+    void refresh_newVersion_installsMergedCalendar() {
+        RefreshBusinessCalendarService service = service();
+        when(port.latestVersion()).thenReturn(OptionalLong.of(3));
+        when(port.loadLatest()).thenReturn(Optional.of(new HolidayCalendarVersion(3, Set.of(PUBLISHED))));
+
+        assertThat(service.refreshIfChanged()).isTrue();
+
+        assertThat(service.appliedVersion()).isEqualTo(3);
+        assertThat(BusinessDayCalculator.isBusinessDay(PUBLISHED)).isFalse();
+        assertThat(BusinessDayCalculator.isBusinessDay(CONFIGURED)).as("설정 공휴일도 유지").isFalse();
+        assertThat(BusinessDayCalculator.addBusinessDays(LocalDate.of(2026, 6, 2), 1))
+                .isEqualTo(LocalDate.of(2026, 6, 4));
+    }
+
+    @Test
+    @DisplayName("같은 버전 — 목록을 다시 읽지 않고 캘린더도 그대로 둔다")
+    void refresh_sameVersion_skipsLoad() {
+        RefreshBusinessCalendarService service = service();
+        when(port.latestVersion()).thenReturn(OptionalLong.of(3));
+        when(port.loadLatest()).thenReturn(Optional.of(new HolidayCalendarVersion(3, Set.of(PUBLISHED))));
+        service.refreshIfChanged();
+        BusinessDayCalculator installed = BusinessDayCalculator.activeDefault();
+
+        assertThat(service.refreshIfChanged()).isFalse();
+
+        verify(port, times(1)).loadLatest();
+        assertThat(BusinessDayCalculator.activeDefault()).isSameAs(installed);
+    }
+
+    @Test
+    @DisplayName("게시된 버전이 없으면 — 아무 것도 설치하지 않는다(설정 배선 캘린더 유지)")
+    void refresh_noVersion_keepsCurrent() {
+        RefreshBusinessCalendarService service = service();
+        BusinessDayCalculator before = BusinessDayCalculator.activeDefault();
+        when(port.latestVersion()).thenReturn(OptionalLong.empty());
+
+        assertThat(service.refreshIfChanged()).isFalse();
+
+        verify(port, never()).loadLatest();
+        assertThat(BusinessDayCalculator.activeDefault()).isSameAs(before);
+        assertThat(service.appliedVersion()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("버전에서 공휴일이 빠지면 — 새 목록 기준으로 다시 영업일이 된다(증분이 아니라 전체 교체)")
+    void refresh_removedHoliday_becomesBusinessDayAgain() {
+        RefreshBusinessCalendarService service = service();
+        when(port.latestVersion()).thenReturn(OptionalLong.of(3), OptionalLong.of(4));
+        when(port.loadLatest()).thenReturn(
+                Optional.of(new HolidayCalendarVersion(3, Set.of(PUBLISHED))),
+                Optional.of(new HolidayCalendarVersion(4, Set.of())));
+
+        service.refreshIfChanged();
+        assertThat(BusinessDayCalculator.isBusinessDay(PUBLISHED)).isFalse();
+        service.refreshIfChanged();
+
+        assertThat(BusinessDayCalculator.isBusinessDay(PUBLISHED)).isTrue();
+        assertThat(BusinessDayCalculator.isBusinessDay(CONFIGURED)).isFalse();
+        assertThat(service.appliedVersion()).isEqualTo(4);
+    }
+}
@@ -5,7 +5,10 @@ import org.junit.jupiter.api.DisplayName;
 import github.lms.lemuel.settlement.domain.exception.SettlementInvariantViolationException;
 import org.junit.jupiter.api.Test;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -243,4 +246,118 @@ class BusinessDayCalculatorTest {
         assertThat(SettlementCycle.T_PLUS_1.resolveSettlementDate(LocalDate.of(2026, 4, 28)))
                 .isEqualTo(LocalDate.of(2026, 4, 30));
     }
+
+    @Test
+    @DisplayName("businessDaysBetween: [시작, 끝) 영업일 수 — 설 연휴 포함 구간, 같은 날은 0, 역순은 음수")
+    void businessDaysBetween_countsHalfOpenRange() {
+        BusinessDayCalculator standard = BusinessDayCalculator.standard();
+        // 2026-02-09(월) ~ 02-23(월) 직전: 2주 평일 10일 - 설 연휴 3일(02-16~18) = 7
+        assertThat(standard.businessDaysBetween(LocalDate.of(2026, 2, 9), LocalDate.of(2026, 2, 23))).isEqualTo(7);
+        assertThat(BusinessDayCalculator.countBusinessDays(LocalDate.of(2026, 2, 9), LocalDate.of(2026, 2, 23)))
+                .isEqualTo(7);
+        assertThat(standard.businessDaysBetween(LocalDate.of(2026, 2, 9), LocalDate.of(2026, 2, 9))).isZero();
+        assertThat(standard.businessDaysBetween(LocalDate.of(2026, 2, 23), LocalDate.of(2026, 2, 9))).isEqualTo(-7);
+    }
+
+    @Test
+    @DisplayName("연도 경계: 연말 결제 + N 영업일이 신정을 건너 다음 해로 넘어가고, 구간 수도 연도를 가로질러 센다")
+    void yearBoundary_addAndCountAcrossNewYear() {
+        BusinessDayCalculator standard = BusinessDayCalculator.standard();
+        // 2026-12-31(목) + 1 → 01-01(금) 신정 → 2027-01-04(월)
+        assertThat(standard.addBusinessDaysFrom(LocalDate.of(2026, 12, 31), 1)).isEqualTo(LocalDate.of(2027, 1, 4));
+        // 2026-12-30(수) ~ 2027-01-05(화) 직전: 12-30, 12-31, 01-04 = 3
+        assertThat(standard.businessDaysBetween(LocalDate.of(2026, 12, 30), LocalDate.of(2027, 1, 5))).isEqualTo(3);
+        // 1년 이상 건너뛰기 — 250 영업일 뒤에도 naive 와 같다.
+        assertThat(standard.addBusinessDaysFrom(LocalDate.of(2026, 3, 2), 250))
+                .isEqualTo(naiveAdd(standard, LocalDate.of(2026, 3, 2), 250));
+    }
+
+    @Test
+    @DisplayName("색인 범위 밖 연도(1999·2100)도 같은 규칙으로 계산한다 — 즉석 색인")
+    void outOfIndexYears_stillComputed() {
+        BusinessDayCalculator standard = BusinessDayCalculator.standard();
+        // 1999-12-31(금) + 1 → 2000-01-01(토) 신정·주말 → 01-03(월)
+        assertThat(standard.addBusinessDaysFrom(LocalDate.of(1999, 12, 31), 1)).isEqualTo(LocalDate.of(2000, 1, 3));
+        // 2099-12-31(목) + 1 → 2100-01-01(금) 신정 → 01-04(월)
+        assertThat(standard.addBusinessDaysFrom(LocalDate.of(2099, 12, 31), 1)).isEqualTo(LocalDate.of(2100, 1, 4));
+        assertThat(standard.isBusinessDayOn(LocalDate.of(2100, 3, 1))).as("삼일절").isFalse();
+        assertThat(standard.businessDaysBetween(LocalDate.of(2099, 12, 28), LocalDate.of(2100, 1, 8)))
+                .isEqualTo(naiveCount(standard, LocalDate.of(2099, 12, 28), LocalDate.of(2100, 1, 8)));
+    }
+
+    @Test
+    @DisplayName("색인 범위 밖 연도는 한 번 만든 색인을 재사용하고, 담는 해 수에 상한이 있다")
+    void outOfIndexYears_cachedUpToLimit() {
+        BusinessDayCalculator calendar = new BusinessDayCalculator(Set.of(LocalDate.of(2150, 6, 1)));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(calendar.isBusinessDayOn(LocalDate.of(2150, 6, 1))).as("주입된 추가 공휴일").isFalse();
+        }
+        assertThat(calendar.cachedOutOfRangeYears()).isEqualTo(1);
+
+        for (int year = 2200; year < 2400; year++) {
+            assertThat(calendar.isBusinessDayOn(LocalDate.of(year, 3, 1))).as("%d 삼일절", year).isFalse();
+        }
+        assertThat(calendar.cachedOutOfRangeYears()).isEqualTo(64);
+        // 상한에 닿은 뒤에도 계산은 같다 — 담지 않을 뿐이다.
+        assertThat(calendar.addBusinessDaysFrom(LocalDate.of(2399, 12, 31), 1))
+                .isEqualTo(naiveAdd(calendar, LocalDate.of(2399, 12, 31), 1));
+    }
+
+    @Test
+    @DisplayName("동등성: 임의 추가 공휴일·시작일·N 에서 색인 결과가 하루씩 걷는 계산과 같다")
+    void index_matchesNaiveDayWalk() {
+        Random random = new Random(20261019L);
+        Set<LocalDate> extras = new HashSet<>();
+        for (int i = 0; i < 40; i++) {
+            extras.add(LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365 * 4)));
+        }
+        BusinessDayCalculator calendar = BusinessDayCalculator.withExtraHolidays(extras);
+
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate from = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365 * 4));
+            int n = random.nextInt(40);
+            assertThat(calendar.addBusinessDaysFrom(from, n)).as("from=%s n=%d", from, n)
+                    .isEqualTo(naiveAdd(calendar, from, n));
+            LocalDate to = from.plusDays(random.nextInt(800));
+            assertThat(calendar.businessDaysBetween(from, to)).as("[%s, %s)", from, to)
+                    .isEqualTo(naiveCount(calendar, from, to));
+        }
+    }
+
+    /** 색인 도입 전 방식 — 하루씩 걸으며 영업일을 센다. 비교 기준. */
+    private static LocalDate naiveAdd(BusinessDayCalculator calendar, LocalDate from, int n) {
+        int target = Math.max(n, 1);
+        if (n == 0 && calendar.isBusinessDayOn(from)) {
+            return from;
+        }
+        LocalDate date = from;
+        int added = 0;
+        while (added < target) {
+            date = date.plusDays(1);
+            if (naiveIsBusinessDay(calendar, date)) {
+                added++;
+            }
+        }
+        return date;
+    }
+
+    private static long naiveCount(BusinessDayCalculator calendar, LocalDate start, LocalDate end) {
+        long count = 0;
+        for (LocalDate d = start; d.isBefore(end); d = d.plusDays(1)) {
+            if (naiveIsBusinessDay(calendar, d)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** 주말·추가 공휴일은 직접 판정하고, 상수 공휴일만 표준 캘린더에 묻는다(그 판정은 위의 날짜별 테스트가 고정). */
+    private static boolean naiveIsBusinessDay(BusinessDayCalculator calendar, LocalDate date) {
+        DayOfWeek dow = date.getDayOfWeek();
+        if (dow == DayOfWeek.SATURDAY || dow == DayOfWeek.SUNDAY) {
+            return false;
+        }
+        return !calendar.extraHolidays().contains(date) && BusinessDayCalculator.standard().isBusinessDayOn(date);
+    }
 }
@@ -6,6 +6,8 @@ plugins {
     `maven-publish`
     id("io.spring.dependency-management") version "1.1.7"
     jacoco
+    // 마이크로벤치마크 — src/jmh/java. ./gradlew -p shared-common jmh, 회귀 비교는 jmhCompare (수동 실행)
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 // -parameters: 메서드 파라미터 이름을 바이트코드에 보존한다 — 루트 build.gradle.kts 의 subprojects 설정과 동일하게.
@@ -31,6 +33,22 @@ java {
     withSourcesJar()
 }
 
+// ── 수집 배치 지원 (기능 변형 batch) ─────────────────────────────────────────────────
+// 외부 API 수집·적재 배치가 함께 쓰는 작은 도우미(src/batch/java — 호출 간격, 다중 행 upsert).
+// 본체(JWT·Outbox·Kafka·자동 구성)를 의도적으로 물지 않는 서비스(economics·financial-statements·common-data)도
+// 쓰도록 본체와 분리된 jar 로 낸다.
+// testFixtures 와 같은 기능 변형이라 이 capability 만 요구하면 본체 의존은 따라오지 않는다:
+//   implementation("github.lms.lemuel:shared-common:1.0.0") {
+//       capabilities { requireCapability("github.lms.lemuel:shared-common-batch") }
+//   }
+val batch: SourceSet by sourceSets.creating
+java {
+    registerFeature("batch") {
+        usingSourceSet(batch)
+        withSourcesJar()
+    }
+}
+
 dependencies {
     // Spring Boot 의 BOM 을 사용하기 위해 dependency-management 만 적용 (boot plugin 자체는 X — 라이브러리 모듈)
     // ⚠ 루트 build.gradle.kts 의 org.springframework.boot 플러그인 버전과 같은 값을 유지할 것 —
@@ -130,7 +148,12 @@ dependencies {
     testFixturesImplementation("com.networknt:json-schema-validator:1.5.6")
     testFixturesImplementation("com.fasterxml.jackson.core:jackson-databind")
 
+    // 수집 배치 지원 — 본체와 같은 BOM 을 따른다.
+    "batchApi"(platform("org.springframework.boot:spring-boot-dependencies:4.0.7"))
+    "batchApi"("org.springframework:spring-jdbc")
+
     // 테스트
+    testImplementation(batch.output)
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.boot:spring-boot-starter-data-jpa-test")
     testImplementation("org.springframework.boot:spring-boot-starter-jackson-test")
@@ -147,6 +170,110 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testRuntimeOnly("org.postgresql:postgresql:42.7.3")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // TwoTierCacheBenchmark 용 — compileOnly 인 redis 타입을 벤치마크 클래스패스에 올린다(L2 는 메모리 맵).
+    jmhImplementation("org.springframework.boot:spring-boot-starter-data-redis")
+}
+
+// ── 마이크로벤치마크 ─────────────────────────────────────────────────────────────
+// 결과는 build/results/jmh/results.json. 측정 수치는 로컬 머신 기준이라 CI 에서 돌리지 않는다.
+jmh {
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    // Spring·Redis 클라이언트까지 담은 fat jar 는 항목이 65,535 개를 넘는다.
+    zip64.set(true)
+}
+
+// 회귀 게이트 — 커밋된 기준선(src/jmh/baseline.json, JMH JSON 결과 그대로)과 이번 결과를 벤치마크+@Param 단위로
+// 비교해 임계 % 를 넘게 나빠진 항목이 있으면 실패한다. 측정 오차(scoreError 합)보다 작은 차이는 회귀로 치지 않는다.
+// 수치는 머신 의존이라 기준선은 반드시 같은 기준 러너에서 jmhBaseline 으로 갱신해 커밋한다.
+// 기준선이 없거나 비었거나 이번 결과와 겹치는 항목이 하나도 없으면 비교 자체가 안 되므로 통과가 아니라 실패다.
+// JIT·GC 가 JDK 마다 달라 기준선의 jdkVersion 이 이번 실행과 다르면 역시 실패한다 — 빌드 toolchain(25)을 올리면
+// 기준 러너에서 jmhBaseline 을 다시 돌려 커밋할 것. 참고용 비교만 필요하면 -Pjmh.allowJdkMismatch=true 로 경고만 남긴다.
+//   ./gradlew -p shared-common jmhCompare -Pjmh.regressionThresholdPercent=10
+val jmhBaselineFile = layout.projectDirectory.file("src/jmh/baseline.json")
+val jmhResultsFile = layout.buildDirectory.file("results/jmh/results.json")
+
+tasks.register<Copy>("jmhBaseline") {
+    group = "benchmark"
+    description = "이번 JMH 결과를 기준선(src/jmh/baseline.json)으로 덮어쓴다."
+    dependsOn(tasks.named("jmh"))
+    from(jmhResultsFile)
+    into(jmhBaselineFile.asFile.parentFile)
+    rename { jmhBaselineFile.asFile.name }
+}
+
+tasks.register("jmhCompare") {
+    group = "verification"
+    description = "JMH 결과를 기준선과 비교해 임계 % 를 넘는 회귀가 있으면 실패한다."
+    dependsOn(tasks.named("jmh"))
+    val baselineFile = jmhBaselineFile.asFile
+    val resultsFile = jmhResultsFile.map { it.asFile }
+    val thresholdPercent = providers.gradleProperty("jmh.regressionThresholdPercent").map(String::toDouble).orElse(10.0)
+    val allowJdkMismatch = providers.gradleProperty("jmh.allowJdkMismatch").map(String::toBoolean).orElse(false)
+    // 기준선 누락은 입력 검증 오류 대신 아래에서 원인을 밝혀 실패시킨다.
+    inputs.files(baselineFile)
+    inputs.file(resultsFile)
+    doLast {
+        @Suppress("UNCHECKED_CAST")
+        fun load(file: File): Map<String, Map<String, Any?>> =
+            (groovy.json.JsonSlurper().parse(file) as List<Map<String, Any?>>).associateBy { run ->
+                val params = (run["params"] as Map<String, Any?>?).orEmpty().toSortedMap().entries
+                    .joinToString(",") { "${it.key}=${it.value}" }
+                if (params.isEmpty()) "${run["benchmark"]}" else "${run["benchmark"]}[$params]"
+            }
+        // JMH 는 오차를 못 구하면 "NaN" 문자열을 쓴다 — 0 으로 본다.
+        fun number(value: Any?): Double = (value as? Number)?.toDouble()?.takeUnless { it.isNaN() } ?: 0.0
+
+        if (!baselineFile.isFile || baselineFile.length() == 0L) {
+            throw GradleException("jmhCompare: 기준선 파일이 없다 — 기준 러너에서 jmhBaseline 으로 만들어 커밋할 것: $baselineFile")
+        }
+        val threshold = thresholdPercent.get()
+        val baseline = load(baselineFile)
+        if (baseline.isEmpty()) {
+            throw GradleException("jmhCompare: 기준선이 비었다 — 기준 러너에서 jmhBaseline 으로 갱신해 커밋할 것: $baselineFile")
+        }
+        val results = load(resultsFile.get())
+        val baselineJdks = baseline.values.map { it["jdkVersion"] }.toSortedSet(compareBy { "$it" })
+        val currentJdks = results.values.map { it["jdkVersion"] }.toSortedSet(compareBy { "$it" })
+        if (baselineJdks != currentJdks) {
+            val message = "jmhCompare: 기준선 JDK $baselineJdks 와 이번 실행 JDK $currentJdks 가 다르다 — " +
+                "이번 JDK 의 기준 러너에서 jmhBaseline 으로 갱신해 커밋할 것: $baselineFile"
+            if (!allowJdkMismatch.get()) throw GradleException(message)
+            logger.warn("$message (jmh.allowJdkMismatch=true — 참고용 비교)")
+        }
+        val regressions = mutableListOf<String>()
+        var compared = 0
+        results.forEach { (key, run) ->
+            @Suppress("UNCHECKED_CAST")
+            val current = run["primaryMetric"] as Map<String, Any?>
+            @Suppress("UNCHECKED_CAST")
+            val base = baseline[key]?.get("primaryMetric") as Map<String, Any?>?
+            if (base == null || base["scoreUnit"] != current["scoreUnit"]) {
+                logger.warn("jmhCompare: 기준선 없음(또는 단위 변경) — $key")
+                return@forEach
+            }
+            val before = number(base["score"])
+            val after = number(current["score"])
+            if (before == 0.0) return@forEach
+            compared++
+            // thrpt 는 클수록 좋고 avgt/sample/ss 는 작을수록 좋다 — 나빠진 방향을 양수로 맞춘다.
+            val worse = if (run["mode"] == "thrpt") before - after else after - before
+            val percent = worse / before * 100
+            val noise = number(base["scoreError"]) + number(current["scoreError"])
+            val line = "%s: %.3f → %.3f %s (%+.1f%%)".format(key, before, after, current["scoreUnit"], percent)
+            if (percent > threshold && worse > noise) regressions += line else logger.lifecycle("jmhCompare: $line")
+        }
+        if (compared == 0) {
+            throw GradleException("jmhCompare: 기준선과 겹치는 벤치마크가 없다 — 기준선이 낡았으면 jmhBaseline 으로 갱신할 것")
+        }
+        if (regressions.isNotEmpty()) {
+            throw GradleException(
+                "벤치마크 회귀 ${regressions.size}건 (임계 $threshold%):\n" + regressions.joinToString("\n") { "  $it" })
+        }
+    }
 }
 
 // ── 발행 (버전드 내부 라이브러리) ───────────────────────────────────────────────
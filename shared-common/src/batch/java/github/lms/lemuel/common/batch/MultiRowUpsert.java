@@ -0,0 +1,102 @@
+package github.lms.lemuel.common.batch;
+
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 다중 행 {@code INSERT ... VALUES (..), (..) ... ON CONFLICT} upsert — 배치 적재 어댑터들이 함께 쓴다.
+ *
+ * <p>문장은 {@code head + row ×n (", " 구분) + tail} 로 만든다. 어댑터는 테이블·충돌 키·갱신 규칙(head/tail),
+ * 행 자리표시자(row)와 행을 바인딩 값으로 펴는 법만 정한다.
+ *
+ * <ul>
+ *   <li><b>잠금 순서</b> — 행을 {@code lockOrder}(충돌 키 순)로 정렬해 넣는다. 겹치는 키를 여러 트랜잭션이
+ *       동시에 써도 같은 순서로 행을 잠가 교착이 생기지 않는다.</li>
+ *   <li><b>문장 나누기</b> — 한 문장에 {@code rowsPerStatement} 행까지. 행당 파라미터 수 × 행 수가
+ *       PostgreSQL 바인딩 상한({@value #MAX_BIND_PARAMETERS})을 넘는 설정은 생성 시점에 거부한다.</li>
+ *   <li>한 문장 안에 같은 충돌 키가 두 번 있으면 PostgreSQL 이 거부하므로 중복 키는 호출자가 미리 걸러 보낸다.</li>
+ * </ul>
+ *
+ * <p>상태가 없어 어댑터의 상수로 두고 공유한다. 트랜잭션 경계는 호출하는 어댑터의 것이다.
+ *
+ * @param <T> 한 행이 되는 값
+ */
+public final class MultiRowUpsert<T> {
+
+    /** PostgreSQL 확장 질의 프로토콜의 바인드 파라미터 상한(Int16). */
+    public static final int MAX_BIND_PARAMETERS = Short.MAX_VALUE;
+
+    private final String head;
+    private final String row;
+    private final String tail;
+    private final int parametersPerRow;
+    private final int rowsPerStatement;
+    private final Comparator<? super T> lockOrder;
+    private final BiConsumer<? super T, List<Object>> binder;
+    private final String fullStatement;
+
+    /**
+     * @param head             {@code INSERT INTO t AS a (..) VALUES } 까지 (끝 공백 포함)
+     * @param row              행 자리표시자, 예: {@code (?, ?, NOW())}
+     * @param tail             {@code ON CONFLICT ...} 절 (앞 공백 포함)
+     * @param rowsPerStatement 한 문장의 최대 행 수
+     * @param lockOrder        충돌 키 순 정렬
+     * @param binder           행 하나의 값을 자리표시자 순서대로 목록에 더한다
+     */
+    public MultiRowUpsert(String head, String row, String tail, int rowsPerStatement,
+                          Comparator<? super T> lockOrder, BiConsumer<? super T, List<Object>> binder) {
+        this.parametersPerRow = (int) row.chars().filter(c -> c == '?').count();
+        if (rowsPerStatement <= 0 || (long) parametersPerRow * rowsPerStatement > MAX_BIND_PARAMETERS) {
+            throw new IllegalArgumentException("문장당 바인딩 파라미터가 상한(%d)을 넘습니다: %d행 × %d개"
+                    .formatted(MAX_BIND_PARAMETERS, rowsPerStatement, parametersPerRow));
+        }
+        this.head = head;
+        this.row = row;
+        this.tail = tail;
+        this.rowsPerStatement = rowsPerStatement;
+        this.lockOrder = lockOrder;
+        this.binder = binder;
+        this.fullStatement = sql(rowsPerStatement);
+    }
+
+    /** 정렬·분할해 upsert 하고 영향 행 수 합을 돌려준다(갱신 조건에 걸려 건너뛴 행은 세지 않는다). */
+    public int execute(JdbcOperations jdbc, List<? extends T> rows) {
+        List<? extends T> sorted = rows.stream().sorted(lockOrder).toList();
+        int affected = 0;
+        for (int from = 0; from < sorted.size(); from += rowsPerStatement) {
+            List<? extends T> chunk = sorted.subList(from, Math.min(from + rowsPerStatement, sorted.size()));
+            String sql = chunk.size() == rowsPerStatement ? fullStatement : sql(chunk.size());
+            affected += jdbc.update(sql, parameters(chunk));
+        }
+        return affected;
+    }
+
+    /** {@code rows} 행짜리 문장. */
+    public String sql(int rows) {
+        StringBuilder sql = new StringBuilder(head.length() + rows * (row.length() + 2) + tail.length()).append(head);
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append(row);
+        }
+        return sql.append(tail).toString();
+    }
+
+    public int rowsPerStatement() {
+        return rowsPerStatement;
+    }
+
+    private Object[] parameters(List<? extends T> chunk) {
+        List<Object> args = new ArrayList<>(chunk.size() * parametersPerRow);
+        for (T value : chunk) {
+            binder.accept(value, args);
+        }
+        if (args.size() != chunk.size() * parametersPerRow) {
+            throw new IllegalStateException("바인딩 값 수가 자리표시자와 다릅니다: 값 %d개, 자리표시자 %d개"
+                    .formatted(args.size(), chunk.size() * parametersPerRow));
+        }
+        return args.toArray();
+    }
+}
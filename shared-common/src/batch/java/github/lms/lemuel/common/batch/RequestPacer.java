@@ -0,0 +1,43 @@
+package github.lms.lemuel.common.batch;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 워커가 나눠 쓰는 호출 간격 — 다음 호출 시각(슬롯)을 차례로 나눠 주고, 받은 슬롯까지는 락 밖에서 잔다.
+ *
+ * <p>워커가 몇이든 호출 시작 사이가 {@code interval} 아래로 좁혀지지 않는다. 그래서 외부 API(ECOS·DART 등)
+ * 초당 호출 수는 직렬로 돌던 때의 상한(1초 / 간격)을 넘지 않고, 동시성은 응답 대기 시간만 겹친다.
+ */
+public final class RequestPacer {
+
+    private final long intervalNanos;
+    private long nextSlotNanos;   // guarded by this
+
+    public RequestPacer(long intervalMs) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, intervalMs));
+        this.nextSlotNanos = System.nanoTime();
+    }
+
+    /** 내 차례가 올 때까지 기다린다. 기다리는 중 인터럽트되면 인터럽트 플래그를 되살리고 IllegalStateException. */
+    public void acquire() {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSlotNanos);
+            nextSlotNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("동기화 스레드 인터럽트", e);
+        }
+    }
+}
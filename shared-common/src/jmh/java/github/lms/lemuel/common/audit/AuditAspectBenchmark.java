@@ -0,0 +1,166 @@
+package github.lms.lemuel.common.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import github.lms.lemuel.common.audit.application.AsyncAuditWriter;
+import github.lms.lemuel.common.audit.application.AuditAspect;
+import github.lms.lemuel.common.audit.application.AuditDetailSerializer;
+import github.lms.lemuel.common.audit.application.AuditLogger;
+import github.lms.lemuel.common.audit.application.Auditable;
+import github.lms.lemuel.common.audit.application.port.out.SaveAuditLogPort;
+import github.lms.lemuel.common.audit.domain.AuditAction;
+import github.lms.lemuel.common.audit.domain.AuditLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code @Auditable} 한 번의 호출 비용 — 감사 없는 호출, 비동기 기록(기본), 동기 기록(critical).
+ *
+ * <p>저장 포트는 아무 것도 하지 않는다. 그러므로 동기/비동기의 차이는 "큐에 넣기 vs 호출 스레드에서
+ * 트랜잭션 열고 저장" 의 앱 측 비용만이고, 실제 운영에서 사라진 DB 커밋 왕복(수 ms)은 여기 잡히지
+ * 않는다 — 그 몫은 부하 테스트가 본다. SpEL 두 벤치는 식 파싱 캐시·컴파일의 효과만 따로 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AuditAspectBenchmark {
+
+    private static final String RESOURCE_ID = "#p0";
+    private static final String DETAIL = "{'amount': #p1, 'memo': #p2}";
+
+    public static class Target {
+
+        public String plain(String id, long amount, String memo) {
+            return id;
+        }
+
+        @Auditable(action = AuditAction.SETTLEMENT_CONFIRMED, resourceType = "Settlement",
+                resourceId = RESOURCE_ID, detail = DETAIL)
+        public String audited(String id, long amount, String memo) {
+            return id;
+        }
+
+        @Auditable(action = AuditAction.SETTLEMENT_CONFIRMED, resourceType = "Settlement",
+                resourceId = RESOURCE_ID, detail = DETAIL, critical = true)
+        public String auditedCritical(String id, long amount, String memo) {
+            return id;
+        }
+    }
+
+    /** 커밋·롤백이 아무 일도 하지 않는 트랜잭션 매니저 — TransactionTemplate 의 앱 측 비용만 남긴다. */
+    static final class NoopTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    static final class NoopPort implements SaveAuditLogPort {
+        @Override
+        public AuditLog save(AuditLog log) {
+            return log;
+        }
+
+        @Override
+        public void saveAll(List<AuditLog> logs) {
+        }
+    }
+
+    private AsyncAuditWriter writer;
+    private Target plain;
+    private Target proxied;
+
+    private final ExpressionParser interpreted = new SpelExpressionParser();
+    private Expression compiledDetail;
+    private StandardEvaluationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SaveAuditLogPort port = new NoopPort();
+        writer = new AsyncAuditWriter(port, new ObjectMapper(), true, 1 << 20, 500,
+                Duration.ofMillis(50), Files.createTempDirectory("audit-bench-spill"), Duration.ofMinutes(5),
+                true, 10_000);
+        writer.start();
+        AuditLogger logger = new AuditLogger(port, writer, new NoopTransactionManager());
+
+        plain = new Target();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Target());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new AuditAspect(logger, new AuditDetailSerializer(new ObjectMapper())));
+        proxied = factory.getProxy();
+
+        ExpressionParser compiling = new SpelExpressionParser(
+                new SpelParserConfiguration(SpelCompilerMode.MIXED, getClass().getClassLoader()));
+        compiledDetail = compiling.parseExpression(DETAIL);
+        context = new StandardEvaluationContext();
+        context.setVariable("p0", "S-1001");
+        context.setVariable("p1", 125_000L);
+        context.setVariable("p2", "정산 확정");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        writer.stop();
+    }
+
+    @Benchmark
+    public String noAudit() {
+        return plain.plain("S-1001", 125_000L, "정산 확정");
+    }
+
+    @Benchmark
+    public String auditedAsync() {
+        return proxied.audited("S-1001", 125_000L, "정산 확정");
+    }
+
+    @Benchmark
+    public String auditedCritical() {
+        return proxied.auditedCritical("S-1001", 125_000L, "정산 확정");
+    }
+
+    /** 예전 AuditAspect 의 식 평가 — 호출마다 파싱. */
+    @Benchmark
+    public Object spelParsePerCall() {
+        return interpreted.parseExpression(DETAIL).getValue(context, Map.class);
+    }
+
+    /** 지금의 식 평가 — 파싱은 한 번, 컴파일 가능한 식이면 몇 번 뒤 바이트코드로 평가(AuditAspect 와 같은 MIXED). */
+    @Benchmark
+    public Object spelCachedCompiled() {
+        return compiledDetail.getValue(context, Map.class);
+    }
+}
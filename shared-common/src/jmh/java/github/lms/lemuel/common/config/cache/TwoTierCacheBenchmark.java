@@ -0,0 +1,106 @@
+package github.lms.lemuel.common.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 2-tier 캐시 조회 한 번의 로컬 비용(ns/lookup) — 상품·카테고리 조회가 요청마다 타는 경로.
+ *
+ * <p>운영 배선 그대로 메트릭 레지스트리와 L2 CircuitBreaker 를 붙인다. L2 는 메모리 맵으로 바꿨으므로
+ * {@code l2Hit} 은 네트워크 왕복을 뺀 나머지(키 문자열화·CircuitBreaker·L1 승격·카운터)만 잰다.
+ * {@code l1Hit} 이 요청 대부분의 비용이고, {@code loaderHit} 은 {@code @Cacheable} 이 부르는
+ * {@code get(key, loader)} 경로다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TwoTierCacheBenchmark {
+
+    private static final int KEYS = 500;
+
+    private TwoTierCache cache;
+    private Long[] keys;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> l2Store = new ConcurrentHashMap<>();
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> l1 =
+                Caffeine.newBuilder().maximumSize(KEYS).expireAfterWrite(Duration.ofSeconds(60)).build();
+        cache = new TwoTierCache("products", l1, inMemoryRedis(l2Store),
+                Duration.ofMinutes(10),
+                new CacheInvalidationPublisher(new StringRedisTemplate(), "cache-node-bench"),
+                true,
+                new SimpleMeterRegistry(),
+                CircuitBreaker.ofDefaults("cache-l2"));
+        keys = new Long[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = 5_000L + i;
+            String value = "{\"id\":" + keys[i] + ",\"name\":\"상품 " + i + "\",\"price\":\"45000.00\"}";
+            // L1·L2 둘 다 채운다(put 은 Pub/Sub 발행까지 하므로 여기서는 직접 넣는다).
+            l1.put(String.valueOf(keys[i]), value);
+            l2Store.put("products::" + keys[i], value);
+        }
+    }
+
+    private Long nextKey() {
+        cursor = (cursor + 1) % KEYS;
+        return keys[cursor];
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper l1Hit() {
+        return cache.get(nextKey());
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper l2Hit() {
+        Long key = nextKey();
+        cache.evictLocal(String.valueOf(key));
+        return cache.get(key);
+    }
+
+    @Benchmark
+    public Object loaderHit() {
+        return cache.get(nextKey(), () -> "never");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, Object> inMemoryRedis(Map<String, Object> store) {
+        ValueOperations<String, Object> ops = (ValueOperations<String, Object>) Proxy.newProxyInstance(
+                ValueOperations.class.getClassLoader(), new Class<?>[]{ValueOperations.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> store.get((String) args[0]);
+                    case "set" -> {
+                        store.put((String) args[0], args[1]);
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return new RedisTemplate<>() {
+            @Override
+            public ValueOperations<String, Object> opsForValue() {
+                return ops;
+            }
+        };
+    }
+}
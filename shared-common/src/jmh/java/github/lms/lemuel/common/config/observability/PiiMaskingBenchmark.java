@@ -0,0 +1,132 @@
+package github.lms.lemuel.common.config.observability;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로그 한 줄당 PII 마스킹 비용(ns/line) — 단일 순회 스캐너 vs 예전 정규식 3회 치환.
+ *
+ * <p>줄 구성은 운영 로그를 흉내 낸다: 대부분은 PII 가 없는 줄(타임스탬프·id·금액·traceId),
+ * 일부가 이메일·전화·카드를 담는다. {@code clean*} 은 PII 없는 줄만, {@code mixed*} 는 섞인 전체다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PiiMaskingBenchmark {
+
+    private static final String[] CLEAN = {
+            "payment created successfully paymentId=42 amount=50000",
+            "settlement batch finished rows=1200 elapsed=834ms traceId=4bf92f3577b34da6a3ce929d0e0e4736",
+            "GET /api/orders/1009 200 12ms [http-nio-8080-exec-3]",
+            "outbox published topic=payment.captured key=PAY-20261019-000123 partition=3 offset=88172",
+            "ledger invariant ok accounts=17 debit=1250000 credit=1250000 at 2026-10-19 09:30:15",
+            "재고 차감 완료 productId=5512 qty=3 잔여=118",
+            "cache miss key=product:5512 fallback=db latency=4ms",
+            "scheduler lock acquired name=payment-expiry lockAtMostFor=PT20M",
+    };
+
+    private static final String[] MIXED = {
+            CLEAN[0], CLEAN[1], CLEAN[2], CLEAN[3],
+            "signup email=john.doe@corp.co.kr phone=010-9999-0000",
+            CLEAN[4], CLEAN[5],
+            "card authorized 4111-1111-1111-1111 amount=45000 merchant=테스트가맹점",
+            CLEAN[6], CLEAN[7],
+    };
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void cleanScanner(Blackhole bh) {
+        for (String line : CLEAN) {
+            bh.consume(PIIMaskingConverter.mask(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void cleanLegacyRegex(Blackhole bh) {
+        for (String line : CLEAN) {
+            bh.consume(LegacyRegexMasker.mask(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10)
+    public void mixedScanner(Blackhole bh) {
+        for (String line : MIXED) {
+            bh.consume(PIIMaskingConverter.mask(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10)
+    public void mixedLegacyRegex(Blackhole bh) {
+        for (String line : MIXED) {
+            bh.consume(LegacyRegexMasker.mask(line));
+        }
+    }
+
+    /** 단일 순회 스캐너로 바꾸기 전의 구현 그대로 — 비교 기준선. */
+    static final class LegacyRegexMasker {
+
+        private static final Pattern EMAIL_PATTERN =
+                Pattern.compile("([A-Za-z0-9._%+-])[A-Za-z0-9._%+-]*@([A-Za-z0-9.-])[A-Za-z0-9.-]*(\\.[A-Za-z]{2,})");
+        private static final Pattern PHONE_PATTERN =
+                Pattern.compile("(01[016789])-?(\\d{3,4})-?(\\d{4})");
+        private static final Pattern CARD_PATTERN =
+                Pattern.compile("\\b(\\d{4}[- ]?\\d{4}[- ]?\\d{4}[- ]?\\d{4})\\b");
+
+        static String mask(String input) {
+            if (input == null || input.isEmpty()) return input;
+            String result = input;
+            result = maskEmails(result);
+            result = maskPhones(result);
+            result = maskCards(result);
+            return result;
+        }
+
+        private static String maskEmails(String s) {
+            Matcher m = EMAIL_PATTERN.matcher(s);
+            StringBuilder out = new StringBuilder();
+            while (m.find()) {
+                String replacement = m.group(1) + "***@" + m.group(2) + "***" + m.group(3);
+                m.appendReplacement(out, Matcher.quoteReplacement(replacement));
+            }
+            m.appendTail(out);
+            return out.toString();
+        }
+
+        private static String maskPhones(String s) {
+            Matcher m = PHONE_PATTERN.matcher(s);
+            StringBuilder out = new StringBuilder();
+            while (m.find()) {
+                String replacement = m.group(1) + "-****-" + m.group(3);
+                m.appendReplacement(out, Matcher.quoteReplacement(replacement));
+            }
+            m.appendTail(out);
+            return out.toString();
+        }
+
+        private static String maskCards(String s) {
+            Matcher m = CARD_PATTERN.matcher(s);
+            StringBuilder out = new StringBuilder();
+            while (m.find()) {
+                String raw = m.group(1).replaceAll("[- ]", "");
+                String bin = raw.substring(0, 6);
+                String last = raw.substring(raw.length() - 4);
+                m.appendReplacement(out, Matcher.quoteReplacement(bin + "*".repeat(raw.length() - 10) + last));
+            }
+            m.appendTail(out);
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package github.lms.lemuel.common.ledger;
+
+import github.lms.lemuel.common.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분개 생성 때마다 도는 균형 불변식 검사 — 정산 배치 한 번에 {@code size} 전표를 만드는 경로를 흉내 낸다.
+ *
+ * <p>전표마다 금액 정규화·양수 검사({@link LedgerInvariants#requirePositiveAmount})와 차변·대변 계정
+ * 검사({@link LedgerInvariants#requireDistinctAccounts})를 한 번씩 하고, 정규화된 금액을 합산한다.
+ * 예외 공급자는 정상 경로에서 호출되지 않으므로 람다 생성 비용만 남는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LedgerInvariantsBenchmark {
+
+    enum Account { CASH, SELLER_PAYABLE, COMMISSION_REVENUE, REFUND_PAYABLE, WITHHOLDING_TAX }
+
+    @Param({"1000"})
+    public int size;
+
+    private BigDecimal[] amounts;
+    private Account[] debits;
+    private Account[] credits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Account[] accounts = Account.values();
+        amounts = new BigDecimal[size];
+        debits = new Account[size];
+        credits = new Account[size];
+        for (int i = 0; i < size; i++) {
+            long won = 100 + random.nextInt(2_000_000);
+            // 수수료·원천징수 분개는 원 미만 단위가 붙어 들어온다(정규화 대상).
+            amounts[i] = i % 4 == 0 ? BigDecimal.valueOf(won * 1000 + random.nextInt(1000), 3) : BigDecimal.valueOf(won);
+            int debit = random.nextInt(accounts.length);
+            debits[i] = accounts[debit];
+            credits[i] = accounts[(debit + 1 + random.nextInt(accounts.length - 1)) % accounts.length];
+        }
+    }
+
+    @Benchmark
+    public BigDecimal journalBatch() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < size; i++) {
+            LedgerInvariants.requireDistinctAccounts(debits[i], credits[i],
+                    () -> new IllegalStateException("차변·대변 계정이 같습니다"));
+            Money amount = LedgerInvariants.requirePositiveAmount(amounts[i],
+                    () -> new IllegalArgumentException("금액은 양수여야 합니다"));
+            total = total.plus(amount);
+        }
+        return total.toBigDecimal();
+    }
+}
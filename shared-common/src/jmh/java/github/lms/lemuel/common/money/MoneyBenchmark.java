@@ -0,0 +1,117 @@
+package github.lms.lemuel.common.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정산 수수료 계산 묶음 — {@code Settlement} 가 건마다 하는 "수수료 = 결제액 × 요율, 순액 = 결제액 − 수수료"
+ * 와 원천징수(3.3%)를 {@code size} 건 돌리고 합계를 낸다.
+ *
+ * <p>{@code legacy*} 는 long 표현 이전의 record 구현(매 연산 BigDecimal + setScale)을 그대로 옮긴
+ * {@link LegacyMoney} 로 같은 일을 한다. 입력은 도메인처럼 BigDecimal 로 들어와 BigDecimal 로 나가므로
+ * 경계 변환 비용도 포함된다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    private static final BigDecimal COMMISSION_RATE = new BigDecimal("0.0350");
+    private static final BigDecimal WITHHOLDING_RATE = new BigDecimal("0.033");
+
+    @Param({"1000"})
+    public int size;
+
+    private List<BigDecimal> payments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        payments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // 1,000 ~ 2,000,000 원, 일부는 원 미만 단위 포함
+            long won = 1_000 + random.nextInt(1_999_000);
+            payments.add(i % 10 == 0 ? BigDecimal.valueOf(won * 100 + random.nextInt(100), 2) : BigDecimal.valueOf(won));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal settlementFees() {
+        Money totalNet = Money.ZERO;
+        Money totalWithheld = Money.ZERO;
+        for (BigDecimal amount : payments) {
+            Money payment = Money.of(amount);
+            Money commission = payment.times(COMMISSION_RATE);
+            Money net = payment.minus(commission);
+            Money withheld = commission.times(WITHHOLDING_RATE);
+            totalNet = totalNet.plus(net);
+            totalWithheld = totalWithheld.plus(withheld);
+        }
+        return totalNet.minus(totalWithheld).toBigDecimal();
+    }
+
+    @Benchmark
+    public BigDecimal legacySettlementFees() {
+        LegacyMoney totalNet = LegacyMoney.ZERO;
+        LegacyMoney totalWithheld = LegacyMoney.ZERO;
+        for (BigDecimal amount : payments) {
+            LegacyMoney payment = new LegacyMoney(amount);
+            LegacyMoney commission = payment.times(COMMISSION_RATE);
+            LegacyMoney net = payment.minus(commission);
+            LegacyMoney withheld = commission.times(WITHHOLDING_RATE);
+            totalNet = totalNet.plus(net);
+            totalWithheld = totalWithheld.plus(withheld);
+        }
+        return totalNet.minus(totalWithheld).amount();
+    }
+
+    @Benchmark
+    public BigDecimal sum() {
+        return Money.sum(payments, Money::of).toBigDecimal();
+    }
+
+    @Benchmark
+    public BigDecimal legacySum() {
+        LegacyMoney total = LegacyMoney.ZERO;
+        for (BigDecimal amount : payments) {
+            total = total.plus(new LegacyMoney(amount));
+        }
+        return total.amount();
+    }
+
+    /** long 표현으로 바꾸기 전의 Money record — 비교 기준선. */
+    record LegacyMoney(BigDecimal amount) {
+
+        static final LegacyMoney ZERO = new LegacyMoney(BigDecimal.ZERO);
+
+        LegacyMoney {
+            amount = amount.setScale(Money.SCALE, RoundingMode.HALF_UP);
+        }
+
+        LegacyMoney plus(LegacyMoney other) {
+            return new LegacyMoney(amount.add(other.amount));
+        }
+
+        LegacyMoney minus(LegacyMoney other) {
+            return new LegacyMoney(amount.subtract(other.amount));
+        }
+
+        LegacyMoney times(BigDecimal multiplier) {
+            return new LegacyMoney(amount.multiply(multiplier));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package github.lms.lemuel.common.observability.aop;
+
+import github.lms.lemuel.common.config.observability.MdcKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.MDC;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MethodTraceAspect} 한 번의 호출 비용(ns/call).
+ *
+ * <p>{@code proxyOnly} 는 아무 일도 하지 않는 {@code @Around} 를 건 같은 프록시다 — Spring AOP 프록시와
+ * 조인포인트 자체의 비용이므로, Aspect 가 보태는 몫은 각 벤치에서 이 값을 뺀 차이로 읽는다.
+ * {@code unsampled} 는 샘플 밖·느리지 않은 최상위 진입이라 실행 단위 traceId 를 만들고 지우는 비용까지
+ * 들어 있다(Kafka·스케줄러 경로). {@code unsampledInRequest} 는 필터가 traceId 를 이미 붙인 요청 안의
+ * 호출 — 운영에서 대부분의 호출이 타는 경로다. {@code sampled} 는 DEBUG 가 꺼진 상태의 전체 추적
+ * (Timer 기록 포함)이다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MethodTraceBenchmark {
+
+    public static class Target {
+        public long work(long value) {
+            return value * 31 + 7;
+        }
+    }
+
+    @Aspect
+    public static class NoopAspect {
+        @Around("execution(* github.lms.lemuel.common.observability.aop.MethodTraceBenchmark.Target.*(..))")
+        public Object around(ProceedingJoinPoint pjp) throws Throwable {
+            return pjp.proceed();
+        }
+    }
+
+    @Aspect
+    public static class BenchTraceAspect extends MethodTraceAspect {
+        BenchTraceAspect(ObservabilityAopProperties properties, MeterRegistry registry) {
+            super(properties, registryProvider(registry));
+        }
+
+        @Around("execution(* github.lms.lemuel.common.observability.aop.MethodTraceBenchmark.Target.*(..))")
+        public Object around(ProceedingJoinPoint pjp) throws Throwable {
+            return trace(pjp);
+        }
+    }
+
+    /** 요청 스레드 흉내 — 측정 스레드의 MDC 에 traceId 를 미리 붙여 둔다. */
+    @State(Scope.Thread)
+    public static class InRequest {
+        @Setup(Level.Trial)
+        public void attach() {
+            MDC.put(MdcKeys.TRACE_ID, "bench-trace");
+        }
+
+        @TearDown(Level.Trial)
+        public void detach() {
+            MDC.remove(MdcKeys.TRACE_ID);
+        }
+    }
+
+    private Target direct;
+    private Target proxyOnly;
+    private Target sampled;
+    private Target unsampled;
+    private long value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        direct = new Target();
+        proxyOnly = proxy(new NoopAspect());
+
+        ObservabilityAopProperties all = new ObservabilityAopProperties();
+        all.setSampleRate(1.0);
+        sampled = proxy(new BenchTraceAspect(all, new SimpleMeterRegistry()));
+
+        ObservabilityAopProperties none = new ObservabilityAopProperties();
+        none.setSampleRate(0.0);
+        unsampled = proxy(new BenchTraceAspect(none, new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public long direct() {
+        return direct.work(value++);
+    }
+
+    @Benchmark
+    public long proxyOnly() {
+        return proxyOnly.work(value++);
+    }
+
+    @Benchmark
+    public long unsampled() {
+        return unsampled.work(value++);
+    }
+
+    @Benchmark
+    public long unsampledInRequest(InRequest request) {
+        return unsampled.work(value++);
+    }
+
+    @Benchmark
+    public long sampled() {
+        return sampled.work(value++);
+    }
+
+    private static Target proxy(Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Target());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private static ObjectProvider<MeterRegistry> registryProvider(MeterRegistry registry) {
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("meterRegistry", registry);
+        return beans.getBeanProvider(MeterRegistry.class);
+    }
+}
@@ -0,0 +1,88 @@
+package github.lms.lemuel.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import github.lms.lemuel.common.outbox.domain.OutboxEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox payload 직렬화 — 도메인 트랜잭션 안에서 이벤트마다 한 번 도는 경로(ns/event).
+ *
+ * <p>{@code mapPayload} 는 발행 어댑터 대부분이 하는 방식(LinkedHashMap 에 금액을 {@code toPlainString}
+ * 으로 미리 넣음)이고, {@code recordPayload} 는 금액을 BigDecimal 그대로 둔 record 를 {@link OutboxJson}
+ * 의 plain-string 직렬화기에 맡긴다. {@code pendingEvent} 는 직렬화에 {@link OutboxEvent#pending} 생성
+ * (UUID·시각)까지 더한 어댑터 한 번의 전체 비용이다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class OutboxSerializationBenchmark {
+
+    /** 결제 승인 이벤트 — 주문 라인 3개. */
+    public record PaymentCaptured(long paymentId, long orderId, long sellerId, BigDecimal amount,
+                                  BigDecimal commission, String currency, String method,
+                                  LocalDateTime capturedAt, List<Line> lines) {
+    }
+
+    public record Line(long productId, int quantity, BigDecimal unitPrice) {
+    }
+
+    private ObjectMapper mapper;
+    private PaymentCaptured event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = OutboxJson.mapper();
+        event = new PaymentCaptured(88_172L, 100_923L, 7L, new BigDecimal("152000.00"), new BigDecimal("5320.00"),
+                "KRW", "CARD", LocalDateTime.of(2026, 10, 19, 9, 30, 15, 123_456_000),
+                List.of(new Line(5512L, 2, new BigDecimal("45000.00")),
+                        new Line(5513L, 1, new BigDecimal("52000.00")),
+                        new Line(90L, 1, new BigDecimal("10000.00"))));
+    }
+
+    @Benchmark
+    public String mapPayload() throws JsonProcessingException {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("paymentId", event.paymentId());
+        payload.put("orderId", event.orderId());
+        payload.put("sellerId", event.sellerId());
+        payload.put("amount", event.amount().toPlainString());
+        payload.put("commission", event.commission().toPlainString());
+        payload.put("currency", event.currency());
+        payload.put("method", event.method());
+        payload.put("capturedAt", event.capturedAt().toString());
+        payload.put("lines", event.lines().stream().map(line -> {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("productId", line.productId());
+            item.put("quantity", line.quantity());
+            item.put("unitPrice", line.unitPrice().toPlainString());
+            return item;
+        }).toList());
+        return mapper.writeValueAsString(payload);
+    }
+
+    @Benchmark
+    public String recordPayload() throws JsonProcessingException {
+        return mapper.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public OutboxEvent pendingEvent() throws JsonProcessingException {
+        return OutboxEvent.pending("PAYMENT", String.valueOf(event.paymentId()), "PaymentCaptured",
+                mapper.writeValueAsString(event), "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+    }
+}
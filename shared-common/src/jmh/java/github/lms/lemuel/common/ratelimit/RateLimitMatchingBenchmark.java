@@ -0,0 +1,57 @@
+package github.lms.lemuel.common.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나당 rate limit 정책 매칭 비용(ns/request) — 필터가 모든 요청에서 부르는 {@code findMatching}.
+ *
+ * <p>경로 구성은 게이트웨이 접근 로그의 비율을 흉내 낸다 — 대부분은 어느 정책에도 걸리지 않는 조회
+ * (주문·상품·정산 목록)라 정책 목록을 끝까지 훑고, 일부만 로그인·환불·관리자·기프트카드에 걸린다.
+ * 정책이 늘어날 때 미매칭 경로 비용이 같이 늘어나는지를 본다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RateLimitMatchingBenchmark {
+
+    private static final String[] PATHS = {
+            "/api/orders/100923",
+            "/api/products?category=12&page=3&size=20",
+            "/api/settlements/search",
+            "/api/orders/100923/items",
+            "/auth/login",
+            "/api/products/5512",
+            "/payments/88172/refund",
+            "/api/coupons/my",
+            "/admin/audit-logs/export",
+            "/api/gift-cards/redeem",
+            "/actuator/health",
+            "/api/reviews?productId=5512",
+    };
+
+    private RateLimitFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filter = new RateLimitFilter(new RateLimitRegistry(), RateLimitFilter.defaultPolicies());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(12)
+    public void findMatching(Blackhole bh) {
+        for (String path : PATHS) {
+            bh.consume(filter.findMatching(path));
+        }
+    }
+}
@@ -3,15 +3,39 @@ package github.lms.lemuel.common.audit.adapter.out.persistence;
 import github.lms.lemuel.common.audit.application.port.out.SaveAuditLogPort;
 import github.lms.lemuel.common.audit.domain.AuditAction;
 import github.lms.lemuel.common.audit.domain.AuditLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
 @Repository
 public class AuditLogPersistenceAdapter implements SaveAuditLogPort {
 
+    /** 한 INSERT 문장에 싣는 최대 행 수 — 9 컬럼 × 500 = 4,500 바인드로 드라이버 한도(32,767) 아래. */
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String COLUMNS = "(actor_id, actor_email, action, resource_type, resource_id, "
+            + "detail_json, ip_address, user_agent, created_at)";
+    // detail_json 은 엔티티의 @ColumnTransformer 와 같은 이유로 명시 캐스트한다.
+    private static final String ROW = "(?, ?, ?, ?, ?, ?::jsonb, ?, ?, ?)";
+
     private final SpringDataAuditLogJpaRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
 
-    public AuditLogPersistenceAdapter(SpringDataAuditLogJpaRepository repository) {
+    /**
+     * @param schema 다건 INSERT 는 네이티브 SQL 이라 hibernate {@code default_schema} 를 따르지 않는다 —
+     *               엔티티와 같은 테이블을 가리키도록 같은 설정값으로 한정한다(OutboxSchema 와 같은 방식).
+     */
+    public AuditLogPersistenceAdapter(SpringDataAuditLogJpaRepository repository,
+                                      JdbcTemplate jdbcTemplate,
+                                      @Value("${spring.jpa.properties.hibernate.default_schema:public}") String schema) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = schema + ".audit_logs";
     }
 
     @Override
@@ -21,6 +45,35 @@ public class AuditLogPersistenceAdapter implements SaveAuditLogPort {
         return toDomain(saved);
     }
 
+    /**
+     * 비동기 기록기의 묶음을 다건 INSERT 로 적재한다. IDENTITY 키라 JPA 는 JDBC 배치를 못 쓰고 행마다
+     * 왕복하므로 여기서는 JdbcTemplate 으로 직접 한 문장을 만든다.
+     */
+    @Override
+    public void saveAll(List<AuditLog> logs) {
+        for (int from = 0; from < logs.size(); from += ROWS_PER_STATEMENT) {
+            List<AuditLog> rows = logs.subList(from, Math.min(from + ROWS_PER_STATEMENT, logs.size()));
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(' ')
+                    .append(COLUMNS).append(" VALUES ");
+            List<Object> args = new ArrayList<>(rows.size() * 9);
+            for (int i = 0; i < rows.size(); i++) {
+                if (i > 0) sql.append(", ");
+                sql.append(ROW);
+                AuditLog log = rows.get(i);
+                args.add(log.getActorId());
+                args.add(log.getActorEmail());
+                args.add(log.getAction().name());
+                args.add(log.getResourceType());
+                args.add(log.getResourceId());
+                args.add(log.getDetailJson());
+                args.add(log.getIpAddress());
+                args.add(log.getUserAgent());
+                args.add(Timestamp.valueOf(log.getCreatedAt()));
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
     private AuditLogJpaEntity toEntity(AuditLog log) {
         AuditLogJpaEntity e = new AuditLogJpaEntity();
         e.setId(log.getId());
@@ -58,6 +58,35 @@ public class AuditLogSearchJpaAdapter implements SearchAuditLogsPort {
                 .toList();
     }
 
+    /**
+     * 키셋 페이지 — 페이지마다 트랜잭션이 끝나 엔티티가 영속성 컨텍스트에 쌓이지 않는다. 긴 내보내기를
+     * 페이지로 나눠 읽는 동안 연결을 붙잡지 않는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuditLogRow> searchAfter(AuditLogCriteria criteria, AuditLogCursor after, int size) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String where = buildWhere(criteria, params);
+        if (after != null) {
+            where += " AND (a.createdAt < :afterCreatedAt"
+                    + " OR (a.createdAt = :afterCreatedAt AND a.id < :afterId))";
+            params.put("afterCreatedAt", after.createdAt());
+            params.put("afterId", after.id());
+        }
+
+        TypedQuery<AuditLogJpaEntity> query = entityManager.createQuery(
+                "SELECT a FROM AuditLogJpaEntity a " + where
+                        + " ORDER BY a.createdAt DESC, a.id DESC",
+                AuditLogJpaEntity.class);
+        params.forEach(query::setParameter);
+
+        return query.setMaxResults(size)
+                .getResultList()
+                .stream()
+                .map(AuditLogSearchJpaAdapter::toRow)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public long count(AuditLogCriteria criteria) {
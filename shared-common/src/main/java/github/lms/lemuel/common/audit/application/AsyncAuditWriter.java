@@ -0,0 +1,302 @@
+package github.lms.lemuel.common.audit.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import github.lms.lemuel.common.audit.application.port.out.SaveAuditLogPort;
+import github.lms.lemuel.common.audit.domain.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 로그 비동기 기록기 — 제한된 큐 하나와 그것을 비우는 기록 스레드 하나.
+ *
+ * <p>예전에는 감사 대상 호출마다 REQUIRES_NEW 트랜잭션으로 한 행씩 커밋해, 비즈니스 호출 하나에 커밋이
+ * 둘 들었다. 지금은 호출 스레드가 큐에 넣고 바로 돌아가며, 기록 스레드가 최대 {@code batch-size} 건
+ * 또는 {@code flush-interval} 동안 모아 다건 INSERT 한 문장으로 적재한다.
+ *
+ * <p><b>잃지 않는 경로</b> — {@link #offer} 는 행을 선기록 로그({@link AuditWriteAheadLog})에 한 줄 덧붙인
+ * 뒤에야 큐에 넣고 true 를 돌려준다. 기록 스레드는 {@code saveAll} 이 커밋된 뒤(또는 유출 파일로 옮긴 뒤)
+ * 그 줄들을 풀어 주고, 세그먼트의 줄이 모두 풀리면 세그먼트를 비운다. 큐가 가득 차면 호출 스레드가 그 한 건을
+ * 로컬 유출 파일({@link AuditSpillFile})에 내리고, DB 적재가 실패한 묶음과 종료 시 큐에 남은 건도 같은 파일로
+ * 간다. 유출 파일은 기동 시와 {@code replay-interval} 마다 DB 로 되돌린다.
+ *
+ * <p>kill -9·OOM 으로 죽으면 큐에 있던 건은 선기록 세그먼트에 남아 다음 기동 때 유출 파일을 거쳐 재적재된다.
+ * 줄마다 fsync 하지는 않으므로 OS 장애·전원 차단 때는 페이지 캐시에 있던 마지막 줄들을 잃을 수 있고,
+ * 재적재는 적어도 한 번이라 커밋 직후에 죽으면 중복이 생긴다. 이 창까지 허용할 수 없는 유스케이스는
+ * {@link Auditable#critical()} 로 동기 기록을 쓴다. {@code write-ahead=false} 면 선기록 없이 예전처럼
+ * 큐에만 넣는다 — 강제 종료 시 큐에 있던 건({@code flush-interval} 의 두 배 정도)을 잃는다.
+ *
+ * <p><b>디렉터리</b> — 선기록 세그먼트와 유출 파일은 {@code app.audit.async.spill-dir} 에 둔다. 기본값은 작업
+ * 디렉터리의 {@code ./data/audit-spill} 이고, 컨테이너 이미지는 이를 {@code /var/lib/lemuel/audit-spill} 볼륨으로
+ * 돌려 둔다. 재시작을 넘겨 살아남는 곳이어야 위 보장이 선다 — tmpfs 이거나 컨테이너와 함께 사라지는
+ * {@code java.io.tmpdir} 아래로 잡히면 기동 때 경고한다.
+ *
+ * <p>{@code app.audit.async.enabled=false} 면 기록 스레드를 띄우지 않고 {@link #offer} 가 false 를
+ * 돌려, {@link AuditLogger} 가 예전처럼 동기로 기록한다.
+ */
+@Component
+public class AsyncAuditWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncAuditWriter.class);
+
+    private final SaveAuditLogPort saveAuditLogPort;
+    private final Path spillDir;
+    private final AuditSpillFile spillFile;
+    private final AuditWriteAheadLog writeAheadLog;   // write-ahead=false 면 null
+    private final boolean enabled;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long replayIntervalMillis;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+    private long nextReplayAt;
+
+    public AsyncAuditWriter(SaveAuditLogPort saveAuditLogPort,
+                            ObjectMapper objectMapper,
+                            @Value("${app.audit.async.enabled:true}") boolean enabled,
+                            @Value("${app.audit.async.queue-capacity:10000}") int queueCapacity,
+                            @Value("${app.audit.async.batch-size:200}") int batchSize,
+                            @Value("${app.audit.async.flush-interval:200ms}") Duration flushInterval,
+                            @Value("${app.audit.async.spill-dir:./data/audit-spill}") Path spillDir,
+                            @Value("${app.audit.async.replay-interval:30s}") Duration replayInterval,
+                            @Value("${app.audit.async.write-ahead:true}") boolean writeAhead,
+                            @Value("${app.audit.async.write-ahead-segment-rows:10000}") int writeAheadSegmentRows) {
+        if (queueCapacity <= 0 || batchSize <= 0 || writeAheadSegmentRows <= 0) {
+            throw new IllegalArgumentException(
+                    "queue-capacity, batch-size and write-ahead-segment-rows must be positive");
+        }
+        this.saveAuditLogPort = saveAuditLogPort;
+        this.spillDir = spillDir;
+        this.spillFile = new AuditSpillFile(spillDir, objectMapper);
+        this.writeAheadLog = writeAhead
+                ? new AuditWriteAheadLog(spillDir, objectMapper, writeAheadSegmentRows)
+                : null;
+        this.enabled = enabled;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.replayIntervalMillis = replayInterval.toMillis();
+    }
+
+    /** 큐의 한 건 — 선기록 세그먼트를 함께 들고 다녀 안착하면 그 세그먼트에서 풀어 준다. */
+    private record Pending(AuditLog log, AuditWriteAheadLog.Segment segment) {
+    }
+
+    /**
+     * 감사 행 하나를 맡긴다. 선기록 로그에 먼저 적고, 큐가 가득 차면 유출 파일에 내린다.
+     *
+     * @return 맡았으면 true, 비활성·종료 상태이거나 디스크에 남기지 못해 호출자가 직접 기록해야 하면 false
+     */
+    public boolean offer(AuditLog entry) {
+        if (!running) {
+            return false;
+        }
+        AuditWriteAheadLog.Segment segment = null;
+        if (writeAheadLog != null) {
+            try {
+                segment = writeAheadLog.append(entry);
+            } catch (RuntimeException e) {
+                log.error("Audit write-ahead failed, falling back to direct write. action={}",
+                        entry.getAction(), e);
+                return false;
+            }
+        }
+        if (queue.offer(new Pending(entry, segment))) {
+            return true;
+        }
+        try {
+            spillFile.append(List.of(entry));
+            log.warn("Audit queue full, spilled to disk. action={}, resourceId={}",
+                    entry.getAction(), entry.getResourceId());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Audit spill failed on full queue, falling back to direct write. action={}",
+                    entry.getAction(), e);
+            return false;
+        } finally {
+            // 유출 파일에 들어갔거나 호출자가 직접 기록한다 — 어느 쪽이든 선기록 줄은 더 필요 없다.
+            release(segment, 1);
+        }
+    }
+
+    /** 큐에 남은 건수 — 운영 확인·테스트용. */
+    public int pending() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        if (isUnderTmpdir(spillDir)) {
+            log.warn("Audit spill-dir is under java.io.tmpdir; write-ahead and spilled rows may not survive a restart. "
+                    + "Set app.audit.async.spill-dir to a persistent volume. dir={}", spillDir.toAbsolutePath());
+        }
+        if (writeAheadLog != null) {
+            // 이전 프로세스가 죽으며 남긴 세그먼트 — 유출 파일로 옮겨 두면 기록 스레드가 첫 재적재에서 싣는다.
+            int recovered = writeAheadLog.recover(spillFile);
+            if (recovered > 0) {
+                log.warn("Audit write-ahead recovered from previous run. rows={}", recovered);
+            }
+        }
+        running = true;
+        Thread thread = new Thread(this::runLoop, "audit-writer");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    /** 기록 스레드가 큐를 다 비울 때까지(최대 5초) 기다리고, 그래도 남은 건은 유출 파일에 내린다. */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = worker;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Pending> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            spill(rest);
+        }
+        if (writeAheadLog != null) {
+            writeAheadLog.close();
+        }
+    }
+
+    /** {@code java.io.tmpdir} 아래인가 — 재시작이나 컨테이너 교체 때 비워질 수 있는 자리. */
+    static boolean isUnderTmpdir(Path dir) {
+        Path tmpdir = Path.of(System.getProperty("java.io.tmpdir")).toAbsolutePath().normalize();
+        return dir.toAbsolutePath().normalize().startsWith(tmpdir);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 웹 서버보다 늦게 멈춘다 — 마지막 요청의 감사 행까지 큐에 들어온 뒤에 비운다. */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void runLoop() {
+        replaySpill();
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    // 첫 건을 받자마자 적재하면 호출마다 기록 스레드가 깨어난다 — 묶음이 덜 찼으면
+                    // flush-interval 만큼 더 모은다(linger). 그동안 offer 는 깨울 상대가 없어 싸다.
+                    if (running && queue.size() < batchSize - 1) {
+                        Thread.sleep(flushIntervalMillis);
+                    }
+                    queue.drainTo(batch, batchSize - 1);
+                    flush(batch);
+                    batch.clear();
+                }
+                if (System.currentTimeMillis() >= nextReplayAt) {
+                    replaySpill();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 루프가 죽으면 큐가 다시는 비워지지 않는다 — 무엇이든 기록하고 계속 돈다.
+                log.error("Audit writer loop error", e);
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        List<AuditLog> logs = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            logs.add(pending.log());
+        }
+        try {
+            saveAuditLogPort.saveAll(logs);
+        } catch (RuntimeException e) {
+            log.warn("Audit batch write failed, spilling {} rows", batch.size(), e);
+            spill(batch);
+            // DB 가 내려간 동안 매 주기 재적재를 두드리지 않는다.
+            nextReplayAt = System.currentTimeMillis() + replayIntervalMillis;
+            return;
+        }
+        releaseAll(batch);
+    }
+
+    void replaySpill() {
+        nextReplayAt = System.currentTimeMillis() + replayIntervalMillis;
+        try {
+            int replayed = spillFile.replay(saveAuditLogPort::saveAll);
+            if (replayed > 0) {
+                log.info("Audit spill replayed. rows={}", replayed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Audit spill replay failed, will retry in {}ms", replayIntervalMillis, e);
+        }
+    }
+
+    private void spill(List<Pending> batch) {
+        List<AuditLog> logs = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            logs.add(pending.log());
+        }
+        try {
+            spillFile.append(logs);
+        } catch (RuntimeException e) {
+            if (writeAheadLog != null) {
+                // 선기록 줄은 풀지 않는다 — 세그먼트에 남아 다음 기동의 복구가 싣는다.
+                log.error("Audit spill write failed, {} rows kept in write-ahead log", logs.size(), e);
+                return;
+            }
+            // 디스크까지 막히면 남길 곳이 없다 — 최소한 무엇을 잃었는지 로그에 남긴다.
+            logs.forEach(entry -> log.error("Audit row lost. action={}, resourceType={}, resourceId={}",
+                    entry.getAction(), entry.getResourceType(), entry.getResourceId()));
+            log.error("Audit spill write failed", e);
+            return;
+        }
+        releaseAll(batch);
+    }
+
+    /** 안착한 묶음의 선기록 줄을 푼다 — 같은 세그먼트가 이어지는 구간은 한 번에. */
+    private void releaseAll(List<Pending> batch) {
+        int i = 0;
+        while (i < batch.size()) {
+            AuditWriteAheadLog.Segment segment = batch.get(i).segment();
+            int run = 1;
+            while (i + run < batch.size() && batch.get(i + run).segment() == segment) {
+                run++;
+            }
+            release(segment, run);
+            i += run;
+        }
+    }
+
+    private void release(AuditWriteAheadLog.Segment segment, int rows) {
+        if (segment != null) {
+            writeAheadLog.release(segment, rows);
+        }
+    }
+}
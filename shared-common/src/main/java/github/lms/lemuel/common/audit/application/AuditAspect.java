@@ -10,7 +10,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
@@ -18,9 +21,14 @@ import org.springframework.stereotype.Component;
 import java.lang.reflect.Method;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link Auditable} 이 붙은 애플리케이션 유스케이스의 성공/실패를 audit_logs 에 기록한다.
+ *
+ * <p>resourceId/detail SpEL 은 메서드마다 한 번만 파싱해 {@link AuditPlan} 으로 캐시하고, 파서는
+ * MIXED 컴파일 모드라 컴파일 가능한 식은 몇 번 해석된 뒤 바이트코드로 평가된다(안 되면 해석 유지). 예전에는 호출마다 두 식을 새로
+ * 파싱했고 파라미터명도 매번 리플렉션으로 찾았다.
  */
 @Aspect
 @Component
@@ -31,8 +39,10 @@ public class AuditAspect {
 
     private final AuditLogger auditLogger;
     private final AuditDetailSerializer detailSerializer;
-    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ExpressionParser parser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, AuditAspect.class.getClassLoader()));
     private final DefaultParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<Method, AuditPlan> plans = new ConcurrentHashMap<>();
 
     public AuditAspect(AuditLogger auditLogger, AuditDetailSerializer detailSerializer) {
         this.auditLogger = auditLogger;
@@ -62,21 +72,46 @@ public class AuditAspect {
                         Throwable error) {
         try {
             Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
-            StandardEvaluationContext context = evaluationContext(joinPoint, method, result, error);
+            AuditPlan plan = plans.computeIfAbsent(method, m -> plan(m, auditable));
+            StandardEvaluationContext context = evaluationContext(joinPoint, method, plan, result, error);
 
-            String resourceId = safeEvaluateString(auditable.resourceId(), context);
-            Object detail = safeEvaluate(auditable.detail(), context);
+            String resourceId = safeEvaluateString(plan.resourceId(), context);
+            Object detail = safeEvaluate(plan.detail(), context);
             String detailJson = detailSerializer.toJson(enrichDetail(method, detail, error));
 
-            auditLogger.record(action, auditable.resourceType(), resourceId, detailJson);
+            if (auditable.critical()) {
+                auditLogger.recordCritical(action, auditable.resourceType(), resourceId, detailJson);
+            } else {
+                auditLogger.record(action, auditable.resourceType(), resourceId, detailJson);
+            }
         } catch (Exception e) {
             log.error("Audit aspect failed. action={}, resourceType={}",
                     action, auditable.resourceType(), e);
         }
     }
 
+    private AuditPlan plan(Method method, Auditable auditable) {
+        return new AuditPlan(
+                parse(auditable.resourceId()),
+                parse(auditable.detail()),
+                parameterNameDiscoverer.getParameterNames(method));
+    }
+
+    private AuditExpression parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return AuditExpression.EMPTY;
+        }
+        try {
+            return new AuditExpression(parser.parseExpression(expression), null);
+        } catch (RuntimeException e) {
+            // 잘못된 식도 캐시한다 — 호출마다 다시 파싱해 같은 예외를 만들 이유가 없다.
+            return new AuditExpression(null, e);
+        }
+    }
+
     private StandardEvaluationContext evaluationContext(ProceedingJoinPoint joinPoint,
                                                        Method method,
+                                                       AuditPlan plan,
                                                        Object result,
                                                        Throwable error) {
         StandardEvaluationContext context = new StandardEvaluationContext();
@@ -92,7 +127,7 @@ public class AuditAspect {
             context.setVariable("a" + i, args[i]);
         }
 
-        String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+        String[] parameterNames = plan.parameterNames();
         if (parameterNames != null) {
             for (int i = 0; i < parameterNames.length && i < args.length; i++) {
                 context.setVariable(parameterNames[i], args[i]);
@@ -101,16 +136,9 @@ public class AuditAspect {
         return context;
     }
 
-    private Object evaluate(String expression, StandardEvaluationContext context) {
-        if (expression == null || expression.isBlank()) {
-            return null;
-        }
-        return parser.parseExpression(expression).getValue(context);
-    }
-
-    private Object safeEvaluate(String expression, StandardEvaluationContext context) {
+    private Object safeEvaluate(AuditExpression expression, StandardEvaluationContext context) {
         try {
-            return evaluate(expression, context);
+            return expression.evaluate(context);
         } catch (Exception e) {
             return Map.of("auditExpressionError", e.getClass().getSimpleName());
         }
@@ -133,9 +161,9 @@ public class AuditAspect {
         }
     }
 
-    private String safeEvaluateString(String expression, StandardEvaluationContext context) {
+    private String safeEvaluateString(AuditExpression expression, StandardEvaluationContext context) {
         try {
-            return stringify(evaluate(expression, context));
+            return stringify(expression.evaluate(context));
         } catch (Exception e) {
             return null;
         }
@@ -160,4 +188,21 @@ public class AuditAspect {
     private static String stringify(Object value) {
         return value == null ? null : String.valueOf(value);
     }
+
+    /** 메서드 하나의 파싱된 식과 파라미터명 — 메서드의 @Auditable 은 바뀌지 않으므로 메서드를 키로 쓴다. */
+    private record AuditPlan(AuditExpression resourceId, AuditExpression detail, String[] parameterNames) {
+    }
+
+    /** 파싱된 식, 또는 파싱 실패 — 실패는 평가 시점에 같은 예외로 드러나 기존 폴백을 탄다. */
+    private record AuditExpression(Expression expression, RuntimeException parseError) {
+
+        static final AuditExpression EMPTY = new AuditExpression(null, null);
+
+        Object evaluate(StandardEvaluationContext context) {
+            if (parseError != null) {
+                throw parseError;
+            }
+            return expression == null ? null : expression.getValue(context);
+        }
+    }
 }
@@ -5,9 +5,12 @@ import github.lms.lemuel.common.audit.domain.AuditAction;
 import github.lms.lemuel.common.audit.domain.AuditLog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Audit Log 직접 기록용 퍼사드.
@@ -15,7 +18,10 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>본 클래스는 서비스가 직접 호출할 수 있도록 제공되며, AOP(@Auditable) 경로가 아닌
  * 부분 성공·실패 같은 복잡 경로에서도 감사 추적을 남기기 위해 사용한다.
  *
- * <p>REQUIRES_NEW — 비즈니스 트랜잭션이 롤백되어도 감사 기록은 남게 한다.
+ * <p>{@link #record} 는 감사 행을 만들어 {@link AsyncAuditWriter} 큐에 맡기고 바로 돌아간다 — 비즈니스
+ * 트랜잭션과 무관하게 따로 적재되므로 비즈니스가 롤백돼도 기록은 남는다. {@link #recordCritical} 은
+ * 예전처럼 REQUIRES_NEW 로 호출 스레드에서 즉시 커밋한다. actor 는 어느 쪽이든 호출 스레드의
+ * {@link AuditContext} 에서 읽는다(기록 스레드에는 요청 컨텍스트가 없다).
  */
 @Component
 public class AuditLogger {
@@ -23,21 +29,64 @@ public class AuditLogger {
     private static final Logger log = LoggerFactory.getLogger(AuditLogger.class);
 
     private final SaveAuditLogPort saveAuditLogPort;
+    private final AsyncAuditWriter asyncWriter;
+    private final TransactionOperations requiresNew;
 
+    @Autowired
+    public AuditLogger(SaveAuditLogPort saveAuditLogPort,
+                       AsyncAuditWriter asyncWriter,
+                       PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.saveAuditLogPort = saveAuditLogPort;
+        this.asyncWriter = asyncWriter;
+        this.requiresNew = template;
+    }
+
+    /** 큐·트랜잭션 없이 호출 스레드에서 바로 저장한다 — 단위 테스트용. */
     public AuditLogger(SaveAuditLogPort saveAuditLogPort) {
         this.saveAuditLogPort = saveAuditLogPort;
+        this.asyncWriter = null;
+        this.requiresNew = TransactionOperations.withoutTransaction();
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void record(AuditAction action, String resourceType, String resourceId, String detailJson) {
+        AuditLog entry = entry(action, resourceType, resourceId, detailJson);
+        if (entry == null) {
+            return;
+        }
+        if (asyncWriter != null && asyncWriter.offer(entry)) {
+            return;
+        }
+        write(entry);
+    }
+
+    /** 돌아오기 전에 감사 행이 커밋돼 있어야 하는 경로용 — 호출마다 커밋이 하나 든다. */
+    public void recordCritical(AuditAction action, String resourceType, String resourceId, String detailJson) {
+        AuditLog entry = entry(action, resourceType, resourceId, detailJson);
+        if (entry != null) {
+            write(entry);
+        }
+    }
+
+    private AuditLog entry(AuditAction action, String resourceType, String resourceId, String detailJson) {
         try {
             AuditContext.AuditActor actor = AuditContext.get();
-            AuditLog entry = AuditLog.of(action, resourceType, resourceId, detailJson,
+            return AuditLog.of(action, resourceType, resourceId, detailJson,
                     actor.actorId(), actor.actorEmail(), actor.ipAddress(), actor.userAgent());
-            saveAuditLogPort.save(entry);
+        } catch (Exception e) {
+            log.error("Audit log build failed. action={}, resourceId={}", action, resourceId, e);
+            return null;
+        }
+    }
+
+    private void write(AuditLog entry) {
+        try {
+            requiresNew.executeWithoutResult(status -> saveAuditLogPort.save(entry));
         } catch (Exception e) {
             // 감사 기록 실패가 비즈니스 트랜잭션을 깨뜨리면 안 됨.
-            log.error("Audit log save failed. action={}, resourceId={}", action, resourceId, e);
+            log.error("Audit log save failed. action={}, resourceId={}",
+                    entry.getAction(), entry.getResourceId(), e);
         }
     }
 }
@@ -0,0 +1,195 @@
+package github.lms.lemuel.common.audit.application;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import github.lms.lemuel.common.audit.domain.AuditAction;
+import github.lms.lemuel.common.audit.domain.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 비동기 감사 기록기의 로컬 유출(spill) 파일.
+ *
+ * <p>DB 적재가 실패했거나, 큐가 가득 찼거나, 종료 시 큐에 남은 감사 행을 JSON Lines 로 디스크에 내려
+ * 두었다가 DB 가 돌아오면 다시 적재한다. 묶음 하나가 파일 하나다 — 임시 파일에 쓰고 fsync 한 뒤
+ * 원자적으로 이름을 바꾸므로, 재적재가 보는 파일은 언제나 온전하다.
+ *
+ * <p>재적재는 적어도 한 번(at-least-once)이다 — DB 커밋 후 파일 삭제 전에 죽으면 같은 행이 한 번 더
+ * 들어간다. 감사 로그는 중복보다 누락이 더 나쁘다.
+ */
+class AuditSpillFile {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditSpillFile.class);
+
+    private static final String PREFIX = "audit-spill-";
+    private static final String SUFFIX = ".jsonl";
+    private static final TypeReference<Map<String, Object>> ROW = new TypeReference<>() {};
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong sequence = new AtomicLong();
+
+    AuditSpillFile(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+    }
+
+    /** 묶음을 새 파일 하나로 내린다. 실패하면 {@link UncheckedIOException} — 호출자가 최후 수단을 고른다. */
+    synchronized void append(List<AuditLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            String name = PREFIX + System.currentTimeMillis() + "-" + sequence.incrementAndGet();
+            Path temp = directory.resolve(name + ".tmp");
+            StringBuilder lines = new StringBuilder();
+            for (AuditLog entry : logs) {
+                lines.append(toLine(objectMapper, entry)).append('\n');
+            }
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                channel.write(StandardCharsets.UTF_8.encode(lines.toString()));
+                channel.force(true);
+            }
+            Files.move(temp, directory.resolve(name + SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("audit spill write failed: " + directory, e);
+        }
+    }
+
+    boolean isEmpty() {
+        return files().isEmpty();
+    }
+
+    /**
+     * 내려 둔 파일을 오래된 순으로 {@code sink} 에 넘기고, 넘긴 파일은 지운다. sink 가 던지면 그 파일과
+     * 뒤 파일은 남긴 채 멈춘다(다음 기회에 다시). 읽을 수 없는 파일은 {@code .corrupt} 로 비켜 둔다.
+     *
+     * @return 재적재한 행 수
+     */
+    synchronized int replay(Consumer<List<AuditLog>> sink) {
+        int replayed = 0;
+        for (Path file : files()) {
+            List<AuditLog> logs;
+            try {
+                logs = read(file);
+            } catch (IOException | RuntimeException e) {
+                log.error("Audit spill file unreadable, set aside. file={}", file, e);
+                setAside(file);
+                continue;
+            }
+            sink.accept(logs);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("audit spill delete failed: " + file, e);
+            }
+            replayed += logs.size();
+        }
+        return replayed;
+    }
+
+    private List<Path> files() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> stream = Files.list(directory)) {
+            // 파일명 문자열 순은 자릿수가 바뀌면 어긋나므로 (밀리초, 순번) 숫자 순으로 정렬한다.
+            return stream.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted((a, b) -> {
+                        long[] ka = order(a);
+                        long[] kb = order(b);
+                        int cmp = Long.compare(ka[0], kb[0]);
+                        return cmp != 0 ? cmp : Long.compare(ka[1], kb[1]);
+                    })
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("audit spill list failed: " + directory, e);
+        }
+    }
+
+    private static long[] order(Path file) {
+        String name = file.getFileName().toString();
+        String[] parts = name.substring(PREFIX.length(), name.length() - SUFFIX.length()).split("-");
+        try {
+            return new long[]{Long.parseLong(parts[0]), parts.length > 1 ? Long.parseLong(parts[1]) : 0L};
+        } catch (NumberFormatException e) {
+            return new long[]{Long.MAX_VALUE, 0L};
+        }
+    }
+
+    private List<AuditLog> read(Path file) throws IOException {
+        List<AuditLog> logs = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                logs.add(fromLine(objectMapper, line));
+            }
+        }
+        return logs;
+    }
+
+    private void setAside(Path file) {
+        try {
+            Files.move(file, file.resolveSibling(file.getFileName() + ".corrupt"),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("Audit spill file could not be set aside. file={}", file, e);
+        }
+    }
+
+    /** 감사 행 하나를 JSON 한 줄로 — 유출 파일과 선기록 로그({@link AuditWriteAheadLog})가 같은 형식을 쓴다. */
+    static String toLine(ObjectMapper objectMapper, AuditLog entry) throws IOException {
+        return objectMapper.writeValueAsString(toRow(entry));
+    }
+
+    static AuditLog fromLine(ObjectMapper objectMapper, String line) throws IOException {
+        return fromRow(objectMapper.readValue(line, ROW));
+    }
+
+    // 도메인 객체를 그대로 직렬화하지 않는다 — LocalDateTime 모듈 유무가 서비스마다 달라 줄 형식이 흔들린다.
+    private static Map<String, Object> toRow(AuditLog entry) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("actorId", entry.getActorId());
+        row.put("actorEmail", entry.getActorEmail());
+        row.put("action", entry.getAction().name());
+        row.put("resourceType", entry.getResourceType());
+        row.put("resourceId", entry.getResourceId());
+        row.put("detailJson", entry.getDetailJson());
+        row.put("ipAddress", entry.getIpAddress());
+        row.put("userAgent", entry.getUserAgent());
+        row.put("createdAt", entry.getCreatedAt().toString());
+        return row;
+    }
+
+    private static AuditLog fromRow(Map<String, Object> row) {
+        Object actorId = row.get("actorId");
+        AuditLog entry = AuditLog.of(AuditAction.valueOf((String) row.get("action")),
+                (String) row.get("resourceType"), (String) row.get("resourceId"),
+                (String) row.get("detailJson"),
+                actorId == null ? null : ((Number) actorId).longValue(),
+                (String) row.get("actorEmail"), (String) row.get("ipAddress"), (String) row.get("userAgent"));
+        entry.setCreatedAt(LocalDateTime.parse((String) row.get("createdAt")));
+        return entry;
+    }
+}
@@ -0,0 +1,259 @@
+package github.lms.lemuel.common.audit.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import github.lms.lemuel.common.audit.domain.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 비동기 감사 기록기의 선기록(write-ahead) 로그 — 큐에 넣기 전에 행을 디스크에 먼저 적는다.
+ *
+ * <p>{@link AsyncAuditWriter#offer} 는 행을 현재 세그먼트 파일에 JSON 한 줄로 덧붙인 뒤에야 맡았다고 답한다.
+ * 기록 스레드가 그 행을 DB 에 커밋하거나(또는 유출 파일로 옮기면) {@link #release} 로 세그먼트의 미결 건수를
+ * 줄이고, 0 이 되면 현재 세그먼트는 비우고(truncate) 닫힌 세그먼트는 지운다. 세그먼트는
+ * {@code segmentRows} 줄마다 새로 연다 — 부하가 끊이지 않아도 파일이 한없이 자라지 않는다.
+ *
+ * <p><b>보장 범위</b> — 줄마다 fsync 하지 않는다. write 가 끝난 줄은 OS 페이지 캐시에 있으므로 프로세스가
+ * kill -9·OOM 으로 죽어도 남지만, 전원·커널 장애로 캐시가 날아가면 마지막 줄들은 잃을 수 있다.
+ *
+ * <p><b>복구</b> — 기동 시 {@link #recover} 가 이전 프로세스가 남긴 세그먼트를 유출 파일로 옮기고 지운다.
+ * 살아 있는 프로세스는 열린 세그먼트에 파일 잠금을 쥐고 있으므로, 같은 디렉터리를 쓰는 다른 인스턴스의
+ * 세그먼트는 건드리지 않는다. 쓰다 죽어 잘린 끝 줄은 건너뛴다. 유출 파일과 마찬가지로 적어도 한 번이다 —
+ * DB 커밋 후 비우기 전에 죽으면 그 행들은 한 번 더 들어간다.
+ */
+class AuditWriteAheadLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditWriteAheadLog.class);
+
+    private static final String PREFIX = "audit-wal-";
+    private static final String SUFFIX = ".wal";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final int segmentRows;
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Segment> sealed = new ArrayList<>();   // guarded by this
+    private Segment current;                                  // guarded by this
+
+    AuditWriteAheadLog(Path directory, ObjectMapper objectMapper, int segmentRows) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.segmentRows = segmentRows;
+    }
+
+    /** 세그먼트 하나 — 열린 채널과 잠금, 아직 DB(또는 유출 파일)에 안착하지 않은 줄 수. */
+    static final class Segment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final FileLock lock;
+        private int appended;
+        private int outstanding;
+
+        private Segment(Path path, FileChannel channel, FileLock lock) {
+            this.path = path;
+            this.channel = channel;
+            this.lock = lock;
+        }
+    }
+
+    /**
+     * 행 하나를 현재 세그먼트에 덧붙이고 그 세그먼트를 돌려준다. 실패하면 {@link UncheckedIOException} —
+     * 호출자가 직접 기록으로 물러난다.
+     */
+    Segment append(AuditLog entry) {
+        ByteBuffer line;
+        try {
+            line = StandardCharsets.UTF_8.encode(AuditSpillFile.toLine(objectMapper, entry) + "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException("audit write-ahead encode failed", e);
+        }
+        synchronized (this) {
+            try {
+                if (current == null || current.appended >= segmentRows) {
+                    rotate();
+                }
+                while (line.hasRemaining()) {
+                    current.channel.write(line);
+                }
+            } catch (IOException e) {
+                // 잘린 줄 뒤에 이어 쓰면 다음 줄까지 깨진다 — 이 세그먼트는 닫고 다음 append 가 새로 연다.
+                if (current != null) {
+                    seal(current);
+                    current = null;
+                }
+                throw new UncheckedIOException("audit write-ahead append failed: " + directory, e);
+            }
+            current.appended++;
+            current.outstanding++;
+            return current;
+        }
+    }
+
+    /** {@code segment} 의 {@code rows} 줄이 안착했다. 미결이 0 이면 비우거나 지운다. */
+    synchronized void release(Segment segment, int rows) {
+        segment.outstanding -= rows;
+        if (segment.outstanding > 0) {
+            return;
+        }
+        if (segment == current) {
+            try {
+                segment.channel.truncate(0);
+                segment.appended = 0;
+            } catch (IOException e) {
+                log.warn("Audit write-ahead truncate failed, rotating. file={}", segment.path, e);
+                seal(segment);
+                current = null;
+            }
+        } else if (sealed.remove(segment)) {
+            delete(segment);
+        }
+    }
+
+    /** 종료 — 다 안착한 세그먼트는 지우고, 남은 세그먼트는 잠금만 풀어 다음 기동의 복구에 맡긴다. */
+    synchronized void close() {
+        if (current != null) {
+            seal(current);
+            current = null;
+        }
+        for (Segment segment : sealed) {
+            if (segment.outstanding > 0) {
+                log.warn("Audit write-ahead segment kept for recovery. file={}, rows={}",
+                        segment.path, segment.outstanding);
+                closeQuietly(segment);
+            } else {
+                delete(segment);
+            }
+        }
+        sealed.clear();
+    }
+
+    /**
+     * 이전 프로세스가 남긴 세그먼트를 유출 파일로 옮긴다 — 잠금을 쥔(살아 있는) 세그먼트는 건너뛴다.
+     *
+     * @return 옮긴 행 수
+     */
+    int recover(AuditSpillFile spillFile) {
+        int recovered = 0;
+        for (Path file : orphanCandidates()) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                FileLock lock;
+                try {
+                    lock = channel.tryLock();
+                } catch (OverlappingFileLockException e) {
+                    continue;   // 같은 JVM 의 다른 기록기가 쓰는 중
+                }
+                if (lock == null) {
+                    continue;   // 다른 프로세스가 쓰는 중
+                }
+                List<AuditLog> logs = read(file);
+                spillFile.append(logs);
+                lock.release();
+                Files.delete(file);
+                recovered += logs.size();
+                if (!logs.isEmpty()) {
+                    log.warn("Audit write-ahead segment recovered into spill. file={}, rows={}", file, logs.size());
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("Audit write-ahead recovery failed, will retry on next start. file={}", file, e);
+            }
+        }
+        return recovered;
+    }
+
+    private void rotate() throws IOException {
+        if (current != null) {
+            seal(current);
+        }
+        Files.createDirectories(directory);
+        Path path = directory.resolve(PREFIX + System.currentTimeMillis() + "-" + sequence.incrementAndGet() + SUFFIX);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        try {
+            current = new Segment(path, channel, channel.lock());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    private void seal(Segment segment) {
+        if (segment.outstanding > 0) {
+            sealed.add(segment);
+        } else {
+            delete(segment);
+        }
+    }
+
+    private void delete(Segment segment) {
+        closeQuietly(segment);
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            // 남은 파일은 다음 기동 때 재적재된다 — 중복일 뿐 누락은 아니다.
+            log.warn("Audit write-ahead segment delete failed. file={}", segment.path, e);
+        }
+    }
+
+    private static void closeQuietly(Segment segment) {
+        try {
+            if (segment.lock.isValid()) {
+                segment.lock.release();
+            }
+            segment.channel.close();
+        } catch (IOException e) {
+            log.warn("Audit write-ahead segment close failed. file={}", segment.path, e);
+        }
+    }
+
+    private List<Path> orphanCandidates() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("audit write-ahead list failed: " + directory, e);
+        }
+    }
+
+    private List<AuditLog> read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        List<AuditLog> logs = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                logs.add(AuditSpillFile.fromLine(objectMapper, line));
+            } catch (IOException | RuntimeException e) {
+                // 끝 줄은 쓰다 죽어 잘렸을 수 있다. 중간 줄이 깨졌다면 그 줄만 잃고 나머지는 살린다.
+                if (i < lines.size() - 1) {
+                    log.error("Audit write-ahead line unreadable, skipped. file={}, line={}", file, i + 1, e);
+                }
+            }
+        }
+        return logs;
+    }
+}
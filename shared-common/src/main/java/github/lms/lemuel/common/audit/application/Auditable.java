@@ -12,6 +12,9 @@ import java.lang.annotation.Target;
  *
  * <p>detail/resourceId 는 SpEL 로 평가한다. 기본값은 인자를 기록하지 않으므로,
  * 비밀번호·토큰 같은 민감값은 명시적으로 선택하지 않는 한 audit_logs 에 남지 않는다.
+ *
+ * <p>기록은 기본적으로 비동기 적재({@link AuditLogger#record})다. 호출이 끝나기 전에 감사 행이 커밋돼
+ * 있어야 하는 유스케이스만 {@link #critical()} 로 동기 기록을 고른다.
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
@@ -34,4 +37,11 @@ public @interface Auditable {
     boolean recordOnSuccess() default true;
 
     boolean recordOnFailure() default true;
+
+    /**
+     * true 면 큐를 거치지 않고 호출 스레드에서 별도 트랜잭션으로 즉시 커밋한다
+     * ({@link AuditLogger#recordCritical}). 권한 변경·정산 확정처럼 "기록이 없으면 수행도 없던 것" 이어야
+     * 하는 경로용 — 호출마다 커밋이 하나 늘어나므로 기본값은 false.
+     */
+    boolean critical() default false;
 }
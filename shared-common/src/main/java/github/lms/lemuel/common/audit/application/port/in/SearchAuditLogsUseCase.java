@@ -5,6 +5,7 @@ import github.lms.lemuel.common.audit.domain.AuditAction;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 감사 로그 조회 유스케이스.
@@ -36,21 +37,30 @@ public interface SearchAuditLogsUseCase {
     List<AuditActionCount> countByAction(AuditLogQuery query);
 
     /**
-     * 내보내기용 전체 목록 — 페이지를 넘기지 않고 최신순으로 이어 붙인다.
+     * 내보내기 — 건수는 바로 세고, 행은 {@link AuditLogExport#rows()} 를 순회할 때 최신순으로 끌어온다.
      *
-     * <p>상한이 있는 이유: 내보내기는 "화면에 보이는 것"이 아니라 "조건에 맞는 전부"를 요구하는
-     * 조작이라, 기간을 넓게 잡으면 수백만 행이 된다. 응답을 만들다 서버가 죽는 대신
-     * <b>상한에서 끊고 그 사실을 알린다</b> — 잘렸는지 모르는 CSV 가 감사 자료로 나가는 것이
-     * 가장 나쁜 결말이다.
+     * <p>행을 목록으로 모으지 않는 이유: 내보내기는 "화면에 보이는 것"이 아니라 "조건에 맞는 전부"를 요구하는
+     * 조작이라, 기간을 넓게 잡으면 수백만 행이 된다. 순회는 키셋 페이지로 읽어 바로 흘려보내므로 행 수와
+     * 무관하게 메모리가 일정하다.
+     *
+     * <p>그래도 상한은 있다 — <b>상한에서 끊고 그 사실을 알린다</b>. 잘렸는지 모르는 CSV 가 감사 자료로
+     * 나가는 것이 가장 나쁜 결말이다.
      */
     AuditLogExport export(AuditLogQuery query);
 
     /**
      * 내보내기 결과.
      *
+     * @param rows      행 순회 — 부를 때마다 조회한다. 응답 스트림 쓰기 스레드에서 한 번 부르는 용도다
      * @param truncated 상한에 걸려 잘렸는지 — 화면은 이 값을 반드시 사용자에게 알려야 한다
      */
-    record AuditLogExport(List<AuditLogRow> rows, boolean truncated, long totalElements) {
+    record AuditLogExport(AuditLogRows rows, boolean truncated, long totalElements) {
+    }
+
+    /** 내보내기 행 순회 — 소비자가 던진 예외(클라이언트 연결 끊김 등)는 순회를 끊고 그대로 올라간다. */
+    @FunctionalInterface
+    interface AuditLogRows {
+        void forEach(Consumer<? super AuditLogRow> sink);
     }
 
     /**
@@ -2,7 +2,17 @@ package github.lms.lemuel.common.audit.application.port.out;
 
 import github.lms.lemuel.common.audit.domain.AuditLog;
 
+import java.util.List;
+
 public interface SaveAuditLogPort {
 
     AuditLog save(AuditLog log);
+
+    /**
+     * 여러 건을 한 번에 적재한다 — 비동기 기록기가 모은 묶음용. 생성된 id 는 돌려주지 않는다.
+     * 기본 구현은 건별 {@link #save} 이고, 영속 어댑터는 다건 INSERT 한 문장으로 덮어쓴다.
+     */
+    default void saveAll(List<AuditLog> logs) {
+        logs.forEach(this::save);
+    }
 }
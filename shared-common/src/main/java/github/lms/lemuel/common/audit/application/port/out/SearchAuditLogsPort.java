@@ -18,12 +18,28 @@ public interface SearchAuditLogsPort {
     /** 조건에 맞는 로그를 {@code created_at DESC} 로 한 페이지 조회한다. */
     List<AuditLogRow> search(AuditLogCriteria criteria, int page, int size);
 
+    /**
+     * 같은 조건·정렬({@code created_at DESC, id DESC})에서 {@code after} 다음부터 {@code size} 건 — 키셋 페이지.
+     * 내보내기처럼 끝까지 넘기는 조회용이다. OFFSET 은 뒤로 갈수록 앞 행을 다시 세며 느려진다.
+     *
+     * @param after 직전 페이지의 마지막 행. {@code null} 이면 처음부터
+     */
+    List<AuditLogRow> searchAfter(AuditLogCriteria criteria, AuditLogCursor after, int size);
+
     /** 같은 조건의 총 건수. */
     long count(AuditLogCriteria criteria);
 
     /** 같은 조건의 액션별 건수(건수 내림차순). */
     List<AuditActionCount> countByAction(AuditLogCriteria criteria);
 
+    /** 키셋 커서 — 정렬 키 (created_at, id). */
+    record AuditLogCursor(LocalDateTime createdAt, long id) {
+
+        public static AuditLogCursor after(AuditLogRow row) {
+            return new AuditLogCursor(row.createdAt(), row.id());
+        }
+    }
+
     /**
      * 정규화된 조회 조건.
      *
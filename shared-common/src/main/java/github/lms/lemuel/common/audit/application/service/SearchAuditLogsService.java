@@ -3,10 +3,10 @@ package github.lms.lemuel.common.audit.application.service;
 import github.lms.lemuel.common.audit.application.port.in.SearchAuditLogsUseCase;
 import github.lms.lemuel.common.audit.application.port.out.SearchAuditLogsPort;
 import github.lms.lemuel.common.audit.application.port.out.SearchAuditLogsPort.AuditLogCriteria;
+import github.lms.lemuel.common.audit.application.port.out.SearchAuditLogsPort.AuditLogCursor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -36,13 +36,15 @@ public class SearchAuditLogsService implements SearchAuditLogsUseCase {
     public static final int DEFAULT_PAGE_SIZE = 50;
 
     /**
-     * CSV 내보내기 최대 행수.
+     * CSV 내보내기 최대 행수 — Excel 한 시트의 행 한도(1,048,576)에서 헤더 1행을 뺀 값.
      *
-     * <p>감사 로그 한 행은 detail_json 을 포함해 무겁다. 상한 없이 기간만 넓히면 응답 하나가
-     * 수백 MB 가 되어 서버와 브라우저를 동시에 무너뜨린다. 넘치면 잘라내되 잘렸다는 사실을
-     * 응답에 실어 보낸다.
+     * <p>행은 스트리밍으로 나가 서버 메모리는 행 수와 무관하다. 남는 한계는 받는 쪽이다 — 이보다 긴 CSV 는
+     * Excel 이 뒷부분을 말없이 버리고 연다. 넘치면 잘라내되 잘렸다는 사실을 응답에 실어 보낸다.
      */
-    public static final int MAX_EXPORT_ROWS = 5_000;
+    public static final int MAX_EXPORT_ROWS = 1_048_575;
+
+    /** 내보내기 키셋 페이지 크기 — detail_json 을 실은 무거운 행 기준, 한 번에 메모리에 있는 행의 상한. */
+    public static final int EXPORT_PAGE_SIZE = 1_000;
 
     private final SearchAuditLogsPort searchAuditLogsPort;
 
@@ -75,25 +77,25 @@ public class SearchAuditLogsService implements SearchAuditLogsUseCase {
         AuditLogCriteria criteria = toCriteria(query);
         long total = searchAuditLogsPort.count(criteria);
         if (total == 0) {
-            return new AuditLogExport(List.of(), false, 0);
+            return new AuditLogExport(sink -> { }, false, 0);
         }
 
-        int wanted = (int) Math.min(total, MAX_EXPORT_ROWS);
-        List<AuditLogRow> rows = new ArrayList<>(wanted);
-        for (int page = 0; rows.size() < wanted; page++) {
-            List<AuditLogRow> chunk = searchAuditLogsPort.search(criteria, page, MAX_PAGE_SIZE);
-            if (chunk.isEmpty()) {
-                // 조회 중 데이터가 줄어든 경우(리텐션 파티션 DROP 등). 무한 루프를 막는다.
-                break;
-            }
-            for (AuditLogRow row : chunk) {
-                if (rows.size() == wanted) {
+        long wanted = Math.min(total, MAX_EXPORT_ROWS);
+        AuditLogRows rows = sink -> {
+            AuditLogCursor cursor = null;
+            long remaining = wanted;
+            while (remaining > 0) {
+                int size = (int) Math.min(EXPORT_PAGE_SIZE, remaining);
+                List<AuditLogRow> page = searchAuditLogsPort.searchAfter(criteria, cursor, size);
+                page.forEach(sink);
+                remaining -= page.size();
+                if (page.size() < size) {
+                    // 건수를 센 뒤 데이터가 줄어든 경우(리텐션 파티션 DROP 등) — 있는 만큼으로 끝낸다.
                     break;
                 }
-                rows.add(row);
+                cursor = AuditLogCursor.after(page.get(page.size() - 1));
             }
-        }
-
+        };
         return new AuditLogExport(rows, total > MAX_EXPORT_ROWS, total);
     }
 
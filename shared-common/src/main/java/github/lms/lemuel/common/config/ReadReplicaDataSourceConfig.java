@@ -1,16 +1,24 @@
 package github.lms.lemuel.common.config;
 
 import com.zaxxer.hikari.HikariDataSource;
+import github.lms.lemuel.common.config.replica.ReadRoutingAspect;
+import github.lms.lemuel.common.config.replica.ReadRoutingPolicy;
+import github.lms.lemuel.common.config.replica.ReadYourWritesTracker;
+import github.lms.lemuel.common.config.replica.ReplicaLagMonitor;
+import github.lms.lemuel.common.config.replica.ReplicaRoute;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.sql.DataSource;
+import java.time.Clock;
 import java.util.Map;
 
 /**
@@ -19,9 +27,10 @@ import java.util.Map;
  * <p>{@code app.datasource.read-replica.enabled=true} 일 때만 활성화된다. 비활성(기본)이면
  * Spring Boot 의 단일 데이터소스 자동구성이 그대로 쓰여 dev/test/기존 동작에 아무 영향이 없다.
  *
- * <p>활성화 시: {@code @Transactional(readOnly = true)} 트랜잭션은 읽기 레플리카로, 그 외(쓰기)는
- * 프라이머리로 라우팅된다. 상품/카테고리/주문조회/정산 대시보드 등 읽기 TPS 를 레플리카로 오프로드해
- * 프라이머리(쓰기) 부하를 줄인다.
+ * <p>활성화 시: {@code @Transactional(readOnly = true)} 트랜잭션과 {@code @ReplicaRead} 조회는 읽기 레플리카로,
+ * 그 외(쓰기)와 {@code @PrimaryRead} 조회는 프라이머리로 라우팅된다. 레플리카 후보라도 다음이면 프라이머리로
+ * 되돌린다 — 같은 사용자가 방금 쓴 직후(read-your-writes 창), 복제 지연이 허용치를 넘었거나 측정이 끊긴 때.
+ * 규칙 전체는 {@link ReadRoutingPolicy}, 지연 측정은 {@link ReplicaLagMonitor} 참조.
  *
  * <p>핵심: {@link LazyConnectionDataSourceProxy} 로 실제 커넥션 획득을 첫 쿼리 시점까지 지연시켜야
  * 트랜잭션의 readOnly 플래그가 결정된 뒤 라우팅 키가 평가된다. 이 프록시 없이는 트랜잭션 시작 시점에
@@ -35,7 +44,16 @@ import java.util.Map;
 @ConditionalOnProperty(name = "app.datasource.read-replica.enabled", havingValue = "true")
 public class ReadReplicaDataSourceConfig {
 
-    enum Route { WRITE, READ }
+    /** 레플리카 읽기의 기본 허용 지연 — {@code @ReplicaRead(maxLagMillis)} 로 조회마다 바꿀 수 있다. */
+    @Value("${app.datasource.read-replica.max-lag-ms:2000}")
+    private long maxLagMillis;
+
+    @Value("${app.datasource.read-replica.lag-probe-interval-ms:1000}")
+    private long lagProbeIntervalMillis;
+
+    /** 쓰기 커밋 후 그 사용자의 읽기를 프라이머리에 묶는 시간 — max-lag 이상이어야 의미가 있다. */
+    @Value("${app.datasource.read-replica.read-your-writes-window-ms:5000}")
+    private long readYourWritesWindowMillis;
 
     @Bean
     @ConfigurationProperties("app.datasource.write")
@@ -49,27 +67,68 @@ public class ReadReplicaDataSourceConfig {
         return new HikariDataSource();
     }
 
+    /** 라우팅을 거치지 않고 두 풀에 직접 묻는다 — 측정이 라우팅 결과에 좌우되면 안 된다. */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource writeDataSource, HikariDataSource readDataSource,
+                                               MeterRegistry meterRegistry) {
+        JdbcTemplate primary = new JdbcTemplate(writeDataSource);
+        JdbcTemplate replica = new JdbcTemplate(readDataSource);
+        primary.setQueryTimeout(2);
+        replica.setQueryTimeout(2);
+        // 측정 세 번을 놓치면 지연을 모르는 것으로 본다.
+        return new ReplicaLagMonitor(primary, replica, Clock.systemUTC(), lagProbeIntervalMillis * 3, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(Clock.systemUTC(), readYourWritesWindowMillis, 100_000);
+    }
+
+    @Bean
+    public ReadRoutingPolicy readRoutingPolicy(ReplicaLagMonitor replicaLagMonitor,
+                                               ReadYourWritesTracker readYourWritesTracker,
+                                               MeterRegistry meterRegistry) {
+        return new ReadRoutingPolicy(replicaLagMonitor, readYourWritesTracker, maxLagMillis,
+                ReadRoutingPolicy::authenticatedPrincipal, meterRegistry);
+    }
+
+    @Bean
+    public ReadRoutingAspect readRoutingAspect() {
+        return new ReadRoutingAspect();
+    }
+
     @Bean
     @Primary
-    public DataSource dataSource(HikariDataSource writeDataSource, HikariDataSource readDataSource) {
-        RoutingDataSource routing = new RoutingDataSource();
+    public DataSource dataSource(HikariDataSource writeDataSource, HikariDataSource readDataSource,
+                                 ReadRoutingPolicy readRoutingPolicy) {
+        return routing(writeDataSource, readDataSource, readRoutingPolicy);
+    }
+
+    /** 라우팅 데이터소스 조립 — 설정 밖(테스트)에서도 같은 배선을 쓴다. */
+    public static DataSource routing(DataSource primary, DataSource replica, ReadRoutingPolicy policy) {
+        RoutingDataSource routing = new RoutingDataSource(policy);
         routing.setTargetDataSources(Map.of(
-                Route.WRITE, writeDataSource,
-                Route.READ, readDataSource));
-        routing.setDefaultTargetDataSource(writeDataSource);
+                ReplicaRoute.PRIMARY, primary,
+                ReplicaRoute.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
         routing.afterPropertiesSet();
         return new LazyConnectionDataSourceProxy(routing);
     }
 
     /**
-     * 현재 트랜잭션의 readOnly 여부로 라우팅 키 결정. readOnly → READ(레플리카), 그 외 → WRITE(프라이머리).
+     * 커넥션을 잡을 때 {@link ReadRoutingPolicy} 로 라우팅 키 결정.
      */
     static class RoutingDataSource extends AbstractRoutingDataSource {
+
+        private final ReadRoutingPolicy policy;
+
+        RoutingDataSource(ReadRoutingPolicy policy) {
+            this.policy = policy;
+        }
+
         @Override
         protected Object determineCurrentLookupKey() {
-            return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
-                    ? Route.READ
-                    : Route.WRITE;
+            return policy.route();
         }
     }
 }
@@ -0,0 +1,293 @@
+package github.lms.lemuel.common.config.observability;
+
+/**
+ * 로그 한 줄에서 PII 를 한 번의 순회로 찾아 마스킹하는 손수 짠 스캐너 — {@link PIIMaskingConverter} 의 본체.
+ *
+ * <p>예전에는 이메일·전화·카드 정규식 세 개를 차례로 돌려 한 줄을 세 번 훑고, PII 가 없는 줄에도 매번
+ * 중간 문자열을 새로 만들었다. 지금은 문자를 한 번 지나가며 {@code '@'} 와 "단어 경계에서 시작하는
+ * 숫자" 에서만 멈춰 후보를 판정한다. 아무 것도 찾지 못하면 입력 문자열을 그대로 돌려준다(복사 없음).
+ * 찾으면 스레드별로 재사용하는 버퍼에 "마지막 마스킹 이후 원문 + 마스킹 결과" 를 이어 붙인다.
+ *
+ * <p>판정 규칙:
+ * <ul>
+ *   <li>이메일 — {@code '@'} 앞의 로컬 파트({@code [A-Za-z0-9._%+-]+})와 뒤의 도메인
+ *       ({@code [A-Za-z0-9.-]+} 중 마지막 {@code .영문2자 이상} 까지). {@code u***@e***.com}</li>
+ *   <li>카드 — 16자리, 4자리마다 {@code '-'} 또는 공백 하나 허용. {@code 123456******3456}</li>
+ *   <li>주민등록번호 — {@code YYMMDD-GNNNNNN}(월·일·성별자리 검증). {@code 900101-1******}</li>
+ *   <li>휴대전화 — {@code 01[016789]} 로 시작하는 10~11자리, 하이픈은 3자리 뒤·끝 4자리 앞에만.
+ *       {@code 010-****-5678}</li>
+ *   <li>계좌번호 — 하이픈 세 묶음 이상, 10~14자리. 첫 묶음과 끝 4자리만 남긴다. {@code 110-***-**6789}</li>
+ * </ul>
+ * 숫자 후보는 앞뒤가 영숫자·{@code _} 가 아니어야 한다(한글은 경계로 본다 — "번호01012345678" 도 잡는다).
+ * 뒤가 {@code '@'} 이면 이메일 로컬 파트로 넘긴다.
+ */
+final class PiiScanner {
+
+    /** 이보다 커진 버퍼는 재사용하지 않는다 — 한 번의 거대한 줄이 스레드마다 메모리를 붙잡지 않게. */
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private PiiScanner() {
+    }
+
+    static String mask(String in) {
+        if (in == null || in.isEmpty()) {
+            return in;
+        }
+        StringBuilder out = buffer();
+        int copied = 0; // in[0, copied) 는 out 에 반영됨 — 0 이면 아직 아무 것도 가리지 않았다
+        int n = in.length();
+        int i = 0;
+        while (i < n) {
+            char c = in.charAt(i);
+            if (c == '@') {
+                int end = maskEmail(in, i, copied, out);
+                if (end > 0) {
+                    copied = i = end;
+                } else {
+                    i++;
+                }
+            } else if (isDigit(c) && (i == 0 || !isWordChar(in.charAt(i - 1)))) {
+                int end = maskDigits(in, i, copied, out);
+                if (end > 0) {
+                    copied = i = end;
+                } else {
+                    i = skipDigits(in, i);
+                }
+            } else {
+                i++;
+            }
+        }
+        if (copied == 0) {
+            return in;
+        }
+        String result = out.append(in, copied, n).toString();
+        release(out);
+        return result;
+    }
+
+    // ── 이메일 ───────────────────────────────────────────────────────────────
+
+    /** in[at] == '@'. 이메일이면 마스킹해 out 에 붙이고 끝 인덱스를, 아니면 -1 을 돌려준다. */
+    private static int maskEmail(String in, int at, int copied, StringBuilder out) {
+        int local = at;
+        while (local > copied && isLocalChar(in.charAt(local - 1))) {
+            local--;
+        }
+        if (local == at) {
+            return -1;
+        }
+        int domainEnd = at + 1;
+        while (domainEnd < in.length() && isDomainChar(in.charAt(domainEnd))) {
+            domainEnd++;
+        }
+        // 도메인 첫 글자 뒤의 마지막 "." + 영문 2자 이상 — 정규식의 탐욕적 되추적과 같은 결과.
+        for (int dot = domainEnd - 1; dot >= at + 2; dot--) {
+            if (in.charAt(dot) != '.') {
+                continue;
+            }
+            int tldEnd = dot + 1;
+            while (tldEnd < domainEnd && isAsciiLetter(in.charAt(tldEnd))) {
+                tldEnd++;
+            }
+            if (tldEnd - dot - 1 >= 2) {
+                out.append(in, copied, local)
+                        .append(in.charAt(local)).append("***@")
+                        .append(in.charAt(at + 1)).append("***")
+                        .append(in, dot, tldEnd);
+                return tldEnd;
+            }
+        }
+        return -1;
+    }
+
+    // ── 숫자 후보 ────────────────────────────────────────────────────────────
+
+    /** in[start] 은 경계에서 시작하는 숫자. PII 면 마스킹해 out 에 붙이고 끝 인덱스를, 아니면 -1. */
+    private static int maskDigits(String in, int start, int copied, StringBuilder out) {
+        int cardEnd = cardEnd(in, start);
+        if (cardEnd > 0) {
+            out.append(in, copied, start);
+            appendCard(in, start, cardEnd, out);
+            return cardEnd;
+        }
+
+        // 하이픈으로만 이어진 묶음(chunk) — 묶음 수, 총 자릿수, 첫 묶음 길이, 앞의 두 하이픈 위치(자릿수 기준).
+        int n = in.length();
+        int i = start;
+        int count = 0;
+        int digits = 0;
+        int firstGroup = 0;
+        int cut1 = -1;
+        int cut2 = -1;
+        while (true) {
+            int g = i;
+            while (i < n && isDigit(in.charAt(i))) {
+                i++;
+            }
+            if (count == 0) {
+                firstGroup = i - g;
+            }
+            digits += i - g;
+            count++;
+            if (i + 1 < n && in.charAt(i) == '-' && isDigit(in.charAt(i + 1))) {
+                if (count == 1) {
+                    cut1 = digits;
+                } else if (count == 2) {
+                    cut2 = digits;
+                }
+                i++;
+                continue;
+            }
+            break;
+        }
+        int end = i;
+        if (end < n && (isWordChar(in.charAt(end)) || in.charAt(end) == '@')) {
+            return -1;
+        }
+
+        if (count == 2 && firstGroup == 6 && digits == 13 && isResidentNumber(in, start)) {
+            out.append(in, copied, start).append(in, start, start + 8).append("******");
+            return end;
+        }
+        if (count <= 3 && isMobile(in, start, digits, cut1, cut2)) {
+            out.append(in, copied, start)
+                    .append(in, start, start + 3).append("-****-").append(in, end - 4, end);
+            return end;
+        }
+        if (count >= 3 && digits >= 10 && digits <= 14) {
+            out.append(in, copied, start);
+            appendAccount(in, start, end, firstGroup, digits, out);
+            return end;
+        }
+        return -1;
+    }
+
+    /** 16자리 카드번호(4자리마다 '-'·공백 하나 허용)면 끝 인덱스, 아니면 -1. */
+    private static int cardEnd(String in, int start) {
+        int n = in.length();
+        int i = start;
+        int digits = 0;
+        while (digits < 16) {
+            if (i >= n) {
+                return -1;
+            }
+            char c = in.charAt(i);
+            if (isDigit(c)) {
+                digits++;
+                i++;
+            } else if ((c == '-' || c == ' ') && digits % 4 == 0 && digits > 0
+                    && i + 1 < n && isDigit(in.charAt(i + 1)) && !isSeparator(in.charAt(i - 1))) {
+                i++;
+            } else {
+                return -1;
+            }
+        }
+        if (i < n && (isWordChar(in.charAt(i)) || in.charAt(i) == '@')) {
+            return -1;
+        }
+        return i;
+    }
+
+    private static void appendCard(String in, int start, int end, StringBuilder out) {
+        int seen = 0;
+        for (int i = start; i < end; i++) {
+            char c = in.charAt(i);
+            if (!isDigit(c)) {
+                continue;
+            }
+            out.append(seen < 6 || seen >= 12 ? c : '*');
+            seen++;
+        }
+    }
+
+    /** YYMMDD-G 의 월·일·성별자리(1~8, 외국인 5~8 포함) 검증 — 날짜처럼 보이지 않는 6-7 묶음은 거른다. */
+    private static boolean isResidentNumber(String in, int start) {
+        int month = twoDigits(in, start + 2);
+        int day = twoDigits(in, start + 4);
+        char gender = in.charAt(start + 7);
+        return month >= 1 && month <= 12 && day >= 1 && day <= 31 && gender >= '1' && gender <= '8';
+    }
+
+    /** 01[016789] + 10~11자리, 하이픈은 3자리 뒤와 끝 4자리 앞에만(없어도 됨). */
+    private static boolean isMobile(String in, int start, int digits, int cut1, int cut2) {
+        if (digits < 10 || digits > 11) {
+            return false;
+        }
+        if (in.charAt(start) != '0' || in.charAt(start + 1) != '1' || "016789".indexOf(in.charAt(start + 2)) < 0) {
+            return false;
+        }
+        return isMobileCut(cut1, digits) && isMobileCut(cut2, digits);
+    }
+
+    private static boolean isMobileCut(int cut, int digits) {
+        return cut < 0 || cut == 3 || cut == digits - 4;
+    }
+
+    /** 첫 묶음과 끝 4자리만 남기고 나머지 숫자를 가린다. 하이픈은 보존. */
+    private static void appendAccount(String in, int start, int end, int firstGroup, int digits,
+                                      StringBuilder out) {
+        int seen = 0;
+        for (int i = start; i < end; i++) {
+            char c = in.charAt(i);
+            if (c == '-') {
+                out.append(c);
+                continue;
+            }
+            out.append(seen < firstGroup || seen >= digits - 4 ? c : '*');
+            seen++;
+        }
+    }
+
+    // ── 문자 분류 ────────────────────────────────────────────────────────────
+
+    private static int skipDigits(String in, int i) {
+        while (i < in.length() && isDigit(in.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int twoDigits(String in, int at) {
+        return (in.charAt(at) - '0') * 10 + (in.charAt(at + 1) - '0');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWordChar(char c) {
+        return isDigit(c) || isAsciiLetter(c) || c == '_';
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '-' || c == ' ';
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isDigit(c) || isAsciiLetter(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isDigit(c) || isAsciiLetter(c) || c == '.' || c == '-';
+    }
+
+    // ── 버퍼 ─────────────────────────────────────────────────────────────────
+
+    private static StringBuilder buffer() {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        return sb;
+    }
+
+    private static void release(StringBuilder sb) {
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.set(new StringBuilder(256));
+        }
+    }
+}
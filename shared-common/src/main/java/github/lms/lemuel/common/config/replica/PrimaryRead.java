@@ -0,0 +1,19 @@
+package github.lms.lemuel.common.config.replica;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 이 조회는 readOnly 트랜잭션이어도 프라이머리에서 읽는다 — 잔액·한도 확인, 원장 대사처럼 늦은 값이
+ * 곧 잘못된 판단이 되는 읽기용.
+ *
+ * <p>메서드에 붙은 것이 클래스에 붙은 {@link ReplicaRead} 보다 우선한다.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PrimaryRead {
+}
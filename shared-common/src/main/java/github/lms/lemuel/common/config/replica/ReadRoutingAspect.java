@@ -0,0 +1,70 @@
+package github.lms.lemuel.common.config.replica;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ReplicaRead}·{@link PrimaryRead} 가 붙은 메서드 동안 {@link ReadRoutingHints} 에 표시를 건다.
+ *
+ * <p>트랜잭션 인터셉터보다 바깥({@link Ordered#HIGHEST_PRECEDENCE} 쪽)에 둔다 — 트랜잭션이 시작되고 첫 쿼리가
+ * 커넥션을 잡기 전에 표시가 걸려 있어야 한다. 메서드별 표시는 한 번 찾아 캐시한다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class ReadRoutingAspect {
+
+    private final Map<Method, Optional<ReadRoutingHints.Hint>> hints = new ConcurrentHashMap<>();
+
+    @Around("@within(github.lms.lemuel.common.config.replica.ReplicaRead)"
+            + " || @annotation(github.lms.lemuel.common.config.replica.ReplicaRead)"
+            + " || @within(github.lms.lemuel.common.config.replica.PrimaryRead)"
+            + " || @annotation(github.lms.lemuel.common.config.replica.PrimaryRead)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Class<?> targetClass = joinPoint.getTarget() == null
+                ? signature.getDeclaringType() : AopUtils.getTargetClass(joinPoint.getTarget());
+        Method method = AopUtils.getMostSpecificMethod(signature.getMethod(), targetClass);
+        Optional<ReadRoutingHints.Hint> hint = hints.computeIfAbsent(method, ReadRoutingAspect::resolve);
+        if (hint.isEmpty()) {
+            return joinPoint.proceed();
+        }
+        ReadRoutingHints.Hint previous = ReadRoutingHints.push(hint.get());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReadRoutingHints.restore(previous);
+        }
+    }
+
+    /** 메서드 표시가 클래스 표시보다 우선. 같은 자리에 둘 다 있으면 안전한 쪽(프라이머리). */
+    static Optional<ReadRoutingHints.Hint> resolve(Method method) {
+        Optional<ReadRoutingHints.Hint> onMethod = hintOn(
+                AnnotatedElementUtils.findMergedAnnotation(method, PrimaryRead.class),
+                AnnotatedElementUtils.findMergedAnnotation(method, ReplicaRead.class));
+        if (onMethod.isPresent()) {
+            return onMethod;
+        }
+        Class<?> type = method.getDeclaringClass();
+        return hintOn(
+                AnnotatedElementUtils.findMergedAnnotation(type, PrimaryRead.class),
+                AnnotatedElementUtils.findMergedAnnotation(type, ReplicaRead.class));
+    }
+
+    private static Optional<ReadRoutingHints.Hint> hintOn(PrimaryRead primaryRead, ReplicaRead replicaRead) {
+        if (primaryRead != null) {
+            return Optional.of(ReadRoutingHints.Hint.PRIMARY);
+        }
+        return Optional.ofNullable(replicaRead).map(ReadRoutingHints.Hint::of);
+    }
+}
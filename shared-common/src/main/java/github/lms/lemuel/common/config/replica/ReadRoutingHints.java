@@ -0,0 +1,45 @@
+package github.lms.lemuel.common.config.replica;
+
+/**
+ * 현재 스레드에서 실행 중인 조회의 라우팅 표시 — {@link ReadRoutingAspect} 가 메서드 진입 때 걸고 나갈 때 되돌린다.
+ *
+ * <p>중첩 호출은 안쪽 표시가 이긴다. 나갈 때는 바깥 표시로 되돌린다. 커넥션은
+ * {@code LazyConnectionDataSourceProxy} 덕에 첫 쿼리 때 잡히므로, 그 순간 걸려 있는 표시가 라우팅을 정한다.
+ */
+public final class ReadRoutingHints {
+
+    /** 표시 — {@code preferred} 가 REPLICA 면 {@code maxLagMillis}(0 이하=전역 기본값)까지 늦은 데이터를 허용한다. */
+    public record Hint(ReplicaRoute preferred, long maxLagMillis) {
+
+        public static final Hint PRIMARY = new Hint(ReplicaRoute.PRIMARY, 0);
+
+        static Hint of(ReplicaRead replicaRead) {
+            return new Hint(ReplicaRoute.REPLICA, replicaRead.maxLagMillis());
+        }
+    }
+
+    private static final ThreadLocal<Hint> CURRENT = new ThreadLocal<>();
+
+    private ReadRoutingHints() {
+    }
+
+    /** 걸려 있는 표시. 없으면 {@code null} — 트랜잭션 readOnly 플래그만으로 정한다. */
+    public static Hint current() {
+        return CURRENT.get();
+    }
+
+    /** 표시를 걸고 직전 표시를 돌려준다 — 호출자가 {@link #restore} 로 되돌린다. */
+    static Hint push(Hint hint) {
+        Hint previous = CURRENT.get();
+        CURRENT.set(hint);
+        return previous;
+    }
+
+    static void restore(Hint previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
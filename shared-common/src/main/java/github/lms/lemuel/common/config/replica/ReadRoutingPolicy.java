@@ -0,0 +1,122 @@
+package github.lms.lemuel.common.config.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 커넥션을 잡는 순간 프라이머리와 레플리카 중 어디로 갈지 정한다.
+ *
+ * <p>위에서부터 처음 맞는 규칙이 이긴다.
+ * <ol>
+ *   <li>{@link PrimaryRead} → 프라이머리</li>
+ *   <li>읽기-쓰기 트랜잭션 → 프라이머리. 커밋되면 그 사용자를 read-your-writes 창에 묶는다</li>
+ *   <li>readOnly 트랜잭션도 {@link ReplicaRead} 도 아님 → 프라이머리. 트랜잭션 밖 조회는 표시가 있어야 레플리카로 간다</li>
+ *   <li>현재 사용자가 read-your-writes 창 안 → 프라이머리</li>
+ *   <li>레플리카 지연을 모르거나 허용치({@link ReplicaRead#maxLagMillis()}, 없으면 전역)를 넘음 → 프라이머리</li>
+ *   <li>그 외 → 레플리카</li>
+ * </ol>
+ *
+ * <p>메트릭: {@code db.replica.route}(route, reason) — 레플리카로 못 간 이유별 건수를 본다.
+ */
+public class ReadRoutingPolicy {
+
+    /** 라우팅 결정 이유 — 메트릭 태그로도 쓴다. */
+    public enum Reason {
+        PRIMARY_READ,
+        READ_WRITE_TRANSACTION,
+        NOT_READ_ONLY,
+        READ_YOUR_WRITES,
+        LAG_UNKNOWN,
+        LAG_EXCEEDED,
+        REPLICA
+    }
+
+    public record Decision(ReplicaRoute route, Reason reason) {
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final long defaultMaxLagMillis;
+    private final Supplier<String> sessionKey;
+    private final Map<Reason, Counter> decisions = new EnumMap<>(Reason.class);
+
+    public ReadRoutingPolicy(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWrites,
+                             long defaultMaxLagMillis, Supplier<String> sessionKey, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        this.defaultMaxLagMillis = defaultMaxLagMillis;
+        this.sessionKey = sessionKey;
+        for (Reason reason : Reason.values()) {
+            ReplicaRoute route = reason == Reason.REPLICA ? ReplicaRoute.REPLICA : ReplicaRoute.PRIMARY;
+            decisions.put(reason, Counter.builder("db.replica.route")
+                    .tag("route", route.name().toLowerCase())
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /** 현재 스레드의 트랜잭션 상태·라우팅 표시·사용자로 결정한다 — 라우팅 데이터소스가 커넥션을 잡을 때 부른다. */
+    public ReplicaRoute route() {
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        String key = sessionKey.get();
+        Decision decision = decide(inTransaction, readOnly, ReadRoutingHints.current(), key);
+        decisions.get(decision.reason()).increment();
+        if (decision.reason() == Reason.READ_WRITE_TRANSACTION && key != null
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWrites.recordWrite(key);
+                }
+            });
+        }
+        return decision.route();
+    }
+
+    Decision decide(boolean inTransaction, boolean readOnly, ReadRoutingHints.Hint hint, String key) {
+        if (hint != null && hint.preferred() == ReplicaRoute.PRIMARY) {
+            return primary(Reason.PRIMARY_READ);
+        }
+        if (inTransaction && !readOnly) {
+            return primary(Reason.READ_WRITE_TRANSACTION);
+        }
+        if (!readOnly && hint == null) {
+            return primary(Reason.NOT_READ_ONLY);
+        }
+        if (readYourWrites.isPinned(key)) {
+            return primary(Reason.READ_YOUR_WRITES);
+        }
+        long lag = lagMonitor.currentLagMillis();
+        if (lag == ReplicaLagMonitor.UNKNOWN) {
+            return primary(Reason.LAG_UNKNOWN);
+        }
+        long allowed = hint != null && hint.maxLagMillis() > 0 ? hint.maxLagMillis() : defaultMaxLagMillis;
+        if (lag > allowed) {
+            return primary(Reason.LAG_EXCEEDED);
+        }
+        return new Decision(ReplicaRoute.REPLICA, Reason.REPLICA);
+    }
+
+    private static Decision primary(Reason reason) {
+        return new Decision(ReplicaRoute.PRIMARY, reason);
+    }
+
+    /** 인증된 사용자 이름 — 익명·미인증이면 {@code null}(read-your-writes 를 추적하지 않는다). */
+    public static String authenticatedPrincipal() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+}
@@ -0,0 +1,63 @@
+package github.lms.lemuel.common.config.replica;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * read-your-writes 창 — 사용자가 쓰기 트랜잭션을 커밋한 뒤 {@code windowMillis} 동안 그 사용자의 읽기를 프라이머리에 묶는다.
+ *
+ * <p>정산을 확정하고 곧바로 목록을 다시 불렀는데 레플리카가 아직 못 따라와 "확정 전" 으로 보이는 일을 막는다. 창은
+ * 라우터의 최대 허용 지연 이상이어야 한다. 창이 끝날 무렵이면 레플리카 지연이 허용치 안이라는 것이 측정으로 보장된다.
+ *
+ * <p>인스턴스 메모리에만 둔다. 게이트웨이가 같은 사용자를 다른 인스턴스로 보내면 그 인스턴스는 최근 쓰기를 모른다.
+ * 다만 그 경우도 지연 허용치 안의 데이터만 보여 준다 — 창이 좁혀 주는 것은 "방금 내가 쓴 것" 이 안 보이는 몇 초다.
+ * 만료된 항목은 조회 때 지우고, 항목이 {@code maxEntries} 를 넘으면 쓰기 기록 때 한 번 훑어 비운다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Clock clock;
+    private final long windowMillis;
+    private final int maxEntries;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Clock clock, long windowMillis, int maxEntries) {
+        if (windowMillis < 0) {
+            throw new IllegalArgumentException("windowMillis 는 음수일 수 없습니다: " + windowMillis);
+        }
+        this.clock = clock;
+        this.windowMillis = windowMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /** {@code sessionKey} 의 쓰기가 커밋됐다 — 지금부터 창 동안 프라이머리에 묶는다. 키가 없으면(익명) 무시. */
+    public void recordWrite(String sessionKey) {
+        if (sessionKey == null || windowMillis == 0) {
+            return;
+        }
+        long now = clock.millis();
+        pinnedUntil.put(sessionKey, now + windowMillis);
+        if (pinnedUntil.size() > maxEntries) {
+            pinnedUntil.values().removeIf(until -> until <= now);
+        }
+    }
+
+    public boolean isPinned(String sessionKey) {
+        if (sessionKey == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(sessionKey);
+        if (until == null) {
+            return false;
+        }
+        if (until > clock.millis()) {
+            return true;
+        }
+        pinnedUntil.remove(sessionKey, until);
+        return false;
+    }
+
+    int size() {
+        return pinnedUntil.size();
+    }
+}
@@ -0,0 +1,118 @@
+package github.lms.lemuel.common.config.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+
+/**
+ * 읽기 레플리카의 복제 지연을 주기적으로 재서 라우터에 알려 준다.
+ *
+ * <p>한 번 잴 때 두 쿼리를 쓴다.
+ * <ol>
+ *   <li>프라이머리의 현재 WAL 위치 — {@code pg_current_wal_lsn()}</li>
+ *   <li>레플리카가 적용한 위치와 마지막 적용 트랜잭션의 나이 —
+ *       {@code pg_last_wal_replay_lsn()}, {@code now() - pg_last_xact_replay_timestamp()}</li>
+ * </ol>
+ * 적용 위치가 1 의 위치에 닿았으면 지연 0 이다. 그 시점까지 커밋된 것은 모두 보인다. 못 닿았으면 마지막 적용 이후
+ * 흐른 시간을 지연으로 본다. {@code pg_last_xact_replay_timestamp} 만 쓰면 한가할 때(쓰기가 없을 때) 지연이
+ * 끝없이 커 보이고, 레플리카 쪽 LSN 끼리만 비교하면(receive = replay) 스트림이 끊겨도 0 으로 보인다. 프라이머리
+ * 위치와 비교해야 둘 다 피한다.
+ *
+ * <p>측정이 실패하거나 마지막 측정이 {@code staleAfterMillis} 보다 오래되면 지연을 "모름"으로 보고, 라우터는
+ * 프라이머리로 돌린다. 레플리카가 죽었을 때 조회가 실패하는 대신 프라이머리 부하가 잠시 늘어나는 쪽을 고른 것이다.
+ *
+ * <p>메트릭: {@code db.replica.lag}(ms, 모름=-1).
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    /** 지연을 모름 — 측정 실패 또는 측정이 오래됨. */
+    public static final long UNKNOWN = -1;
+
+    static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    /** 복구 중이 아니면(승격됐거나 같은 서버를 가리키면) 자기 자신이 최신이다. */
+    static final String REPLICA_STATE_SQL = """
+            SELECT CASE WHEN pg_is_in_recovery() THEN pg_last_wal_replay_lsn()::text END AS replay_lsn,
+                   CASE WHEN pg_is_in_recovery()
+                        THEN (EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000)::bigint
+                   END AS replay_age_ms
+            """;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Clock clock;
+    private final long staleAfterMillis;
+
+    private volatile long lagMillis = UNKNOWN;
+    private volatile long measuredAtMillis;
+
+    /**
+     * @param staleAfterMillis 이보다 오래된 측정은 믿지 않는다 — 측정 주기의 몇 배로 둔다
+     */
+    public ReplicaLagMonitor(JdbcTemplate primary, JdbcTemplate replica, Clock clock, long staleAfterMillis,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.clock = clock;
+        this.staleAfterMillis = staleAfterMillis;
+        Gauge.builder("db.replica.lag", this, ReplicaLagMonitor::currentLagMillis)
+                .baseUnit("milliseconds")
+                .description("읽기 레플리카 복제 지연 (모름=-1)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.read-replica.lag-probe-interval-ms:1000}")
+    public void probe() {
+        try {
+            String primaryLsn = primary.queryForObject(PRIMARY_LSN_SQL, String.class);
+            long lag = replica.queryForObject(REPLICA_STATE_SQL, (rs, rowNum) -> {
+                String replayLsn = rs.getString("replay_lsn");
+                if (replayLsn == null) {
+                    return 0L;
+                }
+                if (parseLsn(replayLsn) >= parseLsn(primaryLsn)) {
+                    return 0L;
+                }
+                long age = rs.getLong("replay_age_ms");
+                // 아직 한 건도 적용하지 않은 레플리카(타임스탬프 NULL)는 따라잡는 중이라 볼 수 없다.
+                return rs.wasNull() ? UNKNOWN : Math.max(age, 0L);
+            });
+            record(lag);
+        } catch (RuntimeException e) {
+            record(UNKNOWN);
+            log.warn("레플리카 지연 측정 실패 — 읽기를 프라이머리로 돌린다: {}", e.getMessage());
+        }
+    }
+
+    /** 측정 결과를 측정 시각과 함께 남긴다. */
+    void record(long lag) {
+        lagMillis = lag;
+        measuredAtMillis = clock.millis();
+    }
+
+    /** 최근 측정 지연(ms). 측정이 없거나 실패했거나 오래됐으면 {@link #UNKNOWN}. */
+    public long currentLagMillis() {
+        if (clock.millis() - measuredAtMillis > staleAfterMillis) {
+            return UNKNOWN;
+        }
+        return lagMillis;
+    }
+
+    /** PostgreSQL LSN 텍스트({@code 16/B374D848}) → 바이트 위치. */
+    static long parseLsn(String lsn) {
+        int slash = lsn.indexOf('/');
+        if (slash < 0) {
+            throw new IllegalArgumentException("LSN 형식이 아닙니다: " + lsn);
+        }
+        long high = Long.parseLong(lsn, 0, slash, 16);
+        long low = Long.parseLong(lsn, slash + 1, lsn.length(), 16);
+        return (high << 32) | low;
+    }
+}
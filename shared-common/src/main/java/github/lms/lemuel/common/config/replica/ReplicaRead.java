@@ -0,0 +1,32 @@
+package github.lms.lemuel.common.config.replica;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 이 조회는 레플리카에서 읽어도 된다 — 몇 초 늦은 데이터를 보여 줘도 되는 목록·검색·대시보드용.
+ *
+ * <p>{@code @Transactional(readOnly = true)} 만으로도 레플리카 후보가 되지만, 이 표시가 있으면 트랜잭션 밖
+ * 조회도 레플리카로 보내고, 허용 지연을 조회마다 정할 수 있다(명세서 목록은 30초, 정산 검색은 기본값 등).
+ * 다음 경우에는 표시가 있어도 프라이머리로 간다.
+ * <ul>
+ *   <li>읽기-쓰기 트랜잭션 안 — 쓴 것을 같은 트랜잭션에서 다시 읽어야 하므로</li>
+ *   <li>같은 사용자가 방금 쓴 직후(read-your-writes 창 안)</li>
+ *   <li>레플리카 지연이 허용치를 넘었거나 측정이 끊겼을 때</li>
+ * </ul>
+ *
+ * <p>메서드에 붙은 것이 클래스에 붙은 것보다 우선한다. 라우팅 데이터소스가 꺼져 있으면 아무 효과가 없다.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+
+    /**
+     * 이 조회가 견디는 최대 복제 지연(ms). 0 이하면 {@code app.datasource.read-replica.max-lag-ms} 를 쓴다.
+     */
+    long maxLagMillis() default 0;
+}
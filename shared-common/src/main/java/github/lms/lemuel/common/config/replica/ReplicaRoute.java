@@ -0,0 +1,9 @@
+package github.lms.lemuel.common.config.replica;
+
+/**
+ * 라우팅 데이터소스의 대상 키 — 프라이머리(쓰기·최신 읽기) 또는 읽기 레플리카.
+ */
+public enum ReplicaRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -1,7 +1,20 @@
 package github.lms.lemuel.common.money;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 /**
  * 금액 값 객체(Value Object) — 공용 VO (shared-common 승격, US-001).
@@ -13,24 +26,73 @@ import java.math.RoundingMode;
  * {@link RoundingMode#HALF_UP} 로 정규화하므로 동등성·반올림 규칙이 한곳에 모인다 — 도메인 곳곳에
  * 흩어져 있던 {@code .setScale(2, HALF_UP)} 를 이 VO 가 캡슐화한다.
  *
- * <p>불변(record)이며 값 기반 동등성을 가진다. 음수도 표현 가능하다(환불로 net 이 0 이하가 되는
+ * <p>불변이며 값 기반 동등성을 가진다. 음수도 표현 가능하다(환불로 net 이 0 이하가 되는
  * 중간 계산을 허용) — 음수 여부는 {@link #isNegative()} 로 판별한다.
  *
+ * <p><b>내부 표현</b> — 원래 {@code BigDecimal} 하나를 감싼 record 였고, 덧셈·뺄셈·곱셈마다
+ * BigDecimal 을 만들고 scale 을 다시 맞췄다. 지금은 값을 <b>1/100 원 단위 long</b>({@code minor})으로
+ * 들고, long 범위(약 ±9.2경 원)를 넘는 값만 {@code BigDecimal} 로 둔다. 연산은 long 으로 하다가
+ * 넘침을 감지하면 그 연산만 BigDecimal 로 다시 한다. 같은 값은 항상 같은 표현(long 에 들어가면 long)
+ * 이므로 동등성·해시는 표현과 무관하다. 반올림 결과·{@link #amount()}·{@code toString}·JSON 모양
+ * ({@code {"amount": 1750.00}})은 record 시절과 같다.
+ *
  * <p><b>경계 주의</b>: 이 VO 는 <em>scale 2 HALF_UP</em> 통화 금액 전용이다. 주식 호가(scale 0,
  * 호가단위 FLOOR)·비율·백분율처럼 반올림 정책이 다른 값에는 사용하지 말 것 — 라운딩 의미가 손상된다.
  */
-public record Money(BigDecimal amount) {
+@JsonAutoDetect(getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+public final class Money {
 
     /** 통화 금액 스케일 (원 단위, 소수점 2자리 — DB numeric(.,2) 와 일치). */
     public static final int SCALE = 2;
 
-    public static final Money ZERO = Money.of(BigDecimal.ZERO);
+    public static final Money ZERO = new Money(0L);
+
+    /** 10^0 ~ 10^18 — long 에 들어가는 10의 거듭제곱 전부. */
+    private static final long[] POW10 = new long[19];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
 
-    public Money {
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    /** 1/100 원 단위 값. {@link #big} 이 null 일 때만 의미가 있다. */
+    private final long minor;
+
+    /** long 범위를 넘는 값일 때만 non-null (scale 2 정규화됨). */
+    private final BigDecimal big;
+
+    /** record 시절의 정규 생성자와 같은 계약 — null 거부, scale 2 HALF_UP 정규화. */
+    @JsonCreator
+    public Money(@JsonProperty("amount") BigDecimal amount) {
         if (amount == null) {
             throw new IllegalArgumentException("amount must not be null");
         }
-        amount = amount.setScale(SCALE, RoundingMode.HALF_UP);
+        long compact = toMinorOrOverflow(amount);
+        if (compact != OVERFLOW) {
+            this.minor = compact;
+            this.big = null;
+        } else {
+            BigDecimal scaled = amount.setScale(SCALE, RoundingMode.HALF_UP);
+            BigInteger unscaled = scaled.unscaledValue();
+            if (fitsLong(unscaled)) {
+                this.minor = unscaled.longValue();
+                this.big = null;
+            } else {
+                this.minor = 0L;
+                this.big = scaled;
+            }
+        }
+    }
+
+    private Money(long minor) {
+        this.minor = minor;
+        this.big = null;
     }
 
     public static Money of(BigDecimal amount) {
@@ -43,15 +105,36 @@ public record Money(BigDecimal amount) {
 
     /** 정수 원 단위 금액 (예: {@code Money.won(50000)}). */
     public static Money won(long amount) {
-        return new Money(BigDecimal.valueOf(amount));
+        long minor = amount * 100;
+        if (Math.multiplyHigh(amount, 100) != (minor >> 63)) {
+            return new Money(BigDecimal.valueOf(amount));
+        }
+        return new Money(minor);
+    }
+
+    /** 1/100 원 단위 정수로 만든다 (예: {@code Money.ofMinor(175000)} = 1750.00원). */
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits);
     }
 
     public Money plus(Money other) {
-        return new Money(this.amount.add(other.amount));
+        if (big == null && other.big == null) {
+            long r = minor + other.minor;
+            if (((minor ^ r) & (other.minor ^ r)) >= 0) {
+                return new Money(r);
+            }
+        }
+        return new Money(amount().add(other.amount()));
     }
 
     public Money minus(Money other) {
-        return new Money(this.amount.subtract(other.amount));
+        if (big == null && other.big == null) {
+            long r = minor - other.minor;
+            if (((minor ^ other.minor) & (minor ^ r)) >= 0) {
+                return new Money(r);
+            }
+        }
+        return new Money(amount().subtract(other.amount()));
     }
 
     /** 요율 등 배수 곱셈 (예: 수수료율 0.035). 결과는 scale 2 HALF_UP 로 정규화된다. */
@@ -59,48 +142,254 @@ public record Money(BigDecimal amount) {
         if (multiplier == null) {
             throw new IllegalArgumentException("multiplier must not be null");
         }
-        return new Money(this.amount.multiply(multiplier));
+        if (big == null) {
+            // minor × (u / 10^s) 를 1/100 원 단위에서 HALF_UP — BigDecimal 곱셈 후 setScale(2) 와 같은 값.
+            int s = multiplier.scale();
+            if (s >= 0 && s < POW10.length && multiplier.precision() < POW10.length) {
+                long u = unscaledLong(multiplier, s);
+                long product = minor * u;
+                if (Math.multiplyHigh(minor, u) == (product >> 63)) {
+                    return new Money(divideHalfUp(product, POW10[s]));
+                }
+            }
+        }
+        return new Money(amount().multiply(multiplier));
     }
 
     /** 부호 반전 — 역분개·상계 중간 계산에 사용. */
     public Money negate() {
-        return new Money(this.amount.negate());
+        if (big == null && minor != Long.MIN_VALUE) {
+            return new Money(-minor);
+        }
+        return new Money(amount().negate());
     }
 
     public Money min(Money other) {
-        return this.amount.compareTo(other.amount) <= 0 ? this : other;
+        return compareTo(other) <= 0 ? this : other;
     }
 
     public Money max(Money other) {
-        return this.amount.compareTo(other.amount) >= 0 ? this : other;
+        return compareTo(other) >= 0 ? this : other;
     }
 
     public boolean isNegative() {
-        return amount.signum() < 0;
+        return signum() < 0;
     }
 
     public boolean isPositive() {
-        return amount.signum() > 0;
+        return signum() > 0;
     }
 
     public boolean isZero() {
-        return amount.signum() == 0;
+        return signum() == 0;
     }
 
     public boolean isZeroOrNegative() {
-        return amount.signum() <= 0;
+        return signum() <= 0;
     }
 
     public boolean isGreaterThan(Money other) {
-        return this.amount.compareTo(other.amount) > 0;
+        return compareTo(other) > 0;
     }
 
     public boolean isLessThanOrEqualTo(Money other) {
-        return this.amount.compareTo(other.amount) <= 0;
+        return compareTo(other) <= 0;
+    }
+
+    /** scale 2 로 정규화된 값 — record 시절의 접근자 그대로. JSON 으로는 {@code "amount"} 로 나간다. */
+    @JsonProperty("amount")
+    public BigDecimal amount() {
+        return big != null ? big : BigDecimal.valueOf(minor, SCALE);
     }
 
     /** 영속성/외부 경계로 내보낼 때 사용하는 원시 표현. */
     public BigDecimal toBigDecimal() {
-        return amount;
+        return amount();
+    }
+
+    /**
+     * 1/100 원 단위 정수 값.
+     *
+     * @throws ArithmeticException long 범위를 넘는 금액이면
+     */
+    public long toMinorUnitsExact() {
+        if (big != null) {
+            throw new ArithmeticException("amount out of long minor-unit range: " + big);
+        }
+        return minor;
+    }
+
+    // ── 합계 ─────────────────────────────────────────────────────────────────
+
+    /** 여러 금액의 합. 비어 있으면 {@link #ZERO}. 중간에 long 을 넘으면 나머지를 BigDecimal 로 더한다. */
+    public static Money sum(Iterable<Money> amounts) {
+        Sum sum = new Sum();
+        for (Money amount : amounts) {
+            sum.add(amount);
+        }
+        return sum.result();
+    }
+
+    /** 원소에서 금액을 뽑아 더한다 (예: {@code Money.sum(entries, LedgerEntry::amount)}). */
+    public static <T> Money sum(Iterable<T> items, Function<? super T, Money> amountOf) {
+        Sum sum = new Sum();
+        for (T item : items) {
+            sum.add(amountOf.apply(item));
+        }
+        return sum.result();
+    }
+
+    /** 스트림용 합계 수집기 — {@code stream.collect(Money.summing())}. 중간 결과마다 Money 를 만들지 않는다. */
+    public static Collector<Money, ?, Money> summing() {
+        return new SummingCollector();
+    }
+
+    // ── 동등성 ───────────────────────────────────────────────────────────────
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money other)) {
+            return false;
+        }
+        // 같은 값은 항상 같은 표현이다 — 표현이 다르면 값도 다르다.
+        if (big == null) {
+            return other.big == null && minor == other.minor;
+        }
+        return big.equals(other.big);
+    }
+
+    @Override
+    public int hashCode() {
+        return big == null ? Long.hashCode(minor) : big.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Money[amount=" + amount() + "]";
+    }
+
+    // ── 내부 ─────────────────────────────────────────────────────────────────
+
+    private int compareTo(Money other) {
+        if (big == null && other.big == null) {
+            return Long.compare(minor, other.minor);
+        }
+        return amount().compareTo(other.amount());
+    }
+
+    private int signum() {
+        return big == null ? Long.signum(minor) : big.signum();
+    }
+
+    /**
+     * {@link #toMinorOrOverflow} 가 "빠른 경로로 못 만듦" 을 알리는 값. 실제 값이 정확히 이것이어도
+     * 느린 경로가 같은 결과(long 표현)를 만들므로 구분할 필요가 없다.
+     */
+    private static final long OVERFLOW = Long.MIN_VALUE;
+
+    /**
+     * BigDecimal 을 scale 2 HALF_UP 으로 맞춘 1/100 원 정수로 — BigInteger 를 만들지 않는 경로.
+     * 자릿수·scale 이 빠른 경로 밖이거나 long 을 넘으면 {@link #OVERFLOW}.
+     */
+    private static long toMinorOrOverflow(BigDecimal amount) {
+        int s = amount.scale();
+        if (s < 0 || s - SCALE >= POW10.length || amount.precision() >= POW10.length) {
+            return OVERFLOW;
+        }
+        long unscaled = unscaledLong(amount, s);
+        if (s <= SCALE) {
+            long factor = POW10[SCALE - s];
+            long minor = unscaled * factor;
+            return Math.multiplyHigh(unscaled, factor) == (minor >> 63) ? minor : OVERFLOW;
+        }
+        // precision ≤ 18 이므로 나눗셈 결과는 OVERFLOW 와 겹치지 않는다.
+        return divideHalfUp(unscaled, POW10[s - SCALE]);
+    }
+
+    /** precision 18 이하인 값의 unscaled long — scale 0 짜리 BigDecimal 은 내부 long 을 그대로 돌려준다. */
+    private static long unscaledLong(BigDecimal value, int scale) {
+        return (scale == 0 ? value : value.scaleByPowerOfTen(scale)).longValue();
+    }
+
+    /** value / divisor 를 HALF_UP(0 에서 먼 쪽) 반올림. divisor 는 10^k(k ≤ 18) 양수. */
+    private static long divideHalfUp(long value, long divisor) {
+        if (divisor == 1) {
+            return value;
+        }
+        long q = value / divisor;
+        long r = value % divisor;
+        // |r| < divisor ≤ 10^18 이므로 2|r| 은 넘치지 않는다.
+        if (Math.abs(r) * 2 >= divisor) {
+            q += value < 0 ? -1 : 1;
+        }
+        return q;
+    }
+
+    private static boolean fitsLong(BigInteger value) {
+        return value.compareTo(LONG_MIN) >= 0 && value.compareTo(LONG_MAX) <= 0;
+    }
+
+    /** long 으로 모으다가 넘치면 그 뒤로는 BigDecimal 로 모으는 가변 합계. */
+    private static final class Sum {
+        private long minor;
+        private BigDecimal big;
+
+        void add(Money amount) {
+            if (big == null && amount.big == null) {
+                long r = minor + amount.minor;
+                if (((minor ^ r) & (amount.minor ^ r)) >= 0) {
+                    minor = r;
+                    return;
+                }
+            }
+            big = current().add(amount.amount());
+        }
+
+        Sum merge(Sum other) {
+            if (other.big == null) {
+                add(new Money(other.minor));
+            } else {
+                big = current().add(other.big);
+            }
+            return this;
+        }
+
+        Money result() {
+            return big == null ? new Money(minor) : new Money(big);
+        }
+
+        private BigDecimal current() {
+            return big != null ? big : BigDecimal.valueOf(minor, SCALE);
+        }
+    }
+
+    private static final class SummingCollector implements Collector<Money, Sum, Money> {
+        @Override
+        public Supplier<Sum> supplier() {
+            return Sum::new;
+        }
+
+        @Override
+        public BiConsumer<Sum, Money> accumulator() {
+            return Sum::add;
+        }
+
+        @Override
+        public BinaryOperator<Sum> combiner() {
+            return Sum::merge;
+        }
+
+        @Override
+        public Function<Sum, Money> finisher() {
+            return Sum::result;
+        }
+
+        @Override
+        public Set<Characteristics> characteristics() {
+            return Collections.unmodifiableSet(EnumSet.of(Characteristics.UNORDERED));
+        }
     }
 }
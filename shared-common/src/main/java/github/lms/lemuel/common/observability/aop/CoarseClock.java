@@ -0,0 +1,42 @@
+package github.lms.lemuel.common.observability.aop;
+
+/**
+ * 샘플에서 빠진 호출의 느린 호출 판정에 쓰는 근사 단조 시계.
+ *
+ * <p>데몬 스레드 하나가 {@value #TICK_MILLIS}ms 마다 {@link System#nanoTime()} 을 읽어 volatile 필드에 적어 두고,
+ * 호출 경로는 그 필드만 읽는다 — 호출마다 시계를 두 번 읽는 대신 메모리 읽기 두 번이다. 읽은 값은 최대 한
+ * 틱만큼 늦으므로 소요시간 오차도 한 틱 안쪽이다. 느린 호출 임계값(기본 500ms) 판정에는 충분하지만,
+ * 틱보다 짧은 임계값은 샘플 밖 호출에서 믿을 수 없다.
+ *
+ * <p>JVM 이 CPU 를 못 받아 갱신 스레드가 밀리면 그동안 시계가 멈춰 소요시간이 짧게 나온다. 그 구간의
+ * 느린 호출은 샘플된 호출(정밀 시계)에서만 잡힌다.
+ */
+final class CoarseClock {
+
+    static final long TICK_MILLIS = 10;
+
+    private static volatile long nanos = System.nanoTime();
+
+    static {
+        Thread ticker = new Thread(CoarseClock::tick, "lemuel-coarse-clock");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    private CoarseClock() {}
+
+    static long nanos() {
+        return nanos;
+    }
+
+    private static void tick() {
+        while (true) {
+            nanos = System.nanoTime();
+            try {
+                Thread.sleep(TICK_MILLIS);
+            } catch (InterruptedException e) {
+                // 이 스레드를 멈출 주인은 없다 — 멈추면 시계가 서서 느린 호출을 놓치므로 계속 돈다.
+            }
+        }
+    }
+}
@@ -14,8 +14,12 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -41,7 +45,30 @@ import java.util.stream.Collectors;
  * 진입(depth 1)에서 MDC 에 traceId 가 없으면 여기서 만들어 붙이고, <b>같은 진입이 끝날 때 반드시
  * 제거</b>한다. 스레드 풀이 스레드를 재사용하므로 제거하지 않으면 다음 실행이 남의 traceId 를
  * 물려받는다(김영한 스프링 고급편 §3 "쓰레드 로컬 - 주의사항"과 같은 이유 — MDC 자체가 ThreadLocal 이다).
- * 깊이 카운터도 같은 이유로 0 이 되는 순간 {@code remove()} 한다.
+ *
+ * <p><b>호출당 비용</b> — 이 Aspect 는 모든 어댑터·서비스 메서드를 감싸므로 호출마다 하는 일을 최소로 둔다.
+ * <ul>
+ *   <li>레이어·클래스·메서드 이름과 Timer 는 {@link Method} 별로 처음 한 번만 계산해 캐시한다
+ *       ({@link MethodMeta}). 예전에는 호출마다 패키지 문자열을 훑고 {@code Timer.builder().register()} 로
+ *       레지스트리를 조회했다.</li>
+ *   <li><b>레이어 경계 샘플링</b> — 추적 여부는 레이어에 들어설 때마다 그 레이어의 비율({@code sample-rate},
+ *       {@code layer-sample-rates})로 정한다. 최상위 진입과, 바깥 프레임과 레이어가 다른 중첩 진입이 경계다.
+ *       같은 레이어 안의 중첩 호출은 경계의 결정을 물려받으므로 로그의 계단 구조는 한 레이어 구간 안에서
+ *       온전하고, {@code service: 0.1} 은 웹 요청 안에서 불린 서비스에도 그대로 10% 로 적용된다.
+ *       경계를 빠져나오면 바깥 레이어의 결정으로 되돌린다.</li>
+ *   <li><b>샘플 밖 경로</b> — 샘플에서 빠진 호출은 {@code nanoTime} 대신 {@link CoarseClock} 의 volatile
+ *       필드를 두 번 읽어 느린 호출만 가린다. 그래서 샘플 밖 호출의 소요시간은 {@link CoarseClock#TICK_MILLIS}
+ *       단위로 거칠다 — 임계값(기본 500ms) 판정에는 충분하다. 상태는 스레드에 남겨 둔 {@link Scope} 하나에
+ *       지역 변수로 저장·복원하므로 호출마다 할당이 없다.</li>
+ *   <li><b>느린 호출은 항상 남긴다</b> — 샘플 여부와 무관하게 {@code slow-threshold-ms} 이상이면
+ *       {@code lemuel.method.slow} Timer 와 WARN 로그를 남긴다. 예외는 샘플 여부와 무관하게 ERROR 로 남는다.</li>
+ * </ul>
+ * {@code lemuel.method.execution} 은 샘플된 호출만 담는다 — 건수는 비율만큼 줄지만 지연 분포와
+ * 성공/실패 비율은 그대로다.
+ *
+ * <p>스레드별 깊이 상태({@link Scope})는 깊이가 0 으로 돌아오면 값이 초기 상태와 같아지므로
+ * 스레드 풀이 재사용해도 남의 값을 물려받지 않는다. 호출마다 {@code remove()} 후 다시 만드는 할당을
+ * 피하려고 객체 자체는 스레드에 남겨 둔다.
  */
 @Aspect
 @Order(Ordered.HIGHEST_PRECEDENCE + 10)
@@ -49,82 +76,118 @@ public class MethodTraceAspect {
 
     private static final Logger log = LoggerFactory.getLogger(MethodTraceAspect.class);
     private static final String TIMER_NAME = "lemuel.method.execution";
+    private static final String SLOW_TIMER_NAME = "lemuel.method.slow";
 
     /**
-     * 스레드별 호출 깊이. 계단식 로그의 들여쓰기 근거이자 "최상위 진입인가" 판정 기준이다.
-     * 깊이가 0 으로 돌아오면 즉시 {@code remove()} — 스레드 풀 재사용 시 값이 남지 않게 한다.
+     * 스레드별 호출 깊이와 현재 레이어 구간의 샘플링 결정. 계단식 로그의 들여쓰기 근거이자
+     * "최상위 진입인가"·"레이어 경계인가" 판정 기준이다.
      */
-    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[]{0});
+    private static final ThreadLocal<Scope> SCOPE = ThreadLocal.withInitial(Scope::new);
 
     private final ObservabilityAopProperties properties;
     private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final long slowThresholdNanos;
+    private final Map<Method, MethodMeta> metas = new ConcurrentHashMap<>();
+
+    /** 처음 찾은 레지스트리 — 못 찾았으면 다음 기록 때 다시 묻는다. */
+    private volatile MeterRegistry registry;
 
     public MethodTraceAspect(ObservabilityAopProperties properties,
                              ObjectProvider<MeterRegistry> meterRegistry) {
         this.properties = properties;
         this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSlowThresholdMs());
     }
 
     @Around("github.lms.lemuel.common.observability.aop.LemuelPointcuts.traceable()")
     public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String layer = layerOf(signature.getDeclaringType().getName());
-        String type = signature.getDeclaringType().getSimpleName();
-        String method = signature.getName();
-
-        int depth = ++DEPTH.get()[0];
-        // 최상위 진입인데 traceId 가 없다 = 서블릿 필터를 거치지 않은 실행 단위(Kafka·스케줄러·배치).
-        // 여기서 부여하고, 이 호출이 끝날 때 우리가 지운다(부착한 쪽이 지운다).
-        boolean traceIdOwner = depth == 1 && MDC.get(MdcKeys.TRACE_ID) == null;
-        if (traceIdOwner) {
-            MDC.put(MdcKeys.TRACE_ID, UUID.randomUUID().toString());
+        MethodMeta meta = metaOf((MethodSignature) joinPoint.getSignature());
+        Scope scope = SCOPE.get();
+        int depth = ++scope.depth;
+        String outerLayer = scope.layer;
+        boolean outerSampled = scope.sampled;
+        boolean traceIdOwner = false;
+        if (depth == 1) {
+            // 최상위 진입인데 traceId 가 없다 = 서블릿 필터를 거치지 않은 실행 단위(Kafka·스케줄러·배치).
+            // 여기서 부여하고, 이 호출이 끝날 때 우리가 지운다(부착한 쪽이 지운다). 샘플 여부와 무관하다 —
+            // 비즈니스 로그의 상관관계는 추적 로그와 별개로 필요하다.
+            traceIdOwner = MDC.get(MdcKeys.TRACE_ID) == null;
+            if (traceIdOwner) {
+                MDC.put(MdcKeys.TRACE_ID, newTraceId());
+            }
+        }
+        // 레이어 이름은 layerOf 의 상수 리터럴이라 참조 비교로 충분하다. 최상위 진입은 outerLayer 가 null 이다.
+        boolean sampled;
+        if (meta.layer != outerLayer) {
+            sampled = meta.sample();
+            scope.layer = meta.layer;
+            scope.sampled = sampled;
+        } else {
+            sampled = outerSampled;
         }
 
-        if (log.isDebugEnabled()) {
-            log.debug("{}→ [{}] {}.{}{}", prefix(depth), layer, type, method, argsSuffix(joinPoint));
+        if (sampled && log.isDebugEnabled()) {
+            log.debug("{}→ {}{}", prefix(depth), meta.label, argsSuffix(joinPoint));
         }
 
-        long startNanos = System.nanoTime();
-        String outcome = "success";
+        long startNanos = now(sampled);
+        boolean failed = false;
         try {
-            Object result = joinPoint.proceed();
-            return result;
+            return joinPoint.proceed();
         } catch (Throwable error) {
-            outcome = "error";
-            long elapsedMs = elapsedMs(startNanos);
-            log.error("{}✗ [{}] {}.{} failed after {}ms — {}: {}",
-                    prefix(depth), layer, type, method, elapsedMs,
+            failed = true;
+            log.error("{}✗ {} failed after {}ms — {}: {}",
+                    prefix(depth), meta.label, TimeUnit.NANOSECONDS.toMillis(now(sampled) - startNanos),
                     error.getClass().getSimpleName(), error.getMessage());
             throw error;
         } finally {
-            long elapsedNanos = System.nanoTime() - startNanos;
-            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
-            record(layer, type, method, outcome, elapsedNanos);
-
-            if ("success".equals(outcome)) {
-                if (elapsedMs >= properties.getSlowThresholdMs()) {
-                    log.warn("{}← [{}] {}.{} SLOW {}ms (threshold {}ms)",
-                            prefix(depth), layer, type, method, elapsedMs, properties.getSlowThresholdMs());
-                } else if (log.isDebugEnabled()) {
-                    log.debug("{}← [{}] {}.{} {}ms", prefix(depth), layer, type, method, elapsedMs);
+            long elapsedNanos = now(sampled) - startNanos;
+            if (sampled) {
+                record(meta, failed, elapsedNanos);
+            }
+            if (elapsedNanos >= slowThresholdNanos) {
+                recordSlow(meta, failed, elapsedNanos);
+                if (!failed) {
+                    log.warn("{}← {} SLOW {}ms (threshold {}ms)", prefix(depth), meta.label,
+                            TimeUnit.NANOSECONDS.toMillis(elapsedNanos), properties.getSlowThresholdMs());
                 }
+            } else if (sampled && !failed && log.isDebugEnabled()) {
+                log.debug("{}← {} {}ms", prefix(depth), meta.label, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            }
+            scope.layer = outerLayer;
+            scope.sampled = outerSampled;
+            if (--scope.depth <= 0) {
+                scope.depth = 0;
+                scope.layer = null;
+                scope.sampled = false;
+            }
+            if (traceIdOwner) {
+                MDC.remove(MdcKeys.TRACE_ID);
             }
-            releaseScope(traceIdOwner);
         }
     }
 
+    /** 샘플된 호출은 정밀 시계, 샘플 밖 호출은 느린 호출 판정만 하면 되므로 근사 시계. */
+    private static long now(boolean sampled) {
+        return sampled ? System.nanoTime() : CoarseClock.nanos();
+    }
+
+    private MethodMeta metaOf(MethodSignature signature) {
+        Method method = signature.getMethod();
+        MethodMeta meta = metas.get(method);
+        if (meta == null) {
+            meta = metas.computeIfAbsent(method, m -> MethodMeta.of(signature, properties));
+        }
+        return meta;
+    }
+
     /**
-     * 깊이 카운터를 되돌리고, 최상위였다면 ThreadLocal·MDC 를 비운다.
-     * 스레드 풀 재사용 환경에서 값이 남으면 다음 실행이 남의 컨텍스트를 물려받는다.
+     * 실행 단위 traceId. {@link UUID#randomUUID()} 는 SecureRandom 을 거쳐 최상위 진입마다 치르기엔
+     * 비싸다 — 상관관계 키에는 암호학적 난수가 필요 없으므로 같은 형식을 스레드 로컬 난수로 만든다.
      */
-    private static void releaseScope(boolean traceIdOwner) {
-        int[] holder = DEPTH.get();
-        if (--holder[0] <= 0) {
-            DEPTH.remove();
-        }
-        if (traceIdOwner) {
-            MDC.remove(MdcKeys.TRACE_ID);
-        }
+    private static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
     }
 
     /**
@@ -143,25 +206,40 @@ public class MethodTraceAspect {
         return depth <= 1 ? "" : "|   ".repeat(depth - 1);
     }
 
-    private void record(String layer, String type, String method, String outcome, long elapsedNanos) {
-        MeterRegistry registry = meterRegistry.getIfAvailable();
+    private void record(MethodMeta meta, boolean failed, long elapsedNanos) {
+        MeterRegistry registry = registry();
         if (registry == null) {
             return;
         }
         try {
-            Timer.builder(TIMER_NAME)
-                    .tag("layer", layer)
-                    .tag("class", type)
-                    .tag("method", method)
-                    .tag("outcome", outcome)
-                    .register(registry)
-                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            meta.executionTimer(registry, failed).record(elapsedNanos, TimeUnit.NANOSECONDS);
         } catch (RuntimeException e) {
             // 메트릭 기록 실패가 비즈니스 흐름을 막아선 안 된다.
-            log.debug("Failed to record method timer for {}.{}", type, method, e);
+            log.debug("Failed to record method timer for {}", meta.label, e);
+        }
+    }
+
+    private void recordSlow(MethodMeta meta, boolean failed, long elapsedNanos) {
+        MeterRegistry registry = registry();
+        if (registry == null) {
+            return;
+        }
+        try {
+            meta.slowTimer(registry, failed).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            log.debug("Failed to record slow timer for {}", meta.label, e);
         }
     }
 
+    private MeterRegistry registry() {
+        MeterRegistry resolved = registry;
+        if (resolved == null) {
+            resolved = meterRegistry.getIfAvailable();
+            registry = resolved;
+        }
+        return resolved;
+    }
+
     private static String layerOf(String declaringClassName) {
         if (declaringClassName.contains(".adapter.in.web")) {
             return "web";
@@ -209,7 +287,86 @@ public class MethodTraceAspect {
         return value;
     }
 
-    private static long elapsedMs(long startNanos) {
-        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    /** 스레드별 추적 상태 — 깊이와, 지금 들어와 있는 레이어 구간과 그 경계에서 정한 샘플링 결정. */
+    private static final class Scope {
+        int depth;
+        String layer;
+        boolean sampled;
+    }
+
+    /**
+     * 메서드별로 한 번 계산해 두는 추적 메타데이터. Timer 는 첫 기록 때 레지스트리에서 찾아 고정한다 —
+     * 같은 이름·태그로 두 번 등록해도 같은 Timer 가 돌아오므로 경쟁해도 결과는 같다.
+     */
+    private static final class MethodMeta {
+
+        final String layer;
+        final String type;
+        final String method;
+        /** 로그용 {@code [layer] Type.method} — 호출마다 이어 붙이지 않는다. */
+        final String label;
+        final double sampleRate;
+
+        private volatile Timer success;
+        private volatile Timer error;
+        private volatile Timer slowSuccess;
+        private volatile Timer slowError;
+
+        private MethodMeta(String layer, String type, String method, double sampleRate) {
+            this.layer = layer;
+            this.type = type;
+            this.method = method;
+            this.label = "[" + layer + "] " + type + "." + method;
+            this.sampleRate = sampleRate;
+        }
+
+        static MethodMeta of(MethodSignature signature, ObservabilityAopProperties properties) {
+            Class<?> declaringType = signature.getDeclaringType();
+            String layer = layerOf(declaringType.getName());
+            return new MethodMeta(layer, declaringType.getSimpleName(), signature.getName(),
+                    properties.sampleRateOf(layer));
+        }
+
+        boolean sample() {
+            if (sampleRate >= 1.0) {
+                return true;
+            }
+            return sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        }
+
+        Timer executionTimer(MeterRegistry registry, boolean failed) {
+            Timer timer = failed ? error : success;
+            if (timer == null) {
+                timer = register(registry, TIMER_NAME, failed);
+                if (failed) {
+                    error = timer;
+                } else {
+                    success = timer;
+                }
+            }
+            return timer;
+        }
+
+        Timer slowTimer(MeterRegistry registry, boolean failed) {
+            Timer timer = failed ? slowError : slowSuccess;
+            if (timer == null) {
+                timer = register(registry, SLOW_TIMER_NAME, failed);
+                if (failed) {
+                    slowError = timer;
+                } else {
+                    slowSuccess = timer;
+                }
+            }
+            return timer;
+        }
+
+        private Timer register(MeterRegistry registry, String name, boolean failed) {
+            return Timer.builder(name)
+                    .tag("layer", layer)
+                    .tag("class", type)
+                    .tag("method", method)
+                    .tag("outcome", failed ? "error" : "success")
+                    .register(registry);
+        }
     }
 }
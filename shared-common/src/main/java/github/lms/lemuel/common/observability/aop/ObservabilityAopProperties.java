@@ -2,6 +2,9 @@ package github.lms.lemuel.common.observability.aop;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * AOP 기반 관측(로깅/성능/트랜잭션 추적) 동작을 제어하는 설정.
  *
@@ -13,7 +16,15 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *       slow-threshold-ms: 500   # 이 시간을 초과하면 WARN 으로 승격
  *       log-args: false          # true 면 메서드 인자 값을 로그에 남김 (PII 주의 — 기본 off)
  *       max-arg-length: 200      # 인자 toString 최대 길이 (초과 시 절단)
+ *       sample-rate: 1.0         # 레이어 진입 중 전체 추적(진입/종료 로그 + Timer)할 비율 (0.0~1.0)
+ *       layer-sample-rates:      # 레이어별 덮어쓰기 — web / service / kafka / batch / other
+ *         service: 0.1
  * }</pre>
+ *
+ * <p>샘플링은 레이어에 들어설 때마다(최상위 진입, 또는 바깥 호출과 레이어가 다른 중첩 호출) 그 레이어의
+ * 비율로 정하고, 같은 레이어 안의 중첩 호출이 물려받는다. 샘플에서 빠진 호출도 {@code slow-threshold-ms}
+ * 이상 걸리면 항상 WARN 과 {@code lemuel.method.slow} 로 남는다 — 느린 호출은 비율과 무관하게 놓치지 않는다.
+ * 다만 샘플 밖 호출의 소요시간은 근사 시계(10ms 단위)로 재므로 그보다 짧은 임계값은 의미가 없다.
  */
 @ConfigurationProperties(prefix = "app.observability.aop")
 public class ObservabilityAopProperties {
@@ -33,6 +44,12 @@ public class ObservabilityAopProperties {
     /** 인자 toString 의 최대 길이. 초과분은 잘라낸다. */
     private int maxArgLength = 200;
 
+    /** 레이어별 설정이 없을 때의 샘플링 비율. 기본 1.0 — 예전처럼 모든 호출을 추적한다. */
+    private double sampleRate = 1.0;
+
+    /** 레이어 이름(web/service/kafka/batch/other) → 샘플링 비율. 없는 레이어는 {@link #sampleRate}. */
+    private Map<String, Double> layerSampleRates = new HashMap<>();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -64,4 +81,26 @@ public class ObservabilityAopProperties {
     public void setMaxArgLength(int maxArgLength) {
         this.maxArgLength = maxArgLength;
     }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public Map<String, Double> getLayerSampleRates() {
+        return layerSampleRates;
+    }
+
+    public void setLayerSampleRates(Map<String, Double> layerSampleRates) {
+        this.layerSampleRates = layerSampleRates;
+    }
+
+    /** 레이어의 실제 샘플링 비율 — 레이어별 설정이 우선이다. */
+    public double sampleRateOf(String layer) {
+        Double rate = layerSampleRates.get(layer);
+        return rate != null ? rate : sampleRate;
+    }
 }
@@ -79,7 +79,8 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
     }
 
-    private RateLimitPolicy findMatching(String path) {
+    /** 요청마다 도는 경로 매칭 — 벤치마크(src/jmh)가 직접 부르도록 패키지 공개. */
+    RateLimitPolicy findMatching(String path) {
         for (RateLimitPolicy p : policies) {
             if (p.matches(path)) return p;
         }
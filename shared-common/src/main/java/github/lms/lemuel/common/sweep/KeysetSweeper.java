@@ -0,0 +1,278 @@
+package github.lms.lemuel.common.sweep;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 만료·타임아웃 배치의 공통 스윕 엔진 — "후보를 훑고 건마다 트랜잭션" 을 한 곳에서 구현한다.
+ *
+ * <p>배치마다 따로 짜던 루프는 모두 같은 한계가 있었다: 고정 건수({@code batch-limit})만 읽고 끝나서
+ * 밀린 건이 그 수를 넘으면 하루 한 번 주기로는 영영 따라잡지 못하고, 건마다 커밋해 느리고, 병렬이 없다.
+ * 이 엔진은 다음 순서로 돈다.
+ * <ol>
+ *   <li><b>키셋 페이징</b> — 워커마다 커서를 들고 {@link SweepJob#claim} 으로 다음 청크를 잠근다.
+ *       OFFSET 이 없으므로 뒤쪽 청크도 앞쪽과 같은 비용이다.</li>
+ *   <li><b>청크 트랜잭션</b> — 청크 하나를 한 트랜잭션에서 처리하고 커밋한다. 커밋 횟수는 "건수 ÷ 청크 크기".</li>
+ *   <li><b>병렬 워커</b> — {@code FOR UPDATE SKIP LOCKED} 덕에 워커들이 같은 시작점에서 출발해도 서로 다른
+ *       건을 잡는다. 워커 풀은 스윕마다 만들고 끝나면 내린다 — 하루 몇 번 도는 배치가 스레드를 상주시킬 이유가 없다.</li>
+ *   <li><b>격리</b> — 청크가 실패하면 롤백 후 건마다 새 트랜잭션으로 다시 처리하고, 그래도 실패한 건은
+ *       {@link SweepSettings#quarantineFor()} 동안 건너뛴다. 독성 건 하나가 매 주기 청크를 무너뜨리지 않는다.</li>
+ *   <li><b>시간 예산</b> — 예산이 끝나면 새 청크를 시작하지 않는다. 밀린 건은 다음 주기가 이어 받는다.</li>
+ * </ol>
+ *
+ * <p>메트릭(태그 {@code job}): {@code sweep.items}(outcome=processed|skipped|failed|quarantined) 처리량,
+ * {@code sweep.lag} 처리 시각 − {@link SweepJob#dueAt}, {@code sweep.chunk}(result=committed|rolled_back),
+ * {@code sweep.run}(result=drained|budget_exhausted), {@code sweep.quarantine.size}.
+ *
+ * <p>스프링 빈이 아니다 — shared-common 은 서비스마다 스캔 범위가 달라, 쓰는 서비스가 설정 클래스에서
+ * {@link #transactional} 로 만들어 등록한다.
+ */
+public class KeysetSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(KeysetSweeper.class);
+
+    private final TransactionOperations transactions;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final SweepQuarantine quarantine = new SweepQuarantine();
+
+    /**
+     * @param transactions 청크·단건 재시도 하나를 감쌀 트랜잭션. 호출자 트랜잭션에 합류하면 청크 격리가
+     *                     무너지므로 운영에서는 {@link #transactional} 의 REQUIRES_NEW 를 쓴다
+     */
+    public KeysetSweeper(TransactionOperations transactions, MeterRegistry meterRegistry, Clock clock) {
+        this.transactions = transactions;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /** 청크마다 새 트랜잭션(REQUIRES_NEW)을 여는 운영 배선. */
+    public static KeysetSweeper transactional(PlatformTransactionManager transactionManager,
+                                              MeterRegistry meterRegistry) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return new KeysetSweeper(template, meterRegistry, Clock.systemUTC());
+    }
+
+    /**
+     * 밀린 건을 비우거나 시간 예산이 끝날 때까지 훑는다.
+     *
+     * @throws RuntimeException claim 자체가 실패하면(DB 장애 등) 그대로 던진다 — 건 탓이 아니므로 격리하지 않는다
+     */
+    public <T, K> SweepReport sweep(SweepJob<T, K> job, SweepSettings settings) {
+        Instant startedAt = clock.instant();
+        Instant deadline = startedAt.plus(settings.timeBudget());
+        Tally tally = new Tally(job.name());
+        Gauge.builder("sweep.quarantine.size", quarantine, q -> q.size(job.name()))
+                .description("단건 재시도까지 실패해 격리 중인 건수")
+                .tag("job", job.name())
+                .register(meterRegistry);
+
+        if (settings.workers() == 1) {
+            runWorker(job, settings, deadline, tally);
+        } else {
+            ExecutorService workers = Executors.newFixedThreadPool(settings.workers(), workerThreads(job.name()));
+            try {
+                CompletableFuture<?>[] running = new CompletableFuture<?>[settings.workers()];
+                for (int i = 0; i < running.length; i++) {
+                    running[i] = CompletableFuture.runAsync(() -> runWorker(job, settings, deadline, tally), workers);
+                }
+                CompletableFuture.allOf(running).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            } finally {
+                workers.shutdown();
+            }
+        }
+
+        Duration elapsed = Duration.between(startedAt, clock.instant());
+        boolean drained = !tally.budgetExhausted.get();
+        Timer.builder("sweep.run")
+                .tag("job", job.name())
+                .tag("result", drained ? "drained" : "budget_exhausted")
+                .register(meterRegistry)
+                .record(elapsed);
+
+        SweepReport report = new SweepReport(job.name(), tally.claimed.get(), tally.processed.get(),
+                tally.skipped.get(), tally.failed.get(), tally.quarantined.get(), drained, elapsed);
+        if (report.claimed() > 0 || !drained) {
+            log.info("스윕 완료: job={}, 잠금={}, 처리={}, 제외={}, 실패={}, 격리건너뜀={}, 소진={}, 소요={}",
+                    report.job(), report.claimed(), report.processed(), report.skipped(), report.failed(),
+                    report.quarantined(), drained, elapsed);
+        }
+        return report;
+    }
+
+    private static ThreadFactory workerThreads(String job) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "sweep-" + job + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private <T, K> void runWorker(SweepJob<T, K> job, SweepSettings settings, Instant deadline, Tally tally) {
+        K cursor = job.start();
+        while (true) {
+            if (!clock.instant().isBefore(deadline)) {
+                tally.budgetExhausted.set(true);
+                return;
+            }
+            List<T> claimed = runChunk(job, settings, cursor, tally);
+            // 짧은 청크는 끝이 아니다 — 다른 워커·인스턴스가 잠근 행이 빠졌을 수 있고, 그 뒤에도 대상이 남아 있다.
+            // 빈 청크가 와야 이 커서 뒤에 잠글 것이 없다고 본다(워커마다 빈 claim 한 번이 더 든다).
+            if (claimed.isEmpty()) {
+                return;
+            }
+            cursor = job.keyOf(claimed.get(claimed.size() - 1));
+        }
+    }
+
+    private <T, K> List<T> runChunk(SweepJob<T, K> job, SweepSettings settings, K cursor, Tally tally) {
+        List<T> claimed = new ArrayList<>();
+        ChunkTally chunk = new ChunkTally();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            transactions.executeWithoutResult(status -> {
+                claimed.addAll(job.claim(cursor, settings.chunkSize()));
+                Instant now = clock.instant();
+                for (T item : claimed) {
+                    if (quarantine.contains(job.name(), job.keyOf(item), now)) {
+                        chunk.quarantined++;
+                    } else if (job.process(item)) {
+                        chunk.processed(job.dueAt(item), clock.instant());
+                    } else {
+                        chunk.skipped++;
+                    }
+                }
+            });
+            sample.stop(chunkTimer(job.name(), "committed"));
+            tally.add(claimed.size(), chunk);
+            return claimed;
+        } catch (RuntimeException e) {
+            sample.stop(chunkTimer(job.name(), "rolled_back"));
+            if (claimed.isEmpty()) {
+                throw e;
+            }
+            log.warn("스윕 청크 롤백 — 건별 재시도: job={}, 건수={}, 사유={}", job.name(), claimed.size(), e.toString());
+            tally.add(claimed.size(), retryOneByOne(job, settings, claimed));
+            return claimed;
+        }
+    }
+
+    /** 롤백된 청크를 건마다 새 트랜잭션으로 — 실패한 건만 격리하고 나머지는 살린다. */
+    private <T, K> ChunkTally retryOneByOne(SweepJob<T, K> job, SweepSettings settings, List<T> claimed) {
+        ChunkTally retried = new ChunkTally();
+        for (T item : claimed) {
+            K key = job.keyOf(item);
+            Instant now = clock.instant();
+            if (quarantine.contains(job.name(), key, now)) {
+                retried.quarantined++;
+                continue;
+            }
+            try {
+                Boolean changed = transactions.execute(status -> job.process(item));
+                if (Boolean.TRUE.equals(changed)) {
+                    retried.processed(job.dueAt(item), clock.instant());
+                } else {
+                    retried.skipped++;
+                }
+            } catch (RuntimeException e) {
+                quarantine.add(job.name(), key, now.plus(settings.quarantineFor()));
+                retried.failed++;
+                log.warn("스윕 대상 처리 실패 — 격리: job={}, key={}, 격리기간={}, 사유={}",
+                        job.name(), key, settings.quarantineFor(), e.toString());
+            }
+        }
+        return retried;
+    }
+
+    private Timer chunkTimer(String job, String result) {
+        return Timer.builder("sweep.chunk")
+                .tag("job", job)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /** 청크 하나의 집계 — 커밋된 뒤에만 전체 집계와 메트릭에 반영한다(롤백된 처리를 세지 않는다). */
+    private static final class ChunkTally {
+
+        private int processed;
+        private int skipped;
+        private int failed;
+        private int quarantined;
+        private final List<Duration> lags = new ArrayList<>();
+
+        private void processed(Instant dueAt, Instant now) {
+            processed++;
+            if (dueAt != null) {
+                lags.add(Duration.between(dueAt, now));
+            }
+        }
+    }
+
+    /** 스윕 1회의 전체 집계 — 워커들이 함께 쓴다. */
+    private final class Tally {
+
+        private final String job;
+        private final AtomicInteger claimed = new AtomicInteger();
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger quarantined = new AtomicInteger();
+        private final AtomicBoolean budgetExhausted = new AtomicBoolean();
+
+        private Tally(String job) {
+            this.job = job;
+        }
+
+        private void add(int claimedCount, ChunkTally chunk) {
+            claimed.addAndGet(claimedCount);
+            processed.addAndGet(chunk.processed);
+            skipped.addAndGet(chunk.skipped);
+            failed.addAndGet(chunk.failed);
+            quarantined.addAndGet(chunk.quarantined);
+            count("processed", chunk.processed);
+            count("skipped", chunk.skipped);
+            count("failed", chunk.failed);
+            count("quarantined", chunk.quarantined);
+            if (!chunk.lags.isEmpty()) {
+                Timer lag = Timer.builder("sweep.lag")
+                        .description("대상이 처리됐어야 하는 시각부터 실제 처리까지")
+                        .tag("job", job)
+                        .register(meterRegistry);
+                chunk.lags.forEach(lag::record);
+            }
+        }
+
+        private void count(String outcome, int amount) {
+            if (amount > 0) {
+                meterRegistry.counter("sweep.items", "job", job, "outcome", outcome).increment(amount);
+            }
+        }
+    }
+}
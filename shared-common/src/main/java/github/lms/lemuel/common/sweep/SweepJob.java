@@ -0,0 +1,53 @@
+package github.lms.lemuel.common.sweep;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * {@link KeysetSweeper} 가 훑는 만료·타임아웃 배치 한 종류.
+ *
+ * <p>엔진이 정하는 것은 "어떻게 훑는가"(키셋 페이징·청크 트랜잭션·병렬·격리·메트릭)뿐이고, "무엇을
+ * 훑고 한 건을 어떻게 처리하는가"는 이 구현이 정한다.
+ *
+ * <p><b>구현 계약</b>
+ * <ul>
+ *   <li>{@link #claim} 은 청크 트랜잭션 안에서 불리며, 키 순으로 정렬해 {@code FOR UPDATE SKIP LOCKED}
+ *       로 잠가 돌려준다. 병렬 워커와 다른 인스턴스는 잠긴 행을 건너뛰므로 같은 건을 두 번 처리하지 않는다.</li>
+ *   <li>{@link #process} 는 보통 청크 트랜잭션에 합류해 돈다. 청크가 롤백되면 엔진이 건마다 새 트랜잭션에서
+ *       다시 부르는데, 이때는 claim 의 잠금이 없다 — 그래서 process 는 스스로 다시 잠그고 상태를 재검증해야
+ *       한다(이미 처리된 건이면 {@code false}).</li>
+ * </ul>
+ *
+ * @param <T> 처리 대상
+ * @param <K> 키셋 커서 — 정렬 키. 구현이 정한 시작값부터 단조 증가한다
+ */
+public interface SweepJob<T, K> {
+
+    /** 메트릭 태그·로그·격리 구분에 쓰는 이름. 인스턴스 안에서 유일해야 한다. */
+    String name();
+
+    /** 키셋 시작 커서 — 모든 키보다 작은 값. */
+    K start();
+
+    /**
+     * {@code after} 보다 큰 키의 대상을 키 순으로 최대 {@code limit} 건 잠가 가져온다.
+     * 돌려준 목록이 비어야 그 워커가 볼 것은 끝났다고 본다 — 잠긴 행을 건너뛰어 짧아진 목록은 끝이 아니다.
+     */
+    List<T> claim(K after, int limit);
+
+    K keyOf(T item);
+
+    /**
+     * 한 건을 처리한다.
+     *
+     * @return 상태를 바꿨으면 true, 처리할 필요가 없었으면 false(정책상 제외·이미 처리됨)
+     */
+    boolean process(T item);
+
+    /**
+     * 이 건이 처리됐어야 하는 시각 — 지연(lag) 메트릭의 기준. 모르면 null 이고 지연을 기록하지 않는다.
+     */
+    default Instant dueAt(T item) {
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package github.lms.lemuel.common.sweep;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단건 재시도까지 실패한 건을 잠시 건너뛰게 하는 인스턴스 로컬 격리 목록.
+ *
+ * <p>격리가 없으면 독성 건 하나가 매 주기 자기 청크를 롤백시키고, 같은 청크의 정상 건까지 단건 재시도
+ * 경로로 밀어낸다. 격리는 DB 에 남기지 않는다 — 재기동하면 비워지고 그 건은 한 번 더 시도될 뿐이라,
+ * 상태를 하나 더 관리할 이유가 없다. 실패 사유는 WARN 로그와 {@code sweep.items{outcome=failed}} 로 남는다.
+ */
+final class SweepQuarantine {
+
+    private final Map<Entry, Instant> until = new ConcurrentHashMap<>();
+
+    void add(String job, Object key, Instant releaseAt) {
+        until.put(new Entry(job, key), releaseAt);
+    }
+
+    boolean contains(String job, Object key, Instant now) {
+        Entry entry = new Entry(job, key);
+        Instant releaseAt = until.get(entry);
+        if (releaseAt == null) {
+            return false;
+        }
+        if (!now.isBefore(releaseAt)) {
+            until.remove(entry, releaseAt);
+            return false;
+        }
+        return true;
+    }
+
+    int size(String job) {
+        return (int) until.keySet().stream().filter(entry -> entry.job().equals(job)).count();
+    }
+
+    private record Entry(String job, Object key) {
+    }
+}
@@ -0,0 +1,19 @@
+package github.lms.lemuel.common.sweep;
+
+import java.time.Duration;
+
+/**
+ * 스윕 1회 결과.
+ *
+ * @param job         {@link SweepJob#name()}
+ * @param claimed     잠가서 본 건수(격리로 건너뛴 건 포함)
+ * @param processed   상태를 바꾼 건수
+ * @param skipped     처리할 필요가 없었던 건수 — process 가 false 를 돌려준 건
+ * @param failed      단건 재시도까지 실패해 이번에 격리된 건수 — 0 이 아니면 운영 확인 대상이다
+ * @param quarantined 앞선 실패로 격리 중이라 손대지 않은 건수
+ * @param drained     true 면 밀린 건을 끝까지 비웠다. false 면 시간 예산이 먼저 끝났다 — 다음 주기가 이어 간다
+ * @param elapsed     걸린 시간
+ */
+public record SweepReport(String job, int claimed, int processed, int skipped, int failed,
+                          int quarantined, boolean drained, Duration elapsed) {
+}
@@ -0,0 +1,37 @@
+package github.lms.lemuel.common.sweep;
+
+import java.time.Duration;
+
+/**
+ * 한 번의 스윕을 어떻게 돌릴지.
+ *
+ * @param chunkSize     청크 트랜잭션 하나가 잠그고 처리하는 최대 건수
+ * @param workers       동시에 청크를 도는 워커 수 — 커넥션 점유 수와 같다
+ * @param timeBudget    이 시간이 지나면 새 청크를 시작하지 않는다. ShedLock 의 lockAtMostFor 보다 짧아야
+ *                      락이 풀린 뒤 다음 실행과 겹치지 않는다
+ * @param quarantineFor 단건 재시도까지 실패한 건을 건너뛰는 기간
+ */
+public record SweepSettings(int chunkSize, int workers, Duration timeBudget, Duration quarantineFor) {
+
+    /** 독성 건이 매 주기 청크를 롤백시키지 않을 만큼 길고, 원인이 고쳐지면 곧 다시 집을 만큼 짧게. */
+    public static final Duration DEFAULT_QUARANTINE = Duration.ofHours(1);
+
+    public SweepSettings {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize 는 1 이상이어야 합니다: " + chunkSize);
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers 는 1 이상이어야 합니다: " + workers);
+        }
+        if (timeBudget == null || timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("timeBudget 은 양수여야 합니다: " + timeBudget);
+        }
+        if (quarantineFor == null || quarantineFor.isNegative()) {
+            throw new IllegalArgumentException("quarantineFor 는 0 이상이어야 합니다: " + quarantineFor);
+        }
+    }
+
+    public static SweepSettings of(int chunkSize, int workers, Duration timeBudget) {
+        return new SweepSettings(chunkSize, workers, timeBudget, DEFAULT_QUARANTINE);
+    }
+}
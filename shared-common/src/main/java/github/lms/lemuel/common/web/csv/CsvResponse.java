@@ -1,15 +1,24 @@
 package github.lms.lemuel.common.web.csv;
 
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 관리자 목록을 CSV 로 내려주는 공용 헬퍼.
@@ -25,12 +34,19 @@ import java.util.function.Function;
  * 값은 Excel 이 <b>수식</b>으로 해석한다. 사용자가 입력한 이름·메모가 그대로 들어가는 목록이라
  * 앞에 작은따옴표를 붙여 문자열로 못박는다. 감사 로그를 열었을 뿐인데 셀이 실행되는 일은
  * 없어야 한다.
+ *
+ * <p><b>두 가지 모양</b>: {@link #of} 는 행 목록을 받아 완성된 바이트로 내려준다 — 수천 행 관리자 목록용.
+ * {@link #stream} 은 {@link CsvRowSource} 에서 행을 끌어오며 바로 흘려보낸다. 헤더 행을 쓰자마자 첫
+ * 바이트가 나가고, 메모리는 행 수와 무관하게 쓰기 버퍼 하나다 — 수십만~수백만 행 내보내기용.
+ * 긴 내보내기는 {@link #asyncTask} 로 감싸 엔드포인트별 타임아웃을 준다.
  */
 public final class CsvResponse {
 
     /** Excel 이 인코딩을 스스로 알아보게 하는 바이트열. */
     private static final String UTF8_BOM = "﻿";
 
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
     private CsvResponse() {
     }
 
@@ -53,16 +69,112 @@ public final class CsvResponse {
         }
 
         byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
-        String fileName = baseName + "_" + LocalDate.now() + ".csv";
 
         return ResponseEntity.ok()
-                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString())
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment(baseName))
                 .contentLength(bytes.length)
                 .body(new ByteArrayResource(bytes));
     }
 
+    /** {@link StreamOptions#DEFAULT} 로 {@link #stream(String, List, CsvRowSource, Function, StreamOptions)}. */
+    public static <T> ResponseEntity<StreamingResponseBody> stream(String baseName,
+                                                                   List<String> headers,
+                                                                   CsvRowSource<T> rows,
+                                                                   Function<T, List<String>> mapper) {
+        return stream(baseName, headers, rows, mapper, StreamOptions.DEFAULT);
+    }
+
+    /**
+     * 행 공급원을 CSV 첨부 스트림으로 만든다.
+     *
+     * <p>본문은 응답 쓰기 스레드(MVC async)에서 만들어진다 — 컨트롤러가 돌려준 뒤에 {@code rows} 를 순회하므로,
+     * 공급원은 호출 스레드의 트랜잭션·요청 스코프에 기대면 안 된다. 길이를 미리 모르므로 Content-Length 없이
+     * chunked 로 나가고, 중간에 실패하면 이미 나간 바이트는 되돌릴 수 없다 — 연결이 끊겨 클라이언트는 불완전한
+     * 다운로드로 관측한다(뒤에 오류 행을 덧붙이지 않는다. 데이터로 읽히기 때문이다).
+     *
+     * <p>클라이언트가 연결을 끊으면 쓰기가 {@code IOException} 을 던지고, 그 예외가 공급원의 순회를 끊어 커서가
+     * 닫힌다. 남은 행을 헛되이 읽지 않는다.
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> stream(String baseName,
+                                                                   List<String> headers,
+                                                                   CsvRowSource<T> rows,
+                                                                   Function<T, List<String>> mapper,
+                                                                   StreamOptions options) {
+        StreamingResponseBody body = out -> {
+            OutputStream target = options.gzip()
+                    // syncFlush — 헤더 행 flush 가 압축기 안에 머물지 않고 바로 나가게
+                    ? new GZIPOutputStream(out, options.bufferBytes(), true)
+                    : out;
+            CsvWriter writer = new CsvWriter(target, options.bufferBytes());
+            writer.writeBom();
+            writer.writeRow(headers);
+            writer.flush();
+            try {
+                rows.forEach(row -> {
+                    try {
+                        writer.writeRow(mapper.apply(row));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzip) {
+                gzip.finish();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment(baseName))
+                // 앞단 nginx 가 응답을 모았다 보내면 "첫 바이트 즉시"가 무너진다
+                .header("X-Accel-Buffering", "no");
+        if (options.gzip()) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return response.body(body);
+    }
+
+    /**
+     * {@link #stream} 응답을 자기 타임아웃을 가진 {@link WebAsyncTask} 로 바꾼다.
+     *
+     * <p>{@code StreamingResponseBody} 를 그대로 돌려주면 MVC 전역 async 타임아웃(컨테이너 기본 30초)에서 끊겨
+     * 느린 클라이언트의 긴 내보내기가 중간에 잘린다. 전역 값을 올리면 다른 async 엔드포인트까지 같이 늘어나므로,
+     * 내보내기 엔드포인트만 이 작업으로 감싸 타임아웃을 따로 준다.
+     *
+     * <p>상태와 헤더는 지금(요청 스레드에서) 응답에 옮기고, 본문만 작업이 쓴다 — 컨트롤러가 덧붙인 잘림 메타
+     * 헤더는 본문보다 먼저 나간다. 작업이 끝나면 돌려줄 값이 없다(본문은 이미 나갔다).
+     *
+     * @param csv      {@link #stream} 이 만든 응답(컨트롤러가 헤더를 덧붙인 것도 된다)
+     * @param response 본문을 쓸 서블릿 응답
+     * @param timeout  이 요청의 async 타임아웃 — 내보내기 전체(첫 바이트부터 끝까지)에 걸린다
+     */
+    public static WebAsyncTask<Void> asyncTask(ResponseEntity<StreamingResponseBody> csv,
+                                               HttpServletResponse response,
+                                               Duration timeout) {
+        StreamingResponseBody body = csv.getBody();
+        if (body == null) {
+            throw new IllegalArgumentException("스트리밍 본문이 없는 응답입니다");
+        }
+        response.setStatus(csv.getStatusCode().value());
+        csv.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        return new WebAsyncTask<>(timeout.toMillis(), () -> {
+            OutputStream out = response.getOutputStream();
+            body.writeTo(out);
+            out.flush();
+            return null;
+        });
+    }
+
+    private static String attachment(String baseName) {
+        String fileName = baseName + "_" + LocalDate.now() + ".csv";
+        return ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString();
+    }
+
     private static void appendRow(StringBuilder body, List<String> cells) {
         for (int i = 0; i < cells.size(); i++) {
             if (i > 0) {
@@ -80,18 +192,79 @@ public final class CsvResponse {
      * 통과하는" 값이 데이터에 따라 어느 날 깨진다. 항상 감싸면 그 분기 자체가 없다.
      */
     static String escape(String value) {
-        String safe = value == null ? "" : neutralizeFormula(value);
-        return '"' + safe.replace("\"", "\"\"") + '"';
+        if (value == null || value.isEmpty()) {
+            return "\"\"";
+        }
+        StringBuilder out = new StringBuilder(value.length() + 3).append('"');
+        if (isFormulaHead(value.charAt(0))) {
+            out.append('\'');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        return out.append('"').toString();
+    }
+
+    /** Excel 이 수식으로 해석하는 첫 글자. */
+    static boolean isFormulaHead(char head) {
+        return head == '=' || head == '+' || head == '-' || head == '@';
     }
 
-    private static String neutralizeFormula(String value) {
-        if (value.isEmpty()) {
-            return value;
+    /**
+     * 스트리밍 옵션.
+     *
+     * @param bufferBytes 쓰기 버퍼 크기 — 응답 하나가 쥐는 메모리이자, 아래 스트림에 한 번에 쓰는 단위
+     * @param gzip        본문을 즉석에서 gzip 으로 압축한다. CSV 는 반복이 많아 보통 5~10배 줄어든다
+     */
+    public record StreamOptions(int bufferBytes, boolean gzip) {
+
+        public static final StreamOptions DEFAULT = new StreamOptions(64 * 1024, false);
+
+        public StreamOptions {
+            if (bufferBytes < 1024) {
+                throw new IllegalArgumentException("bufferBytes 는 1024 이상이어야 합니다: " + bufferBytes);
+            }
         }
-        char head = value.charAt(0);
-        if (head == '=' || head == '+' || head == '-' || head == '@') {
-            return "'" + value;
+
+        /**
+         * 요청의 {@code Accept-Encoding} 이 gzip 을 받으면 압축한다. 받지 않는 클라이언트(일부 스크립트·프록시)에
+         * 압축 본문을 보내면 그대로 .csv 로 저장돼 열리지 않는다.
+         */
+        public static StreamOptions gzipIfAccepted(String acceptEncoding) {
+            return new StreamOptions(DEFAULT.bufferBytes(), acceptsGzip(acceptEncoding));
+        }
+
+        static boolean acceptsGzip(String acceptEncoding) {
+            if (acceptEncoding == null) {
+                return false;
+            }
+            for (String token : acceptEncoding.split(",")) {
+                String[] parts = token.split(";");
+                String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+                if (!coding.equals("gzip") && !coding.equals("x-gzip")) {
+                    continue;
+                }
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim().toLowerCase(Locale.ROOT);
+                    if (param.startsWith("q=") && isZero(param.substring(2))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private static boolean isZero(String quality) {
+            try {
+                return Double.parseDouble(quality.trim()) == 0.0;
+            } catch (NumberFormatException e) {
+                return false;
+            }
         }
-        return value;
     }
 }
@@ -0,0 +1,55 @@
+package github.lms.lemuel.common.web.csv;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 스트리밍 CSV 의 행 공급원 — 행을 목록으로 돌려주지 않고 <b>하나씩 밀어 준다</b>.
+ *
+ * <p>{@link CsvResponse#stream} 은 응답 스트림 쓰기 스레드에서 {@link #forEach} 를 한 번 부른다. 공급원은
+ * 그 호출 안에서 커서를 열고, 다 밀어 준 뒤(또는 소비자가 예외를 던지면) 닫는다 — 커서의 수명이 호출
+ * 하나에 갇혀 있어 연결이 새지 않는다. 소비자가 던지는 예외(클라이언트 연결 끊김 등)는 삼키지 말고
+ * 그대로 올려야 한다. 그래야 남은 행을 읽지 않고 멈춘다.
+ *
+ * <p>기본 구현은 페이지마다 짧은 조회를 쓰는 {@link #keyset} 이다 — 내보내기 내내 연결 하나를 붙잡는
+ * 서버 커서는 느린 클라이언트가 풀을 말리므로 두지 않는다.
+ */
+@FunctionalInterface
+public interface CsvRowSource<T> {
+
+    void forEach(Consumer<? super T> sink);
+
+    /**
+     * 키셋 페이지 공급원 — {@code fetch(마지막 키, 건수)} 로 다음 페이지를 읽는다.
+     *
+     * <p>OFFSET 페이지와 달리 깊은 페이지도 인덱스에서 바로 시작하고, 페이지마다 조회가 끝나므로 긴 내보내기
+     * 동안 연결·스냅샷을 붙잡지 않는다. 페이지 사이에 들어온 행은 정렬 키에 따라 보이거나 안 보일 수 있지만
+     * 같은 행이 두 번 나오지는 않는다. 페이지가 {@code pageSize} 보다 짧으면 끝이다.
+     *
+     * @param start    첫 페이지 조회에 넘길 키({@code null} 허용 — fetch 가 "처음부터"로 해석한다)
+     * @param pageSize 한 번에 읽을 행 수 — 메모리에 동시에 있는 행의 상한이다
+     * @param fetch    (직전 페이지 마지막 키, 건수) → 다음 페이지
+     * @param keyOf    행 → 정렬 키
+     */
+    static <T, K> CsvRowSource<T> keyset(K start, int pageSize,
+                                         BiFunction<K, Integer, List<T>> fetch, Function<T, K> keyOf) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize 는 양수여야 합니다: " + pageSize);
+        }
+        return sink -> {
+            K cursor = start;
+            while (true) {
+                List<T> page = fetch.apply(cursor, pageSize);
+                for (T row : page) {
+                    sink.accept(row);
+                }
+                if (page.size() < pageSize) {
+                    return;
+                }
+                cursor = keyOf.apply(page.get(page.size() - 1));
+            }
+        };
+    }
+}
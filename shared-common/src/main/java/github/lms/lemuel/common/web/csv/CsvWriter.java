@@ -0,0 +1,117 @@
+package github.lms.lemuel.common.web.csv;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * CSV 행을 고정 크기 바이트 버퍼에 UTF-8 로 직접 써서 스트림으로 흘려보낸다.
+ *
+ * <p>셀마다 이스케이프 문자열을 만들고 다시 바이트 배열로 바꾸는 대신, 문자를 한 번 훑으며 따옴표를 겹치고
+ * 그 자리에서 UTF-8 로 인코딩한다. 규칙은 {@link CsvResponse#escape} 와 같다 — 항상 따옴표로 감싸고,
+ * 수식 시작 문자 앞에 작은따옴표를 붙인다. 짝 없는 서로게이트는 {@code String.getBytes(UTF_8)} 처럼
+ * {@code '?'} 로 쓴다.
+ *
+ * <p>버퍼가 차면 그때 아래 스트림에 쓴다. 서블릿 출력 스트림의 쓰기는 클라이언트가 받아 가는 속도만큼만
+ * 진행되므로(소켓 송신 버퍼가 차면 블록), 행을 읽는 쪽도 그 속도로 늦춰진다 — 메모리에 쌓이는 양은 이
+ * 버퍼 하나다. 스레드 안전하지 않다.
+ */
+final class CsvWriter {
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+
+    CsvWriter(OutputStream out, int bufferSize) {
+        if (bufferSize < 64) {
+            throw new IllegalArgumentException("bufferSize 는 64 바이트 이상이어야 합니다: " + bufferSize);
+        }
+        this.out = out;
+        this.buffer = new byte[bufferSize];
+    }
+
+    void writeBom() throws IOException {
+        ensure(UTF8_BOM.length);
+        System.arraycopy(UTF8_BOM, 0, buffer, position, UTF8_BOM.length);
+        position += UTF8_BOM.length;
+    }
+
+    void writeRow(List<String> cells) throws IOException {
+        for (int i = 0; i < cells.size(); i++) {
+            if (i > 0) {
+                put((byte) ',');
+            }
+            writeCell(cells.get(i));
+        }
+        put((byte) '\r');
+        put((byte) '\n');
+    }
+
+    /** 버퍼를 비우고 아래 스트림도 flush 한다 — 첫 바이트를 바로 내보낼 때와 마지막에 부른다. */
+    void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    private void writeCell(String value) throws IOException {
+        put((byte) '"');
+        if (value != null && !value.isEmpty()) {
+            if (CsvResponse.isFormulaHead(value.charAt(0))) {
+                put((byte) '\'');
+            }
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (c == '"') {
+                        put((byte) '"');
+                    }
+                    put((byte) c);
+                } else if (c < 0x800) {
+                    ensure(2);
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, value.charAt(++i));
+                    ensure(4);
+                    buffer[position++] = (byte) (0xF0 | (cp >> 18));
+                    buffer[position++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (cp & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    put((byte) '?');
+                } else {
+                    ensure(3);
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+        put((byte) '"');
+    }
+
+    private void put(byte b) throws IOException {
+        if (position == buffer.length) {
+            drain();
+        }
+        buffer[position++] = b;
+    }
+
+    /** 멀티바이트 문자가 버퍼 경계에서 갈리지 않게 — 자리가 모자라면 먼저 비운다. */
+    private void ensure(int bytes) throws IOException {
+        if (buffer.length - position < bytes) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -53,6 +53,13 @@ class MiscUnitsTest {
         assertThat(p.getSlowThresholdMs()).isEqualTo(1000);
         assertThat(p.isLogArgs()).isTrue();
         assertThat(p.getMaxArgLength()).isEqualTo(50);
+
+        assertThat(p.getSampleRate()).isEqualTo(1.0);
+        assertThat(p.sampleRateOf("service")).isEqualTo(1.0);
+        p.setSampleRate(0.2);
+        p.setLayerSampleRates(Map.of("web", 1.0));
+        assertThat(p.sampleRateOf("web")).isEqualTo(1.0);
+        assertThat(p.sampleRateOf("service")).isEqualTo(0.2);
     }
 
     @Test
@@ -20,6 +20,9 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -57,6 +60,9 @@ class AuditLogPersistenceAdapterIT {
     @Autowired
     AuditLogPersistenceAdapter adapter;
 
+    @Autowired
+    SpringDataAuditLogJpaRepository repository;
+
     @Test
     @DisplayName("audit log 저장 및 필드 보존")
     void savesAndPreservesFields() {
@@ -92,4 +98,24 @@ class AuditLogPersistenceAdapterIT {
         assertThat(saved.getActorId()).isNull();
         assertThat(saved.getActorEmail()).isNull();
     }
+
+    @Test
+    @DisplayName("saveAll — 문장 한도를 넘는 묶음도 다건 INSERT 로 전부 적재하고 jsonb·null actor 를 보존")
+    void saveAllWritesMultiRowInserts() {
+        List<AuditLog> logs = new ArrayList<>();
+        for (int i = 0; i < AuditLogPersistenceAdapter.ROWS_PER_STATEMENT + 3; i++) {
+            logs.add(AuditLog.of(AuditAction.SETTLEMENT_CONFIRMED, "Settlement", String.valueOf(i),
+                    i % 2 == 0 ? "{\"i\":" + i + "}" : null,
+                    i % 3 == 0 ? null : 42L, null, null, null));
+        }
+        long before = repository.count();
+
+        adapter.saveAll(logs);
+
+        assertThat(repository.count() - before).isEqualTo(logs.size());
+        assertThat(repository.findAll()).anySatisfy(e -> {
+            assertThat(e.getResourceId()).isEqualTo("2");
+            assertThat(e.getDetailJson()).contains("\"i\"");
+        });
+    }
 }
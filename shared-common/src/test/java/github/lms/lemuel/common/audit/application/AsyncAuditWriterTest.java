@@ -0,0 +1,404 @@
+package github.lms.lemuel.common.audit.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import github.lms.lemuel.common.audit.application.port.out.SaveAuditLogPort;
+import github.lms.lemuel.common.audit.domain.AuditAction;
+import github.lms.lemuel.common.audit.domain.AuditLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비동기 감사 기록기 — 큐 적재·묶음 INSERT·유출 파일·재적재.
+ */
+class AsyncAuditWriterTest {
+
+    @TempDir Path spillDir;
+
+    private AsyncAuditWriter writer;
+
+    @AfterEach
+    void stop() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    /** saveAll 을 묶음 단위로 기록하고, 꺼져 있는 동안에는 DB 장애처럼 던진다. */
+    static class RecordingPort implements SaveAuditLogPort {
+        final List<List<AuditLog>> batches = Collections.synchronizedList(new ArrayList<>());
+        final List<AuditLog> singles = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean down;
+
+        @Override
+        public AuditLog save(AuditLog log) {
+            singles.add(log);
+            return log;
+        }
+
+        @Override
+        public void saveAll(List<AuditLog> logs) {
+            if (down) {
+                throw new IllegalStateException("db down");
+            }
+            batches.add(List.copyOf(logs));
+        }
+
+        int rows() {
+            synchronized (batches) {
+                return batches.stream().mapToInt(List::size).sum();
+            }
+        }
+    }
+
+    private AsyncAuditWriter writer(SaveAuditLogPort port, boolean enabled, int capacity, int batchSize) {
+        return new AsyncAuditWriter(port, new ObjectMapper(), enabled, capacity, batchSize,
+                Duration.ofMillis(20), spillDir, Duration.ofMillis(50), true, 10_000);
+    }
+
+    private static AuditLog entry(String resourceId) {
+        AuditLog log = AuditLog.of(AuditAction.SETTLEMENT_CONFIRMED, "Settlement", resourceId,
+                "{\"k\":1}", 7L, "a@b.com", "10.0.0.1", "ua");
+        log.setCreatedAt(LocalDateTime.of(2026, 10, 19, 9, 30, 15, 123_000_000));
+        return log;
+    }
+
+    private static void await(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met in 5s");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private long spillFiles() throws Exception {
+        return files(spillDir, ".jsonl").size();
+    }
+
+    private static List<Path> files(Path dir, String suffix) throws Exception {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(suffix)).toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("정상 경로")
+    class HappyPath {
+
+        @Test
+        @DisplayName("맡긴 건을 묶음으로 모아 saveAll 로 적재한다 — 건별 save 는 쓰지 않는다")
+        void batchesOfferedRows() throws Exception {
+            RecordingPort port = new RecordingPort();
+            writer = writer(port, true, 100, 50);
+            writer.start();
+
+            for (int i = 0; i < 30; i++) {
+                assertThat(writer.offer(entry("R" + i))).isTrue();
+            }
+
+            await(() -> port.rows() == 30);
+            assertThat(port.singles).isEmpty();
+            assertThat(port.batches.size()).isLessThan(30);
+        }
+
+        @Test
+        @DisplayName("묶음은 batch-size 를 넘지 않는다")
+        void respectsBatchSize() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            RecordingPort port = new RecordingPort() {
+                @Override
+                public void saveAll(List<AuditLog> logs) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    super.saveAll(logs);
+                }
+            };
+            writer = writer(port, true, 100, 4);
+            writer.start();
+
+            for (int i = 0; i < 10; i++) {
+                writer.offer(entry("R" + i));
+            }
+            release.countDown();
+
+            await(() -> port.rows() == 10);
+            assertThat(port.batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(4));
+        }
+
+        @Test
+        @DisplayName("비활성이면 offer 가 false — 호출자가 직접 기록한다")
+        void disabledRefuses() {
+            writer = writer(new RecordingPort(), false, 10, 10);
+            writer.start();
+
+            assertThat(writer.isRunning()).isFalse();
+            assertThat(writer.offer(entry("X"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("0 이하 설정은 기동 시점에 거부한다")
+        void rejectsNonPositiveSettings() {
+            assertThatThrownBy(() -> writer(new RecordingPort(), true, 0, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("잃지 않는 경로")
+    class Durability {
+
+        @Test
+        @DisplayName("DB 적재가 실패한 묶음은 유출 파일로 가고, DB 가 돌아오면 재적재된다")
+        void spillsFailedBatchAndReplays() throws Exception {
+            RecordingPort port = new RecordingPort();
+            port.down = true;
+            writer = writer(port, true, 100, 50);
+            writer.start();
+
+            writer.offer(entry("A"));
+            writer.offer(entry("B"));
+            await(() -> {
+                try {
+                    return spillFiles() > 0;
+                } catch (Exception e) {
+                    return false;
+                }
+            });
+
+            port.down = false;
+            await(() -> port.rows() == 2);
+            assertThat(spillFiles()).isZero();
+
+            AuditLog replayed = port.batches.get(0).get(0);
+            assertThat(replayed.getResourceId()).isEqualTo("A");
+            assertThat(replayed.getActorId()).isEqualTo(7L);
+            assertThat(replayed.getDetailJson()).isEqualTo("{\"k\":1}");
+            assertThat(replayed.getCreatedAt()).isEqualTo(LocalDateTime.of(2026, 10, 19, 9, 30, 15, 123_000_000));
+        }
+
+        @Test
+        @DisplayName("큐가 가득 차면 호출 스레드가 그 건을 유출 파일에 내린다 — 버리지도 막지도 않는다")
+        void spillsWhenQueueFull() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            RecordingPort port = new RecordingPort() {
+                @Override
+                public void saveAll(List<AuditLog> logs) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    super.saveAll(logs);
+                }
+            };
+            writer = writer(port, true, 1, 1);
+            writer.start();
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(writer.offer(entry("R" + i))).isTrue();
+            }
+            assertThat(spillFiles()).isPositive();
+
+            release.countDown();
+            await(() -> port.rows() == 5);
+        }
+
+        @Test
+        @DisplayName("종료 시 큐에 남은 건은 유출 파일로, 다음 기동 때 재적재된다")
+        void stopSpillsAndNextStartReplays() throws Exception {
+            RecordingPort port = new RecordingPort();
+            port.down = true;
+            writer = writer(port, true, 100, 50);
+            writer.start();
+            writer.offer(entry("A"));
+            writer.stop();
+            assertThat(spillFiles()).isPositive();
+
+            RecordingPort next = new RecordingPort();
+            writer = writer(next, true, 100, 50);
+            writer.start();
+
+            await(() -> next.rows() == 1);
+            assertThat(next.batches.get(0).get(0).getResourceId()).isEqualTo("A");
+        }
+
+        @Test
+        @DisplayName("읽을 수 없는 유출 파일은 .corrupt 로 비켜 두고 나머지를 계속 재적재한다")
+        void setsAsideCorruptFile() throws Exception {
+            Files.createDirectories(spillDir);
+            Files.writeString(spillDir.resolve("audit-spill-1-1.jsonl"), "not json\n");
+            new AuditSpillFile(spillDir, new ObjectMapper()).append(List.of(entry("OK")));
+
+            RecordingPort port = new RecordingPort();
+            writer = writer(port, true, 10, 10);
+            writer.start();
+
+            await(() -> port.rows() == 1);
+            assertThat(Files.exists(spillDir.resolve("audit-spill-1-1.jsonl.corrupt"))).isTrue();
+            assertThat(writer.pending()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("선기록 로그")
+    class WriteAhead {
+
+        @TempDir Path crashDir;
+
+        @Test
+        @DisplayName("offer 는 선기록 세그먼트에 먼저 적고, saveAll 이 커밋되면 세그먼트를 비운다")
+        void appendsBeforeAckAndTruncatesAfterCommit() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            RecordingPort port = new RecordingPort() {
+                @Override
+                public void saveAll(List<AuditLog> logs) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    super.saveAll(logs);
+                }
+            };
+            writer = writer(port, true, 100, 50);
+            writer.start();
+
+            writer.offer(entry("A"));
+            writer.offer(entry("B"));
+
+            List<Path> segments = files(spillDir, ".wal");
+            assertThat(segments).hasSize(1);
+            assertThat(Files.readAllLines(segments.get(0))).hasSize(2);
+
+            release.countDown();
+            await(() -> port.rows() == 2);
+            await(() -> {
+                try {
+                    return Files.size(segments.get(0)) == 0;
+                } catch (Exception e) {
+                    return false;
+                }
+            });
+        }
+
+        @Test
+        @DisplayName("강제 종료로 남은 세그먼트는 다음 기동 때 재적재된다 — 잘린 끝 줄은 건너뛴다")
+        void recoversSegmentLeftByKilledProcess() throws Exception {
+            CountDownLatch never = new CountDownLatch(1);
+            RecordingPort stuck = new RecordingPort() {
+                @Override
+                public void saveAll(List<AuditLog> logs) {
+                    try {
+                        never.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IllegalStateException("killed");
+                }
+            };
+            writer = writer(stuck, true, 100, 50);
+            writer.start();
+            writer.offer(entry("A"));
+            writer.offer(entry("B"));
+
+            // kill -9 직전 디스크 상태를 복사해 둔다 — 기록 스레드는 아직 saveAll 안에 있다.
+            Path segment = files(spillDir, ".wal").get(0);
+            Path orphan = crashDir.resolve(segment.getFileName());
+            Files.copy(segment, orphan);
+            Files.writeString(orphan, "{\"actorId\":7,\"act", java.nio.file.StandardOpenOption.APPEND);
+            never.countDown();
+
+            RecordingPort next = new RecordingPort();
+            AsyncAuditWriter restarted = new AsyncAuditWriter(next, new ObjectMapper(), true, 100, 50,
+                    Duration.ofMillis(20), crashDir, Duration.ofMillis(50), true, 10_000);
+            restarted.start();
+            try {
+                await(() -> next.rows() == 2);
+                assertThat(next.batches.get(0)).extracting(AuditLog::getResourceId).containsExactly("A", "B");
+                assertThat(files(crashDir, ".wal")).isEmpty();
+            } finally {
+                restarted.stop();
+            }
+        }
+
+        @Test
+        @DisplayName("다른 기록기가 쥐고 있는 세그먼트는 복구하지 않는다")
+        void skipsSegmentHeldByLiveWriter() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            RecordingPort port = new RecordingPort() {
+                @Override
+                public void saveAll(List<AuditLog> logs) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    super.saveAll(logs);
+                }
+            };
+            writer = writer(port, true, 100, 50);
+            writer.start();
+            writer.offer(entry("A"));
+
+            RecordingPort other = new RecordingPort();
+            AsyncAuditWriter second = writer(other, true, 100, 50);
+            second.start();
+            try {
+                Thread.sleep(100);
+                assertThat(other.rows()).isZero();
+                release.countDown();
+                await(() -> port.rows() == 1);
+            } finally {
+                second.stop();
+            }
+        }
+
+        @Test
+        @DisplayName("정상 종료 후에는 세그먼트가 남지 않는다")
+        void cleanStopLeavesNoSegment() throws Exception {
+            RecordingPort port = new RecordingPort();
+            writer = writer(port, true, 100, 50);
+            writer.start();
+            writer.offer(entry("A"));
+            await(() -> port.rows() == 1);
+
+            writer.stop();
+
+            assertThat(files(spillDir, ".wal")).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("spill-dir 이 java.io.tmpdir 아래인지 가린다 — 기본값(./data/audit-spill)은 아니다")
+    void detectsSpillDirUnderTmpdir() {
+        Path tmpdir = Path.of(System.getProperty("java.io.tmpdir"));
+
+        assertThat(AsyncAuditWriter.isUnderTmpdir(tmpdir.resolve("audit-spill"))).isTrue();
+        assertThat(AsyncAuditWriter.isUnderTmpdir(tmpdir.resolve("x/../audit-spill"))).isTrue();
+        assertThat(AsyncAuditWriter.isUnderTmpdir(Path.of("./data/audit-spill"))).isFalse();
+    }
+}
@@ -151,6 +151,58 @@ class AuditApplicationTest {
                 eq(null), any());
     }
 
+    @Test
+    @DisplayName("critical=true 면 동기 기록(recordCritical)으로 보낸다")
+    void criticalGoesSynchronous() throws Throwable {
+        AuditLogger logger = mock(AuditLogger.class);
+        AuditAspect aspect = new AuditAspect(logger, new AuditDetailSerializer(new ObjectMapper()));
+        ProceedingJoinPoint jp = joinPoint(sampleMethod(), new Object[]{"3"}, new SampleService());
+        when(jp.proceed()).thenReturn("x");
+        Auditable critical = auditable("#p0", "", "", true, true);
+        when(critical.critical()).thenReturn(true);
+
+        aspect.recordAudit(jp, critical);
+
+        verify(logger).recordCritical(eq(AuditAction.SETTLEMENT_CONFIRMED), eq("Settlement"), eq("3"), any());
+        verify(logger, never()).record(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 메서드의 반복 호출은 캐시된 식을 쓰되 인자마다 새로 평가한다")
+    void cachedPlanEvaluatesPerCall() throws Throwable {
+        AuditLogger logger = mock(AuditLogger.class);
+        AuditAspect aspect = new AuditAspect(logger, new AuditDetailSerializer(new ObjectMapper()));
+        Auditable auditable = auditable("#p0", "{'k':#a0}", "", true, true);
+
+        for (String id : new String[]{"1", "2", "3"}) {
+            ProceedingJoinPoint jp = joinPoint(sampleMethod(), new Object[]{id}, new SampleService());
+            when(jp.proceed()).thenReturn("x");
+            aspect.recordAudit(jp, auditable);
+        }
+
+        verify(logger).record(any(), any(), eq("1"), any());
+        verify(logger).record(any(), any(), eq("2"), any());
+        verify(logger).record(any(), any(), eq("3"), any());
+    }
+
+    @Test
+    @DisplayName("파싱되지 않는 식은 캐시돼도 매번 같은 폴백(resourceId=null, 오류 detail)을 탄다")
+    void unparsableExpressionFallsBackEveryCall() throws Throwable {
+        AuditLogger logger = mock(AuditLogger.class);
+        AuditAspect aspect = new AuditAspect(logger, new AuditDetailSerializer(new ObjectMapper()));
+        Auditable auditable = auditable("#p0 +", "{'k':", "", true, true);
+
+        for (int i = 0; i < 2; i++) {
+            ProceedingJoinPoint jp = joinPoint(sampleMethod(), new Object[]{"1"}, new SampleService());
+            when(jp.proceed()).thenReturn("x");
+            aspect.recordAudit(jp, auditable);
+        }
+
+        ArgumentCaptor<String> detailJson = ArgumentCaptor.forClass(String.class);
+        verify(logger, org.mockito.Mockito.times(2)).record(any(), any(), eq(null), detailJson.capture());
+        assertThat(detailJson.getAllValues()).allSatisfy(json -> assertThat(json).contains("auditExpressionError"));
+    }
+
     // ─── AuditLogger ─────────────────────────────────────────────────────────
 
     @Test
@@ -11,8 +11,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -85,4 +88,47 @@ class AuditLoggerTest {
         logger.record(null, "X", "1", null);
         verifyNoInteractions(saveAuditLogPort);
     }
+
+    @Test
+    @DisplayName("record 는 호출 스레드의 actor 를 담아 비동기 기록기에 맡기고 직접 저장하지 않는다")
+    void recordHandsOffToAsyncWriter() {
+        AsyncAuditWriter writer = org.mockito.Mockito.mock(AsyncAuditWriter.class);
+        when(writer.offer(any())).thenReturn(true);
+        AuditLogger asyncLogger = new AuditLogger(saveAuditLogPort, writer,
+                org.mockito.Mockito.mock(PlatformTransactionManager.class));
+        AuditContext.set(new AuditContext.AuditActor(42L, "admin@x.com", "10.0.0.1", "curl/7"));
+
+        asyncLogger.record(AuditAction.SETTLEMENT_CONFIRMED, "Settlement", "100", null);
+
+        ArgumentCaptor<AuditLog> cap = ArgumentCaptor.forClass(AuditLog.class);
+        verify(writer).offer(cap.capture());
+        assertThat(cap.getValue().getActorEmail()).isEqualTo("admin@x.com");
+        verify(saveAuditLogPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("기록기가 받지 않으면(비활성·종료) 직접 저장한다")
+    void recordFallsBackWhenWriterRefuses() {
+        AsyncAuditWriter writer = org.mockito.Mockito.mock(AsyncAuditWriter.class);
+        when(writer.offer(any())).thenReturn(false);
+        AuditLogger asyncLogger = new AuditLogger(saveAuditLogPort, writer,
+                org.mockito.Mockito.mock(PlatformTransactionManager.class));
+
+        asyncLogger.record(AuditAction.REFUND_COMPLETED, "Refund", "5", null);
+
+        verify(saveAuditLogPort).save(any());
+    }
+
+    @Test
+    @DisplayName("recordCritical 은 기록기를 거치지 않고 즉시 저장한다")
+    void criticalWritesSynchronously() {
+        AsyncAuditWriter writer = org.mockito.Mockito.mock(AsyncAuditWriter.class);
+        AuditLogger asyncLogger = new AuditLogger(saveAuditLogPort, writer,
+                org.mockito.Mockito.mock(PlatformTransactionManager.class));
+
+        asyncLogger.recordCritical(AuditAction.SETTLEMENT_CONFIRMED, "Settlement", "100", null);
+
+        verify(saveAuditLogPort).save(any());
+        verify(writer, never()).offer(any());
+    }
 }
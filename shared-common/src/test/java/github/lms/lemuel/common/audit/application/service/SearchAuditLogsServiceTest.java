@@ -1,10 +1,12 @@
 package github.lms.lemuel.common.audit.application.service;
 
+import github.lms.lemuel.common.audit.application.port.in.SearchAuditLogsUseCase;
 import github.lms.lemuel.common.audit.application.port.in.SearchAuditLogsUseCase.AuditActionCount;
 import github.lms.lemuel.common.audit.application.port.in.SearchAuditLogsUseCase.AuditLogPage;
 import github.lms.lemuel.common.audit.application.port.in.SearchAuditLogsUseCase.AuditLogQuery;
 import github.lms.lemuel.common.audit.application.port.in.SearchAuditLogsUseCase.AuditLogRow;
 import github.lms.lemuel.common.audit.application.port.out.SearchAuditLogsPort;
+import github.lms.lemuel.common.audit.application.port.out.SearchAuditLogsPort.AuditLogCursor;
 import github.lms.lemuel.common.audit.domain.AuditAction;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +17,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * 감사 로그 조회 서비스 단위 테스트.
@@ -34,7 +37,10 @@ class SearchAuditLogsServiceTest {
         final List<AuditLogCriteria> countCriteria = new ArrayList<>();
         final List<Integer> pages = new ArrayList<>();
         final List<Integer> sizes = new ArrayList<>();
+        final List<AuditLogCursor> cursors = new ArrayList<>();
         long total;
+        /** searchAfter 가 돌려줄 남은 행 수 — 요청한 건수만큼씩 깎는다. */
+        long remaining;
         List<AuditLogRow> rows = List.of();
         List<AuditActionCount> actionCounts = List.of();
 
@@ -46,6 +52,20 @@ class SearchAuditLogsServiceTest {
             return rows;
         }
 
+        @Override
+        public List<AuditLogRow> searchAfter(AuditLogCriteria criteria, AuditLogCursor after, int size) {
+            searchCriteria.add(criteria);
+            cursors.add(after);
+            sizes.add(size);
+            int n = (int) Math.min(size, remaining);
+            remaining -= n;
+            List<AuditLogRow> page = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                page.add(row(remaining + n - i));
+            }
+            return page;
+        }
+
         @Override
         public long count(AuditLogCriteria criteria) {
             countCriteria.add(criteria);
@@ -197,40 +217,60 @@ class SearchAuditLogsServiceTest {
     }
 
     @Test
-    @DisplayName("내보내기는 상한 5000 에서 끊고 잘렸다고 알린다 — 잘린 줄 모르는 CSV 가 가장 나쁘다")
+    @DisplayName("내보내기는 상한(Excel 시트 한도)에서 끊고 잘렸다고 알린다 — 잘린 줄 모르는 CSV 가 가장 나쁘다")
     void exportTruncatesAtCapAndSaysSo() {
-        port.total = 12_345;
-        port.rows = pageOf(200);
+        port.total = SearchAuditLogsService.MAX_EXPORT_ROWS + 12_345L;
+        port.remaining = port.total;
 
         var export = service.export(query(null, null, 0, 10));
 
-        assertThat(export.rows()).hasSize(5_000);
+        assertThat(port.searchCriteria).as("건수만 세고 행은 아직 읽지 않는다").isEmpty();
         assertThat(export.truncated()).isTrue();
-        assertThat(export.totalElements()).isEqualTo(12_345);
-        assertThat(port.sizes).allMatch(size -> size == 200);
+        assertThat(export.totalElements()).isEqualTo(port.total);
+
+        assertThat(drain(export)).isEqualTo(SearchAuditLogsService.MAX_EXPORT_ROWS);
+        assertThat(port.sizes).allMatch(size -> size <= SearchAuditLogsService.EXPORT_PAGE_SIZE);
     }
 
     @Test
-    @DisplayName("상한 이하면 잘리지 않고 총 건수만큼만 담는다")
+    @DisplayName("상한 이하면 잘리지 않고 총 건수만큼만 읽는다 — 마지막 페이지는 남은 건수만 요청한다")
     void exportKeepsEverythingUnderCap() {
-        port.total = 350;
-        port.rows = pageOf(200);
+        port.total = 2_350;
+        port.remaining = 10_000;
 
         var export = service.export(query(null, null, 0, 10));
 
-        assertThat(export.rows()).hasSize(350);
+        assertThat(drain(export)).isEqualTo(2_350);
         assertThat(export.truncated()).isFalse();
+        assertThat(port.sizes).containsExactly(1_000, 1_000, 350);
+    }
+
+    @Test
+    @DisplayName("키셋으로 넘긴다 — 다음 페이지는 직전 페이지 마지막 행의 (created_at, id) 뒤부터")
+    void exportPagesByKeyset() {
+        port.total = 1_500;
+        port.remaining = 1_500;
+        List<AuditLogRow> seen = new ArrayList<>();
+
+        service.export(query(null, null, 0, 10)).rows().forEach(seen::add);
+
+        assertThat(port.cursors).hasSize(2);
+        assertThat(port.cursors.get(0)).as("첫 페이지는 처음부터").isNull();
+        AuditLogRow lastOfFirstPage = seen.get(999);
+        assertThat(port.cursors.get(1))
+                .isEqualTo(new AuditLogCursor(lastOfFirstPage.createdAt(), lastOfFirstPage.id()));
     }
 
     @Test
-    @DisplayName("조회 도중 데이터가 사라져 빈 페이지가 와도 무한 루프에 빠지지 않는다")
-    void exportStopsOnEmptyPage() {
-        port.total = 1_000;
-        port.rows = List.of();
+    @DisplayName("건수를 센 뒤 데이터가 줄어 페이지가 짧게 와도 있는 만큼으로 끝낸다")
+    void exportStopsOnShortPage() {
+        port.total = 5_000;
+        port.remaining = 1_200;
 
         var export = service.export(query(null, null, 0, 10));
 
-        assertThat(export.rows()).isEmpty();
+        assertThat(drain(export)).isEqualTo(1_200);
+        assertThat(port.sizes).containsExactly(1_000, 1_000);
     }
 
     @Test
@@ -240,21 +280,36 @@ class SearchAuditLogsServiceTest {
 
         var export = service.export(query(null, null, 0, 10));
 
+        assertThat(drain(export)).isZero();
         assertThat(port.searchCriteria).isEmpty();
-        assertThat(export.rows()).isEmpty();
         assertThat(export.truncated()).isFalse();
     }
 
-    private static List<AuditLogRow> pageOf(int size) {
-        List<AuditLogRow> rows = new ArrayList<>(size);
-        for (int i = 0; i < size; i++) {
-            rows.add(row());
-        }
-        return rows;
+    @Test
+    @DisplayName("소비자가 던지면(클라이언트 연결 끊김) 다음 페이지를 읽지 않는다")
+    void exportStopsWhenSinkThrows() {
+        port.total = 5_000;
+        port.remaining = 5_000;
+        var export = service.export(query(null, null, 0, 10));
+
+        assertThatThrownBy(() -> export.rows().forEach(row -> {
+            throw new IllegalStateException("client gone");
+        })).hasMessage("client gone");
+        assertThat(port.sizes).hasSize(1);
+    }
+
+    private static long drain(SearchAuditLogsUseCase.AuditLogExport export) {
+        long[] count = {0};
+        export.rows().forEach(row -> count[0]++);
+        return count[0];
     }
 
     private static AuditLogRow row() {
-        return new AuditLogRow(1L, 9L, "admin@lemuel.io", "LOGIN_SUCCESS", "USER", "9",
+        return row(1L);
+    }
+
+    private static AuditLogRow row(long id) {
+        return new AuditLogRow(id, 9L, "admin@lemuel.io", "LOGIN_SUCCESS", "USER", "9",
                 "{}", "127.0.0.1", "junit", LocalDateTime.of(2026, 3, 1, 12, 0));
     }
 }
@@ -0,0 +1,96 @@
+package github.lms.lemuel.common.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MultiRowUpsert — 정렬·분할 다중 행 upsert")
+class MultiRowUpsertTest {
+
+    private record Row(String key, int value) { }
+
+    private static final String HEAD = "INSERT INTO t AS a (k, v, at) VALUES ";
+    private static final String ROW = "(?, ?, NOW())";
+    private static final String TAIL = " ON CONFLICT (k) DO UPDATE SET v = EXCLUDED.v";
+
+    private final JdbcOperations jdbc = mock(JdbcOperations.class);
+
+    private MultiRowUpsert<Row> upsert(int rowsPerStatement) {
+        return new MultiRowUpsert<>(HEAD, ROW, TAIL, rowsPerStatement, Comparator.comparing(Row::key),
+                (row, args) -> {
+                    args.add(row.key());
+                    args.add(row.value());
+                });
+    }
+
+    @Test
+    @DisplayName("충돌 키 순으로 정렬해 한 문장에 싣고 영향 행 수를 돌려준다")
+    void sortsAndBindsInOneStatement() {
+        when(jdbc.update(any(String.class), any(Object[].class))).thenReturn(2);
+
+        int affected = upsert(10).execute(jdbc, List.of(new Row("b", 2), new Row("a", 1)));
+
+        assertThat(affected).isEqualTo(2);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbc).update(sql.capture(), args.capture());
+        assertThat(sql.getValue()).isEqualTo(HEAD + "(?, ?, NOW()), (?, ?, NOW())" + TAIL);
+        assertThat(args.getValue()).containsExactly("a", 1, "b", 2);
+    }
+
+    @Test
+    @DisplayName("문장당 행 상한을 넘으면 나눠 보내고 영향 행 수를 합친다")
+    void splitsIntoStatements() {
+        when(jdbc.update(any(String.class), any(Object[].class))).thenReturn(3);
+        List<Row> rows = IntStream.range(0, 7).mapToObj(i -> new Row("k" + i, i)).toList();
+
+        assertThat(upsert(3).execute(jdbc, rows)).isEqualTo(9);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbc, times(3)).update(sql.capture(), any(Object[].class));
+        assertThat(sql.getAllValues()).containsExactly(
+                upsert(3).sql(3), upsert(3).sql(3), upsert(3).sql(1));
+    }
+
+    @Test
+    @DisplayName("빈 입력은 문장을 보내지 않는다")
+    void emptyInputSendsNothing() {
+        assertThat(upsert(3).execute(jdbc, List.of())).isZero();
+
+        verifyNoInteractions(jdbc);
+    }
+
+    @Test
+    @DisplayName("행당 파라미터 × 행 수가 바인딩 상한을 넘는 설정은 생성 시점에 거부한다")
+    void rejectsStatementsOverBindLimit() {
+        assertThatIllegalArgumentException().isThrownBy(() -> upsert(MultiRowUpsert.MAX_BIND_PARAMETERS / 2 + 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> upsert(0));
+        assertThat(upsert(MultiRowUpsert.MAX_BIND_PARAMETERS / 2).rowsPerStatement())
+                .isEqualTo(MultiRowUpsert.MAX_BIND_PARAMETERS / 2);
+    }
+
+    @Test
+    @DisplayName("바인딩 값 수가 자리표시자와 다르면 문장을 보내기 전에 실패한다")
+    void rejectsBinderMismatch() {
+        MultiRowUpsert<Row> broken = new MultiRowUpsert<>(HEAD, ROW, TAIL, 10, Comparator.comparing(Row::key),
+                (row, args) -> args.add(row.key()));
+
+        assertThatIllegalStateException().isThrownBy(() -> broken.execute(jdbc, List.of(new Row("a", 1))));
+        verifyNoInteractions(jdbc);
+    }
+}
@@ -0,0 +1,70 @@
+package github.lms.lemuel.common.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@DisplayName("RequestPacer — 워커 공유 호출 간격")
+class RequestPacerTest {
+
+    @Test
+    @DisplayName("간격 0 이면 기다리지 않는다")
+    void zeroIntervalNeverWaits() {
+        RequestPacer pacer = new RequestPacer(0);
+        long started = System.nanoTime();
+
+        for (int i = 0; i < 1_000; i++) {
+            pacer.acquire();
+        }
+
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    @DisplayName("여러 워커가 동시에 받아도 호출 시작 사이는 간격 아래로 좁혀지지 않는다")
+    void spacesStartsAcrossWorkers() throws Exception {
+        RequestPacer pacer = new RequestPacer(20);
+        List<Long> starts = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 8; i++) {
+                pool.execute(() -> {
+                    pacer.acquire();
+                    starts.add(System.nanoTime());
+                });
+            }
+            pool.shutdown();
+            assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<Long> sorted = starts.stream().sorted().toList();
+        assertThat(sorted).hasSize(8);
+        // 8번째 슬롯은 첫 슬롯에서 최소 7 간격 뒤 — sleep 이 늦게 깰 수는 있어도 일찍 깨지는 않는다
+        assertThat(sorted.get(7) - sorted.get(0)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(7 * 20 - 5));
+    }
+
+    @Test
+    @DisplayName("기다리는 중 인터럽트되면 플래그를 되살리고 IllegalStateException")
+    void interruptRestoresFlag() {
+        RequestPacer pacer = new RequestPacer(10_000);
+        pacer.acquire();   // 첫 슬롯은 바로 — 다음 호출이 10초를 기다린다
+        Thread.currentThread().interrupt();
+        try {
+            assertThatIllegalStateException().isThrownBy(pacer::acquire).withMessage("동기화 스레드 인터럽트");
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
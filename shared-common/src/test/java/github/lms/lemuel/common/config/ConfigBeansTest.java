@@ -12,6 +12,8 @@ import github.lms.lemuel.common.config.jwt.JwtUtil;
 import github.lms.lemuel.common.config.jwt.SecurityConfig;
 import github.lms.lemuel.common.config.observability.ObservabilityConfig;
 import github.lms.lemuel.common.config.observability.TraceIdFilter;
+import github.lms.lemuel.common.config.replica.ReadRoutingPolicy;
+import github.lms.lemuel.common.config.replica.ReplicaRoute;
 import github.lms.lemuel.common.config.scheduling.SchedulingLockConfig;
 import github.lms.lemuel.common.observability.aop.AopObservabilityConfig;
 import github.lms.lemuel.common.observability.aop.MethodTraceAspect;
@@ -138,13 +140,20 @@ class ConfigBeansTest {
     @DisplayName("ReadReplicaDataSourceConfig: write/read DS + 라우팅 DS 조립, readOnly 라우팅 키")
     void readReplicaConfig() {
         ReadReplicaDataSourceConfig config = new ReadReplicaDataSourceConfig();
+        ReflectionTestUtils.setField(config, "maxLagMillis", 2000L);
+        ReflectionTestUtils.setField(config, "lagProbeIntervalMillis", 1000L);
+        ReflectionTestUtils.setField(config, "readYourWritesWindowMillis", 5000L);
+        MeterRegistry registry = new SimpleMeterRegistry();
         HikariDataSource write = config.writeDataSource();
         HikariDataSource read = config.readDataSource();
-        assertThat(config.dataSource(write, read)).isNotNull();
-
-        ReadReplicaDataSourceConfig.RoutingDataSource routing = new ReadReplicaDataSourceConfig.RoutingDataSource();
-        // 트랜잭션 미시작 → readOnly=false → WRITE
-        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadReplicaDataSourceConfig.Route.WRITE);
+        ReadRoutingPolicy policy = config.readRoutingPolicy(
+                config.replicaLagMonitor(write, read, registry), config.readYourWritesTracker(), registry);
+        assertThat(config.dataSource(write, read, policy)).isNotNull();
+        assertThat(config.readRoutingAspect()).isNotNull();
+
+        ReadReplicaDataSourceConfig.RoutingDataSource routing = new ReadReplicaDataSourceConfig.RoutingDataSource(policy);
+        // 트랜잭션 미시작 → readOnly=false → PRIMARY
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoute.PRIMARY);
         write.close();
         read.close();
     }
@@ -2,6 +2,21 @@ package github.lms.lemuel.common.config.observability;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -56,4 +71,93 @@ class PIIMaskingConverterTest {
         assertThat(PIIMaskingConverter.mask(null)).isNull();
         assertThat(PIIMaskingConverter.mask("")).isEmpty();
     }
+
+    @Test
+    @DisplayName("주민등록번호 — 생년월일·성별자리만 노출")
+    void masksResidentNumber() {
+        assertThat(PIIMaskingConverter.mask("rrn 900101-1234567 end"))
+                .isEqualTo("rrn 900101-1****** end");
+    }
+
+    @Test
+    @DisplayName("계좌번호 — 첫 묶음과 끝 4자리만 노출, 하이픈 보존")
+    void masksAccountNumber() {
+        assertThat(PIIMaskingConverter.mask("acct 110-123-456789 to"))
+                .isEqualTo("acct 110-***-**6789 to");
+    }
+
+    @Test
+    @DisplayName("PII 가 없으면 복사 없이 같은 인스턴스를 돌려준다")
+    void returnsSameInstanceWhenClean() {
+        String original = "order 42 shipped at 2026-10-19 09:30 to 서울";
+        assertThat(PIIMaskingConverter.mask(original)).isSameAs(original);
+    }
+
+    @Test
+    @DisplayName("재사용 버퍼 — 연속 호출의 결과가 서로 섞이지 않는다")
+    void reusedBufferDoesNotLeakBetweenCalls() {
+        String first = PIIMaskingConverter.mask("a 010-1234-5678");
+        String second = PIIMaskingConverter.mask("b user@example.com");
+        String longLine = PIIMaskingConverter.mask("x".repeat(40_000) + " 010-1234-5678");
+
+        assertThat(first).isEqualTo("a 010-****-5678");
+        assertThat(second).isEqualTo("b u***@e***.com");
+        assertThat(longLine).endsWith(" 010-****-5678").hasSize(40_000 + 14);
+        assertThat(PIIMaskingConverter.mask("c 010-1234-5678")).isEqualTo("c 010-****-5678");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 마스킹해도 결과가 섞이지 않는다 — 버퍼는 스레드별")
+    void threadSafe() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                String id = String.valueOf(t);
+                Callable<Boolean> job = () -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        String out = PIIMaskingConverter.mask("t" + id + " 010-1234-5678 u@ex.com " + i);
+                        if (!out.equals("t" + id + " 010-****-5678 u***@e***.com " + i)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+                results.add(pool.submit(job));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("corpus")
+    @DisplayName("정답 코퍼스(observability/pii-masking-corpus.tsv)")
+    void matchesCorpus(String input, String expected) {
+        String out = PIIMaskingConverter.mask(input);
+        if ("=".equals(expected)) {
+            assertThat(out).isSameAs(input);
+        } else {
+            assertThat(out).isEqualTo(expected);
+        }
+    }
+
+    static List<Arguments> corpus() throws IOException {
+        List<Arguments> rows = new ArrayList<>();
+        try (InputStream in = PIIMaskingConverterTest.class.getResourceAsStream("/observability/pii-masking-corpus.tsv");
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int tab = line.indexOf('\t');
+                rows.add(Arguments.of(line.substring(0, tab), line.substring(tab + 1)));
+            }
+        }
+        return rows;
+    }
 }
@@ -0,0 +1,331 @@
+package github.lms.lemuel.common.config.replica;
+
+import github.lms.lemuel.common.config.ReadReplicaDataSourceConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 읽기 레플리카 라우팅 테스트 — 프라이머리·레플리카 두 데이터소스를 라우팅 프록시 뒤에 두고, 실제 트랜잭션 매니저로
+ * 트랜잭션을 열어 첫 쿼리의 커넥션이 어느 쪽에서 왔는지 본다.
+ */
+class ReadReplicaRoutingTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-19T00:00:00Z"));
+    private final Connection primaryConnection = mock(Connection.class, "primary");
+    private final Connection replicaConnection = mock(Connection.class, "replica");
+    private final AtomicReference<String> user = new AtomicReference<>("seller-7");
+
+    private ReplicaLagMonitor lagMonitor;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private DataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(mock(JdbcTemplate.class), mock(JdbcTemplate.class), clock, 3_000, registry);
+        lagMonitor.record(0);
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(clock, 5_000, 1_000);
+        ReadRoutingPolicy policy = new ReadRoutingPolicy(lagMonitor, tracker, 2_000, user::get, registry);
+        routing = ReadReplicaDataSourceConfig.routing(primary, replica, policy);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    /** 첫 쿼리가 실제로 잡는 커넥션 — 라우팅은 이 순간 정해진다. */
+    private Connection firstQueryConnection() {
+        Connection connection = DataSourceUtils.getConnection(routing);
+        try {
+            return ((ConnectionProxy) connection).getTargetConnection();
+        } finally {
+            DataSourceUtils.releaseConnection(connection, routing);
+        }
+    }
+
+    private Connection inReadOnly() {
+        return readOnly.execute(status -> firstQueryConnection());
+    }
+
+    private Connection inReadWrite() {
+        return readWrite.execute(status -> firstQueryConnection());
+    }
+
+    private Connection withHint(ReadRoutingHints.Hint hint, Supplier<Connection> body) {
+        ReadRoutingHints.Hint previous = ReadRoutingHints.push(hint);
+        try {
+            return body.get();
+        } finally {
+            ReadRoutingHints.restore(previous);
+        }
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 레플리카, 읽기-쓰기 트랜잭션은 프라이머리")
+    void routesByReadOnlyFlag() {
+        assertThat(inReadOnly()).isSameAs(replicaConnection);
+        assertThat(inReadWrite()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 직후 같은 사용자의 읽기는 창 동안 프라이머리, 다른 사용자와 창 이후는 레플리카")
+    void readYourWritesPinsAfterCommit() {
+        inReadWrite();
+
+        assertThat(inReadOnly()).as("방금 쓴 사용자").isSameAs(primaryConnection);
+        user.set("seller-8");
+        assertThat(inReadOnly()).as("다른 사용자").isSameAs(replicaConnection);
+        user.set("seller-7");
+        clock.advance(Duration.ofMillis(5_001));
+        lagMonitor.record(0);
+        assertThat(inReadOnly()).as("창이 지난 뒤").isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 read-your-writes 창을 열지 않는다")
+    void rolledBackWriteDoesNotPin() {
+        readWrite.executeWithoutResult(status -> {
+            firstQueryConnection();
+            status.setRollbackOnly();
+        });
+
+        assertThat(inReadOnly()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("익명 사용자는 쓰기 후에도 창이 없다")
+    void anonymousWritesDoNotPin() {
+        user.set(null);
+        inReadWrite();
+
+        assertThat(inReadOnly()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("지연이 허용치를 넘으면 프라이머리 — @ReplicaRead 의 더 큰 허용치면 레플리카")
+    void fallsBackWhenLagExceedsThreshold() {
+        lagMonitor.record(2_500);
+
+        assertThat(inReadOnly()).isSameAs(primaryConnection);
+        assertThat(withHint(new ReadRoutingHints.Hint(ReplicaRoute.REPLICA, 30_000), this::inReadOnly))
+                .isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("측정이 실패했거나 오래됐으면 프라이머리")
+    void fallsBackWhenLagUnknown() {
+        lagMonitor.record(ReplicaLagMonitor.UNKNOWN);
+        assertThat(inReadOnly()).isSameAs(primaryConnection);
+
+        lagMonitor.record(0);
+        clock.advance(Duration.ofMillis(3_001));
+        assertThat(inReadOnly()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("@PrimaryRead 는 readOnly 트랜잭션이어도 프라이머리")
+    void primaryReadOverridesReadOnly() {
+        assertThat(withHint(ReadRoutingHints.Hint.PRIMARY, this::inReadOnly)).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 조회는 @ReplicaRead 가 있어야 레플리카")
+    void nonTransactionalReadsNeedHint() {
+        assertThat(firstQueryConnection()).isSameAs(primaryConnection);
+        assertThat(withHint(new ReadRoutingHints.Hint(ReplicaRoute.REPLICA, 0), this::firstQueryConnection))
+                .isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("@ReplicaRead 가 있어도 읽기-쓰기 트랜잭션 안에서는 프라이머리")
+    void replicaHintCannotLeaveReadWriteTransaction() {
+        assertThat(withHint(new ReadRoutingHints.Hint(ReplicaRoute.REPLICA, 0),
+                this::inReadWrite))
+                .isSameAs(primaryConnection);
+    }
+
+    // ─── 표시 해석 ───────────────────────────────────────────────────────────────
+
+    @ReplicaRead(maxLagMillis = 30_000)
+    static class StatementQueries {
+
+        public void list() {
+        }
+
+        @PrimaryRead
+        public void balance() {
+        }
+
+        @ReplicaRead
+        public void search() {
+        }
+    }
+
+    @Test
+    @DisplayName("메서드 표시가 클래스 표시보다 우선한다")
+    void methodAnnotationWins() throws NoSuchMethodException {
+        Method list = StatementQueries.class.getMethod("list");
+        Method balance = StatementQueries.class.getMethod("balance");
+        Method search = StatementQueries.class.getMethod("search");
+
+        assertThat(ReadRoutingAspect.resolve(list))
+                .contains(new ReadRoutingHints.Hint(ReplicaRoute.REPLICA, 30_000));
+        assertThat(ReadRoutingAspect.resolve(balance)).contains(ReadRoutingHints.Hint.PRIMARY);
+        assertThat(ReadRoutingAspect.resolve(search)).contains(new ReadRoutingHints.Hint(ReplicaRoute.REPLICA, 0));
+        assertThat(ReadRoutingAspect.resolve(Object.class.getMethod("toString"))).isEmpty();
+    }
+
+    // ─── 지연 측정 ───────────────────────────────────────────────────────────────
+
+    @SuppressWarnings("unchecked")
+    private ReplicaLagMonitor monitorReading(String primaryLsn, String replayLsn, Long replayAgeMs) {
+        JdbcTemplate primary = mock(JdbcTemplate.class);
+        JdbcTemplate replica = mock(JdbcTemplate.class);
+        when(primary.queryForObject(ReplicaLagMonitor.PRIMARY_LSN_SQL, String.class)).thenReturn(primaryLsn);
+        when(replica.queryForObject(eq(ReplicaLagMonitor.REPLICA_STATE_SQL), any(RowMapper.class)))
+                .thenAnswer(invocation -> {
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getString("replay_lsn")).thenReturn(replayLsn);
+                    when(rs.getLong("replay_age_ms")).thenReturn(replayAgeMs == null ? 0L : replayAgeMs);
+                    when(rs.wasNull()).thenReturn(replayAgeMs == null);
+                    return invocation.<RowMapper<Long>>getArgument(1).mapRow(rs, 0);
+                });
+        return new ReplicaLagMonitor(primary, replica, clock, 3_000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("지연 측정: 레플리카가 프라이머리 위치까지 적용했으면 0 — 한가해서 마지막 적용이 오래돼도")
+    void lagIsZeroWhenCaughtUp() {
+        ReplicaLagMonitor monitor = monitorReading("16/B374D848", "16/B374D848", 3_600_000L);
+
+        monitor.probe();
+
+        assertThat(monitor.currentLagMillis()).isZero();
+    }
+
+    @Test
+    @DisplayName("지연 측정: 못 따라왔으면 마지막 적용 이후 흐른 시간")
+    void lagIsReplayAgeWhenBehind() {
+        ReplicaLagMonitor monitor = monitorReading("17/00000010", "16/FFFFFFF0", 4_200L);
+
+        monitor.probe();
+
+        assertThat(monitor.currentLagMillis()).isEqualTo(4_200L);
+    }
+
+    @Test
+    @DisplayName("지연 측정: 복구 중이 아니면(승격·같은 서버) 0, 적용 이력이 없으면 모름")
+    void lagForPromotedAndFreshReplica() {
+        ReplicaLagMonitor promoted = monitorReading("16/B374D848", null, null);
+        promoted.probe();
+        assertThat(promoted.currentLagMillis()).isZero();
+
+        ReplicaLagMonitor fresh = monitorReading("16/B374D848", "16/00000000", null);
+        fresh.probe();
+        assertThat(fresh.currentLagMillis()).isEqualTo(ReplicaLagMonitor.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("지연 측정: 쿼리가 실패하면 모름 — 예외를 스케줄러로 올리지 않는다")
+    void lagUnknownWhenProbeFails() {
+        JdbcTemplate failing = mock(JdbcTemplate.class);
+        when(failing.queryForObject(anyString(), eq(String.class)))
+                .thenThrow(new DataAccessResourceFailureException("replica down"));
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(failing, failing, clock, 3_000, new SimpleMeterRegistry());
+        monitor.record(0);
+
+        monitor.probe();
+
+        assertThat(monitor.currentLagMillis()).isEqualTo(ReplicaLagMonitor.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("LSN 텍스트는 상위/하위 32비트 16진수")
+    void parsesLsn() {
+        assertThat(ReplicaLagMonitor.parseLsn("0/0")).isZero();
+        assertThat(ReplicaLagMonitor.parseLsn("16/B374D848")).isEqualTo(0x16B374D848L);
+        assertThat(ReplicaLagMonitor.parseLsn("1/0")).isGreaterThan(ReplicaLagMonitor.parseLsn("0/FFFFFFFF"));
+        assertThatThrownBy(() -> ReplicaLagMonitor.parseLsn("B374D848"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("read-your-writes 창: 항목이 상한을 넘으면 만료된 것을 비운다")
+    void trackerEvictsExpiredEntries() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(clock, 1_000, 2);
+        tracker.recordWrite("a");
+        tracker.recordWrite("b");
+        clock.advance(Duration.ofMillis(1_001));
+
+        tracker.recordWrite("c");
+
+        assertThat(tracker.size()).isEqualTo(1);
+        assertThat(tracker.isPinned("a")).isFalse();
+        assertThat(tracker.isPinned("c")).isTrue();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private final AtomicReference<Instant> now;
+
+        private MutableClock(Instant start) {
+            this.now = new AtomicReference<>(start);
+        }
+
+        void advance(Duration duration) {
+            now.updateAndGet(current -> current.plus(duration));
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package github.lms.lemuel.common.money;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * long 1/100 원 표현의 {@link Money} 가 예전 BigDecimal record 구현과 같은 값을 내는지 — 성질 기반 검증.
+ *
+ * <p>기준 구현은 record 시절 코드 그대로의 BigDecimal 연산({@link #ref})이다. 고정 시드 난수로
+ * 일상 금액·소수 자릿수가 긴 값·long 경계 부근·long 을 넘는 값·다양한 scale 의 요율을 섞어 만들고,
+ * 모든 연산 결과의 {@code amount()} 와 동등성·해시·비교가 기준과 같은지 본다. 실패하면 시드와 번호로 재현된다.
+ */
+class MoneyEquivalenceTest {
+
+    private static final long SEED = 20261019L;
+    private static final int CASES = 3_000;
+
+    /** 예전 record 의 정규화 — 기준. */
+    private static BigDecimal ref(BigDecimal value) {
+        return value.setScale(Money.SCALE, RoundingMode.HALF_UP);
+    }
+
+    static Stream<Arguments> cases() {
+        Random random = new Random(SEED);
+        return IntStream.range(0, CASES)
+                .mapToObj(i -> Arguments.of(i, amount(random), amount(random), rate(random)));
+    }
+
+    /** 금액 후보 — 분포를 골고루 섞는다. */
+    private static BigDecimal amount(Random random) {
+        return switch (random.nextInt(8)) {
+            case 0 -> BigDecimal.valueOf(random.nextInt(10_000_000));                        // 정수 원
+            case 1 -> BigDecimal.valueOf(random.nextLong() % 100_000_000_000L, 2);           // 센트 단위, 음수 포함
+            case 2 -> BigDecimal.valueOf(random.nextLong() % 1_000_000_000L, 2 + random.nextInt(5)); // 반올림 대상
+            case 3 -> BigDecimal.valueOf(Long.MAX_VALUE - random.nextInt(1000), 2);          // long 상한 부근
+            case 4 -> BigDecimal.valueOf(Long.MIN_VALUE + random.nextInt(1000), 2);          // long 하한 부근
+            case 5 -> new BigDecimal(new BigInteger(90, random), random.nextInt(4)).negate(); // long 밖
+            case 6 -> BigDecimal.valueOf(random.nextInt(1000), -random.nextInt(3));          // 음수 scale(1E+2 등)
+            default -> new BigDecimal(new BigInteger(62, random), 2 + random.nextInt(20));    // 긴 소수
+        };
+    }
+
+    /** 곱셈 인자 후보 — 수수료율·원천징수율처럼 작은 소수부터 빠른 경로 밖의 값까지. */
+    private static BigDecimal rate(Random random) {
+        return switch (random.nextInt(6)) {
+            case 0 -> BigDecimal.valueOf(random.nextInt(10_000), 4);                 // 0.0000 ~ 0.9999
+            case 1 -> BigDecimal.valueOf(random.nextInt(100_000_000), 7);            // DB numeric(.,7) 요율
+            case 2 -> BigDecimal.valueOf(-random.nextInt(1000), 3);                  // 음수 요율
+            case 3 -> BigDecimal.valueOf(random.nextInt(1_000_000));                 // 정수 배수(수량)
+            case 4 -> new BigDecimal(new BigInteger(80, random), random.nextInt(30)); // 자릿수 많은 값
+            default -> BigDecimal.valueOf(random.nextInt(100), -random.nextInt(4));  // 음수 scale
+        };
+    }
+
+    @ParameterizedTest(name = "[{0}]")
+    @MethodSource("cases")
+    @DisplayName("생성·덧셈·뺄셈·곱셈·부호 반전 결과가 BigDecimal 기준과 같다")
+    void arithmeticMatchesReference(int index, BigDecimal a, BigDecimal b, BigDecimal rate) {
+        Money ma = Money.of(a);
+        Money mb = Money.of(b);
+        BigDecimal ra = ref(a);
+        BigDecimal rb = ref(b);
+
+        assertThat(ma.amount()).isEqualTo(ra);
+        assertThat(ma.plus(mb).amount()).isEqualTo(ref(ra.add(rb)));
+        assertThat(ma.minus(mb).amount()).isEqualTo(ref(ra.subtract(rb)));
+        assertThat(ma.times(rate).amount()).isEqualTo(ref(ra.multiply(rate)));
+        assertThat(ma.negate().amount()).isEqualTo(ref(ra.negate()));
+    }
+
+    @ParameterizedTest(name = "[{0}]")
+    @MethodSource("cases")
+    @DisplayName("비교·부호 판별·min/max 가 BigDecimal 기준과 같다")
+    void comparisonsMatchReference(int index, BigDecimal a, BigDecimal b, BigDecimal rate) {
+        Money ma = Money.of(a);
+        Money mb = Money.of(b);
+        int cmp = ref(a).compareTo(ref(b));
+
+        assertThat(ma.isGreaterThan(mb)).isEqualTo(cmp > 0);
+        assertThat(ma.isLessThanOrEqualTo(mb)).isEqualTo(cmp <= 0);
+        assertThat(ma.min(mb)).isSameAs(cmp <= 0 ? ma : mb);
+        assertThat(ma.max(mb)).isSameAs(cmp >= 0 ? ma : mb);
+        assertThat(ma.isNegative()).isEqualTo(ref(a).signum() < 0);
+        assertThat(ma.isZero()).isEqualTo(ref(a).signum() == 0);
+        assertThat(ma.isPositive()).isEqualTo(ref(a).signum() > 0);
+    }
+
+    @ParameterizedTest(name = "[{0}]")
+    @MethodSource("cases")
+    @DisplayName("같은 값은 어떤 경로로 만들어도 동등하고 해시가 같다 — 표현(long/BigDecimal)과 무관")
+    void equalityIsRepresentationIndependent(int index, BigDecimal a, BigDecimal b, BigDecimal rate) {
+        Money viaArithmetic = Money.of(a).plus(Money.of(b)).minus(Money.of(b));
+        Money direct = Money.of(ref(a));
+        Money viaString = Money.of(ref(a).toPlainString());
+
+        assertThat(viaArithmetic).isEqualTo(direct).hasSameHashCodeAs(direct);
+        assertThat(viaString).isEqualTo(direct).hasSameHashCodeAs(direct);
+        assertThat(Money.of(a).equals(Money.of(b))).isEqualTo(ref(a).equals(ref(b)));
+        assertThat(direct.toString()).isEqualTo("Money[amount=" + ref(a) + "]");
+    }
+
+    @ParameterizedTest(name = "[{0}]")
+    @MethodSource("cases")
+    @DisplayName("sum·summing 이 하나씩 plus 한 결과와 같다 — long 을 넘나드는 합계 포함")
+    void bulkSumMatchesFold(int index, BigDecimal a, BigDecimal b, BigDecimal rate) {
+        List<Money> items = new ArrayList<>();
+        items.add(Money.of(a));
+        items.add(Money.of(b));
+        items.add(Money.of(a).times(rate));
+        items.add(Money.of(b).negate());
+        items.add(Money.of(a));
+
+        BigDecimal expected = BigDecimal.ZERO;
+        for (Money item : items) {
+            expected = expected.add(item.amount());
+        }
+
+        assertThat(Money.sum(items).amount()).isEqualTo(ref(expected));
+        assertThat(items.parallelStream().collect(Money.summing()).amount()).isEqualTo(ref(expected));
+    }
+}
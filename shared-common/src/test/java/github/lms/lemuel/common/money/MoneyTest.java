@@ -3,7 +3,11 @@ package github.lms.lemuel.common.money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -100,4 +104,48 @@ class MoneyTest {
         assertThatThrownBy(() -> Money.won(100).times(null))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    @DisplayName("long 을 넘는 금액도 같은 규칙으로 다룬다 — 넘침은 BigDecimal 로 이어서 계산")
+    void overflowFallsBackToBigDecimal() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+        Money beyond = max.plus(Money.of("0.01"));
+
+        assertThat(beyond.amount()).isEqualTo(new BigDecimal("92233720368547758.08"));
+        assertThat(beyond.minus(Money.of("0.01"))).isEqualTo(max);
+        assertThat(Money.won(Long.MAX_VALUE).amount()).isEqualTo(new BigDecimal(Long.MAX_VALUE).setScale(2));
+        assertThat(Money.ofMinor(Long.MIN_VALUE).negate().amount())
+                .isEqualTo(new BigDecimal("92233720368547758.08"));
+        assertThatThrownBy(beyond::toMinorUnitsExact).isInstanceOf(ArithmeticException.class);
+        assertThat(max.toMinorUnitsExact()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("1/100 원 단위 생성·조회")
+    void minorUnits() {
+        assertThat(Money.ofMinor(175_000)).isEqualTo(Money.of("1750.00"));
+        assertThat(Money.of("1.005").toMinorUnitsExact()).isEqualTo(101);
+        assertThat(Money.of("-1.005").toMinorUnitsExact()).isEqualTo(-101); // HALF_UP 은 0 에서 먼 쪽
+    }
+
+    @Test
+    @DisplayName("합계 — 비어 있으면 ZERO, 원소 추출·스트림 수집기")
+    void sums() {
+        assertThat(Money.sum(List.of())).isEqualTo(Money.ZERO);
+        assertThat(Money.sum(List.of(Money.won(100), Money.of("0.50"), Money.of("-20.25"))))
+                .isEqualTo(Money.of("80.25"));
+        assertThat(Money.sum(List.of("1.10", "2.20"), Money::of)).isEqualTo(Money.of("3.30"));
+        assertThat(Stream.of(Money.won(1), Money.won(2), Money.won(3)).collect(Money.summing()))
+                .isEqualTo(Money.won(6));
+    }
+
+    @Test
+    @DisplayName("toString·JSON 모양은 record 시절과 같다")
+    void toStringAndJsonShape() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+
+        assertThat(Money.of("1750").toString()).isEqualTo("Money[amount=1750.00]");
+        assertThat(mapper.writeValueAsString(Money.of("1750"))).isEqualTo("{\"amount\":1750.00}");
+        assertThat(mapper.readValue("{\"amount\":1.005}", Money.class)).isEqualTo(Money.of("1.01"));
+    }
 }
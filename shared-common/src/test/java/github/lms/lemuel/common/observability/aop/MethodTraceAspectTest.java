@@ -4,6 +4,7 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import github.lms.lemuel.common.config.observability.MdcKeys;
+import github.lms.lemuel.common.observability.aop.fixture.application.service.LedgerProbeService;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -22,6 +23,8 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -123,9 +126,13 @@ class MethodTraceAspectTest {
 
     /** 바깥 서비스 → 안쪽 서비스 모두 어드바이스가 걸린 프록시 체인. */
     private OuterService nestedProxy(ObservabilityAopProperties props) {
+        return nestedProxy(props, new SimpleMeterRegistry());
+    }
+
+    private OuterService nestedProxy(ObservabilityAopProperties props, MeterRegistry registry) {
         @SuppressWarnings("unchecked")
         ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
-        when(provider.getIfAvailable()).thenReturn(new SimpleMeterRegistry());
+        when(provider.getIfAvailable()).thenReturn(registry);
 
         AspectJProxyFactory innerFactory = new AspectJProxyFactory(new SampleService());
         innerFactory.addAspect(new TestAspect(props, provider));
@@ -136,6 +143,23 @@ class MethodTraceAspectTest {
         return outerFactory.getProxy();
     }
 
+    /** service 레이어 프록시 → other 레이어 프록시(SampleService.ping) 체인. */
+    private LedgerProbeService serviceOver(ObservabilityAopProperties props, MeterRegistry registry) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(registry);
+
+        AspectJProxyFactory innerFactory = new AspectJProxyFactory(new SampleService());
+        innerFactory.addAspect(new TestAspect(props, provider));
+        SampleService inner = innerFactory.getProxy();
+
+        // LedgerProbeService 는 상속된 trace 어드바이스(LemuelPointcuts.traceable)에 걸린다.
+        AspectJProxyFactory outerFactory = new AspectJProxyFactory(new LedgerProbeService(inner::ping));
+        outerFactory.setProxyTargetClass(true);
+        outerFactory.addAspect(new TestAspect(props, provider));
+        return outerFactory.getProxy();
+    }
+
     /** MethodTraceAspect 로거에 붙여 로그 라인을 수집하는 어펜더. */
     private ListAppender<ILoggingEvent> attachAppender() {
         ch.qos.logback.classic.Logger logger =
@@ -293,4 +317,157 @@ class MethodTraceAspectTest {
         assertThat(service.greet("abcdef")).isEqualTo("hi abcdef");
         assertThat(service.ping()).isEqualTo("pong");
     }
+
+    @Test
+    void unsampled_calls_skip_trace_logs_and_execution_timer() {
+        ObservabilityAopProperties props = new ObservabilityAopProperties();
+        props.setSampleRate(0.0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ListAppender<ILoggingEvent> appender = attachAppender();
+        try {
+            OuterService outer = nestedProxy(props, registry);
+
+            assertThat(outer.call()).isEqualTo("hi nested");
+
+            assertThat(messages(appender)).isEmpty();
+            assertThat(registry.find("lemuel.method.execution").timers()).isEmpty();
+        } finally {
+            detach(appender);
+        }
+    }
+
+    @Test
+    void nested_calls_inherit_root_sampling_decision() {
+        ObservabilityAopProperties props = new ObservabilityAopProperties();
+        props.setSampleRate(0.0);
+        props.getLayerSampleRates().put("other", 1.0); // 레이어 설정이 기본 비율을 덮는다
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OuterService outer = nestedProxy(props, registry);
+
+        outer.call();
+
+        assertThat(registry.find("lemuel.method.execution").tag("method", "call").timer().count()).isEqualTo(1);
+        assertThat(registry.find("lemuel.method.execution").tag("method", "greet").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void nested_call_in_another_layer_rolls_its_own_layer_rate() {
+        ObservabilityAopProperties props = new ObservabilityAopProperties();
+        props.setSampleRate(0.0);                           // other(SampleService) — 추적 안 함
+        props.getLayerSampleRates().put("service", 1.0);    // service(LedgerProbeService) — 전부 추적
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LedgerProbeService ledger = serviceOver(props, registry);
+
+        assertThat(ledger.post()).isEqualTo("pong");
+
+        assertThat(registry.find("lemuel.method.execution").tag("method", "post").timer().count()).isEqualTo(1);
+        assertThat(registry.find("lemuel.method.execution").tag("method", "ping").timer()).isNull();
+    }
+
+    @Test
+    void unsampled_outer_layer_does_not_suppress_sampled_inner_layer() {
+        ObservabilityAopProperties props = new ObservabilityAopProperties();
+        props.setSampleRate(1.0);
+        props.getLayerSampleRates().put("service", 0.0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LedgerProbeService ledger = serviceOver(props, registry);
+
+        ledger.post();
+        ledger.post();
+
+        assertThat(registry.find("lemuel.method.execution").tag("method", "post").timer()).isNull();
+        assertThat(registry.find("lemuel.method.execution").tag("method", "ping").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void same_layer_nested_calls_share_one_decision() {
+        ObservabilityAopProperties props = new ObservabilityAopProperties();
+        props.setSampleRate(0.5);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OuterService outer = nestedProxy(props, registry);
+
+        for (int i = 0; i < 200; i++) {
+            outer.call();
+        }
+
+        // 같은 레이어(other) 안의 중첩은 바깥 결정을 따른다 — 둘은 언제나 함께 기록되거나 함께 빠진다.
+        Timer call = registry.find("lemuel.method.execution").tag("method", "call").timer();
+        Timer greet = registry.find("lemuel.method.execution").tag("method", "greet").timer();
+        assertThat(call).isNotNull();
+        assertThat(call.count()).isBetween(1L, 199L);
+        assertThat(greet.count()).isEqualTo(call.count());
+    }
+
+    @Test
+    void slow_calls_are_recorded_even_when_unsampled() {
+        ObservabilityAopProperties props = new ObservabilityAopProperties();
+        props.setSampleRate(0.0);
+        props.setSlowThresholdMs(0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ListAppender<ILoggingEvent> appender = attachAppender();
+        try {
+            SampleService service = proxyWith(registry, props);
+
+            service.ping();
+            assertThatThrownBy(service::boom).isInstanceOf(IllegalStateException.class);
+
+            assertThat(registry.find("lemuel.method.execution").timers()).isEmpty();
+            assertThat(registry.find("lemuel.method.slow").tag("method", "ping").tag("outcome", "success")
+                    .timer().count()).isEqualTo(1);
+            assertThat(registry.find("lemuel.method.slow").tag("method", "boom").tag("outcome", "error")
+                    .timer().count()).isEqualTo(1);
+            // 느린 성공은 WARN, 실패는 샘플 여부와 무관하게 ERROR 로 남는다.
+            assertThat(appender.list).anySatisfy(e -> {
+                assertThat(e.getLevel()).isEqualTo(Level.WARN);
+                assertThat(e.getFormattedMessage()).contains("SampleService.ping SLOW");
+            });
+            assertThat(appender.list).anySatisfy(e -> {
+                assertThat(e.getLevel()).isEqualTo(Level.ERROR);
+                assertThat(e.getFormattedMessage()).contains("SampleService.boom failed");
+            });
+        } finally {
+            detach(appender);
+        }
+    }
+
+    @Test
+    void unsampled_root_still_attaches_trace_id() {
+        MDC.remove(MdcKeys.TRACE_ID);
+        try {
+            ObservabilityAopProperties props = new ObservabilityAopProperties();
+            props.setSampleRate(0.0);
+            AtomicReference<String> seenInside = new AtomicReference<>();
+            @SuppressWarnings("unchecked")
+            ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+            AspectJProxyFactory factory = new AspectJProxyFactory(new ProbeService(seenInside));
+            factory.addAspect(new TestAspect(props, provider));
+            ProbeService service = factory.getProxy();
+
+            service.observe();
+
+            // 비즈니스 로그 상관관계는 추적 샘플링과 별개다.
+            assertThat(seenInside.get()).isNotBlank();
+            assertThat(MDC.get(MdcKeys.TRACE_ID)).isNull();
+        } finally {
+            MDC.remove(MdcKeys.TRACE_ID);
+        }
+    }
+
+    @Test
+    void meter_registry_and_timers_are_resolved_once() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(registry);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.addAspect(new TestAspect(new ObservabilityAopProperties(), provider));
+        SampleService service = factory.getProxy();
+
+        for (int i = 0; i < 5; i++) {
+            service.ping();
+        }
+
+        verify(provider, times(1)).getIfAvailable();
+        assertThat(registry.find("lemuel.method.execution").tag("method", "ping").timer().count()).isEqualTo(5);
+    }
 }
@@ -0,0 +1,20 @@
+package github.lms.lemuel.common.observability.aop.fixture.application.service;
+
+import java.util.function.Supplier;
+
+/**
+ * 레이어 경계 샘플링 검증용 — 패키지가 {@code application.service} 라 "service" 레이어로 분류되고,
+ * 안쪽에서 다른 레이어의 프록시를 부른다.
+ */
+public class LedgerProbeService {
+
+    private final Supplier<String> inner;
+
+    public LedgerProbeService(Supplier<String> inner) {
+        this.inner = inner;
+    }
+
+    public String post() {
+        return inner.get();
+    }
+}
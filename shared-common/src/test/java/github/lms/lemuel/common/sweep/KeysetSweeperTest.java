@@ -0,0 +1,377 @@
+package github.lms.lemuel.common.sweep;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 공통 스윕 엔진.
+ *
+ * <p>가짜 잡이 {@code FOR UPDATE SKIP LOCKED} 를 흉내 낸다 — 다른 스레드가 잠근 건은 claim 에서 빠지고,
+ * 잠금과 처리 결과는 트랜잭션이 끝날 때 풀리거나(커밋) 버려진다(롤백).
+ */
+@DisplayName("KeysetSweeper — 키셋 청크 스윕 · 병렬 · 격리 · 시간 예산")
+class KeysetSweeperTest {
+
+    private static final Instant T0 = Instant.parse("2026-10-19T03:00:00Z");
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private FakeJob job;
+    private FakeTransactions transactions;
+    private KeysetSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(T0);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new FakeJob();
+        transactions = new FakeTransactions(job);
+        sweeper = new KeysetSweeper(transactions, meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("고정 건수에서 멈추지 않는다 — 청크를 이어 가며 밀린 건을 끝까지 비운다")
+    void drainsBacklogBeyondOneChunk() {
+        job.addPending(1, 250);
+
+        SweepReport report = sweeper.sweep(job, SweepSettings.of(100, 1, Duration.ofMinutes(5)));
+
+        assertThat(report.processed()).isEqualTo(250);
+        assertThat(report.drained()).isTrue();
+        assertThat(job.done).hasSize(250);
+        assertThat(transactions.commits).hasValue(4); // 100 + 100 + 50 + 빈 claim — 건마다 커밋하지 않는다
+    }
+
+    @Test
+    @DisplayName("병렬 워커는 잠긴 건을 건너뛰어 모든 건을 정확히 한 번씩 처리한다")
+    void parallelWorkersProcessEachItemOnce() {
+        job.addPending(1, 1_000);
+
+        SweepReport report = sweeper.sweep(job, SweepSettings.of(25, 4, Duration.ofMinutes(5)));
+
+        assertThat(report.processed()).isEqualTo(1_000);
+        assertThat(job.done).hasSize(1_000);
+        assertThat(job.processCalls.values()).allMatch(calls -> calls.get() == 1);
+    }
+
+    @Nested
+    @DisplayName("동시 claim")
+    class ConcurrentClaimers {
+
+        @Test
+        @DisplayName("다른 인스턴스가 잠근 행 때문에 청크가 짧아져도 멈추지 않고 그 뒤를 계속 훑는다")
+        void shortClaimIsNotTheEnd() {
+            job.addPending(1, 30);
+            job.limitBeforeSkip = true;
+            Thread otherInstance = new Thread(() -> { });
+            for (long id = 1; id <= 5; id++) {
+                job.locks.put(id, otherInstance);
+            }
+
+            SweepReport report = sweeper.sweep(job, SweepSettings.of(10, 1, Duration.ofMinutes(5)));
+
+            assertThat(report.processed()).isEqualTo(25);
+            assertThat(report.drained()).isTrue();
+            assertThat(job.done).hasSize(25).doesNotContain(1L, 2L, 3L, 4L, 5L);
+        }
+
+        @Test
+        @DisplayName("워커끼리 서로의 잠금으로 짧은 청크를 받아도 밀린 건을 모두 정확히 한 번씩 처리한다")
+        void workersRacingOnLocksDrainEverything() {
+            job.addPending(1, 2_000);
+            job.limitBeforeSkip = true;
+
+            SweepReport report = sweeper.sweep(job, SweepSettings.of(20, 4, Duration.ofMinutes(5)));
+
+            assertThat(report.processed()).isEqualTo(2_000);
+            assertThat(job.done).hasSize(2_000);
+            assertThat(job.processCalls.values()).allMatch(calls -> calls.get() == 1);
+        }
+    }
+
+    @Test
+    @DisplayName("process 가 false 면 제외로 센다 — 정책상 대상이 아닌 건")
+    void skippedItemsAreCountedSeparately() {
+        job.addPending(1, 10);
+        job.notApplicable.add(3L);
+
+        SweepReport report = sweeper.sweep(job, SweepSettings.of(10, 1, Duration.ofMinutes(5)));
+
+        assertThat(report.processed()).isEqualTo(9);
+        assertThat(report.skipped()).isEqualTo(1);
+    }
+
+    @Nested
+    @DisplayName("격리")
+    class Quarantine {
+
+        @Test
+        @DisplayName("청크가 실패하면 건별로 다시 처리해 독성 건만 실패로 남긴다")
+        void poisonItemFailsAloneAfterChunkRollback() {
+            job.addPending(1, 10);
+            job.poison.add(4L);
+
+            SweepReport report = sweeper.sweep(job, SweepSettings.of(10, 1, Duration.ofMinutes(5)));
+
+            assertThat(report.processed()).isEqualTo(9);
+            assertThat(report.failed()).isEqualTo(1);
+            assertThat(job.done).hasSize(9).doesNotContain(4L);
+            assertThat(transactions.rollbacks).hasValue(2); // 청크 1 + 단건 재시도 1
+        }
+
+        @Test
+        @DisplayName("격리된 건은 다음 스윕에서 손대지 않는다 — 매 주기 청크를 무너뜨리지 않는다")
+        void quarantinedItemIsNotRetriedInNextSweep() {
+            job.addPending(1, 10);
+            job.poison.add(4L);
+            SweepSettings settings = SweepSettings.of(10, 1, Duration.ofMinutes(5));
+            sweeper.sweep(job, settings);
+            int callsAfterFirst = job.processCalls.get(4L).get();
+
+            SweepReport second = sweeper.sweep(job, settings);
+
+            assertThat(second.quarantined()).isEqualTo(1);
+            assertThat(second.failed()).isZero();
+            assertThat(job.processCalls.get(4L)).hasValue(callsAfterFirst);
+            assertThat(transactions.rollbacks).hasValue(2); // 두 번째 스윕은 롤백 없이 끝난다
+            assertThat(meterRegistry.get("sweep.quarantine.size").tag("job", "fake").gauge().value())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("격리 기간이 지나면 다시 시도한다 — 원인이 고쳐졌으면 처리된다")
+        void quarantineExpires() {
+            job.addPending(1, 10);
+            job.poison.add(4L);
+            SweepSettings settings = new SweepSettings(10, 1, Duration.ofMinutes(5), Duration.ofMinutes(30));
+            sweeper.sweep(job, settings);
+
+            job.poison.clear();
+            clock.advance(Duration.ofMinutes(31));
+            SweepReport later = sweeper.sweep(job, settings);
+
+            assertThat(later.processed()).isEqualTo(1);
+            assertThat(job.done).contains(4L);
+        }
+
+        @Test
+        @DisplayName("claim 자체의 실패는 격리하지 않고 던진다 — 건 탓이 아니라 인프라 문제다")
+        void claimFailurePropagates() {
+            job.addPending(1, 10);
+            job.claimFailure = new IllegalStateException("connection refused");
+
+            assertThatThrownBy(() -> sweeper.sweep(job, SweepSettings.of(10, 1, Duration.ofMinutes(5))))
+                    .hasMessageContaining("connection refused");
+        }
+    }
+
+    @Test
+    @DisplayName("시간 예산이 끝나면 새 청크를 시작하지 않고, 다 비우지 못했음을 알린다")
+    void stopsAtTimeBudget() {
+        job.addPending(1, 10);
+        job.onProcess = () -> clock.advance(Duration.ofMinutes(1));
+
+        SweepReport report = sweeper.sweep(job, SweepSettings.of(1, 1, Duration.ofMinutes(3)));
+
+        assertThat(report.processed()).isEqualTo(3);
+        assertThat(report.drained()).isFalse();
+        assertThat(meterRegistry.get("sweep.run").tag("result", "budget_exhausted").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리량과 지연을 잡별로 남긴다")
+    void recordsThroughputAndLag() {
+        job.addPending(1, 5);
+        job.dueAt = T0.minus(Duration.ofHours(2));
+
+        sweeper.sweep(job, SweepSettings.of(10, 1, Duration.ofMinutes(5)));
+
+        assertThat(meterRegistry.get("sweep.items").tag("job", "fake").tag("outcome", "processed")
+                .counter().count()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("sweep.lag").tag("job", "fake").timer().max(
+                java.util.concurrent.TimeUnit.MINUTES)).isEqualTo(120.0);
+    }
+
+    @Test
+    @DisplayName("설정 검증 — 0 이하의 청크·워커, 0 시간 예산은 거부한다")
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> SweepSettings.of(0, 1, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SweepSettings.of(10, 0, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SweepSettings.of(10, 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** id 를 키로 쓰는 가짜 만료 잡. 처리 결과와 잠금은 트랜잭션 종료 시 반영·해제된다. */
+    private static final class FakeJob implements SweepJob<Long, Long> {
+
+        private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+        private final Set<Long> done = ConcurrentHashMap.newKeySet();
+        private final Map<Long, Thread> locks = new ConcurrentHashMap<>();
+        private final Map<Long, AtomicInteger> processCalls = new ConcurrentHashMap<>();
+        private final ThreadLocal<List<Long>> staged = ThreadLocal.withInitial(ArrayList::new);
+        private final Set<Long> poison = ConcurrentHashMap.newKeySet();
+        private final Set<Long> notApplicable = ConcurrentHashMap.newKeySet();
+        private volatile RuntimeException claimFailure;
+        private volatile Runnable onProcess = () -> { };
+        private volatile Instant dueAt;
+        /** LIMIT 을 먼저 자르고 잠긴 행을 빼는 claim — 잠금 경합이 있으면 {@code limit} 보다 짧은 목록이 온다. */
+        private volatile boolean limitBeforeSkip;
+
+        void addPending(long from, int count) {
+            for (long id = from; id < from + count; id++) {
+                pending.add(id);
+            }
+        }
+
+        @Override
+        public String name() {
+            return "fake";
+        }
+
+        @Override
+        public Long start() {
+            return 0L;
+        }
+
+        @Override
+        public synchronized List<Long> claim(Long after, int limit) {
+            if (claimFailure != null) {
+                throw claimFailure;
+            }
+            List<Long> claimed = limitBeforeSkip
+                    ? pending.stream()
+                            .filter(id -> id > after)
+                            .sorted()
+                            .limit(limit)
+                            .filter(id -> !locks.containsKey(id))
+                            .toList()
+                    : pending.stream()
+                            .filter(id -> id > after)
+                            .filter(id -> !locks.containsKey(id)) // SKIP LOCKED
+                            .sorted()
+                            .limit(limit)
+                            .toList();
+            claimed.forEach(id -> locks.put(id, Thread.currentThread()));
+            return claimed;
+        }
+
+        @Override
+        public Long keyOf(Long item) {
+            return item;
+        }
+
+        @Override
+        public boolean process(Long id) {
+            processCalls.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+            onProcess.run();
+            if (poison.contains(id)) {
+                throw new IllegalStateException("poison " + id);
+            }
+            if (notApplicable.contains(id)) {
+                return false;
+            }
+            staged.get().add(id);
+            return true;
+        }
+
+        @Override
+        public Instant dueAt(Long item) {
+            return dueAt;
+        }
+
+        void commit() {
+            staged.get().forEach(id -> {
+                pending.remove(id);
+                done.add(id);
+            });
+            release();
+        }
+
+        void rollback() {
+            release();
+        }
+
+        private void release() {
+            staged.get().clear();
+            locks.values().removeIf(owner -> owner == Thread.currentThread());
+        }
+    }
+
+    private static final class FakeTransactions implements TransactionOperations {
+
+        private final FakeJob job;
+        private final AtomicInteger commits = new AtomicInteger();
+        private final AtomicInteger rollbacks = new AtomicInteger();
+
+        private FakeTransactions(FakeJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            try {
+                T result = action.doInTransaction(new SimpleTransactionStatus());
+                job.commit();
+                commits.incrementAndGet();
+                return result;
+            } catch (RuntimeException e) {
+                job.rollback();
+                rollbacks.incrementAndGet();
+                throw e;
+            }
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private final AtomicReference<Instant> now;
+
+        private MutableClock(Instant start) {
+            this.now = new AtomicReference<>(start);
+        }
+
+        void advance(Duration duration) {
+            now.updateAndGet(current -> current.plus(duration));
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    }
+}
@@ -5,12 +5,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * CSV 내보내기 유틸 테스트.
@@ -84,4 +97,169 @@ class CsvResponseTest {
         assertThat(response.getHeaders().getContentType().toString())
                 .isEqualToIgnoringCase("text/csv;charset=UTF-8");
     }
+
+    // ─── 스트리밍 ────────────────────────────────────────────────────────────────
+
+    private static byte[] streamed(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("스트리밍 본문은 같은 행의 목록 CSV 와 바이트 단위로 같다 — 한글·이모지·따옴표·수식·null 포함")
+    void streamMatchesMaterializedBytes() throws IOException {
+        List<Row> rows = List.of(
+                new Row("홍길동", "정상"),
+                new Row("김\"철수\"", "쉼표, 포함\r\n줄바꿈"),
+                new Row("=HYPERLINK(\"x\")", "-5"),
+                new Row("😀 이모지", null),
+                new Row("짝 없는 \uD83D 서로게이트", "é ß ñ"));
+        ResponseEntity<StreamingResponseBody> response = CsvResponse.<Row>stream("members", List.of("이름", "메모"),
+                rows::forEach, r -> Arrays.asList(r.name(), r.memo()));
+
+        assertThat(streamed(response)).isEqualTo(CsvResponse.of("members", List.of("이름", "메모"), rows,
+                r -> Arrays.asList(r.name(), r.memo())).getBody().getByteArray());
+    }
+
+    @Test
+    @DisplayName("스트리밍: 버퍼 경계에 걸친 멀티바이트 문자도 깨지지 않는다")
+    void streamSplitsBuffersOnCharacterBoundaries() throws IOException {
+        Random random = new Random(7);
+        String alphabet = "a\",=가나다😀é";
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder name = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) {
+                name.appendCodePoint(alphabet.codePointAt(alphabet.offsetByCodePoints(0,
+                        random.nextInt(alphabet.codePointCount(0, alphabet.length())))));
+            }
+            rows.add(new Row(name.toString(), String.valueOf(i)));
+        }
+        ResponseEntity<StreamingResponseBody> response = CsvResponse.<Row>stream("members", List.of("이름", "메모"),
+                rows::forEach, r -> List.of(r.name(), r.memo()), new CsvResponse.StreamOptions(1024, false));
+
+        assertThat(streamed(response)).isEqualTo(export(rows).getBody().getByteArray());
+    }
+
+    @Test
+    @DisplayName("스트리밍: 헤더 행은 첫 행을 읽기 전에 flush 된다 — 첫 바이트가 곧바로 나간다")
+    void streamFlushesHeaderBeforeFirstRow() throws IOException {
+        List<Integer> flushedBeforeRows = new ArrayList<>();
+        ByteArrayOutputStream sink = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushedBeforeRows.add(size());
+            }
+        };
+        CsvRowSource<Row> rows = consumer -> {
+            assertThat(flushedBeforeRows).as("행을 읽기 시작할 때 이미 헤더가 나갔다").isNotEmpty();
+            consumer.accept(new Row("홍길동", "정상"));
+        };
+
+        CsvResponse.stream("members", List.of("이름", "메모"), rows, r -> List.of(r.name(), r.memo()))
+                .getBody().writeTo(sink);
+
+        assertThat(new String(sink.toByteArray(), 0, flushedBeforeRows.get(0), StandardCharsets.UTF_8))
+                .isEqualTo("\uFEFF\"이름\",\"메모\"\r\n");
+    }
+
+    @Test
+    @DisplayName("스트리밍: 쓰기가 실패하면(클라이언트 끊김) 공급원 순회가 끊기고 IOException 이 그대로 올라간다")
+    void streamStopsSourceWhenClientGoes() {
+        long[] produced = {0};
+        CsvRowSource<Row> endless = consumer -> {
+            while (true) {
+                produced[0]++;
+                consumer.accept(new Row("x".repeat(100), "y"));
+            }
+        };
+        OutputStream broken = new OutputStream() {
+            private int written;
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                written += len;
+                if (written > 200_000) {
+                    throw new IOException("Broken pipe");
+                }
+            }
+        };
+
+        assertThatThrownBy(() -> CsvResponse.stream("members", List.of("이름", "메모"), endless,
+                r -> List.of(r.name(), r.memo())).getBody().writeTo(broken))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+        assertThat(produced[0]).as("버퍼 하나 분량 남짓에서 멈춘다").isLessThan(5_000);
+    }
+
+    @Test
+    @DisplayName("스트리밍: gzip 이면 압축 본문과 Content-Encoding 을 내고, 풀면 원본 CSV 다")
+    void streamGzipRoundTrips() throws IOException {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            rows.add(new Row("홍길동" + i, "정상"));
+        }
+        ResponseEntity<StreamingResponseBody> response = CsvResponse.<Row>stream("members", List.of("이름", "메모"),
+                rows::forEach, r -> List.of(r.name(), r.memo()), CsvResponse.StreamOptions.gzipIfAccepted("gzip"));
+
+        byte[] compressed = streamed(response);
+        byte[] plain = export(rows).getBody().getByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain);
+        }
+        assertThat(compressed.length).isLessThan(plain.length / 4);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답은 길이를 미리 밝히지 않고, 앞단 버퍼링을 끈다")
+    void streamHeaders() {
+        ResponseEntity<StreamingResponseBody> response = CsvResponse.stream("members", List.of("이름"),
+                consumer -> { }, (Row r) -> List.of(r.name()));
+
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(-1);
+        assertThat(response.getHeaders().getFirst("X-Accel-Buffering")).isEqualTo("no");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .contains("members_" + LocalDate.now() + ".csv");
+    }
+
+    @Test
+    @DisplayName("async 작업: 상태·헤더는 바로 옮기고 본문은 작업이 쓰며, 타임아웃은 이 작업에만 걸린다")
+    void asyncTaskCarriesOwnTimeout() throws Exception {
+        List<Row> rows = List.of(new Row("홍길동", "정상"));
+        ResponseEntity<StreamingResponseBody> csv = CsvResponse.<Row>stream("members", List.of("이름", "메모"),
+                rows::forEach, r -> List.of(r.name(), r.memo()));
+        MockHttpServletResponse servlet = new MockHttpServletResponse();
+
+        WebAsyncTask<Void> task = CsvResponse.asyncTask(csv, servlet, Duration.ofMinutes(30));
+
+        assertThat(task.getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+        assertThat(servlet.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("members_");
+        assertThat(servlet.getContentType()).startsWith("text/csv");
+        assertThat(servlet.getContentAsByteArray()).isEmpty();
+
+        assertThat(task.getCallable().call()).isNull();
+        assertThat(servlet.getContentAsByteArray()).isEqualTo(export(rows).getBody().getByteArray());
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 해석 — q=0 은 거부, x-gzip 은 허용, 헤더 없으면 압축 안 함")
+    void acceptEncodingNegotiation() {
+        assertThat(CsvResponse.StreamOptions.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(CsvResponse.StreamOptions.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(CsvResponse.StreamOptions.acceptsGzip("x-gzip")).isTrue();
+        assertThat(CsvResponse.StreamOptions.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(CsvResponse.StreamOptions.acceptsGzip("gzip; q=0.000")).isFalse();
+        assertThat(CsvResponse.StreamOptions.acceptsGzip("identity")).isFalse();
+        assertThat(CsvResponse.StreamOptions.acceptsGzip(null)).isFalse();
+    }
 }
@@ -0,0 +1,75 @@
+package github.lms.lemuel.common.web.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스트리밍 CSV 행 공급원 테스트 — 키셋 페이지의 이어 읽기·종료 조건을 검증한다.
+ */
+class CsvRowSourceTest {
+
+    @Test
+    @DisplayName("키셋: 직전 페이지 마지막 키로 이어 읽고, 짧은 페이지에서 멈춘다")
+    void keysetFollowsLastKeyAndStopsOnShortPage() {
+        List<Long> table = LongStream.rangeClosed(1, 25).boxed().toList();
+        List<Long> cursors = new ArrayList<>();
+        CsvRowSource<Long> source = CsvRowSource.keyset(0L, 10, (after, size) -> {
+            cursors.add(after);
+            return table.stream().filter(id -> id > after).limit(size).toList();
+        }, id -> id);
+
+        List<Long> rows = new ArrayList<>();
+        source.forEach(rows::add);
+
+        assertThat(rows).isEqualTo(table);
+        assertThat(cursors).containsExactly(0L, 10L, 20L);
+    }
+
+    @Test
+    @DisplayName("키셋: 행 수가 페이지 크기의 배수면 빈 페이지 한 번을 더 읽고 끝난다")
+    void keysetEndsWithEmptyPageOnExactMultiple() {
+        List<Long> table = LongStream.rangeClosed(1, 20).boxed().toList();
+        List<Long> cursors = new ArrayList<>();
+        CsvRowSource<Long> source = CsvRowSource.keyset(0L, 10, (after, size) -> {
+            cursors.add(after);
+            return table.stream().filter(id -> id > after).limit(size).toList();
+        }, id -> id);
+
+        List<Long> rows = new ArrayList<>();
+        source.forEach(rows::add);
+
+        assertThat(rows).hasSize(20);
+        assertThat(cursors).containsExactly(0L, 10L, 20L);
+    }
+
+    @Test
+    @DisplayName("키셋: 소비자가 던지면 다음 페이지를 읽지 않는다")
+    void keysetStopsWhenSinkThrows() {
+        List<Long> cursors = new ArrayList<>();
+        CsvRowSource<Long> source = CsvRowSource.keyset(0L, 10, (after, size) -> {
+            cursors.add(after);
+            return LongStream.rangeClosed(after + 1, after + size).boxed().toList();
+        }, id -> id);
+
+        assertThatThrownBy(() -> source.forEach(id -> {
+            if (id == 15) {
+                throw new IllegalStateException("client gone");
+            }
+        })).hasMessage("client gone");
+        assertThat(cursors).containsExactly(0L, 10L);
+    }
+
+    @Test
+    @DisplayName("키셋: 페이지 크기는 양수여야 한다")
+    void keysetRejectsNonPositivePageSize() {
+        assertThatThrownBy(() -> CsvRowSource.keyset(0L, 0, (after, size) -> List.<Long>of(), id -> id))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}